@@ -169,7 +169,6 @@ public class IntrusiveDoublyLinkedQueue<VALUE_TYPE> extends IntrusiveDoublyLinke
      *
      * @return The current head of the queue, or null if the queue is empty
      */
-    @SuppressWarnings("unused")
     public @Nullable final VALUE_TYPE peek() {
         return head;
     }
@@ -189,6 +188,23 @@ public class IntrusiveDoublyLinkedQueue<VALUE_TYPE> extends IntrusiveDoublyLinke
         return unlink(node);
     }
 
+    /**
+     * Remove and get the node at the back of the queue.
+     *
+     * @return The node at the tail of the queue (now removed), or null if the queue is empty
+     */
+    public @Nullable final VALUE_TYPE pollLast() {
+        if (isEmpty()) {
+            return null;
+        }
+        final VALUE_TYPE node = getPrev(head);
+        if (node == head) {
+            head = null;
+        }
+        --size;
+        return unlink(node);
+    }
+
     /**
      * Remove and get the node at the front of the queue.
      *
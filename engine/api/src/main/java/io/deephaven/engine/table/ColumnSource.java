@@ -81,6 +81,18 @@ public interface ColumnSource<T>
      */
     boolean isImmutable();
 
+    /**
+     * Estimate the number of heap bytes retained by this column source's own storage, including any previous values it
+     * tracks. Column sources that merely view or transform other column sources (e.g. redirected or reinterpreted
+     * sources) own no storage and report zero; the referenced objects of object column sources are not counted. This is
+     * intended for memory accounting, and may be called concurrently with updates.
+     *
+     * @return An estimate of the retained bytes
+     */
+    default long estimateRetainedBytes() {
+        return 0;
+    }
+
     /**
      * Release any resources held for caching purposes. Implementations need not guarantee that concurrent accesses are
      * correct, as the purpose of this method is to ensure cleanup for column sources that will no longer be used.
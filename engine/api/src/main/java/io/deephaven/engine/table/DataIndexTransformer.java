@@ -46,6 +46,19 @@ public interface DataIndexTransformer {
         return false;
     }
 
+    /**
+     * Whether to sort the output {@link BasicDataIndex BasicDataIndex's} {@link BasicDataIndex#table() table} by its
+     * {@link BasicDataIndex#keyColumnNames() key columns}, producing an ordered index that supports range lookups by
+     * binary search. This is always applied after {@link #intersectRowSet()} and {@link #invertRowSet()} if present,
+     * and may not be combined with {@link #sortByFirstRowKey()}. As with {@link #sortByFirstRowKey()}, operations that
+     * rely on a transformed {@link BasicDataIndex#isRefreshing() refreshing} index must depend on the
+     * <em>transformed</em> index for correct satisfaction.
+     */
+    @Default
+    default boolean sortByKey() {
+        return false;
+    }
+
     /**
      * @return Whether the set of transformations will force the result index table to be a static snapshot.
      */
@@ -56,11 +69,19 @@ public interface DataIndexTransformer {
 
     @Check
     default void checkNotEmpty() {
-        if (intersectRowSet().isEmpty() && invertRowSet().isEmpty() && !sortByFirstRowKey()) {
+        if (intersectRowSet().isEmpty() && invertRowSet().isEmpty() && !sortByFirstRowKey() && !sortByKey()) {
             throw new IllegalArgumentException("DataIndexTransformer must specify at least one transformation");
         }
     }
 
+    @Check
+    default void checkSingleSort() {
+        if (sortByFirstRowKey() && sortByKey()) {
+            throw new IllegalArgumentException(
+                    "DataIndexTransformer may not sort by both first row key and key columns");
+        }
+    }
+
     /**
      * Create a {@link DataIndexTransformer.Builder builder} that specifies transformations to apply to an existing
      * {@link DataIndex data index}.
@@ -73,6 +94,7 @@ public interface DataIndexTransformer {
      * static snapshot.</li>
      * <li>Sort the index table by the first row key within each {@link RowSet}. Be careful to use the correct
      * dependency for satisfaction!</li>
+     * <li>Alternatively, sort the index table by its key columns. The same dependency caveat applies.</li>
      * </ol>
      * </p>
      *
@@ -107,6 +129,12 @@ public interface DataIndexTransformer {
         @SuppressWarnings("unused")
         Builder sortByFirstRowKey(boolean sort);
 
+        /**
+         * Whether to sort the index table by its key columns. Defaults to {@code false}. Be careful to use the correct
+         * dependency for satisfaction!
+         */
+        Builder sortByKey(boolean sort);
+
         DataIndexTransformer build();
     }
 }
@@ -0,0 +1,161 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.benchmark.engine;
+
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.context.TestExecutionContext;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.TableUpdate;
+import io.deephaven.engine.table.impl.InstrumentedTableUpdateListenerAdapter;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.sources.DoubleArraySource;
+import io.deephaven.engine.table.impl.sources.IntegerArraySource;
+import io.deephaven.engine.updategraph.impl.BaseUpdateGraph;
+import io.deephaven.engine.updategraph.impl.EventDrivenUpdateGraph;
+import io.deephaven.engine.util.TableTools;
+import io.deephaven.util.SafeCloseable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the latency from an {@link EventDrivenUpdateGraph#requestRefresh() refresh request} for a single modified
+ * row until a listener on the result of a filter, natural join and last-by observes it, with and without
+ * {@link EventDrivenUpdateGraph.Builder#busySpin(boolean) busy-spin} mode.
+ */
+@SuppressWarnings("unused")
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Timeout(time = 10)
+@Fork(1)
+public class EventDrivenLatencyBenchmark {
+
+    @Param({"false", "true"})
+    private boolean busySpin;
+
+    @Param({"1000"})
+    private int symCount;
+
+    private EventDrivenUpdateGraph updateGraph;
+    private SafeCloseable contexts;
+    private QuoteSource quotes;
+    private Table result;
+    private InstrumentedTableUpdateListenerAdapter listener;
+    private volatile long observedUpdates;
+    private long operation;
+
+    /**
+     * A table of one price per symbol, which modifies a single row on each refresh that follows a {@link #post}.
+     */
+    private static final class QuoteSource extends QueryTable implements Runnable {
+        private final DoubleArraySource prices;
+        private volatile int pendingSym = -1;
+        private volatile double pendingPrice;
+
+        private QuoteSource(final int symCount, final IntegerArraySource syms, final DoubleArraySource prices) {
+            super(RowSetFactory.flat(symCount).toTracking(), columns(syms, prices));
+            this.prices = prices;
+            prices.startTrackingPrevValues();
+        }
+
+        private static Map<String, ColumnSource<?>> columns(
+                final IntegerArraySource syms,
+                final DoubleArraySource prices) {
+            final Map<String, ColumnSource<?>> columns = new LinkedHashMap<>();
+            columns.put("Sym", syms);
+            columns.put("Price", prices);
+            return columns;
+        }
+
+        private void post(final int sym, final double price) {
+            pendingPrice = price;
+            pendingSym = sym;
+        }
+
+        @Override
+        public void run() {
+            final int sym = pendingSym;
+            if (sym < 0) {
+                return;
+            }
+            pendingSym = -1;
+            prices.set(sym, pendingPrice);
+            notifyListeners(RowSetFactory.empty(), RowSetFactory.empty(), RowSetFactory.fromKeys(sym));
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setupEnv() {
+        BaseUpdateGraph.removeInstance(BaseUpdateGraph.DEFAULT_UPDATE_GRAPH_NAME);
+        // The update performance tracker publishes to the DEFAULT graph, so we must be it
+        updateGraph = EventDrivenUpdateGraph.newBuilder(BaseUpdateGraph.DEFAULT_UPDATE_GRAPH_NAME)
+                .busySpin(busySpin)
+                .build();
+        final SafeCloseable testContext = TestExecutionContext.createForUnitTests().open();
+        final SafeCloseable graphContext = ExecutionContext.getContext().withUpdateGraph(updateGraph).open();
+        contexts = () -> {
+            graphContext.close();
+            testContext.close();
+        };
+
+        final IntegerArraySource syms = new IntegerArraySource();
+        final DoubleArraySource prices = new DoubleArraySource();
+        syms.ensureCapacity(symCount);
+        prices.ensureCapacity(symCount);
+        for (int ii = 0; ii < symCount; ++ii) {
+            syms.set(ii, ii);
+            prices.set(ii, 1.0);
+        }
+        quotes = new QuoteSource(symCount, syms, prices);
+        quotes.setRefreshing(true);
+        updateGraph.addSource(quotes);
+
+        final Table weights = TableTools.emptyTable(symCount).update("Sym = i", "Weight = 1.0 + (i % 10)");
+        result = updateGraph.sharedLock().computeLocked(() -> quotes
+                .where("Price > 0")
+                .naturalJoin(weights, "Sym", "Weight")
+                .lastBy("Sym"));
+        listener = new InstrumentedTableUpdateListenerAdapter("EventDrivenLatencyBenchmark", result, false) {
+            @Override
+            public void onUpdate(final TableUpdate upstream) {
+                // noinspection NonAtomicOperationOnVolatileField
+                ++observedUpdates;
+            }
+        };
+        result.addUpdateListener(listener);
+
+        // the first request starts the update performance tracker and, if busy-spinning, the refresh thread
+        updateGraph.requestRefresh();
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        result.removeUpdateListener(listener);
+        updateGraph.removeSource(quotes);
+        // Stop the busy-spinning refresh thread, so it cannot skew later trials
+        updateGraph.stop();
+        BaseUpdateGraph.removeInstance(BaseUpdateGraph.DEFAULT_UPDATE_GRAPH_NAME);
+        contexts.close();
+    }
+
+    @Benchmark
+    public long propagateOneRow() {
+        final long expected = observedUpdates + 1;
+        ++operation;
+        quotes.post((int) (operation % symCount), 1.0 + (operation & 0xff));
+        updateGraph.requestRefresh();
+        // Synchronous refreshes have already notified the listener; busy-spin refreshes happen on the refresh thread
+        while (observedUpdates < expected) {
+            Thread.onSpinWait();
+        }
+        return expected;
+    }
+}
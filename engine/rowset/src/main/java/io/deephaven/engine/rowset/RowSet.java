@@ -71,6 +71,17 @@ public interface RowSet extends RowSequence, LongSizedDataStructure, SafeCloseab
         return isEmpty() || (lastRowKey() == size() - 1);
     }
 
+    /**
+     * Estimate the number of heap bytes retained by this RowSet's storage, including any previous values it tracks.
+     * Storage shared with other RowSets via copy-on-write is included in each RowSet's estimate. This is intended for
+     * memory accounting, and may be called concurrently with updates.
+     *
+     * @return An estimate of the retained bytes
+     */
+    default long estimateRetainedBytes() {
+        return 0;
+    }
+
     /**
      * Get the first row key in this RowSet.
      *
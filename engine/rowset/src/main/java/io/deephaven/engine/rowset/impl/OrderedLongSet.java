@@ -126,6 +126,16 @@ public interface OrderedLongSet {
 
     boolean ixIsEmpty();
 
+    /**
+     * Estimate the number of heap bytes allocated for this set's storage. Storage shared with other sets via
+     * copy-on-write is included in each set's estimate.
+     *
+     * @return An estimate of the allocated bytes, excluding fixed object headers
+     */
+    default long ixBytesAllocated() {
+        return 0;
+    }
+
     OrderedLongSet ixUpdate(OrderedLongSet added, OrderedLongSet removed);
 
     OrderedLongSet ixRetain(OrderedLongSet toIntersect);
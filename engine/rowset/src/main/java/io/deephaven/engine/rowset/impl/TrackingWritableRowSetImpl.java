@@ -58,6 +58,16 @@ public class TrackingWritableRowSetImpl extends WritableRowSetImpl implements Tr
         }
     }
 
+    @Override
+    public long estimateRetainedBytes() {
+        final OrderedLongSet localPrevInnerSet = prevInnerSet;
+        final long currentBytes = super.estimateRetainedBytes();
+        if (localPrevInnerSet == null || localPrevInnerSet == getInnerSet()) {
+            return currentBytes;
+        }
+        return currentBytes + localPrevInnerSet.ixBytesAllocated();
+    }
+
     @Override
     public <INDEXER_TYPE extends TrackingRowSet.Indexer> INDEXER_TYPE indexer(
             @NotNull final Function<TrackingRowSet, INDEXER_TYPE> indexerFactory) {
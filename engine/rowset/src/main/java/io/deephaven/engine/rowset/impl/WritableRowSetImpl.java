@@ -47,6 +47,12 @@ public class WritableRowSetImpl extends RowSequenceAsChunkImpl implements Writab
         return innerSet;
     }
 
+    @Override
+    public long estimateRetainedBytes() {
+        final OrderedLongSet localInnerSet = innerSet;
+        return localInnerSet == null ? 0 : localInnerSet.ixBytesAllocated();
+    }
+
     @Override
     public final WritableRowSet copy() {
         return new WritableRowSetImpl(innerSet.ixCowRef());
@@ -4835,6 +4835,40 @@ public abstract class RspArray<T extends RspArray> extends RefCountedCow<T> {
         return sb.toString();
     }
 
+    /**
+     * Estimate the heap bytes allocated for this array. Like every other read, this must not race with modifications;
+     * callers sampling a live row set should hold its update graph's shared lock.
+     *
+     * @return An estimate of the heap bytes allocated for this array's parallel arrays and spans
+     */
+    public long bytesAllocated() {
+        final long[] localSpanInfos = spanInfos;
+        final Object[] localSpans = spans;
+        final long[] localAcc = acc;
+        long allocated = 0;
+        if (localSpanInfos != null) {
+            allocated += (long) localSpanInfos.length * Long.BYTES;
+        }
+        if (localSpans == null) {
+            return allocated;
+        }
+        // Assume uncompressed references, as the sparse array sources do
+        allocated += (long) localSpans.length * Long.BYTES;
+        if (localAcc != null) {
+            allocated += (long) localAcc.length * Long.BYTES;
+        }
+        final int localSize = Math.min(size, localSpans.length);
+        for (int i = 0; i < localSize; ++i) {
+            final Object o = localSpans[i];
+            if (o instanceof short[]) {
+                allocated += (long) ((short[]) o).length * Short.BYTES;
+            } else if (o instanceof Container) {
+                allocated += ((Container) o).bytesAllocated();
+            }
+        }
+        return allocated;
+    }
+
     public double containerOverhead() {
         if (size <= 0) {
             return 0.0;
@@ -1469,6 +1469,11 @@ public class RspBitmap extends RspArray<RspBitmap> implements OrderedLongSet {
         return isEmpty();
     }
 
+    @Override
+    public long ixBytesAllocated() {
+        return bytesAllocated();
+    }
+
     @Override
     public OrderedLongSet ixInvertOnNew(final OrderedLongSet keys, final long maximumPosition) {
         if (keys.ixIsEmpty()) {
@@ -4687,6 +4687,11 @@ public abstract class SortedRanges extends RefCountedCow<SortedRanges> implement
         return isEmpty();
     }
 
+    @Override
+    public final long ixBytesAllocated() {
+        return bytesAllocated();
+    }
+
     @Override
     public final OrderedLongSet ixUpdate(final OrderedLongSet added, final OrderedLongSet removed) {
         if (isEmpty()) {
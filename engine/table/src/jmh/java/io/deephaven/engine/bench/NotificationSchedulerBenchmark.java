@@ -0,0 +1,145 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.bench;
+
+import io.deephaven.engine.updategraph.AbstractNotification;
+import io.deephaven.engine.updategraph.OperationInitializer;
+import io.deephaven.engine.updategraph.TerminalNotification;
+import io.deephaven.engine.updategraph.impl.BaseUpdateGraph;
+import io.deephaven.engine.updategraph.impl.PeriodicUpdateGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Measures {@link PeriodicUpdateGraph} cycle time for a wide graph of cheap notifications, isolating the cost of
+ * notification scheduling across update threads. Each cycle, an update source enqueues {@code width} root
+ * notifications, each of which heads a chain of {@code depth} notifications that depend on their predecessor.
+ *
+ * <pre>
+ * java -jar engine/table/build/libs/deephaven-engine-table-&lt;version&gt;-jmh.jar \
+ *     io.deephaven.engine.bench.NotificationSchedulerBenchmark -p updateThreads=1,4,8,16,32
+ * </pre>
+ */
+@Fork(value = 2, jvmArgs = {"-Xms4G", "-Xmx4G"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class NotificationSchedulerBenchmark {
+    static {
+        System.setProperty("Configuration.rootFile", "dh-tests.prop");
+        System.setProperty("workspace", "build/workspace");
+    }
+
+    @Param({"1", "4", "8", "16", "32"})
+    public int updateThreads;
+
+    @Param({"10000"})
+    public int width;
+
+    @Param({"1", "4"})
+    public int depth;
+
+    private PeriodicUpdateGraph updateGraph;
+    private final AtomicBoolean armed = new AtomicBoolean();
+    private final Semaphore cycleComplete = new Semaphore(0);
+
+    @Setup(Level.Trial)
+    public void setup() {
+        updateGraph = new PeriodicUpdateGraph(
+                "NotificationSchedulerBenchmark",
+                false,
+                TimeUnit.MINUTES.toMillis(1),
+                BaseUpdateGraph.DEFAULT_MINIMUM_CYCLE_DURATION_TO_LOG_NANOSECONDS,
+                updateThreads,
+                runnable -> runnable,
+                OperationInitializer.NON_PARALLELIZABLE);
+
+        final List<CheapNotification> roots = new ArrayList<>(width);
+        for (int wi = 0; wi < width; ++wi) {
+            CheapNotification node = new CheapNotification(null);
+            roots.add(node);
+            for (int di = 1; di < depth; ++di) {
+                node = new CheapNotification(node);
+            }
+        }
+
+        final TerminalNotification onCycleComplete = new TerminalNotification() {
+            @Override
+            public void run() {
+                cycleComplete.release();
+            }
+        };
+        updateGraph.addSource(() -> {
+            if (!armed.getAndSet(false)) {
+                return;
+            }
+            roots.forEach(updateGraph::addNotification);
+            updateGraph.addNotification(onCycleComplete);
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        updateGraph.stop();
+        updateGraph = null;
+    }
+
+    @Benchmark
+    public void cycle() throws InterruptedException {
+        armed.set(true);
+        updateGraph.requestRefresh();
+        cycleComplete.acquire();
+    }
+
+    private final class CheapNotification extends AbstractNotification {
+
+        private final CheapNotification parent;
+        private CheapNotification child;
+        private volatile long completedStep;
+        private long state;
+
+        private CheapNotification(final CheapNotification parent) {
+            super(false);
+            this.parent = parent;
+            if (parent != null) {
+                parent.child = this;
+            }
+        }
+
+        @Override
+        public boolean canExecute(final long step) {
+            return parent == null || parent.completedStep == step;
+        }
+
+        @Override
+        public void run() {
+            final long step = updateGraph.clock().currentStep();
+            if (child != null) {
+                updateGraph.addNotification(child);
+            }
+            // a token amount of work, so that scheduling overhead dominates
+            state = state * 31 + step;
+            completedStep = step;
+        }
+    }
+}
@@ -13,6 +13,7 @@ import io.deephaven.configuration.DataDir;
 import io.deephaven.engine.context.util.SynchronizedJavaFileManager;
 import io.deephaven.engine.table.impl.perf.BasePerformanceEntry;
 import io.deephaven.engine.table.impl.perf.QueryPerformanceRecorder;
+import io.deephaven.engine.table.impl.perf.jfr.FormulaCompilationEvent;
 import io.deephaven.engine.table.impl.util.ImmediateJobScheduler;
 import io.deephaven.engine.table.impl.util.JobScheduler;
 import io.deephaven.engine.table.impl.util.OperationInitializerJobScheduler;
@@ -569,7 +570,15 @@ public class QueryCompilerImpl implements QueryCompiler, LogOutputAppendable {
                 }
             }
 
+            final FormulaCompilationEvent compilationEvent = new FormulaCompilationEvent();
+            compilationEvent.begin();
             maybeCreateClasses(compilationRequestAttempts);
+            compilationEvent.end();
+            if (compilationEvent.shouldCommit()) {
+                compilationEvent.description = compilationRequestAttempts.get(0).description;
+                compilationEvent.classes = compilationRequestAttempts.size();
+                compilationEvent.commit();
+            }
 
             // We could be running on a screwy filesystem that is slow (e.g. NFS). If we wrote a file and can't load it
             // ... then give the filesystem some time. All requests should use the same deadline.
@@ -25,6 +25,7 @@ import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.impl.chunkfillers.ChunkFiller;
 import io.deephaven.engine.table.impl.chunkfilter.ChunkFilter;
 import io.deephaven.engine.table.impl.chunkfilter.ChunkMatchFilterFactory;
+import io.deephaven.engine.table.impl.select.AbstractRangeFilter;
 import io.deephaven.engine.table.impl.select.WhereFilter;
 import io.deephaven.engine.table.impl.sources.UnboxedLongBackedColumnSource;
 import io.deephaven.engine.table.impl.util.JobScheduler;
@@ -44,6 +45,7 @@ import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.LongConsumer;
 
@@ -361,6 +363,11 @@ public abstract class AbstractColumnSource<T> implements
             final JobScheduler jobScheduler,
             final LongConsumer onComplete,
             final Consumer<Exception> onError) {
+        if (context.executedFilterCost() < PushdownResult.IN_MEMORY_DATA_INDEX_COST
+                && AbstractRangeFilter.withOrderedDataIndex(filter) != null) {
+            onComplete.accept(PushdownResult.IN_MEMORY_DATA_INDEX_COST);
+            return;
+        }
         // Default to having no benefit by pushing down.
         onComplete.accept(Long.MAX_VALUE);
     }
@@ -375,6 +382,23 @@ public abstract class AbstractColumnSource<T> implements
             final JobScheduler jobScheduler,
             final Consumer<PushdownResult> onComplete,
             final Consumer<Exception> onError) {
+        final AbstractRangeFilter rangeFilter = AbstractRangeFilter.withOrderedDataIndex(filter);
+        if (rangeFilter != null
+                && context.executedFilterCost() < PushdownResult.IN_MEMORY_DATA_INDEX_COST
+                && costCeiling >= PushdownResult.IN_MEMORY_DATA_INDEX_COST) {
+            final PushdownResult result;
+            try (final WritableRowSet matching = rangeFilter.filterWithOrderedDataIndex(selection, usePrev);
+                    final WritableRowSet empty = RowSetFactory.empty()) {
+                result = matching == null ? null : PushdownResult.of(selection, matching, empty);
+            } catch (final Exception e) {
+                onError.accept(e);
+                return;
+            }
+            if (result != null) {
+                onComplete.accept(result);
+                return;
+            }
+        }
         // Default to returning all results as "maybe"
         onComplete.accept(PushdownResult.allMaybeMatch(selection));
     }
@@ -383,9 +407,23 @@ public abstract class AbstractColumnSource<T> implements
     public PushdownFilterContext makePushdownFilterContext(
             final WhereFilter filter,
             final List<ColumnSource<?>> filterSources) {
+        if (AbstractRangeFilter.withOrderedDataIndex(filter) != null) {
+            // Range filters with an ordered data index can be answered from the index
+            return new OrderedDataIndexPushdownFilterContext();
+        }
         return PushdownFilterContext.NO_PUSHDOWN_CONTEXT;
     }
 
+    /**
+     * Tracks whether a range filter has been answered from its ordered data index.
+     */
+    private static final class OrderedDataIndexPushdownFilterContext extends BasePushdownFilterContext {
+        @Override
+        public Map<String, String> renameMap() {
+            return Collections.emptyMap();
+        }
+    }
+
     @Override
     public <ALTERNATE_DATA_TYPE> boolean allowsReinterpret(
             @NotNull final Class<ALTERNATE_DATA_TYPE> alternateDataType) {
@@ -9,6 +9,7 @@ import io.deephaven.base.verify.Require;
 import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.exceptions.CancellationException;
 import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetBuilderSequential;
 import io.deephaven.engine.rowset.RowSetFactory;
 import io.deephaven.engine.rowset.WritableRowSet;
 import io.deephaven.engine.table.ColumnSource;
@@ -52,6 +53,12 @@ import java.util.stream.Stream;
  * initialization case).
  */
 abstract class AbstractFilterExecution {
+    /**
+     * The minimum multiple of {@link QueryTable#ADAPTIVE_FILTER_ORDERING_SAMPLE_SIZE} an input must be before we sample
+     * it; for smaller inputs the sample would be a significant fraction of the work.
+     */
+    private static final int ADAPTIVE_SAMPLE_INPUT_MULTIPLE = 16;
+
     final BasePerformanceEntry basePerformanceEntry = new BasePerformanceEntry();
 
     final QueryTable sourceTable;
@@ -75,6 +82,12 @@ abstract class AbstractFilterExecution {
      */
     final boolean usePrev;
 
+    /**
+     * The statistics used to order stateless filters, or null if {@link QueryTable#ADAPTIVE_FILTER_ORDERING} was not
+     * enabled for this where().
+     */
+    final WhereFilterStatistics statistics;
+
     AbstractFilterExecution(
             final QueryTable sourceTable,
             final WhereFilter[] filters,
@@ -82,7 +95,8 @@ abstract class AbstractFilterExecution {
             @NotNull final RowSet modifiedInput,
             final boolean usePrev,
             final boolean runModifiedFilters,
-            final ModifiedColumnSet sourceModColumns) {
+            final ModifiedColumnSet sourceModColumns,
+            final WhereFilterStatistics statistics) {
         this.sourceTable = sourceTable;
         this.filters = filters;
         this.addedInput = addedInput;
@@ -90,6 +104,7 @@ abstract class AbstractFilterExecution {
         this.usePrev = usePrev;
         this.runModifiedFilters = runModifiedFilters;
         this.sourceModColumns = sourceModColumns;
+        this.statistics = statistics;
     }
 
     /**
@@ -214,6 +229,15 @@ abstract class AbstractFilterExecution {
          * The barriers respected by this filter including any implicit recursive dependencies.
          */
         public final Collection<Object> respectedBarriers;
+        /**
+         * The running statistics for this filter, or null if adaptive ordering is disabled.
+         */
+        public final WhereFilterStatistics.Entry statistics;
+        /**
+         * The {@link WhereFilterStatistics.Entry#rank() observed rank} used to order filters of equal pushdown cost,
+         * fixed for the duration of each sort.
+         */
+        public double observedRank;
 
         public StatelessFilter(
                 final int filterIdx,
@@ -237,6 +261,13 @@ abstract class AbstractFilterExecution {
                         return Streams.concat(Stream.of(barrier), dependencies.stream());
                     })
                     .collect(Collectors.toSet());
+            this.statistics = AbstractFilterExecution.this.statistics == null
+                    ? null
+                    : AbstractFilterExecution.this.statistics.get(filter);
+        }
+
+        private boolean hasObservations() {
+            return statistics != null && statistics.hasObservations();
         }
 
         /**
@@ -273,6 +304,11 @@ abstract class AbstractFilterExecution {
                 return Long.compare(pushdownFilterCost, o.pushdownFilterCost);
             }
 
+            // Then by observed cost per eliminated row, when adaptive ordering has statistics for both filters.
+            if (observedRank != o.observedRank) {
+                return Double.compare(observedRank, o.observedRank);
+            }
+
             // Break ties via original index to preserve the original order of execution for similar cost filters.
             return Integer.compare(filterIdx, o.filterIdx);
         }
@@ -309,6 +345,7 @@ abstract class AbstractFilterExecution {
                     filters[index].scheduleUpdatePushdownFilterCost(selection, resume, nestedErrorConsumer);
                 },
                 () -> {
+                    updateObservedRanks(filters, startIndex);
                     // Sort the filters by non-descending cost, starting at the given index.
                     Arrays.sort(filters, startIndex, filters.length);
                     onComplete.run();
@@ -318,6 +355,64 @@ abstract class AbstractFilterExecution {
                 onError);
     }
 
+    /**
+     * Fix the {@link StatelessFilter#observedRank observed rank} of the filters starting at the given index. Filters
+     * of equal pushdown cost are only reordered by their statistics once every one of them has been observed;
+     * otherwise they keep the order supplied by the user.
+     */
+    private static void updateObservedRanks(final StatelessFilter[] filters, final int startIndex) {
+        for (int ii = startIndex; ii < filters.length; ++ii) {
+            final StatelessFilter sf = filters[ii];
+            boolean allObserved = sf.hasObservations();
+            for (int jj = startIndex; allObserved && jj < filters.length; ++jj) {
+                if (filters[jj].pushdownFilterCost == sf.pushdownFilterCost) {
+                    allObserved = filters[jj].hasObservations();
+                }
+            }
+            sf.observedRank = allObserved ? sf.statistics.rank() : 0;
+        }
+    }
+
+    /**
+     * Before the first full evaluation of a large input, evaluate each stateless filter that has no statistics yet
+     * against an evenly spaced sample of the input, so that even the initial filter runs in an informed order.
+     * Filters that can use pushdown, or that declare or respect barriers, are not sampled.
+     */
+    private void sampleUnobservedFilters(final StatelessFilter[] statelessFilters, final RowSet input) {
+        final int sampleSize = QueryTable.ADAPTIVE_FILTER_ORDERING_SAMPLE_SIZE;
+        if (statistics == null || statelessFilters.length < 2 || sampleSize <= 0
+                || input.size() < (long) sampleSize * ADAPTIVE_SAMPLE_INPUT_MULTIPLE) {
+            return;
+        }
+        WritableRowSet sample = null;
+        try {
+            for (final StatelessFilter sf : statelessFilters) {
+                if (sf.statistics == null || sf.hasObservations() || sf.pushdownMatcher != null
+                        || !sf.declaredBarriers.isEmpty() || !sf.respectedBarriers.isEmpty()) {
+                    continue;
+                }
+                if (sample == null) {
+                    sample = sample(input, sampleSize);
+                }
+                cancelIfInterrupted();
+                filter(sf.filter, sample).close();
+            }
+        } finally {
+            if (sample != null) {
+                sample.close();
+            }
+        }
+    }
+
+    private static WritableRowSet sample(final RowSet input, final int sampleSize) {
+        final long stride = input.size() / sampleSize;
+        final RowSetBuilderSequential builder = RowSetFactory.builderSequential();
+        for (long pos = 0; pos < input.size(); pos += stride) {
+            builder.appendKey(input.get(pos));
+        }
+        return builder.build();
+    }
+
     /**
      * Simple extensions to hold either stateless or stateful filter.
      */
@@ -503,6 +598,7 @@ abstract class AbstractFilterExecution {
                     barrierDependencies.put(barrier, statelessFilters[ii].respectedBarriers);
                 }
             }
+            sampleUnobservedFilters(statelessFilters, localInput.get());
         } catch (final Exception ex) {
             informAndCloseAll(collectionNec, ex, statelessFilters);
             return;
@@ -589,9 +685,17 @@ abstract class AbstractFilterExecution {
 
     private WritableRowSet filter(final WhereFilter filter, final RowSet input) {
         // If there are no rows left to filter, skip this filter.
-        return input.isEmpty()
-                ? RowSetFactory.empty()
-                : filter.filter(input, sourceTable.getRowSet(), sourceTable, usePrev);
+        if (input.isEmpty()) {
+            return RowSetFactory.empty();
+        }
+        final WhereFilterStatistics.Entry entry = statistics == null ? null : statistics.get(filter);
+        if (entry == null) {
+            return filter.filter(input, sourceTable.getRowSet(), sourceTable, usePrev);
+        }
+        final long startNanos = System.nanoTime();
+        final WritableRowSet result = filter.filter(input, sourceTable.getRowSet(), sourceTable, usePrev);
+        entry.record(input.size(), result.size(), System.nanoTime() - startNanos);
+        return result;
     }
 
     private static void replace(final MutableObject<WritableRowSet> obj, final WritableRowSet result) {
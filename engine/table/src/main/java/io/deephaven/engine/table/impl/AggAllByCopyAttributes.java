@@ -21,6 +21,9 @@ class AggAllByCopyAttributes implements AggSpec.Visitor {
     @Override
     public void visit(AggSpecAbsSum absSum) {}
 
+    @Override
+    public void visit(AggSpecApproximateCountDistinct approxCountDistinct) {}
+
     @Override
     public void visit(AggSpecApproximatePercentile approxPct) {}
 
@@ -47,6 +50,9 @@ class AggAllByCopyAttributes implements AggSpec.Visitor {
     @Override
     public void visit(AggSpecGroup group) {}
 
+    @Override
+    public void visit(AggSpecKllPercentile kllPct) {}
+
     @Override
     public void visit(AggSpecLast last) {
         parent.copyAttributes(result, CopyAttributeOperation.LastBy);
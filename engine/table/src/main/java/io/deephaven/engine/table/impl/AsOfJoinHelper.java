@@ -11,6 +11,9 @@ import io.deephaven.chunk.sized.SizedBooleanChunk;
 import io.deephaven.chunk.sized.SizedChunk;
 import io.deephaven.chunk.sized.SizedLongChunk;
 import io.deephaven.chunk.util.hashing.ChunkEquals;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.exceptions.CancellationException;
+import io.deephaven.engine.exceptions.OperationException;
 import io.deephaven.engine.rowset.*;
 import io.deephaven.engine.rowset.chunkattributes.RowKeys;
 import io.deephaven.engine.table.*;
@@ -34,13 +37,17 @@ import io.deephaven.engine.table.impl.util.SizedSafeCloseable;
 import io.deephaven.engine.table.impl.util.WritableRowRedirection;
 import io.deephaven.engine.table.impl.util.compact.CompactKernel;
 import io.deephaven.engine.table.impl.util.compact.LongCompactKernel;
+import io.deephaven.engine.table.impl.util.JobScheduler;
+import io.deephaven.engine.table.impl.util.OperationInitializerJobScheduler;
 import io.deephaven.util.SafeCloseable;
 import io.deephaven.util.SafeCloseableList;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.OverridingMethodsMustInvokeSuper;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
 import java.util.function.Supplier;
 
 public class AsOfJoinHelper {
@@ -201,37 +208,35 @@ public class AsOfJoinHelper {
         final ColumnSource<RowSet> leftDataIndexRowSetColumn = leftDataIndexTable != null
                 ? leftDataIndex.rowSetColumn()
                 : null;
-        try (final AsOfStampContext stampContext = new AsOfStampContext(order, disallowExactMatch, leftStampSource,
-                rightStampSource, originalRightStampSource);
-                final ResettableWritableLongChunk<RowKeys> keyChunk =
-                        ResettableWritableLongChunk.makeResettableChunk();
-                final ResettableWritableChunk<Values> valuesChunk =
-                        rightStampSource.getChunkType().makeResettableWritableChunk()) {
-            for (int slotIndex = 0; slotIndex < slotCount; ++slotIndex) {
-                final int slot = slots.getInt(slotIndex);
-                RowSet leftRowSet = asOfJoinStateManager.getLeftRowSet(slot);
-                if (leftRowSet == null || leftRowSet.isEmpty()) {
-                    continue;
-                }
+        final boolean parallel = stampInParallel(control, leftTable.size());
+        forEachStampTask(parallel, "aj() stamp buckets",
+                () -> new StampTaskContext(new AsOfStampContext(order, disallowExactMatch, leftStampSource,
+                        rightStampSource, originalRightStampSource, parallel), rightStampSource.getChunkType()),
+                slotCount, (taskContext, slotIndex) -> {
+                    final int slot = slots.getInt(slotIndex);
+                    RowSet leftRowSet = asOfJoinStateManager.getLeftRowSet(slot);
+                    if (leftRowSet == null || leftRowSet.isEmpty()) {
+                        return;
+                    }
 
-                final RowSet rightRowSet = asOfJoinStateManager.getRightRowset(slot);
-                if (rightRowSet == null || rightRowSet.isEmpty()) {
-                    continue;
-                }
+                    final RowSet rightRowSet = asOfJoinStateManager.getRightRowset(slot);
+                    if (rightRowSet == null || rightRowSet.isEmpty()) {
+                        return;
+                    }
 
-                if (leftDataIndexRowSetColumn != null) {
-                    Assert.eq(leftRowSet.size(), "Indexed left row set size", 1);
-                    leftRowSet = leftDataIndexRowSetColumn.get(leftRowSet.get(0));
-                }
+                    if (leftDataIndexRowSetColumn != null) {
+                        Assert.eq(leftRowSet.size(), "Indexed left row set size", 1);
+                        leftRowSet = leftDataIndexRowSetColumn.get(leftRowSet.get(0));
+                    }
 
-                if (arrayValuesCache != null) {
-                    processLeftSlotWithRightCache(stampContext, leftRowSet, rightRowSet, rowRedirection,
-                            rightStampSource, keyChunk, valuesChunk, arrayValuesCache, slot);
-                } else {
-                    stampContext.processEntry(leftRowSet, rightRowSet, rowRedirection);
-                }
-            }
-        }
+                    if (arrayValuesCache != null) {
+                        processLeftSlotWithRightCache(taskContext.stampContext, leftRowSet, rightRowSet,
+                                rowRedirection, rightStampSource, taskContext.keyChunk, taskContext.valuesChunk,
+                                arrayValuesCache, slot);
+                    } else {
+                        taskContext.stampContext.processEntry(leftRowSet, rightRowSet, rowRedirection);
+                    }
+                });
 
         final QueryTable result =
                 makeResult(leftTable, rightTable, rowRedirection, columnsToAdd, leftTable.isRefreshing());
@@ -320,6 +325,81 @@ public class AsOfJoinHelper {
         }
     }
 
+    /**
+     * The state each thread needs to stamp as-of join buckets or segments.
+     */
+    private static class StampTaskContext implements JobScheduler.JobThreadContext {
+        private final AsOfStampContext stampContext;
+        private final ResettableWritableLongChunk<RowKeys> keyChunk;
+        private final ResettableWritableChunk<Values> valuesChunk;
+
+        private StampTaskContext(AsOfStampContext stampContext, ChunkType stampChunkType) {
+            this.stampContext = stampContext;
+            keyChunk = ResettableWritableLongChunk.makeResettableChunk();
+            valuesChunk = stampChunkType.makeResettableWritableChunk();
+        }
+
+        @Override
+        public void close() {
+            SafeCloseable.closeAll(stampContext, keyChunk, valuesChunk);
+        }
+    }
+
+    /**
+     * Should we stamp the static or initial state of an as-of join in parallel?
+     *
+     * @param control the join control
+     * @param leftSize the number of left rows to stamp
+     * @return true if the stamp tasks should be run on the operation initialization thread pool
+     */
+    private static boolean stampInParallel(JoinControl control, long leftSize) {
+        return control.parallelizeAsOfJoin(leftSize)
+                && ExecutionContext.getContext().getOperationInitializer().canParallelize();
+    }
+
+    /**
+     * Run {@code taskCount} stamp tasks, and wait for them to complete. Each task is independent of the others except
+     * that they share the output row redirection, so when run in parallel their {@link AsOfStampContext stamp contexts}
+     * must have been created to synchronize their redirection writes.
+     *
+     * @param parallel whether to run the tasks on the operation initialization thread pool
+     * @param description the description of the tasks, for logging and errors
+     * @param contextFactory the factory for per-thread contexts
+     * @param taskCount the number of tasks
+     * @param task the task, which accepts the thread's context and the task index
+     */
+    private static void forEachStampTask(boolean parallel, String description,
+            Supplier<StampTaskContext> contextFactory, int taskCount, ObjIntConsumer<StampTaskContext> task) {
+        if (!parallel) {
+            try (final StampTaskContext taskContext = contextFactory.get()) {
+                for (int ti = 0; ti < taskCount; ++ti) {
+                    task.accept(taskContext, ti);
+                }
+            }
+            return;
+        }
+
+        final CompletableFuture<Void> completed = new CompletableFuture<>();
+        new OperationInitializerJobScheduler().iterateParallel(
+                ExecutionContext.newBuilder().markSystemic().build(),
+                logOutput -> logOutput.append(description),
+                contextFactory,
+                0,
+                taskCount,
+                (taskContext, taskIndex, nestedErrorConsumer) -> task.accept(taskContext, taskIndex),
+                () -> completed.complete(null),
+                () -> {
+                },
+                completed::completeExceptionally);
+        try {
+            completed.get();
+        } catch (InterruptedException e) {
+            throw new CancellationException(String.format("%s interrupted", description), e);
+        } catch (Exception e) {
+            throw new OperationException(String.format("%s failed", description), e);
+        }
+    }
+
     private static class ArrayValuesCache {
         final ObjectArraySource<long[]> cacheStampKeys;
         final ObjectArraySource<Object> cacheStampValues;
@@ -437,7 +517,7 @@ public class AsOfJoinHelper {
             return zeroKeyAjRightIncremental(control, leftTable, rightTable, columnsToAdd, stampPair, leftStampSource,
                     rightStampSource, order, disallowExactMatch, rowRedirection);
         } else {
-            return zeroKeyAjRightStatic(leftTable, rightTable, columnsToAdd, stampPair, leftStampSource,
+            return zeroKeyAjRightStatic(control, leftTable, rightTable, columnsToAdd, stampPair, leftStampSource,
                     originalRightStampSource, rightStampSource, order, disallowExactMatch, rowRedirection);
         }
     }
@@ -1428,10 +1508,10 @@ public class AsOfJoinHelper {
         }
     }
 
-    private static Table zeroKeyAjRightStatic(QueryTable leftTable, Table rightTable, MatchPair[] columnsToAdd,
-            MatchPair stampPair, ColumnSource<?> leftStampSource, ColumnSource<?> originalRightStampSource,
-            ColumnSource<?> rightStampSource, SortingOrder order, boolean disallowExactMatch,
-            final WritableRowRedirection rowRedirection) {
+    private static Table zeroKeyAjRightStatic(JoinControl control, QueryTable leftTable, Table rightTable,
+            MatchPair[] columnsToAdd, MatchPair stampPair, ColumnSource<?> leftStampSource,
+            ColumnSource<?> originalRightStampSource, ColumnSource<?> rightStampSource, SortingOrder order,
+            boolean disallowExactMatch, final WritableRowRedirection rowRedirection) {
         final RowSet rightRowSet = rightTable.getRowSet();
 
         final WritableLongChunk<RowKeys> rightStampKeys = WritableLongChunk.makeWritableChunk(rightRowSet.intSize());
@@ -1439,10 +1519,30 @@ public class AsOfJoinHelper {
                 rightStampSource.getChunkType().makeWritableChunk(rightRowSet.intSize());
 
         try (final SafeCloseableList chunksToClose = new SafeCloseableList(rightStampKeys, rightStampValues)) {
+            final RowSet leftRowSet = leftTable.getRowSet();
+            final boolean parallel = stampInParallel(control, leftRowSet.size());
             try (final AsOfStampContext stampContext = new AsOfStampContext(order, disallowExactMatch, leftStampSource,
                     rightStampSource, originalRightStampSource)) {
                 stampContext.getAndCompactStamps(rightRowSet, rightStampKeys, rightStampValues);
-                stampContext.processEntry(leftTable.getRowSet(), rightStampValues, rightStampKeys, rowRedirection);
+                if (!parallel) {
+                    stampContext.processEntry(leftRowSet, rightStampValues, rightStampKeys, rowRedirection);
+                }
+            }
+            if (parallel) {
+                // the right stamps are shared, so each segment of the left rows can be stamped independently
+                final long segmentSize = control.asOfJoinRowsPerSegment();
+                final int segmentCount = Math.toIntExact((leftRowSet.size() + segmentSize - 1) / segmentSize);
+                forEachStampTask(true, "aj() stamp segments",
+                        () -> new StampTaskContext(new AsOfStampContext(order, disallowExactMatch, leftStampSource,
+                                rightStampSource, originalRightStampSource, true), rightStampSource.getChunkType()),
+                        segmentCount, (taskContext, segment) -> {
+                            final long firstPosition = segment * segmentSize;
+                            try (final RowSet leftSegment = leftRowSet.subSetByPositionRange(
+                                    firstPosition, firstPosition + segmentSize)) {
+                                taskContext.stampContext.processEntry(leftSegment, rightStampValues, rightStampKeys,
+                                        rowRedirection);
+                            }
+                        });
             }
             final QueryTable result =
                     makeResult(leftTable, rightTable, rowRedirection, columnsToAdd, leftTable.isRefreshing());
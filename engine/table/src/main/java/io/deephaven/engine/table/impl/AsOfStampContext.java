@@ -46,9 +46,22 @@ class AsOfStampContext implements Context {
 
     private final StampKernel stampKernel;
 
+    private final boolean sharedRowRedirection;
+
     AsOfStampContext(SortingOrder order, boolean disallowExactMatch, ColumnSource<?> leftStampSource,
             ColumnSource<?> rightStampSource, ColumnSource<?> originalRightStampSource) {
+        this(order, disallowExactMatch, leftStampSource, rightStampSource, originalRightStampSource, false);
+    }
+
+    /**
+     * @param sharedRowRedirection whether other contexts update the same row redirection concurrently, in which case
+     *        each entry's redirections are written while holding the row redirection's lock
+     */
+    AsOfStampContext(SortingOrder order, boolean disallowExactMatch, ColumnSource<?> leftStampSource,
+            ColumnSource<?> rightStampSource, ColumnSource<?> originalRightStampSource,
+            boolean sharedRowRedirection) {
         this.order = order;
+        this.sharedRowRedirection = sharedRowRedirection;
         this.leftStampSource = leftStampSource;
         this.rightStampSource = rightStampSource;
         this.originalRightStampSource = originalRightStampSource;
@@ -223,6 +236,17 @@ class AsOfStampContext implements Context {
     private void computeRedirections(WritableRowRedirection rowRedirection, Chunk<Values> rightStampChunk,
             LongChunk<RowKeys> rightKeyIndicesChunk) {
         stampKernel.computeRedirections(leftStampChunk, rightStampChunk, rightKeyIndicesChunk, leftRedirections);
+        if (sharedRowRedirection) {
+            // noinspection SynchronizationOnLocalVariableOrMethodParameter
+            synchronized (rowRedirection) {
+                putRedirections(rowRedirection);
+            }
+        } else {
+            putRedirections(rowRedirection);
+        }
+    }
+
+    private void putRedirections(WritableRowRedirection rowRedirection) {
         for (int ii = 0; ii < leftKeyIndicesChunk.size(); ++ii) {
             final long rightKey = leftRedirections.get(ii);
             // the row redirection defaults to NULL_ROW_KEY, so we do not need to put it in there
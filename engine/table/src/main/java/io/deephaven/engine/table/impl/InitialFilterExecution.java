@@ -29,8 +29,10 @@ class InitialFilterExecution extends AbstractFilterExecution {
             final QueryTable sourceTable,
             final WhereFilter[] filters,
             @NotNull final RowSet addedInput,
-            final boolean usePrev) {
-        super(sourceTable, filters, addedInput, RowSetFactory.empty(), usePrev, false, ModifiedColumnSet.ALL);
+            final boolean usePrev,
+            final WhereFilterStatistics statistics) {
+        super(sourceTable, filters, addedInput, RowSetFactory.empty(), usePrev, false, ModifiedColumnSet.ALL,
+                statistics);
         segmentCount = QueryTable.PARALLEL_WHERE_SEGMENTS <= 0
                 ? ExecutionContext.getContext().getOperationInitializer().parallelismFactor()
                 : QueryTable.PARALLEL_WHERE_SEGMENTS;
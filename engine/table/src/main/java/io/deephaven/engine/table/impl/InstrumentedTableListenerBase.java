@@ -15,6 +15,7 @@ import io.deephaven.engine.exceptions.UncheckedTableException;
 import io.deephaven.engine.table.TableListener;
 import io.deephaven.engine.table.TableUpdate;
 import io.deephaven.engine.table.impl.perf.PerformanceEntry;
+import io.deephaven.engine.table.impl.perf.jfr.ListenerExecutionEvent;
 import io.deephaven.engine.updategraph.*;
 import io.deephaven.engine.updategraph.impl.PeriodicUpdateGraph;
 import io.deephaven.engine.util.string.StringUtils;
@@ -313,6 +314,11 @@ public abstract class InstrumentedTableListenerBase extends LivenessArtifact
             return InstrumentedTableListenerBase.this.canExecute(step);
         }
 
+        @Override
+        public final long getCriticalPathEstimateNanos() {
+            return entry == null ? 0 : entry.getCriticalPathNanos();
+        }
+
         void doRun(final Runnable invokeOnUpdate) {
             try {
                 doRunInternal(invokeOnUpdate);
@@ -326,6 +332,8 @@ public abstract class InstrumentedTableListenerBase extends LivenessArtifact
                 return;
             }
 
+            final ListenerExecutionEvent executionEvent = new ListenerExecutionEvent();
+            executionEvent.begin();
             if (entry != null) {
                 entry.onUpdateStart(update.added(), update.removed(), update.modified(), update.shifted());
             }
@@ -372,6 +380,18 @@ public abstract class InstrumentedTableListenerBase extends LivenessArtifact
                 if (entry != null) {
                     entry.onUpdateEnd();
                 }
+                executionEvent.end();
+                if (executionEvent.shouldCommit()) {
+                    executionEvent.description = description;
+                    executionEvent.entryId = entry == null ? -1 : entry.getId();
+                    executionEvent.step = currentStep;
+                    executionEvent.added = update.added().size();
+                    executionEvent.removed = update.removed().size();
+                    executionEvent.modified = update.modified().size();
+                    executionEvent.shifted = update.shifted().getEffectiveSize();
+                    executionEvent.failed = failed;
+                    executionEvent.commit();
+                }
             }
         }
     }
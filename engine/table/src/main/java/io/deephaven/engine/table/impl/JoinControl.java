@@ -3,10 +3,12 @@
 //
 package io.deephaven.engine.table.impl;
 
+import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.liveness.LivenessScopeStack;
 import io.deephaven.engine.table.DataIndex;
 import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.impl.indexer.DataIndexAdvisor;
 import io.deephaven.engine.table.impl.indexer.DataIndexer;
 import io.deephaven.engine.table.impl.sources.regioned.SymbolTableSource;
 import io.deephaven.engine.table.impl.sources.sparse.SparseConstants;
@@ -57,6 +59,43 @@ public class JoinControl {
         return DEFAULT_TARGET_LOAD_FACTOR;
     }
 
+    /**
+     * Should the static or initial state of an as-of join be stamped by parallel tasks on the operation initialization
+     * thread pool?
+     *
+     * @param leftRows The number of left rows to be stamped
+     * @return Whether to stamp in parallel, if the operation initializer allows it
+     */
+    boolean parallelizeAsOfJoin(final long leftRows) {
+        return QueryTable.ENABLE_PARALLEL_AS_OF_JOIN && leftRows >= QueryTable.MINIMUM_PARALLEL_AS_OF_JOIN_ROWS;
+    }
+
+    /**
+     * @return The number of left rows stamped by each task when a zero-key as-of join is stamped in parallel
+     */
+    long asOfJoinRowsPerSegment() {
+        return QueryTable.PARALLEL_AS_OF_JOIN_ROWS_PER_SEGMENT;
+    }
+
+    /**
+     * Should a static multiJoin be built by hash-partitioning its inputs and building the partitions in parallel on the
+     * operation initialization thread pool?
+     *
+     * @param totalRows The total number of rows in the input tables
+     * @return Whether to build in parallel, if the operation initializer allows it
+     */
+    boolean parallelizeStaticMultiJoin(final long totalRows) {
+        return QueryTable.ENABLE_PARALLEL_MULTI_JOIN && totalRows >= QueryTable.MINIMUM_PARALLEL_MULTI_JOIN_ROWS;
+    }
+
+    /**
+     * @return The number of hash partitions for a parallel static multiJoin build, a power of two greater than one
+     */
+    int staticMultiJoinPartitions() {
+        final int parallelism = ExecutionContext.getContext().getOperationInitializer().parallelismFactor();
+        return Math.max(2, Integer.highestOneBit(Math.max(1, parallelism - 1)) << 1);
+    }
+
     @Nullable
     DataIndex dataIndexToUse(Table table, ColumnSource<?>[] sources) {
         // Configuration property that serves as an escape hatch
@@ -64,7 +103,7 @@ public class JoinControl {
             return null;
         }
         final DataIndexer indexer = DataIndexer.existingOf(table.getRowSet());
-        return indexer == null ? null
+        final DataIndex dataIndex = indexer == null ? null
                 : LivenessScopeStack.computeEnclosed(
                         // DataIndexer will only give us valid, live data indexes.
                         () -> indexer.getDataIndex(sources),
@@ -74,6 +113,8 @@ public class JoinControl {
                         // stale,
                         // and we'll only use it during instantiation.
                         di -> false);
+        DataIndexAdvisor.recordUsage(table, "join", sources, dataIndex != null);
+        return dataIndex;
     }
 
     static final class BuildParameters {
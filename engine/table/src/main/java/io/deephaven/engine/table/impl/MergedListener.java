@@ -12,6 +12,7 @@ import io.deephaven.engine.liveness.LivenessArtifact;
 import io.deephaven.engine.table.TableListener;
 import io.deephaven.engine.table.impl.perf.BasePerformanceEntry;
 import io.deephaven.engine.table.impl.perf.PerformanceEntry;
+import io.deephaven.engine.table.impl.perf.jfr.ListenerExecutionEvent;
 import io.deephaven.engine.table.impl.util.AsyncClientErrorNotifier;
 import io.deephaven.engine.table.impl.util.StepUpdater;
 import io.deephaven.engine.updategraph.AbstractNotification;
@@ -391,9 +392,12 @@ public abstract class MergedListener extends LivenessArtifact implements Notific
                     }
                 }
 
+                final ListenerExecutionEvent executionEvent = new ListenerExecutionEvent();
+                executionEvent.begin();
                 if (entry != null) {
                     entry.onUpdateStart(added, removed, modified, shifted);
                 }
+                boolean processed = false;
                 try {
                     synchronized (MergedListener.this) {
                         if (notificationStep == lastEnqueuedStep) {
@@ -405,6 +409,7 @@ public abstract class MergedListener extends LivenessArtifact implements Notific
                         notificationStep = lastEnqueuedStep;
                     }
                     process();
+                    processed = true;
                     getUpdateGraph().logDependencies()
                             .append("MergedListener has completed execution ")
                             .append(this).endl();
@@ -412,6 +417,18 @@ public abstract class MergedListener extends LivenessArtifact implements Notific
                     if (entry != null) {
                         entry.onUpdateEnd();
                     }
+                    executionEvent.end();
+                    if (executionEvent.shouldCommit()) {
+                        executionEvent.description = listenerDescription;
+                        executionEvent.entryId = entry == null ? -1 : entry.getId();
+                        executionEvent.step = currentStep;
+                        executionEvent.added = added;
+                        executionEvent.removed = removed;
+                        executionEvent.modified = modified;
+                        executionEvent.shifted = shifted;
+                        executionEvent.failed = !processed;
+                        executionEvent.commit();
+                    }
                 }
             } catch (Exception updateException) {
                 handleUncaughtException(updateException);
@@ -431,5 +448,10 @@ public abstract class MergedListener extends LivenessArtifact implements Notific
         public boolean canExecute(final long step) {
             return MergedListener.this.canExecute(step);
         }
+
+        @Override
+        public long getCriticalPathEstimateNanos() {
+            return entry == null ? 0 : entry.getCriticalPathNanos();
+        }
     }
 }
@@ -8,19 +8,10 @@ import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.impl.util.RowRedirection;
 
 /**
- * This is a common interface for the static and incremental state manager so that our bucketed MultiJoinTable system is
- * capable of using them interchangeably to build the table.
+ * This is a common interface for the static, partitioned static and incremental state managers so that our bucketed
+ * MultiJoinTable system is capable of using them interchangeably to produce the result table.
  */
 public interface MultiJoinStateManager {
-    /**
-     * Add the given table to this multiJoin result.
-     *
-     * @param table the table to add
-     * @param sources the column sources that contain the keys
-     * @param tableNumber the table number for which we are adding rows
-     */
-    void build(final Table table, ColumnSource<?>[] sources, int tableNumber);
-
     /**
      * Get the number of rows in the result table
      *
@@ -42,13 +33,27 @@ public interface MultiJoinStateManager {
     RowRedirection getRowRedirectionForTable(int tableNumber);
 
     /**
-     * Ensure that this state manager can handle {@code numTables} tables as constituents of the multiJoin.
-     *
-     * @param numTables the number of tables that participate
+     * A {@link MultiJoinStateManager} that is built by adding the input tables one at a time.
      */
-    void ensureTableCapacity(int numTables);
-
-    void setTargetLoadFactor(final double targetLoadFactor);
-
-    void setMaximumLoadFactor(final double maximumLoadFactor);
+    interface TableAtATime extends MultiJoinStateManager {
+        /**
+         * Add the given table to this multiJoin result.
+         *
+         * @param table the table to add
+         * @param sources the column sources that contain the keys
+         * @param tableNumber the table number for which we are adding rows
+         */
+        void build(final Table table, ColumnSource<?>[] sources, int tableNumber);
+
+        /**
+         * Ensure that this state manager can handle {@code numTables} tables as constituents of the multiJoin.
+         *
+         * @param numTables the number of tables that participate
+         */
+        void ensureTableCapacity(int numTables);
+
+        void setTargetLoadFactor(final double targetLoadFactor);
+
+        void setMaximumLoadFactor(final double maximumLoadFactor);
+    }
 }
@@ -16,10 +16,12 @@ import io.deephaven.engine.table.*;
 import io.deephaven.engine.table.impl.by.BitmapRandomBuilder;
 import io.deephaven.engine.table.impl.by.typed.TypedHasherFactory;
 import io.deephaven.engine.table.impl.multijoin.IncrementalMultiJoinStateManagerTypedBase;
+import io.deephaven.engine.table.impl.multijoin.PartitionedStaticMultiJoinStateManager;
 import io.deephaven.engine.table.impl.multijoin.StaticMultiJoinStateManagerTypedBase;
 import io.deephaven.engine.table.impl.perf.QueryPerformanceRecorder;
 import io.deephaven.engine.table.impl.sources.RedirectedColumnSource;
 import io.deephaven.engine.table.impl.sources.ReinterpretUtils;
+import io.deephaven.engine.table.impl.util.OperationInitializerJobScheduler;
 import io.deephaven.engine.table.impl.util.RowRedirection;
 import io.deephaven.engine.table.impl.util.SingleValueRowRedirection;
 import io.deephaven.engine.table.impl.util.WritableSingleValueRowRedirection;
@@ -236,28 +238,46 @@ public class MultiJoinTableImpl implements MultiJoinTable {
 
         // If any tables are refreshing, we must use a refreshing JoinManager.
         final boolean refreshing = Arrays.stream(joinInputHelpers).anyMatch(ih -> ih.table.isRefreshing());
-        if (refreshing) {
-            stateManager = TypedHasherFactory.make(IncrementalMultiJoinStateManagerTypedBase.class,
-                    joinInputHelpers[0].keySources(),
+        final boolean parallelBuild = !refreshing
+                && joinControl.parallelizeStaticMultiJoin(
+                        Arrays.stream(joinInputHelpers).mapToLong(ih -> ih.table.size()).sum())
+                && ExecutionContext.getContext().getOperationInitializer().canParallelize();
+        if (parallelBuild) {
+            stateManager = PartitionedStaticMultiJoinStateManager.build(
+                    new OperationInitializerJobScheduler(),
+                    Arrays.stream(joinInputHelpers).map(ih -> ih.table).toArray(Table[]::new),
+                    Arrays.stream(joinInputHelpers).map(ih -> ih.keySources(firstKeyColumnNames))
+                            .toArray(ColumnSource<?>[][]::new),
                     joinInputHelpers[0].originalKeySources(),
+                    joinControl.staticMultiJoinPartitions(),
                     joinControl.initialBuildSize(), joinControl.getMaximumLoadFactor(),
                     joinControl.getTargetLoadFactor());
         } else {
-            stateManager = TypedHasherFactory.make(StaticMultiJoinStateManagerTypedBase.class,
-                    joinInputHelpers[0].keySources(),
-                    joinInputHelpers[0].originalKeySources(),
-                    joinControl.initialBuildSize(), joinControl.getMaximumLoadFactor(),
-                    joinControl.getTargetLoadFactor());
-        }
-        stateManager.setMaximumLoadFactor(joinControl.getMaximumLoadFactor());
-        stateManager.setTargetLoadFactor(joinControl.getTargetLoadFactor());
-        stateManager.ensureTableCapacity(joinInputHelpers.length);
-
-        for (int tableNumber = 0; tableNumber < joinInputHelpers.length; ++tableNumber) {
-            stateManager.build(
-                    joinInputHelpers[tableNumber].table,
-                    joinInputHelpers[tableNumber].keySources(firstKeyColumnNames),
-                    tableNumber);
+            final MultiJoinStateManager.TableAtATime tableAtATimeStateManager;
+            if (refreshing) {
+                tableAtATimeStateManager = TypedHasherFactory.make(IncrementalMultiJoinStateManagerTypedBase.class,
+                        joinInputHelpers[0].keySources(),
+                        joinInputHelpers[0].originalKeySources(),
+                        joinControl.initialBuildSize(), joinControl.getMaximumLoadFactor(),
+                        joinControl.getTargetLoadFactor());
+            } else {
+                tableAtATimeStateManager = TypedHasherFactory.make(StaticMultiJoinStateManagerTypedBase.class,
+                        joinInputHelpers[0].keySources(),
+                        joinInputHelpers[0].originalKeySources(),
+                        joinControl.initialBuildSize(), joinControl.getMaximumLoadFactor(),
+                        joinControl.getTargetLoadFactor());
+            }
+            tableAtATimeStateManager.setMaximumLoadFactor(joinControl.getMaximumLoadFactor());
+            tableAtATimeStateManager.setTargetLoadFactor(joinControl.getTargetLoadFactor());
+            tableAtATimeStateManager.ensureTableCapacity(joinInputHelpers.length);
+
+            for (int tableNumber = 0; tableNumber < joinInputHelpers.length; ++tableNumber) {
+                tableAtATimeStateManager.build(
+                        joinInputHelpers[tableNumber].table,
+                        joinInputHelpers[tableNumber].keySources(firstKeyColumnNames),
+                        tableNumber);
+            }
+            stateManager = tableAtATimeStateManager;
         }
 
         final Map<String, ColumnSource<?>> resultSources = new LinkedHashMap<>();
@@ -36,6 +36,7 @@ import io.deephaven.engine.table.impl.filter.ExtractShiftedColumnDefinitions;
 import io.deephaven.engine.table.impl.filter.ExtractRespectedBarriers;
 import io.deephaven.engine.table.impl.hierarchical.RollupTableImpl;
 import io.deephaven.engine.table.impl.hierarchical.TreeTableImpl;
+import io.deephaven.engine.table.impl.indexer.DataIndexAdvisor;
 import io.deephaven.engine.table.impl.indexer.DataIndexer;
 import io.deephaven.engine.table.impl.lang.QueryLanguageParser;
 import io.deephaven.engine.table.impl.partitioned.PartitionedTableImpl;
@@ -199,6 +200,14 @@ public class QueryTable extends BaseTable<QueryTable> {
     static boolean USE_REDIRECTED_COLUMNS_FOR_SELECT =
             Configuration.getInstance().getBooleanWithDefault("QueryTable.redirectSelect", false);
 
+    /**
+     * If the Configuration property "QueryTable.eliminateCommonSubexpressions" is set to true, then subexpressions
+     * repeated across the formulas of a single select(), update() or where() call are computed once into a temporary
+     * column. Defaults to false, because formulas that call non-deterministic functions would observe fewer calls.
+     */
+    public static boolean ELIMINATE_COMMON_SUBEXPRESSIONS =
+            Configuration.getInstance().getBooleanWithDefault("QueryTable.eliminateCommonSubexpressions", false);
+
     /**
      * If the Configuration property "QueryTable.useDataIndexForWhere" is set to true (default), then permit where
      * filters to use a data index, when applicable. If false, data indexes are not used even if present.
@@ -206,6 +215,14 @@ public class QueryTable extends BaseTable<QueryTable> {
     public static boolean USE_DATA_INDEX_FOR_WHERE =
             Configuration.getInstance().getBooleanWithDefault("QueryTable.useDataIndexForWhere", true);
 
+    /**
+     * If the Configuration property "QueryTable.useOrderedDataIndexForRangeFilters" is set to true (default), then
+     * range filters on a column with an in-memory data index answer from a key-sorted view of that index. Only
+     * applicable when {@link #USE_DATA_INDEX_FOR_WHERE} is also true.
+     */
+    public static boolean USE_ORDERED_DATA_INDEX_FOR_RANGE_FILTERS =
+            Configuration.getInstance().getBooleanWithDefault("QueryTable.useOrderedDataIndexForRangeFilters", true);
+
     /**
      * If the Configuration property "QueryTable.useDataIndexForAggregation" is set to true (default), then permit
      * aggregation to use a data index, when applicable. If false, data indexes are not used even if present.
@@ -247,6 +264,23 @@ public class QueryTable extends BaseTable<QueryTable> {
 
     private static final ThreadLocal<Boolean> disableParallelWhereForThread = ThreadLocal.withInitial(() -> null);
 
+    /**
+     * If the Configuration property "QueryTable.adaptiveFilterOrdering" is set to true, then where() keeps running
+     * selectivity and per-row cost statistics for each of its filters, during both the initial filter and subsequent
+     * updates, and runs stateless filters in order of observed cost per eliminated row. Barriers are still respected.
+     * Defaults to false.
+     */
+    public static boolean ADAPTIVE_FILTER_ORDERING =
+            Configuration.getInstance().getBooleanWithDefault("QueryTable.adaptiveFilterOrdering", false);
+
+    /**
+     * When {@link #ADAPTIVE_FILTER_ORDERING} is enabled, the number of rows of a large input that each stateless
+     * filter without statistics is first evaluated against, so that the initial filter can already run in an informed
+     * order. Zero disables sampling.
+     */
+    public static int ADAPTIVE_FILTER_ORDERING_SAMPLE_SIZE =
+            Configuration.getInstance().getIntegerWithDefault("QueryTable.adaptiveFilterOrderingSampleSize", 1024);
+
     /**
      * The size of parallel where segments.
      */
@@ -301,6 +335,36 @@ public class QueryTable extends BaseTable<QueryTable> {
     public static long MINIMUM_PARALLEL_SNAPSHOT_ROWS =
             Configuration.getInstance().getLongWithDefault("QueryTable.minimumParallelSnapshotRows", 1L << 20);
 
+    /**
+     * You can choose to enable or disable parallel stamping of static and initial as-of join state.
+     */
+    static boolean ENABLE_PARALLEL_AS_OF_JOIN =
+            Configuration.getInstance().getBooleanWithDefault("QueryTable.enableParallelAsOfJoin", true);
+
+    /**
+     * Minimum number of left rows for parallel as-of join stamping, defaults to 1 million.
+     */
+    public static long MINIMUM_PARALLEL_AS_OF_JOIN_ROWS =
+            Configuration.getInstance().getLongWithDefault("QueryTable.minimumParallelAsOfJoinRows", 1L << 20);
+
+    /**
+     * The number of left rows stamped by each task of a parallel zero-key as-of join.
+     */
+    static long PARALLEL_AS_OF_JOIN_ROWS_PER_SEGMENT =
+            Configuration.getInstance().getLongWithDefault("QueryTable.parallelAsOfJoinRowsPerSegment", 1L << 16);
+
+    /**
+     * You can choose to enable or disable the partitioned parallel build of static multiJoin results.
+     */
+    static boolean ENABLE_PARALLEL_MULTI_JOIN =
+            Configuration.getInstance().getBooleanWithDefault("QueryTable.enableParallelMultiJoin", true);
+
+    /**
+     * Minimum total number of input rows for a parallel static multiJoin build, defaults to 1 million.
+     */
+    public static long MINIMUM_PARALLEL_MULTI_JOIN_ROWS =
+            Configuration.getInstance().getLongWithDefault("QueryTable.minimumParallelMultiJoinRows", 1L << 20);
+
     /**
      * If set to true, then the default behavior of condition filters is to be stateless. Stateless filters are allowed
      * to be processed in parallel by the engine.
@@ -1345,6 +1409,18 @@ public class QueryTable extends BaseTable<QueryTable> {
             return (QueryTable) prepareReturnThis();
         }
 
+        if (ELIMINATE_COMMON_SUBEXPRESSIONS) {
+            final CommonSubexpressionExtractor.Result extracted =
+                    CommonSubexpressionExtractor.ofFilters(definition, filters);
+            if (extracted != null) {
+                return QueryPerformanceRecorder.withNugget(
+                        "commonSubexpressionWhere(" + Arrays.toString(filters) + ")", sizeForInstrumentation(),
+                        () -> (QueryTable) ((QueryTable) update(List.of(extracted.getTemporaryColumns())))
+                                .whereInternal(extracted.getFilters())
+                                .dropColumns(extracted.getTemporaryColumnNames()));
+            }
+        }
+
         final String whereDescription = "where(" + Arrays.toString(filters) + ")";
         return QueryPerformanceRecorder.withNugget(whereDescription, sizeForInstrumentation(),
                 () -> {
@@ -1409,6 +1485,8 @@ public class QueryTable extends BaseTable<QueryTable> {
                                                 : new OperationSnapshotControl(parent);
                                     });
 
+                            final WhereFilterStatistics filterStatistics =
+                                    ADAPTIVE_FILTER_ORDERING ? new WhereFilterStatistics(filters) : null;
                             final Mutable<QueryTable> result = new MutableObject<>();
                             initializeWithSnapshot("where", snapshotControl,
                                     (prevRequested, beforeClock) -> {
@@ -1418,7 +1496,8 @@ public class QueryTable extends BaseTable<QueryTable> {
                                         final CompletableFuture<TrackingWritableRowSet> currentMappingFuture =
                                                 new CompletableFuture<>();
                                         final InitialFilterExecution initialFilterExecution =
-                                                new InitialFilterExecution(this, filters, rowSetToUse.copy(), usePrev);
+                                                new InitialFilterExecution(this, filters, rowSetToUse.copy(), usePrev,
+                                                        filterStatistics);
                                         final TrackingWritableRowSet currentMapping;
                                         initialFilterExecution.scheduleCompletion((adds, mods) -> {
                                             currentMappingFuture.complete(adds.writableCast().toTracking());
@@ -1467,14 +1546,14 @@ public class QueryTable extends BaseTable<QueryTable> {
                                                     whereDescription, QueryTable.this,
                                                     filteredTable);
                                             final WhereListener whereListener = new WhereListener(
-                                                    log, this, recorder, filteredTable, filters);
+                                                    log, this, recorder, filteredTable, filters, filterStatistics);
                                             filteredTable.setWhereListener(whereListener);
                                             recorder.setMergedListener(whereListener);
                                             snapshotControl.setListenerAndResult(recorder, filteredTable);
                                             filteredTable.addParentReference(whereListener);
                                         } else if (refreshingFilters) {
                                             final WhereListener whereListener = new WhereListener(
-                                                    log, this, null, filteredTable, filters);
+                                                    log, this, null, filteredTable, filters, filterStatistics);
                                             filteredTable.setWhereListener(whereListener);
                                             filteredTable.addParentReference(whereListener);
                                         }
@@ -1515,6 +1594,8 @@ public class QueryTable extends BaseTable<QueryTable> {
 
                     final String[] rightColumnNames = MatchPair.getRightColumns(columnsToMatch);
                     final DataIndex rightIndex = DataIndexer.getDataIndex(rightTable, rightColumnNames);
+                    DataIndexAdvisor.recordUsage(
+                            rightTable, "whereIn", Arrays.asList(rightColumnNames), rightIndex != null);
                     if (rightIndex != null) {
                         // We have a distinct index table, let's use it.
                         distinctValues = rightIndex.table();
@@ -1625,6 +1706,16 @@ public class QueryTable extends BaseTable<QueryTable> {
     private Table selectOrUpdate(Flavor flavor, final SelectColumn... selectColumns) {
         final String humanReadablePrefix = flavor.toString();
         final String updateDescription = humanReadablePrefix + '(' + selectColumnString(selectColumns) + ')';
+        if (ELIMINATE_COMMON_SUBEXPRESSIONS) {
+            final CommonSubexpressionExtractor.Result extracted =
+                    CommonSubexpressionExtractor.ofSelectColumns(definition, selectColumns);
+            if (extracted != null) {
+                return QueryPerformanceRecorder.withNugget("commonSubexpression" + updateDescription,
+                        sizeForInstrumentation(),
+                        () -> selectOrUpdate(flavor, extracted.getSelectColumns())
+                                .dropColumns(extracted.getTemporaryColumnNames()));
+            }
+        }
         return memoizeResult(MemoizedOperationKey.selectUpdateViewOrUpdateView(selectColumns, flavor),
                 () -> QueryPerformanceRecorder.withNugget(updateDescription, sizeForInstrumentation(), () -> {
                     checkInitiateOperation();
@@ -7,8 +7,10 @@ import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.engine.rowset.RowSetBuilderRandom;
 import io.deephaven.engine.rowset.RowSetFactory;
 import io.deephaven.engine.rowset.TrackingWritableRowSet;
+import io.deephaven.engine.table.impl.perf.UpdateLatencyTracker;
 import io.deephaven.engine.updategraph.impl.PeriodicUpdateGraph;
 import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.util.QueryConstants;
 
 import javax.annotation.OverridingMethodsMustInvokeSuper;
 import java.util.Map;
@@ -20,6 +22,7 @@ import java.util.Map;
 public class UpdateSourceQueryTable extends QueryTable implements Runnable {
 
     private RowSetBuilderRandom additionsBuilder = RowSetFactory.builderRandom();
+    private long additionsIngestNanos = QueryConstants.NULL_LONG;
 
     public UpdateSourceQueryTable(TrackingWritableRowSet rowSet, Map<String, ? extends ColumnSource<?>> result) {
         super(rowSet, result);
@@ -28,13 +31,19 @@ public class UpdateSourceQueryTable extends QueryTable implements Runnable {
     @Override
     public void run() {
         final RowSetBuilderRandom builder;
+        final long ingestNanos;
         synchronized (this) {
             builder = additionsBuilder;
             additionsBuilder = RowSetFactory.builderRandom();
+            ingestNanos = additionsIngestNanos;
+            additionsIngestNanos = QueryConstants.NULL_LONG;
         }
         final RowSet added = builder.build();
         getRowSet().writableCast().insert(added);
         if (added.size() > 0) {
+            if (ingestNanos != QueryConstants.NULL_LONG) {
+                UpdateLatencyTracker.recordIngest(getUpdateGraph(), ingestNanos);
+            }
             notifyListeners(added, RowSetFactory.empty(),
                     RowSetFactory.empty());
         }
@@ -42,10 +51,18 @@ public class UpdateSourceQueryTable extends QueryTable implements Runnable {
 
     public synchronized void addRowKey(final long rowKey) {
         additionsBuilder.addKey(rowKey);
+        maybeStampIngest();
     }
 
     public synchronized void addRowKeyRange(final long firstRowKey, final long lastRowKey) {
         additionsBuilder.addRange(firstRowKey, lastRowKey);
+        maybeStampIngest();
+    }
+
+    private void maybeStampIngest() {
+        if (UpdateLatencyTracker.ENABLED && additionsIngestNanos == QueryConstants.NULL_LONG) {
+            additionsIngestNanos = System.nanoTime();
+        }
     }
 
     @OverridingMethodsMustInvokeSuper
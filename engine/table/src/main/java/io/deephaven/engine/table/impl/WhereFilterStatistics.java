@@ -0,0 +1,92 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl;
+
+import io.deephaven.engine.table.impl.select.WhereFilter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Running selectivity and per-row cost statistics for the filters of a single where(). The same instance is shared by
+ * the initial filter execution and by every subsequent update, so that {@link AbstractFilterExecution} can order the
+ * stateless filters of a where() by what they have actually cost.
+ * <p>
+ * Filters are ranked by the expected cost to evaluate them per row they eliminate; when filters are independent,
+ * running them in increasing order of {@code costPerRow / (1 - passRate)} minimizes the total work.
+ */
+final class WhereFilterStatistics {
+
+    /**
+     * Once a filter has seen more than this many input rows, the accumulated statistics are halved, so that the
+     * ordering follows changes in the data.
+     */
+    private static final long HISTORY_ROWS = 1 << 20;
+
+    /**
+     * The smallest fraction of rows that we consider a filter to eliminate, so that a filter that passes every row
+     * still has a finite rank.
+     */
+    private static final double MINIMUM_ELIMINATED_FRACTION = 1e-3;
+
+    private final Map<WhereFilter, Entry> entries;
+
+    WhereFilterStatistics(@NotNull final WhereFilter[] filters) {
+        // Populated once and never modified, so concurrent lookups are safe
+        entries = new IdentityHashMap<>(filters.length);
+        for (final WhereFilter filter : filters) {
+            entries.put(filter, new Entry());
+        }
+    }
+
+    /**
+     * @param filter the filter
+     * @return the statistics for {@code filter}, or null if {@code filter} does not belong to this where()
+     */
+    Entry get(@NotNull final WhereFilter filter) {
+        return entries.get(filter);
+    }
+
+    static final class Entry {
+        private long inputRows;
+        private long outputRows;
+        private long nanos;
+
+        /**
+         * Record one evaluation of the filter.
+         *
+         * @param input the number of rows the filter was evaluated against
+         * @param output the number of rows that passed the filter
+         * @param elapsedNanos the time spent evaluating the filter
+         */
+        synchronized void record(final long input, final long output, final long elapsedNanos) {
+            if (input <= 0) {
+                return;
+            }
+            inputRows += input;
+            outputRows += output;
+            nanos += elapsedNanos;
+            if (inputRows > HISTORY_ROWS) {
+                inputRows >>= 1;
+                outputRows >>= 1;
+                nanos >>= 1;
+            }
+        }
+
+        synchronized boolean hasObservations() {
+            return inputRows > 0;
+        }
+
+        /**
+         * @return the expected nanoseconds spent per row eliminated by this filter, lower is better; only meaningful
+         *         if {@link #hasObservations()}
+         */
+        synchronized double rank() {
+            final double costPerRow = (double) nanos / inputRows;
+            final double eliminated = 1.0 - (double) outputRows / inputRows;
+            return costPerRow / Math.max(eliminated, MINIMUM_ELIMINATED_FRACTION);
+        }
+    }
+}
@@ -45,6 +45,7 @@ class WhereListener extends MergedListener {
     private final QueryTable.FilteredTable result;
     private final WritableRowSet currentMapping;
     private final WhereFilter[] filters;
+    private final WhereFilterStatistics filterStatistics;
     private final ModifiedColumnSet filterColumns;
     private final ListenerRecorder recorder;
     private final boolean permitParallelization;
@@ -61,7 +62,8 @@ class WhereListener extends MergedListener {
             final QueryTable sourceTable,
             final ListenerRecorder recorder,
             final QueryTable.FilteredTable result,
-            final WhereFilter[] filters) {
+            final WhereFilter[] filters,
+            final WhereFilterStatistics filterStatistics) {
         super(recorder == null ? Collections.emptyList() : Collections.singleton(recorder),
                 extractDependencies(filters),
                 "where(" + Arrays.toString(filters) + ")", result);
@@ -70,6 +72,7 @@ class WhereListener extends MergedListener {
         this.result = result;
         this.currentMapping = result.getRowSet().writableCast();
         this.filters = filters;
+        this.filterStatistics = filterStatistics;
 
         boolean hasColumnArray = false;
         final Set<String> filterColumnNames = new TreeSet<>();
@@ -258,7 +261,7 @@ class WhereListener extends MergedListener {
                 final boolean runModifiedFilters,
                 final ModifiedColumnSet sourceModColumns) {
             super(WhereListener.this.sourceTable, WhereListener.this.filters, addedInput, modifiedInput,
-                    false, runModifiedFilters, sourceModColumns);
+                    false, runModifiedFilters, sourceModColumns, filterStatistics);
             // Create the proper JobScheduler for the following parallel tasks
             if (permitParallelization) {
                 jobScheduler = new UpdateGraphJobScheduler(getUpdateGraph());
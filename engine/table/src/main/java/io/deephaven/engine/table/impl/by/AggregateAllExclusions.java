@@ -44,6 +44,11 @@ public final class AggregateAllExclusions implements Visitor {
         out = Collections.emptySet();
     }
 
+    @Override
+    public void visit(AggSpecApproximateCountDistinct approxCountDistinct) {
+        out = Collections.emptySet();
+    }
+
     @Override
     public void visit(AggSpecApproximatePercentile approxPct) {
         out = Collections.emptySet();
@@ -84,6 +89,11 @@ public final class AggregateAllExclusions implements Visitor {
         out = Collections.emptySet();
     }
 
+    @Override
+    public void visit(AggSpecKllPercentile kllPct) {
+        out = Collections.emptySet();
+    }
+
     @Override
     public void visit(AggSpecLast last) {
         out = Collections.emptySet();
@@ -7,6 +7,7 @@ import io.deephaven.api.*;
 import io.deephaven.api.agg.*;
 import io.deephaven.api.agg.spec.AggSpec;
 import io.deephaven.api.agg.spec.AggSpecAbsSum;
+import io.deephaven.api.agg.spec.AggSpecApproximateCountDistinct;
 import io.deephaven.api.agg.spec.AggSpecApproximatePercentile;
 import io.deephaven.api.agg.spec.AggSpecAvg;
 import io.deephaven.api.agg.spec.AggSpecCountDistinct;
@@ -15,6 +16,7 @@ import io.deephaven.api.agg.spec.AggSpecFirst;
 import io.deephaven.api.agg.spec.AggSpecFormula;
 import io.deephaven.api.agg.spec.AggSpecFreeze;
 import io.deephaven.api.agg.spec.AggSpecGroup;
+import io.deephaven.api.agg.spec.AggSpecKllPercentile;
 import io.deephaven.api.agg.spec.AggSpecLast;
 import io.deephaven.api.agg.spec.AggSpecMax;
 import io.deephaven.api.agg.spec.AggSpecMedian;
@@ -41,6 +43,12 @@ import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.impl.by.rollup.NullColumns;
 import io.deephaven.engine.table.impl.by.rollup.RollupAggregation;
 import io.deephaven.engine.table.impl.by.rollup.RollupAggregationOutputs;
+import io.deephaven.engine.table.impl.by.sketch.HyperLogLogCountDistinctOperator;
+import io.deephaven.engine.table.impl.by.sketch.HyperLogLogRollupCountDistinctOperator;
+import io.deephaven.engine.table.impl.by.sketch.HyperLogLogSketch;
+import io.deephaven.engine.table.impl.by.sketch.KllDoublesSketch;
+import io.deephaven.engine.table.impl.by.sketch.KllPercentileOperator;
+import io.deephaven.engine.table.impl.by.sketch.KllRollupPercentileOperator;
 import io.deephaven.engine.table.impl.by.ssmcountdistinct.count.ByteChunkedCountDistinctOperator;
 import io.deephaven.engine.table.impl.by.ssmcountdistinct.count.ByteRollupCountDistinctOperator;
 import io.deephaven.engine.table.impl.by.ssmcountdistinct.count.CharChunkedCountDistinctOperator;
@@ -849,6 +857,12 @@ public class AggregationProcessor implements AggregationContextFactory {
             addBasicOperators((t, n) -> makeSumOperator(t, n, true));
         }
 
+        @Override
+        public void visit(@NotNull final AggSpecApproximateCountDistinct approxCountDistinct) {
+            addBasicOperators((t, n) -> new HyperLogLogCountDistinctOperator(t,
+                    approxCountDistinct.precision().orElse(HyperLogLogSketch.DEFAULT_PRECISION), n, false));
+        }
+
         @Override
         public void visit(@NotNull final AggSpecApproximatePercentile approxPct) {
             addApproximatePercentileOperators(approxPct.percentile(),
@@ -898,6 +912,12 @@ public class AggregationProcessor implements AggregationContextFactory {
             addNoInputOperator(new GroupByChunkedOperator(table, true, null, MatchPair.fromPairs(resultPairs)));
         }
 
+        @Override
+        public void visit(@NotNull final AggSpecKllPercentile kllPct) {
+            addBasicOperators((t, n) -> new KllPercentileOperator(t,
+                    kllPct.k().orElse(KllDoublesSketch.DEFAULT_K), kllPct.percentile(), n, false));
+        }
+
         @Override
         public void visit(@NotNull final AggSpecLast last) {
             addFirstOrLastOperators(false, null);
@@ -1117,6 +1137,12 @@ public class AggregationProcessor implements AggregationContextFactory {
             addBasicOperators((t, n) -> makeSumOperator(t, n, true));
         }
 
+        @Override
+        public void visit(@NotNull final AggSpecApproximateCountDistinct approxCountDistinct) {
+            addBasicOperators((t, n) -> new HyperLogLogCountDistinctOperator(t,
+                    approxCountDistinct.precision().orElse(HyperLogLogSketch.DEFAULT_PRECISION), n, true));
+        }
+
         @Override
         public void visit(@NotNull final AggSpecAvg avg) {
             addBasicOperators((t, n) -> makeAvgOperator(t, n, true));
@@ -1137,6 +1163,12 @@ public class AggregationProcessor implements AggregationContextFactory {
             addFirstOrLastOperators(true, makeRedirectionName(nextColumnIdentifier++));
         }
 
+        @Override
+        public void visit(@NotNull final AggSpecKllPercentile kllPct) {
+            addBasicOperators((t, n) -> new KllPercentileOperator(t,
+                    kllPct.k().orElse(KllDoublesSketch.DEFAULT_K), kllPct.percentile(), n, true));
+        }
+
         @Override
         public void visit(@NotNull final AggSpecLast last) {
             addFirstOrLastOperators(false, makeRedirectionName(nextColumnIdentifier++));
@@ -1208,6 +1240,13 @@ public class AggregationProcessor implements AggregationContextFactory {
                 @NotNull String resultName);
     }
 
+    @FunctionalInterface
+    private interface SketchBackedOperatorFactory<SKETCH_TYPE> {
+        IterativeChunkedAggregationOperator apply(
+                @NotNull ColumnSource<SKETCH_TYPE> sketchSource,
+                @NotNull String resultName);
+    }
+
     /**
      * Implementation class for conversion from a collection of {@link Aggregation aggregations} to an
      * {@link AggregationContext} for rollup reaggregated (not base level) aggregations.
@@ -1274,6 +1313,13 @@ public class AggregationProcessor implements AggregationContextFactory {
             reaggregateAsSum();
         }
 
+        @Override
+        public void visit(@NotNull final AggSpecApproximateCountDistinct approxCountDistinct) {
+            final int precision = approxCountDistinct.precision().orElse(HyperLogLogSketch.DEFAULT_PRECISION);
+            reaggregateSketchBackedOperator(HyperLogLogSketch.class,
+                    (sketchSrc, n) -> new HyperLogLogRollupCountDistinctOperator(sketchSrc, precision, n));
+        }
+
         @Override
         public void visit(@NotNull final AggSpecAvg avg) {
             reaggregateAvgOperator();
@@ -1296,6 +1342,13 @@ public class AggregationProcessor implements AggregationContextFactory {
             reaggregateFirstOrLastOperator(true);
         }
 
+        @Override
+        public void visit(@NotNull final AggSpecKllPercentile kllPct) {
+            final int k = kllPct.k().orElse(KllDoublesSketch.DEFAULT_K);
+            reaggregateSketchBackedOperator(KllDoublesSketch.class,
+                    (sketchSrc, n) -> new KllRollupPercentileOperator(sketchSrc, k, kllPct.percentile(), n));
+        }
+
         @Override
         public void visit(@NotNull final AggSpecLast last) {
             reaggregateFirstOrLastOperator(false);
@@ -1375,6 +1428,19 @@ public class AggregationProcessor implements AggregationContextFactory {
             }
         }
 
+        private <SKETCH_TYPE> void reaggregateSketchBackedOperator(
+                @NotNull final Class<SKETCH_TYPE> sketchType,
+                @NotNull final SketchBackedOperatorFactory<SKETCH_TYPE> operatorFactory) {
+            for (final Pair pair : resultPairs) {
+                final String resultName = pair.output().name();
+                final String sketchName = resultName + ROLLUP_SKETCH_COLUMN_ID + ROLLUP_COLUMN_SUFFIX;
+                final ColumnSource<SKETCH_TYPE> sketchSource = table.getColumnSource(sketchName, sketchType);
+                final IterativeChunkedAggregationOperator operator = operatorFactory.apply(sketchSource, resultName);
+
+                addOperator(operator, sketchSource, sketchName);
+            }
+        }
+
         private void reaggregateFirstOrLastOperator(final boolean isFirst) {
             final ColumnName redirectionColumnName = ColumnName.of(makeRedirectionName(nextColumnIdentifier++));
             resultPairs = Stream.concat(
@@ -28,9 +28,11 @@ import io.deephaven.engine.table.impl.sort.permute.LongPermuteKernel;
 import io.deephaven.engine.table.impl.sort.permute.PermuteKernel;
 import io.deephaven.engine.table.impl.sort.timsort.IntIntTimsortKernel;
 import io.deephaven.engine.table.impl.sources.ArrayBackedColumnSource;
+import io.deephaven.engine.table.impl.sources.Prefetchable;
 import io.deephaven.engine.table.impl.sources.ReinterpretUtils;
 import io.deephaven.engine.table.impl.sources.regioned.SymbolTableSource;
 import io.deephaven.engine.table.impl.util.ChunkUtils;
+import io.deephaven.engine.table.impl.util.MemoryAccounting;
 import io.deephaven.engine.table.impl.util.UpdateSizeCalculator;
 import io.deephaven.engine.table.iterators.ChunkedColumnIterator;
 import io.deephaven.util.SafeCloseable;
@@ -251,6 +253,7 @@ public class ChunkedOperatorAggregationHelper {
             final IncrementalOperatorAggregationStateManager incrementalStateManager =
                     (IncrementalOperatorAggregationStateManager) stateManager;
             incrementalStateManager.startTrackingPrevValues();
+            MemoryAccounting.registerOperationState(result, incrementalStateManager::estimateRetainedBytes);
 
             final boolean isBlink = input.isBlink();
             final TableUpdateListener listener = new BaseTable.ListenerImpl(
@@ -1831,6 +1834,17 @@ public class ChunkedOperatorAggregationHelper {
         return stateManager;
     }
 
+    /**
+     * @return the key and input sources of an initial aggregation that may be {@link Prefetchable prefetched}, or null
+     *         if there are none
+     */
+    private static Object[] prefetchSources(ColumnSource<?>[] keySources, ChunkSource<?>[] inputColumns) {
+        final Object[] sources = new Object[keySources.length + inputColumns.length];
+        System.arraycopy(keySources, 0, sources, 0, keySources.length);
+        System.arraycopy(inputColumns, 0, sources, keySources.length, inputColumns.length);
+        return Prefetchable.anyPrefetchable(sources) ? sources : null;
+    }
+
     private static void initialBucketedKeyAddition(QueryTable input,
             ColumnSource<?>[] reinterpretedKeySources,
             AggregationContext ac,
@@ -1889,8 +1903,14 @@ public class ChunkedOperatorAggregationHelper {
             }
             ac.initializeBucketedContexts(bucketedContexts, chunkSize);
 
+            final Object[] prefetchSources = usePrev ? null : prefetchSources(buildSources, ac.inputColumns);
+            long position = 0;
             while (rsIt.hasMore()) {
                 final RowSequence chunkOk = rsIt.getNextRowSequenceWithLength(chunkSize);
+                position += chunkOk.size();
+                if (prefetchSources != null) {
+                    Prefetchable.prefetchNext(rowSet, position, chunkSize, prefetchSources);
+                }
                 sharedContext.reset();
 
                 stateManager.add(bc, chunkOk, buildSources, outputPosition, outputPositions);
@@ -18,6 +18,7 @@ import io.deephaven.engine.table.impl.sources.IntegerArraySource;
 import io.deephaven.engine.table.impl.sources.RedirectedColumnSource;
 import io.deephaven.engine.table.impl.sources.immutable.ImmutableIntArraySource;
 import io.deephaven.engine.table.impl.util.IntColumnSourceWritableRowRedirection;
+import io.deephaven.engine.table.impl.util.MemoryAccounting;
 import io.deephaven.engine.table.impl.util.RowRedirection;
 import io.deephaven.engine.table.impl.util.TypedHasherUtil;
 import io.deephaven.engine.table.impl.util.TypedHasherUtil.BuildOrProbeContext;
@@ -124,6 +125,14 @@ public abstract class IncrementalChunkedOperatorAggregationStateManagerOpenAddre
         return Math.toIntExact(MAX_TABLE_SIZE);
     }
 
+    @Override
+    public long estimateRetainedBytes() {
+        return MemoryAccounting.estimateRetainedBytes(mainKeySources)
+                + MemoryAccounting.estimateRetainedBytes(alternateKeySources)
+                + MemoryAccounting.estimateRetainedBytes(mainOutputPosition, alternateOutputPosition,
+                        outputPositionToHashSlot);
+    }
+
     protected abstract void build(RowSequence rowSequence, Chunk<Values>[] sourceKeyChunks);
 
     public static class BuildContext extends BuildOrProbeContext {
@@ -29,4 +29,13 @@ public interface IncrementalOperatorAggregationStateManager extends OperatorAggr
 
     void findModifications(SafeCloseable pc, RowSequence rowSequence, ColumnSource<?>[] sources,
             WritableIntChunk<RowKeys> outputPositions);
+
+    /**
+     * Estimate the heap bytes retained by this state manager's hash table, including its key sources and the per-slot
+     * state used to map between hash slots and output positions. The result of a refreshing aggregation copies its key
+     * columns, so none of this is reachable from the result's columns.
+     *
+     * @return An estimate of the retained bytes
+     */
+    long estimateRetainedBytes();
 }
@@ -26,6 +26,12 @@ public final class RollupConstants {
      */
     public static final String ROLLUP_DISTINCT_SSM_COLUMN_ID = "_SSM_";
 
+    /**
+     * Middle column name component (between source column name and {@link #ROLLUP_COLUMN_SUFFIX suffix}) for sketch
+     * columns used in "approximate count distinct" and "KLL percentile" rollup aggregations.
+     */
+    public static final String ROLLUP_SKETCH_COLUMN_ID = "_SKETCH_";
+
     /**
      * Middle column name component (between source column name and {@link #ROLLUP_COLUMN_SUFFIX suffix}) for running
      * sum columns used in rollup aggregations.
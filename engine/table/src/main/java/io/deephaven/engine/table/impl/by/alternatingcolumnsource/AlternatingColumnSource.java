@@ -56,6 +56,14 @@ public class AlternatingColumnSource<DATA_TYPE> extends AbstractColumnSource<DAT
         sourceHolderListeners.forEachValidReference(x -> x.accept(mainSource, alternateSource));
     }
 
+    @Override
+    public long estimateRetainedBytes() {
+        final ColumnSource<DATA_TYPE> localMainSource = mainSource;
+        final ColumnSource<DATA_TYPE> localAlternateSource = alternateSource;
+        return (localMainSource == null ? 0 : localMainSource.estimateRetainedBytes())
+                + (localAlternateSource == null ? 0 : localAlternateSource.estimateRetainedBytes());
+    }
+
     @Override
     public final FillContext makeFillContext(final int chunkCapacity, final SharedContext sharedContext) {
         return new AlternatingFillContextWithUnordered(mainSource, alternateSource,
@@ -0,0 +1,311 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.by.sketch;
+
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.IntChunk;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.ObjectChunk;
+import io.deephaven.chunk.WritableBooleanChunk;
+import io.deephaven.chunk.attributes.ChunkLengths;
+import io.deephaven.chunk.attributes.ChunkPositions;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetBuilderRandom;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.WritableRowSet;
+import io.deephaven.engine.rowset.chunkattributes.RowKeys;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.TableUpdate;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.by.IterativeChunkedAggregationOperator;
+import io.deephaven.engine.table.impl.by.RollupConstants;
+import io.deephaven.engine.table.impl.sources.ObjectArraySource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Base class for rollup re-aggregation of sketch-backed operators. The input is the sketch column exposed by the level
+ * below; each destination's sketch is the merge of the sketches of its constituent rows.
+ *
+ * <p>
+ * Added constituents are merged directly. Since a sketch can not "un-merge" a constituent, removed constituents and
+ * (for sketches whose merge is not idempotent) modified constituents cause the destination sketch to be rebuilt from
+ * the current sketches of all of its constituents, which are tracked per destination.
+ */
+abstract class BaseSketchRollupOperator<SKETCH_TYPE> implements IterativeChunkedAggregationOperator {
+
+    private final String resultName;
+    private final ColumnSource<SKETCH_TYPE> constituentSketches;
+    private final ObjectArraySource<SKETCH_TYPE> sketches;
+    private final ObjectArraySource<WritableRowSet> constituents;
+
+    private RowSetBuilderRandom rebuildBuilder;
+    private long firstNewDestination;
+    private boolean modifiedThisStep;
+
+    BaseSketchRollupOperator(
+            @NotNull final Class<SKETCH_TYPE> sketchType,
+            @NotNull final ColumnSource<SKETCH_TYPE> constituentSketches,
+            @NotNull final String resultName) {
+        this.resultName = resultName;
+        this.constituentSketches = constituentSketches;
+        sketches = new ObjectArraySource<>(sketchType);
+        constituents = new ObjectArraySource<>(WritableRowSet.class);
+    }
+
+    /**
+     * @return A new, empty sketch
+     */
+    abstract SKETCH_TYPE makeSketch();
+
+    /**
+     * Merge {@code from} into {@code into}.
+     */
+    abstract void mergeSketch(@NotNull SKETCH_TYPE into, @NotNull SKETCH_TYPE from);
+
+    /**
+     * Reset {@code sketch} to the empty state.
+     */
+    abstract void clearSketch(@NotNull SKETCH_TYPE sketch);
+
+    /**
+     * @return Whether merging a sketch that has only grown since it was last merged is safe, allowing modified
+     *         constituents to be merged again rather than triggering a rebuild
+     */
+    abstract boolean isMergeIdempotent();
+
+    /**
+     * Update the result column(s) for {@code destination} from its sketch.
+     */
+    abstract void updateResult(long destination, @Nullable SKETCH_TYPE sketch);
+
+    abstract ColumnSource<?> getResultColumn();
+
+    abstract void ensureResultCapacity(long tableSize);
+
+    @Override
+    public void addChunk(BucketedContext bucketedContext, Chunk<? extends Values> values,
+            LongChunk<? extends RowKeys> inputRowKeys, IntChunk<RowKeys> destinations,
+            IntChunk<ChunkPositions> startPositions, IntChunk<ChunkLengths> length,
+            WritableBooleanChunk<Values> stateModified) {
+        final ObjectChunk<SKETCH_TYPE, ? extends Values> sketchValues = values.asObjectChunk();
+        for (int ii = 0; ii < startPositions.size(); ++ii) {
+            final int runLength = length.get(ii);
+            if (runLength == 0) {
+                continue;
+            }
+            final int startPosition = startPositions.get(ii);
+            final long destination = destinations.get(startPosition);
+            stateModified.set(ii, addConstituents(destination, sketchValues, inputRowKeys, startPosition, runLength));
+        }
+    }
+
+    @Override
+    public void removeChunk(BucketedContext bucketedContext, Chunk<? extends Values> values,
+            LongChunk<? extends RowKeys> inputRowKeys, IntChunk<RowKeys> destinations,
+            IntChunk<ChunkPositions> startPositions, IntChunk<ChunkLengths> length,
+            WritableBooleanChunk<Values> stateModified) {
+        for (int ii = 0; ii < startPositions.size(); ++ii) {
+            final int runLength = length.get(ii);
+            if (runLength == 0) {
+                continue;
+            }
+            final int startPosition = startPositions.get(ii);
+            final long destination = destinations.get(startPosition);
+            stateModified.set(ii, removeConstituents(destination, inputRowKeys, startPosition, runLength));
+        }
+    }
+
+    @Override
+    public void modifyChunk(BucketedContext bucketedContext, Chunk<? extends Values> preValues,
+            Chunk<? extends Values> postValues, LongChunk<? extends RowKeys> postShiftRowKeys,
+            IntChunk<RowKeys> destinations, IntChunk<ChunkPositions> startPositions, IntChunk<ChunkLengths> length,
+            WritableBooleanChunk<Values> stateModified) {
+        final ObjectChunk<SKETCH_TYPE, ? extends Values> sketchValues = postValues.asObjectChunk();
+        for (int ii = 0; ii < startPositions.size(); ++ii) {
+            final int runLength = length.get(ii);
+            if (runLength == 0) {
+                continue;
+            }
+            final int startPosition = startPositions.get(ii);
+            final long destination = destinations.get(startPosition);
+            stateModified.set(ii, modifyConstituents(destination, sketchValues, startPosition, runLength));
+        }
+    }
+
+    @Override
+    public boolean addChunk(SingletonContext singletonContext, int chunkSize, Chunk<? extends Values> values,
+            LongChunk<? extends RowKeys> inputRowKeys, long destination) {
+        return addConstituents(destination, values.asObjectChunk(), inputRowKeys, 0, values.size());
+    }
+
+    @Override
+    public boolean removeChunk(SingletonContext singletonContext, int chunkSize, Chunk<? extends Values> values,
+            LongChunk<? extends RowKeys> inputRowKeys, long destination) {
+        return removeConstituents(destination, inputRowKeys, 0, inputRowKeys.size());
+    }
+
+    @Override
+    public boolean modifyChunk(SingletonContext context, int chunkSize, Chunk<? extends Values> previousValues,
+            Chunk<? extends Values> newValues, LongChunk<? extends RowKeys> postShiftRowKeys, long destination) {
+        return modifyConstituents(destination, newValues.asObjectChunk(), 0, newValues.size());
+    }
+
+    @Override
+    public boolean requiresRowKeys() {
+        // Constituent row keys are tracked per destination in order to rebuild sketches; rollup inputs never shift
+        return true;
+    }
+
+    private boolean addConstituents(
+            final long destination,
+            @NotNull final ObjectChunk<SKETCH_TYPE, ? extends Values> sketchValues,
+            @NotNull final LongChunk<? extends RowKeys> rowKeys,
+            final int start,
+            final int length) {
+        final SKETCH_TYPE sketch = sketchForSlot(destination);
+        final WritableRowSet destinationConstituents = constituentsForSlot(destination);
+        for (int ii = start; ii < start + length; ++ii) {
+            destinationConstituents.insert(rowKeys.get(ii));
+            final SKETCH_TYPE constituentSketch = sketchValues.get(ii);
+            if (constituentSketch != null) {
+                mergeSketch(sketch, constituentSketch);
+            }
+        }
+        if (destination < firstNewDestination) {
+            modifiedThisStep = true;
+        }
+        return true;
+    }
+
+    private boolean removeConstituents(
+            final long destination,
+            @NotNull final LongChunk<? extends RowKeys> rowKeys,
+            final int start,
+            final int length) {
+        final WritableRowSet destinationConstituents = constituentsForSlot(destination);
+        for (int ii = start; ii < start + length; ++ii) {
+            destinationConstituents.remove(rowKeys.get(ii));
+        }
+        markForRebuild(destination);
+        return true;
+    }
+
+    private boolean modifyConstituents(
+            final long destination,
+            @NotNull final ObjectChunk<SKETCH_TYPE, ? extends Values> sketchValues,
+            final int start,
+            final int length) {
+        if (isMergeIdempotent()) {
+            final SKETCH_TYPE sketch = sketchForSlot(destination);
+            for (int ii = start; ii < start + length; ++ii) {
+                final SKETCH_TYPE constituentSketch = sketchValues.get(ii);
+                if (constituentSketch != null) {
+                    mergeSketch(sketch, constituentSketch);
+                }
+            }
+            modifiedThisStep = true;
+        } else {
+            markForRebuild(destination);
+        }
+        return true;
+    }
+
+    private void markForRebuild(final long destination) {
+        if (rebuildBuilder == null) {
+            rebuildBuilder = RowSetFactory.builderRandom();
+        }
+        rebuildBuilder.addKey(destination);
+        modifiedThisStep = true;
+    }
+
+    private void rebuild(final long destination) {
+        final WritableRowSet destinationConstituents = constituents.getUnsafe(destination);
+        if (destinationConstituents == null || destinationConstituents.isEmpty()) {
+            return;
+        }
+        final SKETCH_TYPE sketch = sketchForSlot(destination);
+        clearSketch(sketch);
+        destinationConstituents.forAllRowKeys(constituentKey -> {
+            final SKETCH_TYPE constituentSketch = constituentSketches.get(constituentKey);
+            if (constituentSketch != null) {
+                mergeSketch(sketch, constituentSketch);
+            }
+        });
+    }
+
+    @Override
+    public void propagateInitialState(@NotNull final QueryTable resultTable, int startingDestinationsCount) {
+        firstNewDestination = resultTable.getRowSet().lastRowKey() + 1;
+        resultTable.getRowSet().forAllRowKeys(this::updateDestination);
+    }
+
+    @Override
+    public void resetForStep(@NotNull final TableUpdate upstream, final int startingDestinationsCount) {
+        modifiedThisStep = false;
+    }
+
+    @Override
+    public void propagateUpdates(@NotNull final TableUpdate downstream, @NotNull final RowSet newDestinations) {
+        firstNewDestination = newDestinations.lastRowKey() + 1;
+        if (rebuildBuilder != null) {
+            try (final RowSet toRebuild = rebuildBuilder.build()) {
+                toRebuild.forAllRowKeys(this::rebuild);
+            }
+            rebuildBuilder = null;
+        }
+        downstream.removed().forAllRowKeys(destination -> {
+            final WritableRowSet destinationConstituents = constituents.getUnsafe(destination);
+            if (destinationConstituents != null) {
+                destinationConstituents.close();
+                constituents.set(destination, null);
+            }
+            sketches.set(destination, null);
+        });
+        downstream.added().forAllRowKeys(this::updateDestination);
+        if (modifiedThisStep) {
+            downstream.modified().forAllRowKeys(this::updateDestination);
+        }
+    }
+
+    private void updateDestination(final long destination) {
+        updateResult(destination, sketches.getUnsafe(destination));
+    }
+
+    private SKETCH_TYPE sketchForSlot(final long slot) {
+        SKETCH_TYPE sketch = sketches.getUnsafe(slot);
+        if (sketch == null) {
+            sketches.set(slot, sketch = makeSketch());
+        }
+        return sketch;
+    }
+
+    private WritableRowSet constituentsForSlot(final long slot) {
+        WritableRowSet rowSet = constituents.getUnsafe(slot);
+        if (rowSet == null) {
+            constituents.set(slot, rowSet = RowSetFactory.empty());
+        }
+        return rowSet;
+    }
+
+    @Override
+    public void ensureCapacity(long tableSize) {
+        ensureResultCapacity(tableSize);
+        sketches.ensureCapacity(tableSize);
+        constituents.ensureCapacity(tableSize);
+    }
+
+    @Override
+    public Map<String, ? extends ColumnSource<?>> getResultColumns() {
+        final Map<String, ColumnSource<?>> results = new LinkedHashMap<>(2);
+        results.put(resultName, getResultColumn());
+        results.put(resultName + RollupConstants.ROLLUP_SKETCH_COLUMN_ID + RollupConstants.ROLLUP_COLUMN_SUFFIX,
+                sketches);
+        return results;
+    }
+}
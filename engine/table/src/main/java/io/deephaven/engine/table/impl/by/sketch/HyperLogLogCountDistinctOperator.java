@@ -0,0 +1,289 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.by.sketch;
+
+import io.deephaven.chunk.*;
+import io.deephaven.chunk.attributes.ChunkLengths;
+import io.deephaven.chunk.attributes.ChunkPositions;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.chunkattributes.RowKeys;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.TableUpdate;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.by.IterativeChunkedAggregationOperator;
+import io.deephaven.engine.table.impl.by.RollupConstants;
+import io.deephaven.engine.table.impl.sources.LongArraySource;
+import io.deephaven.engine.table.impl.sources.ObjectArraySource;
+import io.deephaven.util.QueryConstants;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Iterative approximate count distinct operator, backed by a {@link HyperLogLogSketch} per destination. Only supports
+ * additions, as is the case for static, add-only, and blink tables.
+ */
+public class HyperLogLogCountDistinctOperator implements IterativeChunkedAggregationOperator {
+
+    private final ChunkType chunkType;
+    private final int precision;
+    private final String resultName;
+    private final boolean exposeSketch;
+
+    private final ObjectArraySource<HyperLogLogSketch> sketches;
+    private final LongArraySource resultColumn;
+
+    private long firstNewDestination;
+    private boolean modifiedThisStep;
+
+    /**
+     * Construct an approximate count distinct operator.
+     *
+     * @param type The type of the input column; {@link Instant} inputs must be reinterpreted as {@code long}
+     * @param precision The {@link HyperLogLogSketch#precision() precision} of each sketch
+     * @param resultName The name of the result column
+     * @param exposeSketch Whether the sketch column should be exposed for rollup re-aggregation
+     */
+    public HyperLogLogCountDistinctOperator(
+            @NotNull final Class<?> type,
+            final int precision,
+            @NotNull final String resultName,
+            final boolean exposeSketch) {
+        this.chunkType = type == Instant.class ? ChunkType.Long : ChunkType.fromElementType(type);
+        this.precision = precision;
+        this.resultName = resultName;
+        this.exposeSketch = exposeSketch;
+        sketches = new ObjectArraySource<>(HyperLogLogSketch.class);
+        resultColumn = new LongArraySource();
+    }
+
+    private static UnsupportedOperationException modificationUnsupported() {
+        return new UnsupportedOperationException("Approximate count distinct does not support data modification");
+    }
+
+    private static UnsupportedOperationException removalUnsupported() {
+        return new UnsupportedOperationException("Approximate count distinct does not support data removal");
+    }
+
+    @Override
+    public void addChunk(BucketedContext bucketedContext, Chunk<? extends Values> values,
+            LongChunk<? extends RowKeys> inputRowKeys, IntChunk<RowKeys> destinations,
+            IntChunk<ChunkPositions> startPositions, IntChunk<ChunkLengths> length,
+            WritableBooleanChunk<Values> stateModified) {
+        for (int ii = 0; ii < startPositions.size(); ++ii) {
+            final int runLength = length.get(ii);
+            if (runLength == 0) {
+                continue;
+            }
+            final int startPosition = startPositions.get(ii);
+            final long destination = destinations.get(startPosition);
+            if (addValues(destination, values, startPosition, runLength)) {
+                stateModified.set(ii, true);
+            }
+        }
+    }
+
+    @Override
+    public void removeChunk(BucketedContext bucketedContext, Chunk<? extends Values> values,
+            LongChunk<? extends RowKeys> inputRowKeys, IntChunk<RowKeys> destinations,
+            IntChunk<ChunkPositions> startPositions, IntChunk<ChunkLengths> length,
+            WritableBooleanChunk<Values> stateModified) {
+        throw removalUnsupported();
+    }
+
+    @Override
+    public void modifyChunk(BucketedContext bucketedContext, Chunk<? extends Values> preValues,
+            Chunk<? extends Values> postValues, LongChunk<? extends RowKeys> postShiftRowKeys,
+            IntChunk<RowKeys> destinations, IntChunk<ChunkPositions> startPositions, IntChunk<ChunkLengths> length,
+            WritableBooleanChunk<Values> stateModified) {
+        throw modificationUnsupported();
+    }
+
+    @Override
+    public boolean addChunk(SingletonContext singletonContext, int chunkSize, Chunk<? extends Values> values,
+            LongChunk<? extends RowKeys> inputRowKeys, long destination) {
+        return addValues(destination, values, 0, values.size());
+    }
+
+    @Override
+    public boolean removeChunk(SingletonContext singletonContext, int chunkSize, Chunk<? extends Values> values,
+            LongChunk<? extends RowKeys> inputRowKeys, long destination) {
+        throw removalUnsupported();
+    }
+
+    @Override
+    public boolean modifyChunk(SingletonContext context, int chunkSize, Chunk<? extends Values> previousValues,
+            Chunk<? extends Values> newValues, LongChunk<? extends RowKeys> postShiftRowKeys, long destination) {
+        throw modificationUnsupported();
+    }
+
+    /**
+     * Record the non-null values in {@code values[start, start + length)} into the sketch for {@code destination}.
+     *
+     * @return Whether any values were recorded
+     */
+    private boolean addValues(final long destination, @NotNull final Chunk<? extends Values> values,
+            final int start, final int length) {
+        final HyperLogLogSketch sketch = sketchForSlot(destination);
+        final int end = start + length;
+        int added = 0;
+        switch (chunkType) {
+            case Char: {
+                final CharChunk<? extends Values> typed = values.asCharChunk();
+                for (int ii = start; ii < end; ++ii) {
+                    final char value = typed.get(ii);
+                    if (value != QueryConstants.NULL_CHAR) {
+                        sketch.update(value);
+                        ++added;
+                    }
+                }
+                break;
+            }
+            case Byte: {
+                final ByteChunk<? extends Values> typed = values.asByteChunk();
+                for (int ii = start; ii < end; ++ii) {
+                    final byte value = typed.get(ii);
+                    if (value != QueryConstants.NULL_BYTE) {
+                        sketch.update(value);
+                        ++added;
+                    }
+                }
+                break;
+            }
+            case Short: {
+                final ShortChunk<? extends Values> typed = values.asShortChunk();
+                for (int ii = start; ii < end; ++ii) {
+                    final short value = typed.get(ii);
+                    if (value != QueryConstants.NULL_SHORT) {
+                        sketch.update(value);
+                        ++added;
+                    }
+                }
+                break;
+            }
+            case Int: {
+                final IntChunk<? extends Values> typed = values.asIntChunk();
+                for (int ii = start; ii < end; ++ii) {
+                    final int value = typed.get(ii);
+                    if (value != QueryConstants.NULL_INT) {
+                        sketch.update(value);
+                        ++added;
+                    }
+                }
+                break;
+            }
+            case Long: {
+                final LongChunk<? extends Values> typed = values.asLongChunk();
+                for (int ii = start; ii < end; ++ii) {
+                    final long value = typed.get(ii);
+                    if (value != QueryConstants.NULL_LONG) {
+                        sketch.update(value);
+                        ++added;
+                    }
+                }
+                break;
+            }
+            case Float: {
+                final FloatChunk<? extends Values> typed = values.asFloatChunk();
+                for (int ii = start; ii < end; ++ii) {
+                    final float value = typed.get(ii);
+                    if (value != QueryConstants.NULL_FLOAT && !Float.isNaN(value)) {
+                        sketch.update((double) value);
+                        ++added;
+                    }
+                }
+                break;
+            }
+            case Double: {
+                final DoubleChunk<? extends Values> typed = values.asDoubleChunk();
+                for (int ii = start; ii < end; ++ii) {
+                    final double value = typed.get(ii);
+                    if (value != QueryConstants.NULL_DOUBLE && !Double.isNaN(value)) {
+                        sketch.update(value);
+                        ++added;
+                    }
+                }
+                break;
+            }
+            case Object: {
+                final ObjectChunk<?, ? extends Values> typed = values.asObjectChunk();
+                for (int ii = start; ii < end; ++ii) {
+                    final Object value = typed.get(ii);
+                    if (value != null) {
+                        sketch.update(value);
+                        ++added;
+                    }
+                }
+                break;
+            }
+            default:
+                throw new IllegalStateException("Unexpected chunk type " + chunkType);
+        }
+        if (added == 0) {
+            return false;
+        }
+        if (destination < firstNewDestination) {
+            modifiedThisStep = true;
+        }
+        return true;
+    }
+
+    @Override
+    public void propagateInitialState(@NotNull final QueryTable resultTable, int startingDestinationsCount) {
+        firstNewDestination = resultTable.getRowSet().lastRowKey() + 1;
+        resultTable.getRowSet().forAllRowKeys(this::updateDestination);
+    }
+
+    @Override
+    public void resetForStep(@NotNull final TableUpdate upstream, final int startingDestinationsCount) {
+        modifiedThisStep = false;
+    }
+
+    @Override
+    public void propagateUpdates(@NotNull final TableUpdate downstream, @NotNull final RowSet newDestinations) {
+        firstNewDestination = newDestinations.lastRowKey() + 1;
+        downstream.added().forAllRowKeys(this::updateDestination);
+        if (modifiedThisStep) {
+            downstream.modified().forAllRowKeys(this::updateDestination);
+        }
+    }
+
+    private void updateDestination(final long destination) {
+        final HyperLogLogSketch sketch = sketches.getUnsafe(destination);
+        resultColumn.set(destination, sketch == null ? 0 : sketch.estimate());
+    }
+
+    private HyperLogLogSketch sketchForSlot(final long slot) {
+        HyperLogLogSketch sketch = sketches.getUnsafe(slot);
+        if (sketch == null) {
+            sketches.set(slot, sketch = new HyperLogLogSketch(precision));
+        }
+        return sketch;
+    }
+
+    @Override
+    public void ensureCapacity(long tableSize) {
+        resultColumn.ensureCapacity(tableSize);
+        sketches.ensureCapacity(tableSize);
+    }
+
+    @Override
+    public Map<String, ? extends ColumnSource<?>> getResultColumns() {
+        final Map<String, ColumnSource<?>> results = new LinkedHashMap<>(2);
+        results.put(resultName, resultColumn);
+        if (exposeSketch) {
+            results.put(resultName + RollupConstants.ROLLUP_SKETCH_COLUMN_ID + RollupConstants.ROLLUP_COLUMN_SUFFIX,
+                    sketches);
+        }
+        return results;
+    }
+
+    @Override
+    public void startTrackingPrevValues() {
+        resultColumn.startTrackingPrevValues();
+    }
+}
@@ -0,0 +1,67 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.by.sketch;
+
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.impl.sources.LongArraySource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Rollup re-aggregation for {@link HyperLogLogCountDistinctOperator}, merging the sketches of constituent rows.
+ */
+public class HyperLogLogRollupCountDistinctOperator extends BaseSketchRollupOperator<HyperLogLogSketch> {
+
+    private final int precision;
+    private final LongArraySource resultColumn;
+
+    public HyperLogLogRollupCountDistinctOperator(
+            @NotNull final ColumnSource<HyperLogLogSketch> constituentSketches,
+            final int precision,
+            @NotNull final String resultName) {
+        super(HyperLogLogSketch.class, constituentSketches, resultName);
+        this.precision = precision;
+        resultColumn = new LongArraySource();
+    }
+
+    @Override
+    HyperLogLogSketch makeSketch() {
+        return new HyperLogLogSketch(precision);
+    }
+
+    @Override
+    void mergeSketch(@NotNull final HyperLogLogSketch into, @NotNull final HyperLogLogSketch from) {
+        into.merge(from);
+    }
+
+    @Override
+    void clearSketch(@NotNull final HyperLogLogSketch sketch) {
+        sketch.clear();
+    }
+
+    @Override
+    boolean isMergeIdempotent() {
+        return true;
+    }
+
+    @Override
+    void updateResult(final long destination, @Nullable final HyperLogLogSketch sketch) {
+        resultColumn.set(destination, sketch == null ? 0 : sketch.estimate());
+    }
+
+    @Override
+    ColumnSource<?> getResultColumn() {
+        return resultColumn;
+    }
+
+    @Override
+    void ensureResultCapacity(final long tableSize) {
+        resultColumn.ensureCapacity(tableSize);
+    }
+
+    @Override
+    public void startTrackingPrevValues() {
+        resultColumn.startTrackingPrevValues();
+    }
+}
@@ -0,0 +1,179 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.by.sketch;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * A HyperLogLog cardinality sketch with {@code 2^precision} one-byte registers over 64-bit hashes.
+ *
+ * <p>
+ * Estimates use the improved estimator from Ertl, "New cardinality estimation algorithms for HyperLogLog sketches"
+ * (2017), which remains unbiased across the full cardinality range without the empirical bias-correction tables of
+ * HLL++. Sketches of equal precision may be {@link #merge(HyperLogLogSketch) merged}; merging is idempotent, so
+ * re-merging a sketch that has only grown since it was last merged is safe.
+ */
+public final class HyperLogLogSketch {
+
+    public static final int DEFAULT_PRECISION = 12;
+
+    private final int precision;
+    private final int q;
+    private final byte[] registers;
+
+    public HyperLogLogSketch(final int precision) {
+        if (precision < 4 || precision > 18) {
+            throw new IllegalArgumentException("HyperLogLog precision must be in range [4, 18], got " + precision);
+        }
+        this.precision = precision;
+        this.q = 64 - precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    public int precision() {
+        return precision;
+    }
+
+    /**
+     * Record a pre-hashed value. The hash must be well mixed across all 64 bits.
+     *
+     * @param hash The 64-bit hash of the value
+     */
+    public void updateHash(final long hash) {
+        final int index = (int) (hash >>> q);
+        // The remaining q bits are left-aligned; a zero word means q leading zeros, capped at q + 1
+        final int rank = Math.min(Long.numberOfLeadingZeros(hash << precision), q) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    public void update(final long value) {
+        updateHash(mix64(value));
+    }
+
+    public void update(final double value) {
+        // Collapse -0.0 onto 0.0 so that they count as a single value, as they compare equal
+        updateHash(mix64(Double.doubleToLongBits(value == 0.0 ? 0.0 : value)));
+    }
+
+    public void update(@NotNull final Object value) {
+        updateHash(hashObject(value));
+    }
+
+    /**
+     * Merge {@code other} into this sketch, which will then estimate the cardinality of the union of both inputs.
+     *
+     * @param other The sketch to merge; must have the same precision
+     */
+    public void merge(@NotNull final HyperLogLogSketch other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge HyperLogLog sketches with different precisions: "
+                    + precision + " != " + other.precision);
+        }
+        for (int ii = 0; ii < registers.length; ++ii) {
+            if (other.registers[ii] > registers[ii]) {
+                registers[ii] = other.registers[ii];
+            }
+        }
+    }
+
+    /**
+     * Reset this sketch to the empty state.
+     */
+    public void clear() {
+        Arrays.fill(registers, (byte) 0);
+    }
+
+    /**
+     * @return The estimated number of distinct values recorded by this sketch
+     */
+    public long estimate() {
+        final int m = registers.length;
+        final int[] histogram = new int[q + 2];
+        for (final byte register : registers) {
+            ++histogram[register];
+        }
+        if (histogram[0] == m) {
+            return 0;
+        }
+        double z = m * tau(1.0 - (double) histogram[q + 1] / m);
+        for (int kk = q; kk >= 1; --kk) {
+            z += histogram[kk];
+            z *= 0.5;
+        }
+        z += m * sigma((double) histogram[0] / m);
+        return Math.round(ALPHA_INFINITY * m * m / z);
+    }
+
+    private static final double ALPHA_INFINITY = 0.5 / Math.log(2);
+
+    private static double sigma(double x) {
+        if (x == 1.0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double y = 1.0;
+        double z = x;
+        double zPrev;
+        do {
+            x *= x;
+            zPrev = z;
+            z += x * y;
+            y += y;
+        } while (z != zPrev);
+        return z;
+    }
+
+    private static double tau(double x) {
+        if (x == 0.0 || x == 1.0) {
+            return 0.0;
+        }
+        double y = 1.0;
+        double z = 1.0 - x;
+        double zPrev;
+        do {
+            x = Math.sqrt(x);
+            zPrev = z;
+            y *= 0.5;
+            z -= (1.0 - x) * (1.0 - x) * y;
+        } while (z != zPrev);
+        return z / 3.0;
+    }
+
+    /**
+     * The finalization step of MurmurHash3's 64-bit variant; a bijective mix that spreads every input bit across the
+     * output word.
+     */
+    static long mix64(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private static long hashObject(@NotNull final Object value) {
+        if (value instanceof CharSequence) {
+            // Object.hashCode() only provides 32 bits, which saturates well before the cardinalities sketches are
+            // meant for; hash strings over their full contents instead.
+            final CharSequence cs = (CharSequence) value;
+            long hash = 0x9e3779b97f4a7c15L ^ cs.length();
+            for (int ii = 0; ii < cs.length(); ++ii) {
+                hash = (hash ^ cs.charAt(ii)) * 0x100000001b3L;
+            }
+            return mix64(hash);
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return mix64(((Number) value).longValue());
+        }
+        if (value instanceof Double || value instanceof Float) {
+            final double doubleValue = ((Number) value).doubleValue();
+            return mix64(Double.doubleToLongBits(doubleValue == 0.0 ? 0.0 : doubleValue));
+        }
+        return mix64(value.hashCode());
+    }
+}
@@ -0,0 +1,242 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.by.sketch;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * A KLL quantile sketch (Karnin, Lang, and Liberty, "Optimal Quantile Approximation in Streams", 2016) over
+ * {@code double} values.
+ *
+ * <p>
+ * Values are retained in a stack of compactors; an item at level {@code h} stands for {@code 2^h} input values. When a
+ * level exceeds its capacity it is sorted and every other item (starting from a randomly chosen offset) is promoted to
+ * the next level. Level capacities shrink geometrically by a factor of {@code 2/3} below the top level, so the sketch
+ * retains {@code O(k)} items regardless of the input size. Sketches with any {@code k} may be
+ * {@link #merge(KllDoublesSketch) merged}, but merging is not idempotent.
+ */
+public final class KllDoublesSketch {
+
+    public static final int DEFAULT_K = 200;
+
+    private static final double CAPACITY_DECAY = 2.0 / 3.0;
+    private static final int MIN_LEVEL_CAPACITY = 2;
+
+    private final int k;
+
+    private double[][] levels = new double[1][];
+    private int[] levelSizes = new int[1];
+    private int numLevels = 1;
+    private int totalCapacity;
+    private int retained;
+
+    private long n;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+
+    private long randomState = 0x9e3779b97f4a7c15L;
+
+    public KllDoublesSketch(final int k) {
+        if (k < 8) {
+            throw new IllegalArgumentException("KLL k must be greater than or equal to 8, got " + k);
+        }
+        this.k = k;
+        levels[0] = new double[levelCapacity(0)];
+        totalCapacity = levelCapacity(0);
+    }
+
+    public int k() {
+        return k;
+    }
+
+    /**
+     * @return The number of values recorded by this sketch, including those recorded by merged sketches
+     */
+    public long size() {
+        return n;
+    }
+
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    /**
+     * Record a value. {@code NaN} values must be filtered by the caller.
+     *
+     * @param value The value to record
+     */
+    public void update(final double value) {
+        if (n == 0) {
+            min = max = value;
+        } else {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        ++n;
+        append(0, value);
+        ++retained;
+        while (retained >= totalCapacity) {
+            compactOnce();
+        }
+    }
+
+    /**
+     * Merge {@code other} into this sketch, which will then summarize the union of both inputs.
+     *
+     * @param other The sketch to merge
+     */
+    public void merge(@NotNull final KllDoublesSketch other) {
+        if (other.n == 0) {
+            return;
+        }
+        if (n == 0) {
+            min = other.min;
+            max = other.max;
+        } else {
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+        }
+        n += other.n;
+        while (numLevels < other.numLevels) {
+            addLevel();
+        }
+        for (int hh = 0; hh < other.numLevels; ++hh) {
+            final double[] otherLevel = other.levels[hh];
+            for (int ii = 0; ii < other.levelSizes[hh]; ++ii) {
+                append(hh, otherLevel[ii]);
+            }
+            retained += other.levelSizes[hh];
+        }
+        while (retained >= totalCapacity) {
+            compactOnce();
+        }
+    }
+
+    /**
+     * Reset this sketch to the empty state.
+     */
+    public void clear() {
+        Arrays.fill(levelSizes, 0);
+        retained = 0;
+        n = 0;
+        min = max = Double.NaN;
+    }
+
+    /**
+     * Get the approximate value at the supplied percentile. The returned value is the item at zero-based rank
+     * {@code round(percentile * (size() - 1))} of the summarized input, so that results agree with exact percentiles
+     * while no compaction has taken place.
+     *
+     * @param percentile The percentile, in range [0.0, 1.0]
+     * @return The approximate value at {@code percentile}, or {@code NaN} if the sketch is empty
+     */
+    public double quantile(final double percentile) {
+        if (n == 0) {
+            return Double.NaN;
+        }
+        if (percentile <= 0.0) {
+            return min;
+        }
+        if (percentile >= 1.0) {
+            return max;
+        }
+        final long targetRank = Math.round(percentile * (n - 1));
+
+        // Walk all levels in sorted order, accumulating weights until the target rank is passed
+        final int[] cursors = new int[numLevels];
+        for (int hh = 0; hh < numLevels; ++hh) {
+            Arrays.sort(levels[hh], 0, levelSizes[hh]);
+        }
+        long cumulativeWeight = 0;
+        double lastValue = max;
+        while (true) {
+            int bestLevel = -1;
+            double bestValue = Double.POSITIVE_INFINITY;
+            for (int hh = 0; hh < numLevels; ++hh) {
+                if (cursors[hh] < levelSizes[hh]) {
+                    final double candidate = levels[hh][cursors[hh]];
+                    if (bestLevel == -1 || candidate < bestValue) {
+                        bestLevel = hh;
+                        bestValue = candidate;
+                    }
+                }
+            }
+            if (bestLevel == -1) {
+                return lastValue;
+            }
+            ++cursors[bestLevel];
+            cumulativeWeight += 1L << bestLevel;
+            lastValue = bestValue;
+            if (cumulativeWeight > targetRank) {
+                return bestValue;
+            }
+        }
+    }
+
+    private int levelCapacity(final int level) {
+        final int depth = numLevels - level - 1;
+        return Math.max(MIN_LEVEL_CAPACITY, (int) Math.ceil(k * Math.pow(CAPACITY_DECAY, depth)));
+    }
+
+    private void append(final int level, final double value) {
+        double[] buffer = levels[level];
+        if (levelSizes[level] == buffer.length) {
+            levels[level] = buffer = Arrays.copyOf(buffer, Math.max(MIN_LEVEL_CAPACITY, buffer.length * 2));
+        }
+        buffer[levelSizes[level]++] = value;
+    }
+
+    private void addLevel() {
+        if (numLevels == levels.length) {
+            levels = Arrays.copyOf(levels, numLevels * 2);
+            levelSizes = Arrays.copyOf(levelSizes, numLevels * 2);
+        }
+        ++numLevels;
+        levels[numLevels - 1] = new double[MIN_LEVEL_CAPACITY];
+        totalCapacity = 0;
+        for (int hh = 0; hh < numLevels; ++hh) {
+            totalCapacity += levelCapacity(hh);
+        }
+    }
+
+    /**
+     * Compact the lowest level that is at or over capacity into the level above it.
+     */
+    private void compactOnce() {
+        int level = 0;
+        while (levelSizes[level] < levelCapacity(level)) {
+            ++level;
+        }
+        if (level + 1 == numLevels) {
+            addLevel();
+        }
+
+        final double[] buffer = levels[level];
+        final int size = levelSizes[level];
+        Arrays.sort(buffer, 0, size);
+
+        // An odd item out stays behind at this level so that total weight is preserved exactly
+        final int pairedSize = size & ~1;
+        final int offset = nextRandomBit();
+        for (int ii = offset; ii < pairedSize; ii += 2) {
+            append(level + 1, buffer[ii]);
+        }
+        if (pairedSize != size) {
+            buffer[0] = buffer[size - 1];
+            levelSizes[level] = 1;
+        } else {
+            levelSizes[level] = 0;
+        }
+        retained -= pairedSize / 2;
+    }
+
+    private int nextRandomBit() {
+        randomState ^= randomState << 13;
+        randomState ^= randomState >>> 7;
+        randomState ^= randomState << 17;
+        return (int) (randomState >>> 63);
+    }
+}
@@ -0,0 +1,235 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.by.sketch;
+
+import io.deephaven.chunk.*;
+import io.deephaven.chunk.attributes.ChunkLengths;
+import io.deephaven.chunk.attributes.ChunkPositions;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.chunkattributes.RowKeys;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.TableUpdate;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.by.IterativeChunkedAggregationOperator;
+import io.deephaven.engine.table.impl.by.RollupConstants;
+import io.deephaven.engine.table.impl.sources.DoubleArraySource;
+import io.deephaven.engine.table.impl.sources.ObjectArraySource;
+import io.deephaven.engine.table.impl.util.cast.ToDoubleCast;
+import io.deephaven.util.QueryConstants;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Iterative approximate percentile operator, backed by a {@link KllDoublesSketch} per destination. Only supports
+ * additions, as is the case for static, add-only, and blink tables.
+ */
+public class KllPercentileOperator implements IterativeChunkedAggregationOperator {
+
+    private final ChunkType chunkType;
+    private final int k;
+    private final double percentile;
+    private final String resultName;
+    private final boolean exposeSketch;
+
+    private final ObjectArraySource<KllDoublesSketch> sketches;
+    private final DoubleArraySource resultColumn;
+
+    private long firstNewDestination;
+    private boolean modifiedThisStep;
+
+    /**
+     * Construct a KLL percentile operator.
+     *
+     * @param type The type of the input column; must be numeric
+     * @param k The {@link KllDoublesSketch#k() k} of each sketch
+     * @param percentile The percentile to output
+     * @param resultName The name of the result column
+     * @param exposeSketch Whether the sketch column should be exposed for rollup re-aggregation
+     */
+    public KllPercentileOperator(
+            @NotNull final Class<?> type,
+            final int k,
+            final double percentile,
+            @NotNull final String resultName,
+            final boolean exposeSketch) {
+        if (type == Instant.class) {
+            throw new UnsupportedOperationException("Instant is not supported for KLL percentiles.");
+        }
+        this.chunkType = ChunkType.fromElementType(type);
+        this.k = k;
+        this.percentile = percentile;
+        this.resultName = resultName;
+        this.exposeSketch = exposeSketch;
+        sketches = new ObjectArraySource<>(KllDoublesSketch.class);
+        resultColumn = new DoubleArraySource();
+    }
+
+    private static UnsupportedOperationException modificationUnsupported() {
+        return new UnsupportedOperationException("KLL percentiles do not support data modification");
+    }
+
+    private static UnsupportedOperationException removalUnsupported() {
+        return new UnsupportedOperationException("KLL percentiles do not support data removal");
+    }
+
+    @Override
+    public void addChunk(BucketedContext bucketedContext, Chunk<? extends Values> values,
+            LongChunk<? extends RowKeys> inputRowKeys, IntChunk<RowKeys> destinations,
+            IntChunk<ChunkPositions> startPositions, IntChunk<ChunkLengths> length,
+            WritableBooleanChunk<Values> stateModified) {
+        final DoubleChunk<? extends Values> doubleValues = ((KllContext) bucketedContext).toDoubleCast.cast(values);
+        for (int ii = 0; ii < startPositions.size(); ++ii) {
+            final int runLength = length.get(ii);
+            if (runLength == 0) {
+                continue;
+            }
+            final int startPosition = startPositions.get(ii);
+            final long destination = destinations.get(startPosition);
+            if (addValues(destination, doubleValues, startPosition, runLength)) {
+                stateModified.set(ii, true);
+            }
+        }
+    }
+
+    @Override
+    public void removeChunk(BucketedContext bucketedContext, Chunk<? extends Values> values,
+            LongChunk<? extends RowKeys> inputRowKeys, IntChunk<RowKeys> destinations,
+            IntChunk<ChunkPositions> startPositions, IntChunk<ChunkLengths> length,
+            WritableBooleanChunk<Values> stateModified) {
+        throw removalUnsupported();
+    }
+
+    @Override
+    public void modifyChunk(BucketedContext bucketedContext, Chunk<? extends Values> preValues,
+            Chunk<? extends Values> postValues, LongChunk<? extends RowKeys> postShiftRowKeys,
+            IntChunk<RowKeys> destinations, IntChunk<ChunkPositions> startPositions, IntChunk<ChunkLengths> length,
+            WritableBooleanChunk<Values> stateModified) {
+        throw modificationUnsupported();
+    }
+
+    @Override
+    public boolean addChunk(SingletonContext singletonContext, int chunkSize, Chunk<? extends Values> values,
+            LongChunk<? extends RowKeys> inputRowKeys, long destination) {
+        final DoubleChunk<? extends Values> doubleValues = ((KllContext) singletonContext).toDoubleCast.cast(values);
+        return addValues(destination, doubleValues, 0, doubleValues.size());
+    }
+
+    @Override
+    public boolean removeChunk(SingletonContext singletonContext, int chunkSize, Chunk<? extends Values> values,
+            LongChunk<? extends RowKeys> inputRowKeys, long destination) {
+        throw removalUnsupported();
+    }
+
+    @Override
+    public boolean modifyChunk(SingletonContext context, int chunkSize, Chunk<? extends Values> previousValues,
+            Chunk<? extends Values> newValues, LongChunk<? extends RowKeys> postShiftRowKeys, long destination) {
+        throw modificationUnsupported();
+    }
+
+    private boolean addValues(final long destination, @NotNull final DoubleChunk<? extends Values> values,
+            final int start, final int length) {
+        final KllDoublesSketch sketch = sketchForSlot(destination);
+        int added = 0;
+        for (int ii = start; ii < start + length; ++ii) {
+            final double value = values.get(ii);
+            if (Double.isNaN(value) || value == QueryConstants.NULL_DOUBLE) {
+                continue;
+            }
+            sketch.update(value);
+            ++added;
+        }
+        if (added == 0) {
+            return false;
+        }
+        if (destination < firstNewDestination) {
+            modifiedThisStep = true;
+        }
+        return true;
+    }
+
+    @Override
+    public void propagateInitialState(@NotNull final QueryTable resultTable, int startingDestinationsCount) {
+        firstNewDestination = resultTable.getRowSet().lastRowKey() + 1;
+        resultTable.getRowSet().forAllRowKeys(this::updateDestination);
+    }
+
+    @Override
+    public void resetForStep(@NotNull final TableUpdate upstream, final int startingDestinationsCount) {
+        modifiedThisStep = false;
+    }
+
+    @Override
+    public void propagateUpdates(@NotNull final TableUpdate downstream, @NotNull final RowSet newDestinations) {
+        firstNewDestination = newDestinations.lastRowKey() + 1;
+        downstream.added().forAllRowKeys(this::updateDestination);
+        if (modifiedThisStep) {
+            downstream.modified().forAllRowKeys(this::updateDestination);
+        }
+    }
+
+    private void updateDestination(final long destination) {
+        resultColumn.set(destination, quantileOrNull(sketches.getUnsafe(destination), percentile));
+    }
+
+    static double quantileOrNull(final KllDoublesSketch sketch, final double percentile) {
+        return sketch == null || sketch.isEmpty() ? QueryConstants.NULL_DOUBLE : sketch.quantile(percentile);
+    }
+
+    private KllDoublesSketch sketchForSlot(final long slot) {
+        KllDoublesSketch sketch = sketches.getUnsafe(slot);
+        if (sketch == null) {
+            sketches.set(slot, sketch = new KllDoublesSketch(k));
+        }
+        return sketch;
+    }
+
+    @Override
+    public void ensureCapacity(long tableSize) {
+        resultColumn.ensureCapacity(tableSize);
+        sketches.ensureCapacity(tableSize);
+    }
+
+    @Override
+    public Map<String, ? extends ColumnSource<?>> getResultColumns() {
+        final Map<String, ColumnSource<?>> results = new LinkedHashMap<>(2);
+        results.put(resultName, resultColumn);
+        if (exposeSketch) {
+            results.put(resultName + RollupConstants.ROLLUP_SKETCH_COLUMN_ID + RollupConstants.ROLLUP_COLUMN_SUFFIX,
+                    sketches);
+        }
+        return results;
+    }
+
+    @Override
+    public void startTrackingPrevValues() {
+        resultColumn.startTrackingPrevValues();
+    }
+
+    private class KllContext implements SingletonContext, BucketedContext {
+        final ToDoubleCast toDoubleCast;
+
+        private KllContext(int size) {
+            toDoubleCast = ToDoubleCast.makeToDoubleCast(chunkType, size);
+        }
+
+        @Override
+        public void close() {
+            toDoubleCast.close();
+        }
+    }
+
+    @Override
+    public SingletonContext makeSingletonContext(int size) {
+        return new KllContext(size);
+    }
+
+    @Override
+    public BucketedContext makeBucketedContext(int size) {
+        return new KllContext(size);
+    }
+}
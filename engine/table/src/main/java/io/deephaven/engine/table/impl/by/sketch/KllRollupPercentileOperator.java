@@ -0,0 +1,70 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.by.sketch;
+
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.impl.sources.DoubleArraySource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Rollup re-aggregation for {@link KllPercentileOperator}, merging the sketches of constituent rows.
+ */
+public class KllRollupPercentileOperator extends BaseSketchRollupOperator<KllDoublesSketch> {
+
+    private final int k;
+    private final double percentile;
+    private final DoubleArraySource resultColumn;
+
+    public KllRollupPercentileOperator(
+            @NotNull final ColumnSource<KllDoublesSketch> constituentSketches,
+            final int k,
+            final double percentile,
+            @NotNull final String resultName) {
+        super(KllDoublesSketch.class, constituentSketches, resultName);
+        this.k = k;
+        this.percentile = percentile;
+        resultColumn = new DoubleArraySource();
+    }
+
+    @Override
+    KllDoublesSketch makeSketch() {
+        return new KllDoublesSketch(k);
+    }
+
+    @Override
+    void mergeSketch(@NotNull final KllDoublesSketch into, @NotNull final KllDoublesSketch from) {
+        into.merge(from);
+    }
+
+    @Override
+    void clearSketch(@NotNull final KllDoublesSketch sketch) {
+        sketch.clear();
+    }
+
+    @Override
+    boolean isMergeIdempotent() {
+        return false;
+    }
+
+    @Override
+    void updateResult(final long destination, @Nullable final KllDoublesSketch sketch) {
+        resultColumn.set(destination, KllPercentileOperator.quantileOrNull(sketch, percentile));
+    }
+
+    @Override
+    ColumnSource<?> getResultColumn() {
+        return resultColumn;
+    }
+
+    @Override
+    void ensureResultCapacity(final long tableSize) {
+        resultColumn.ensureCapacity(tableSize);
+    }
+
+    @Override
+    public void startTrackingPrevValues() {
+        resultColumn.startTrackingPrevValues();
+    }
+}
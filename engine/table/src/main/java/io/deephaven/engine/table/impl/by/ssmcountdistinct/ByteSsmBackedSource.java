@@ -66,6 +66,19 @@ public class ByteSsmBackedSource extends AbstractColumnSource<ByteVector>
     }
     // endregion
 
+    @Override
+    public long estimateRetainedBytes() {
+        long bytes = underlying.estimateRetainedBytes();
+        final long capacity = underlying.getCapacity();
+        for (long key = 0; key < capacity; ++key) {
+            final ByteSegmentedSortedMultiset ssm = underlying.getUnsafe(key);
+            if (ssm != null) {
+                bytes += ssm.estimateRetainedBytes();
+            }
+        }
+        return bytes;
+    }
+
     @Override
     public boolean isImmutable() {
         return false;
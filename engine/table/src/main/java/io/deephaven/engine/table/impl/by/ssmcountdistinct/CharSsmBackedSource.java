@@ -62,6 +62,19 @@ public class CharSsmBackedSource extends AbstractColumnSource<CharVector>
     }
     // endregion
 
+    @Override
+    public long estimateRetainedBytes() {
+        long bytes = underlying.estimateRetainedBytes();
+        final long capacity = underlying.getCapacity();
+        for (long key = 0; key < capacity; ++key) {
+            final CharSegmentedSortedMultiset ssm = underlying.getUnsafe(key);
+            if (ssm != null) {
+                bytes += ssm.estimateRetainedBytes();
+            }
+        }
+        return bytes;
+    }
+
     @Override
     public boolean isImmutable() {
         return false;
@@ -66,6 +66,19 @@ public class FloatSsmBackedSource extends AbstractColumnSource<FloatVector>
     }
     // endregion
 
+    @Override
+    public long estimateRetainedBytes() {
+        long bytes = underlying.estimateRetainedBytes();
+        final long capacity = underlying.getCapacity();
+        for (long key = 0; key < capacity; ++key) {
+            final FloatSegmentedSortedMultiset ssm = underlying.getUnsafe(key);
+            if (ssm != null) {
+                bytes += ssm.estimateRetainedBytes();
+            }
+        }
+        return bytes;
+    }
+
     @Override
     public boolean isImmutable() {
         return false;
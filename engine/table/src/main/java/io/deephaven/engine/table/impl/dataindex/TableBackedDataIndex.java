@@ -8,8 +8,10 @@ import io.deephaven.base.verify.Assert;
 import io.deephaven.base.verify.Require;
 import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.liveness.LivenessScopeStack;
+import io.deephaven.engine.table.BasicDataIndex;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.DataIndexOptions;
+import io.deephaven.engine.table.DataIndexTransformer;
 import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.impl.QueryTable;
 import io.deephaven.engine.table.impl.by.*;
@@ -51,6 +53,11 @@ public class TableBackedDataIndex extends AbstractDataIndex {
      */
     private volatile Table indexTable;
 
+    /**
+     * A view of this index sorted by key, created on first use and maintained for as long as this index is.
+     */
+    private volatile BasicDataIndex keySortedIndex;
+
     public TableBackedDataIndex(
             @NotNull final QueryTable sourceTable,
             @NotNull final String... keyColumnNames) {
@@ -135,6 +142,34 @@ public class TableBackedDataIndex extends AbstractDataIndex {
         return resultIndexTable;
     }
 
+    /**
+     * Get a view of this index sorted by key. The view is created and sorted on first use, and is then shared by all
+     * callers for the lifetime of this index; for a refreshing index, the sort is maintained as the index ticks.
+     *
+     * @return The key-sorted view of this index
+     */
+    @NotNull
+    public BasicDataIndex keySortedIndex() {
+        BasicDataIndex localKeySortedIndex;
+        if ((localKeySortedIndex = keySortedIndex) != null) {
+            return localKeySortedIndex;
+        }
+        synchronized (this) {
+            if ((localKeySortedIndex = keySortedIndex) != null) {
+                return localKeySortedIndex;
+            }
+            try (final SafeCloseable ignored = isRefreshing() ? LivenessScopeStack.open() : null) {
+                localKeySortedIndex = transform(DataIndexTransformer.builder().sortByKey(true).build());
+                // Sort now, while our caller holds a consistent view of the source table
+                localKeySortedIndex.table();
+                if (isRefreshing()) {
+                    manage(localKeySortedIndex);
+                }
+            }
+            return keySortedIndex = localKeySortedIndex;
+        }
+    }
+
     @Override
     @NotNull
     public RowKeyLookup rowKeyLookup(final DataIndexOptions options) {
@@ -91,6 +91,7 @@ public class TransformedDataIndex extends LivenessArtifact implements BasicDataI
             Table localIndexTable = parentIndex.table();
             localIndexTable = maybeIntersectAndInvert(localIndexTable);
             localIndexTable = maybeSortByFirstKey(localIndexTable);
+            localIndexTable = maybeSortByKey(localIndexTable);
             localIndexTable = localIndexTable.isRefreshing() && transformer.snapshotResult()
                     ? localIndexTable.snapshot()
                     : localIndexTable;
@@ -184,5 +185,19 @@ public class TransformedDataIndex extends LivenessArtifact implements BasicDataI
                 .dropColumns("__FRK__");
     }
 
+    /**
+     * Sort the input index table by its key columns, if specified.
+     *
+     * @param indexTable The input index table
+     * @return The table sorted by key columns, if requested, else the input index table
+     */
+    protected Table maybeSortByKey(final @NotNull Table indexTable) {
+        Assert.neqNull(transformer, "transformer");
+        if (!transformer.sortByKey()) {
+            return indexTable;
+        }
+        return indexTable.sort(parentIndex.keyColumnNames().toArray(String[]::new));
+    }
+
     // endregion DataIndex materialization operations
 }
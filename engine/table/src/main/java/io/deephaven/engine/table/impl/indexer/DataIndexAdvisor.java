@@ -0,0 +1,461 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.indexer;
+
+import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.liveness.LivenessScopeStack;
+import io.deephaven.engine.liveness.SingletonLivenessManager;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.DataIndex;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.BlinkTableTools;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.internal.log.LoggerFactory;
+import io.deephaven.io.logger.Logger;
+import io.deephaven.stream.StreamToBlinkTableAdapter;
+import io.deephaven.time.DateTimeUtils;
+import io.deephaven.util.SafeCloseable;
+import io.deephaven.util.annotations.TestUseOnly;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
+
+/**
+ * Recommends, and optionally builds and retires, {@link DataIndex data indexes} based on how tables are used.
+ * <p>
+ * When the {@code DataIndexAdvisor.enabled} property is true, where filters, {@code whereIn} and joins
+ * {@link #recordUsage record} the key columns they would look up in a data index, and whether they found one. Lookups
+ * that had to scan a table of at least {@code DataIndexAdvisor.minimumTableSize} rows accumulate the table's size as
+ * scanned rows. Every {@code DataIndexAdvisor.evaluationIntervalMillis}, the advisor considers each table and set of
+ * key columns:
+ * <ul>
+ * <li>If at least {@code DataIndexAdvisor.minimumScannedRows} rows were scanned for lack of an index, it publishes a
+ * {@code Recommend} decision. If {@code DataIndexAdvisor.autoBuild} is true, it instead builds the index, provided the
+ * estimated size of all indexes it has built stays within {@code DataIndexAdvisor.memoryBudgetBytes}, publishing
+ * {@code Build} or {@code OverBudget}.</li>
+ * <li>If an index it built has gone unused for {@code DataIndexAdvisor.retireAfterIdleEvaluations} evaluations, it
+ * releases the index and publishes {@code Retire}. An index built by the advisor keeps its table reachable until it is
+ * retired.</li>
+ * </ul>
+ * Scanned rows decay by half at each evaluation, so that recommendations follow the recent workload. Decisions are
+ * published to {@link #getQueryTable()}.
+ */
+public class DataIndexAdvisor {
+
+    private static final Logger log = LoggerFactory.getLogger(DataIndexAdvisor.class);
+
+    /**
+     * Whether to record usage and make decisions.
+     */
+    public static boolean ENABLED = Configuration.getInstance().getBooleanForClassWithDefault(
+            DataIndexAdvisor.class, "enabled", false);
+
+    /**
+     * Whether to build and retire indexes, rather than only recommend them.
+     */
+    public static boolean AUTO_BUILD = Configuration.getInstance().getBooleanForClassWithDefault(
+            DataIndexAdvisor.class, "autoBuild", false);
+
+    /**
+     * The estimated total size of the indexes the advisor may build at once.
+     */
+    public static long MEMORY_BUDGET_BYTES = Configuration.getInstance().getLongForClassWithDefault(
+            DataIndexAdvisor.class, "memoryBudgetBytes", 256L << 20);
+
+    /**
+     * The number of rows that must be scanned, decayed over evaluations, before an index is recommended.
+     */
+    public static long MINIMUM_SCANNED_ROWS = Configuration.getInstance().getLongForClassWithDefault(
+            DataIndexAdvisor.class, "minimumScannedRows", 100_000_000L);
+
+    /**
+     * The minimum size of a table for scans of it to count towards a recommendation.
+     */
+    public static long MINIMUM_TABLE_SIZE = Configuration.getInstance().getLongForClassWithDefault(
+            DataIndexAdvisor.class, "minimumTableSize", 1_000_000L);
+
+    /**
+     * The number of consecutive evaluations without an indexed lookup after which a built index is retired.
+     */
+    public static int RETIRE_AFTER_IDLE_EVALUATIONS = Configuration.getInstance().getIntegerForClassWithDefault(
+            DataIndexAdvisor.class, "retireAfterIdleEvaluations", 10);
+
+    /**
+     * The estimated size of an index per indexed row, for the row key in its row set and its share of the keys.
+     */
+    private static final long ESTIMATED_BYTES_PER_ROW = Configuration.getInstance().getLongForClassWithDefault(
+            DataIndexAdvisor.class, "estimatedBytesPerRow", 16L);
+
+    private static final long EVALUATION_INTERVAL_MILLIS = Configuration.getInstance().getLongForClassWithDefault(
+            DataIndexAdvisor.class, "evaluationIntervalMillis", 60 * 1000L);
+
+    private static final double DECAY = 0.5;
+
+    /**
+     * Usage by table, and then by sorted key column names. Tables are weakly held, unless the advisor has built an
+     * index for them.
+     */
+    private static final Map<Table, Map<List<String>, KeyUsage>> USAGE = new WeakHashMap<>();
+
+    private static volatile DataIndexAdvisor INSTANCE;
+    private static boolean started = false;
+
+    private static final class KeyUsage {
+        private final Set<String> operations = new TreeSet<>();
+        private double scannedRows;
+        private long indexedUses;
+        private int idleEvaluations;
+        private boolean recommended;
+        private boolean overBudget;
+        private BuiltIndex built;
+    }
+
+    /**
+     * An index built by the advisor. We hold it strongly, so that the {@link DataIndexer} keeps it while it is in use.
+     */
+    private static final class BuiltIndex {
+        @SuppressWarnings({"FieldCanBeLocal", "unused"})
+        private final DataIndex dataIndex;
+        private final SingletonLivenessManager manager;
+        private final long estimatedBytes;
+
+        private BuiltIndex(@NotNull final DataIndex dataIndex, final long estimatedBytes) {
+            this.dataIndex = dataIndex;
+            manager = dataIndex.isRefreshing() ? new SingletonLivenessManager(dataIndex) : null;
+            this.estimatedBytes = estimatedBytes;
+        }
+
+        private void release() {
+            if (manager != null) {
+                manager.release();
+            }
+        }
+    }
+
+    /**
+     * Record that an operation looked up a data index for {@code keyColumnNames} of {@code table}.
+     *
+     * @param table The table the operation would have used an index of
+     * @param operation The kind of operation, e.g. {@code where}
+     * @param keyColumnNames The key column names
+     * @param indexed Whether the operation found an index to use
+     */
+    public static void recordUsage(
+            @NotNull final Table table,
+            @NotNull final String operation,
+            @NotNull final Collection<String> keyColumnNames,
+            final boolean indexed) {
+        if (!ENABLED || keyColumnNames.isEmpty() || BlinkTableTools.isBlink(table)) {
+            return;
+        }
+        final long size = table.size();
+        if (!indexed && size < MINIMUM_TABLE_SIZE) {
+            return;
+        }
+        final List<String> key = List.copyOf(new TreeSet<>(keyColumnNames));
+        synchronized (USAGE) {
+            final KeyUsage usage = USAGE.computeIfAbsent(table, t -> new HashMap<>())
+                    .computeIfAbsent(key, k -> new KeyUsage());
+            usage.operations.add(operation);
+            if (indexed) {
+                ++usage.indexedUses;
+            } else {
+                usage.scannedRows += size;
+            }
+        }
+    }
+
+    /**
+     * Record that an operation looked up a data index for {@code keySources} of {@code table}. Key sources that are not
+     * columns of {@code table} cannot be indexed by name, so lookups using them are not recorded.
+     *
+     * @param table The table the operation would have used an index of
+     * @param operation The kind of operation, e.g. {@code join}
+     * @param keySources The key column sources
+     * @param indexed Whether the operation found an index to use
+     */
+    public static void recordUsage(
+            @NotNull final Table table,
+            @NotNull final String operation,
+            @NotNull final ColumnSource<?>[] keySources,
+            final boolean indexed) {
+        if (!ENABLED) {
+            return;
+        }
+        final Map<String, ? extends ColumnSource<?>> columnSources = table.getColumnSourceMap();
+        final List<String> keyColumnNames = new ArrayList<>(keySources.length);
+        for (final ColumnSource<?> keySource : keySources) {
+            final String keyColumnName = columnSources.entrySet().stream()
+                    .filter(entry -> entry.getValue() == keySource)
+                    .map(Map.Entry::getKey)
+                    .findFirst()
+                    .orElse(null);
+            if (keyColumnName == null) {
+                return;
+            }
+            keyColumnNames.add(keyColumnName);
+        }
+        recordUsage(table, operation, keyColumnNames, indexed);
+    }
+
+    public static DataIndexAdvisor getInstance() {
+        DataIndexAdvisor local;
+        if ((local = INSTANCE) == null) {
+            synchronized (DataIndexAdvisor.class) {
+                if ((local = INSTANCE) == null) {
+                    INSTANCE = local = new DataIndexAdvisor();
+                }
+            }
+        }
+        return local;
+    }
+
+    /**
+     * Forget all recorded usage, release the indexes the advisor built, and discard the advisor, so that the next test
+     * starts from nothing and publishes to its own update graph.
+     */
+    @TestUseOnly
+    static void resetForUnitTests() {
+        synchronized (DataIndexAdvisor.class) {
+            synchronized (USAGE) {
+                for (final Map<List<String>, KeyUsage> usages : USAGE.values()) {
+                    for (final KeyUsage usage : usages.values()) {
+                        if (usage.built != null) {
+                            usage.built.release();
+                        }
+                    }
+                }
+                USAGE.clear();
+            }
+            if (INSTANCE != null) {
+                INSTANCE.adapter.close();
+                INSTANCE = null;
+            }
+        }
+    }
+
+    private final ExecutionContext executionContext;
+    private final DataIndexAdvisorStreamPublisher publisher;
+    private final StreamToBlinkTableAdapter adapter;
+    private final Table blink;
+
+    /**
+     * The estimated size of the indexes the advisor has built, or has decided to build during the current evaluation.
+     */
+    private long indexedBytes;
+
+    private DataIndexAdvisor() {
+        executionContext = ExecutionContext.getContext();
+        publisher = new DataIndexAdvisorStreamPublisher();
+        adapter = new StreamToBlinkTableAdapter(
+                DataIndexAdvisorStreamPublisher.definition(),
+                publisher,
+                executionContext.getUpdateGraph(),
+                DataIndexAdvisor.class.getName());
+        blink = adapter.table();
+    }
+
+    private void startThread() {
+        final Thread driverThread = new Thread(this::drive, DataIndexAdvisor.class.getSimpleName() + ".Driver");
+        driverThread.setDaemon(true);
+        driverThread.start();
+    }
+
+    /**
+     * Start periodically evaluating usage, if the advisor is {@link #ENABLED enabled}.
+     */
+    public static synchronized void start() {
+        if (started || !ENABLED) {
+            return;
+        }
+        started = true;
+        getInstance().startThread();
+    }
+
+    private void drive() {
+        // noinspection InfiniteLoopStatement
+        while (true) {
+            try {
+                Thread.sleep(EVALUATION_INTERVAL_MILLIS);
+            } catch (InterruptedException ignore) {
+                // ignore
+            }
+            try {
+                evaluate();
+            } catch (RuntimeException e) {
+                log.error().append("DataIndexAdvisor evaluation failed: ").append(e).endl();
+            }
+        }
+    }
+
+    /**
+     * A decision made while holding the usage lock, to be carried out without it.
+     */
+    private static final class Candidate {
+        private final Table table;
+        private final List<String> keyColumnNames;
+        private final KeyUsage usage;
+        private final String decision;
+        private final long estimatedBytes;
+        private final String operations;
+        private final long scannedRows;
+        private final long indexedUses;
+
+        private Candidate(
+                @NotNull final Table table,
+                @NotNull final List<String> keyColumnNames,
+                @NotNull final KeyUsage usage,
+                @NotNull final String decision,
+                final long estimatedBytes) {
+            this.table = table;
+            this.keyColumnNames = keyColumnNames;
+            this.usage = usage;
+            this.decision = decision;
+            this.estimatedBytes = estimatedBytes;
+            operations = String.join(",", usage.operations);
+            scannedRows = (long) usage.scannedRows;
+            indexedUses = usage.indexedUses;
+        }
+    }
+
+    /**
+     * Evaluate the usage recorded since the last evaluation, publish any decisions, and build or retire indexes if
+     * {@link #AUTO_BUILD enabled}.
+     */
+    public synchronized void evaluate() {
+        final List<Candidate> candidates = new ArrayList<>();
+        synchronized (USAGE) {
+            for (final Map.Entry<Table, Map<List<String>, KeyUsage>> tableEntry : USAGE.entrySet()) {
+                final Table table = tableEntry.getKey();
+                final Iterator<Map.Entry<List<String>, KeyUsage>> usages = tableEntry.getValue().entrySet().iterator();
+                while (usages.hasNext()) {
+                    final Map.Entry<List<String>, KeyUsage> usageEntry = usages.next();
+                    final KeyUsage usage = usageEntry.getValue();
+                    final Candidate candidate = decide(table, usageEntry.getKey(), usage);
+                    if (candidate != null) {
+                        candidates.add(candidate);
+                    }
+                    usage.scannedRows *= DECAY;
+                    usage.indexedUses = 0;
+                    if (usage.built == null && usage.scannedRows < 1) {
+                        usages.remove();
+                    }
+                }
+            }
+            USAGE.values().removeIf(Map::isEmpty);
+        }
+
+        final long nowNanos = DateTimeUtils.millisToNanos(System.currentTimeMillis());
+        for (final Candidate candidate : candidates) {
+            String decision = candidate.decision;
+            if (decision.equals("Build")) {
+                try {
+                    final BuiltIndex built = build(candidate.table, candidate.keyColumnNames, candidate.estimatedBytes);
+                    synchronized (USAGE) {
+                        candidate.usage.built = built;
+                    }
+                } catch (RuntimeException e) {
+                    log.warn().append("DataIndexAdvisor failed to build index on ")
+                            .append(String.join(", ", candidate.keyColumnNames)).append(": ").append(e).endl();
+                    // Give back the bytes decide reserved
+                    indexedBytes -= candidate.estimatedBytes;
+                    decision = "BuildFailed";
+                }
+            }
+            publisher.add(nowNanos, candidate.table.getDescription(), String.join(",", candidate.keyColumnNames),
+                    candidate.operations, decision, candidate.scannedRows, candidate.indexedUses,
+                    candidate.estimatedBytes, indexedBytes);
+        }
+    }
+
+    /**
+     * Decide what to do about one table and set of key columns. Must be called while holding the usage lock. The
+     * estimated size of an index is reserved against the budget as soon as we decide to build it, so that one
+     * evaluation cannot decide to build several indexes that fit the budget only one at a time.
+     */
+    private Candidate decide(
+            @NotNull final Table table,
+            @NotNull final List<String> keyColumnNames,
+            @NotNull final KeyUsage usage) {
+        if (usage.built != null) {
+            usage.idleEvaluations = usage.indexedUses > 0 ? 0 : usage.idleEvaluations + 1;
+            if (usage.idleEvaluations < RETIRE_AFTER_IDLE_EVALUATIONS) {
+                return null;
+            }
+            final BuiltIndex built = usage.built;
+            usage.built = null;
+            usage.recommended = false;
+            built.release();
+            indexedBytes -= built.estimatedBytes;
+            return new Candidate(table, keyColumnNames, usage, "Retire", built.estimatedBytes);
+        }
+        if (usage.scannedRows < MINIMUM_SCANNED_ROWS || DataIndexer.hasDataIndex(table, keyColumnNames)) {
+            return null;
+        }
+        final long estimatedBytes = table.size() * ESTIMATED_BYTES_PER_ROW;
+        if (!AUTO_BUILD) {
+            if (usage.recommended) {
+                return null;
+            }
+            usage.recommended = true;
+            return new Candidate(table, keyColumnNames, usage, "Recommend", estimatedBytes);
+        }
+        if (indexedBytes + estimatedBytes > MEMORY_BUDGET_BYTES) {
+            if (usage.overBudget) {
+                return null;
+            }
+            usage.overBudget = true;
+            return new Candidate(table, keyColumnNames, usage, "OverBudget", estimatedBytes);
+        }
+        usage.overBudget = false;
+        usage.idleEvaluations = 0;
+        indexedBytes += estimatedBytes;
+        return new Candidate(table, keyColumnNames, usage, "Build", estimatedBytes);
+    }
+
+    private BuiltIndex build(
+            @NotNull final Table table,
+            @NotNull final List<String> keyColumnNames,
+            final long estimatedBytes) {
+        try (final SafeCloseable ignored1 = executionContext.withUpdateGraph(table.getUpdateGraph()).open();
+                final SafeCloseable ignored2 = LivenessScopeStack.open()) {
+            final DataIndex dataIndex = table.isRefreshing()
+                    ? table.getUpdateGraph().sharedLock().computeLocked(() -> materialize(table, keyColumnNames))
+                    : materialize(table, keyColumnNames);
+            return new BuiltIndex(dataIndex, estimatedBytes);
+        }
+    }
+
+    private static DataIndex materialize(@NotNull final Table table, @NotNull final List<String> keyColumnNames) {
+        final DataIndex dataIndex = DataIndexer.getOrCreateDataIndex(table, keyColumnNames);
+        // Build the index table now, rather than on the next lookup
+        dataIndex.table();
+        return dataIndex;
+    }
+
+    /**
+     * Deliver the decisions published so far to {@link #getBlinkTable()}. Must be called within a unit test cycle.
+     */
+    @TestUseOnly
+    void deliverDecisionsForUnitTests() {
+        adapter.run();
+    }
+
+    public Table getBlinkTable() {
+        return blink;
+    }
+
+    public QueryTable getQueryTable() {
+        return (QueryTable) BlinkTableTools.blinkToAppendOnly(blink);
+    }
+}
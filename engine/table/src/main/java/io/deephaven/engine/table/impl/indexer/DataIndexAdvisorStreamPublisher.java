@@ -0,0 +1,91 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.indexer;
+
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.table.ColumnDefinition;
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.engine.table.impl.sources.ArrayBackedColumnSource;
+import io.deephaven.stream.StreamChunkUtils;
+import io.deephaven.stream.StreamConsumer;
+import io.deephaven.stream.StreamPublisher;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+class DataIndexAdvisorStreamPublisher implements StreamPublisher {
+
+    private static final TableDefinition DEFINITION = TableDefinition.of(
+            ColumnDefinition.ofTime("DecisionTime"),
+            ColumnDefinition.ofString("Table"),
+            ColumnDefinition.ofString("KeyColumns"),
+            ColumnDefinition.ofString("Operations"),
+            ColumnDefinition.ofString("Decision"),
+            ColumnDefinition.ofLong("ScannedRows"),
+            ColumnDefinition.ofLong("IndexedUses"),
+            ColumnDefinition.ofLong("EstimatedBytes"),
+            ColumnDefinition.ofLong("TotalIndexedBytes"));
+
+    private static final int CHUNK_SIZE = ArrayBackedColumnSource.BLOCK_SIZE;
+
+    public static TableDefinition definition() {
+        return DEFINITION;
+    }
+
+    private WritableChunk<Values>[] chunks;
+    private StreamConsumer consumer;
+
+    DataIndexAdvisorStreamPublisher() {
+        chunks = StreamChunkUtils.makeChunksForDefinition(DEFINITION, CHUNK_SIZE);
+    }
+
+    @Override
+    public void register(@NotNull StreamConsumer consumer) {
+        if (this.consumer != null) {
+            throw new IllegalStateException("Can not register multiple StreamConsumers.");
+        }
+        this.consumer = Objects.requireNonNull(consumer);
+    }
+
+    public synchronized void add(
+            final long decisionTimeNanos,
+            final String table,
+            final String keyColumns,
+            final String operations,
+            final String decision,
+            final long scannedRows,
+            final long indexedUses,
+            final long estimatedBytes,
+            final long totalIndexedBytes) {
+        chunks[0].asWritableLongChunk().add(decisionTimeNanos);
+        chunks[1].<String>asWritableObjectChunk().add(table);
+        chunks[2].<String>asWritableObjectChunk().add(keyColumns);
+        chunks[3].<String>asWritableObjectChunk().add(operations);
+        chunks[4].<String>asWritableObjectChunk().add(decision);
+        chunks[5].asWritableLongChunk().add(scannedRows);
+        chunks[6].asWritableLongChunk().add(indexedUses);
+        chunks[7].asWritableLongChunk().add(estimatedBytes);
+        chunks[8].asWritableLongChunk().add(totalIndexedBytes);
+        if (chunks[0].size() == CHUNK_SIZE) {
+            flushInternal();
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        if (chunks[0].size() == 0) {
+            return;
+        }
+        flushInternal();
+    }
+
+    private void flushInternal() {
+        consumer.accept(chunks);
+        chunks = StreamChunkUtils.makeChunksForDefinition(DEFINITION, CHUNK_SIZE);
+    }
+
+    @Override
+    public void shutdown() {}
+}
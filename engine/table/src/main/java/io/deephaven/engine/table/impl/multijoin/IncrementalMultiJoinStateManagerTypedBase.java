@@ -38,7 +38,7 @@ import static io.deephaven.engine.table.impl.util.TypedHasherUtil.getKeyChunks;
 import static io.deephaven.engine.table.impl.util.TypedHasherUtil.getPrevKeyChunks;
 import static io.deephaven.util.QueryConstants.NULL_BYTE;
 
-public abstract class IncrementalMultiJoinStateManagerTypedBase implements MultiJoinStateManager {
+public abstract class IncrementalMultiJoinStateManagerTypedBase implements MultiJoinStateManager.TableAtATime {
     protected final ColumnSource<?>[] keySourcesForErrorMessages;
     private final List<LongArraySource> redirectionSources = new ArrayList<>();
 
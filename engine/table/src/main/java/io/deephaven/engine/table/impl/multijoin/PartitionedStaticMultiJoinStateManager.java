@@ -0,0 +1,434 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.multijoin;
+
+import io.deephaven.base.verify.Require;
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.WritableIntChunk;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.attributes.HashCodes;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.chunk.util.hashing.ChunkHasher;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.exceptions.CancellationException;
+import io.deephaven.engine.exceptions.OperationException;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSequenceFactory;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetBuilderSequential;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.WritableRowSet;
+import io.deephaven.engine.rowset.chunkattributes.OrderedRowKeys;
+import io.deephaven.engine.rowset.chunkattributes.RowKeys;
+import io.deephaven.engine.table.ChunkSink;
+import io.deephaven.engine.table.ChunkSource;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.WritableColumnSource;
+import io.deephaven.engine.table.impl.MultiJoinStateManager;
+import io.deephaven.engine.table.impl.by.typed.TypedHasherFactory;
+import io.deephaven.engine.table.impl.sources.ArrayBackedColumnSource;
+import io.deephaven.engine.table.impl.sources.LongArraySource;
+import io.deephaven.engine.table.impl.util.JobScheduler;
+import io.deephaven.engine.table.impl.util.LongColumnSourceRowRedirection;
+import io.deephaven.engine.table.impl.util.RowRedirection;
+import io.deephaven.util.SafeCloseable;
+import io.deephaven.util.SafeCloseableArray;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+import static io.deephaven.engine.table.impl.JoinControl.CHUNK_SIZE;
+
+/**
+ * A {@link MultiJoinStateManager} for static multiJoin results that are built in parallel.
+ * <p>
+ * The rows of every input table are hash-partitioned by key, and each partition is built concurrently by its own
+ * {@link StaticMultiJoinStateManagerTypedBase}. Each key's first appearance is in a single partition, so the partitions
+ * are independent. The output rows of all partitions are then placed in the order a serial build would have created
+ * them, i.e. by the first table and row in which each key appears, and their keys and redirections are copied into the
+ * result sources.
+ */
+public final class PartitionedStaticMultiJoinStateManager implements MultiJoinStateManager {
+
+    private final WritableColumnSource<?>[] outputKeySources;
+    private final LongArraySource[] redirectionSources;
+    private final long resultSize;
+
+    private PartitionedStaticMultiJoinStateManager(
+            @NotNull final WritableColumnSource<?>[] outputKeySources,
+            @NotNull final LongArraySource[] redirectionSources,
+            final long resultSize) {
+        this.outputKeySources = outputKeySources;
+        this.redirectionSources = redirectionSources;
+        this.resultSize = resultSize;
+    }
+
+    /**
+     * Build a static multiJoin result in parallel.
+     *
+     * @param jobScheduler the scheduler for the build tasks
+     * @param tables the static input tables
+     * @param keySources the key sources of each input table, in the same order for every table and reinterpreted to
+     *        primitives
+     * @param originalKeySources the original key sources of the first table
+     * @param partitionCount the number of hash partitions to build, a power of two
+     * @param tableSize the initial hash table size for each partition
+     * @param maximumLoadFactor the maximum load factor for each partition's hash table
+     * @param targetLoadFactor the target load factor for each partition's hash table
+     * @return the state manager holding the result
+     */
+    public static PartitionedStaticMultiJoinStateManager build(
+            @NotNull final JobScheduler jobScheduler,
+            @NotNull final Table[] tables,
+            @NotNull final ColumnSource<?>[][] keySources,
+            @NotNull final ColumnSource<?>[] originalKeySources,
+            final int partitionCount,
+            final int tableSize,
+            final double maximumLoadFactor,
+            final double targetLoadFactor) {
+        Require.gt(partitionCount, "partitionCount", 1);
+        Require.eq(Integer.bitCount(partitionCount), "Integer.bitCount(partitionCount)", 1);
+
+        final CompletableFuture<PartitionedStaticMultiJoinStateManager> resultFuture = new CompletableFuture<>();
+        new Build(jobScheduler, tables, keySources, originalKeySources, partitionCount, tableSize,
+                maximumLoadFactor, targetLoadFactor, resultFuture).start();
+        try {
+            return resultFuture.get();
+        } catch (InterruptedException e) {
+            throw new CancellationException("multiJoin partitioned build interrupted", e);
+        } catch (Exception e) {
+            throw new OperationException("multiJoin partitioned build failed", e);
+        }
+    }
+
+    private static final class Build {
+        private final JobScheduler jobScheduler;
+        private final ExecutionContext executionContext;
+        private final Table[] tables;
+        private final ColumnSource<?>[][] keySources;
+        private final ColumnSource<?>[] originalKeySources;
+        private final int partitionCount;
+        private final int partitionShift;
+        private final int tableSize;
+        private final double maximumLoadFactor;
+        private final double targetLoadFactor;
+        private final CompletableFuture<PartitionedStaticMultiJoinStateManager> resultFuture;
+
+        /** The rows of each table in each partition, indexed by [table][partition]. */
+        private final WritableRowSet[][] partitionRows;
+        /** The state manager for each partition. */
+        private final StaticMultiJoinStateManagerTypedBase[] partitionManagers;
+        /** The partition's output row count after building each table, indexed by [partition][table]. */
+        private final long[][] partitionTableEnds;
+        /** The row keys of the keys first found in each table, indexed by [table][partition]. */
+        private final WritableRowSet[][] firstFoundRows;
+        /** The row keys of the keys first found in each table, across all partitions. */
+        private final WritableRowSet[] tableFirstFoundRows;
+        /** The first result row for keys first found in each table. */
+        private final long[] tableOffsets;
+
+        private WritableColumnSource<?>[] outputKeySources;
+        private LongArraySource[] redirectionSources;
+        private long resultSize;
+
+        private Build(
+                @NotNull final JobScheduler jobScheduler,
+                @NotNull final Table[] tables,
+                @NotNull final ColumnSource<?>[][] keySources,
+                @NotNull final ColumnSource<?>[] originalKeySources,
+                final int partitionCount,
+                final int tableSize,
+                final double maximumLoadFactor,
+                final double targetLoadFactor,
+                @NotNull final CompletableFuture<PartitionedStaticMultiJoinStateManager> resultFuture) {
+            this.jobScheduler = jobScheduler;
+            executionContext = ExecutionContext.newBuilder().markSystemic().build();
+            this.tables = tables;
+            this.keySources = keySources;
+            this.originalKeySources = originalKeySources;
+            this.partitionCount = partitionCount;
+            partitionShift = Integer.SIZE - Integer.numberOfTrailingZeros(partitionCount);
+            this.tableSize = tableSize;
+            this.maximumLoadFactor = maximumLoadFactor;
+            this.targetLoadFactor = targetLoadFactor;
+            this.resultFuture = resultFuture;
+
+            partitionRows = new WritableRowSet[tables.length][];
+            partitionManagers = new StaticMultiJoinStateManagerTypedBase[partitionCount];
+            partitionTableEnds = new long[partitionCount][];
+            firstFoundRows = new WritableRowSet[tables.length][partitionCount];
+            tableFirstFoundRows = new WritableRowSet[tables.length];
+            tableOffsets = new long[tables.length];
+        }
+
+        private void start() {
+            jobScheduler.iterateParallel(
+                    executionContext,
+                    logOutput -> logOutput.append("multiJoin partition rows"),
+                    JobScheduler.DEFAULT_CONTEXT_FACTORY,
+                    0,
+                    tables.length,
+                    (context, tableNumber, nestedErrorConsumer) -> partitionTable(tableNumber),
+                    this::buildPartitions,
+                    () -> {
+                    },
+                    this::onError);
+        }
+
+        /**
+         * Split the rows of one table by the hash of their keys.
+         */
+        private void partitionTable(final int tableNumber) {
+            final RowSet rowSet = tables[tableNumber].getRowSet();
+            final ColumnSource<?>[] sources = keySources[tableNumber];
+            final ChunkHasher[] hashers = Arrays.stream(sources)
+                    .map(source -> ChunkHasher.makeHasher(source.getChunkType()))
+                    .toArray(ChunkHasher[]::new);
+            final RowSetBuilderSequential[] builders = new RowSetBuilderSequential[partitionCount];
+            for (int pi = 0; pi < partitionCount; ++pi) {
+                builders[pi] = RowSetFactory.builderSequential();
+            }
+
+            final int chunkSize = (int) Math.min(CHUNK_SIZE, rowSet.size());
+            final ChunkSource.GetContext[] getContexts = Arrays.stream(sources)
+                    .map(source -> source.makeGetContext(chunkSize))
+                    .toArray(ChunkSource.GetContext[]::new);
+            try (final SafeCloseable ignored = new SafeCloseableArray<>(getContexts);
+                    final WritableIntChunk<HashCodes> hashes = WritableIntChunk.makeWritableChunk(chunkSize);
+                    final RowSequence.Iterator rsIt = rowSet.getRowSequenceIterator()) {
+                while (rsIt.hasMore()) {
+                    final RowSequence rows = rsIt.getNextRowSequenceWithLength(chunkSize);
+                    for (int ci = 0; ci < sources.length; ++ci) {
+                        // noinspection unchecked
+                        final Chunk<Values> keys = (Chunk<Values>) sources[ci].getChunk(getContexts[ci], rows);
+                        if (ci == 0) {
+                            hashers[ci].hashInitial(keys, hashes);
+                        } else {
+                            hashers[ci].hashUpdate(keys, hashes);
+                        }
+                    }
+                    final LongChunk<OrderedRowKeys> rowKeys = rows.asRowKeyChunk();
+                    for (int ii = 0; ii < rowKeys.size(); ++ii) {
+                        builders[partitionOf(hashes.get(ii))].appendKey(rowKeys.get(ii));
+                    }
+                }
+            }
+
+            final WritableRowSet[] tablePartitionRows = new WritableRowSet[partitionCount];
+            for (int pi = 0; pi < partitionCount; ++pi) {
+                tablePartitionRows[pi] = builders[pi].build();
+            }
+            partitionRows[tableNumber] = tablePartitionRows;
+        }
+
+        private int partitionOf(final int hash) {
+            // Use the high bits of a remixed hash, so that each partition's hash table sees well-distributed low bits
+            return (hash * 0x9E3779B9) >>> partitionShift;
+        }
+
+        private void buildPartitions() {
+            jobScheduler.iterateParallel(
+                    executionContext,
+                    logOutput -> logOutput.append("multiJoin build partitions"),
+                    JobScheduler.DEFAULT_CONTEXT_FACTORY,
+                    0,
+                    partitionCount,
+                    (context, partition, nestedErrorConsumer) -> buildPartition(partition),
+                    this::unionFirstFoundRows,
+                    () -> {
+                    },
+                    this::onError);
+        }
+
+        /**
+         * Build one partition, then record the row keys at which it first found each of its keys.
+         */
+        private void buildPartition(final int partition) {
+            final StaticMultiJoinStateManagerTypedBase manager = TypedHasherFactory.make(
+                    StaticMultiJoinStateManagerTypedBase.class, keySources[0], originalKeySources,
+                    tableSize, maximumLoadFactor, targetLoadFactor);
+            manager.ensureTableCapacity(tables.length);
+            partitionManagers[partition] = manager;
+
+            final long[] tableEnds = new long[tables.length];
+            for (int ti = 0; ti < tables.length; ++ti) {
+                try (final WritableRowSet rows = partitionRows[ti][partition]) {
+                    partitionRows[ti][partition] = null;
+                    manager.build(rows, keySources[ti], ti);
+                }
+                tableEnds[ti] = manager.getResultSize();
+            }
+            partitionTableEnds[partition] = tableEnds;
+
+            final long partitionSize = manager.getResultSize();
+            for (int ti = 0; ti < tables.length; ++ti) {
+                manager.getRedirectionSource(ti).ensureCapacity(partitionSize);
+            }
+
+            // Each table's new output rows were created in row key order, so we can build sequentially
+            long firstRow = 0;
+            for (int ti = 0; ti < tables.length; ++ti) {
+                final LongArraySource redirection = manager.getRedirectionSource(ti);
+                final RowSetBuilderSequential builder = RowSetFactory.builderSequential();
+                for (long row = firstRow; row < tableEnds[ti]; ++row) {
+                    builder.appendKey(redirection.getLong(row));
+                }
+                firstFoundRows[ti][partition] = builder.build();
+                firstRow = tableEnds[ti];
+            }
+        }
+
+        private void unionFirstFoundRows() {
+            jobScheduler.iterateParallel(
+                    executionContext,
+                    logOutput -> logOutput.append("multiJoin order output rows"),
+                    JobScheduler.DEFAULT_CONTEXT_FACTORY,
+                    0,
+                    tables.length,
+                    (context, tableNumber, nestedErrorConsumer) -> unionFirstFoundRows(tableNumber),
+                    this::copyPartitions,
+                    () -> {
+                    },
+                    this::onError);
+        }
+
+        private void unionFirstFoundRows(final int tableNumber) {
+            final WritableRowSet union = RowSetFactory.empty();
+            for (int pi = 0; pi < partitionCount; ++pi) {
+                try (final WritableRowSet partitionFirstFound = firstFoundRows[tableNumber][pi]) {
+                    firstFoundRows[tableNumber][pi] = null;
+                    union.insert(partitionFirstFound);
+                }
+            }
+            tableFirstFoundRows[tableNumber] = union;
+        }
+
+        private void copyPartitions() {
+            long offset = 0;
+            for (int ti = 0; ti < tables.length; ++ti) {
+                tableOffsets[ti] = offset;
+                offset += tableFirstFoundRows[ti].size();
+            }
+            resultSize = offset;
+
+            final WritableColumnSource<?>[] partitionKeySources = partitionManagers[0].outputKeySources;
+            outputKeySources = new WritableColumnSource<?>[partitionKeySources.length];
+            for (int ci = 0; ci < outputKeySources.length; ++ci) {
+                outputKeySources[ci] = ArrayBackedColumnSource.getMemoryColumnSource(resultSize,
+                        partitionKeySources[ci].getType(), partitionKeySources[ci].getComponentType());
+            }
+            redirectionSources = new LongArraySource[tables.length];
+            for (int ti = 0; ti < tables.length; ++ti) {
+                redirectionSources[ti] = new LongArraySource();
+                redirectionSources[ti].ensureCapacity(resultSize);
+            }
+
+            jobScheduler.iterateParallel(
+                    executionContext,
+                    logOutput -> logOutput.append("multiJoin copy partitions"),
+                    JobScheduler.DEFAULT_CONTEXT_FACTORY,
+                    0,
+                    partitionCount,
+                    (context, partition, nestedErrorConsumer) -> copyPartition(partition),
+                    () -> resultFuture.complete(
+                            new PartitionedStaticMultiJoinStateManager(outputKeySources, redirectionSources,
+                                    resultSize)),
+                    this::cleanup,
+                    this::onError);
+        }
+
+        /**
+         * Copy the keys and redirections of one partition's output rows to their result rows.
+         */
+        private void copyPartition(final int partition) {
+            final StaticMultiJoinStateManagerTypedBase manager = partitionManagers[partition];
+            final long partitionSize = manager.getResultSize();
+            if (partitionSize == 0) {
+                return;
+            }
+            final long[] tableEnds = partitionTableEnds[partition];
+            final WritableColumnSource<?>[] partitionKeySources = manager.outputKeySources;
+            final int chunkSize = (int) Math.min(CHUNK_SIZE, partitionSize);
+
+            final ChunkSource.FillContext[] keyFillContexts = new ChunkSource.FillContext[outputKeySources.length];
+            final ChunkSink.FillFromContext[] keyFillFromContexts =
+                    new ChunkSink.FillFromContext[outputKeySources.length];
+            // noinspection unchecked
+            final WritableChunk<Values>[] keyChunks = new WritableChunk[outputKeySources.length];
+            for (int ci = 0; ci < outputKeySources.length; ++ci) {
+                keyFillContexts[ci] = partitionKeySources[ci].makeFillContext(chunkSize);
+                keyFillFromContexts[ci] = outputKeySources[ci].makeFillFromContext(chunkSize);
+                keyChunks[ci] = partitionKeySources[ci].getChunkType().makeWritableChunk(chunkSize);
+            }
+            try (final SafeCloseable ignored1 = new SafeCloseableArray<>(keyFillContexts);
+                    final SafeCloseable ignored2 = new SafeCloseableArray<>(keyFillFromContexts);
+                    final SafeCloseable ignored3 = new SafeCloseableArray<>(keyChunks);
+                    final ChunkSource.FillContext redirectionFillContext =
+                            redirectionSources[0].makeFillContext(chunkSize);
+                    final ChunkSink.FillFromContext redirectionFillFromContext =
+                            redirectionSources[0].makeFillFromContext(chunkSize);
+                    final WritableLongChunk<Values> redirections = WritableLongChunk.makeWritableChunk(chunkSize);
+                    final WritableLongChunk<RowKeys> resultRows = WritableLongChunk.makeWritableChunk(chunkSize)) {
+                int firstFoundTable = 0;
+                for (long firstRow = 0; firstRow < partitionSize; firstRow += chunkSize) {
+                    final long lastRow = Math.min(firstRow + chunkSize, partitionSize) - 1;
+                    final int size = (int) (lastRow - firstRow + 1);
+
+                    // Find the result row for each output row, by its first found row key's position
+                    resultRows.setSize(size);
+                    for (int ii = 0; ii < size; ++ii) {
+                        final long row = firstRow + ii;
+                        while (row >= tableEnds[firstFoundTable]) {
+                            ++firstFoundTable;
+                        }
+                        final long firstFoundRowKey =
+                                manager.getRedirectionSource(firstFoundTable).getLong(row);
+                        resultRows.set(ii, tableOffsets[firstFoundTable]
+                                + tableFirstFoundRows[firstFoundTable].find(firstFoundRowKey));
+                    }
+
+                    try (final RowSequence rows = RowSequenceFactory.forRange(firstRow, lastRow)) {
+                        for (int ci = 0; ci < outputKeySources.length; ++ci) {
+                            partitionKeySources[ci].fillChunk(keyFillContexts[ci], keyChunks[ci], rows);
+                            outputKeySources[ci].fillFromChunkUnordered(keyFillFromContexts[ci],
+                                    keyChunks[ci], resultRows);
+                        }
+                        for (int ti = 0; ti < tables.length; ++ti) {
+                            manager.getRedirectionSource(ti).fillChunk(redirectionFillContext, redirections, rows);
+                            redirectionSources[ti].fillFromChunkUnordered(redirectionFillFromContext, redirections,
+                                    resultRows);
+                        }
+                    }
+                }
+            }
+        }
+
+        private void cleanup() {
+            SafeCloseable.closeAll(tableFirstFoundRows);
+        }
+
+        private void onError(final Exception error) {
+            resultFuture.completeExceptionally(error);
+        }
+    }
+
+    @Override
+    public long getResultSize() {
+        return resultSize;
+    }
+
+    @Override
+    public ColumnSource<?>[] getKeyHashTableSources() {
+        return outputKeySources;
+    }
+
+    @Override
+    public RowRedirection getRowRedirectionForTable(int tableNumber) {
+        return new LongColumnSourceRowRedirection<>(redirectionSources[tableNumber]);
+    }
+}
@@ -8,6 +8,7 @@ import io.deephaven.chunk.Chunk;
 import io.deephaven.chunk.ChunkType;
 import io.deephaven.chunk.attributes.Values;
 import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.WritableColumnSource;
@@ -27,7 +28,7 @@ import static io.deephaven.engine.table.impl.JoinControl.CHUNK_SIZE;
 import static io.deephaven.engine.table.impl.JoinControl.MAX_TABLE_SIZE;
 import static io.deephaven.engine.table.impl.util.TypedHasherUtil.getKeyChunks;
 
-public abstract class StaticMultiJoinStateManagerTypedBase implements MultiJoinStateManager {
+public abstract class StaticMultiJoinStateManagerTypedBase implements MultiJoinStateManager.TableAtATime {
     protected final ColumnSource<?>[] keySourcesForErrorMessages;
     private final List<LongArraySource> redirectionSources = new ArrayList<>();
 
@@ -99,12 +100,23 @@ public abstract class StaticMultiJoinStateManagerTypedBase implements MultiJoinS
 
     @Override
     public void build(final Table table, ColumnSource<?>[] keySources, int tableNumber) {
-        if (table.isEmpty()) {
+        build(table.getRowSet(), keySources, tableNumber);
+    }
+
+    /**
+     * Add the given rows of a table to this multiJoin result.
+     *
+     * @param rows the rows to add
+     * @param keySources the column sources that contain the keys
+     * @param tableNumber the table number for which we are adding rows
+     */
+    void build(final RowSet rows, ColumnSource<?>[] keySources, int tableNumber) {
+        if (rows.isEmpty()) {
             return;
         }
         final LongArraySource tableRedirSource = redirectionSources.get(tableNumber);
-        try (final BuildContext bc = makeBuildContext(keySources, table.size())) {
-            buildTable(bc, table.getRowSet(), keySources, new BuildHandler(tableRedirSource, tableNumber));
+        try (final BuildContext bc = makeBuildContext(keySources, rows.size())) {
+            buildTable(bc, rows, keySources, new BuildHandler(tableRedirSource, tableNumber));
         }
     }
 
@@ -192,6 +204,17 @@ public abstract class StaticMultiJoinStateManagerTypedBase implements MultiJoinS
         return outputKeySources;
     }
 
+    /**
+     * Get the source mapping output rows to row keys in the given table. It is only guaranteed to have capacity for the
+     * output rows created before the table was last built.
+     *
+     * @param tableNumber the table to fetch
+     * @return the redirection source for the table
+     */
+    LongArraySource getRedirectionSource(int tableNumber) {
+        return redirectionSources.get(tableNumber);
+    }
+
     @Override
     public RowRedirection getRowRedirectionForTable(int tableNumber) {
         return new LongColumnSourceRowRedirection<>(redirectionSources.get(tableNumber));
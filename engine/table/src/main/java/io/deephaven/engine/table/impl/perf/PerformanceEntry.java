@@ -29,6 +29,14 @@ public class PerformanceEntry extends BasePerformanceEntry implements TableListe
     private final static boolean REQUIRE_AUTH_CONTEXT =
             Configuration.getInstance().getBooleanWithDefault("PerformanceEntry.requireAuthContext", false);
 
+    /**
+     * The weight given to each new observation by the {@link #getCriticalPathNanos() critical path} estimates is
+     * {@code 2^-CRITICAL_PATH_DECAY_SHIFT}.
+     */
+    private static final int CRITICAL_PATH_DECAY_SHIFT = 3;
+
+    private static final PerformanceEntry[] ZERO_LENGTH_PERFORMANCE_ENTRY_ARRAY = new PerformanceEntry[0];
+
     private final long id;
     private final long evaluationNumber;
     private final int operationNumber;
@@ -54,8 +62,28 @@ public class PerformanceEntry extends BasePerformanceEntry implements TableListe
     private final RuntimeMemory.Sample startSample;
     private final RuntimeMemory.Sample endSample;
 
+    /**
+     * Exponentially weighted moving average of this entry's usage per invocation, in nanoseconds. Unlike the interval
+     * statistics above, this is not {@link #reset() reset} between intervals.
+     */
+    private volatile long averageInvocationNanos;
+    /**
+     * The largest {@link #getCriticalPathNanos() critical path} reported by a descendant of this entry, decayed each
+     * time this entry completes an invocation so that estimates from descendants that no longer tick fade away.
+     */
+    private volatile long descendantCriticalPathNanos;
+    /**
+     * Entries for the ancestors of this entry, to which it reports its critical path.
+     */
+    private volatile PerformanceEntry[] ancestors = ZERO_LENGTH_PERFORMANCE_ENTRY_ARRAY;
+    /**
+     * Whether this entry maintains its {@link #getCriticalPathNanos() critical path} estimate.
+     */
+    private final boolean trackCriticalPath;
+
     PerformanceEntry(final long id, final long evaluationNumber, final int operationNumber,
-            final String description, final String callerLine, final String updateGraphName) {
+            final String description, final String callerLine, final String updateGraphName,
+            final boolean trackCriticalPath) {
         this.id = id;
         this.evaluationNumber = evaluationNumber;
         this.operationNumber = operationNumber;
@@ -63,6 +91,7 @@ public class PerformanceEntry extends BasePerformanceEntry implements TableListe
         this.callerLine = callerLine;
         authContext = id == QueryConstants.NULL_LONG ? null : getContext();
         this.updateGraphName = updateGraphName;
+        this.trackCriticalPath = trackCriticalPath;
         startSample = new RuntimeMemory.Sample();
         endSample = new RuntimeMemory.Sample();
         maxTotalMemory = 0;
@@ -102,7 +131,13 @@ public class PerformanceEntry extends BasePerformanceEntry implements TableListe
     }
 
     public final void onUpdateEnd() {
-        onBaseEntryEnd();
+        if (trackCriticalPath) {
+            final long usageNanosBefore = getUsageNanos();
+            onBaseEntryEnd();
+            updateCriticalPath(getUsageNanos() - usageNanosBefore);
+        } else {
+            onBaseEntryEnd();
+        }
         RuntimeMemory.getInstance().read(endSample);
         maxTotalMemory = Math.max(maxTotalMemory, Math.max(startSample.totalMemory, endSample.totalMemory));
         minFreeMemory = Math.min(minFreeMemory, Math.min(startSample.freeMemory, endSample.freeMemory));
@@ -111,6 +146,50 @@ public class PerformanceEntry extends BasePerformanceEntry implements TableListe
         ++invocationCount;
     }
 
+    private void updateCriticalPath(final long invocationNanos) {
+        final long average = averageInvocationNanos;
+        averageInvocationNanos = average == 0
+                ? invocationNanos
+                : average + ((invocationNanos - average) >> CRITICAL_PATH_DECAY_SHIFT);
+        final long descendant = descendantCriticalPathNanos;
+        descendantCriticalPathNanos = descendant - (descendant >> CRITICAL_PATH_DECAY_SHIFT);
+
+        final long criticalPathNanos = getCriticalPathNanos();
+        for (final PerformanceEntry ancestor : ancestors) {
+            ancestor.offerDescendantCriticalPath(criticalPathNanos);
+        }
+    }
+
+    private void offerDescendantCriticalPath(final long criticalPathNanos) {
+        // Concurrently completing descendants may race here and lose an offer. That's acceptable for a scheduling
+        // heuristic; the next invocation will correct it.
+        if (criticalPathNanos > descendantCriticalPathNanos) {
+            descendantCriticalPathNanos = criticalPathNanos;
+        }
+    }
+
+    /**
+     * Set the entries for the ancestors of this entry, which will be informed of this entry's
+     * {@link #getCriticalPathNanos() critical path} each time it completes an invocation.
+     *
+     * @param ancestors The ancestor entries
+     */
+    void setAncestors(@NotNull final PerformanceEntry[] ancestors) {
+        this.ancestors = ancestors;
+    }
+
+    /**
+     * Get an estimate of the time, in nanoseconds, from the start of an invocation of this entry until the completion
+     * of its slowest chain of descendants. This is derived from the historical usage of this entry and its descendants,
+     * and is intended for prioritizing update graph notifications.
+     *
+     * @return The critical path estimate in nanoseconds, or 0 if this entry has never been invoked or does not track
+     *         its critical path
+     */
+    public long getCriticalPathNanos() {
+        return averageInvocationNanos + descendantCriticalPathNanos;
+    }
+
     void reset() {
         baseEntryReset();
         invocationCount = 0;
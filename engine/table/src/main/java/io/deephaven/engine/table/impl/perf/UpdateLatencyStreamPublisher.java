@@ -0,0 +1,92 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.perf;
+
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.table.ColumnDefinition;
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.engine.table.impl.sources.ArrayBackedColumnSource;
+import io.deephaven.stream.StreamChunkUtils;
+import io.deephaven.stream.StreamConsumer;
+import io.deephaven.stream.StreamPublisher;
+import org.HdrHistogram.Histogram;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+class UpdateLatencyStreamPublisher implements StreamPublisher {
+
+    private static final TableDefinition DEFINITION = TableDefinition.of(
+            ColumnDefinition.ofTime("IntervalEndTime"),
+            ColumnDefinition.ofString("Sink"),
+            ColumnDefinition.ofString("Phase"),
+            ColumnDefinition.ofLong("Count"),
+            ColumnDefinition.ofDouble("Pct50"),
+            ColumnDefinition.ofDouble("Pct75"),
+            ColumnDefinition.ofDouble("Pct90"),
+            ColumnDefinition.ofDouble("Pct95"),
+            ColumnDefinition.ofDouble("Pct99"),
+            ColumnDefinition.ofDouble("Max"));
+
+    private static final int CHUNK_SIZE = ArrayBackedColumnSource.BLOCK_SIZE;
+
+    public static TableDefinition definition() {
+        return DEFINITION;
+    }
+
+    private WritableChunk<Values>[] chunks;
+    private StreamConsumer consumer;
+
+    UpdateLatencyStreamPublisher() {
+        chunks = StreamChunkUtils.makeChunksForDefinition(DEFINITION, CHUNK_SIZE);
+    }
+
+    @Override
+    public void register(@NotNull StreamConsumer consumer) {
+        if (this.consumer != null) {
+            throw new IllegalStateException("Can not register multiple StreamConsumers.");
+        }
+        this.consumer = Objects.requireNonNull(consumer);
+    }
+
+    /**
+     * Add a row summarizing {@code histogram}, whose values are in nanoseconds, in milliseconds.
+     */
+    public synchronized void add(
+            final long intervalEndTimeNanos,
+            final String sink,
+            final String phase,
+            final Histogram histogram) {
+        chunks[0].asWritableLongChunk().add(intervalEndTimeNanos);
+        chunks[1].<String>asWritableObjectChunk().add(sink);
+        chunks[2].<String>asWritableObjectChunk().add(phase);
+        chunks[3].asWritableLongChunk().add(histogram.getTotalCount());
+        chunks[4].asWritableDoubleChunk().add(histogram.getValueAtPercentile(50) / 1e6);
+        chunks[5].asWritableDoubleChunk().add(histogram.getValueAtPercentile(75) / 1e6);
+        chunks[6].asWritableDoubleChunk().add(histogram.getValueAtPercentile(90) / 1e6);
+        chunks[7].asWritableDoubleChunk().add(histogram.getValueAtPercentile(95) / 1e6);
+        chunks[8].asWritableDoubleChunk().add(histogram.getValueAtPercentile(99) / 1e6);
+        chunks[9].asWritableDoubleChunk().add(histogram.getMaxValue() / 1e6);
+        if (chunks[0].size() == CHUNK_SIZE) {
+            flushInternal();
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        if (chunks[0].size() == 0) {
+            return;
+        }
+        flushInternal();
+    }
+
+    private void flushInternal() {
+        consumer.accept(chunks);
+        chunks = StreamChunkUtils.makeChunksForDefinition(DEFINITION, CHUNK_SIZE);
+    }
+
+    @Override
+    public void shutdown() {}
+}
@@ -0,0 +1,341 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.perf;
+
+import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.TableUpdate;
+import io.deephaven.engine.table.impl.BlinkTableTools;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.updategraph.UpdateGraph;
+import io.deephaven.stream.StreamToBlinkTableAdapter;
+import io.deephaven.time.DateTimeUtils;
+import io.deephaven.util.annotations.TestUseOnly;
+import org.HdrHistogram.Histogram;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Samples the end-to-end latency of rows through an {@link UpdateGraph}, from ingestion by an update source such as a
+ * {@link StreamToBlinkTableAdapter} or {@link io.deephaven.engine.table.impl.util.DynamicTableWriter} until a sink
+ * such as a Barrage subscription or a Kafka publisher finishes writing them.
+ * <p>
+ * Tracing is disabled unless the {@code UpdateLatencyTracker.sampleInterval} property is positive, in which case one
+ * in every {@code sampleInterval} update graph cycles is traced. Update sources {@link #recordIngest stamp} the cycle
+ * that delivers their data with the time the earliest row arrived. Every {@link TableUpdate} propagated by that cycle
+ * shares its clock step, so a sink picks up the stamp by {@link #traceAtSink tracing} the cycle in which its listener
+ * is notified, carries the trace until the data is written, and then {@link #recordOutput records} it. Each trace is
+ * broken into:
+ * <ul>
+ * <li>{@code CycleWait}: from ingestion until an update graph cycle delivers the data</li>
+ * <li>{@code Listener}: from the start of that cycle until the sink's listener is notified</li>
+ * <li>{@code SinkWait}: from the sink's notification until it begins writing, e.g. while Barrage coalesces updates</li>
+ * <li>{@code Serialization}: the time the sink spends serializing and writing the data</li>
+ * <li>{@code EndToEnd}: from ingestion until the sink finishes writing</li>
+ * </ul>
+ * Each phase is summarized per sink in a histogram, which is published to {@link #getQueryTable()} in milliseconds
+ * every {@code UpdateLatencyTracker.reportIntervalMillis}.
+ */
+public class UpdateLatencyTracker {
+
+    /**
+     * Trace one in every {@code SAMPLE_INTERVAL} update graph cycles, or none if zero.
+     */
+    public static final long SAMPLE_INTERVAL = Configuration.getInstance().getLongForClassWithDefault(
+            UpdateLatencyTracker.class, "sampleInterval", 0L);
+
+    /**
+     * Whether tracing is enabled. Update sources should avoid reading the time unless it is.
+     */
+    public static final boolean ENABLED = SAMPLE_INTERVAL > 0;
+
+    /**
+     * The sample interval in effect, which is {@link #SAMPLE_INTERVAL} except in unit tests.
+     */
+    private static volatile long sampleInterval = SAMPLE_INTERVAL;
+
+    private static final long REPORT_INTERVAL_MILLIS = Configuration.getInstance().getLongForClassWithDefault(
+            UpdateLatencyTracker.class, "reportIntervalMillis", 60 * 1000L);
+
+    private static final String[] PHASES = {"CycleWait", "Listener", "SinkWait", "Serialization", "EndToEnd"};
+    private static final int NUM_SIG_FIGS = 3;
+
+    private static final Map<String, CycleStamp> CYCLE_STAMPS = new ConcurrentHashMap<>();
+    private static final Map<String, Histogram[]> SINK_HISTOGRAMS = new ConcurrentHashMap<>();
+
+    private static volatile UpdateLatencyTracker INSTANCE;
+    private static boolean started = false;
+
+    /**
+     * The earliest ingestion time, and the time of the first update source refresh, for the most recent traced cycle of
+     * one update graph.
+     */
+    private static final class CycleStamp {
+        private long step = -1;
+        private long ingestNanos;
+        private long refreshNanos;
+    }
+
+    /**
+     * The latency of one traced cycle's data, as observed by a sink. All times are from {@link System#nanoTime()}.
+     */
+    public static final class Trace {
+        private final long ingestNanos;
+        private final long refreshNanos;
+        private final long sinkNanos;
+
+        private Trace(final long ingestNanos, final long refreshNanos, final long sinkNanos) {
+            this.ingestNanos = ingestNanos;
+            this.refreshNanos = refreshNanos;
+            this.sinkNanos = sinkNanos;
+        }
+    }
+
+    /**
+     * Record that an update source is delivering data in the current cycle of {@code updateGraph}. Must be called
+     * while the update source is refreshing.
+     *
+     * @param updateGraph The update graph
+     * @param ingestNanos The {@link System#nanoTime()} at which the earliest row being delivered arrived
+     */
+    public static void recordIngest(@NotNull final UpdateGraph updateGraph, final long ingestNanos) {
+        final long interval = sampleInterval;
+        if (interval <= 0) {
+            return;
+        }
+        final long step = updateGraph.clock().currentStep();
+        if (step % interval != 0) {
+            return;
+        }
+        final long nowNanos = System.nanoTime();
+        final CycleStamp stamp = CYCLE_STAMPS.computeIfAbsent(updateGraph.getName(), name -> new CycleStamp());
+        synchronized (stamp) {
+            if (stamp.step != step) {
+                stamp.step = step;
+                stamp.ingestNanos = ingestNanos;
+                stamp.refreshNanos = nowNanos;
+            } else {
+                stamp.ingestNanos = Math.min(stamp.ingestNanos, ingestNanos);
+                stamp.refreshNanos = Math.min(stamp.refreshNanos, nowNanos);
+            }
+        }
+    }
+
+    /**
+     * Begin a trace at a sink whose listener has been notified in the current cycle of {@code updateGraph}.
+     *
+     * @param updateGraph The update graph
+     * @return The trace, or {@code null} if the current cycle is not traced
+     */
+    @Nullable
+    public static Trace traceAtSink(@NotNull final UpdateGraph updateGraph) {
+        if (sampleInterval <= 0) {
+            return null;
+        }
+        final CycleStamp stamp = CYCLE_STAMPS.get(updateGraph.getName());
+        if (stamp == null) {
+            return null;
+        }
+        final long step = updateGraph.clock().currentStep();
+        synchronized (stamp) {
+            if (stamp.step != step) {
+                return null;
+            }
+            return new Trace(stamp.ingestNanos, stamp.refreshNanos, System.nanoTime());
+        }
+    }
+
+    /**
+     * Get the trace with the earlier ingestion time, for sinks that coalesce the data from several cycles.
+     *
+     * @param first The first trace, or {@code null}
+     * @param second The second trace, or {@code null}
+     * @return The trace with the earlier ingestion time, or {@code null} if both are {@code null}
+     */
+    @Nullable
+    public static Trace earliest(@Nullable final Trace first, @Nullable final Trace second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        return first.ingestNanos <= second.ingestNanos ? first : second;
+    }
+
+    /**
+     * Record that {@code sink} has finished writing the data traced by {@code trace}.
+     *
+     * @param sink The name of the sink
+     * @param trace The trace, or {@code null} if the data was not traced
+     * @param outputStartNanos The {@link System#nanoTime()} at which the sink began serializing the data
+     */
+    public static void recordOutput(@NotNull final String sink, @Nullable final Trace trace,
+            final long outputStartNanos) {
+        if (trace == null) {
+            return;
+        }
+        final long outputEndNanos = System.nanoTime();
+        final Histogram[] histograms = SINK_HISTOGRAMS.computeIfAbsent(sink, name -> makeHistograms());
+        synchronized (histograms) {
+            record(histograms[0], trace.refreshNanos - trace.ingestNanos);
+            record(histograms[1], trace.sinkNanos - trace.refreshNanos);
+            record(histograms[2], outputStartNanos - trace.sinkNanos);
+            record(histograms[3], outputEndNanos - outputStartNanos);
+            record(histograms[4], outputEndNanos - trace.ingestNanos);
+        }
+    }
+
+    /**
+     * Stop tracking {@code sink}, e.g. because it has been destroyed. Any latencies it has recorded since the last
+     * {@link #flush() flush} are published first. A sink that records output again is tracked anew.
+     *
+     * @param sink The name of the sink
+     */
+    public static void removeSink(@NotNull final String sink) {
+        final Histogram[] histograms = SINK_HISTOGRAMS.remove(sink);
+        final UpdateLatencyTracker instance = INSTANCE;
+        if (histograms != null && instance != null) {
+            instance.publish(DateTimeUtils.millisToNanos(System.currentTimeMillis()), sink, histograms);
+        }
+    }
+
+    private static Histogram[] makeHistograms() {
+        final Histogram[] histograms = new Histogram[PHASES.length];
+        for (int ii = 0; ii < PHASES.length; ++ii) {
+            histograms[ii] = new Histogram(NUM_SIG_FIGS);
+        }
+        return histograms;
+    }
+
+    private static void record(@NotNull final Histogram histogram, final long nanos) {
+        histogram.recordValue(Math.max(0, nanos));
+    }
+
+    public static UpdateLatencyTracker getInstance() {
+        UpdateLatencyTracker local;
+        if ((local = INSTANCE) == null) {
+            synchronized (UpdateLatencyTracker.class) {
+                if ((local = INSTANCE) == null) {
+                    INSTANCE = local = new UpdateLatencyTracker();
+                }
+            }
+        }
+        return local;
+    }
+
+    private final UpdateLatencyStreamPublisher publisher;
+    // Keep, may eventually want to manage closing
+    @SuppressWarnings("FieldCanBeLocal")
+    private final StreamToBlinkTableAdapter adapter;
+    private final Table blink;
+
+    private UpdateLatencyTracker() {
+        publisher = new UpdateLatencyStreamPublisher();
+        adapter = new StreamToBlinkTableAdapter(
+                UpdateLatencyStreamPublisher.definition(),
+                publisher,
+                ExecutionContext.getContext().getUpdateGraph(),
+                UpdateLatencyTracker.class.getName());
+        blink = adapter.table();
+    }
+
+    private void startThread() {
+        final Thread driverThread = new Thread(this::drive, UpdateLatencyTracker.class.getSimpleName() + ".Driver");
+        driverThread.setDaemon(true);
+        driverThread.start();
+    }
+
+    /**
+     * Start periodically publishing latency histograms, if tracing is {@link #ENABLED enabled}.
+     */
+    public static synchronized void start() {
+        if (started || !ENABLED) {
+            return;
+        }
+        started = true;
+        getInstance().startThread();
+    }
+
+    private void drive() {
+        // noinspection InfiniteLoopStatement
+        while (true) {
+            try {
+                Thread.sleep(REPORT_INTERVAL_MILLIS);
+            } catch (InterruptedException ignore) {
+                // ignore
+            }
+            flush();
+        }
+    }
+
+    /**
+     * Publish and reset the histograms for every sink.
+     */
+    public void flush() {
+        final long nowNanos = DateTimeUtils.millisToNanos(System.currentTimeMillis());
+        for (final Map.Entry<String, Histogram[]> entry : SINK_HISTOGRAMS.entrySet()) {
+            publish(nowNanos, entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void publish(final long nowNanos, @NotNull final String sink, @NotNull final Histogram[] histograms) {
+        synchronized (histograms) {
+            for (int ii = 0; ii < PHASES.length; ++ii) {
+                if (histograms[ii].getTotalCount() == 0) {
+                    continue;
+                }
+                publisher.add(nowNanos, sink, PHASES[ii], histograms[ii]);
+                histograms[ii].reset();
+            }
+        }
+    }
+
+    /**
+     * Override the sample interval, e.g. to trace every cycle. Update sources that check {@link #ENABLED} will still
+     * not stamp their data; tests should {@link #recordIngest record ingestion} themselves.
+     *
+     * @param interval The sample interval, or zero to disable tracing
+     */
+    @TestUseOnly
+    public static void setSampleIntervalForUnitTests(final long interval) {
+        sampleInterval = interval;
+    }
+
+    /**
+     * Get a copy of the histogram of one phase's latencies for {@code sink}, in nanoseconds.
+     *
+     * @param sink The name of the sink
+     * @param phase The phase, e.g. {@code EndToEnd}
+     * @return A copy of the histogram, or {@code null} if {@code sink} is not tracked
+     */
+    @TestUseOnly
+    @Nullable
+    public static Histogram getHistogramForUnitTests(@NotNull final String sink, @NotNull final String phase) {
+        final Histogram[] histograms = SINK_HISTOGRAMS.get(sink);
+        if (histograms == null) {
+            return null;
+        }
+        final int phaseIndex = Arrays.asList(PHASES).indexOf(phase);
+        if (phaseIndex < 0) {
+            throw new IllegalArgumentException("Unknown phase " + phase);
+        }
+        synchronized (histograms) {
+            return histograms[phaseIndex].copy();
+        }
+    }
+
+    public Table getBlinkTable() {
+        return blink;
+    }
+
+    public QueryTable getQueryTable() {
+        return (QueryTable) BlinkTableTools.blinkToAppendOnly(blink);
+    }
+}
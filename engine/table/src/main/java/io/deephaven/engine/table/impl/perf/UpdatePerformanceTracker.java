@@ -31,12 +31,17 @@ import io.deephaven.util.SafeCloseable;
 import io.deephaven.util.annotations.TestUseOnly;
 import org.apache.commons.lang3.mutable.MutableObject;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
@@ -201,22 +206,46 @@ public class UpdatePerformanceTracker {
     private static final AtomicLong entryIdCounter = new AtomicLong(1);
 
     private final UpdateGraph updateGraph;
+    /**
+     * Whether entries estimate their {@link PerformanceEntry#getCriticalPathNanos() critical paths}, which requires
+     * resolving their ancestors.
+     */
+    private final boolean trackCriticalPath;
     private final PerformanceEntry aggregatedSmallUpdatesEntry;
     private final PerformanceEntry flushEntry;
-    private final Queue<WeakReference<PerformanceEntry>> entries = new LinkedBlockingDeque<>();
+    private final Queue<EntryReference> entries = new LinkedBlockingDeque<>();
+    /**
+     * Live entries by {@link PerformanceEntry#getId() id}, for resolving ancestor relationships.
+     */
+    private final Map<Long, EntryReference> entriesById = new ConcurrentHashMap<>();
+    /**
+     * References to entries that have been garbage collected, to be removed from {@link #entriesById}.
+     */
+    private final ReferenceQueue<PerformanceEntry> releasedEntries = new ReferenceQueue<>();
 
     private boolean unitTestMode = false;
 
     private long intervalStartTimeEpochNanos = QueryConstants.NULL_LONG;
 
     public UpdatePerformanceTracker(final UpdateGraph updateGraph) {
+        this(updateGraph, false);
+    }
+
+    /**
+     * @param updateGraph The update graph whose updates are tracked
+     * @param trackCriticalPath Whether entries should estimate their
+     *        {@link PerformanceEntry#getCriticalPathNanos() critical paths}, for update graphs that prioritize
+     *        notifications by them
+     */
+    public UpdatePerformanceTracker(final UpdateGraph updateGraph, final boolean trackCriticalPath) {
         this.updateGraph = Objects.requireNonNull(updateGraph);
+        this.trackCriticalPath = trackCriticalPath;
         this.aggregatedSmallUpdatesEntry = new PerformanceEntry(
                 QueryConstants.NULL_LONG, QueryConstants.NULL_LONG, QueryConstants.NULL_INT,
-                "Aggregated Small Updates", null, updateGraph.getName());
+                "Aggregated Small Updates", null, updateGraph.getName(), false);
         this.flushEntry = new PerformanceEntry(
                 QueryConstants.NULL_LONG, QueryConstants.NULL_LONG, QueryConstants.NULL_INT,
-                "UpdatePerformanceTracker Flush", null, updateGraph.getName());
+                "UpdatePerformanceTracker Flush", null, updateGraph.getName(), false);
     }
 
     /**
@@ -250,18 +279,33 @@ public class UpdatePerformanceTracker {
     }
 
     /**
-     * Log an array of ancestors for the provided entry.
+     * Log an array of ancestors for the provided entry, and link the entry to those ancestors for the purposes of
+     * {@link PerformanceEntry#getCriticalPathNanos() critical path} estimation.
      * 
      * @param entry entry of entry to log for
      * @param ancestors array of ancestor ids
      */
     public void logAncestors(String updateGraphName, PerformanceEntry entry, Supplier<long[]> ancestors) {
         final InternalState state = maybeGetInternalState();
+        if (state == null && unitTestMode) {
+            return;
+        }
+        final long[] ancestorArray = ancestors.get();
+        if (ancestorArray == null || ancestorArray.length == 0) {
+            return;
+        }
+        if (trackCriticalPath && !unitTestMode) {
+            expungeReleasedEntries();
+            // Link the entry to its ancestors, so that they can account for it in their critical path estimates
+            entry.setAncestors(Arrays.stream(ancestorArray)
+                    .mapToObj(entriesById::get)
+                    .map(ref -> ref == null ? null : ref.get())
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toArray(PerformanceEntry[]::new));
+        }
         if (state != null) {
-            final long[] ancestorArray = ancestors.get();
-            if (ancestorArray != null && ancestorArray.length > 0) {
-                state.publishAncestor(updateGraphName, entry, ancestorArray);
-            }
+            state.publishAncestor(updateGraphName, entry, ancestorArray);
         }
     }
 
@@ -292,11 +336,19 @@ public class UpdatePerformanceTracker {
                     operationNumber,
                     effectiveDescription,
                     QueryPerformanceRecorder.getCallerLine(),
-                    updateGraph.getName()));
+                    updateGraph.getName(),
+                    trackCriticalPath));
         });
         final PerformanceEntry entry = entryMu.getValue();
         if (!unitTestMode) {
-            entries.add(new WeakReference<>(entry));
+            if (trackCriticalPath) {
+                expungeReleasedEntries();
+                final EntryReference entryReference = new EntryReference(entry, releasedEntries);
+                entries.add(entryReference);
+                entriesById.put(entry.getId(), entryReference);
+            } else {
+                entries.add(new EntryReference(entry, null));
+            }
         }
 
         return entry;
@@ -329,8 +381,9 @@ public class UpdatePerformanceTracker {
         flushEntry.reset();
         flushEntry.onUpdateStart();
 
-        for (final Iterator<WeakReference<PerformanceEntry>> it = entries.iterator(); it.hasNext();) {
-            final WeakReference<PerformanceEntry> entryReference = it.next();
+        expungeReleasedEntries();
+        for (final Iterator<EntryReference> it = entries.iterator(); it.hasNext();) {
+            final EntryReference entryReference = it.next();
             final PerformanceEntry entry = entryReference == null ? null : entryReference.get();
             if (entry == null) {
                 it.remove();
@@ -352,6 +405,37 @@ public class UpdatePerformanceTracker {
         flushEntry.onUpdateEnd();
     }
 
+    /**
+     * Remove the entries that have been garbage collected from {@link #entriesById}.
+     */
+    private void expungeReleasedEntries() {
+        EntryReference entryReference;
+        while ((entryReference = (EntryReference) releasedEntries.poll()) != null) {
+            entriesById.remove(entryReference.id, entryReference);
+        }
+    }
+
+    /**
+     * @return the number of entries that may be resolved as ancestors
+     */
+    @TestUseOnly
+    int ancestorCandidateCountForUnitTests() {
+        expungeReleasedEntries();
+        return entriesById.size();
+    }
+
+    private static final class EntryReference extends WeakReference<PerformanceEntry> {
+
+        private final long id;
+
+        private EntryReference(
+                @NotNull final PerformanceEntry entry,
+                @Nullable final ReferenceQueue<PerformanceEntry> releasedEntries) {
+            super(entry, releasedEntries);
+            id = entry.getId();
+        }
+    }
+
     /**
      * Holder for logging details that are the same for every Entry in an interval
      */
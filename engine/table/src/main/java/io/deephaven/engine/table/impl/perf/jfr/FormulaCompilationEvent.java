@@ -0,0 +1,29 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.perf.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event spanning one round of Java compilation for formulas and other generated classes.
+ */
+@Name("io.deephaven.FormulaCompilation")
+@Label("Formula Compilation")
+@Category({"Deephaven", "Compilation"})
+@Description("A round of Java compilation for generated classes")
+@StackTrace(false)
+public final class FormulaCompilationEvent extends jdk.jfr.Event {
+
+    @Label("Description")
+    @Description("The description of the first class compiled in this round")
+    public String description;
+
+    @Label("Classes")
+    @Description("The number of classes compiled in this round")
+    public int classes;
+}
@@ -0,0 +1,50 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.perf.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JDK Flight Recorder event spanning the execution of one listener or merged listener notification.
+ */
+@Name("io.deephaven.ListenerExecution")
+@Label("Listener Execution")
+@Category({"Deephaven", "Update Graph"})
+@Description("Execution of a table listener notification")
+@StackTrace(false)
+@Threshold("1 ms")
+public final class ListenerExecutionEvent extends jdk.jfr.Event {
+
+    @Label("Description")
+    @Description("The listener's description, typically the operation that created it")
+    public String description;
+
+    @Label("Performance Entry Id")
+    @Description("The id of the listener's update performance entry, or -1 if it has none")
+    public long entryId;
+
+    @Label("Step")
+    public long step;
+
+    @Label("Added")
+    public long added;
+
+    @Label("Removed")
+    public long removed;
+
+    @Label("Modified")
+    public long modified;
+
+    @Label("Shifted")
+    public long shifted;
+
+    @Label("Failed")
+    @Description("Whether the listener threw an exception")
+    public boolean failed;
+}
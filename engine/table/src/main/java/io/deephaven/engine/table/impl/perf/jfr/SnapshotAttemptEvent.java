@@ -0,0 +1,48 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.perf.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JDK Flight Recorder event spanning one attempt to run a snapshot function, either concurrently with update
+ * processing or while holding the update graph lock.
+ */
+@Name("io.deephaven.SnapshotAttempt")
+@Label("Snapshot Attempt")
+@Category({"Deephaven", "Snapshot"})
+@Description("An attempt to construct a consistent snapshot")
+@StackTrace(false)
+@Threshold("1 ms")
+public final class SnapshotAttemptEvent extends jdk.jfr.Event {
+
+    @Label("Description")
+    @Description("The log prefix of the snapshot, identifying the operation or subscription")
+    public String description;
+
+    @Label("Attempt")
+    @Description("The 1-based concurrent attempt number, or 0 for an attempt made while holding the lock")
+    public int attempt;
+
+    @Label("Locked")
+    @Description("Whether the attempt held the update graph lock")
+    public boolean locked;
+
+    @Label("Use Previous")
+    @Description("Whether the attempt read previous values")
+    public boolean usePrev;
+
+    @Label("Consistent")
+    @Description("Whether the attempt observed a consistent state")
+    public boolean consistent;
+
+    @Label("Successful")
+    @Description("Whether the snapshot function itself succeeded")
+    public boolean successful;
+}
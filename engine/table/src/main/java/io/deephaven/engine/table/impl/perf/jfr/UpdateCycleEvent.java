@@ -0,0 +1,39 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.perf.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JDK Flight Recorder event spanning one update graph cycle, from refreshing the update sources until all resulting
+ * notifications have been processed.
+ */
+@Name("io.deephaven.UpdateCycle")
+@Label("Update Cycle")
+@Category({"Deephaven", "Update Graph"})
+@Description("An update graph cycle")
+@StackTrace(false)
+public final class UpdateCycleEvent extends jdk.jfr.Event {
+
+    @Label("Update Graph")
+    public String updateGraph;
+
+    @Label("Step")
+    @Description("The logical clock step processed by this cycle")
+    public long step;
+
+    @Label("Lock Wait")
+    @Description("Time spent waiting to acquire the update graph lock during this cycle")
+    @Timespan
+    public long lockWaitNanos;
+
+    @Label("On Budget")
+    @Description("Whether the cycle completed within the update graph's target cycle duration")
+    public boolean onBudget;
+}
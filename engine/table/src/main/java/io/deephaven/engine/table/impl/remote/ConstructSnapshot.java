@@ -16,6 +16,7 @@ import io.deephaven.engine.exceptions.ColumnSnapshotUnsuccessfulException;
 import io.deephaven.engine.exceptions.SnapshotUnsuccessfulException;
 import io.deephaven.engine.table.impl.ForkJoinPoolOperationInitializer;
 import io.deephaven.engine.table.impl.sources.InMemoryColumnSource;
+import io.deephaven.engine.table.impl.sources.Prefetchable;
 import io.deephaven.engine.table.impl.sources.RedirectedColumnSource;
 import io.deephaven.engine.updategraph.*;
 import io.deephaven.engine.rowset.*;
@@ -25,6 +26,7 @@ import io.deephaven.engine.table.impl.util.*;
 import io.deephaven.engine.updategraph.NotificationQueue.Dependency;
 import io.deephaven.engine.updategraph.impl.PeriodicUpdateGraph;
 import io.deephaven.io.log.LogEntry;
+import io.deephaven.io.log.impl.LogOutputStringImpl;
 import io.deephaven.engine.exceptions.CancellationException;
 import io.deephaven.engine.table.Table;
 import io.deephaven.util.SafeCloseableArray;
@@ -33,6 +35,7 @@ import io.deephaven.engine.liveness.LivenessScope;
 import io.deephaven.engine.liveness.LivenessScopeStack;
 import io.deephaven.engine.table.impl.BaseTable;
 import io.deephaven.engine.table.impl.NotificationStepSource;
+import io.deephaven.engine.table.impl.perf.jfr.SnapshotAttemptEvent;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.chunk.*;
 import io.deephaven.util.SafeCloseable;
@@ -1141,6 +1144,8 @@ public class ConstructSnapshot {
 
             final long attemptDurationMillis;
 
+            final SnapshotAttemptEvent attemptEvent = new SnapshotAttemptEvent();
+            attemptEvent.begin();
             final LivenessScope snapshotLivenessScope = new LivenessScope();
             try (final SafeCloseable ignored = LivenessScopeStack.open(snapshotLivenessScope, true)) {
                 final Object startObject = state.startConcurrentSnapshot(control, beforeClockValue, usePrev);
@@ -1159,6 +1164,7 @@ public class ConstructSnapshot {
                                 .append(", usePrev=").append(usePrev)
                                 .endl();
                     }
+                    commitAttemptEvent(attemptEvent, logPrefix, numConcurrentAttempts, false, usePrev, false, false);
                     break;
                 } catch (SnapshotUnsuccessfulException sue) {
                     // The snapshot function below detected a failure despite a consistent state. We should not
@@ -1197,6 +1203,8 @@ public class ConstructSnapshot {
                             .append(", usePrev=").append(usePrev)
                             .endl();
                 }
+                commitAttemptEvent(attemptEvent, logPrefix, numConcurrentAttempts, false, usePrev,
+                        snapshotSuccessful, functionSuccessful);
                 if (snapshotSuccessful) {
                     if (functionSuccessful) {
                         step = LogicalClock.getStep(beforeClockValue) - (usePrev ? 1 : 0);
@@ -1254,6 +1262,8 @@ public class ConstructSnapshot {
                             beforeClockValue, previousValuesRequested));
                 }
 
+                final SnapshotAttemptEvent attemptEvent = new SnapshotAttemptEvent();
+                attemptEvent.begin();
                 final long attemptStart = System.currentTimeMillis();
                 functionSuccessful = function.call(false, beforeClockValue);
                 Assert.assertion(functionSuccessful, "functionSuccessful");
@@ -1263,6 +1273,7 @@ public class ConstructSnapshot {
                 Assert.eq(beforeClockValue, "beforeClockValue", afterClockValue, "afterClockValue");
 
                 final boolean consistent = control.snapshotCompletedConsistently(afterClockValue, false);
+                commitAttemptEvent(attemptEvent, logPrefix, 0, true, false, consistent, functionSuccessful);
                 if (!consistent) {
                     Assert.statementNeverExecuted(String.format(
                             "Consistent execution not achieved %s",
@@ -1289,6 +1300,26 @@ public class ConstructSnapshot {
         return step;
     }
 
+    private static void commitAttemptEvent(
+            @NotNull final SnapshotAttemptEvent attemptEvent,
+            @NotNull final LogOutputAppendable logPrefix,
+            final int attempt,
+            final boolean locked,
+            final boolean usePrev,
+            final boolean consistent,
+            final boolean successful) {
+        attemptEvent.end();
+        if (attemptEvent.shouldCommit()) {
+            attemptEvent.description = new LogOutputStringImpl().append(logPrefix).toString();
+            attemptEvent.attempt = attempt;
+            attemptEvent.locked = locked;
+            attemptEvent.usePrev = usePrev;
+            attemptEvent.consistent = consistent;
+            attemptEvent.successful = successful;
+            attemptEvent.commit();
+        }
+    }
+
     /**
      * <p>
      * Populate a BarrageMessage with the specified positions to snapshot and columns.
@@ -1510,8 +1541,16 @@ public class ConstructSnapshot {
             for (int colRank = 0; colRank < numCols; ++colRank) {
                 fillContexts[colRank] = columnSources.get(colRank).makeFillContext(maxChunkSize, sharedContext);
             }
+            final Object[] prefetchSources = columnSources.toArray();
+            final boolean prefetch = !usePrev && Prefetchable.anyPrefetchable(prefetchSources);
+            long position = 0;
             while (it.hasMore()) {
                 final RowSequence reducedRowSet = it.getNextRowSequenceWithLength(maxChunkSize);
+                position += reducedRowSet.size();
+                if (prefetch) {
+                    // Start reading the next chunk while this one is copied
+                    Prefetchable.prefetchNext(rowSet, position, maxChunkSize, prefetchSources);
+                }
                 // Populate the snapshot data for each column for the current chunk of rows
                 for (int colRank = 0; colRank < numCols; ++colRank) {
                     final int colIdx = columnIndices.get(colRank);
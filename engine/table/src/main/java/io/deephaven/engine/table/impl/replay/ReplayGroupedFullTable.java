@@ -10,6 +10,8 @@ import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.impl.util.WritableRowRedirection;
 import io.deephaven.time.DateTimeUtils;
 
+import java.time.Instant;
+
 public class ReplayGroupedFullTable extends QueryReplayGroupedTable {
 
     private int redirIndexSize;
@@ -18,6 +20,7 @@ public class ReplayGroupedFullTable extends QueryReplayGroupedTable {
         super("ReplayGroupedFullTable", source, timeColumn, replayer,
                 WritableRowRedirection.FACTORY.createRowRedirection(source.intSize()), new String[] {groupingColumn});
         redirIndexSize = 0;
+        replayer.registerTimeSource(source.getRowSet(), source.getColumnSource(timeColumn, Instant.class));
         // We do not modify existing entries in the WritableRowRedirection (we only add at the end), so there's no need
         // to ask the WritableRowRedirection to track previous values.
     }
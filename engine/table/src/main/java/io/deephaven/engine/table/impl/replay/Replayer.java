@@ -39,7 +39,7 @@ public class Replayer implements ReplayerInterface, Runnable {
 
     private final ReplayerHandle handle = () -> Replayer.this;
 
-    private final UpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph();
+    protected final UpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph();
     private final SourceRefresher sourceRefresher = new SourceRefresher();
 
     // Condition variable for use with PeriodicUpdateGraph lock - the object monitor is no longer used
@@ -0,0 +1,206 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.replay;
+
+import gnu.trove.list.array.TLongArrayList;
+import io.deephaven.base.clock.Clock;
+import io.deephaven.base.clock.ClockNanoBase;
+import io.deephaven.base.verify.Require;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.impl.sources.ReinterpretUtils;
+import io.deephaven.engine.updategraph.TerminalNotification;
+import io.deephaven.internal.log.LoggerFactory;
+import io.deephaven.io.logger.Logger;
+import io.deephaven.time.DateTimeUtils;
+import io.deephaven.util.QueryConstants;
+
+import java.text.DecimalFormat;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * A replayer that advances simulated time as fast as the update graph can absorb the replayed rows, rather than
+ * according to the wall clock.
+ * <p>
+ * Every row of every replayed table is registered with the replayer, and at the end of each update graph cycle the
+ * simulated time is advanced far enough to release the next batch of rows, counted across all tables. Rows that share
+ * a timestamp are always released together, and since every table reads the same simulated time, which only changes
+ * between cycles, the replayed tables remain in timestamp order with respect to one another. A refresh is requested
+ * after every cycle, so replay proceeds at engine speed.
+ * <p>
+ * The batch size is either a fixed number of rows per cycle, or is tuned after each cycle to fill a target cycle
+ * duration, in the manner of {@link io.deephaven.engine.table.impl.select.AutoTuningIncrementalReleaseFilter}:
+ *
+ * <pre>
+ * replayer = new ThroughputReplayer(start, end, 10000, Duration.ofMillis(1000))
+ * trades = replayer.replay(historicalTrades, "Timestamp")
+ * quotes = replayer.replay(historicalQuotes, "Timestamp")
+ * replayer.start()
+ * </pre>
+ * <p>
+ * Grouped replays release rows strictly before the simulated time, so they may lag the other tables by one batch.
+ */
+public class ThroughputReplayer extends Replayer {
+    private static final Logger log = LoggerFactory.getLogger(ThroughputReplayer.class);
+
+    private final long targetCycleNanos;
+    private final TLongArrayList allTimestamps = new TLongArrayList();
+
+    private volatile long currentTimeNanos;
+    private boolean started;
+    private int pos;
+    private long rowsPerCycle;
+    private long releasedLastCycle;
+    private long firstCycleNanos = QueryConstants.NULL_LONG;
+    private long cycleStartNanos;
+    private boolean reportedCompletion;
+
+    /**
+     * Creates a replayer that releases a fixed number of rows per update graph cycle.
+     *
+     * @param startTime start time
+     * @param endTime end time
+     * @param rowsPerCycle the number of rows to release on each cycle, across all replayed tables
+     */
+    public ThroughputReplayer(Instant startTime, Instant endTime, long rowsPerCycle) {
+        this(startTime, endTime, rowsPerCycle, 0);
+    }
+
+    /**
+     * Creates a replayer that tunes the number of rows released per update graph cycle to fill a target cycle duration.
+     *
+     * @param startTime start time
+     * @param endTime end time
+     * @param initialRowsPerCycle the number of rows to release on the first cycle; after each cycle the rows per second
+     *        is calculated from the cycle's duration and the number of rows released
+     * @param targetCycleDuration the cycle duration to aim for
+     */
+    public ThroughputReplayer(Instant startTime, Instant endTime, long initialRowsPerCycle,
+            Duration targetCycleDuration) {
+        this(startTime, endTime, initialRowsPerCycle,
+                Require.gtZero(targetCycleDuration.toNanos(), "targetCycleDuration.toNanos()"));
+    }
+
+    private ThroughputReplayer(Instant startTime, Instant endTime, long rowsPerCycle, long targetCycleNanos) {
+        super(startTime, endTime);
+        this.rowsPerCycle = Require.gtZero(rowsPerCycle, "rowsPerCycle");
+        this.targetCycleNanos = targetCycleNanos;
+        currentTimeNanos = DateTimeUtils.epochNanos(startTime);
+    }
+
+    @Override
+    public void registerTimeSource(RowSet rowSet, ColumnSource<Instant> timestampSource) {
+        final ColumnSource<Long> nanosSource = ReinterpretUtils.instantToLongSource(timestampSource);
+        synchronized (allTimestamps) {
+            final int firstAdded = allTimestamps.size();
+            for (RowSet.Iterator iterator = rowSet.iterator(); iterator.hasNext();) {
+                final long timeNanos = nanosSource.getLong(iterator.nextLong());
+                if (timeNanos != QueryConstants.NULL_LONG) {
+                    allTimestamps.add(timeNanos);
+                }
+            }
+            if (started && allTimestamps.size() > firstAdded) {
+                // Rows at or before the current time are released by the table itself on construction
+                allTimestamps.sort(pos, allTimestamps.size());
+                skipReleased();
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        synchronized (allTimestamps) {
+            allTimestamps.sort();
+            skipReleased();
+            started = true;
+        }
+        super.start();
+    }
+
+    private void skipReleased() {
+        skipReleased(currentTimeNanos);
+    }
+
+    @Override
+    public void run() {
+        cycleStartNanos = System.nanoTime();
+        if (firstCycleNanos == QueryConstants.NULL_LONG) {
+            firstCycleNanos = cycleStartNanos;
+        }
+        super.run();
+        updateGraph.addNotification(new TerminalNotification() {
+            @Override
+            public void run() {
+                if (isDone()) {
+                    return;
+                }
+                // Advancing only between cycles ensures that every replayed table sees the same time in a cycle
+                advance(System.nanoTime());
+                updateGraph.requestRefresh();
+            }
+        });
+    }
+
+    private void advance(final long cycleEndNanos) {
+        if (targetCycleNanos > 0 && releasedLastCycle > 0) {
+            final double rowsPerNanosecond = (double) releasedLastCycle / Math.max(1, cycleEndNanos - cycleStartNanos);
+            rowsPerCycle = Math.max((long) (rowsPerNanosecond * targetCycleNanos), 1L);
+        }
+
+        final long endTimeNanos = DateTimeUtils.epochNanos(endTime);
+        synchronized (allTimestamps) {
+            final int startPos = pos;
+            final int size = allTimestamps.size();
+            long nextTimeNanos = endTimeNanos;
+            if (pos + rowsPerCycle < size) {
+                pos += (int) rowsPerCycle;
+                nextTimeNanos = Math.min(allTimestamps.get(pos - 1), endTimeNanos);
+                // Release everything that shares the last timestamp, so that tables stay in timestamp order
+                skipReleased(nextTimeNanos);
+            } else {
+                pos = size;
+            }
+            releasedLastCycle = pos - startPos;
+            currentTimeNanos = Math.max(currentTimeNanos, nextTimeNanos);
+        }
+
+        if (currentTimeNanos >= endTimeNanos && !reportedCompletion) {
+            reportedCompletion = true;
+            final DecimalFormat decimalFormat = new DecimalFormat("###,###.##");
+            final double durationSeconds = (cycleEndNanos - firstCycleNanos) / 1_000_000_000.0;
+            log.info().append("Completed replay ").append(decimalFormat.format(durationSeconds))
+                    .append(" seconds, rows=").append(pos).append(", rows/second=")
+                    .append(decimalFormat.format(pos / Math.max(durationSeconds, 1e-9))).endl();
+        }
+    }
+
+    private void skipReleased(final long timeNanos) {
+        while (pos < allTimestamps.size() && allTimestamps.get(pos) <= timeNanos) {
+            pos++;
+        }
+    }
+
+    @Override
+    public void setTime(long updatedTime) {
+        synchronized (allTimestamps) {
+            currentTimeNanos = Math.max(currentTimeNanos, DateTimeUtils.millisToNanos(updatedTime));
+            if (started) {
+                skipReleased();
+            }
+        }
+    }
+
+    @Override
+    public Clock clock() {
+        return new ClockImpl();
+    }
+
+    private class ClockImpl extends ClockNanoBase {
+        @Override
+        public long currentTimeNanos() {
+            return currentTimeNanos;
+        }
+    }
+}
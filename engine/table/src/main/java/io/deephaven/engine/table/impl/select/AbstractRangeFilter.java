@@ -3,14 +3,29 @@
 //
 package io.deephaven.engine.table.impl.select;
 
+import io.deephaven.engine.liveness.LivenessScopeStack;
+import io.deephaven.engine.primitive.iterator.CloseableIterator;
+import io.deephaven.engine.rowset.RowSetBuilderRandom;
+import io.deephaven.engine.rowset.RowSetFactory;
 import io.deephaven.engine.rowset.WritableRowSet;
+import io.deephaven.engine.table.BasicDataIndex;
+import io.deephaven.engine.table.DataIndex;
+import io.deephaven.engine.table.impl.DependencyStreamProvider;
+import io.deephaven.engine.table.impl.QueryTable;
 import io.deephaven.engine.table.impl.chunkfilter.ChunkFilter;
 import io.deephaven.engine.table.impl.SortingOrder;
 import io.deephaven.engine.table.impl.SortedColumnsAttribute;
 import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.table.impl.dataindex.TableBackedDataIndex;
+import io.deephaven.engine.table.impl.indexer.DataIndexAdvisor;
+import io.deephaven.engine.table.impl.indexer.DataIndexer;
+import io.deephaven.engine.table.iterators.ChunkedColumnIterator;
+import io.deephaven.engine.updategraph.NotificationQueue;
+import io.deephaven.util.SafeCloseable;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.math.BigDecimal;
 import java.util.Collections;
@@ -18,12 +33,17 @@ import java.util.List;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 /**
  * A filter that determines if a column value is between an upper and lower bound (which each may either be inclusive or
  * exclusive).
+ * <p>
+ * When the column has an in-memory {@link DataIndex}, initial filtering binary searches a view of that index sorted by
+ * key, and unions the {@link RowSet RowSets} of the keys in range, rather than scanning the column.
  */
-public abstract class AbstractRangeFilter extends WhereFilterImpl implements ExposesChunkFilter {
+public abstract class AbstractRangeFilter extends WhereFilterImpl
+        implements ExposesChunkFilter, DependencyStreamProvider {
     private static final Pattern decimalPattern = Pattern.compile("(-)?\\d+(?:\\.((\\d+)0*)?)?");
 
     protected final String columnName;
@@ -43,6 +63,17 @@ public abstract class AbstractRangeFilter extends WhereFilterImpl implements Exp
      */
     ChunkFilter longFilter;
 
+    /**
+     * A view of the {@link DataIndex} for {@link #columnName} sorted by key, if any. Only ever non-{@code null} during
+     * operation initialization.
+     */
+    private BasicDataIndex orderedDataIndex;
+    /**
+     * Whether our dependencies have been gathered at least once. As with {@link MatchFilter}, we only use the ordered
+     * index during instantiation, so the listener need not depend on it.
+     */
+    private boolean initialDependenciesGathered;
+
     AbstractRangeFilter(String columnName, boolean lowerInclusive, boolean upperInclusive) {
         this.columnName = columnName;
         this.upperInclusive = upperInclusive;
@@ -92,6 +123,102 @@ public abstract class AbstractRangeFilter extends WhereFilterImpl implements Exp
         return Collections.emptyList();
     }
 
+    @Override
+    public SafeCloseable beginOperation(@NotNull final Table sourceTable) {
+        if (initialDependenciesGathered || orderedDataIndex != null) {
+            throw new IllegalStateException("Inputs already initialized, use copy() instead of re-using a WhereFilter");
+        }
+        if (!QueryTable.USE_DATA_INDEX_FOR_WHERE || !QueryTable.USE_ORDERED_DATA_INDEX_FOR_RANGE_FILTERS) {
+            return () -> {
+            };
+        }
+        try (final SafeCloseable ignored = sourceTable.isRefreshing() ? LivenessScopeStack.open() : null) {
+            final DataIndex dataIndex = DataIndexer.getDataIndex(sourceTable, columnName);
+            DataIndexAdvisor.recordUsage(sourceTable, "where", List.of(columnName), dataIndex != null);
+            // Deferred indexes (e.g. from Parquet) would have to be loaded in full to be sorted
+            if (dataIndex instanceof TableBackedDataIndex) {
+                // The sorted view is cached on the index, so repeated filters share a single maintained sort
+                orderedDataIndex = ((TableBackedDataIndex) dataIndex).keySortedIndex();
+                if (orderedDataIndex.isRefreshing()) {
+                    orderedDataIndex.retainReference();
+                }
+            }
+        }
+        return orderedDataIndex != null ? this::completeOperation : () -> {
+        };
+    }
+
+    private void completeOperation() {
+        if (orderedDataIndex.isRefreshing()) {
+            orderedDataIndex.dropReference();
+        }
+        orderedDataIndex = null;
+    }
+
+    @Override
+    public Stream<NotificationQueue.Dependency> getDependencyStream() {
+        if (initialDependenciesGathered) {
+            return Stream.empty();
+        }
+        initialDependenciesGathered = true;
+        if (orderedDataIndex == null || !orderedDataIndex.isRefreshing()) {
+            return Stream.empty();
+        }
+        // Depend on the sorted view, not the index itself, so that the sort has been updated before we search it
+        return Stream.of(orderedDataIndex.table());
+    }
+
+    /**
+     * Get the range filter underlying {@code filter}, if it currently has an ordered data index to answer from.
+     *
+     * @param filter The filter
+     * @return The range filter, or {@code null} if {@code filter} is not a range filter with an ordered data index
+     */
+    @Nullable
+    public static AbstractRangeFilter withOrderedDataIndex(@NotNull final WhereFilter filter) {
+        final WhereFilter realFilter = filter instanceof RangeFilter ? ((RangeFilter) filter).getRealFilter() : filter;
+        if (realFilter instanceof AbstractRangeFilter
+                && ((AbstractRangeFilter) realFilter).orderedDataIndex != null) {
+            return (AbstractRangeFilter) realFilter;
+        }
+        return null;
+    }
+
+    /**
+     * Filter {@code selection} by binary searching the ordered data index for the keys in range, and unioning their
+     * row sets.
+     *
+     * @param selection The rows to filter
+     * @param usePrev Whether to use previous values
+     * @return The matching rows of {@code selection}, or {@code null} if there is no ordered data index or if more keys
+     *         are in range than there are rows to filter, in which case scanning {@code selection} is cheaper
+     */
+    @Nullable
+    public WritableRowSet filterWithOrderedDataIndex(@NotNull final RowSet selection, final boolean usePrev) {
+        if (orderedDataIndex == null) {
+            return null;
+        }
+        final Table indexTable = orderedDataIndex.table();
+        final RowSet indexRowSet = usePrev ? indexTable.getRowSet().prev() : indexTable.getRowSet();
+        final ColumnSource<?> indexKeySource = indexTable.getColumnSource(orderedDataIndex.keyColumnNames().get(0));
+        try (final RowSet matchingIndexRows = binarySearch(indexRowSet, indexKeySource, usePrev, false)) {
+            if (matchingIndexRows.size() > selection.size()) {
+                return null;
+            }
+            final ColumnSource<RowSet> indexRowSetSource = usePrev
+                    ? orderedDataIndex.rowSetColumn().getPrevSource()
+                    : orderedDataIndex.rowSetColumn();
+            final RowSetBuilderRandom matchingRowsBuilder = RowSetFactory.builderRandom();
+            try (final CloseableIterator<RowSet> matchingRowSets =
+                    ChunkedColumnIterator.make(indexRowSetSource, matchingIndexRows)) {
+                matchingRowSets.forEachRemaining(matchingRowsBuilder::addRowSet);
+            }
+            final WritableRowSet matchingRows = matchingRowsBuilder.build();
+            matchingRows.retain(selection);
+            return matchingRows;
+        }
+    }
+
     @NotNull
     @Override
     public WritableRowSet filter(
@@ -105,6 +232,10 @@ public abstract class AbstractRangeFilter extends WhereFilterImpl implements Exp
             // do binary search for value
             return binarySearch(selection, columnSource, usePrev, orderForColumn.get().isDescending());
         }
+        final WritableRowSet fromOrderedDataIndex = filterWithOrderedDataIndex(selection, usePrev);
+        if (fromOrderedDataIndex != null) {
+            return fromOrderedDataIndex;
+        }
         if (longFilter != null && columnSource.allowsReinterpret(long.class)) {
             return ChunkFilter.applyChunkFilter(selection, columnSource.reinterpret(long.class), usePrev, longFilter);
         }
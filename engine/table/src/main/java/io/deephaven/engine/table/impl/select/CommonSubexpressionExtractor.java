@@ -0,0 +1,394 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.select;
+
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.expr.ArrayAccessExpr;
+import com.github.javaparser.ast.expr.AssignExpr;
+import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.expr.CastExpr;
+import com.github.javaparser.ast.expr.ConditionalExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.LambdaExpr;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.MethodReferenceExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.ObjectCreationExpr;
+import com.github.javaparser.ast.expr.UnaryExpr;
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.engine.table.impl.lang.JavaExpressionParser;
+import io.deephaven.engine.table.impl.lang.QueryLanguageParser;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Finds subexpressions that are repeated across the formulas of a single {@code select}, {@code update} or
+ * {@code where} call, so that they can be computed once into a temporary column and referenced by name.
+ * <p>
+ * Only subexpressions that call a method or constructor are considered, since anything cheaper is not worth a column of
+ * storage. A subexpression is only extracted if it reads nothing but columns of the source table and query scope
+ * variables; anything that uses {@code i}, {@code ii}, {@code k}, column arrays, lambdas or a column defined by the
+ * same call is left in place. Formulas are assumed to be deterministic, as they are elsewhere in the engine.
+ * <p>
+ * The temporary columns are computed for every row, so a subexpression is only extracted if at least one of its uses is
+ * evaluated unconditionally. A use in either branch of a {@code ?:}, or in the right operand of {@code &&} or
+ * {@code ||}, may be guarded by the rest of the formula (e.g. {@code A == null ? 0 : A.length()}), and computing it
+ * eagerly could throw or do work that the original formulas never would.
+ */
+public class CommonSubexpressionExtractor {
+
+    public static final String TEMPORARY_COLUMN_PREFIX = "_CommonSubexpression";
+
+    private static final Set<String> VIRTUAL_ROW_VARIABLES = Set.of("i", "ii", "k");
+
+    /**
+     * The result of extracting common subexpressions: the temporary columns that must be computed first, and the
+     * rewritten columns or filters that reference them.
+     */
+    public static class Result {
+        private final SelectColumn[] temporaryColumns;
+        private final SelectColumn[] selectColumns;
+        private final WhereFilter[] filters;
+
+        private Result(
+                @NotNull final SelectColumn[] temporaryColumns,
+                final SelectColumn[] selectColumns,
+                final WhereFilter[] filters) {
+            this.temporaryColumns = temporaryColumns;
+            this.selectColumns = selectColumns;
+            this.filters = filters;
+        }
+
+        public SelectColumn[] getTemporaryColumns() {
+            return temporaryColumns;
+        }
+
+        public String[] getTemporaryColumnNames() {
+            return Arrays.stream(temporaryColumns).map(SelectColumn::getName).toArray(String[]::new);
+        }
+
+        /**
+         * @return the temporary columns followed by the rewritten select columns
+         */
+        public SelectColumn[] getSelectColumns() {
+            final SelectColumn[] result =
+                    Arrays.copyOf(temporaryColumns, temporaryColumns.length + selectColumns.length);
+            System.arraycopy(selectColumns, 0, result, temporaryColumns.length, selectColumns.length);
+            return result;
+        }
+
+        public WhereFilter[] getFilters() {
+            return filters;
+        }
+    }
+
+    /**
+     * Extract the subexpressions repeated across {@code selectColumns}.
+     *
+     * @param sourceDefinition the definition of the table the columns are evaluated against
+     * @param selectColumns the columns of a single select or update call
+     * @return the rewritten columns, or null if nothing is repeated
+     */
+    @Nullable
+    public static Result ofSelectColumns(
+            @NotNull final TableDefinition sourceDefinition,
+            @NotNull final SelectColumn[] selectColumns) {
+        final Set<String> definedColumns = new HashSet<>();
+        final String[] formulas = new String[selectColumns.length];
+        for (int ci = 0; ci < selectColumns.length; ++ci) {
+            definedColumns.add(selectColumns[ci].getName());
+            formulas[ci] = formulaOf(selectColumns[ci]);
+        }
+
+        final CommonSubexpressionExtractor extractor =
+                new CommonSubexpressionExtractor(sourceDefinition, definedColumns, formulas);
+        if (!extractor.extract(false)) {
+            return null;
+        }
+
+        final SelectColumn[] rewritten = Arrays.copyOf(selectColumns, selectColumns.length);
+        for (int ci = 0; ci < selectColumns.length; ++ci) {
+            final String rewrittenFormula = extractor.rewrittenFormulas[ci];
+            if (rewrittenFormula != null) {
+                rewritten[ci] = FormulaColumn.createFormulaColumn(
+                        selectColumns[ci].getName(), rewrittenFormula, FormulaParserConfiguration.Deephaven);
+            }
+        }
+        return new Result(extractor.temporaryColumns(), rewritten, null);
+    }
+
+    /**
+     * Extract the subexpressions repeated across {@code filters}. Because the temporary columns are computed for every
+     * row of the source table, a subexpression is only extracted if the first filter, which is evaluated against every
+     * row anyway, uses it unconditionally.
+     *
+     * @param sourceDefinition the definition of the table being filtered
+     * @param filters the filters of a single where call
+     * @return the rewritten filters, or null if nothing is repeated
+     */
+    @Nullable
+    public static Result ofFilters(
+            @NotNull final TableDefinition sourceDefinition,
+            @NotNull final WhereFilter[] filters) {
+        if (filters.length < 2 || formulaOf(filters[0]) == null) {
+            return null;
+        }
+        final String[] formulas = Arrays.stream(filters)
+                .map(CommonSubexpressionExtractor::formulaOf)
+                .toArray(String[]::new);
+
+        final CommonSubexpressionExtractor extractor =
+                new CommonSubexpressionExtractor(sourceDefinition, Collections.emptySet(), formulas);
+        if (!extractor.extract(true)) {
+            return null;
+        }
+
+        final WhereFilter[] rewritten = Arrays.copyOf(filters, filters.length);
+        for (int fi = 0; fi < filters.length; ++fi) {
+            final String rewrittenFormula = extractor.rewrittenFormulas[fi];
+            if (rewrittenFormula != null) {
+                rewritten[fi] = ConditionFilter.createConditionFilter(
+                        rewrittenFormula, FormulaParserConfiguration.Deephaven);
+            }
+        }
+        return new Result(extractor.temporaryColumns(), null, rewritten);
+    }
+
+    /**
+     * @return the original formula of a column evaluated by the Deephaven formula parser, or null if the column is
+     *         anything else
+     */
+    @Nullable
+    private static String formulaOf(@NotNull final SelectColumn selectColumn) {
+        if (selectColumn instanceof SwitchColumn) {
+            final SwitchColumn switchColumn = (SwitchColumn) selectColumn;
+            return switchColumn.getParser() == FormulaParserConfiguration.Deephaven
+                    ? switchColumn.getExpression()
+                    : null;
+        }
+        if (selectColumn instanceof DhFormulaColumn) {
+            return ((DhFormulaColumn) selectColumn).originalFormulaString;
+        }
+        return null;
+    }
+
+    /**
+     * @return the formula of a condition filter without renames, or null if the filter is anything else
+     */
+    @Nullable
+    private static String formulaOf(@NotNull final WhereFilter filter) {
+        if (filter instanceof ConditionFilter && ((ConditionFilter) filter).outerToInnerNames.isEmpty()) {
+            return ((ConditionFilter) filter).formula;
+        }
+        return null;
+    }
+
+    private final TableDefinition sourceDefinition;
+    private final Set<String> definedColumns;
+    private final Expression[] parsed;
+    private final String[] rewrittenFormulas;
+    private final Map<String, String> temporaryFormulas = new LinkedHashMap<>();
+
+    private CommonSubexpressionExtractor(
+            @NotNull final TableDefinition sourceDefinition,
+            @NotNull final Set<String> definedColumns,
+            @NotNull final String[] formulas) {
+        this.sourceDefinition = sourceDefinition;
+        this.definedColumns = definedColumns;
+        parsed = new Expression[formulas.length];
+        rewrittenFormulas = new String[formulas.length];
+        for (int fi = 0; fi < formulas.length; ++fi) {
+            parsed[fi] = parse(formulas[fi]);
+        }
+    }
+
+    @Nullable
+    private static Expression parse(@Nullable String formula) {
+        if (formula == null) {
+            return null;
+        }
+        // Backticks must be converted before single equals, as in QueryLanguageParser
+        formula = QueryLanguageParser.convertBackticks(formula);
+        formula = QueryLanguageParser.convertSingleEquals(formula);
+        try {
+            return JavaExpressionParser.parseExpression(formula);
+        } catch (final Exception e) {
+            // Leave it to the formula itself to report the error
+            return null;
+        }
+    }
+
+    /**
+     * Choose the subexpressions to extract, largest first, and rewrite the formulas that use them.
+     *
+     * @param requireFirst whether an extracted subexpression must be evaluated unconditionally by the first formula,
+     *        rather than by any formula
+     * @return true if any subexpression was extracted
+     */
+    private boolean extract(final boolean requireFirst) {
+        final Map<String, List<Expression>> occurrences = new HashMap<>();
+        final Map<Expression, Integer> roots = new IdentityHashMap<>();
+        for (int fi = 0; fi < parsed.length; ++fi) {
+            if (parsed[fi] == null) {
+                continue;
+            }
+            roots.put(parsed[fi], fi);
+            parsed[fi].walk(Expression.class, expression -> {
+                if (isCandidate(expression)) {
+                    occurrences.computeIfAbsent(expression.toString(), k -> new ArrayList<>()).add(expression);
+                }
+            });
+        }
+
+        final List<String> keys = new ArrayList<>(occurrences.keySet());
+        keys.sort(Comparator.comparingInt(String::length).reversed().thenComparing(Comparator.naturalOrder()));
+
+        final Set<Expression> extracted = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Map<Expression, String> replacements = new IdentityHashMap<>();
+        for (final String key : keys) {
+            final List<Expression> remaining = new ArrayList<>();
+            for (final Expression occurrence : occurrences.get(key)) {
+                if (!hasAncestorIn(occurrence, extracted)) {
+                    remaining.add(occurrence);
+                }
+            }
+            if (remaining.size() < 2 || remaining.stream().noneMatch(occurrence -> (!requireFirst
+                    || isIn(occurrence, parsed[0])) && !isConditionallyEvaluated(occurrence))) {
+                continue;
+            }
+            final String temporaryName = temporaryColumnName();
+            temporaryFormulas.put(temporaryName, key);
+            extracted.addAll(remaining);
+            remaining.forEach(occurrence -> replacements.put(occurrence, temporaryName));
+        }
+        if (replacements.isEmpty()) {
+            return false;
+        }
+
+        final BitSet rewritten = new BitSet(parsed.length);
+        for (final Map.Entry<Expression, String> entry : replacements.entrySet()) {
+            final Expression occurrence = entry.getKey();
+            final Node root = rootOf(occurrence);
+            final int rootIndex = roots.get(root);
+            if (root == occurrence) {
+                // The whole formula is the subexpression
+                rewrittenFormulas[rootIndex] = entry.getValue();
+                continue;
+            }
+            occurrence.replace(new NameExpr(entry.getValue()));
+            rewritten.set(rootIndex);
+        }
+        for (int fi = rewritten.nextSetBit(0); fi >= 0; fi = rewritten.nextSetBit(fi + 1)) {
+            if (rewrittenFormulas[fi] == null) {
+                rewrittenFormulas[fi] = parsed[fi].toString();
+            }
+        }
+        return true;
+    }
+
+    private SelectColumn[] temporaryColumns() {
+        return temporaryFormulas.entrySet().stream()
+                .map(entry -> FormulaColumn.createFormulaColumn(
+                        entry.getKey(), entry.getValue(), FormulaParserConfiguration.Deephaven))
+                .toArray(SelectColumn[]::new);
+    }
+
+    private String temporaryColumnName() {
+        for (int ii = temporaryFormulas.size();; ++ii) {
+            final String name = TEMPORARY_COLUMN_PREFIX + ii;
+            if (sourceDefinition.getColumn(name) == null && !definedColumns.contains(name)) {
+                return name;
+            }
+        }
+    }
+
+    private boolean isCandidate(@NotNull final Expression expression) {
+        if (!(expression instanceof MethodCallExpr
+                || expression instanceof ObjectCreationExpr
+                || expression instanceof BinaryExpr
+                || expression instanceof UnaryExpr
+                || expression instanceof CastExpr
+                || expression instanceof ConditionalExpr)) {
+            return false;
+        }
+        if (!expression.findFirst(MethodCallExpr.class).isPresent()
+                && !expression.findFirst(ObjectCreationExpr.class).isPresent()) {
+            return false;
+        }
+        if (expression.findFirst(LambdaExpr.class).isPresent()
+                || expression.findFirst(MethodReferenceExpr.class).isPresent()
+                || expression.findFirst(AssignExpr.class).isPresent()
+                || expression.findFirst(ArrayAccessExpr.class).isPresent()) {
+            return false;
+        }
+        boolean readsSourceColumn = false;
+        for (final NameExpr nameExpr : expression.findAll(NameExpr.class)) {
+            final String name = nameExpr.getNameAsString();
+            if (VIRTUAL_ROW_VARIABLES.contains(name)
+                    || name.endsWith(AbstractFormulaColumn.COLUMN_SUFFIX)
+                    || definedColumns.contains(name)) {
+                return false;
+            }
+            readsSourceColumn |= sourceDefinition.getColumn(name) != null;
+        }
+        return readsSourceColumn;
+    }
+
+    private static boolean hasAncestorIn(@NotNull final Node node, @NotNull final Set<Expression> ancestors) {
+        for (Node parent = node.getParentNode().orElse(null); parent != null;
+                parent = parent.getParentNode().orElse(null)) {
+            // noinspection SuspiciousMethodCalls
+            if (ancestors.contains(parent)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return whether evaluating {@code node} depends on the value of another part of its formula, because it is a
+     *         branch of a conditional expression or the right operand of a short-circuiting operator
+     */
+    private static boolean isConditionallyEvaluated(@NotNull final Node node) {
+        Node current = node;
+        for (Node parent = current.getParentNode().orElse(null); parent != null;
+                current = parent, parent = parent.getParentNode().orElse(null)) {
+            if (parent instanceof ConditionalExpr && ((ConditionalExpr) parent).getCondition() != current) {
+                return true;
+            }
+            if (parent instanceof BinaryExpr) {
+                final BinaryExpr binaryExpr = (BinaryExpr) parent;
+                if ((binaryExpr.getOperator() == BinaryExpr.Operator.AND
+                        || binaryExpr.getOperator() == BinaryExpr.Operator.OR)
+                        && binaryExpr.getRight() == current) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isIn(@NotNull final Node node, @Nullable final Expression root) {
+        if (root == null) {
+            return false;
+        }
+        for (Node current = node; current != null; current = current.getParentNode().orElse(null)) {
+            if (current == root) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Node rootOf(@NotNull final Node node) {
+        Node current = node;
+        for (Node parent = current.getParentNode().orElse(null); parent != null;
+                parent = parent.getParentNode().orElse(null)) {
+            current = parent;
+        }
+        return current;
+    }
+}
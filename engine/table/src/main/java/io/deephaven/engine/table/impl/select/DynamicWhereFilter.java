@@ -13,6 +13,7 @@ import io.deephaven.engine.rowset.*;
 import io.deephaven.engine.rowset.chunkattributes.OrderedRowKeys;
 import io.deephaven.engine.table.*;
 import io.deephaven.engine.table.impl.*;
+import io.deephaven.engine.table.impl.indexer.DataIndexAdvisor;
 import io.deephaven.engine.table.impl.indexer.DataIndexer;
 import io.deephaven.engine.table.impl.perf.PerformanceEntry;
 import io.deephaven.engine.table.impl.select.setinclusion.SetInclusionKernel;
@@ -300,6 +301,7 @@ public class DynamicWhereFilter extends WhereFilterLivenessArtifactImpl
     @Nullable
     private static DataIndex optimalIndex(final Table inputTable, final String[] keyColumnNames) {
         final DataIndex fullIndex = DataIndexer.getDataIndex(inputTable, keyColumnNames);
+        DataIndexAdvisor.recordUsage(inputTable, "whereIn", Arrays.asList(keyColumnNames), fullIndex != null);
         if (fullIndex != null) {
             return fullIndex;
         }
@@ -21,6 +21,7 @@ import io.deephaven.engine.table.impl.chunkfilter.ChunkMatchFilterFactory;
 import io.deephaven.engine.table.impl.lang.QueryLanguageFunctionUtils;
 import io.deephaven.engine.table.impl.preview.DisplayWrapper;
 import io.deephaven.engine.table.impl.DependencyStreamProvider;
+import io.deephaven.engine.table.impl.indexer.DataIndexAdvisor;
 import io.deephaven.engine.table.impl.indexer.DataIndexer;
 import io.deephaven.engine.updategraph.NotificationQueue;
 import io.deephaven.time.DateTimeUtils;
@@ -270,6 +271,7 @@ public class MatchFilter extends WhereFilterImpl implements DependencyStreamProv
         }
         try (final SafeCloseable ignored = sourceTable.isRefreshing() ? LivenessScopeStack.open() : null) {
             dataIndex = DataIndexer.getDataIndex(sourceTable, columnName);
+            DataIndexAdvisor.recordUsage(sourceTable, "where", List.of(columnName), dataIndex != null);
             if (dataIndex != null && dataIndex.isRefreshing()) {
                 dataIndex.retainReference();
             }
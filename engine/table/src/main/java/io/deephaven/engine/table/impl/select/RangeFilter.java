@@ -7,12 +7,15 @@ import io.deephaven.base.verify.Assert;
 import io.deephaven.engine.table.ColumnDefinition;
 import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.engine.table.impl.DependencyStreamProvider;
 import io.deephaven.engine.table.impl.QueryCompilerRequestProcessor;
 import io.deephaven.engine.table.impl.chunkfilter.ChunkFilter;
 import io.deephaven.time.DateTimeUtils;
 import io.deephaven.engine.rowset.WritableRowSet;
 import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.updategraph.NotificationQueue;
 import io.deephaven.gui.table.filters.Condition;
+import io.deephaven.util.SafeCloseable;
 import io.deephaven.util.annotations.VisibleForTesting;
 import io.deephaven.util.type.TypeUtils;
 import org.apache.commons.lang3.mutable.MutableObject;
@@ -27,6 +30,7 @@ import java.time.LocalTime;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * A filter for comparable types (including Instant) for {@link Condition} values: <br>
@@ -37,7 +41,7 @@ import java.util.Optional;
  * <li>GREATER_THAN_OR_EQUAL</li>
  * </ul>
  */
-public class RangeFilter extends WhereFilterImpl implements ExposesChunkFilter {
+public class RangeFilter extends WhereFilterImpl implements ExposesChunkFilter, DependencyStreamProvider {
 
     private String columnName;
     private String value;
@@ -306,6 +310,19 @@ public class RangeFilter extends WhereFilterImpl implements ExposesChunkFilter {
         }
     }
 
+    @Override
+    public SafeCloseable beginOperation(@NotNull final Table sourceTable) {
+        return filter.beginOperation(sourceTable);
+    }
+
+    @Override
+    public Stream<NotificationQueue.Dependency> getDependencyStream() {
+        if (filter instanceof DependencyStreamProvider) {
+            return ((DependencyStreamProvider) filter).getDependencyStream();
+        }
+        return Stream.empty();
+    }
+
     @NotNull
     @Override
     public WritableRowSet filter(
@@ -136,6 +136,15 @@ public class SwitchColumn implements SelectColumn {
         return columnName + "=" + expression;
     }
 
+    @NotNull
+    String getExpression() {
+        return expression;
+    }
+
+    FormulaParserConfiguration getParser() {
+        return parser;
+    }
+
     public SelectColumn getRealColumn() {
         if (realColumn == null) {
             throw new IllegalStateException(
@@ -20,6 +20,7 @@ import io.deephaven.engine.table.impl.TableUpdateImpl;
 import io.deephaven.engine.table.impl.select.SelectColumn;
 import io.deephaven.engine.table.impl.select.VectorChunkAdapter;
 import io.deephaven.engine.table.impl.sources.ChunkedBackingStoreExposedWritableSource;
+import io.deephaven.engine.table.impl.sources.Prefetchable;
 import io.deephaven.engine.table.impl.sources.ReinterpretUtils;
 import io.deephaven.engine.table.impl.util.ChunkUtils;
 import io.deephaven.engine.table.impl.util.JobScheduler;
@@ -433,6 +434,8 @@ final public class SelectColumnLayer extends SelectOrViewColumnLayer {
                                         .resetWritableChunkToBackingStoreSlice(backingChunk, destinationOffset);
                                 Assert.gtZero(destCapacity, "destCapacity");
                                 final RowSequence sourceKeys = keyIter.getNextRowSequenceWithLength(destCapacity);
+                                Prefetchable.prefetchNext(upstream.added(), destinationOffset - startOffset
+                                        + sourceKeys.size(), destCapacity, chunkSource);
                                 chunkSource.fillChunk(chunkSourceFillContext, backingChunk, sourceKeys);
                                 maybeManageAdds(backingChunk, liveResultOwner);
                                 destinationOffset += destCapacity;
@@ -447,8 +450,11 @@ final public class SelectColumnLayer extends SelectOrViewColumnLayer {
                                         : null;
                                 final ResettableWritableChunk<Any> backingChunk =
                                         writableSource.getChunkType().makeResettableWritableChunk()) {
+                            long position = 0;
                             while (keyIter.hasMore()) {
                                 final RowSequence keys = keyIter.getNextRowSequenceWithLength(PAGE_SIZE);
+                                position += keys.size();
+                                Prefetchable.prefetchNext(upstream.added(), position, PAGE_SIZE, chunkSource);
                                 final RowSequence destKeys;
                                 if (destIter != null) {
                                     destKeys = destIter.getNextRowSequenceWithLength(PAGE_SIZE);
@@ -494,8 +500,11 @@ final public class SelectColumnLayer extends SelectOrViewColumnLayer {
                 } else {
                     Assert.eqFalse(flattenedResult, "flattenedResult");
                     try (final RowSequence.Iterator keyIter = upstream.added().getRowSequenceIterator()) {
+                        long position = 0;
                         while (keyIter.hasMore()) {
                             final RowSequence keys = keyIter.getNextRowSequenceWithLength(PAGE_SIZE);
+                            position += keys.size();
+                            Prefetchable.prefetchNext(upstream.added(), position, PAGE_SIZE, chunkSource);
                             writableSource.fillFromChunk(destContext,
                                     maybeManageAdds(chunkSource.getChunk(chunkSourceContext, keys), liveResultOwner),
                                     keys);
@@ -13,6 +13,7 @@ import io.deephaven.engine.table.ChunkSource;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.SharedContext;
 import io.deephaven.engine.table.WritableSourceWithPrepareForParallelPopulation;
+import io.deephaven.engine.table.impl.util.MemoryAccounting;
 import io.deephaven.engine.table.impl.util.copy.CopyKernel;
 import io.deephaven.engine.updategraph.UpdateCommitter;
 import io.deephaven.util.SoftRecycler;
@@ -77,6 +78,23 @@ abstract class ArraySourceHelper<T, UArray> extends ArrayBackedColumnSource<T>
         return maxIndex + 1;
     }
 
+    @Override
+    public long estimateRetainedBytes() {
+        final long elementBytes = MemoryAccounting.elementBytes(getType());
+        final long numBlocks = (maxIndex + 1) >> LOG_BLOCK_SIZE;
+        long bytes = numBlocks * (MemoryAccounting.REFERENCE_BYTES + BLOCK_SIZE * elementBytes);
+        final long[][] localPrevInUse = prevInUse;
+        if (localPrevInUse != null) {
+            // The prevBlocks and prevInUse arrays of references are allocated together
+            bytes += 2L * localPrevInUse.length * MemoryAccounting.REFERENCE_BYTES;
+        }
+        final TIntArrayList localPrevAllocated = prevAllocated;
+        if (localPrevAllocated != null) {
+            bytes += localPrevAllocated.size() * (BLOCK_SIZE * elementBytes + IN_USE_BLOCK_SIZE * (long) Long.BYTES);
+        }
+        return bytes;
+    }
+
     final void ensureCapacity(final long capacity, UArray[] blocks, UArray[] prevBlocks) {
         ensureCapacity(capacity, blocks, prevBlocks);
     }
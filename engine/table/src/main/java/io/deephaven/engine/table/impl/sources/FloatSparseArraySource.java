@@ -23,7 +23,6 @@ import io.deephaven.engine.table.impl.sources.sparse.LongOneOrN;
 import io.deephaven.engine.rowset.RowSequence;
 import io.deephaven.util.SoftRecycler;
 import gnu.trove.list.array.TLongArrayList;
-import io.deephaven.util.annotations.TestUseOnly;
 import org.apache.commons.lang3.mutable.MutableObject;
 import org.jetbrains.annotations.NotNull;
 
@@ -1067,9 +1066,14 @@ public class FloatSparseArraySource extends SparseArrayColumnSource<Float>
         prevFlusher.maybeActivate();
     }
 
-    @TestUseOnly
     @Override
     public long estimateSize() {
         return blocks.estimateSize();
     }
+
+    @Override
+    long estimatePrevSize() {
+        final FloatOneOrN.Block0 localPrevBlocks = prevBlocks;
+        return localPrevBlocks == null ? 0 : localPrevBlocks.estimateSize();
+    }
 }
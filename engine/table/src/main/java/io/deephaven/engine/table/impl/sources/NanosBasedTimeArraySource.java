@@ -86,6 +86,11 @@ public abstract class NanosBasedTimeArraySource<TIME_TYPE> extends AbstractColum
         nanoSource.startTrackingPrevValues();
     }
 
+    @Override
+    public long estimateRetainedBytes() {
+        return nanoSource.estimateRetainedBytes();
+    }
+
     @Override
     public void ensureCapacity(long size, boolean nullFill) {
         nanoSource.ensureCapacity(size, nullFill);
@@ -107,6 +107,11 @@ public abstract class NanosBasedTimeSparseArraySource<TIME_TYPE> extends Abstrac
         nanoSource.startTrackingPrevValues();
     }
 
+    @Override
+    public long estimateRetainedBytes() {
+        return nanoSource.estimateRetainedBytes();
+    }
+
     @Override
     public void setImmutable() {
         nanoSource.setImmutable();
@@ -0,0 +1,64 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.sources;
+
+import io.deephaven.engine.rowset.RowSequence;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Interface for column sources, regions, and page stores that can begin loading data before it is requested. Callers
+ * that read a {@link RowSequence} chunk by chunk may announce the rows of upcoming chunks, so that slow storage (e.g. a
+ * remote object store) is read while the current chunk is processed.
+ */
+public interface Prefetchable {
+
+    /**
+     * Hint that the values for {@code rowSequence} will be read soon. Implementations may start loading the data
+     * asynchronously, and must neither block on I/O nor report errors; any error will be reported by the subsequent
+     * read. The caller retains ownership of {@code rowSequence}, and may close it as soon as this method returns.
+     *
+     * @param rowSequence The row keys that will be read
+     */
+    default void prefetch(@NotNull final RowSequence rowSequence) {}
+
+    /**
+     * Announce {@code length} rows of {@code rowSequence}, starting at {@code position}, to each of {@code sources}
+     * that is {@link Prefetchable}. Chunked loops typically call this with the position just after the chunk they are
+     * about to process, so that the next chunk is loaded while this one is processed.
+     *
+     * @param rowSequence The row sequence being iterated
+     * @param position The position in {@code rowSequence} of the first upcoming row
+     * @param length The number of upcoming rows to announce
+     * @param sources The sources that will be read
+     */
+    static void prefetchNext(
+            @NotNull final RowSequence rowSequence,
+            final long position,
+            final long length,
+            @NotNull final Object... sources) {
+        if (position >= rowSequence.size() || !anyPrefetchable(sources)) {
+            return;
+        }
+        try (final RowSequence upcoming = rowSequence.getRowSequenceByPosition(position, length)) {
+            for (final Object source : sources) {
+                if (source instanceof Prefetchable) {
+                    ((Prefetchable) source).prefetch(upcoming);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param sources The sources to check
+     * @return Whether any of {@code sources} is {@link Prefetchable}
+     */
+    static boolean anyPrefetchable(@NotNull final Object... sources) {
+        for (final Object source : sources) {
+            if (source instanceof Prefetchable) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -9,7 +9,6 @@ import io.deephaven.engine.table.WritableColumnSource;
 import io.deephaven.engine.table.WritableSourceWithPrepareForParallelPopulation;
 import io.deephaven.engine.table.impl.AbstractColumnSource;
 import io.deephaven.engine.rowset.RowSetShiftCallback;
-import io.deephaven.util.annotations.TestUseOnly;
 import io.deephaven.util.type.ArrayTypeUtils;
 import io.deephaven.engine.rowset.chunkattributes.RowKeys;
 import io.deephaven.chunk.attributes.Values;
@@ -525,6 +524,19 @@ public abstract class SparseArrayColumnSource<T>
      *
      * @return an estimate of the size of this column source's current data
      */
-    @TestUseOnly
     abstract public long estimateSize();
+
+    /**
+     * Return an estimate of the heap size taken by the previous values within this sparse array source, with the same
+     * caveats as {@link #estimateSize()}.
+     *
+     * @return an estimate of the size of this column source's previous data
+     */
+    abstract long estimatePrevSize();
+
+    @Override
+    public long estimateRetainedBytes() {
+        final LongOneOrN.Block0 localPrevInUse = prevInUse;
+        return estimateSize() + estimatePrevSize() + (localPrevInUse == null ? 0 : localPrevInUse.estimateSize());
+    }
 }
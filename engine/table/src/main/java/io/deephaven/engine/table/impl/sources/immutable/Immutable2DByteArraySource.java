@@ -20,6 +20,7 @@ import io.deephaven.engine.table.impl.AbstractColumnSource;
 import io.deephaven.engine.table.impl.DefaultGetContext;
 import io.deephaven.engine.table.impl.ImmutableColumnSourceGetDefaults;
 import io.deephaven.engine.table.impl.sources.*;
+import io.deephaven.engine.table.impl.util.MemoryAccounting;
 import io.deephaven.util.mutable.MutableInt;
 import org.jetbrains.annotations.NotNull;
 import java.util.Arrays;
@@ -124,6 +125,19 @@ public class Immutable2DByteArraySource extends AbstractColumnSource<Byte>
         }
     }
 
+    @Override
+    public long estimateRetainedBytes() {
+        final byte[][] localData = data;
+        if (localData == null) {
+            return 0;
+        }
+        long bytes = (long) localData.length * MemoryAccounting.REFERENCE_BYTES;
+        for (final byte[] segment : localData) {
+            bytes += segment == null ? 0 : (long) segment.length * Byte.BYTES;
+        }
+        return bytes;
+    }
+
     @Override
     public long resetWritableChunkToBackingStore(@NotNull ResettableWritableChunk<?> chunk, long position) {
         final int segment = keyToSegment(position);
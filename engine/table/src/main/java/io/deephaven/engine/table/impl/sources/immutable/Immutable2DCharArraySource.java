@@ -14,6 +14,7 @@ import io.deephaven.engine.table.impl.AbstractColumnSource;
 import io.deephaven.engine.table.impl.DefaultGetContext;
 import io.deephaven.engine.table.impl.ImmutableColumnSourceGetDefaults;
 import io.deephaven.engine.table.impl.sources.*;
+import io.deephaven.engine.table.impl.util.MemoryAccounting;
 import io.deephaven.util.mutable.MutableInt;
 import org.jetbrains.annotations.NotNull;
 import java.util.Arrays;
@@ -118,6 +119,19 @@ public class Immutable2DCharArraySource extends AbstractColumnSource<Character>
         }
     }
 
+    @Override
+    public long estimateRetainedBytes() {
+        final char[][] localData = data;
+        if (localData == null) {
+            return 0;
+        }
+        long bytes = (long) localData.length * MemoryAccounting.REFERENCE_BYTES;
+        for (final char[] segment : localData) {
+            bytes += segment == null ? 0 : (long) segment.length * Character.BYTES;
+        }
+        return bytes;
+    }
+
     @Override
     public long resetWritableChunkToBackingStore(@NotNull ResettableWritableChunk<?> chunk, long position) {
         final int segment = keyToSegment(position);
@@ -18,6 +18,7 @@ import io.deephaven.engine.table.impl.AbstractColumnSource;
 import io.deephaven.engine.table.impl.DefaultGetContext;
 import io.deephaven.engine.table.impl.ImmutableColumnSourceGetDefaults;
 import io.deephaven.engine.table.impl.sources.*;
+import io.deephaven.engine.table.impl.util.MemoryAccounting;
 import io.deephaven.util.mutable.MutableInt;
 import org.jetbrains.annotations.NotNull;
 import java.util.Arrays;
@@ -122,6 +123,19 @@ public class Immutable2DFloatArraySource extends AbstractColumnSource<Float>
         }
     }
 
+    @Override
+    public long estimateRetainedBytes() {
+        final float[][] localData = data;
+        if (localData == null) {
+            return 0;
+        }
+        long bytes = (long) localData.length * MemoryAccounting.REFERENCE_BYTES;
+        for (final float[] segment : localData) {
+            bytes += segment == null ? 0 : (long) segment.length * Float.BYTES;
+        }
+        return bytes;
+    }
+
     @Override
     public long resetWritableChunkToBackingStore(@NotNull ResettableWritableChunk<?> chunk, long position) {
         final int segment = keyToSegment(position);
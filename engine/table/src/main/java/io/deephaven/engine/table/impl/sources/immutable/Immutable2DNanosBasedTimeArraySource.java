@@ -84,6 +84,11 @@ public abstract class Immutable2DNanosBasedTimeArraySource<TIME_TYPE>
         nanoSource.ensureCapacity(capacity, nullFilled);
     }
 
+    @Override
+    public long estimateRetainedBytes() {
+        return nanoSource.estimateRetainedBytes();
+    }
+
     @Override
     public FillFromContext makeFillFromContext(int chunkCapacity) {
         return nanoSource.makeFillFromContext(chunkCapacity);
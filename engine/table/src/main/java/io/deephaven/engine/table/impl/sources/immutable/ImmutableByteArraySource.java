@@ -107,6 +107,12 @@ public class ImmutableByteArraySource extends AbstractColumnSource<Byte>
         }
     }
 
+    @Override
+    public long estimateRetainedBytes() {
+        final byte[] localData = data;
+        return localData == null ? 0 : (long) localData.length * Byte.BYTES;
+    }
+
     @Override
     public void fillChunk(@NotNull FillContext context, @NotNull WritableChunk<? super Values> destination,
             @NotNull RowSequence rowSequence) {
@@ -101,6 +101,12 @@ public class ImmutableCharArraySource extends AbstractColumnSource<Character>
         }
     }
 
+    @Override
+    public long estimateRetainedBytes() {
+        final char[] localData = data;
+        return localData == null ? 0 : (long) localData.length * Character.BYTES;
+    }
+
     @Override
     public void fillChunk(@NotNull FillContext context, @NotNull WritableChunk<? super Values> destination,
             @NotNull RowSequence rowSequence) {
@@ -105,6 +105,12 @@ public class ImmutableDoubleArraySource extends AbstractColumnSource<Double>
         }
     }
 
+    @Override
+    public long estimateRetainedBytes() {
+        final double[] localData = data;
+        return localData == null ? 0 : (long) localData.length * Double.BYTES;
+    }
+
     @Override
     public void fillChunk(@NotNull FillContext context, @NotNull WritableChunk<? super Values> destination,
             @NotNull RowSequence rowSequence) {
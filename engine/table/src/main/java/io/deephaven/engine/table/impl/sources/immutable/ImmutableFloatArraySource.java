@@ -105,6 +105,12 @@ public class ImmutableFloatArraySource extends AbstractColumnSource<Float>
         }
     }
 
+    @Override
+    public long estimateRetainedBytes() {
+        final float[] localData = data;
+        return localData == null ? 0 : (long) localData.length * Float.BYTES;
+    }
+
     @Override
     public void fillChunk(@NotNull FillContext context, @NotNull WritableChunk<? super Values> destination,
             @NotNull RowSequence rowSequence) {
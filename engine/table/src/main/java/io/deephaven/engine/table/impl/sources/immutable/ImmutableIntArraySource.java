@@ -105,6 +105,12 @@ public class ImmutableIntArraySource extends AbstractColumnSource<Integer>
         }
     }
 
+    @Override
+    public long estimateRetainedBytes() {
+        final int[] localData = data;
+        return localData == null ? 0 : (long) localData.length * Integer.BYTES;
+    }
+
     @Override
     public void fillChunk(@NotNull FillContext context, @NotNull WritableChunk<? super Values> destination,
             @NotNull RowSequence rowSequence) {
@@ -116,6 +116,12 @@ public class ImmutableLongArraySource extends AbstractColumnSource<Long>
         }
     }
 
+    @Override
+    public long estimateRetainedBytes() {
+        final long[] localData = data;
+        return localData == null ? 0 : (long) localData.length * Long.BYTES;
+    }
+
     @Override
     public void fillChunk(@NotNull FillContext context, @NotNull WritableChunk<? super Values> destination,
             @NotNull RowSequence rowSequence) {
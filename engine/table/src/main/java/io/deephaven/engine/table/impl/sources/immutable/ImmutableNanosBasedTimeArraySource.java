@@ -82,6 +82,11 @@ public abstract class ImmutableNanosBasedTimeArraySource<TIME_TYPE>
         nanoSource.ensureCapacity(capacity, nullFilled);
     }
 
+    @Override
+    public long estimateRetainedBytes() {
+        return nanoSource.estimateRetainedBytes();
+    }
+
     @Override
     public FillFromContext makeFillFromContext(int chunkCapacity) {
         return nanoSource.makeFillFromContext(chunkCapacity);
@@ -105,6 +105,12 @@ public class ImmutableShortArraySource extends AbstractColumnSource<Short>
         }
     }
 
+    @Override
+    public long estimateRetainedBytes() {
+        final short[] localData = data;
+        return localData == null ? 0 : (long) localData.length * Short.BYTES;
+    }
+
     @Override
     public void fillChunk(@NotNull FillContext context, @NotNull WritableChunk<? super Values> destination,
             @NotNull RowSequence rowSequence) {
@@ -7,10 +7,11 @@ import io.deephaven.engine.table.Releasable;
 import io.deephaven.chunk.attributes.Any;
 import io.deephaven.chunk.WritableChunk;
 import io.deephaven.engine.page.Page;
+import io.deephaven.engine.table.impl.sources.Prefetchable;
 import io.deephaven.util.annotations.FinalDefault;
 import org.jetbrains.annotations.NotNull;
 
-public interface ColumnRegion<ATTR extends Any> extends Page<ATTR>, Releasable {
+public interface ColumnRegion<ATTR extends Any> extends Page<ATTR>, Releasable, Prefetchable {
 
     @Override
     @FinalDefault
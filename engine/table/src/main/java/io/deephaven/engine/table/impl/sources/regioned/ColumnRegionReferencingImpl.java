@@ -46,6 +46,11 @@ public class ColumnRegionReferencingImpl<ATTR extends Any, REFERENCED_COLUMN_REG
                 referencedColumnRegion.getChunk(FillContext.nativeGetContext(context), rowSequence), rowSequence);
     }
 
+    @Override
+    public void prefetch(@NotNull final RowSequence rowSequence) {
+        referencedColumnRegion.prefetch(rowSequence);
+    }
+
     @Override
     @OverridingMethodsMustInvokeSuper
     public void releaseCachedResources() {
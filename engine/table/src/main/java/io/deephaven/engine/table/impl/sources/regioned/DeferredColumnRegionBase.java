@@ -64,6 +64,11 @@ public abstract class DeferredColumnRegionBase<ATTR extends Any, REGION_TYPE ext
         }
     }
 
+    @Override
+    public void prefetch(@NotNull final RowSequence rowSequence) {
+        getResultRegion().prefetch(rowSequence);
+    }
+
     @Override
     public ChunkType getChunkType() {
         return getResultRegion().getChunkType();
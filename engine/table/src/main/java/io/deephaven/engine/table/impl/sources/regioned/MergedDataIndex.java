@@ -17,8 +17,10 @@ import io.deephaven.engine.rowset.RowSequence;
 import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.engine.rowset.RowSetBuilderSequential;
 import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.WritableRowSet;
 import io.deephaven.engine.table.*;
 import io.deephaven.engine.table.impl.ForkJoinPoolOperationInitializer;
+import io.deephaven.engine.table.impl.QueryTable;
 import io.deephaven.engine.table.impl.by.AggregationProcessor;
 import io.deephaven.engine.table.impl.by.AggregationRowLookup;
 import io.deephaven.engine.table.impl.dataindex.AbstractDataIndex;
@@ -31,6 +33,7 @@ import io.deephaven.engine.table.impl.select.SelectColumn;
 import io.deephaven.util.annotations.InternalUseOnly;
 import io.deephaven.vector.ObjectVector;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.concurrent.atomic.AtomicReferenceArray;
@@ -68,6 +71,31 @@ class MergedDataIndex extends AbstractDataIndex implements DataIndexer.Retainabl
     public static boolean USE_PARALLEL_LAZY_FETCH = Configuration.getInstance()
             .getBooleanWithDefault("MergedDataIndex.useParallelLazyFetch", true);
 
+    /**
+     * When a filter only needs the index for rows in a few of the table's locations (for example, because an earlier
+     * filter eliminated most locations), and the full index has not been built yet, we merge the indexes of only those
+     * locations instead of reading the index of every location. Setting the Configuration property
+     * "MergedDataIndex.restrictToFilteredRegions" to false disables this behavior.
+     */
+    public static boolean RESTRICT_TO_FILTERED_REGIONS = Configuration.getInstance()
+            .getBooleanWithDefault("MergedDataIndex.restrictToFilteredRegions", true);
+
+    /**
+     * The largest fraction of the table's locations for which we build a restricted index; beyond this, we build (and
+     * retain) the full index instead. Set by the Configuration property
+     * "MergedDataIndex.maximumRestrictedRegionFraction".
+     */
+    public static double MAXIMUM_RESTRICTED_REGION_FRACTION = Configuration.getInstance()
+            .getDoubleWithDefault("MergedDataIndex.maximumRestrictedRegionFraction", 0.25);
+
+    /**
+     * How many restricted indexes, each for a distinct set of locations, we keep for reuse by later filters. The least
+     * recently used is discarded when another is needed. Set by the Configuration property
+     * "MergedDataIndex.maximumCachedRestrictedIndexes".
+     */
+    public static int MAXIMUM_CACHED_RESTRICTED_INDEXES = Configuration.getInstance()
+            .getIntegerWithDefault("MergedDataIndex.maximumCachedRestrictedIndexes", 8);
+
     private static final String LOCATION_DATA_INDEX_TABLE_COLUMN_NAME = "__DataIndexTable";
 
     private final List<String> keyColumnNames;
@@ -75,6 +103,31 @@ class MergedDataIndex extends AbstractDataIndex implements DataIndexer.Retainabl
 
     private final Map<ColumnSource<?>, String> keyColumnNamesByIndexedColumn;
 
+    /**
+     * The region indices (which are also the row keys of the location table) of the locations to include, or
+     * {@code null} to include every location.
+     */
+    @Nullable
+    private final RowSet includedRegions;
+
+    /**
+     * The restricted indexes built from this full index, least recently used first, or {@code null} if this index is
+     * itself restricted. Guarded by synchronizing on the list.
+     */
+    @Nullable
+    private final List<MergedDataIndex> restrictedIndexes;
+
+    /**
+     * Whether this restricted index has been dropped from its full index's cache, and so owns
+     * {@link #includedRegions} alone. Guarded by synchronizing on this index.
+     */
+    private boolean uncached;
+
+    /**
+     * Whether {@link #includedRegions} has been closed. Guarded by synchronizing on this index.
+     */
+    private boolean includedRegionsClosed;
+
     /**
      * The lookup function for the index table. Note that this is always set before {@link #indexTable}.
      */
@@ -129,9 +182,105 @@ class MergedDataIndex extends AbstractDataIndex implements DataIndexer.Retainabl
             throw new UnsupportedOperationException("Refreshing location tables are not currently supported");
         }
 
+        includedRegions = null;
+        restrictedIndexes = new ArrayList<>();
+
         // Defer the actual index table creation until it is needed
     }
 
+    private MergedDataIndex(
+            @NotNull final MergedDataIndex fullIndex,
+            @NotNull final RowSet includedRegions) {
+        this.keyColumnNames = fullIndex.keyColumnNames;
+        this.columnSourceManager = fullIndex.columnSourceManager;
+        this.keyColumnNamesByIndexedColumn = fullIndex.keyColumnNamesByIndexedColumn;
+        this.includedRegions = includedRegions;
+        restrictedIndexes = null;
+    }
+
+    /**
+     * Get a data index suitable for an operation that only uses the rows of {@code rowSet}. If the full index has not
+     * been built, and {@code rowSet} spans few enough of our locations, the result is a new index that is merged from
+     * only the locations that {@code rowSet} spans. Its row sets are the full index's row sets restricted to those
+     * locations, so they are equivalent when intersected with {@code rowSet}. Restricted indexes are cached by the set
+     * of locations they span, so repeated filters over the same locations share one merged index.
+     *
+     * @param rowSet The rows the operation will use
+     * @return This index, or an index restricted to the locations spanned by {@code rowSet}
+     */
+    DataIndex restrictedTo(@NotNull final RowSet rowSet) {
+        if (!RESTRICT_TO_FILTERED_REGIONS || includedRegions != null || rowSet.isEmpty()
+                || indexTable != null || lazyTable != null) {
+            return this;
+        }
+        final Table locationTable = columnSourceManager.locationTable();
+        final WritableRowSet regions = regionsSpannedBy(rowSet);
+        regions.retain(locationTable.getRowSet());
+        if (regions.isEmpty() || regions.size() > MAXIMUM_RESTRICTED_REGION_FRACTION * locationTable.size()) {
+            regions.close();
+            return this;
+        }
+        Assert.neqNull(restrictedIndexes, "restrictedIndexes");
+        synchronized (restrictedIndexes) {
+            for (int ii = restrictedIndexes.size() - 1; ii >= 0; --ii) {
+                final MergedDataIndex restrictedIndex = restrictedIndexes.get(ii);
+                // noinspection DataFlowIssue
+                if (restrictedIndex.includedRegions.equals(regions)) {
+                    regions.close();
+                    restrictedIndexes.add(restrictedIndexes.remove(ii));
+                    return restrictedIndex;
+                }
+            }
+            final MergedDataIndex restrictedIndex = new MergedDataIndex(this, regions);
+            if (MAXIMUM_CACHED_RESTRICTED_INDEXES > 0) {
+                if (restrictedIndexes.size() >= MAXIMUM_CACHED_RESTRICTED_INDEXES) {
+                    restrictedIndexes.remove(0).releaseIncludedRegions();
+                }
+                restrictedIndexes.add(restrictedIndex);
+            }
+            return restrictedIndex;
+        }
+    }
+
+    /**
+     * Release {@link #includedRegions} once this restricted index has been dropped from the cache. A caller may still
+     * hold an index that has not been built, so in that case the regions are released when the build completes.
+     */
+    private synchronized void releaseIncludedRegions() {
+        uncached = true;
+        maybeCloseIncludedRegions();
+    }
+
+    /**
+     * Close {@link #includedRegions} if this restricted index is uncached and has been built, as no further build
+     * will need them. Must be called while synchronized on this index.
+     */
+    private void maybeCloseIncludedRegions() {
+        if (uncached && !includedRegionsClosed && (indexTable != null || lazyTable != null)) {
+            // noinspection DataFlowIssue
+            includedRegions.close();
+            includedRegionsClosed = true;
+        }
+    }
+
+    /**
+     * @param rowSet A row set in the table's row key space
+     * @return The region indices of every region that contains at least one row of {@code rowSet}
+     */
+    private static WritableRowSet regionsSpannedBy(@NotNull final RowSet rowSet) {
+        final RowSetBuilderSequential builder = RowSetFactory.builderSequential();
+        try (final RowSet.SearchIterator rowKeys = rowSet.searchIterator()) {
+            int regionIndex = RegionedColumnSource.getRegionIndex(rowKeys.nextLong());
+            builder.appendKey(regionIndex);
+            while (regionIndex < RegionedColumnSource.MAXIMUM_REGION_COUNT - 1
+                    && rowKeys.advance(RegionedColumnSource.getFirstRowKey(regionIndex + 1))) {
+                regionIndex = RegionedColumnSource.getRegionIndex(rowKeys.currentValue());
+                builder.appendKey(regionIndex);
+            }
+        }
+        return builder.build();
+    }
+
     @Override
     @NotNull
     public List<String> keyColumnNames() {
@@ -306,6 +455,15 @@ class MergedDataIndex extends AbstractDataIndex implements DataIndexer.Retainabl
                 lazyPartitionedTable = null;
                 lazyTable = null;
             }
+            if (restrictedIndexes != null) {
+                // Every later filter is answered from the full index, so restricted indexes are no longer needed
+                synchronized (restrictedIndexes) {
+                    restrictedIndexes.forEach(MergedDataIndex::releaseIncludedRegions);
+                    restrictedIndexes.clear();
+                }
+            } else {
+                maybeCloseIncludedRegions();
+            }
             Assert.assertion(combined.isFlat(), "combined.isFlat()");
             Assert.eq(groupedByKeyColumns.size(), "groupedByKeyColumns.size()", combined.size(), "combined.size()");
 
@@ -327,7 +485,10 @@ class MergedDataIndex extends AbstractDataIndex implements DataIndexer.Retainabl
      */
     private PartitionedTable buildPartitionedTable(final boolean lazyRowSetMerge) {
         final String[] keyColumnNamesArray = keyColumnNames.toArray(String[]::new);
-        final Table locationTable = columnSourceManager.locationTable().coalesce();
+        final Table allLocations = columnSourceManager.locationTable().coalesce();
+        final Table locationTable = includedRegions == null
+                ? allLocations
+                : ((QueryTable) allLocations).getSubTable(includedRegions.copy().toTracking());
         final Table locationDataIndexes = locationTable
                 .update(List.of(SelectColumn.ofStateless(new FunctionalColumn<>(
                         columnSourceManager.locationColumnName(), TableLocation.class,
@@ -6,8 +6,11 @@ package io.deephaven.engine.table.impl.sources.regioned;
 import io.deephaven.base.verify.Assert;
 import io.deephaven.chunk.attributes.Values;
 import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.WritableRowSet;
 import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.DataIndex;
 import io.deephaven.engine.table.impl.*;
+import io.deephaven.engine.table.impl.sources.Prefetchable;
 import io.deephaven.chunk.WritableChunk;
 import io.deephaven.engine.rowset.RowSequence;
 import io.deephaven.engine.table.impl.select.WhereFilter;
@@ -25,7 +28,7 @@ import java.util.function.LongConsumer;
  */
 abstract class RegionedColumnSourceBase<DATA_TYPE, ATTR extends Values, REGION_TYPE extends ColumnRegion<ATTR>>
         extends AbstractColumnSource<DATA_TYPE>
-        implements RegionedPageStore<Values, ATTR, REGION_TYPE>, RegionedColumnSource<DATA_TYPE> {
+        implements RegionedPageStore<Values, ATTR, REGION_TYPE>, RegionedColumnSource<DATA_TYPE>, Prefetchable {
 
     protected final RegionedColumnSourceManager manager;
 
@@ -81,6 +84,11 @@ abstract class RegionedColumnSourceBase<DATA_TYPE, ATTR extends Values, REGION_T
         fillChunk(context, destination, rowSequence);
     }
 
+    @Override
+    public void prefetch(@NotNull final RowSequence rowSequence) {
+        prefetchRegions(rowSequence);
+    }
+
     /**
      * <p>
      * Add a pre-constructed region without going through the abstract factory method.
@@ -100,6 +108,24 @@ abstract class RegionedColumnSourceBase<DATA_TYPE, ATTR extends Values, REGION_T
     @NotNull
     abstract REGION_TYPE getNullRegion();
 
+    /**
+     * If {@code dataIndex} is merged from the per-location indexes of our table, only merge the locations spanned by
+     * {@code rowsetToFilter}, rather than reading the index of every location.
+     */
+    @Override
+    public WritableRowSet match(
+            final boolean invertMatch,
+            final boolean usePrev,
+            final boolean caseInsensitive,
+            @Nullable final DataIndex dataIndex,
+            @NotNull final RowSet rowsetToFilter,
+            final Object... keys) {
+        final DataIndex effectiveIndex = dataIndex instanceof MergedDataIndex
+                ? ((MergedDataIndex) dataIndex).restrictedTo(rowsetToFilter)
+                : dataIndex;
+        return super.match(invertMatch, usePrev, caseInsensitive, effectiveIndex, rowsetToFilter, keys);
+    }
+
     @Override
     public PushdownPredicateManager pushdownManager() {
         return manager;
@@ -9,6 +9,7 @@ import io.deephaven.chunk.attributes.Any;
 import io.deephaven.engine.page.Page;
 import io.deephaven.engine.page.PageStore;
 import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.table.impl.sources.Prefetchable;
 import io.deephaven.util.annotations.FinalDefault;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -90,6 +91,29 @@ public interface RegionedPageStore<ATTR extends Any, INNER_ATTR extends ATTR, RE
         return lookupRegion(rowKey);
     }
 
+    /**
+     * Split {@code rowSequence} by region, and announce each region's rows to that region if it is
+     * {@link Prefetchable}.
+     *
+     * @param rowSequence The row keys that will be read
+     */
+    @FinalDefault
+    default void prefetchRegions(@NotNull final RowSequence rowSequence) {
+        if (rowSequence.isEmpty()) {
+            return;
+        }
+        try (final RowSequence.Iterator rowSequenceIterator = rowSequence.getRowSequenceIterator()) {
+            do {
+                final long firstKey = rowSequenceIterator.peekNextKey();
+                final REGION_TYPE region = lookupRegion(firstKey);
+                final RowSequence regionRows = rowSequenceIterator.getNextRowSequenceThrough(region.maxRow(firstKey));
+                if (region instanceof Prefetchable) {
+                    ((Prefetchable) region).prefetch(regionRows);
+                }
+            } while (rowSequenceIterator.hasMore());
+        }
+    }
+
     /**
      * Class to calculate and encapsulate the parameters of a RegionedPageStore.
      */
@@ -129,7 +153,7 @@ public interface RegionedPageStore<ATTR extends Any, INNER_ATTR extends ATTR, RE
      * A regioned page store for use when the full set of regions and their sizes are known.
      */
     abstract class Static<ATTR extends Any, INNER_ATTR extends ATTR, REGION_TYPE extends Page<INNER_ATTR>>
-            implements RegionedPageStore<ATTR, INNER_ATTR, REGION_TYPE> {
+            implements RegionedPageStore<ATTR, INNER_ATTR, REGION_TYPE>, Prefetchable {
 
         private final Parameters parameters;
         private final REGION_TYPE[] regions;
@@ -163,5 +187,10 @@ public interface RegionedPageStore<ATTR extends Any, INNER_ATTR extends ATTR, RE
         public final REGION_TYPE getRegion(final int regionIndex) {
             return regions[regionIndex];
         }
+
+        @Override
+        public final void prefetch(@NotNull final RowSequence rowSequence) {
+            prefetchRegions(rowSequence);
+        }
     }
 }
@@ -7,7 +7,6 @@ package io.deephaven.engine.table.impl.sources.sparse;
 import io.deephaven.base.verify.Assert;
 import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.util.SoftRecycler;
-import io.deephaven.util.annotations.TestUseOnly;
 
 import java.util.Arrays;
 import java.util.Objects;
@@ -225,7 +224,6 @@ public final class CharOneOrN {
             }
         }
 
-        @TestUseOnly
         public long estimateSize() {
             if (oneIndex == ONE_UNINITIALIZED) {
                 return 0;
@@ -324,7 +322,6 @@ public final class CharOneOrN {
             array[idx] = null;
         }
 
-        @TestUseOnly
         long estimateSize() {
             if (oneIndex == ONE_UNINITIALIZED) {
                 return 0;
@@ -433,7 +430,6 @@ public final class CharOneOrN {
             array[idx] = null;
         }
 
-        @TestUseOnly
         long estimateSize() {
             if (oneIndex == ONE_UNINITIALIZED) {
                 return 0;
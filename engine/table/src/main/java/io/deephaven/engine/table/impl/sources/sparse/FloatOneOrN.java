@@ -10,7 +10,6 @@ package io.deephaven.engine.table.impl.sources.sparse;
 import io.deephaven.base.verify.Assert;
 import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.util.SoftRecycler;
-import io.deephaven.util.annotations.TestUseOnly;
 
 import java.util.Arrays;
 import java.util.Objects;
@@ -228,7 +227,6 @@ public final class FloatOneOrN {
             }
         }
 
-        @TestUseOnly
         public long estimateSize() {
             if (oneIndex == ONE_UNINITIALIZED) {
                 return 0;
@@ -327,7 +325,6 @@ public final class FloatOneOrN {
             array[idx] = null;
         }
 
-        @TestUseOnly
         long estimateSize() {
             if (oneIndex == ONE_UNINITIALIZED) {
                 return 0;
@@ -436,7 +433,6 @@ public final class FloatOneOrN {
             array[idx] = null;
         }
 
-        @TestUseOnly
         long estimateSize() {
             if (oneIndex == ONE_UNINITIALIZED) {
                 return 0;
@@ -16,6 +16,7 @@ import io.deephaven.util.compare.DoubleComparisons;
 import io.deephaven.util.type.ArrayTypeUtils;
 import io.deephaven.engine.table.impl.by.SumIntChunk;
 import io.deephaven.engine.table.impl.sort.timsort.TimsortUtils;
+import io.deephaven.engine.table.impl.util.MemoryAccounting;
 import io.deephaven.chunk.*;
 import io.deephaven.chunk.attributes.ChunkLengths;
 import io.deephaven.chunk.attributes.Values;
@@ -1351,6 +1352,38 @@ public final class DoubleSegmentedSortedMultiset implements SegmentedSortedMulti
         return totalSize;
     }
 
+    @Override
+    public long estimateRetainedBytes() {
+        final double[] localDirectoryValues = directoryValues;
+        final long[] localDirectoryCount = directoryCount;
+        final int[] localLeafSizes = leafSizes;
+        final double[][] localLeafValues = leafValues;
+        final long[][] localLeafCounts = leafCounts;
+        long bytes = 0;
+        if (localDirectoryValues != null) {
+            bytes += (long) localDirectoryValues.length * Double.BYTES;
+        }
+        if (localDirectoryCount != null) {
+            bytes += (long) localDirectoryCount.length * Long.BYTES;
+        }
+        if (localLeafSizes != null) {
+            bytes += (long) localLeafSizes.length * Integer.BYTES;
+        }
+        if (localLeafValues != null) {
+            bytes += (long) localLeafValues.length * MemoryAccounting.REFERENCE_BYTES;
+            for (final double[] leaf : localLeafValues) {
+                bytes += leaf == null ? 0 : (long) leaf.length * Double.BYTES;
+            }
+        }
+        if (localLeafCounts != null) {
+            bytes += (long) localLeafCounts.length * MemoryAccounting.REFERENCE_BYTES;
+            for (final long[] leaf : localLeafCounts) {
+                bytes += leaf == null ? 0 : (long) leaf.length * Long.BYTES;
+            }
+        }
+        return bytes;
+    }
+
     @Override
     public int getNodeSize() {
         return leafSize;
@@ -129,6 +129,14 @@ public interface SegmentedSortedMultiSet<T> extends LongSizedDataStructure {
      */
     long totalSize();
 
+    /**
+     * Estimate the heap bytes retained by this SSM's directory and leaves. Referenced objects are not counted, nor are
+     * any deltas accumulated for previous values.
+     *
+     * @return an estimate of the retained bytes
+     */
+    long estimateRetainedBytes();
+
     /**
      * Remove count elements from the front of this SSM and add them to the back of the destination SSM.
      * <p>
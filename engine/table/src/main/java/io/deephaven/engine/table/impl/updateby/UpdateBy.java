@@ -567,7 +567,8 @@ public abstract class UpdateBy {
          * Process all {@code windows} in a serial manner (to minimize cached column memory usage). This function will
          * prepare the shared window resources (e.g. push/pop chunks for Rolling operators) for each dirty bucket in the
          * current window then call {@link #processWindowOperators}. When all operators have been processed then all
-         * resources for this window are released before iterating.
+         * resources for this window are released before iterating. Preparation and release of the per-bucket window
+         * resources are independent across buckets and are performed in parallel.
          */
         private void processWindows(final Runnable onWindowsComplete) {
             if (dirtyWindows.isEmpty()) {
@@ -584,38 +585,27 @@ public abstract class UpdateBy {
                     (context, idx, nestedErrorConsumer, windowComplete) -> {
                         final int winIdx = dirtyWindowIndices[idx];
 
-                        int maxAffectedChunkSize = 0;
-                        int maxInfluencerChunkSize = 0;
-
-                        for (UpdateByBucketHelper bucket : dirtyBuckets) {
-                            if (bucket.windowContexts[winIdx].isDirty) {
-                                // Assign the (maybe cached) input sources.
-                                windows[winIdx].assignInputSources(bucket.windowContexts[winIdx],
-                                        maybeCachedInputSources);
-
-                                // Prepare this bucket for processing this window. This allocates window context
-                                // resources and rolling ops pre-computes push/pop chunks.
-                                windows[winIdx].prepareWindowBucket(bucket.windowContexts[winIdx]);
-
-                                // Determine the largest chunk sizes needed to process the window buckets.
-                                maxAffectedChunkSize =
-                                        Math.max(maxAffectedChunkSize, bucket.windowContexts[winIdx].workingChunkSize);
-                                maxInfluencerChunkSize = Math.max(maxInfluencerChunkSize,
-                                        bucket.windowContexts[winIdx] instanceof UpdateByWindowRollingBase.UpdateByWindowRollingBucketContext
-                                                ? ((UpdateByWindowRollingBase.UpdateByWindowRollingBucketContext) bucket.windowContexts[winIdx]).maxGetContextSize
-                                                : bucket.windowContexts[winIdx].workingChunkSize);
-                            }
-                        }
+                        prepareWindowBuckets(winIdx, () -> {
+                            int maxAffectedChunkSize = 0;
+                            int maxInfluencerChunkSize = 0;
 
-                        // Process all the operators in this window
-                        processWindowOperators(winIdx, maxAffectedChunkSize, maxInfluencerChunkSize, () -> {
-                            // This window has been fully processed, release the resources we allocated
+                            // Determine the largest chunk sizes needed to process the window buckets.
                             for (UpdateByBucketHelper bucket : dirtyBuckets) {
-                                if (bucket.windowContexts[winIdx].isDirty) {
-                                    windows[winIdx].finalizeWindowBucket(bucket.windowContexts[winIdx]);
+                                final UpdateByWindow.UpdateByWindowBucketContext bucketContext =
+                                        bucket.windowContexts[winIdx];
+                                if (bucketContext.isDirty) {
+                                    maxAffectedChunkSize = Math.max(maxAffectedChunkSize,
+                                            bucketContext.workingChunkSize);
+                                    maxInfluencerChunkSize = Math.max(maxInfluencerChunkSize,
+                                            influencerChunkSize(bucketContext));
                                 }
                             }
-                            windowComplete.run();
+
+                            // Process all the operators in this window
+                            processWindowOperators(winIdx, maxAffectedChunkSize, maxInfluencerChunkSize,
+                                    // This window has been fully processed, release the resources we allocated
+                                    () -> finalizeWindowBuckets(winIdx, windowComplete, nestedErrorConsumer),
+                                    nestedErrorConsumer);
                         }, nestedErrorConsumer);
                     }, onWindowsComplete,
                     () -> {
@@ -623,6 +613,62 @@ public abstract class UpdateBy {
                     this::onError);
         }
 
+        /**
+         * @return the chunk size needed to read the influencer values of {@code bucketContext}
+         */
+        private int influencerChunkSize(final UpdateByWindow.UpdateByWindowBucketContext bucketContext) {
+            if (bucketContext instanceof UpdateByWindowRollingBase.UpdateByWindowRollingBucketContext) {
+                return ((UpdateByWindowRollingBase.UpdateByWindowRollingBucketContext) bucketContext).maxGetContextSize;
+            }
+            return bucketContext.workingChunkSize;
+        }
+
+        /**
+         * Assign the (maybe cached) input sources and prepare each dirty bucket for processing {@code windows[winIdx]},
+         * in parallel by bucket. This allocates window context resources and rolling ops pre-compute push/pop chunks.
+         * Calls {@code onPrepareComplete} when the work is complete.
+         */
+        private void prepareWindowBuckets(
+                final int winIdx,
+                final Runnable onPrepareComplete,
+                final Consumer<Exception> onPrepareError) {
+            jobScheduler.iterateParallel(executionContext,
+                    chainAppendables(this, stringAndIndexToAppendable("-prepareWindowBuckets", winIdx)),
+                    JobScheduler.DEFAULT_CONTEXT_FACTORY,
+                    0, dirtyBuckets.length,
+                    (context, bucketIdx, nec) -> {
+                        final UpdateByWindow.UpdateByWindowBucketContext bucketContext =
+                                dirtyBuckets[bucketIdx].windowContexts[winIdx];
+                        if (bucketContext.isDirty) {
+                            windows[winIdx].assignInputSources(bucketContext, maybeCachedInputSources);
+                            windows[winIdx].prepareWindowBucket(bucketContext);
+                        }
+                    }, onPrepareComplete, () -> {
+                    }, onPrepareError);
+        }
+
+        /**
+         * Release the resources allocated by {@link #prepareWindowBuckets} for {@code windows[winIdx]}, in parallel by
+         * bucket. Calls {@code onFinalizeComplete} when the work is complete.
+         */
+        private void finalizeWindowBuckets(
+                final int winIdx,
+                final Runnable onFinalizeComplete,
+                final Consumer<Exception> onFinalizeError) {
+            jobScheduler.iterateParallel(executionContext,
+                    chainAppendables(this, stringAndIndexToAppendable("-finalizeWindowBuckets", winIdx)),
+                    JobScheduler.DEFAULT_CONTEXT_FACTORY,
+                    0, dirtyBuckets.length,
+                    (context, bucketIdx, nec) -> {
+                        final UpdateByWindow.UpdateByWindowBucketContext bucketContext =
+                                dirtyBuckets[bucketIdx].windowContexts[winIdx];
+                        if (bucketContext.isDirty) {
+                            windows[winIdx].finalizeWindowBucket(bucketContext);
+                        }
+                    }, onFinalizeComplete, () -> {
+                    }, onFinalizeError);
+        }
+
         /**
          * Process the operators for a given window in a serial manner. For efficiency, this function organizes the
          * operators into sets of operators that share input sources and that can be computed together efficiently. It
@@ -33,10 +33,12 @@ import io.deephaven.engine.table.impl.updateby.minmax.*;
 import io.deephaven.engine.table.impl.updateby.prod.*;
 import io.deephaven.engine.table.impl.updateby.rollingavg.*;
 import io.deephaven.engine.table.impl.updateby.rollingcount.*;
+import io.deephaven.engine.table.impl.updateby.rollingcountdistinct.*;
 import io.deephaven.engine.table.impl.updateby.rollingformula.*;
 import io.deephaven.engine.table.impl.updateby.rollingformulamulticolumn.RollingFormulaMultiColumnOperator;
 import io.deephaven.engine.table.impl.updateby.rollinggroup.RollingGroupOperator;
 import io.deephaven.engine.table.impl.updateby.rollingminmax.*;
+import io.deephaven.engine.table.impl.updateby.rollingpercentile.*;
 import io.deephaven.engine.table.impl.updateby.rollingproduct.*;
 import io.deephaven.engine.table.impl.updateby.rollingstd.*;
 import io.deephaven.engine.table.impl.updateby.rollingsum.*;
@@ -540,6 +542,34 @@ public class UpdateByOperatorFactory {
             return null;
         }
 
+        @Override
+        public Void visit(@NotNull final RollingCountDistinctSpec spec) {
+            final boolean isTimeBased = spec.revWindowScale().isTimeBased();
+            final String timestampCol = spec.revWindowScale().timestampCol();
+
+            Arrays.stream(pairs)
+                    .filter(p -> !isTimeBased || !p.rightColumn().equals(timestampCol))
+                    .map(fc -> makeRollingCountDistinctOperator(fc,
+                            tableDef,
+                            spec))
+                    .forEach(ops::add);
+            return null;
+        }
+
+        @Override
+        public Void visit(@NotNull final RollingPercentileSpec spec) {
+            final boolean isTimeBased = spec.revWindowScale().isTimeBased();
+            final String timestampCol = spec.revWindowScale().timestampCol();
+
+            Arrays.stream(pairs)
+                    .filter(p -> !isTimeBased || !p.rightColumn().equals(timestampCol))
+                    .map(fc -> makeRollingPercentileOperator(fc,
+                            tableDef,
+                            spec))
+                    .forEach(ops::add);
+            return null;
+        }
+
         @Override
         public Void visit(@NotNull final RollingStdSpec spec) {
             final boolean isTimeBased = spec.revWindowScale().isTimeBased();
@@ -1167,6 +1197,110 @@ public class UpdateByOperatorFactory {
             throw new IllegalArgumentException("Can not perform Rolling Min/Max on type " + csType);
         }
 
+        private UpdateByOperator makeRollingCountDistinctOperator(@NotNull final MatchPair pair,
+                @NotNull final TableDefinition tableDef,
+                @NotNull final RollingCountDistinctSpec rs) {
+            final ColumnDefinition<?> columnDef = tableDef.getColumn(pair.rightColumn);
+            final Class<?> csType = columnDef.getDataType();
+
+            final String[] affectingColumns;
+            if (rs.revWindowScale().timestampCol() == null) {
+                affectingColumns = new String[] {pair.rightColumn};
+            } else {
+                affectingColumns = new String[] {rs.revWindowScale().timestampCol(), pair.rightColumn};
+            }
+
+            final long prevWindowScaleUnits = rs.revWindowScale().getTimeScaleUnits();
+            final long fwdWindowScaleUnits = rs.fwdWindowScale().getTimeScaleUnits();
+
+            // Boolean and time inputs are reinterpreted to primitives, so they share the byte and long operators.
+            if (csType == boolean.class || csType == Boolean.class
+                    || csType == byte.class || csType == Byte.class) {
+                return new ByteRollingCountDistinctOperator(pair, affectingColumns,
+                        rs.revWindowScale().timestampCol(),
+                        prevWindowScaleUnits, fwdWindowScaleUnits, rs.countNulls());
+            } else if (csType == char.class || csType == Character.class) {
+                return new CharRollingCountDistinctOperator(pair, affectingColumns,
+                        rs.revWindowScale().timestampCol(),
+                        prevWindowScaleUnits, fwdWindowScaleUnits, rs.countNulls());
+            } else if (csType == short.class || csType == Short.class) {
+                return new ShortRollingCountDistinctOperator(pair, affectingColumns,
+                        rs.revWindowScale().timestampCol(),
+                        prevWindowScaleUnits, fwdWindowScaleUnits, rs.countNulls());
+            } else if (csType == int.class || csType == Integer.class) {
+                return new IntRollingCountDistinctOperator(pair, affectingColumns,
+                        rs.revWindowScale().timestampCol(),
+                        prevWindowScaleUnits, fwdWindowScaleUnits, rs.countNulls());
+            } else if (csType == long.class || csType == Long.class || isTimeType(csType)) {
+                return new LongRollingCountDistinctOperator(pair, affectingColumns,
+                        rs.revWindowScale().timestampCol(),
+                        prevWindowScaleUnits, fwdWindowScaleUnits, rs.countNulls());
+            } else if (csType == float.class || csType == Float.class) {
+                return new FloatRollingCountDistinctOperator(pair, affectingColumns,
+                        rs.revWindowScale().timestampCol(),
+                        prevWindowScaleUnits, fwdWindowScaleUnits, rs.countNulls());
+            } else if (csType == double.class || csType == Double.class) {
+                return new DoubleRollingCountDistinctOperator(pair, affectingColumns,
+                        rs.revWindowScale().timestampCol(),
+                        prevWindowScaleUnits, fwdWindowScaleUnits, rs.countNulls());
+            } else if (Comparable.class.isAssignableFrom(csType)) {
+                return new ObjectRollingCountDistinctOperator(pair, affectingColumns,
+                        rs.revWindowScale().timestampCol(),
+                        prevWindowScaleUnits, fwdWindowScaleUnits, rs.countNulls(), csType);
+            }
+
+            throw new IllegalArgumentException("Can not perform Rolling Count Distinct on type " + csType);
+        }
+
+        private UpdateByOperator makeRollingPercentileOperator(@NotNull final MatchPair pair,
+                @NotNull final TableDefinition tableDef,
+                @NotNull final RollingPercentileSpec rps) {
+            final ColumnDefinition<?> columnDef = tableDef.getColumn(pair.rightColumn);
+            final Class<?> csType = columnDef.getDataType();
+
+            final String[] affectingColumns;
+            if (rps.revWindowScale().timestampCol() == null) {
+                affectingColumns = new String[] {pair.rightColumn};
+            } else {
+                affectingColumns = new String[] {rps.revWindowScale().timestampCol(), pair.rightColumn};
+            }
+
+            final long prevWindowScaleUnits = rps.revWindowScale().getTimeScaleUnits();
+            final long fwdWindowScaleUnits = rps.fwdWindowScale().getTimeScaleUnits();
+
+            if (csType == byte.class || csType == Byte.class) {
+                return new ByteRollingPercentileOperator(pair, affectingColumns,
+                        rps.revWindowScale().timestampCol(),
+                        prevWindowScaleUnits, fwdWindowScaleUnits, rps.percentile());
+            } else if (csType == char.class || csType == Character.class) {
+                return new CharRollingPercentileOperator(pair, affectingColumns,
+                        rps.revWindowScale().timestampCol(),
+                        prevWindowScaleUnits, fwdWindowScaleUnits, rps.percentile());
+            } else if (csType == short.class || csType == Short.class) {
+                return new ShortRollingPercentileOperator(pair, affectingColumns,
+                        rps.revWindowScale().timestampCol(),
+                        prevWindowScaleUnits, fwdWindowScaleUnits, rps.percentile());
+            } else if (csType == int.class || csType == Integer.class) {
+                return new IntRollingPercentileOperator(pair, affectingColumns,
+                        rps.revWindowScale().timestampCol(),
+                        prevWindowScaleUnits, fwdWindowScaleUnits, rps.percentile());
+            } else if (csType == long.class || csType == Long.class || isTimeType(csType)) {
+                return new LongRollingPercentileOperator(pair, affectingColumns,
+                        rps.revWindowScale().timestampCol(),
+                        prevWindowScaleUnits, fwdWindowScaleUnits, rps.percentile(), csType);
+            } else if (csType == float.class || csType == Float.class) {
+                return new FloatRollingPercentileOperator(pair, affectingColumns,
+                        rps.revWindowScale().timestampCol(),
+                        prevWindowScaleUnits, fwdWindowScaleUnits, rps.percentile());
+            } else if (csType == double.class || csType == Double.class) {
+                return new DoubleRollingPercentileOperator(pair, affectingColumns,
+                        rps.revWindowScale().timestampCol(),
+                        prevWindowScaleUnits, fwdWindowScaleUnits, rps.percentile());
+            }
+
+            throw new IllegalArgumentException("Can not perform Rolling Percentile on type " + csType);
+        }
+
         private UpdateByOperator makeRollingProductOperator(@NotNull final MatchPair pair,
                 @NotNull final TableDefinition tableDef,
                 @NotNull final RollingProductSpec rs) {
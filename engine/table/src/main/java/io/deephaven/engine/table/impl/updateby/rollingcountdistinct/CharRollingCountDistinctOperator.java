@@ -0,0 +1,157 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.updateby.rollingcountdistinct;
+
+import io.deephaven.base.ringbuffer.CharRingBuffer;
+import io.deephaven.base.verify.Assert;
+import io.deephaven.chunk.CharChunk;
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.WritableCharChunk;
+import io.deephaven.chunk.WritableIntChunk;
+import io.deephaven.chunk.attributes.ChunkLengths;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.table.impl.MatchPair;
+import io.deephaven.engine.table.impl.by.ssmcountdistinct.SsmDistinctContext;
+import io.deephaven.engine.table.impl.ssms.CharSegmentedSortedMultiset;
+import io.deephaven.engine.table.impl.ssms.SegmentedSortedMultiSet;
+import io.deephaven.engine.table.impl.updateby.UpdateByOperator;
+import io.deephaven.engine.table.impl.updateby.internal.BaseLongUpdateByOperator;
+import io.deephaven.engine.table.impl.util.compact.CharCompactKernel;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Computes the number of distinct values in a rolling window. The window values are held in a
+ * {@link CharSegmentedSortedMultiset SSM} with their multiplicity, so values entering and leaving the window update the
+ * SSM incrementally and the distinct count is simply the number of unique values in the SSM.
+ */
+public class CharRollingCountDistinctOperator extends BaseLongUpdateByOperator {
+    private static final int BUFFER_INITIAL_CAPACITY = 128;
+    private final boolean countNulls;
+    // region extra-fields
+    // endregion extra-fields
+
+    protected class Context extends BaseLongUpdateByOperator.Context {
+        protected CharChunk<? extends Values> influencerValuesChunk;
+        protected CharRingBuffer windowValues;
+        protected CharSegmentedSortedMultiset ssm;
+        protected final SegmentedSortedMultiSet.RemoveContext removeContext;
+        protected WritableCharChunk<Values> valueCopy;
+        protected WritableIntChunk<ChunkLengths> counts;
+
+        @SuppressWarnings("unused")
+        protected Context(final int affectedChunkSize, final int influencerChunkSize) {
+            super(affectedChunkSize);
+            windowValues = new CharRingBuffer(BUFFER_INITIAL_CAPACITY, true);
+            ssm = new CharSegmentedSortedMultiset(SsmDistinctContext.NODE_SIZE);
+            removeContext = SegmentedSortedMultiSet.makeRemoveContext(SsmDistinctContext.NODE_SIZE);
+            valueCopy = WritableCharChunk.makeWritableChunk(influencerChunkSize);
+            counts = WritableIntChunk.makeWritableChunk(influencerChunkSize);
+        }
+
+        @Override
+        public void close() {
+            super.close();
+            valueCopy.close();
+            counts.close();
+            windowValues = null;
+            ssm = null;
+        }
+
+        @Override
+        public void setValueChunks(@NotNull final Chunk<? extends Values>[] valueChunks) {
+            influencerValuesChunk = valueChunks[0].asCharChunk();
+        }
+
+        @Override
+        public void push(int pos, int count) {
+            windowValues.ensureRemaining(count);
+            prepareValueCopy(count);
+
+            for (int ii = 0; ii < count; ii++) {
+                final char val = influencerValuesChunk.get(pos + ii);
+                windowValues.addUnsafe(val);
+                valueCopy.add(val);
+            }
+
+            CharCompactKernel.compactAndCount(valueCopy, counts, countNulls);
+            if (valueCopy.size() > 0) {
+                ssm.insert(valueCopy, counts);
+            }
+        }
+
+        @Override
+        public void pop(int count) {
+            Assert.geq(windowValues.size(), "windowValues.size()", count);
+            prepareValueCopy(count);
+
+            for (int ii = 0; ii < count; ii++) {
+                valueCopy.add(windowValues.removeUnsafe());
+            }
+
+            CharCompactKernel.compactAndCount(valueCopy, counts, countNulls);
+            if (valueCopy.size() > 0) {
+                ssm.remove(removeContext, valueCopy, counts);
+            }
+        }
+
+        @Override
+        public void writeToOutputChunk(int outIdx) {
+            curVal = ssm.size();
+            outputValues.set(outIdx, curVal);
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            windowValues.clear();
+            ssm = new CharSegmentedSortedMultiset(SsmDistinctContext.NODE_SIZE);
+        }
+
+        private void prepareValueCopy(final int count) {
+            if (valueCopy.capacity() < count) {
+                valueCopy.close();
+                counts.close();
+                valueCopy = WritableCharChunk.makeWritableChunk(count);
+                counts = WritableIntChunk.makeWritableChunk(count);
+            }
+            valueCopy.setSize(0);
+        }
+    }
+
+    @NotNull
+    @Override
+    public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
+        return new Context(affectedChunkSize, influencerChunkSize);
+    }
+
+    public CharRollingCountDistinctOperator(
+            @NotNull final MatchPair pair,
+            @NotNull final String[] affectingColumns,
+            @Nullable final String timestampColumnName,
+            final long reverseWindowScaleUnits,
+            final long forwardWindowScaleUnits,
+            final boolean countNulls
+    // region extra-constructor-args
+    // endregion extra-constructor-args
+    ) {
+        super(pair, affectingColumns, timestampColumnName, reverseWindowScaleUnits, forwardWindowScaleUnits, true);
+        this.countNulls = countNulls;
+        // region constructor
+        // endregion constructor
+    }
+
+    @Override
+    public UpdateByOperator copy() {
+        return new CharRollingCountDistinctOperator(pair,
+                affectingColumns,
+                timestampColumnName,
+                reverseWindowScaleUnits,
+                forwardWindowScaleUnits,
+                countNulls
+        // region extra-copy-args
+        // endregion extra-copy-args
+        );
+    }
+}
@@ -0,0 +1,161 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+// ****** AUTO-GENERATED CLASS - DO NOT EDIT MANUALLY
+// ****** Edit CharRollingCountDistinctOperator and run "./gradlew replicateUpdateBy" to regenerate
+//
+// @formatter:off
+package io.deephaven.engine.table.impl.updateby.rollingcountdistinct;
+
+import io.deephaven.base.ringbuffer.FloatRingBuffer;
+import io.deephaven.base.verify.Assert;
+import io.deephaven.chunk.FloatChunk;
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.WritableFloatChunk;
+import io.deephaven.chunk.WritableIntChunk;
+import io.deephaven.chunk.attributes.ChunkLengths;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.table.impl.MatchPair;
+import io.deephaven.engine.table.impl.by.ssmcountdistinct.SsmDistinctContext;
+import io.deephaven.engine.table.impl.ssms.FloatSegmentedSortedMultiset;
+import io.deephaven.engine.table.impl.ssms.SegmentedSortedMultiSet;
+import io.deephaven.engine.table.impl.updateby.UpdateByOperator;
+import io.deephaven.engine.table.impl.updateby.internal.BaseLongUpdateByOperator;
+import io.deephaven.engine.table.impl.util.compact.FloatCompactKernel;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Computes the number of distinct values in a rolling window. The window values are held in a
+ * {@link FloatSegmentedSortedMultiset SSM} with their multiplicity, so values entering and leaving the window update the
+ * SSM incrementally and the distinct count is simply the number of unique values in the SSM.
+ */
+public class FloatRollingCountDistinctOperator extends BaseLongUpdateByOperator {
+    private static final int BUFFER_INITIAL_CAPACITY = 128;
+    private final boolean countNulls;
+    // region extra-fields
+    // endregion extra-fields
+
+    protected class Context extends BaseLongUpdateByOperator.Context {
+        protected FloatChunk<? extends Values> influencerValuesChunk;
+        protected FloatRingBuffer windowValues;
+        protected FloatSegmentedSortedMultiset ssm;
+        protected final SegmentedSortedMultiSet.RemoveContext removeContext;
+        protected WritableFloatChunk<Values> valueCopy;
+        protected WritableIntChunk<ChunkLengths> counts;
+
+        @SuppressWarnings("unused")
+        protected Context(final int affectedChunkSize, final int influencerChunkSize) {
+            super(affectedChunkSize);
+            windowValues = new FloatRingBuffer(BUFFER_INITIAL_CAPACITY, true);
+            ssm = new FloatSegmentedSortedMultiset(SsmDistinctContext.NODE_SIZE);
+            removeContext = SegmentedSortedMultiSet.makeRemoveContext(SsmDistinctContext.NODE_SIZE);
+            valueCopy = WritableFloatChunk.makeWritableChunk(influencerChunkSize);
+            counts = WritableIntChunk.makeWritableChunk(influencerChunkSize);
+        }
+
+        @Override
+        public void close() {
+            super.close();
+            valueCopy.close();
+            counts.close();
+            windowValues = null;
+            ssm = null;
+        }
+
+        @Override
+        public void setValueChunks(@NotNull final Chunk<? extends Values>[] valueChunks) {
+            influencerValuesChunk = valueChunks[0].asFloatChunk();
+        }
+
+        @Override
+        public void push(int pos, int count) {
+            windowValues.ensureRemaining(count);
+            prepareValueCopy(count);
+
+            for (int ii = 0; ii < count; ii++) {
+                final float val = influencerValuesChunk.get(pos + ii);
+                windowValues.addUnsafe(val);
+                valueCopy.add(val);
+            }
+
+            FloatCompactKernel.compactAndCount(valueCopy, counts, countNulls);
+            if (valueCopy.size() > 0) {
+                ssm.insert(valueCopy, counts);
+            }
+        }
+
+        @Override
+        public void pop(int count) {
+            Assert.geq(windowValues.size(), "windowValues.size()", count);
+            prepareValueCopy(count);
+
+            for (int ii = 0; ii < count; ii++) {
+                valueCopy.add(windowValues.removeUnsafe());
+            }
+
+            FloatCompactKernel.compactAndCount(valueCopy, counts, countNulls);
+            if (valueCopy.size() > 0) {
+                ssm.remove(removeContext, valueCopy, counts);
+            }
+        }
+
+        @Override
+        public void writeToOutputChunk(int outIdx) {
+            curVal = ssm.size();
+            outputValues.set(outIdx, curVal);
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            windowValues.clear();
+            ssm = new FloatSegmentedSortedMultiset(SsmDistinctContext.NODE_SIZE);
+        }
+
+        private void prepareValueCopy(final int count) {
+            if (valueCopy.capacity() < count) {
+                valueCopy.close();
+                counts.close();
+                valueCopy = WritableFloatChunk.makeWritableChunk(count);
+                counts = WritableIntChunk.makeWritableChunk(count);
+            }
+            valueCopy.setSize(0);
+        }
+    }
+
+    @NotNull
+    @Override
+    public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
+        return new Context(affectedChunkSize, influencerChunkSize);
+    }
+
+    public FloatRollingCountDistinctOperator(
+            @NotNull final MatchPair pair,
+            @NotNull final String[] affectingColumns,
+            @Nullable final String timestampColumnName,
+            final long reverseWindowScaleUnits,
+            final long forwardWindowScaleUnits,
+            final boolean countNulls
+    // region extra-constructor-args
+    // endregion extra-constructor-args
+    ) {
+        super(pair, affectingColumns, timestampColumnName, reverseWindowScaleUnits, forwardWindowScaleUnits, true);
+        this.countNulls = countNulls;
+        // region constructor
+        // endregion constructor
+    }
+
+    @Override
+    public UpdateByOperator copy() {
+        return new FloatRollingCountDistinctOperator(pair,
+                affectingColumns,
+                timestampColumnName,
+                reverseWindowScaleUnits,
+                forwardWindowScaleUnits,
+                countNulls
+        // region extra-copy-args
+        // endregion extra-copy-args
+        );
+    }
+}
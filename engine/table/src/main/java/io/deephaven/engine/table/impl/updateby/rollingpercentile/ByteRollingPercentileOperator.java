@@ -0,0 +1,277 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+// ****** AUTO-GENERATED CLASS - DO NOT EDIT MANUALLY
+// ****** Edit CharRollingPercentileOperator and run "./gradlew replicateUpdateBy" to regenerate
+//
+// @formatter:off
+package io.deephaven.engine.table.impl.updateby.rollingpercentile;
+
+import io.deephaven.base.ringbuffer.ByteRingBuffer;
+import io.deephaven.base.verify.Assert;
+import io.deephaven.chunk.ByteChunk;
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.ResettableWritableByteChunk;
+import io.deephaven.chunk.ResettableWritableIntChunk;
+import io.deephaven.chunk.WritableByteChunk;
+import io.deephaven.chunk.WritableIntChunk;
+import io.deephaven.chunk.attributes.ChunkLengths;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.table.impl.MatchPair;
+import io.deephaven.engine.table.impl.ssms.ByteSegmentedSortedMultiset;
+import io.deephaven.engine.table.impl.ssms.SegmentedSortedMultiSet;
+import io.deephaven.engine.table.impl.updateby.UpdateByOperator;
+import io.deephaven.engine.table.impl.updateby.internal.BaseByteUpdateByOperator;
+import io.deephaven.engine.table.impl.util.compact.ByteCompactKernel;
+import io.deephaven.util.compare.ByteComparisons;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static io.deephaven.util.QueryConstants.NULL_BYTE;
+
+/**
+ * Computes a rolling percentile of the window values. The non-null values of the window are held in a pair of
+ * {@link ByteSegmentedSortedMultiset SSMs}: the "lo" SSM holds the values at or below the percentile and the "hi" SSM
+ * holds the values above it, so the result is always the maximum of the lo SSM. Values entering and leaving the window
+ * are inserted into and removed from the appropriate SSM, and the two SSMs are rebalanced only when a result is
+ * needed.
+ */
+public class ByteRollingPercentileOperator extends BaseByteUpdateByOperator {
+    private static final int NODE_SIZE =
+            Configuration.getInstance().getIntegerWithDefault("RollingPercentileOperator.nodeSize", 4096);
+    private static final int BUFFER_INITIAL_CAPACITY = 128;
+    private final double percentile;
+    // region extra-fields
+    // endregion extra-fields
+
+    protected class Context extends BaseByteUpdateByOperator.Context {
+        protected ByteChunk<? extends Values> byteInfluencerValuesChunk;
+        protected ByteRingBuffer windowValues;
+        protected ByteSegmentedSortedMultiset ssmLo;
+        protected ByteSegmentedSortedMultiset ssmHi;
+        protected final SegmentedSortedMultiSet.RemoveContext removeContext;
+        protected WritableByteChunk<Values> valueCopy;
+        protected WritableIntChunk<ChunkLengths> counts;
+        protected final ResettableWritableByteChunk<Values> valueSlice;
+        protected final ResettableWritableIntChunk<ChunkLengths> countSlice;
+        protected boolean evaluationNeeded;
+
+        @SuppressWarnings("unused")
+        protected Context(final int affectedChunkSize, final int influencerChunkSize) {
+            super(affectedChunkSize);
+            windowValues = new ByteRingBuffer(BUFFER_INITIAL_CAPACITY, true);
+            ssmLo = new ByteSegmentedSortedMultiset(NODE_SIZE);
+            ssmHi = new ByteSegmentedSortedMultiset(NODE_SIZE);
+            removeContext = SegmentedSortedMultiSet.makeRemoveContext(NODE_SIZE);
+            valueCopy = WritableByteChunk.makeWritableChunk(influencerChunkSize);
+            counts = WritableIntChunk.makeWritableChunk(influencerChunkSize);
+            valueSlice = ResettableWritableByteChunk.makeResettableChunk();
+            countSlice = ResettableWritableIntChunk.makeResettableChunk();
+            evaluationNeeded = false;
+        }
+
+        @Override
+        public void close() {
+            super.close();
+            valueCopy.close();
+            counts.close();
+            valueSlice.close();
+            countSlice.close();
+            windowValues = null;
+            ssmLo = null;
+            ssmHi = null;
+        }
+
+        @Override
+        public void setValueChunks(@NotNull final Chunk<? extends Values>[] valueChunks) {
+            byteInfluencerValuesChunk = valueChunks[0].asByteChunk();
+        }
+
+        @Override
+        public void push(int pos, int count) {
+            windowValues.ensureRemaining(count);
+            prepareValueCopy(count);
+
+            for (int ii = 0; ii < count; ii++) {
+                final byte val = byteInfluencerValuesChunk.get(pos + ii);
+                windowValues.addUnsafe(val);
+                // nulls are discarded when the values are compacted
+                valueCopy.add(val);
+            }
+            insertValues();
+        }
+
+        @Override
+        public void pop(int count) {
+            Assert.geq(windowValues.size(), "windowValues.size()", count);
+            prepareValueCopy(count);
+
+            for (int ii = 0; ii < count; ii++) {
+                valueCopy.add(windowValues.removeUnsafe());
+            }
+            removeValues();
+        }
+
+        @Override
+        public void writeToOutputChunk(int outIdx) {
+            if (evaluationNeeded) {
+                curVal = evaluate();
+                evaluationNeeded = false;
+            }
+            outputValues.set(outIdx, curVal);
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            windowValues.clear();
+            ssmLo = new ByteSegmentedSortedMultiset(NODE_SIZE);
+            ssmHi = new ByteSegmentedSortedMultiset(NODE_SIZE);
+            evaluationNeeded = false;
+        }
+
+        private void prepareValueCopy(final int count) {
+            if (valueCopy.capacity() < count) {
+                valueCopy.close();
+                counts.close();
+                valueCopy = WritableByteChunk.makeWritableChunk(count);
+                counts = WritableIntChunk.makeWritableChunk(count);
+            }
+            valueCopy.setSize(0);
+        }
+
+        /**
+         * Insert the values in {@code valueCopy} into the SSMs. Values less than or equal to the maximum of the lo SSM
+         * are inserted there, the remainder into the hi SSM.
+         */
+        private void insertValues() {
+            ByteCompactKernel.compactAndCount(valueCopy, counts);
+            final int size = valueCopy.size();
+            if (size == 0) {
+                return;
+            }
+            final int loPivot = ssmLo.size() > 0 ? upperBound(valueCopy, 0, size, ssmLo.getMaxByte()) : 0;
+            if (loPivot > 0) {
+                ssmLo.insert(valueSlice.resetFromChunk(valueCopy, 0, loPivot),
+                        countSlice.resetFromChunk(counts, 0, loPivot));
+            }
+            if (loPivot < size) {
+                ssmHi.insert(valueSlice.resetFromChunk(valueCopy, loPivot, size - loPivot),
+                        countSlice.resetFromChunk(counts, loPivot, size - loPivot));
+            }
+            evaluationNeeded = true;
+        }
+
+        /**
+         * Remove the values in {@code valueCopy} from the SSMs. The maximum of the lo SSM may also be present in the
+         * hi SSM, so we remove as many copies of it as possible from the lo SSM and the leftovers from the hi SSM.
+         */
+        private void removeValues() {
+            ByteCompactKernel.compactAndCount(valueCopy, counts);
+            final int size = valueCopy.size();
+            if (size == 0) {
+                return;
+            }
+            int loPivot = 0;
+            int leftOvers = 0;
+            if (ssmLo.size() > 0) {
+                final byte loMax = ssmLo.getMaxByte();
+                loPivot = upperBound(valueCopy, 0, size, loMax);
+                if (loPivot > 0 && ByteComparisons.eq(valueCopy.get(loPivot - 1), loMax)
+                        && counts.get(loPivot - 1) > ssmLo.getMaxCount()) {
+                    leftOvers = (int) (counts.get(loPivot - 1) - ssmLo.getMaxCount());
+                }
+            }
+            if (loPivot > 0) {
+                if (leftOvers > 0) {
+                    counts.set(loPivot - 1, counts.get(loPivot - 1) - leftOvers);
+                }
+                ssmLo.remove(removeContext, valueSlice.resetFromChunk(valueCopy, 0, loPivot),
+                        countSlice.resetFromChunk(counts, 0, loPivot));
+            }
+            if (leftOvers > 0) {
+                counts.set(loPivot - 1, leftOvers);
+                loPivot--;
+            }
+            if (loPivot < size) {
+                ssmHi.remove(removeContext, valueSlice.resetFromChunk(valueCopy, loPivot, size - loPivot),
+                        countSlice.resetFromChunk(counts, loPivot, size - loPivot));
+            }
+            evaluationNeeded = true;
+        }
+
+        /**
+         * Rebalance the SSMs so that the lo SSM holds exactly the values at or below the percentile, and return the
+         * maximum of the lo SSM.
+         */
+        private byte evaluate() {
+            final long loSize = ssmLo.totalSize();
+            final long totalSize = loSize + ssmHi.totalSize();
+            if (totalSize == 0) {
+                return NULL_BYTE;
+            }
+            final long targetLo = Math.round((totalSize - 1) * percentile) + 1;
+            if (loSize < targetLo) {
+                ssmHi.moveFrontToBack(ssmLo, targetLo - loSize);
+            } else if (loSize > targetLo) {
+                ssmLo.moveBackToFront(ssmHi, loSize - targetLo);
+            }
+            return ssmLo.getMaxByte();
+        }
+    }
+
+    /**
+     * Return the first index in valuesToSearch that is greater than searchValue.
+     */
+    private static int upperBound(ByteChunk<? extends Values> valuesToSearch, int lo, int hi, byte searchValue) {
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (ByteComparisons.gt(valuesToSearch.get(mid), searchValue)) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return hi;
+    }
+
+    @NotNull
+    @Override
+    public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
+        return new Context(affectedChunkSize, influencerChunkSize);
+    }
+
+    public ByteRollingPercentileOperator(
+            @NotNull final MatchPair pair,
+            @NotNull final String[] affectingColumns,
+            @Nullable final String timestampColumnName,
+            final long reverseWindowScaleUnits,
+            final long forwardWindowScaleUnits,
+            final double percentile
+    // region extra-constructor-args
+    // endregion extra-constructor-args
+    ) {
+        super(pair, affectingColumns, timestampColumnName, reverseWindowScaleUnits, forwardWindowScaleUnits, true);
+        this.percentile = percentile;
+        // region constructor
+        // endregion constructor
+    }
+
+    @Override
+    public UpdateByOperator copy() {
+        return new ByteRollingPercentileOperator(
+                pair,
+                affectingColumns,
+                timestampColumnName,
+                reverseWindowScaleUnits,
+                forwardWindowScaleUnits,
+                percentile
+        // region extra-copy-args
+        // endregion extra-copy-args
+        );
+    }
+
+    // region extra-methods
+    // endregion extra-methods
+}
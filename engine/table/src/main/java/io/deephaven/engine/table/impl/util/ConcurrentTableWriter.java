@@ -0,0 +1,944 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.util;
+
+import io.deephaven.base.verify.Assert;
+import io.deephaven.chunk.ChunkType;
+import io.deephaven.chunk.WritableByteChunk;
+import io.deephaven.chunk.WritableCharChunk;
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.WritableDoubleChunk;
+import io.deephaven.chunk.WritableFloatChunk;
+import io.deephaven.chunk.WritableIntChunk;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.WritableObjectChunk;
+import io.deephaven.chunk.WritableShortChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSequenceFactory;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.TrackingWritableRowSet;
+import io.deephaven.engine.table.ChunkSink;
+import io.deephaven.engine.table.ColumnDefinition;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.engine.table.WritableColumnSource;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.sources.ArrayBackedColumnSource;
+import io.deephaven.engine.table.impl.sources.ReinterpretUtils;
+import io.deephaven.engine.updategraph.UpdateGraph;
+import io.deephaven.tablelogger.Row;
+import io.deephaven.tablelogger.TableWriter;
+import io.deephaven.time.DateTimeUtils;
+import io.deephaven.util.BooleanUtils;
+import io.deephaven.util.QueryConstants;
+import io.deephaven.util.SafeCloseable;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.OverridingMethodsMustInvokeSuper;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link TableWriter} that produces an append-only, in-memory table and supports many concurrent producers without a
+ * shared lock.
+ * <p>
+ * Each producer obtains its own {@link Row} via {@link #getRowWriter()} and must confine it (and its setters) to a
+ * single thread at a time. Rows are staged in per-producer blocks of primitive {@link WritableChunk chunks}; committing
+ * a row or transaction only publishes a new committed size with a volatile write. On each update graph cycle, the
+ * committed rows from all producers are copied into the result table's column sources in bulk. Producers never wait
+ * for the update graph, and the update graph never waits for producers.
+ * <p>
+ * The convenience methods {@link #getSetter(String)}, {@link #setFlags(Row.Flags)}, and {@link #writeRow()} operate on
+ * a producer row belonging to the calling thread.
+ * <p>
+ * Transaction {@link Row.Flags flags} are interpreted per producer as in {@link DynamicTableWriter}: rows become
+ * visible together when a {@link Row.Flags#SingleRow SingleRow} or {@link Row.Flags#EndTransaction EndTransaction} row
+ * is written, and a {@link Row.Flags#StartTransaction StartTransaction} row discards any uncommitted rows from the same
+ * producer. The relative order of rows from different producers is determined by the writer's {@link Ordering}.
+ * <p>
+ * Producer rows are retained for the lifetime of the writer, so applications should create one per producer thread
+ * rather than one per row.
+ *
+ * @implNote The constructor publishes {@code this} to the {@link UpdateGraph} and thus cannot be subclassed.
+ */
+public final class ConcurrentTableWriter implements TableWriter<Row>, Runnable {
+
+    /**
+     * The default number of rows in each producer staging block.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 4096;
+
+    /**
+     * Ordering guarantees for rows written by different producers.
+     */
+    public enum Ordering {
+        /**
+         * Rows from each producer appear in the order they were committed by that producer. No ordering is imposed
+         * between producers, and committing requires no shared state.
+         */
+        PRODUCER,
+        /**
+         * Rows from each producer appear in the order they were committed by that producer, and the rows added in each
+         * update graph cycle are additionally ordered by a global commit sequence. A transaction that is still being
+         * committed when a cycle begins may appear in a later cycle than transactions that committed after it started.
+         * Committing requires one atomic increment per transaction.
+         */
+        COMMIT_SEQUENCE
+    }
+
+    private final String[] columnNames;
+    private final Class<?>[] columnTypes;
+    private final ChunkType[] stagingChunkTypes;
+    private final WritableColumnSource<?>[] sources;
+    private final WritableColumnSource<?>[] targets;
+    private final Map<String, Integer> columnIndices;
+    private final Ordering ordering;
+    private final int blockSize;
+
+    private final UpdateGraph updateGraph;
+    private final TrackingWritableRowSet rowSet;
+    private final QueryTable table;
+
+    private final List<ProducerRow> producers = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<ProducerRow> primaryRows = ThreadLocal.withInitial(this::newProducerRow);
+    private final ConcurrentLinkedQueue<StagingBlock> freeBlocks = new ConcurrentLinkedQueue<>();
+    private final AtomicLong commitSequence = new AtomicLong();
+
+    // Accessed only from the update graph refresh thread
+    private final List<StagedRun> runs = new ArrayList<>();
+    private final List<StagingBlock> consumedBlocks = new ArrayList<>();
+    private long nextRowKey;
+
+    /**
+     * Creates a ConcurrentTableWriter with {@link Ordering#PRODUCER producer ordering} and the
+     * {@link #DEFAULT_BLOCK_SIZE default block size}.
+     *
+     * @param definition The definition of the result table
+     */
+    public ConcurrentTableWriter(@NotNull final TableDefinition definition) {
+        this(definition, Ordering.PRODUCER, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Creates a ConcurrentTableWriter.
+     *
+     * @param definition The definition of the result table
+     * @param ordering The ordering guarantee for rows written by different producers
+     * @param blockSize The number of rows in each producer staging block
+     */
+    public ConcurrentTableWriter(
+            @NotNull final TableDefinition definition,
+            @NotNull final Ordering ordering,
+            final int blockSize) {
+        Assert.gtZero(blockSize, "blockSize");
+        this.ordering = ordering;
+        this.blockSize = blockSize;
+
+        final List<ColumnDefinition<?>> columns = definition.getColumns();
+        final int numColumns = columns.size();
+        columnNames = new String[numColumns];
+        columnTypes = new Class<?>[numColumns];
+        stagingChunkTypes = new ChunkType[numColumns];
+        sources = new WritableColumnSource<?>[numColumns];
+        targets = new WritableColumnSource<?>[numColumns];
+        columnIndices = new HashMap<>(numColumns);
+        final Map<String, ColumnSource<?>> columnSources = new LinkedHashMap<>(numColumns);
+        for (int ci = 0; ci < numColumns; ++ci) {
+            final ColumnDefinition<?> column = columns.get(ci);
+            final WritableColumnSource<?> source = ArrayBackedColumnSource.getMemoryColumnSource(
+                    0, column.getDataType(), column.getComponentType());
+            columnNames[ci] = column.getName();
+            columnTypes[ci] = column.getDataType();
+            stagingChunkTypes[ci] = ReinterpretUtils.maybeConvertToWritablePrimitiveChunkType(column.getDataType());
+            sources[ci] = source;
+            targets[ci] = ReinterpretUtils.maybeConvertToWritablePrimitive(source);
+            columnIndices.put(column.getName(), ci);
+            columnSources.put(column.getName(), source);
+        }
+
+        rowSet = RowSetFactory.empty().toTracking();
+        table = new QueryTable(definition, rowSet, columnSources) {
+            {
+                setFlat();
+                setRefreshing(true);
+                setAttribute(Table.ADD_ONLY_TABLE_ATTRIBUTE, true);
+                setAttribute(Table.APPEND_ONLY_TABLE_ATTRIBUTE, true);
+            }
+
+            @OverridingMethodsMustInvokeSuper
+            @Override
+            public void destroy() {
+                super.destroy();
+                updateGraph.removeSource(ConcurrentTableWriter.this);
+            }
+        };
+        updateGraph = table.getUpdateGraph();
+        updateGraph.addSource(this);
+    }
+
+    /**
+     * Gets the table created by this ConcurrentTableWriter.
+     * <p>
+     * The returned table is registered with the {@link UpdateGraph}, and committed rows become visible on its next
+     * cycle.
+     *
+     * @return a live, append-only table with the output of this writer
+     */
+    public Table getTable() {
+        return table;
+    }
+
+    /**
+     * @return The ordering guarantee for rows written by different producers
+     */
+    public Ordering getOrdering() {
+        return ordering;
+    }
+
+    /**
+     * Creates a new producer row. The result, and any setters obtained from it, must only be used by one thread at a
+     * time.
+     *
+     * @return A new producer row
+     */
+    @Override
+    public Row getRowWriter() {
+        return newProducerRow();
+    }
+
+    private ProducerRow newProducerRow() {
+        final ProducerRow row = new ProducerRow();
+        producers.add(row);
+        return row;
+    }
+
+    /**
+     * Gets a setter for the calling thread's producer row. The result must only be used on the calling thread.
+     *
+     * @param name column name
+     * @return a setter for {@code name} on the calling thread's producer row
+     */
+    @Override
+    public DynamicTableWriter.PermissiveRowSetter<?> getSetter(final String name) {
+        return primaryRows.get().getSetter(name);
+    }
+
+    @Override
+    public void setFlags(final Row.Flags flags) {
+        primaryRows.get().setFlags(flags);
+    }
+
+    /**
+     * Writes the calling thread's current producer row.
+     */
+    @Override
+    public void writeRow() {
+        primaryRows.get().writeRow();
+    }
+
+    /**
+     * Committed rows are already visible to the update graph, so there is nothing to flush.
+     */
+    @Override
+    public void flush() {}
+
+    @Override
+    public long size() {
+        return table.size();
+    }
+
+    @Override
+    public void close() {
+        updateGraph.removeSource(this);
+    }
+
+    @Override
+    public Class[] getColumnTypes() {
+        return columnTypes.clone();
+    }
+
+    @Override
+    public String[] getColumnNames() {
+        return columnNames.clone();
+    }
+
+    // region Refresh
+
+    /**
+     * Merge committed rows from all producers into the result table. This is invoked by the {@link UpdateGraph} as an
+     * update source, and must not be called concurrently with itself.
+     */
+    @Override
+    public void run() {
+        try {
+            for (final ProducerRow producer : producers) {
+                producer.collect(runs, consumedBlocks);
+            }
+            if (runs.isEmpty()) {
+                return;
+            }
+
+            long numRows = 0;
+            int maxRunSize = 0;
+            for (final StagedRun run : runs) {
+                numRows += run.size();
+                maxRunSize = Math.max(maxRunSize, run.size());
+            }
+            final long firstRowKey = nextRowKey;
+            final long lastRowKey = firstRowKey + numRows - 1;
+            for (final WritableColumnSource<?> source : sources) {
+                source.ensureCapacity(lastRowKey + 1, false);
+            }
+
+            final ChunkSink.FillFromContext[] contexts = new ChunkSink.FillFromContext[targets.length];
+            try {
+                for (int ci = 0; ci < targets.length; ++ci) {
+                    contexts[ci] = targets[ci].makeFillFromContext(maxRunSize);
+                }
+                if (ordering == Ordering.COMMIT_SEQUENCE) {
+                    copyInCommitOrder(contexts, firstRowKey);
+                } else {
+                    long rowKey = firstRowKey;
+                    for (final StagedRun run : runs) {
+                        copy(contexts, run.block, run.start, run.end - run.start, rowKey);
+                        rowKey += run.size();
+                    }
+                }
+            } finally {
+                SafeCloseable.closeAll(contexts);
+            }
+
+            nextRowKey = lastRowKey + 1;
+            rowSet.insertRange(firstRowKey, lastRowKey);
+            table.notifyListeners(RowSetFactory.fromRange(firstRowKey, lastRowKey), RowSetFactory.empty(),
+                    RowSetFactory.empty());
+        } finally {
+            runs.clear();
+            for (final StagingBlock block : consumedBlocks) {
+                block.reset();
+                freeBlocks.offer(block);
+            }
+            consumedBlocks.clear();
+        }
+    }
+
+    /**
+     * Copy all collected runs in global commit sequence order. Each run is already sorted, so this is a k-way merge
+     * that copies the longest possible slice of the head run at each step.
+     */
+    private void copyInCommitOrder(@NotNull final ChunkSink.FillFromContext[] contexts, final long firstRowKey) {
+        final PriorityQueue<StagedRun> heap = new PriorityQueue<>(runs.size(),
+                (r1, r2) -> Long.compare(r1.headSequence(), r2.headSequence()));
+        heap.addAll(runs);
+        long rowKey = firstRowKey;
+        while (!heap.isEmpty()) {
+            final StagedRun run = heap.poll();
+            final StagedRun next = heap.peek();
+            final int sliceStart = run.start;
+            if (next == null) {
+                run.start = run.end;
+            } else {
+                final long limit = next.headSequence();
+                final WritableLongChunk<Values> sequences = run.block.sequences;
+                do {
+                    ++run.start;
+                } while (run.start < run.end && sequences.get(run.start) < limit);
+            }
+            final int sliceSize = run.start - sliceStart;
+            copy(contexts, run.block, sliceStart, sliceSize, rowKey);
+            rowKey += sliceSize;
+            if (run.start < run.end) {
+                heap.add(run);
+            }
+        }
+    }
+
+    private void copy(
+            @NotNull final ChunkSink.FillFromContext[] contexts,
+            @NotNull final StagingBlock block,
+            final int start,
+            final int size,
+            final long firstRowKey) {
+        try (final RowSequence destinations = RowSequenceFactory.forRange(firstRowKey, firstRowKey + size - 1)) {
+            for (int ci = 0; ci < targets.length; ++ci) {
+                targets[ci].fillFromChunk(contexts[ci], block.chunks[ci].slice(start, size), destinations);
+            }
+        }
+    }
+
+    /**
+     * A range of committed rows in a staging block, collected for copying on the current cycle.
+     */
+    private static final class StagedRun {
+
+        private final StagingBlock block;
+        private int start;
+        private final int end;
+
+        private StagedRun(@NotNull final StagingBlock block, final int start, final int end) {
+            this.block = block;
+            this.start = start;
+            this.end = end;
+        }
+
+        private int size() {
+            return end - start;
+        }
+
+        private long headSequence() {
+            return block.sequences.get(start);
+        }
+    }
+
+    // endregion Refresh
+
+    // region Staging
+
+    /**
+     * A block of staged rows owned by a single producer. The producer writes rows at and beyond {@link #committed};
+     * the refresh thread reads rows in {@code [consumed, committed)}.
+     */
+    private final class StagingBlock {
+
+        private final int capacity;
+        private final WritableChunk<Values>[] chunks;
+        private final WritableLongChunk<Values> sequences;
+
+        /** Rows below this index are committed; written only by the producer. */
+        private volatile int committed;
+        /** Rows below this index have been copied to the result; accessed only by the refresh thread. */
+        private int consumed;
+
+        private StagingBlock(final int capacity) {
+            this.capacity = capacity;
+            // noinspection unchecked
+            chunks = new WritableChunk[stagingChunkTypes.length];
+            for (int ci = 0; ci < chunks.length; ++ci) {
+                chunks[ci] = stagingChunkTypes[ci].makeWritableChunk(capacity);
+            }
+            sequences = ordering == Ordering.COMMIT_SEQUENCE ? WritableLongChunk.makeWritableChunk(capacity) : null;
+        }
+
+        /**
+         * Release references held by this block and prepare it for reuse by any producer.
+         */
+        private void reset() {
+            for (int ci = 0; ci < chunks.length; ++ci) {
+                if (stagingChunkTypes[ci] == ChunkType.Object) {
+                    chunks[ci].fillWithNullValue(0, chunks[ci].size());
+                }
+            }
+            consumed = 0;
+            committed = 0;
+        }
+    }
+
+    private StagingBlock takeBlock(final int minimumCapacity) {
+        if (minimumCapacity <= blockSize) {
+            final StagingBlock recycled = freeBlocks.poll();
+            if (recycled != null) {
+                return recycled;
+            }
+            return new StagingBlock(blockSize);
+        }
+        // Oversized blocks (for very large transactions) are never recycled into the shared pool
+        return new StagingBlock(minimumCapacity);
+    }
+
+    /**
+     * A producer's row writer, along with its staging blocks.
+     */
+    private final class ProducerRow implements Row {
+
+        private final RowSetterImpl<?>[] setters;
+        private final ConcurrentLinkedQueue<StagingBlock> retired = new ConcurrentLinkedQueue<>();
+
+        /** The block being written; replaced only by the producer. */
+        private volatile StagingBlock current;
+        /** The number of rows staged in {@link #current}, including uncommitted rows; producer only. */
+        private int staged;
+        private Row.Flags flags = Row.Flags.SingleRow;
+
+        private ProducerRow() {
+            setters = new RowSetterImpl[columnNames.length];
+            for (int ci = 0; ci < setters.length; ++ci) {
+                setters[ci] = makeSetter(ci);
+            }
+            current = takeBlock(blockSize);
+        }
+
+        @Override
+        public DynamicTableWriter.PermissiveRowSetter<?> getSetter(final String name) {
+            final Integer columnIndex = columnIndices.get(name);
+            if (columnIndex == null) {
+                throw new RuntimeException("Unknown column name " + name);
+            }
+            return setters[columnIndex];
+        }
+
+        @Override
+        public void setFlags(final Row.Flags flags) {
+            this.flags = flags;
+        }
+
+        @Override
+        public long size() {
+            return ConcurrentTableWriter.this.size();
+        }
+
+        @Override
+        public void writeRow() {
+            StagingBlock block = current;
+            int committed = block.committed;
+            if (flags == Row.Flags.StartTransaction) {
+                // Discard any uncommitted rows from an abandoned transaction
+                staged = committed;
+            }
+            if (staged == block.capacity) {
+                block = rollover(block, committed);
+                committed = block.committed;
+            }
+
+            final int row = staged++;
+            for (final RowSetterImpl<?> setter : setters) {
+                setter.write(block, row);
+            }
+
+            if (flags == Row.Flags.SingleRow || flags == Row.Flags.EndTransaction) {
+                if (block.sequences != null) {
+                    block.sequences.fillWithValue(committed, staged - committed,
+                            commitSequence.getAndIncrement());
+                }
+                block.committed = staged;
+            }
+        }
+
+        /**
+         * Replace a full block, carrying over any uncommitted rows.
+         */
+        private StagingBlock rollover(@NotNull final StagingBlock full, final int committed) {
+            final int uncommitted = staged - committed;
+            final StagingBlock replacement = takeBlock(uncommitted + 1 > blockSize ? 2 * (uncommitted + 1) : blockSize);
+            for (int ci = 0; ci < setters.length; ++ci) {
+                replacement.chunks[ci].copyFromChunk(full.chunks[ci], committed, 0, uncommitted);
+            }
+            staged = uncommitted;
+            // Order matters: the refresh thread relies on seeing a block in retired before it stops being current
+            retired.offer(full);
+            current = replacement;
+            return replacement;
+        }
+
+        /**
+         * Collect committed, unconsumed rows for the refresh thread, in producer order.
+         */
+        private void collect(@NotNull final List<StagedRun> runs, @NotNull final List<StagingBlock> consumed) {
+            // Read current before draining retired: any block retired before current was installed is already queued
+            final StagingBlock currentBlock = current;
+            StagingBlock block;
+            while ((block = retired.peek()) != null && block != currentBlock) {
+                collectFrom(block, runs);
+                retired.poll();
+                if (block.capacity == blockSize) {
+                    consumed.add(block);
+                }
+            }
+            collectFrom(currentBlock, runs);
+        }
+
+        private void collectFrom(@NotNull final StagingBlock block, @NotNull final List<StagedRun> runs) {
+            final int committed = block.committed;
+            if (committed > block.consumed) {
+                runs.add(new StagedRun(block, block.consumed, committed));
+                block.consumed = committed;
+            }
+        }
+    }
+
+    // endregion Staging
+
+    // region Setters
+
+    private RowSetterImpl<?> makeSetter(final int columnIndex) {
+        final Class<?> type = columnTypes[columnIndex];
+        if (type == Boolean.class || type == boolean.class) {
+            return new BooleanRowSetterImpl(columnIndex);
+        } else if (type == Instant.class) {
+            return new InstantRowSetterImpl(columnIndex);
+        } else if (type == byte.class) {
+            return new ByteRowSetterImpl(columnIndex);
+        } else if (type == char.class) {
+            return new CharRowSetterImpl(columnIndex);
+        } else if (type == short.class) {
+            return new ShortRowSetterImpl(columnIndex);
+        } else if (type == int.class) {
+            return new IntRowSetterImpl(columnIndex);
+        } else if (type == long.class) {
+            return new LongRowSetterImpl(columnIndex);
+        } else if (type == float.class) {
+            return new FloatRowSetterImpl(columnIndex);
+        } else if (type == double.class) {
+            return new DoubleRowSetterImpl(columnIndex);
+        }
+        return new ObjectRowSetterImpl<>(columnIndex, type);
+    }
+
+    /**
+     * Setters hold a pending value, which is staged when the row is written. As with {@link DynamicTableWriter},
+     * values persist across rows until set again.
+     */
+    private static abstract class RowSetterImpl<T> implements DynamicTableWriter.PermissiveRowSetter<T> {
+
+        protected final int columnIndex;
+        private final Class<T> type;
+
+        RowSetterImpl(final int columnIndex, @NotNull final Class<T> type) {
+            this.columnIndex = columnIndex;
+            this.type = type;
+        }
+
+        abstract void write(@NotNull StagingBlock block, int row);
+
+        @Override
+        public Class<T> getType() {
+            return type;
+        }
+
+        @Override
+        public void set(final T value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setPermissive(final Object value) {
+            // noinspection unchecked
+            set((T) value);
+        }
+
+        @Override
+        public void setBoolean(final Boolean value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setByte(final byte value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setChar(final char value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setDouble(final double value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setFloat(final float value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setInt(final int value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setLong(final long value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setShort(final short value) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class BooleanRowSetterImpl extends RowSetterImpl<Boolean> {
+
+        private byte pending = BooleanUtils.NULL_BOOLEAN_AS_BYTE;
+
+        BooleanRowSetterImpl(final int columnIndex) {
+            super(columnIndex, Boolean.class);
+        }
+
+        @Override
+        public void set(final Boolean value) {
+            setBoolean(value);
+        }
+
+        @Override
+        public void setBoolean(final Boolean value) {
+            pending = BooleanUtils.booleanAsByte(value);
+        }
+
+        @Override
+        void write(@NotNull final StagingBlock block, final int row) {
+            block.chunks[columnIndex].asWritableByteChunk().set(row, pending);
+        }
+    }
+
+    private static final class InstantRowSetterImpl extends RowSetterImpl<Instant> {
+
+        private long pending = QueryConstants.NULL_LONG;
+
+        InstantRowSetterImpl(final int columnIndex) {
+            super(columnIndex, Instant.class);
+        }
+
+        @Override
+        public void set(final Instant value) {
+            pending = DateTimeUtils.epochNanos(value);
+        }
+
+        @Override
+        public void setLong(final long value) {
+            pending = value;
+        }
+
+        @Override
+        void write(@NotNull final StagingBlock block, final int row) {
+            block.chunks[columnIndex].asWritableLongChunk().set(row, pending);
+        }
+    }
+
+    private static final class ByteRowSetterImpl extends RowSetterImpl<Byte> {
+
+        private byte pending = QueryConstants.NULL_BYTE;
+
+        ByteRowSetterImpl(final int columnIndex) {
+            super(columnIndex, byte.class);
+        }
+
+        @Override
+        public void set(final Byte value) {
+            setByte(value == null ? QueryConstants.NULL_BYTE : value);
+        }
+
+        @Override
+        public void setPermissive(final Object value) {
+            setByte(value == null ? QueryConstants.NULL_BYTE : ((Number) value).byteValue());
+        }
+
+        @Override
+        public void setByte(final byte value) {
+            pending = value;
+        }
+
+        @Override
+        void write(@NotNull final StagingBlock block, final int row) {
+            final WritableByteChunk<Values> chunk = block.chunks[columnIndex].asWritableByteChunk();
+            chunk.set(row, pending);
+        }
+    }
+
+    private static final class CharRowSetterImpl extends RowSetterImpl<Character> {
+
+        private char pending = QueryConstants.NULL_CHAR;
+
+        CharRowSetterImpl(final int columnIndex) {
+            super(columnIndex, char.class);
+        }
+
+        @Override
+        public void set(final Character value) {
+            setChar(value == null ? QueryConstants.NULL_CHAR : value);
+        }
+
+        @Override
+        public void setChar(final char value) {
+            pending = value;
+        }
+
+        @Override
+        void write(@NotNull final StagingBlock block, final int row) {
+            final WritableCharChunk<Values> chunk = block.chunks[columnIndex].asWritableCharChunk();
+            chunk.set(row, pending);
+        }
+    }
+
+    private static final class ShortRowSetterImpl extends RowSetterImpl<Short> {
+
+        private short pending = QueryConstants.NULL_SHORT;
+
+        ShortRowSetterImpl(final int columnIndex) {
+            super(columnIndex, short.class);
+        }
+
+        @Override
+        public void set(final Short value) {
+            setShort(value == null ? QueryConstants.NULL_SHORT : value);
+        }
+
+        @Override
+        public void setPermissive(final Object value) {
+            setShort(value == null ? QueryConstants.NULL_SHORT : ((Number) value).shortValue());
+        }
+
+        @Override
+        public void setShort(final short value) {
+            pending = value;
+        }
+
+        @Override
+        void write(@NotNull final StagingBlock block, final int row) {
+            final WritableShortChunk<Values> chunk = block.chunks[columnIndex].asWritableShortChunk();
+            chunk.set(row, pending);
+        }
+    }
+
+    private static final class IntRowSetterImpl extends RowSetterImpl<Integer> {
+
+        private int pending = QueryConstants.NULL_INT;
+
+        IntRowSetterImpl(final int columnIndex) {
+            super(columnIndex, int.class);
+        }
+
+        @Override
+        public void set(final Integer value) {
+            setInt(value == null ? QueryConstants.NULL_INT : value);
+        }
+
+        @Override
+        public void setPermissive(final Object value) {
+            setInt(value == null ? QueryConstants.NULL_INT : ((Number) value).intValue());
+        }
+
+        @Override
+        public void setInt(final int value) {
+            pending = value;
+        }
+
+        @Override
+        void write(@NotNull final StagingBlock block, final int row) {
+            final WritableIntChunk<Values> chunk = block.chunks[columnIndex].asWritableIntChunk();
+            chunk.set(row, pending);
+        }
+    }
+
+    private static final class LongRowSetterImpl extends RowSetterImpl<Long> {
+
+        private long pending = QueryConstants.NULL_LONG;
+
+        LongRowSetterImpl(final int columnIndex) {
+            super(columnIndex, long.class);
+        }
+
+        @Override
+        public void set(final Long value) {
+            setLong(value == null ? QueryConstants.NULL_LONG : value);
+        }
+
+        @Override
+        public void setPermissive(final Object value) {
+            setLong(value == null ? QueryConstants.NULL_LONG : ((Number) value).longValue());
+        }
+
+        @Override
+        public void setLong(final long value) {
+            pending = value;
+        }
+
+        @Override
+        void write(@NotNull final StagingBlock block, final int row) {
+            final WritableLongChunk<Values> chunk = block.chunks[columnIndex].asWritableLongChunk();
+            chunk.set(row, pending);
+        }
+    }
+
+    private static final class FloatRowSetterImpl extends RowSetterImpl<Float> {
+
+        private float pending = QueryConstants.NULL_FLOAT;
+
+        FloatRowSetterImpl(final int columnIndex) {
+            super(columnIndex, float.class);
+        }
+
+        @Override
+        public void set(final Float value) {
+            setFloat(value == null ? QueryConstants.NULL_FLOAT : value);
+        }
+
+        @Override
+        public void setPermissive(final Object value) {
+            setFloat(value == null ? QueryConstants.NULL_FLOAT : ((Number) value).floatValue());
+        }
+
+        @Override
+        public void setFloat(final float value) {
+            pending = value;
+        }
+
+        @Override
+        void write(@NotNull final StagingBlock block, final int row) {
+            final WritableFloatChunk<Values> chunk = block.chunks[columnIndex].asWritableFloatChunk();
+            chunk.set(row, pending);
+        }
+    }
+
+    private static final class DoubleRowSetterImpl extends RowSetterImpl<Double> {
+
+        private double pending = QueryConstants.NULL_DOUBLE;
+
+        DoubleRowSetterImpl(final int columnIndex) {
+            super(columnIndex, double.class);
+        }
+
+        @Override
+        public void set(final Double value) {
+            setDouble(value == null ? QueryConstants.NULL_DOUBLE : value);
+        }
+
+        @Override
+        public void setPermissive(final Object value) {
+            setDouble(value == null ? QueryConstants.NULL_DOUBLE : ((Number) value).doubleValue());
+        }
+
+        @Override
+        public void setDouble(final double value) {
+            pending = value;
+        }
+
+        @Override
+        void write(@NotNull final StagingBlock block, final int row) {
+            final WritableDoubleChunk<Values> chunk = block.chunks[columnIndex].asWritableDoubleChunk();
+            chunk.set(row, pending);
+        }
+    }
+
+    private static final class ObjectRowSetterImpl<T> extends RowSetterImpl<T> {
+
+        private T pending;
+
+        ObjectRowSetterImpl(final int columnIndex, @NotNull final Class<T> type) {
+            super(columnIndex, type);
+        }
+
+        @Override
+        public void set(final T value) {
+            pending = value;
+        }
+
+        @Override
+        void write(@NotNull final StagingBlock block, final int row) {
+            final WritableObjectChunk<T, Values> chunk = block.chunks[columnIndex].asWritableObjectChunk();
+            chunk.set(row, pending);
+        }
+    }
+
+    // endregion Setters
+}
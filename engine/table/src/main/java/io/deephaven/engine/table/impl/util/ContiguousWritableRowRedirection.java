@@ -43,6 +43,14 @@ public class ContiguousWritableRowRedirection implements WritableRowRedirection
         updateCommitter = null;
     }
 
+    @Override
+    public long estimateRetainedBytes() {
+        final TLongLongHashMap localCheckpoint = checkpoint;
+        // Trove maps hold parallel key, value, and state arrays; count only the occupied slots
+        return (long) redirections.length * Long.BYTES
+                + (localCheckpoint == null ? 0 : (long) localCheckpoint.size() * (2 * Long.BYTES + Byte.BYTES));
+    }
+
     @Override
     public long put(long outerRowKey, long innerRowKey) {
         Require.requirement(outerRowKey <= Integer.MAX_VALUE && outerRowKey >= 0,
@@ -28,6 +28,11 @@ public class IntColumnSourceRowRedirection<CST extends ColumnSource<Integer>> im
         this.columnSource = columnSource;
     }
 
+    @Override
+    public long estimateRetainedBytes() {
+        return columnSource.estimateRetainedBytes();
+    }
+
     @Override
     public long get(final long outerRowKey) {
         final int innerRowKey = columnSource.getInt(outerRowKey);
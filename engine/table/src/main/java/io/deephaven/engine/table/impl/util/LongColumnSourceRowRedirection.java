@@ -27,6 +27,11 @@ public class LongColumnSourceRowRedirection<CST extends ColumnSource<Long>> impl
         this.columnSource = columnSource;
     }
 
+    @Override
+    public long estimateRetainedBytes() {
+        return columnSource.estimateRetainedBytes();
+    }
+
     @Override
     public final long get(final long outerRowKey) {
         final long innerRowKey = columnSource.getLong(outerRowKey);
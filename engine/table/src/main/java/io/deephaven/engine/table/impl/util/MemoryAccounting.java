@@ -0,0 +1,182 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.util;
+
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.UncoalescedTable;
+import io.deephaven.engine.table.impl.sources.RedirectedColumnSource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Utilities for estimating the heap memory retained by tables and the structures that back them.
+ * <p>
+ * Estimates count the arrays owned by {@link ColumnSource column sources}, {@link RowSet row sets},
+ * {@link RowRedirection row redirections}, as reported by their {@code estimateRetainedBytes()} methods, and any state
+ * an operation has {@link #registerOperationState(Table, LongSupplier) registered} against its result, such as the hash
+ * table of a refreshing aggregation. They exclude object headers and the objects referenced by object columns, assume
+ * 8-byte references, and may be inconsistent if taken concurrently with an update.
+ */
+public final class MemoryAccounting {
+
+    /**
+     * The assumed size of an object reference. Compressed references would halve this, but we prefer to over-estimate.
+     */
+    public static final int REFERENCE_BYTES = 8;
+
+    /**
+     * The key under which {@link #estimateRetainedBytesByColumn(Table, Set)} reports a table's row set.
+     */
+    public static final String ROW_SET_KEY = "__RowSet";
+
+    /**
+     * The key under which {@link #estimateRetainedBytesByColumn(Table, Set)} reports the state an operation retains to
+     * maintain a table.
+     */
+    public static final String OPERATION_STATE_KEY = "__OperationState";
+
+    /**
+     * Estimators for the state retained to maintain each table, beyond its row set and columns. Tables are weakly held.
+     */
+    private static final Map<Table, LongSupplier> OPERATION_STATE = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private MemoryAccounting() {}
+
+    /**
+     * Register the state that an operation retains to maintain {@code table}, and which is not reachable from its row
+     * set or columns, so that it is charged to {@code table}. The estimator must not reference {@code table}.
+     *
+     * @param table The result table the state is retained for
+     * @param estimatedBytes Supplies the current estimate of the state's retained bytes
+     */
+    public static void registerOperationState(
+            @NotNull final Table table,
+            @NotNull final LongSupplier estimatedBytes) {
+        OPERATION_STATE.put(table, estimatedBytes);
+    }
+
+    /**
+     * Get the number of bytes used to store one element of {@code type} in a primitive array, or in an array of
+     * references for non-primitive types. Booleans are stored as bytes.
+     *
+     * @param type The element type, either primitive or boxed
+     * @return The bytes per element
+     */
+    public static int elementBytes(@NotNull final Class<?> type) {
+        if (type == byte.class || type == Byte.class || type == boolean.class || type == Boolean.class) {
+            return Byte.BYTES;
+        }
+        if (type == char.class || type == Character.class) {
+            return Character.BYTES;
+        }
+        if (type == short.class || type == Short.class) {
+            return Short.BYTES;
+        }
+        if (type == int.class || type == Integer.class) {
+            return Integer.BYTES;
+        }
+        if (type == float.class || type == Float.class) {
+            return Float.BYTES;
+        }
+        if (type == long.class || type == Long.class) {
+            return Long.BYTES;
+        }
+        if (type == double.class || type == Double.class) {
+            return Double.BYTES;
+        }
+        return REFERENCE_BYTES;
+    }
+
+    /**
+     * Sum the {@link ColumnSource#estimateRetainedBytes() retained bytes} of {@code sources}, ignoring {@code null}
+     * entries.
+     *
+     * @param sources The column sources
+     * @return The estimated retained bytes
+     */
+    public static long estimateRetainedBytes(@Nullable final ColumnSource<?>... sources) {
+        if (sources == null) {
+            return 0;
+        }
+        long bytes = 0;
+        for (final ColumnSource<?> source : sources) {
+            if (source != null) {
+                bytes += source.estimateRetainedBytes();
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Estimate the heap bytes retained by {@code table}'s row set and columns. Structures shared between columns, such
+     * as a row redirection, are counted once.
+     *
+     * @param table The table
+     * @return The estimated retained bytes
+     */
+    public static long estimateRetainedBytes(@NotNull final Table table) {
+        return estimateRetainedBytesByColumn(table, Collections.newSetFromMap(new IdentityHashMap<>()))
+                .values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Estimate the heap bytes retained by {@code table}'s row set, reported under {@link #ROW_SET_KEY}, by each of its
+     * columns, and by any {@link #registerOperationState(Table, LongSupplier) registered} operation state, reported
+     * under {@link #OPERATION_STATE_KEY}. Anything already in {@code alreadyCounted} is reported as zero bytes, and
+     * everything counted is added to it, so that callers may attribute structures shared between tables to the first
+     * table examined.
+     * <p>
+     * {@link RedirectedColumnSource Redirected} columns are charged for their row redirection and their inner source.
+     * Uncoalesced tables have materialized nothing of their own, and report an empty map.
+     *
+     * @param table The table
+     * @param alreadyCounted An identity set of the row sets, column sources and row redirections already counted
+     * @return A map from {@link #ROW_SET_KEY}, then each column name in definition order, then
+     *         {@link #OPERATION_STATE_KEY} if registered, to estimated retained bytes
+     */
+    public static Map<String, Long> estimateRetainedBytesByColumn(
+            @NotNull final Table table,
+            @NotNull final Set<Object> alreadyCounted) {
+        final Map<String, Long> result = new LinkedHashMap<>();
+        if (table instanceof UncoalescedTable) {
+            return result;
+        }
+        final RowSet rowSet = table.getRowSet();
+        result.put(ROW_SET_KEY, alreadyCounted.add(rowSet) ? rowSet.estimateRetainedBytes() : 0L);
+        for (final Map.Entry<String, ? extends ColumnSource<?>> entry : table.getColumnSourceMap().entrySet()) {
+            result.put(entry.getKey(), estimateRetainedBytes(entry.getValue(), alreadyCounted));
+        }
+        final LongSupplier operationState = OPERATION_STATE.get(table);
+        if (operationState != null) {
+            result.put(OPERATION_STATE_KEY, alreadyCounted.add(operationState) ? operationState.getAsLong() : 0L);
+        }
+        return result;
+    }
+
+    private static long estimateRetainedBytes(
+            @NotNull final ColumnSource<?> source,
+            @NotNull final Set<Object> alreadyCounted) {
+        if (!alreadyCounted.add(source)) {
+            return 0;
+        }
+        if (source instanceof RedirectedColumnSource) {
+            final RedirectedColumnSource<?> redirected = (RedirectedColumnSource<?>) source;
+            final RowRedirection rowRedirection = redirected.getRowRedirection();
+            final long redirectionBytes =
+                    alreadyCounted.add(rowRedirection) ? rowRedirection.estimateRetainedBytes() : 0;
+            return redirectionBytes + estimateRetainedBytes(redirected.getInnerSource(), alreadyCounted);
+        }
+        return source.estimateRetainedBytes();
+    }
+}
@@ -132,6 +132,17 @@ public interface RowRedirection extends DefaultChunkSource.WithPrev<RowKeys>, Fi
         return false;
     }
 
+    /**
+     * Estimate the number of heap bytes retained by this RowRedirection's own storage, including any previous values
+     * it tracks. Redirections that are views over a {@link RowSet} or another structure owned elsewhere report zero.
+     * This is intended for memory accounting, and may be called concurrently with updates.
+     *
+     * @return An estimate of the retained bytes
+     */
+    default long estimateRetainedBytes() {
+        return 0;
+    }
+
     /**
      * @return Whether this RowRedirection is actually {@link WritableRowRedirection writable}
      */
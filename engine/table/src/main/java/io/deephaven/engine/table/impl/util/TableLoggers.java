@@ -3,6 +3,8 @@
 //
 package io.deephaven.engine.table.impl.util;
 
+import io.deephaven.engine.table.impl.indexer.DataIndexAdvisor;
+import io.deephaven.engine.table.impl.perf.UpdateLatencyTracker;
 import io.deephaven.engine.table.impl.perf.UpdatePerformanceTracker;
 import io.deephaven.engine.table.impl.QueryTable;
 import io.deephaven.util.annotations.ScriptApi;
@@ -81,4 +83,27 @@ public class TableLoggers {
     public static QueryTable serverStateLog() {
         return ServerStateTracker.getInstance().getQueryTable();
     }
+
+    /**
+     * Return a table with sampled end-to-end latency histograms, from ingestion until output by each sink. Sampling is
+     * disabled unless the {@code UpdateLatencyTracker.sampleInterval} property is set.
+     *
+     * @return A table with update latency data.
+     */
+    @ScriptApi
+    public static QueryTable updateLatencyLog() {
+        return UpdateLatencyTracker.getInstance().getQueryTable();
+    }
+
+    /**
+     * Return a table with the decisions made by the data index advisor: which key columns were recommended, built,
+     * skipped for exceeding the memory budget, or retired. The advisor is disabled unless the
+     * {@code DataIndexAdvisor.enabled} property is set.
+     *
+     * @return A table with data index advisor decisions.
+     */
+    @ScriptApi
+    public static QueryTable dataIndexAdvisorLog() {
+        return DataIndexAdvisor.getInstance().getQueryTable();
+    }
 }
@@ -0,0 +1,83 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.util;
+
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.table.ColumnDefinition;
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.engine.table.impl.sources.ArrayBackedColumnSource;
+import io.deephaven.stream.StreamChunkUtils;
+import io.deephaven.stream.StreamConsumer;
+import io.deephaven.stream.StreamPublisher;
+import io.deephaven.time.DateTimeUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+class TableMemoryStreamPublisher implements StreamPublisher {
+
+    private static final TableDefinition DEFINITION = TableDefinition.of(
+            ColumnDefinition.ofTime("SampleTime"),
+            ColumnDefinition.ofString("Scope"),
+            ColumnDefinition.ofString("Name"),
+            ColumnDefinition.ofString("Column"),
+            ColumnDefinition.ofLong("TableSize"),
+            ColumnDefinition.ofLong("EstimatedBytes"));
+
+    private static final int CHUNK_SIZE = ArrayBackedColumnSource.BLOCK_SIZE;
+
+    public static TableDefinition definition() {
+        return DEFINITION;
+    }
+
+    private WritableChunk<Values>[] chunks;
+    private StreamConsumer consumer;
+
+    TableMemoryStreamPublisher() {
+        chunks = StreamChunkUtils.makeChunksForDefinition(DEFINITION, CHUNK_SIZE);
+    }
+
+    @Override
+    public void register(@NotNull StreamConsumer consumer) {
+        if (this.consumer != null) {
+            throw new IllegalStateException("Can not register multiple StreamConsumers.");
+        }
+        this.consumer = Objects.requireNonNull(consumer);
+    }
+
+    public synchronized void add(
+            final long sampleTimeMillis,
+            final String scope,
+            final String name,
+            final String column,
+            final long tableSize,
+            final long estimatedBytes) {
+        chunks[0].asWritableLongChunk().add(DateTimeUtils.millisToNanos(sampleTimeMillis));
+        chunks[1].<String>asWritableObjectChunk().add(scope);
+        chunks[2].<String>asWritableObjectChunk().add(name);
+        chunks[3].<String>asWritableObjectChunk().add(column);
+        chunks[4].asWritableLongChunk().add(tableSize);
+        chunks[5].asWritableLongChunk().add(estimatedBytes);
+        if (chunks[0].size() == CHUNK_SIZE) {
+            flushInternal();
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        if (chunks[0].size() == 0) {
+            return;
+        }
+        flushInternal();
+    }
+
+    private void flushInternal() {
+        consumer.accept(chunks);
+        chunks = StreamChunkUtils.makeChunksForDefinition(DEFINITION, CHUNK_SIZE);
+    }
+
+    @Override
+    public void shutdown() {}
+}
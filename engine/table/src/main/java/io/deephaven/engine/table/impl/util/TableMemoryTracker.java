@@ -0,0 +1,203 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.util;
+
+import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.BlinkTableTools;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.stream.StreamToBlinkTableAdapter;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Periodically estimates the heap memory retained by each {@link #track(String, String, Table) tracked} table, using
+ * {@link MemoryAccounting}, and publishes one row per table column (plus one for the row set) to a blink table.
+ * <p>
+ * Tables are held weakly, and are forgotten once they are collected or destroyed. Structures shared between tracked
+ * tables, such as a column source that a {@code where} result shares with its parent, are attributed to the first
+ * table tracked. Summing {@code EstimatedBytes} by {@code Scope} for a single {@code SampleTime} gives a per-query or
+ * per-session total.
+ * <p>
+ * Each table is sampled while holding its update graph's shared lock, so that its row set and column sources are not
+ * modified during the estimate. Sampling is disabled unless the {@code TableMemoryTracker.enabled} property is set.
+ */
+public class TableMemoryTracker {
+
+    /**
+     * Whether to periodically sample tracked tables.
+     */
+    public static boolean ENABLED = Configuration.getInstance().getBooleanForClassWithDefault(
+            TableMemoryTracker.class, "enabled", false);
+
+    private static final long REPORT_INTERVAL_MILLIS = Configuration.getInstance().getLongForClassWithDefault(
+            TableMemoryTracker.class, "reportIntervalMillis", 60 * 1000L);
+
+    private static final Queue<TrackedTable> TRACKED = new ConcurrentLinkedQueue<>();
+
+    private static volatile TableMemoryTracker INSTANCE;
+    private static boolean started = false;
+
+    private static final class TrackedTable {
+        private final String scope;
+        private final String name;
+        private final WeakReference<Table> table;
+
+        private TrackedTable(@NotNull final String scope, @NotNull final String name, @NotNull final Table table) {
+            this.scope = scope;
+            this.name = name;
+            this.table = new WeakReference<>(table);
+        }
+    }
+
+    /**
+     * Track {@code table}'s memory usage until it is collected or destroyed.
+     *
+     * @param scope The owning query or session, used to group tables
+     * @param name The name of the table within {@code scope}, e.g. a variable name or export id
+     * @param table The table
+     */
+    public static void track(@NotNull final String scope, @NotNull final String name, @NotNull final Table table) {
+        if (!ENABLED) {
+            // Nothing would sample, or prune, the tracked tables
+            return;
+        }
+        TRACKED.add(new TrackedTable(scope, name, table));
+    }
+
+    public static TableMemoryTracker getInstance() {
+        TableMemoryTracker local;
+        if ((local = INSTANCE) == null) {
+            synchronized (TableMemoryTracker.class) {
+                if ((local = INSTANCE) == null) {
+                    INSTANCE = local = new TableMemoryTracker();
+                }
+            }
+        }
+        return local;
+    }
+
+    private final TableMemoryStreamPublisher publisher;
+    // Keep, may eventually want to manage closing
+    @SuppressWarnings("FieldCanBeLocal")
+    private final StreamToBlinkTableAdapter adapter;
+    private final Table blink;
+
+    /**
+     * The thread driving periodic samples, if started. Guarded by the class.
+     */
+    private Thread driverThread;
+
+    private TableMemoryTracker() {
+        publisher = new TableMemoryStreamPublisher();
+        adapter = new StreamToBlinkTableAdapter(
+                TableMemoryStreamPublisher.definition(),
+                publisher,
+                ExecutionContext.getContext().getUpdateGraph(),
+                TableMemoryTracker.class.getName());
+        blink = adapter.table();
+    }
+
+    private void startThread() {
+        driverThread = new Thread(this::drive, TableMemoryTracker.class.getSimpleName() + ".Driver");
+        driverThread.setDaemon(true);
+        driverThread.start();
+    }
+
+    private void stopThread() {
+        driverThread.interrupt();
+        driverThread = null;
+    }
+
+    /**
+     * Start periodically sampling tracked tables, if the tracker is {@link #ENABLED enabled}.
+     */
+    public static synchronized void start() {
+        if (started || !ENABLED) {
+            return;
+        }
+        started = true;
+        getInstance().startThread();
+    }
+
+    /**
+     * Stop periodically sampling tracked tables. A sample in progress is allowed to complete.
+     */
+    public static synchronized void stop() {
+        if (!started) {
+            return;
+        }
+        started = false;
+        getInstance().stopThread();
+    }
+
+    private void drive() {
+        while (true) {
+            try {
+                Thread.sleep(REPORT_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                // We have been stopped
+                return;
+            }
+            sample();
+        }
+    }
+
+    /**
+     * Estimate the memory retained by every tracked table, and publish the results.
+     */
+    public void sample() {
+        final long sampleTimeMillis = System.currentTimeMillis();
+        final Set<Object> alreadyCounted = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (final Iterator<TrackedTable> it = TRACKED.iterator(); it.hasNext();) {
+            final TrackedTable tracked = it.next();
+            final Table table = tracked.table.get();
+            if (table == null || !table.tryRetainReference()) {
+                it.remove();
+                continue;
+            }
+            try {
+                // Hold the shared lock so that no update cycle modifies the table's structures while we walk them
+                if (table.isRefreshing()) {
+                    table.getUpdateGraph().sharedLock().doLocked(
+                            () -> sample(sampleTimeMillis, tracked, table, alreadyCounted));
+                } else {
+                    sample(sampleTimeMillis, tracked, table, alreadyCounted);
+                }
+            } finally {
+                table.dropReference();
+            }
+        }
+    }
+
+    private void sample(
+            final long sampleTimeMillis,
+            @NotNull final TrackedTable tracked,
+            @NotNull final Table table,
+            @NotNull final Set<Object> alreadyCounted) {
+        final Map<String, Long> bytesByColumn = MemoryAccounting.estimateRetainedBytesByColumn(table, alreadyCounted);
+        // Only materialized tables report columns, so this will not force a coalesce
+        final long tableSize = bytesByColumn.isEmpty() ? 0 : table.size();
+        for (final Map.Entry<String, Long> entry : bytesByColumn.entrySet()) {
+            publisher.add(sampleTimeMillis, tracked.scope, tracked.name, entry.getKey(), tableSize, entry.getValue());
+        }
+    }
+
+    public Table getBlinkTable() {
+        return blink;
+    }
+
+    public QueryTable getQueryTable() {
+        return (QueryTable) BlinkTableTools.blinkToAppendOnly(blink);
+    }
+}
@@ -140,6 +140,15 @@ public class WritableRowRedirectionLockFree implements WritableRowRedirection {
         this.updateCommitter = null;
     }
 
+    @Override
+    public long estimateRetainedBytes() {
+        final TNullableLongLongMap localUpdates = updates;
+        // Each map slot holds a key and a value in a single long array
+        final long baselineBytes = (long) baseline.capacity() * 2 * Long.BYTES;
+        return localUpdates == baseline ? baselineBytes
+                : baselineBytes + (long) localUpdates.capacity() * 2 * Long.BYTES;
+    }
+
     /**
      * Commits the 'updates' map into the 'baseline' map, then resets the 'updates' map to empty. The only caller should
      * be Writer@Idle, via the TerminalNotification.
@@ -12,6 +12,7 @@ import io.deephaven.engine.liveness.LivenessManager;
 import io.deephaven.engine.liveness.LivenessScope;
 import io.deephaven.engine.liveness.LivenessScopeStack;
 import io.deephaven.engine.table.impl.perf.PerformanceEntry;
+import io.deephaven.engine.table.impl.perf.jfr.UpdateCycleEvent;
 import io.deephaven.engine.table.impl.perf.UpdatePerformanceTracker;
 import io.deephaven.engine.table.impl.util.StepUpdater;
 import io.deephaven.engine.updategraph.*;
@@ -234,6 +235,10 @@ public abstract class BaseUpdateGraph implements UpdateGraph, LogOutputAppendabl
      */
     private final UpdateGraphLock lock;
 
+    private static final int CRITICAL_PATH_SORT_INDEX_BITS = 20;
+    private static final int MAX_CRITICAL_PATH_SORT_SIZE = (1 << CRITICAL_PATH_SORT_INDEX_BITS) - 1;
+    private static final long MAX_CRITICAL_PATH_SORT_ESTIMATE = Long.MAX_VALUE >>> CRITICAL_PATH_SORT_INDEX_BITS;
+
     /**
      * When UpdateGraph.printDependencyInformation is set to true, the UpdateGraph will print debug information for each
      * notification that has dependency information; as well as which notifications have been completed and are
@@ -242,6 +247,20 @@ public abstract class BaseUpdateGraph implements UpdateGraph, LogOutputAppendabl
     private final boolean printDependencyInformation =
             Configuration.getInstance().getBooleanWithDefault("UpdateGraph.printDependencyInformation", false);
 
+    /**
+     * When UpdateGraph.prioritizeCriticalPath is set to true, notifications that become satisfied together are
+     * submitted in decreasing order of their {@link Notification#getCriticalPathEstimateNanos() critical path
+     * estimates}, so that long dependency chains are started ahead of unrelated work. Defaults to false.
+     */
+    final boolean prioritizeCriticalPath =
+            Configuration.getInstance().getBooleanWithDefault("UpdateGraph.prioritizeCriticalPath", false);
+
+    /**
+     * Satisfied notifications awaiting submission in critical path order; only used by the refresh thread.
+     */
+    private final List<Notification> satisfiedToSubmit = new ArrayList<>();
+    private long[] satisfiedSortKeys = new long[0];
+
     private final String name;
 
     final UpdatePerformanceTracker updatePerformanceTracker;
@@ -268,7 +287,7 @@ public abstract class BaseUpdateGraph implements UpdateGraph, LogOutputAppendabl
         notificationProcessor = PoisonedNotificationProcessor.INSTANCE;
         jvmIntrospectionContext = new JvmIntrospectionContext();
         lock = UpdateGraphLock.create(this, allowUnitTestMode);
-        updatePerformanceTracker = new UpdatePerformanceTracker(this);
+        updatePerformanceTracker = new UpdatePerformanceTracker(this, prioritizeCriticalPath);
     }
 
     public String getName() {
@@ -585,14 +604,21 @@ public abstract class BaseUpdateGraph implements UpdateGraph, LogOutputAppendabl
                 if (satisfied) {
                     nothingBecameSatisfied = false;
                     it.remove();
-                    logDependencies().append(Thread.currentThread().getName())
-                            .append(": Submitting to notification processor ").append(notification).endl();
-                    notificationProcessor.submit(notification);
+                    if (prioritizeCriticalPath) {
+                        satisfiedToSubmit.add(notification);
+                    } else {
+                        logDependencies().append(Thread.currentThread().getName())
+                                .append(": Submitting to notification processor ").append(notification).endl();
+                        notificationProcessor.submit(notification);
+                    }
                 } else {
                     logDependencies().append(Thread.currentThread().getName()).append(": Unmet dependencies for ")
                             .append(notification).endl();
                 }
             }
+            if (!satisfiedToSubmit.isEmpty()) {
+                submitInCriticalPathOrder();
+            }
             if (outstandingCountAtStart == 0 && nothingBecameSatisfied) {
                 if (!printDependencyInformation) {
                     // Let's drop some breadcrumbs here, because this is a very bad state to be in and hard to debug.
@@ -617,6 +643,48 @@ public abstract class BaseUpdateGraph implements UpdateGraph, LogOutputAppendabl
         }
     }
 
+    /**
+     * Submit all notifications in {@link #satisfiedToSubmit} to the notification processor, longest
+     * {@link Notification#getCriticalPathEstimateNanos() critical path} first, and clear it.
+     */
+    private void submitInCriticalPathOrder() {
+        final int size = satisfiedToSubmit.size();
+        if (size > 1 && size <= MAX_CRITICAL_PATH_SORT_SIZE) {
+            // Estimates may change concurrently as other notifications complete, so we sort a snapshot of them. Each
+            // key packs a clamped estimate above the notification's index.
+            if (satisfiedSortKeys.length < size) {
+                satisfiedSortKeys = new long[Math.max(size, satisfiedSortKeys.length * 2)];
+            }
+            boolean anyEstimates = false;
+            for (int ii = 0; ii < size; ++ii) {
+                final long estimate = Math.min(Math.max(satisfiedToSubmit.get(ii).getCriticalPathEstimateNanos(), 0),
+                        MAX_CRITICAL_PATH_SORT_ESTIMATE);
+                anyEstimates |= estimate > 0;
+                // Invert the index so that ties are broken in FIFO order when we iterate in descending key order
+                satisfiedSortKeys[ii] = (estimate << CRITICAL_PATH_SORT_INDEX_BITS) | (size - 1 - ii);
+            }
+            if (anyEstimates) {
+                Arrays.sort(satisfiedSortKeys, 0, size);
+                for (int ki = size - 1; ki >= 0; --ki) {
+                    final int index = size - 1 - (int) (satisfiedSortKeys[ki] & MAX_CRITICAL_PATH_SORT_SIZE);
+                    submitSatisfied(satisfiedToSubmit.get(index));
+                }
+                satisfiedToSubmit.clear();
+                return;
+            }
+        }
+        for (int ii = 0; ii < size; ++ii) {
+            submitSatisfied(satisfiedToSubmit.get(ii));
+        }
+        satisfiedToSubmit.clear();
+    }
+
+    private void submitSatisfied(@NotNull final Notification notification) {
+        logDependencies().append(Thread.currentThread().getName())
+                .append(": Submitting to notification processor ").append(notification).endl();
+        notificationProcessor.submit(notification);
+    }
+
     /**
      * Flush all {@link Notification#isTerminal() terminal} {@link Notification notifications} from the queue.
      *
@@ -798,6 +866,8 @@ public abstract class BaseUpdateGraph implements UpdateGraph, LogOutputAppendabl
      * Iterate over all monitored tables and run them.
      */
     void refreshTablesAndFlushNotifications() {
+        final UpdateCycleEvent cycleEvent = new UpdateCycleEvent();
+        cycleEvent.begin();
         final long startTimeNanos = System.nanoTime();
 
         currentCycleLockWaitTotalNanos = 0;
@@ -812,6 +882,15 @@ public abstract class BaseUpdateGraph implements UpdateGraph, LogOutputAppendabl
         jvmIntrospectionContext.endSample();
         final long cycleTimeNanos = System.nanoTime() - startTimeNanos;
         computeStatsAndLogCycle(cycleTimeNanos);
+
+        cycleEvent.end();
+        if (cycleEvent.shouldCommit()) {
+            cycleEvent.updateGraph = getName();
+            cycleEvent.step = clock().currentStep();
+            cycleEvent.lockWaitNanos = currentCycleLockWaitTotalNanos;
+            cycleEvent.onBudget = isCycleOnBudget(cycleTimeNanos);
+            cycleEvent.commit();
+        }
     }
 
     private void computeStatsAndLogCycle(final long cycleTimeNanos) {
@@ -10,6 +10,8 @@ import io.deephaven.io.logger.Logger;
 import io.deephaven.util.SafeCloseable;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * An EventDrivenUpdateGraph provides an isolated refresh processor.
  *
@@ -18,10 +20,20 @@ import org.jetbrains.annotations.NotNull;
  * when a call to {@link #requestRefresh()} is made. All sources are synchronously refreshed on that thread, and then
  * the resultant notifications are also synchronously processed.
  * </p>
+ *
+ * <p>
+ * In {@link Builder#busySpin(boolean) busy-spin} mode, a dedicated refresh thread instead spins waiting for refresh
+ * requests, and {@link #requestRefresh()} only sets a flag and returns without blocking. This avoids lock handoffs and
+ * thread wake-ups between the requesting thread and the cycle, at the cost of a fully occupied core. Requests made
+ * while a cycle is running are coalesced into a single subsequent cycle.
+ * </p>
  */
 public class EventDrivenUpdateGraph extends BaseUpdateGraph {
     private static final Logger log = LoggerFactory.getLogger(EventDrivenUpdateGraph.class);
-    private boolean started = false;
+    private volatile boolean started = false;
+
+    private final boolean busySpin;
+    private final AtomicBoolean refreshRequested = new AtomicBoolean();
 
     /**
      * Create a builder for an EventDrivenUpdateGraph with the given name.
@@ -33,8 +45,9 @@ public class EventDrivenUpdateGraph extends BaseUpdateGraph {
         return new EventDrivenUpdateGraph.Builder(name);
     }
 
-    private EventDrivenUpdateGraph(String name, long minimumCycleDurationToLogNanos) {
+    private EventDrivenUpdateGraph(String name, long minimumCycleDurationToLogNanos, boolean busySpin) {
         super(name, false, log, minimumCycleDurationToLogNanos);
+        this.busySpin = busySpin;
         notificationProcessor = new QueueNotificationProcessor();
     }
 
@@ -49,14 +62,26 @@ public class EventDrivenUpdateGraph extends BaseUpdateGraph {
     }
 
     /**
-     * Refresh all sources and execute the resulting notifications synchronously on this thread.
+     * Refresh all sources and execute the resulting notifications synchronously on this thread, or in
+     * {@link Builder#busySpin(boolean) busy-spin} mode, request that the refresh thread do so as soon as possible.
      */
     @Override
     public void requestRefresh() {
+        if (busySpin) {
+            if (!started) {
+                maybeStart();
+            }
+            refreshRequested.set(true);
+            return;
+        }
         if (isUpdateThread.get()) {
             throw new IllegalStateException("Cannot request a refresh from an update thread");
         }
         maybeStart();
+        refreshAllTablesLocked();
+    }
+
+    private void refreshAllTablesLocked() {
         // Do the work to refresh everything, driven by this thread. Note that we acquire the lock "early" in order to
         // avoid any inconsistencies w.r.t. assumptions about clock, lock, and update-thread state.
         final long lockStartTimeNanos = System.nanoTime();
@@ -85,9 +110,29 @@ public class EventDrivenUpdateGraph extends BaseUpdateGraph {
             return;
         }
         updatePerformanceTracker.start();
+        if (busySpin) {
+            final Thread refreshThread = new Thread(this::spin, "EventDrivenUpdateGraph-" + getName() + "-Refresh");
+            refreshThread.setDaemon(true);
+            refreshThread.start();
+        }
         started = true;
     }
 
+    private void spin() {
+        while (running) {
+            // Read before writing, so that idle spinning does not contend for the flag's cache line
+            if (refreshRequested.get() && refreshRequested.getAndSet(false)) {
+                try {
+                    refreshAllTablesLocked();
+                } catch (Exception e) {
+                    log.error().append(this).append(": error refreshing: ").append(e).endl();
+                }
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
     @Override
     public void stop() {
         running = false;
@@ -102,6 +147,7 @@ public class EventDrivenUpdateGraph extends BaseUpdateGraph {
     public static class Builder {
         private final String name;
         private long minimumCycleDurationToLogNanos = DEFAULT_MINIMUM_CYCLE_DURATION_TO_LOG_NANOSECONDS;
+        private boolean busySpin = false;
 
         public Builder(String name) {
             this.name = name;
@@ -118,6 +164,20 @@ public class EventDrivenUpdateGraph extends BaseUpdateGraph {
             return this;
         }
 
+        /**
+         * Set whether the EventDrivenUpdateGraph should run its cycles on a dedicated refresh thread that busy-spins
+         * waiting for {@link #requestRefresh() refresh requests}. This minimizes the latency between a request and its
+         * cycle, but occupies a core even when idle; for the best results, the process should reserve a core for the
+         * refresh thread, e.g. with an OS-level CPU affinity.
+         *
+         * @param busySpin whether to busy-spin on a dedicated refresh thread
+         * @return this builder
+         */
+        public Builder busySpin(boolean busySpin) {
+            this.busySpin = busySpin;
+            return this;
+        }
+
         /**
          * Constructs and returns an EventDrivenUpdateGraph. It is an error to do so if an UpdateGraph already exists
          * with the name provided to this builder.
@@ -148,7 +208,8 @@ public class EventDrivenUpdateGraph extends BaseUpdateGraph {
         private EventDrivenUpdateGraph construct() {
             return new EventDrivenUpdateGraph(
                     name,
-                    minimumCycleDurationToLogNanos);
+                    minimumCycleDurationToLogNanos,
+                    busySpin);
         }
     }
 }
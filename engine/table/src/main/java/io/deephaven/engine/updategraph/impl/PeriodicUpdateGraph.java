@@ -200,6 +200,11 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
             public void submitAll(@NotNull IntrusiveDoublyLinkedQueue<Notification> notifications) {
                 notifications.forEach(this::submit);
             }
+
+            @Override
+            protected void submitFromWorker(@NotNull final Worker worker, @NotNull final Notification notification) {
+                submit(notification);
+            }
         };
     }
 
@@ -406,12 +411,18 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
      * @param notification The notification to enqueue
      * @see NotificationQueue.Notification#isTerminal()
      * @see LogicalClock.State
+     * @implNote Non-terminal notifications enqueued by an update thread while it is running a notification are
+     *           scheduled by that update thread, rather than by the refresh thread, whenever their dependencies allow.
      */
     @Override
     public void addNotification(@NotNull final Notification notification) {
         if (notificationAdditionDelay > 0) {
             SleepUtil.sleep(notificationRandomizer.nextInt(notificationAdditionDelay));
         }
+        if (!notification.isTerminal() && notificationProcessor instanceof ConcurrentNotificationProcessor
+                && ((ConcurrentNotificationProcessor) notificationProcessor).maybeDeferToCurrentWorker(notification)) {
+            return;
+        }
         super.addNotification(notification);
     }
 
@@ -799,53 +810,181 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
     }
 
 
+    /**
+     * A {@link NotificationProcessor} that runs satisfied notifications on a fixed set of update threads.
+     * <p>
+     * Each update thread owns a deque of satisfied notifications, guarded by that deque's monitor. Notifications
+     * submitted by the refresh thread are distributed round-robin to the tails of the workers' deques. Notifications
+     * enqueued by an update thread while it is running a notification (typically its children) are pushed onto the head
+     * of that thread's own deque if they can already execute, or else re-evaluated by the same thread once the running
+     * notification completes; downstream work thus tends to run on the thread whose caches hold the upstream results.
+     * Notifications that are still unsatisfied are handed to the refresh thread as usual. An update thread whose deque
+     * is empty steals from the tails of its peers' deques, and only blocks on the shared {@link #idleLock} once no
+     * queued work remains anywhere.
+     * <p>
+     * When {@link #prioritizeCriticalPath} is enabled, a submitted notification with a longer
+     * {@link Notification#getCriticalPathEstimateNanos() critical path} than the head of its assigned deque is placed
+     * at the head rather than the tail.
+     */
     private class ConcurrentNotificationProcessor implements NotificationProcessor {
 
-        private final IntrusiveDoublyLinkedQueue<Notification> satisfiedNotifications =
-                new IntrusiveDoublyLinkedQueue<>(IntrusiveDoublyLinkedNode.Adapter.<Notification>getInstance());
+        private final Worker[] workers;
         private final Thread[] updateThreads;
+        private final ThreadLocal<Worker> currentWorker = new ThreadLocal<>();
 
         private final AtomicInteger outstandingNotifications = new AtomicInteger(0);
         private final Semaphore pendingNormalNotificationsCheckNeeded = new Semaphore(0, false);
 
+        /**
+         * The number of notifications sitting in worker deques, waiting to be run.
+         */
+        private final AtomicInteger queuedNotifications = new AtomicInteger(0);
+        /**
+         * The number of workers blocked (or about to block) on {@link #idleLock}.
+         */
+        private final AtomicInteger idleWorkers = new AtomicInteger(0);
+        private final Object idleLock = new Object();
+
+        /**
+         * The next worker to receive an externally submitted notification. Races are benign; we only need an
+         * approximately even distribution.
+         */
+        private int submissionCursor;
+
         private volatile boolean running = true;
         private volatile boolean isHealthy = true;
 
         public ConcurrentNotificationProcessor(@NotNull final ThreadFactory threadFactory,
                 final int updateThreadCount) {
+            workers = new Worker[updateThreadCount];
+            for (int ti = 0; ti < updateThreadCount; ++ti) {
+                workers[ti] = new Worker(ti);
+            }
             updateThreads = new Thread[updateThreadCount];
             for (int ti = 0; ti < updateThreadCount; ++ti) {
-                updateThreads[ti] = threadFactory.newThread(this::processSatisfiedNotifications);
+                final Worker worker = workers[ti];
+                updateThreads[ti] = threadFactory.newThread(() -> processSatisfiedNotifications(worker));
                 updateThreads[ti].start();
             }
         }
 
-        private void processSatisfiedNotifications() {
+        final class Worker {
+
+            private final int index;
+
+            /**
+             * Satisfied notifications assigned to this worker. Guarded by synchronization on the deque itself; the
+             * owner takes from the head, while thieves take from the tail.
+             */
+            private final IntrusiveDoublyLinkedQueue<Notification> deque =
+                    new IntrusiveDoublyLinkedQueue<>(IntrusiveDoublyLinkedNode.Adapter.<Notification>getInstance());
+            /**
+             * Unsynchronized view of {@code deque.size()}, used by thieves to skip empty victims without locking.
+             */
+            private volatile int size;
+
+            /**
+             * Notifications enqueued by the owning thread while running a notification. Only accessed by the owning
+             * thread.
+             */
+            private final IntrusiveDoublyLinkedQueue<Notification> added =
+                    new IntrusiveDoublyLinkedQueue<>(IntrusiveDoublyLinkedNode.Adapter.<Notification>getInstance());
+            private boolean runningNotification;
+
+            private Worker(final int index) {
+                this.index = index;
+            }
+
+            private void offerLast(@NotNull final Notification notification) {
+                final long estimate = prioritizeCriticalPath ? notification.getCriticalPathEstimateNanos() : 0;
+                synchronized (deque) {
+                    final Notification head = deque.peek();
+                    if (estimate > 0 && head != null && estimate > head.getCriticalPathEstimateNanos()) {
+                        // Jump the queue if we're on a longer critical path than the next notification to run
+                        deque.insert(notification, 0);
+                    } else {
+                        deque.offer(notification);
+                    }
+                    size = deque.size();
+                }
+            }
+
+            private void offerFirst(@NotNull final Notification notification) {
+                synchronized (deque) {
+                    deque.insert(notification, 0);
+                    size = deque.size();
+                }
+            }
+
+            private void insert(@NotNull final Notification notification, final int offset) {
+                synchronized (deque) {
+                    // We clamp the size here because there's a race between the random offset selection and other
+                    // threads draining the queue of satisfied notifications.
+                    deque.insert(notification, Math.min(offset, deque.size()));
+                    size = deque.size();
+                }
+            }
+
+            private Notification pollFirst() {
+                if (size == 0) {
+                    return null;
+                }
+                synchronized (deque) {
+                    final Notification notification = deque.poll();
+                    size = deque.size();
+                    return notification;
+                }
+            }
+
+            private Notification pollLast() {
+                if (size == 0) {
+                    return null;
+                }
+                synchronized (deque) {
+                    final Notification notification = deque.pollLast();
+                    size = deque.size();
+                    return notification;
+                }
+            }
+
+            private void clear() {
+                synchronized (deque) {
+                    deque.clear();
+                    size = 0;
+                }
+            }
+        }
+
+        private void processSatisfiedNotifications(@NotNull final Worker worker) {
             log.info().append(Thread.currentThread().getName())
                     .append(": starting to poll for satisfied notifications");
+            currentWorker.set(worker);
             Notification satisfiedNotification = null;
             try {
                 while (running) {
-                    synchronized (satisfiedNotifications) {
-                        while (running && (satisfiedNotification = satisfiedNotifications.poll()) == null) {
-                            try {
-                                satisfiedNotifications.wait();
-                            } catch (InterruptedException ignored) {
-                            }
-                        }
-                    }
-                    if (satisfiedNotification == null) {
+                    if ((satisfiedNotification = take(worker)) == null) {
                         break;
                     }
 
+                    worker.runningNotification = true;
                     runNotification(satisfiedNotification);
+                    worker.runningNotification = false;
+                    dispatchAddedNotifications(worker);
                     satisfiedNotification = null;
                     outstandingNotifications.decrementAndGet();
                     pendingNormalNotificationsCheckNeeded.release();
                 }
             } finally {
+                currentWorker.remove();
                 if (satisfiedNotification != null) {
-                    // if we were thrown out of the loop; decrement / release after setting the unhealthy flag
+                    // if we were thrown out of the loop; hand off anything we enqueued, then decrement / release after
+                    // setting the unhealthy flag
+                    worker.runningNotification = false;
+                    if (!worker.added.isEmpty()) {
+                        synchronized (pendingNormalNotifications) {
+                            pendingNormalNotifications.transferAfterTailFrom(worker.added);
+                        }
+                    }
                     isHealthy = false;
                     outstandingNotifications.decrementAndGet();
                     pendingNormalNotificationsCheckNeeded.release();
@@ -854,33 +993,184 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
             }
         }
 
+        /**
+         * Take the next notification for {@code worker} to run, preferring its own deque, then stealing from its
+         * peers, then blocking until more work is queued.
+         *
+         * @param worker The worker
+         * @return The next notification, or {@code null} if this processor has been shut down
+         */
+        private Notification take(@NotNull final Worker worker) {
+            while (running) {
+                Notification notification = worker.pollFirst();
+                if (notification == null) {
+                    notification = steal(worker);
+                }
+                if (notification != null) {
+                    queuedNotifications.decrementAndGet();
+                    return notification;
+                }
+                if (queuedNotifications.get() > 0) {
+                    // A submitter has published to a deque we've already passed over, or is about to publish
+                    Thread.onSpinWait();
+                    continue;
+                }
+                idleWorkers.incrementAndGet();
+                try {
+                    synchronized (idleLock) {
+                        while (running && queuedNotifications.get() <= 0) {
+                            try {
+                                idleLock.wait();
+                            } catch (InterruptedException ignored) {
+                            }
+                        }
+                    }
+                } finally {
+                    idleWorkers.decrementAndGet();
+                }
+            }
+            return null;
+        }
+
+        private Notification steal(@NotNull final Worker thief) {
+            for (int wi = 1; wi < workers.length; ++wi) {
+                final Notification notification = workers[(thief.index + wi) % workers.length].pollLast();
+                if (notification != null) {
+                    return notification;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Record that {@code count} notifications have been queued to worker deques, and wake idle workers if
+         * necessary.
+         */
+        private void onQueued(final int count) {
+            queuedNotifications.addAndGet(count);
+            if (idleWorkers.get() > 0) {
+                synchronized (idleLock) {
+                    if (count == 1) {
+                        idleLock.notify();
+                    } else {
+                        idleLock.notifyAll();
+                    }
+                }
+            }
+        }
+
+        private Worker nextSubmissionWorker() {
+            final int cursor = submissionCursor;
+            submissionCursor = cursor + 1 == workers.length ? 0 : cursor + 1;
+            return workers[cursor];
+        }
+
+        /**
+         * Accept a non-terminal notification enqueued from an update thread that is currently running a notification.
+         * If the notification can already execute, it is submitted to the front of that thread's deque. Otherwise, it
+         * will be evaluated by the same thread once the running notification completes.
+         *
+         * @param notification The notification
+         * @return Whether the notification was accepted; if not, the caller must enqueue it normally
+         */
+        private boolean maybeDeferToCurrentWorker(@NotNull final Notification notification) {
+            final Worker worker = currentWorker.get();
+            if (worker == null || !worker.runningNotification) {
+                return false;
+            }
+            logDependencies().append(Thread.currentThread().getName()).append(": Adding notification ")
+                    .append(notification).append(" to worker ").append(worker.index).endl();
+            Assert.eq(logicalClock.currentState(), "logicalClock.currentState()",
+                    LogicalClock.State.Updating, "LogicalClock.State.Updating");
+            final long step = logicalClock.currentStep();
+            if (!satisfied(step) || !maybeSubmitFromWorker(worker, notification, step)) {
+                worker.added.offer(notification);
+            }
+            return true;
+        }
+
+        /**
+         * Evaluate the notifications {@code worker} enqueued while running its last notification. Satisfied
+         * notifications are submitted to the front of the worker's own deque; the rest are handed to the refresh
+         * thread. Must be called before the completed notification is removed from the outstanding count.
+         */
+        private void dispatchAddedNotifications(@NotNull final Worker worker) {
+            if (worker.added.isEmpty()) {
+                return;
+            }
+            final long step = logicalClock.currentStep();
+            if (satisfied(step)) {
+                // Update sources are done for this step, so we may evaluate dependencies exactly as the refresh thread
+                // would in flushNormalNotificationsAndCompleteCycle()
+                for (int remaining = worker.added.size(); remaining > 0; --remaining) {
+                    final Notification notification = worker.added.remove();
+                    if (!maybeSubmitFromWorker(worker, notification, step)) {
+                        worker.added.offer(notification);
+                    }
+                }
+            }
+            if (!worker.added.isEmpty()) {
+                synchronized (pendingNormalNotifications) {
+                    pendingNormalNotifications.transferAfterTailFrom(worker.added);
+                }
+                onNotificationAdded();
+            }
+        }
+
+        private boolean maybeSubmitFromWorker(
+                @NotNull final Worker worker,
+                @NotNull final Notification notification,
+                final long step) {
+            Assert.eqFalse(notification.isTerminal(), "notification.isTerminal()");
+            Assert.eqFalse(notification.mustExecuteWithUpdateGraphLock(),
+                    "notification.mustExecuteWithUpdateGraphLock()");
+            if (!notification.canExecute(step)) {
+                return false;
+            }
+            logDependencies().append(Thread.currentThread().getName())
+                    .append(": Submitting to worker ").append(worker.index).append(' ').append(notification).endl();
+            submitFromWorker(worker, notification);
+            return true;
+        }
+
+        /**
+         * Submit a satisfied notification enqueued by {@code worker} to the front of its own deque.
+         *
+         * @param worker The worker that enqueued {@code notification}
+         * @param notification The notification
+         */
+        protected void submitFromWorker(@NotNull final Worker worker, @NotNull final Notification notification) {
+            outstandingNotifications.incrementAndGet();
+            worker.offerFirst(notification);
+            onQueued(1);
+        }
+
         @Override
         public void submit(@NotNull final Notification notification) {
             outstandingNotifications.incrementAndGet();
-            synchronized (satisfiedNotifications) {
-                satisfiedNotifications.offer(notification);
-                satisfiedNotifications.notify();
-            }
+            nextSubmissionWorker().offerLast(notification);
+            onQueued(1);
         }
 
         @Override
         public void submitAll(@NotNull IntrusiveDoublyLinkedQueue<Notification> notifications) {
-            outstandingNotifications.addAndGet(notifications.size());
-            synchronized (satisfiedNotifications) {
-                satisfiedNotifications.transferAfterTailFrom(notifications);
-                satisfiedNotifications.notifyAll();
+            final int count = notifications.size();
+            if (count == 0) {
+                return;
             }
+            outstandingNotifications.addAndGet(count);
+            Notification notification;
+            while ((notification = notifications.poll()) != null) {
+                nextSubmissionWorker().offerLast(notification);
+            }
+            onQueued(count);
         }
 
         @TestUseOnly
         protected void submitAt(@NotNull final Notification notification, final int offset) {
             outstandingNotifications.incrementAndGet();
-            synchronized (satisfiedNotifications) {
-                // We clamp the size here because there's a race between the random offset selection and other threads
-                // draining the queue of satisfied notifications.
-                satisfiedNotifications.insert(notification, Math.min(offset, satisfiedNotifications.size()));
-                satisfiedNotifications.notify();
-            }
+            workers[offset % workers.length].insert(notification, offset / workers.length);
+            onQueued(1);
         }
 
         @Override
@@ -912,9 +1202,12 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
         @Override
         public void shutdown() {
             running = false;
-            synchronized (satisfiedNotifications) {
-                satisfiedNotifications.clear();
-                satisfiedNotifications.notifyAll();
+            for (final Worker worker : workers) {
+                worker.clear();
+            }
+            queuedNotifications.set(0);
+            synchronized (idleLock) {
+                idleLock.notifyAll();
             }
             for (final Thread updateThread : updateThreads) {
                 try {
@@ -0,0 +1,847 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.stream;
+
+import io.deephaven.chunk.ChunkType;
+import io.deephaven.chunk.ObjectChunk;
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.WritableObjectChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.table.ColumnDefinition;
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.internal.log.LoggerFactory;
+import io.deephaven.io.logger.Logger;
+import io.deephaven.util.SafeCloseable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * A crash-recoverable, append-only journal of the {@link WritableChunk chunks} delivered by a {@link StreamPublisher}.
+ * <p>
+ * Wrapping a publisher with {@link #journaled(StreamPublisher)} writes every batch of chunks to the journal before it
+ * is passed on to the registered {@link StreamConsumer consumer} (typically a {@link StreamToBlinkTableAdapter}). When
+ * the wrapped publisher is registered after a restart, all previously journaled data is {@link #replay(StreamConsumer)
+ * replayed} to the consumer first, so that append-only tables derived from the resulting blink table can be rebuilt
+ * without re-reading from upstream. Publishers are responsible for resuming after the last journaled row, e.g. by
+ * journaling a Kafka offset column and seeking past its maximum value. Kafka ingestion can be journaled by supplying a
+ * consumer registrar to {@code KafkaTools.consume} that wraps the publisher it is given before constructing its
+ * {@link StreamToBlinkTableAdapter}.
+ * <p>
+ * The journal is a directory of segment files. Each segment begins with a header describing the column names and
+ * {@link ChunkType chunk types}, followed by a sequence of records, each holding one batch of rows in columnar form
+ * and protected by a CRC32 checksum. Segments are rolled when they reach a configurable size, and are read back by
+ * memory-mapping them and copying each column directly into a new chunk. A record that was only partially written when
+ * the process died is detected by its checksum and truncated when the journal is next {@link #open opened}.
+ * <p>
+ * Every journaled row has a <em>position</em>, counting rows from the start of the journal, which is stable across
+ * restarts. Once the rows before some position are durable elsewhere (e.g. checkpointed downstream), they may be
+ * {@link #acknowledge(long) acknowledged}, and segments that hold only acknowledged rows are deleted; they will no
+ * longer be replayed. Independently, a journal may be opened with a size or age limit, in which case the oldest
+ * segments are deleted whenever the limit is exceeded. The newest segment is always retained, so that positions
+ * continue from where they left off.
+ * <p>
+ * Columns must use primitive (or {@link StreamChunkUtils#replacementType(Class) replaced}) chunk types, or be
+ * {@link String} columns.
+ */
+public final class StreamJournal implements SafeCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(StreamJournal.class);
+
+    /**
+     * The default size at which segments are rolled.
+     */
+    public static final long DEFAULT_MAX_SEGMENT_BYTES = 256L << 20;
+
+    /**
+     * The maximum permitted segment size, chosen so that a full segment can always be memory-mapped at once.
+     */
+    public static final long MAX_SEGMENT_BYTES_LIMIT = 1L << 30;
+
+    /**
+     * A retention limit that is never exceeded, i.e. segments are only deleted once {@link #acknowledge(long)
+     * acknowledged}.
+     */
+    public static final long NO_RETENTION_LIMIT = Long.MAX_VALUE;
+
+    private static final int SEGMENT_MAGIC = 0x444A524E;
+    private static final int RECORD_MAGIC = 0x52454344;
+    private static final int FORMAT_VERSION = 2;
+
+    /**
+     * Record headers are laid out as {@code [magic][checksum][rowCount][payloadLength]}; the checksum covers everything
+     * after itself.
+     */
+    private static final int RECORD_HEADER_BYTES = 4 * Integer.BYTES;
+    private static final int RECORD_CHECKSUMMED_OFFSET = 2 * Integer.BYTES;
+
+    private static final int NULL_STRING_LENGTH = -1;
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private final Path directory;
+    private final String[] columnNames;
+    private final ChunkType[] chunkTypes;
+    private final long maxSegmentBytes;
+    private final boolean syncOnAppend;
+    private final long maxRetainedBytes;
+    private final long maxRetainedAgeMillis;
+    /**
+     * The column header shared by all segments. Each segment follows it with the position of its first row.
+     */
+    private final byte[] segmentHeader;
+    private final int segmentDataStart;
+
+    // All mutable state is guarded by this
+    private final CRC32 checksum = new CRC32();
+    private ByteBuffer recordBuffer;
+    private long nextSegmentIndex;
+    private long nextRowPosition;
+    /**
+     * The retained segments, oldest first. The newest may be {@link #currentSegment open for writing}.
+     */
+    private final List<Segment> segments = new ArrayList<>();
+    private long retainedBytes;
+    private FileChannel currentSegment;
+    private boolean closed;
+
+    /**
+     * Open (or create) a journal with {@link #DEFAULT_MAX_SEGMENT_BYTES default segment size} that does not force each
+     * append to stable storage. Appended data survives a crash of the process, but not necessarily of the host.
+     *
+     * @param directory The directory holding the journal's segment files
+     * @param definition The {@link TableDefinition} of the stream being journaled
+     * @return The journal
+     */
+    public static StreamJournal open(@NotNull final Path directory, @NotNull final TableDefinition definition) {
+        return open(directory, definition, DEFAULT_MAX_SEGMENT_BYTES, false);
+    }
+
+    /**
+     * Open (or create) a journal. Any partially written record at the end of the most recent segment is truncated.
+     *
+     * @param directory The directory holding the journal's segment files
+     * @param definition The {@link TableDefinition} of the stream being journaled
+     * @param maxSegmentBytes The size at which segments are rolled, at most {@link #MAX_SEGMENT_BYTES_LIMIT}
+     * @param syncOnAppend Whether to force each appended record to stable storage before delivering it downstream
+     * @return The journal
+     */
+    public static StreamJournal open(
+            @NotNull final Path directory,
+            @NotNull final TableDefinition definition,
+            final long maxSegmentBytes,
+            final boolean syncOnAppend) {
+        return open(directory, definition, maxSegmentBytes, syncOnAppend, NO_RETENTION_LIMIT, NO_RETENTION_LIMIT);
+    }
+
+    /**
+     * Open (or create) a journal with retention limits. Any partially written record at the end of the most recent
+     * segment is truncated, and any segments beyond the retention limits are deleted.
+     *
+     * @param directory The directory holding the journal's segment files
+     * @param definition The {@link TableDefinition} of the stream being journaled
+     * @param maxSegmentBytes The size at which segments are rolled, at most {@link #MAX_SEGMENT_BYTES_LIMIT}
+     * @param syncOnAppend Whether to force each appended record to stable storage before delivering it downstream
+     * @param maxRetainedBytes The total segment size above which the oldest segments are deleted, or
+     *        {@link #NO_RETENTION_LIMIT}
+     * @param maxRetainedAgeMillis The time since a segment was last written after which it is deleted, or
+     *        {@link #NO_RETENTION_LIMIT}
+     * @return The journal
+     */
+    public static StreamJournal open(
+            @NotNull final Path directory,
+            @NotNull final TableDefinition definition,
+            final long maxSegmentBytes,
+            final boolean syncOnAppend,
+            final long maxRetainedBytes,
+            final long maxRetainedAgeMillis) {
+        if (maxSegmentBytes <= 0 || maxSegmentBytes > MAX_SEGMENT_BYTES_LIMIT) {
+            throw new IllegalArgumentException("maxSegmentBytes must be in (0, " + MAX_SEGMENT_BYTES_LIMIT
+                    + "], was " + maxSegmentBytes);
+        }
+        if (maxRetainedBytes <= 0) {
+            throw new IllegalArgumentException("maxRetainedBytes must be positive, was " + maxRetainedBytes);
+        }
+        if (maxRetainedAgeMillis <= 0) {
+            throw new IllegalArgumentException("maxRetainedAgeMillis must be positive, was " + maxRetainedAgeMillis);
+        }
+        final List<ColumnDefinition<?>> columns = definition.getColumns();
+        final String[] columnNames = new String[columns.size()];
+        final ChunkType[] chunkTypes = new ChunkType[columns.size()];
+        for (int ci = 0; ci < columnNames.length; ++ci) {
+            final ColumnDefinition<?> column = columns.get(ci);
+            final ChunkType chunkType = StreamChunkUtils.chunkTypeForColumnIndex(definition, ci);
+            if (chunkType == ChunkType.Boolean
+                    || (chunkType == ChunkType.Object && column.getDataType() != String.class)) {
+                throw new IllegalArgumentException("StreamJournal does not support column " + column.getName()
+                        + " of type " + column.getDataType().getName());
+            }
+            columnNames[ci] = column.getName();
+            chunkTypes[ci] = chunkType;
+        }
+        try {
+            Files.createDirectories(directory);
+            final StreamJournal journal = new StreamJournal(directory, columnNames, chunkTypes, maxSegmentBytes,
+                    syncOnAppend, maxRetainedBytes, maxRetainedAgeMillis);
+            journal.recover();
+            return journal;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open stream journal at " + directory, e);
+        }
+    }
+
+    private StreamJournal(
+            @NotNull final Path directory,
+            @NotNull final String[] columnNames,
+            @NotNull final ChunkType[] chunkTypes,
+            final long maxSegmentBytes,
+            final boolean syncOnAppend,
+            final long maxRetainedBytes,
+            final long maxRetainedAgeMillis) {
+        this.directory = directory;
+        this.columnNames = columnNames;
+        this.chunkTypes = chunkTypes;
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.syncOnAppend = syncOnAppend;
+        this.maxRetainedBytes = maxRetainedBytes;
+        this.maxRetainedAgeMillis = maxRetainedAgeMillis;
+        segmentHeader = makeSegmentHeader(columnNames, chunkTypes);
+        segmentDataStart = segmentHeader.length + Long.BYTES;
+        recordBuffer = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * @return The directory holding this journal's segment files
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * @return The position after the last journaled row, i.e. the number of rows ever journaled
+     */
+    public synchronized long getPosition() {
+        return nextRowPosition;
+    }
+
+    /**
+     * @return The position of the first row that would be {@link #replay(StreamConsumer) replayed}
+     */
+    public synchronized long getFirstRetainedPosition() {
+        return segments.isEmpty() ? nextRowPosition : segments.get(0).firstRow;
+    }
+
+    /**
+     * Acknowledge that all rows before {@code position} no longer need to be replayed, and delete the segments that
+     * hold only such rows. Acknowledgement is at segment granularity: a partially acknowledged segment is retained and
+     * replayed in full. If every journaled row is acknowledged, the current segment is rolled so that it too can be
+     * deleted. Does nothing if this journal has been closed.
+     *
+     * @param position The position before which all rows are acknowledged, at most {@link #getPosition()}
+     */
+    public synchronized void acknowledge(final long position) {
+        if (position < 0 || position > nextRowPosition) {
+            throw new IllegalArgumentException("Acknowledged position " + position + " is outside of [0, "
+                    + nextRowPosition + "]");
+        }
+        if (closed) {
+            return;
+        }
+        try {
+            if (position == nextRowPosition && !segments.isEmpty()
+                    && segments.get(segments.size() - 1).firstRow < position) {
+                closeCurrentSegment();
+                openSegment();
+            }
+            while (segments.size() > 1 && segments.get(1).firstRow <= position) {
+                deleteOldestSegment("acknowledged");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to truncate stream journal at " + directory, e);
+        }
+    }
+
+    /**
+     * Wrap {@code publisher} so that all data it delivers is appended to this journal before being passed on. When the
+     * result is {@link StreamPublisher#register(StreamConsumer) registered}, previously journaled data is
+     * {@link #replay(StreamConsumer) replayed} to the registered consumer before {@code publisher} begins delivering.
+     * Shutting down the result closes this journal.
+     *
+     * @param publisher The publisher to wrap
+     * @return A journaling publisher
+     */
+    public StreamPublisher journaled(@NotNull final StreamPublisher publisher) {
+        return new JournalingPublisher(publisher);
+    }
+
+    /**
+     * Deliver all journaled data to {@code consumer}, one {@link StreamConsumer#accept(Collection) batch} per segment.
+     *
+     * @param consumer The consumer to deliver to
+     * @return The number of rows delivered
+     */
+    public synchronized long replay(@NotNull final StreamConsumer consumer) {
+        long rowsReplayed = 0;
+        for (final Segment retained : segments) {
+            final Path segment = retained.path;
+            final List<WritableChunk<Values>[]> batches = new ArrayList<>();
+            try {
+                final long validLength = readSegment(segment, batches::add).validLength;
+                if (validLength != Files.size(segment)) {
+                    throw new IllegalStateException("Corrupt stream journal segment " + segment + " at offset "
+                            + validLength);
+                }
+            } catch (IOException | RuntimeException e) {
+                SafeCloseable.closeAll(batches.stream().flatMap(Stream::of));
+                if (e instanceof IOException) {
+                    throw new UncheckedIOException("Failed to replay stream journal segment " + segment,
+                            (IOException) e);
+                }
+                throw (RuntimeException) e;
+            }
+            if (batches.isEmpty()) {
+                continue;
+            }
+            for (final WritableChunk<Values>[] batch : batches) {
+                rowsReplayed += batch[0].size();
+            }
+            consumer.accept(batches);
+        }
+        log.info().append("Replayed ").append(rowsReplayed).append(" rows from stream journal ")
+                .append(directory.toString()).endl();
+        return rowsReplayed;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            closeCurrentSegment();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close stream journal at " + directory, e);
+        }
+    }
+
+    /**
+     * Append one batch of rows. Does nothing if this journal has been closed.
+     *
+     * @param data Per-column chunks, which are not consumed
+     */
+    private synchronized void append(@NotNull final WritableChunk<Values>[] data) throws IOException {
+        if (closed) {
+            return;
+        }
+        if (data.length != chunkTypes.length) {
+            throw new IllegalStateException(
+                    "StreamJournal data length = " + data.length + " chunks, expected " + chunkTypes.length);
+        }
+        final int rowCount = data.length == 0 ? 0 : data[0].size();
+        if (rowCount == 0) {
+            return;
+        }
+
+        recordBuffer.clear().position(RECORD_HEADER_BYTES);
+        for (int ci = 0; ci < data.length; ++ci) {
+            encodeColumn(chunkTypes[ci], data[ci], rowCount);
+        }
+        final int recordLength = recordBuffer.position();
+        recordBuffer.putInt(0, RECORD_MAGIC);
+        recordBuffer.putInt(2 * Integer.BYTES, rowCount);
+        recordBuffer.putInt(3 * Integer.BYTES, recordLength - RECORD_HEADER_BYTES);
+        checksum.reset();
+        checksum.update(recordBuffer.array(), recordBuffer.arrayOffset() + RECORD_CHECKSUMMED_OFFSET,
+                recordLength - RECORD_CHECKSUMMED_OFFSET);
+        recordBuffer.putInt(Integer.BYTES, (int) checksum.getValue());
+        recordBuffer.flip();
+
+        final FileChannel segment = segmentFor(recordLength);
+        while (recordBuffer.hasRemaining()) {
+            segment.write(recordBuffer);
+        }
+        if (syncOnAppend) {
+            segment.force(false);
+        }
+        segments.get(segments.size() - 1).bytes += recordLength;
+        retainedBytes += recordLength;
+        nextRowPosition += rowCount;
+    }
+
+    private void encodeColumn(
+            @NotNull final ChunkType chunkType,
+            @NotNull final WritableChunk<Values> chunk,
+            final int rowCount) {
+        if (chunk.size() != rowCount) {
+            throw new IllegalStateException(
+                    "StreamJournal chunk size = " + chunk.size() + ", expected " + rowCount);
+        }
+        if (chunkType == ChunkType.Object) {
+            final ObjectChunk<String, Values> strings = chunk.asObjectChunk();
+            for (int ri = 0; ri < rowCount; ++ri) {
+                final String value = strings.get(ri);
+                if (value == null) {
+                    ensureRecordCapacity(Integer.BYTES);
+                    recordBuffer.putInt(NULL_STRING_LENGTH);
+                } else {
+                    final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                    ensureRecordCapacity(Integer.BYTES + bytes.length);
+                    recordBuffer.putInt(bytes.length);
+                    recordBuffer.put(bytes);
+                }
+            }
+            return;
+        }
+        final int length = rowCount * elementBytes(chunkType);
+        ensureRecordCapacity(length);
+        final int position = recordBuffer.position();
+        chunk.copyToBuffer(0, typedView(recordBuffer, position, chunkType), 0, rowCount);
+        recordBuffer.position(position + length);
+    }
+
+    private void ensureRecordCapacity(final int additionalBytes) {
+        final int required = recordBuffer.position() + additionalBytes;
+        if (required < 0) {
+            throw new IllegalStateException("StreamJournal record exceeds maximum size");
+        }
+        if (required <= recordBuffer.capacity()) {
+            return;
+        }
+        final int newCapacity = (int) Math.min(Integer.MAX_VALUE, Math.max(required, 2L * recordBuffer.capacity()));
+        final ByteBuffer newBuffer = ByteBuffer.allocate(newCapacity).order(ByteOrder.LITTLE_ENDIAN);
+        recordBuffer.flip();
+        newBuffer.put(recordBuffer);
+        recordBuffer = newBuffer;
+    }
+
+    /**
+     * Get the segment to write a record of {@code recordLength} bytes to, rolling to a new segment if the current one
+     * already holds at least one record and would exceed {@link #maxSegmentBytes}.
+     */
+    private FileChannel segmentFor(final int recordLength) throws IOException {
+        if (currentSegment != null) {
+            final long size = currentSegment.position();
+            if (size > segmentDataStart && size + recordLength > maxSegmentBytes) {
+                closeCurrentSegment();
+            }
+        }
+        if (currentSegment == null) {
+            openSegment();
+            enforceRetention();
+        }
+        return currentSegment;
+    }
+
+    /**
+     * Create a new, empty segment whose first row is at {@link #nextRowPosition}, and make it the current segment.
+     */
+    private void openSegment() throws IOException {
+        final Path path = segmentPath(nextSegmentIndex++);
+        currentSegment = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        final ByteBuffer header = ByteBuffer.allocate(segmentDataStart).order(ByteOrder.LITTLE_ENDIAN);
+        header.put(segmentHeader).putLong(nextRowPosition).flip();
+        while (header.hasRemaining()) {
+            currentSegment.write(header);
+        }
+        segments.add(new Segment(path, nextRowPosition, segmentDataStart));
+        retainedBytes += segmentDataStart;
+    }
+
+    /**
+     * Delete the oldest segments while the retained segments exceed {@link #maxRetainedBytes}, or the oldest was last
+     * written more than {@link #maxRetainedAgeMillis} ago. The newest segment is never deleted.
+     */
+    private void enforceRetention() throws IOException {
+        final long ageCutoffMillis = System.currentTimeMillis() - maxRetainedAgeMillis;
+        while (segments.size() > 1) {
+            if (retainedBytes > maxRetainedBytes) {
+                deleteOldestSegment("size retention");
+            } else if (Files.getLastModifiedTime(segments.get(0).path).toMillis() < ageCutoffMillis) {
+                deleteOldestSegment("age retention");
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void deleteOldestSegment(@NotNull final String reason) throws IOException {
+        final Segment oldest = segments.remove(0);
+        retainedBytes -= oldest.bytes;
+        log.info().append("Deleting stream journal segment ").append(oldest.path.toString()).append(" for ")
+                .append(reason).endl();
+        Files.deleteIfExists(oldest.path);
+    }
+
+    private void closeCurrentSegment() throws IOException {
+        if (currentSegment == null) {
+            return;
+        }
+        try (final FileChannel ignored = currentSegment) {
+            currentSegment.force(false);
+        } finally {
+            currentSegment = null;
+        }
+    }
+
+    /**
+     * Validate the most recent segment, truncating any partially written record at its end, and position
+     * {@link #nextSegmentIndex} and {@link #nextRowPosition} after it. New data is always written to a fresh segment.
+     * Segments beyond the retention limits are then deleted.
+     */
+    private void recover() throws IOException {
+        final List<Path> paths = listSegments();
+        if (paths.isEmpty()) {
+            return;
+        }
+        final Path last = paths.get(paths.size() - 1);
+        nextSegmentIndex = segmentIndex(last) + 1;
+        if (Files.size(last) < segmentDataStart) {
+            log.warn().append("Deleting incomplete stream journal segment ").append(last.toString()).endl();
+            Files.delete(last);
+            paths.remove(paths.size() - 1);
+        }
+        for (final Path path : paths) {
+            final long size = Files.size(path);
+            segments.add(new Segment(path, readFirstRow(path), size));
+            retainedBytes += size;
+        }
+        if (segments.isEmpty()) {
+            return;
+        }
+
+        final Segment newest = segments.get(segments.size() - 1);
+        final SegmentScan scan = readSegment(newest.path, null);
+        if (scan.validLength < newest.bytes) {
+            log.warn().append("Truncating stream journal segment ").append(newest.path.toString()).append(" from ")
+                    .append(newest.bytes).append(" to ").append(scan.validLength).append(" bytes").endl();
+            try (final FileChannel channel = FileChannel.open(newest.path, StandardOpenOption.WRITE)) {
+                channel.truncate(scan.validLength);
+                channel.force(false);
+            }
+            retainedBytes -= newest.bytes - scan.validLength;
+            newest.bytes = scan.validLength;
+        }
+        nextRowPosition = newest.firstRow + scan.rowCount;
+        enforceRetention();
+    }
+
+    private long readFirstRow(@NotNull final Path segment) throws IOException {
+        final ByteBuffer firstRow = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        try (final FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            while (firstRow.hasRemaining()) {
+                if (channel.read(firstRow, segmentHeader.length + firstRow.position()) < 0) {
+                    throw new IllegalStateException("Stream journal segment " + segment + " has no header");
+                }
+            }
+        }
+        return firstRow.flip().getLong();
+    }
+
+    /**
+     * Read the records in {@code segment}, stopping at the first incomplete or corrupt record.
+     *
+     * @param segment The segment to read
+     * @param sink The destination for decoded records, or {@code null} to only validate the segment
+     * @return The length of the valid prefix of {@code segment}, and the number of rows it holds
+     */
+    private SegmentScan readSegment(
+            @NotNull final Path segment,
+            @Nullable final Consumer<WritableChunk<Values>[]> sink) throws IOException {
+        final MappedByteBuffer mapped;
+        try (final FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Stream journal segment " + segment + " is too large to map");
+            }
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        mapped.order(ByteOrder.LITTLE_ENDIAN);
+        final int size = mapped.capacity();
+
+        if (size < segmentDataStart) {
+            return new SegmentScan(0, 0);
+        }
+        for (int bi = 0; bi < segmentHeader.length; ++bi) {
+            if (mapped.get(bi) != segmentHeader[bi]) {
+                throw new IllegalStateException("Stream journal segment " + segment
+                        + " does not match the expected format or columns " + describeColumns());
+            }
+        }
+
+        int position = segmentDataStart;
+        long rowsRead = 0;
+        while (position <= size - RECORD_HEADER_BYTES) {
+            final int magic = mapped.getInt(position);
+            final int storedChecksum = mapped.getInt(position + Integer.BYTES);
+            final int rowCount = mapped.getInt(position + 2 * Integer.BYTES);
+            final int payloadLength = mapped.getInt(position + 3 * Integer.BYTES);
+            final int payloadStart = position + RECORD_HEADER_BYTES;
+            if (magic != RECORD_MAGIC || rowCount <= 0 || payloadLength < 0 || payloadLength > size - payloadStart) {
+                break;
+            }
+            final int recordEnd = payloadStart + payloadLength;
+            checksum.reset();
+            checksum.update(mapped.duplicate().limit(recordEnd).position(position + RECORD_CHECKSUMMED_OFFSET));
+            if ((int) checksum.getValue() != storedChecksum) {
+                break;
+            }
+            if (sink != null) {
+                sink.accept(decodeRecord(mapped, payloadStart, recordEnd, rowCount));
+            }
+            position = recordEnd;
+            rowsRead += rowCount;
+        }
+        return new SegmentScan(position, rowsRead);
+    }
+
+    private WritableChunk<Values>[] decodeRecord(
+            @NotNull final ByteBuffer mapped,
+            final int payloadStart,
+            final int recordEnd,
+            final int rowCount) {
+        // noinspection unchecked
+        final WritableChunk<Values>[] chunks = new WritableChunk[chunkTypes.length];
+        try {
+            int position = payloadStart;
+            for (int ci = 0; ci < chunkTypes.length; ++ci) {
+                chunks[ci] = chunkTypes[ci].makeWritableChunk(rowCount);
+                position = decodeColumn(mapped, position, chunkTypes[ci], chunks[ci], rowCount);
+            }
+            if (position != recordEnd) {
+                throw new IllegalStateException("Stream journal record decoded " + (position - payloadStart)
+                        + " bytes, expected " + (recordEnd - payloadStart));
+            }
+        } catch (RuntimeException e) {
+            SafeCloseable.closeAll(chunks);
+            throw e;
+        }
+        return chunks;
+    }
+
+    private static int decodeColumn(
+            @NotNull final ByteBuffer mapped,
+            final int position,
+            @NotNull final ChunkType chunkType,
+            @NotNull final WritableChunk<Values> chunk,
+            final int rowCount) {
+        if (chunkType == ChunkType.Object) {
+            final WritableObjectChunk<String, Values> strings = chunk.asWritableObjectChunk();
+            final ByteBuffer reader = mapped.duplicate().order(ByteOrder.LITTLE_ENDIAN).position(position);
+            for (int ri = 0; ri < rowCount; ++ri) {
+                final int length = reader.getInt();
+                if (length == NULL_STRING_LENGTH) {
+                    strings.set(ri, null);
+                } else {
+                    final byte[] bytes = new byte[length];
+                    reader.get(bytes);
+                    strings.set(ri, new String(bytes, StandardCharsets.UTF_8));
+                }
+            }
+            return reader.position();
+        }
+        chunk.copyFromBuffer(typedView(mapped, position, chunkType), 0, 0, rowCount);
+        return position + rowCount * elementBytes(chunkType);
+    }
+
+    private static Buffer typedView(
+            @NotNull final ByteBuffer bytes,
+            final int position,
+            @NotNull final ChunkType chunkType) {
+        final ByteBuffer view = bytes.duplicate().position(position).slice().order(ByteOrder.LITTLE_ENDIAN);
+        switch (chunkType) {
+            case Byte:
+                return view;
+            case Char:
+                return view.asCharBuffer();
+            case Short:
+                return view.asShortBuffer();
+            case Int:
+                return view.asIntBuffer();
+            case Long:
+                return view.asLongBuffer();
+            case Float:
+                return view.asFloatBuffer();
+            case Double:
+                return view.asDoubleBuffer();
+            default:
+                throw new IllegalStateException("Unexpected chunk type " + chunkType);
+        }
+    }
+
+    private static int elementBytes(@NotNull final ChunkType chunkType) {
+        switch (chunkType) {
+            case Byte:
+                return Byte.BYTES;
+            case Char:
+                return Character.BYTES;
+            case Short:
+                return Short.BYTES;
+            case Int:
+            case Float:
+                return Integer.BYTES;
+            case Long:
+            case Double:
+                return Long.BYTES;
+            default:
+                throw new IllegalStateException("Unexpected chunk type " + chunkType);
+        }
+    }
+
+    private static byte[] makeSegmentHeader(
+            @NotNull final String[] columnNames,
+            @NotNull final ChunkType[] chunkTypes) {
+        final byte[][] encodedNames = new byte[columnNames.length][];
+        int length = 3 * Integer.BYTES;
+        for (int ci = 0; ci < columnNames.length; ++ci) {
+            encodedNames[ci] = columnNames[ci].getBytes(StandardCharsets.UTF_8);
+            length += 2 * Integer.BYTES + encodedNames[ci].length;
+        }
+        final ByteBuffer header = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(SEGMENT_MAGIC).putInt(FORMAT_VERSION).putInt(columnNames.length);
+        for (int ci = 0; ci < columnNames.length; ++ci) {
+            header.putInt(encodedNames[ci].length).put(encodedNames[ci]).putInt(chunkTypes[ci].ordinal());
+        }
+        return header.array();
+    }
+
+    private String describeColumns() {
+        final StringBuilder builder = new StringBuilder("[");
+        for (int ci = 0; ci < columnNames.length; ++ci) {
+            builder.append(ci == 0 ? "" : ", ").append(columnNames[ci]).append(':').append(chunkTypes[ci]);
+        }
+        return builder.append(']').toString();
+    }
+
+    private List<Path> listSegments() {
+        try (final Stream<Path> files = Files.list(directory)) {
+            return files.filter(StreamJournal::isSegment)
+                    .sorted((p1, p2) -> Long.compare(segmentIndex(p1), segmentIndex(p2)))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list stream journal segments in " + directory, e);
+        }
+    }
+
+    private Path segmentPath(final long segmentIndex) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, segmentIndex, SEGMENT_SUFFIX));
+    }
+
+    private static boolean isSegment(@NotNull final Path path) {
+        final String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX) && Files.isRegularFile(path);
+    }
+
+    private static long segmentIndex(@NotNull final Path segment) {
+        final String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static final class Segment {
+
+        private final Path path;
+        private final long firstRow;
+        private long bytes;
+
+        private Segment(@NotNull final Path path, final long firstRow, final long bytes) {
+            this.path = path;
+            this.firstRow = firstRow;
+            this.bytes = bytes;
+        }
+    }
+
+    private static final class SegmentScan {
+
+        private final long validLength;
+        private final long rowCount;
+
+        private SegmentScan(final long validLength, final long rowCount) {
+            this.validLength = validLength;
+            this.rowCount = rowCount;
+        }
+    }
+
+    private final class JournalingPublisher implements StreamPublisher {
+
+        private final StreamPublisher delegate;
+
+        private JournalingPublisher(@NotNull final StreamPublisher delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void register(@NotNull final StreamConsumer consumer) {
+            replay(consumer);
+            delegate.register(new JournalingConsumer(consumer));
+        }
+
+        @Override
+        public void flush() {
+            delegate.flush();
+        }
+
+        @Override
+        public void shutdown() {
+            try {
+                delegate.shutdown();
+            } finally {
+                close();
+            }
+        }
+    }
+
+    private final class JournalingConsumer implements StreamConsumer {
+
+        private final StreamConsumer delegate;
+
+        private JournalingConsumer(@NotNull final StreamConsumer delegate) {
+            this.delegate = delegate;
+        }
+
+        @SafeVarargs
+        @Override
+        public final void accept(@NotNull final WritableChunk<Values>... data) {
+            accept(List.<WritableChunk<Values>[]>of(data));
+        }
+
+        @Override
+        public void accept(@NotNull final Collection<WritableChunk<Values>[]> data) {
+            try {
+                for (final WritableChunk<Values>[] chunks : data) {
+                    append(chunks);
+                }
+            } catch (IOException | RuntimeException e) {
+                // Data that we failed to journal must not become visible downstream
+                SafeCloseable.closeAll(data.stream().flatMap(Stream::of));
+                delegate.acceptFailure(e);
+                return;
+            }
+            delegate.accept(data);
+        }
+
+        @Override
+        public void acceptFailure(@NotNull final Throwable cause) {
+            delegate.acceptFailure(cause);
+        }
+    }
+}
@@ -15,6 +15,7 @@ import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.TableDefinition;
 import io.deephaven.engine.table.TableUpdate;
 import io.deephaven.engine.table.impl.TableUpdateImpl;
+import io.deephaven.engine.table.impl.perf.UpdateLatencyTracker;
 import io.deephaven.engine.table.impl.sources.ByteAsBooleanColumnSource;
 import io.deephaven.engine.table.impl.sources.LongAsInstantColumnSource;
 import io.deephaven.engine.table.impl.sources.NullValueColumnSource;
@@ -32,6 +33,7 @@ import io.deephaven.engine.updategraph.UpdateSourceRegistrar;
 import io.deephaven.internal.log.LoggerFactory;
 import io.deephaven.io.logger.Logger;
 import io.deephaven.util.MultiException;
+import io.deephaven.util.QueryConstants;
 import io.deephaven.util.SafeCloseable;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -80,6 +82,12 @@ public class StreamToBlinkTableAdapter
     private ChunkColumnSource<?>[] currentChunkSources;
     private ChunkColumnSource<?>[] prevChunkSources;
 
+    /**
+     * The {@link System#nanoTime()} at which the oldest buffered data arrived, if {@link UpdateLatencyTracker latency
+     * tracing} is enabled. Access should be synchronized on {@code this}.
+     */
+    private long bufferIngestNanos = QueryConstants.NULL_LONG;
+
     /**
      * A list of failures that have occurred. Access should be synchronized on {@code this}.
      */
@@ -389,6 +397,7 @@ public class StreamToBlinkTableAdapter
         final long newSize;
 
         final ChunkColumnSource<?>[] capturedBufferSources;
+        final long capturedIngestNanos;
         synchronized (this) {
             // streamPublisher.flush() may have called acceptFailure
             if (deliverFailures()) {
@@ -402,6 +411,8 @@ public class StreamToBlinkTableAdapter
 
             capturedBufferSources = bufferChunkSources;
             bufferChunkSources = prevChunkSources;
+            capturedIngestNanos = bufferIngestNanos;
+            bufferIngestNanos = QueryConstants.NULL_LONG;
         }
 
         if (capturedBufferSources == null) {
@@ -426,6 +437,10 @@ public class StreamToBlinkTableAdapter
             rowSet.removeRange(newSize, oldSize - 1);
         }
 
+        if (newSize > 0 && capturedIngestNanos != QueryConstants.NULL_LONG) {
+            UpdateLatencyTracker.recordIngest(getUpdateGraph(), capturedIngestNanos);
+        }
+
         return new TableUpdateImpl(
                 RowSetFactory.flat(newSize),
                 RowSetFactory.flat(oldSize),
@@ -467,6 +482,9 @@ public class StreamToBlinkTableAdapter
             if (bufferChunkSources == null) {
                 bufferChunkSources = makeChunkSources(tableDefinition);
             }
+            if (UpdateLatencyTracker.ENABLED && bufferIngestNanos == QueryConstants.NULL_LONG) {
+                bufferIngestNanos = System.nanoTime();
+            }
             for (WritableChunk<Values>[] chunks : data) {
                 if (chunks.length != bufferChunkSources.length) {
                     throw new IllegalStateException(
@@ -2975,6 +2975,179 @@ public class QueryTableAggregationTest {
         }
     }
 
+    @Test
+    public void testApproxCountDistinct() {
+        final int size = 100_000;
+        final Random random = new Random(0);
+        final QueryTable queryTable = getTable(false, size, random,
+                initColumnInfos(new String[] {"Sym", "intCol", "doubleCol", "strCol"},
+                        new SetGenerator<>("a", "b", "c", "d"),
+                        new IntGenerator(0, 50_000, 0.05),
+                        new DoubleGenerator(0, 1000, 0.05, 0.05),
+                        new StringGenerator(10_000)));
+
+        final Table approx = queryTable.aggBy(List.of(
+                AggApproxCountDistinct("intCol", "doubleCol", "strCol")), "Sym").sort("Sym");
+        final Table exact = queryTable.aggBy(List.of(
+                AggCountDistinct("intCol", "doubleCol", "strCol")), "Sym").sort("Sym");
+
+        for (final String name : new String[] {"intCol", "doubleCol", "strCol"}) {
+            final long[] approxValues = ColumnVectors.ofLong(approx, name).toArray();
+            final long[] exactValues = ColumnVectors.ofLong(exact, name).toArray();
+            assertEquals(exactValues.length, approxValues.length);
+            for (int ii = 0; ii < exactValues.length; ++ii) {
+                final double error = Math.abs((double) (approxValues[ii] - exactValues[ii]) / exactValues[ii]);
+                assertThat(error)
+                        .withFailMessage("Approximate count distinct error too high for %s. %s >= %s", name, error,
+                                0.05)
+                        .isLessThan(0.05);
+            }
+        }
+    }
+
+    @Test
+    public void testKllPercentile() {
+        final int size = 100_000;
+        final Random random = new Random(0);
+        final QueryTable queryTable = getTable(false, size, random,
+                initColumnInfos(new String[] {"doubleCol", "longCol"},
+                        new DoubleGenerator(-10000, 10000, 0.05, 0.05),
+                        new LongGenerator(0, 1_000_000_000L, 0.05)));
+
+        for (final double percentile : new double[] {0.01, 0.25, 0.5, 0.75, 0.99}) {
+            final Table aggregated = queryTable.aggBy(AggKllPct(percentile, "doubleCol", "longCol"));
+            checkKllRankError(queryTable.where("!Double.isNaN(doubleCol) && !isNull(doubleCol)"), "doubleCol",
+                    aggregated, percentile);
+            checkKllRankError(queryTable.where("!isNull(longCol)"), "longCol", aggregated, percentile);
+        }
+
+        final Table empty = queryTable.head(0).aggBy(List.of(AggKllPct(0.5, "doubleCol", "longCol")), true);
+        assertEquals(NULL_DOUBLE,
+                empty.getColumnSource("doubleCol", double.class).getDouble(empty.getRowSet().firstRowKey()), 0.0);
+    }
+
+    private static void checkKllRankError(
+            @NotNull final Table source,
+            @NotNull final String name,
+            @NotNull final Table aggregated,
+            final double percentile) {
+        final double[] values = ColumnVectors.ofDouble(source.view("V = (double) " + name), "V").toArray();
+        Arrays.sort(values);
+        final double estimate =
+                aggregated.getColumnSource(name, double.class).getDouble(aggregated.getRowSet().firstRowKey());
+        final int lowRank = lowerBound(values, estimate);
+        final int highRank = upperBound(values, estimate);
+        final double targetRank = percentile * (values.length - 1);
+        final double rankError = targetRank < lowRank
+                ? (lowRank - targetRank) / values.length
+                : targetRank > highRank ? (targetRank - highRank) / values.length : 0;
+        assertThat(rankError)
+                .withFailMessage("KLL rank error too high for %s at %s. %s >= %s", name, percentile, rankError, 0.02)
+                .isLessThan(0.02);
+    }
+
+    private static int lowerBound(final double[] sorted, final double value) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (sorted[mid] < value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static int upperBound(final double[] sorted, final double value) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (sorted[mid] <= value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo - 1;
+    }
+
+    @Test
+    public void testSketchAggregationsAppendOnly() {
+        final int size = 1000;
+        final Random random = new Random(0);
+        final ColumnInfo<?, ?>[] columnInfos;
+        final QueryTable queryTable = setAddOnly(getTable(size, random,
+                columnInfos = initColumnInfos(new String[] {"Sym", "intCol", "doubleCol"},
+                        new SetGenerator<>("a", "b", "c", "d"),
+                        new IntGenerator(0, 10_000, 0.05),
+                        new DoubleGenerator(0, 1000, 0.05, 0.05))));
+
+        // HyperLogLog registers do not depend on the order in which values arrive, so incremental results must match
+        // recomputation exactly
+        final EvalNugget[] en = new EvalNugget[] {
+                new EvalNugget() {
+                    @Override
+                    protected Table e() {
+                        return queryTable.aggBy(AggApproxCountDistinct("intCol", "doubleCol"));
+                    }
+                },
+                new EvalNugget() {
+                    @Override
+                    protected Table e() {
+                        return queryTable.aggBy(AggApproxCountDistinct(14, "intCol", "doubleCol"), "Sym")
+                                .sort("Sym");
+                    }
+                },
+                new EvalNugget() {
+                    @Override
+                    protected Table e() {
+                        return queryTable.aggBy(List.of(AggKllPct(0.5, "intCol", "doubleCol")), "Sym")
+                                .sort("Sym");
+                    }
+
+                    @Override
+                    protected void checkDifferences(String msg, Table recomputed) {
+                        final Table rc = forComparison(recomputed);
+                        final Table ov = forComparison(originalValue);
+                        TestCase.assertEquals(rc.size(), ov.size());
+                        for (final String name : new String[] {"intCol", "doubleCol"}) {
+                            final double[] rcValues = ColumnVectors.ofDouble(rc, name).toArray();
+                            final double[] ovValues = ColumnVectors.ofDouble(ov, name).toArray();
+                            for (int ii = 0; ii < rcValues.length; ++ii) {
+                                final double error = Math.abs((rcValues[ii] - ovValues[ii]) / rcValues[ii]);
+                                if (error > .05) {
+                                    throw new ComparisonFailure("Bad percentile for " + name + ", error=" + error,
+                                            Double.toString(rcValues[ii]), Double.toString(ovValues[ii]));
+                                }
+                            }
+                        }
+                    }
+                }
+        };
+
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        for (int step = 0; step < 10; ++step) {
+            final int fstep = step;
+            updateGraph.runWithinUnitTestCycle(() -> {
+                final RowSet added = RowSetFactory.fromRange(size * (fstep + 1), size * (fstep + 2) - 1);
+                queryTable.getRowSet().writableCast().insert(added);
+
+                final ColumnHolder<?>[] columnHolders = new ColumnHolder[columnInfos.length];
+                for (int ii = 0; ii < columnInfos.length; ii++) {
+                    final ColumnInfo<?, ?> ci = columnInfos[ii];
+                    columnHolders[ii] = ci.generateUpdateColumnHolder(added, random);
+                }
+                addToTable(queryTable, added, columnHolders);
+
+                queryTable.notifyListeners(added, i(), i());
+                validate("step = " + fstep, en);
+            });
+        }
+    }
+
     @Test
     public void testMedianTypes() {
         final Boolean[] booleans = new Boolean[] {null, false, true};
@@ -32,8 +32,10 @@ import junit.framework.TestCase;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
@@ -641,6 +643,117 @@ public class QueryTableAjTest {
                 true, true);
     }
 
+    @Test
+    public void testAjParallelStatic() {
+        final JoinControl serialControl = new JoinControl() {
+            @Override
+            boolean parallelizeAsOfJoin(final long leftRows) {
+                return false;
+            }
+        };
+        final JoinControl parallelControl = new JoinControl() {
+            @Override
+            boolean parallelizeAsOfJoin(final long leftRows) {
+                return true;
+            }
+
+            @Override
+            long asOfJoinRowsPerSegment() {
+                return 1000;
+            }
+        };
+
+        final Random random = new Random(0);
+        final int size = 50_000;
+        final QueryTable leftTable = getTable(false, size, random,
+                initColumnInfos(new String[] {"Bucket", "LeftStamp", "LeftSentinel"},
+                        new StringGenerator(size / 100),
+                        new IntGenerator(0, 100000),
+                        new IntGenerator(10_000_000, 10_010_000)));
+        final QueryTable rightTable = getTable(false, size, random,
+                initColumnInfos(new String[] {"Bucket", "RightStamp", "RightSentinel"},
+                        new StringGenerator(size / 100),
+                        new SortedIntGenerator(0, 100000),
+                        new IntGenerator(20_000_000, 20_010_000)));
+
+        for (final String keys : new String[] {"", "Bucket,"}) {
+            for (final boolean reverse : new boolean[] {false, true}) {
+                for (final boolean noexact : new boolean[] {false, true}) {
+                    final SortingOrder order = reverse ? SortingOrder.Descending : SortingOrder.Ascending;
+                    final Table serial = AsOfJoinHelper.asOfJoin(serialControl, leftTable, rightTable,
+                            MatchPairFactory.getExpressions(splitToCollection(keys + "LeftStamp=RightStamp")),
+                            MatchPairFactory.getExpressions("RightStamp", "RightSentinel"), order, noexact);
+                    final Table parallel = AsOfJoinHelper.asOfJoin(parallelControl, leftTable, rightTable,
+                            MatchPairFactory.getExpressions(splitToCollection(keys + "LeftStamp=RightStamp")),
+                            MatchPairFactory.getExpressions("RightStamp", "RightSentinel"), order, noexact);
+                    assertTableEquals(serial, parallel);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testAjParallelRefreshingLeftStaticRight() {
+        final JoinControl serialControl = new JoinControl() {
+            @Override
+            boolean parallelizeAsOfJoin(final long leftRows) {
+                return false;
+            }
+        };
+        final JoinControl parallelControl = new JoinControl() {
+            @Override
+            boolean parallelizeAsOfJoin(final long leftRows) {
+                return true;
+            }
+
+            @Override
+            long asOfJoinRowsPerSegment() {
+                return 1000;
+            }
+        };
+
+        final Random random = new Random(0);
+        final int size = 20_000;
+        final ColumnInfo<?, ?>[] leftColumnInfo;
+        final QueryTable leftTable = getTable(true, size, random,
+                leftColumnInfo = initColumnInfos(new String[] {"Bucket", "LeftStamp", "LeftSentinel"},
+                        new StringGenerator(size / 100),
+                        new IntGenerator(0, 100000),
+                        new IntGenerator(10_000_000, 10_010_000)));
+        final QueryTable rightTable = getTable(false, size, random,
+                initColumnInfos(new String[] {"Bucket", "RightStamp", "RightSentinel"},
+                        new StringGenerator(size / 100),
+                        new SortedIntGenerator(0, 100000),
+                        new IntGenerator(20_000_000, 20_010_000)));
+
+        final List<Table[]> results = new ArrayList<>();
+        for (final String keys : new String[] {"", "Bucket,"}) {
+            for (final boolean reverse : new boolean[] {false, true}) {
+                for (final boolean noexact : new boolean[] {false, true}) {
+                    final SortingOrder order = reverse ? SortingOrder.Descending : SortingOrder.Ascending;
+                    final Table serial = AsOfJoinHelper.asOfJoin(serialControl, leftTable, rightTable,
+                            MatchPairFactory.getExpressions(splitToCollection(keys + "LeftStamp=RightStamp")),
+                            MatchPairFactory.getExpressions("RightStamp", "RightSentinel"), order, noexact);
+                    final Table parallel = AsOfJoinHelper.asOfJoin(parallelControl, leftTable, rightTable,
+                            MatchPairFactory.getExpressions(splitToCollection(keys + "LeftStamp=RightStamp")),
+                            MatchPairFactory.getExpressions("RightStamp", "RightSentinel"), order, noexact);
+                    assertTableEquals(serial, parallel);
+                    results.add(new Table[] {serial, parallel});
+                }
+            }
+        }
+
+        // The parallel initial stamping populates the right-side caches that later left updates are stamped from
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        for (int step = 0; step < 10; ++step) {
+            updateGraph.runWithinUnitTestCycle(() -> GenerateTableUpdates.generateShiftAwareTableUpdates(
+                    GenerateTableUpdates.DEFAULT_PROFILE, size / 10, random, leftTable, leftColumnInfo));
+            for (final Table[] serialAndParallel : results) {
+                assertTableEquals(serialAndParallel[0], serialAndParallel[1]);
+            }
+        }
+    }
+
     @Test
     public void testAjRandomLeftIncrementalRightStatic() {
         final int maxLeftSize;
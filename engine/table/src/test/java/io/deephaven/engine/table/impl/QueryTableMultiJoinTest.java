@@ -61,6 +61,18 @@ public class QueryTableMultiJoinTest extends QueryTableTestBase {
         }
     };
 
+    final static JoinControl PARALLEL_JOIN_CONTROL = new JoinControl() {
+        @Override
+        public int initialBuildSize() {
+            return 1 << 4;
+        }
+
+        @Override
+        boolean parallelizeStaticMultiJoin(final long totalRows) {
+            return true;
+        }
+    };
+
     @Before
     public void before() throws Exception {
         ChunkPoolReleaseTracking.enableStrict();
@@ -206,6 +218,17 @@ public class QueryTableMultiJoinTest extends QueryTableTestBase {
         }
     }
 
+    @Test
+    public void testStaticParallel() {
+        for (int size = 10; size <= 100_000; size *= 10) {
+            for (int seed = 0; seed < 2; ++seed) {
+                testStatic(PARALLEL_JOIN_CONTROL, size, seed, new String[] {"Key"}, new String[] {"Key2"});
+                testStatic(PARALLEL_JOIN_CONTROL, size, seed, new String[] {"Key", "Key2"},
+                        ArrayTypeUtils.EMPTY_STRING_ARRAY);
+            }
+        }
+    }
+
     private void testStatic(JoinControl joinControl, int size, int seed, String[] keys, String[] drops) {
         final Random random = new Random(seed);
         final int tableCount = random.nextInt(10) + 1;
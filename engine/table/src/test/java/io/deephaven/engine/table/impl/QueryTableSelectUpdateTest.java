@@ -563,6 +563,103 @@ public class QueryTableSelectUpdateTest {
         }
     }
 
+    @Test
+    public void testCommonSubexpressionExtraction() {
+        final TableDefinition definition = TableDefinition.of(
+                ColumnDefinition.ofInt("intCol"), ColumnDefinition.ofDouble("doubleCol"));
+        final SelectColumn[] columns = SelectColumnFactory.getExpressions(
+                "A = Math.abs(intCol - doubleCol) * 2",
+                "B = Math.abs(intCol - doubleCol) + 1",
+                "C = Math.abs(intCol - doubleCol)",
+                "D = intCol + 1",
+                "E = Math.abs(D - doubleCol)",
+                "F = Math.abs(D - doubleCol)");
+
+        final CommonSubexpressionExtractor.Result extracted =
+                CommonSubexpressionExtractor.ofSelectColumns(definition, columns);
+        assertNotNull(extracted);
+        assertArrayEquals(new String[] {"_CommonSubexpression0"}, extracted.getTemporaryColumnNames());
+        assertEquals("Math.abs(intCol - doubleCol)", extracted.getTemporaryColumns()[0].toString());
+
+        final SelectColumn[] rewritten = extracted.getSelectColumns();
+        assertEquals(7, rewritten.length);
+        assertEquals("_CommonSubexpression0 * 2", rewritten[1].toString());
+        assertEquals("_CommonSubexpression0 + 1", rewritten[2].toString());
+        assertEquals("_CommonSubexpression0", rewritten[3].toString());
+        // columns defined by the same call are not extracted
+        assertSame(columns[3], rewritten[4]);
+        assertSame(columns[4], rewritten[5]);
+        assertSame(columns[5], rewritten[6]);
+
+        // nothing is worth extracting without a method call, or without a repeat
+        assertNull(CommonSubexpressionExtractor.ofSelectColumns(definition,
+                SelectColumnFactory.getExpressions("A = intCol - doubleCol", "B = intCol - doubleCol")));
+        assertNull(CommonSubexpressionExtractor.ofSelectColumns(definition,
+                SelectColumnFactory.getExpressions("A = Math.abs(intCol_[i - 1])", "B = Math.abs(intCol_[i - 1])")));
+        assertNull(CommonSubexpressionExtractor.ofSelectColumns(definition,
+                SelectColumnFactory.getExpressions("A = Math.abs(intCol)", "B = Math.abs(doubleCol)")));
+    }
+
+    @Test
+    public void testCommonSubexpressionNullGuarded() {
+        final boolean old = QueryTable.ELIMINATE_COMMON_SUBEXPRESSIONS;
+        try {
+            final Table source = TableTools.newTable(stringCol("A", "ab", null, "hello", null));
+            final String[] formulas = {"X = A == null ? 0 : A.length()", "Y = A == null ? -1 : A.length() * 2"};
+
+            // A.length() is only evaluated when A is not null, so it must not be computed for every row
+            assertNull(CommonSubexpressionExtractor.ofSelectColumns(
+                    source.getDefinition(), SelectColumnFactory.getExpressions(formulas)));
+
+            QueryTable.ELIMINATE_COMMON_SUBEXPRESSIONS = true;
+            final Table expected = TableTools.newTable(stringCol("A", "ab", null, "hello", null),
+                    intCol("X", 2, 0, 5, 0), intCol("Y", 4, -1, 10, -1));
+            assertTableEquals(expected, source.update(formulas));
+            assertTableEquals(expected, source.select(formulas));
+        } finally {
+            QueryTable.ELIMINATE_COMMON_SUBEXPRESSIONS = old;
+        }
+    }
+
+    @Test
+    public void testCommonSubexpressionElimination() {
+        final boolean old = QueryTable.ELIMINATE_COMMON_SUBEXPRESSIONS;
+        try {
+            final Random random = new Random(0);
+            final ColumnInfo<?, ?>[] columnInfo;
+            final int size = 50;
+            final QueryTable queryTable = getTable(size, random,
+                    columnInfo = initColumnInfos(new String[] {"Sym", "intCol", "doubleCol"},
+                            new SetGenerator<>("a", "b", "c", "d", "e"),
+                            new IntGenerator(10, 100),
+                            new SetGenerator<>(10.1, 20.1, 30.1)));
+            final String[] formulas = {
+                    "A = Math.abs(intCol - doubleCol) * 2",
+                    "B = Sym.toUpperCase() + Math.abs(intCol - doubleCol)",
+                    "C = Sym.toUpperCase()",
+                    "intCol = intCol + 1",
+                    "D = Math.abs(intCol - doubleCol)"};
+
+            QueryTable.ELIMINATE_COMMON_SUBEXPRESSIONS = false;
+            final Table expectedUpdate = queryTable.update(formulas);
+            final Table expectedSelect = queryTable.select(formulas);
+
+            QueryTable.ELIMINATE_COMMON_SUBEXPRESSIONS = true;
+            assertTableEquals(expectedUpdate, queryTable.update(formulas));
+            assertTableEquals(expectedSelect, queryTable.select(formulas));
+
+            final EvalNuggetInterface[] en = new EvalNuggetInterface[] {
+                    EvalNugget.from(() -> queryTable.update(formulas)),
+                    EvalNugget.from(() -> queryTable.select(formulas)),
+            };
+            for (int step = 0; step < 50; ++step) {
+                RefreshingTableTestCase.simulateShiftAwareStep(size, random, queryTable, columnInfo, en);
+            }
+        } finally {
+            QueryTable.ELIMINATE_COMMON_SUBEXPRESSIONS = old;
+        }
+    }
+
     @Test
     public void testUpdateIncremental() {
         for (int seed = 0; seed < 3; ++seed) {
@@ -23,6 +23,7 @@ import io.deephaven.engine.rowset.chunkattributes.OrderedRowKeys;
 import io.deephaven.engine.table.*;
 import io.deephaven.engine.table.impl.chunkfilter.ChunkFilter;
 import io.deephaven.engine.table.impl.chunkfilter.IntRangeComparator;
+import io.deephaven.engine.table.impl.dataindex.TableBackedDataIndex;
 import io.deephaven.engine.table.impl.indexer.DataIndexer;
 import io.deephaven.engine.table.impl.select.*;
 import io.deephaven.engine.table.impl.select.vectorchunkfilter.VectorComponentFilterWrapper;
@@ -1006,6 +1007,165 @@ public abstract class QueryTableWhereTest {
                 "699");
     }
 
+    @Test
+    public void testRangeFilterOrderedDataIndex() {
+        final Random random = new Random(0);
+        final int size = 500;
+
+        final ColumnInfo<?, ?>[] columnInfo;
+        final QueryTable table = getTable(size, random,
+                columnInfo = initColumnInfos(new String[] {"L", "D", "DT"},
+                        new LongGenerator(-100, 100, 0.05),
+                        new DoubleGenerator(0.0, 100.0),
+                        new UnsortedInstantGenerator(DateTimeUtils.parseInstant("2020-01-01T00:00:00 NY"),
+                                DateTimeUtils.parseInstant("2020-01-01T01:00:00 NY"), 0.05)));
+        DataIndexer.getOrCreateDataIndex(table, "L");
+        DataIndexer.getOrCreateDataIndex(table, "D");
+        DataIndexer.getOrCreateDataIndex(table, "DT");
+
+        final RangeFilter lowerBound = new RangeFilter("L", Condition.GREATER_THAN_OR_EQUAL, "-20");
+        lowerBound.init(table.getDefinition());
+        try (final SafeCloseable ignored = lowerBound.beginOperation(table)) {
+            assertNotNull(AbstractRangeFilter.withOrderedDataIndex(lowerBound));
+        }
+        assertNull(AbstractRangeFilter.withOrderedDataIndex(lowerBound));
+
+        // The sorted view is cached on the index, rather than re-sorted for each filter
+        final TableBackedDataIndex longIndex = (TableBackedDataIndex) DataIndexer.getDataIndex(table, "L");
+        final BasicDataIndex keySortedIndex = longIndex.keySortedIndex();
+        final Table keySortedTable = keySortedIndex.table();
+        final RangeFilter upperBound = new RangeFilter("L", Condition.LESS_THAN, "30");
+        upperBound.init(table.getDefinition());
+        try (final SafeCloseable ignored = upperBound.beginOperation(table)) {
+            assertNotNull(AbstractRangeFilter.withOrderedDataIndex(upperBound));
+        }
+        assertSame(keySortedIndex, longIndex.keySortedIndex());
+        assertSame(keySortedTable, longIndex.keySortedIndex().table());
+
+        final Instant startTime = DateTimeUtils.parseInstant("2020-01-01T00:15:00 NY");
+        final Instant endTime = DateTimeUtils.parseInstant("2020-01-01T00:45:00 NY");
+        final EvalNuggetInterface[] en = new EvalNuggetInterface[] {
+                EvalNugget.from(() -> table.where("L >= -20", "L < 30")),
+                EvalNugget.from(() -> table.where(new LongRangeFilter("L", -50, 80, false, true))),
+                EvalNugget.from(() -> table.where("D > 25", "D <= 75")),
+                EvalNugget.from(() -> table.where(new InstantRangeFilter("DT", startTime, endTime, true, false))),
+                new TableComparator(table.where("L >= -20 && L < 30"), table.where("L >= -20", "L < 30")),
+                new TableComparator(table.where("D > 25 && D <= 75"), table.where("D > 25", "D <= 75")),
+                new TableComparator(
+                        table.where("DT >= '2020-01-01T00:15:00 NY' && DT < '2020-01-01T00:45:00 NY'"),
+                        table.where(new InstantRangeFilter("DT", startTime, endTime, true, false))),
+        };
+
+        for (int step = 0; step < 50; ++step) {
+            simulateShiftAwareStep(size, random, table, columnInfo, en);
+        }
+    }
+
+    @Test
+    public void testCommonSubexpressionElimination() {
+        final boolean old = QueryTable.ELIMINATE_COMMON_SUBEXPRESSIONS;
+        try {
+            final Random random = new Random(0);
+            final int size = 500;
+
+            final ColumnInfo<?, ?>[] columnInfo;
+            final QueryTable table = getTable(size, random,
+                    columnInfo = initColumnInfos(new String[] {"Sym", "L", "D"},
+                            new SetGenerator<>("aa", "bb", "cc", "dd"),
+                            new LongGenerator(-100, 100, 0.05),
+                            new DoubleGenerator(0.0, 100.0)));
+            final String[] filters = {
+                    "Math.abs(L - D) > 10",
+                    "Sym.startsWith(`a`) || Math.abs(L - D) < 60",
+                    "Sym.startsWith(`b`) || Sym.startsWith(`a`)"};
+
+            final WhereFilter[] whereFilters = WhereFilterFactory.getExpressions(filters);
+            final CommonSubexpressionExtractor.Result extracted =
+                    CommonSubexpressionExtractor.ofFilters(table.getDefinition(), whereFilters);
+            assertNotNull(extracted);
+            assertArrayEquals(new String[] {"_CommonSubexpression0"}, extracted.getTemporaryColumnNames());
+            assertEquals("Math.abs(L - D)", extracted.getTemporaryColumns()[0].toString());
+            // Sym.startsWith(`a`) is repeated, but not used by the first filter
+            assertSame(whereFilters[2], extracted.getFilters()[2]);
+
+            QueryTable.ELIMINATE_COMMON_SUBEXPRESSIONS = false;
+            final Table expected = table.where(filters);
+            QueryTable.ELIMINATE_COMMON_SUBEXPRESSIONS = true;
+            final Table actual = table.where(filters);
+            assertTableEquals(expected, actual);
+            assertEquals(table.getDefinition(), actual.getDefinition());
+
+            final EvalNuggetInterface[] en = new EvalNuggetInterface[] {
+                    EvalNugget.from(() -> table.where(filters)),
+                    new TableComparator(table.where(filters[0]).where(filters[1]).where(filters[2]),
+                            table.where(filters)),
+            };
+            for (int step = 0; step < 50; ++step) {
+                simulateShiftAwareStep(size, random, table, columnInfo, en);
+            }
+        } finally {
+            QueryTable.ELIMINATE_COMMON_SUBEXPRESSIONS = old;
+        }
+    }
+
+    @Test
+    public void testCommonSubexpressionNullGuarded() {
+        final boolean old = QueryTable.ELIMINATE_COMMON_SUBEXPRESSIONS;
+        try {
+            final Table source = TableTools.newTable(stringCol("A", "ab", null, "hello", null, "abcdefghijkl"));
+            final String[] filters = {"A != null && A.length() > 3", "A.length() < 10"};
+
+            // the first filter only calls A.length() when A is not null, so it must not be computed for every row
+            assertNull(CommonSubexpressionExtractor.ofFilters(
+                    source.getDefinition(), WhereFilterFactory.getExpressions(filters)));
+
+            QueryTable.ELIMINATE_COMMON_SUBEXPRESSIONS = true;
+            assertTableEquals(TableTools.newTable(stringCol("A", "hello")), source.where(filters));
+        } finally {
+            QueryTable.ELIMINATE_COMMON_SUBEXPRESSIONS = old;
+        }
+    }
+
+    @Test
+    public void testAdaptiveFilterOrdering() {
+        final boolean old = QueryTable.ADAPTIVE_FILTER_ORDERING;
+        final boolean oldStateless = QueryTable.STATELESS_FILTERS_BY_DEFAULT;
+        final int oldSampleSize = QueryTable.ADAPTIVE_FILTER_ORDERING_SAMPLE_SIZE;
+        final SleepCounter slowCounter = new SleepCounter(2_000);
+        final SleepCounter fastCounter = new SleepCounter(0);
+        QueryScope.addParam("slowCounter", slowCounter);
+        QueryScope.addParam("fastCounter", fastCounter);
+        try {
+            // only stateless filters may be reordered
+            QueryTable.STATELESS_FILTERS_BY_DEFAULT = true;
+            QueryTable.ADAPTIVE_FILTER_ORDERING = true;
+            QueryTable.ADAPTIVE_FILTER_ORDERING_SAMPLE_SIZE = 1024;
+            final Table tableToFilter = TableTools.emptyTable(200_000).update("X=i");
+
+            final Table filtered = tableToFilter.where(
+                    "slowCounter.applyAsInt(X) % 2 == 0", "fastCounter.applyAsInt(X) % 100 == 0");
+            assertTableEquals(tableToFilter.where("X % 100 == 0"), filtered);
+
+            // each filter is first sampled; the fast and selective filter then runs first over every row
+            assertTrue(fastCounter.invokes.get() >= 200_000);
+            assertTrue(slowCounter.invokes.get() < 2_000 + 2 * 1024);
+
+            // with sampling disabled, the user's order is used until both filters have statistics
+            QueryTable.ADAPTIVE_FILTER_ORDERING_SAMPLE_SIZE = 0;
+            slowCounter.reset();
+            final Table unsampled = tableToFilter.where(
+                    "slowCounter.applyAsInt(X) % 2 != 1", "fastCounter.applyAsInt(X) % 100 == 0");
+            assertTableEquals(filtered, unsampled);
+            assertEquals(200_000, slowCounter.invokes.get());
+        } finally {
+            QueryTable.ADAPTIVE_FILTER_ORDERING = old;
+            QueryTable.STATELESS_FILTERS_BY_DEFAULT = oldStateless;
+            QueryTable.ADAPTIVE_FILTER_ORDERING_SAMPLE_SIZE = oldSampleSize;
+            QueryScope.addParam("slowCounter", null);
+            QueryScope.addParam("fastCounter", null);
+        }
+    }
+
     @Test
     public void testFilterErrorInitial() {
         final QueryTable table = testRefreshingTable(
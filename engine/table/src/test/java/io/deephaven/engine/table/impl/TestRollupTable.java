@@ -6,17 +6,22 @@ package io.deephaven.engine.table.impl;
 import io.deephaven.api.ColumnName;
 import io.deephaven.api.SortColumn;
 import io.deephaven.api.agg.Aggregation;
+import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.context.QueryScope;
+import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.engine.rowset.RowSetFactory;
 import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.hierarchical.HierarchicalTable;
 import io.deephaven.engine.table.hierarchical.RollupTable;
+import io.deephaven.engine.table.vectors.ColumnVectors;
 import io.deephaven.engine.testutil.ColumnInfo;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
 import io.deephaven.engine.testutil.EvalNuggetInterface;
 import io.deephaven.engine.testutil.TstUtils;
 import io.deephaven.engine.testutil.generator.IntGenerator;
 import io.deephaven.engine.testutil.generator.SetGenerator;
 import io.deephaven.engine.table.impl.select.WhereFilterFactory;
+import io.deephaven.engine.table.impl.util.ColumnHolder;
 import io.deephaven.engine.testutil.testcase.RefreshingTableTestCase;
 import io.deephaven.engine.util.TableTools;
 import io.deephaven.test.types.OutOfBandTest;
@@ -26,6 +31,7 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -149,6 +155,57 @@ public class TestRollupTable extends RefreshingTableTestCase {
         }
     }
 
+    /**
+     * Compare the rollup table root to the zero-key equivalent table for the sketch-based aggregations, which are only
+     * supported for add-only and blink sources. HyperLogLog sketches merge exactly, so the results must match.
+     */
+    @Test
+    public void testSketchRollupVsZeroKeyAppendOnly() {
+        final int size = 1000;
+        final Random random = new Random(0);
+        final ColumnInfo[] columnInfo = initColumnInfos(
+                new String[] {"Sym", "intCol"},
+                new SetGenerator<>("a", "b", "c", "d"),
+                new IntGenerator(10, 100_000));
+
+        final QueryTable testTable = getTable(true, size, random, columnInfo);
+        testTable.setAttribute(Table.ADD_ONLY_TABLE_ATTRIBUTE, true);
+
+        final Collection<Aggregation> sketchAggs = List.of(
+                AggApproxCountDistinct("hll=intCol"),
+                AggKllPct(0.5, "kll=intCol"));
+        final RollupTable rollupTable = testTable.rollup(sketchAggs, false, "Sym");
+
+        final EvalNuggetInterface[] en = new EvalNuggetInterface[] {
+                new QueryTableTest.TableComparator(
+                        rollupTable.getRoot().view("hll"),
+                        testTable.aggBy(sketchAggs).view("hll"))
+        };
+
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        for (int step = 0; step < 20; step++) {
+            final int fstep = step;
+            updateGraph.runWithinUnitTestCycle(() -> {
+                final RowSet added = RowSetFactory.fromRange(size * (fstep + 1L), size * (fstep + 2L) - 1);
+                testTable.getRowSet().writableCast().insert(added);
+                final ColumnHolder<?>[] columnHolders = new ColumnHolder[columnInfo.length];
+                for (int ii = 0; ii < columnInfo.length; ii++) {
+                    columnHolders[ii] = columnInfo[ii].generateUpdateColumnHolder(added, random);
+                }
+                addToTable(testTable, added, columnHolders);
+                testTable.notifyListeners(added, i(), i());
+            });
+            TstUtils.validate("step == " + step, en);
+
+            final Table root = rollupTable.getRoot();
+            final int[] values = ColumnVectors.ofInt(testTable, "intCol").toArray();
+            Arrays.sort(values);
+            final double median = root.getColumnSource("kll", double.class).getDouble(root.getRowSet().firstRowKey());
+            final double expected = values[values.length / 2];
+            Assert.assertEquals("step == " + step, expected, median, (values[values.length - 1] - values[0]) * 0.02);
+        }
+    }
+
     @Test
     public void testRollupWithFilter() {
         final Table sourceUncounted = newTable(
@@ -0,0 +1,190 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.indexer;
+
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.testutil.ColumnInfo;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import io.deephaven.engine.testutil.TstUtils;
+import io.deephaven.engine.testutil.generator.IntGenerator;
+import io.deephaven.engine.testutil.generator.SetGenerator;
+import io.deephaven.engine.testutil.testcase.RefreshingTableTestCase;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static io.deephaven.engine.util.TableTools.longCol;
+import static io.deephaven.engine.util.TableTools.newTable;
+import static io.deephaven.engine.util.TableTools.stringCol;
+
+public class TestDataIndexAdvisor extends RefreshingTableTestCase {
+
+    private boolean oldEnabled;
+    private boolean oldAutoBuild;
+    private long oldMinimumScannedRows;
+    private long oldMinimumTableSize;
+    private long oldMemoryBudgetBytes;
+    private int oldRetireAfterIdleEvaluations;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        oldEnabled = DataIndexAdvisor.ENABLED;
+        oldAutoBuild = DataIndexAdvisor.AUTO_BUILD;
+        oldMinimumScannedRows = DataIndexAdvisor.MINIMUM_SCANNED_ROWS;
+        oldMinimumTableSize = DataIndexAdvisor.MINIMUM_TABLE_SIZE;
+        oldMemoryBudgetBytes = DataIndexAdvisor.MEMORY_BUDGET_BYTES;
+        oldRetireAfterIdleEvaluations = DataIndexAdvisor.RETIRE_AFTER_IDLE_EVALUATIONS;
+        DataIndexAdvisor.ENABLED = true;
+        DataIndexAdvisor.MINIMUM_SCANNED_ROWS = 1500;
+        DataIndexAdvisor.MINIMUM_TABLE_SIZE = 0;
+        DataIndexAdvisor.MEMORY_BUDGET_BYTES = Long.MAX_VALUE;
+        DataIndexAdvisor.RETIRE_AFTER_IDLE_EVALUATIONS = 2;
+        DataIndexAdvisor.resetForUnitTests();
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        DataIndexAdvisor.resetForUnitTests();
+        DataIndexAdvisor.ENABLED = oldEnabled;
+        DataIndexAdvisor.AUTO_BUILD = oldAutoBuild;
+        DataIndexAdvisor.MINIMUM_SCANNED_ROWS = oldMinimumScannedRows;
+        DataIndexAdvisor.MINIMUM_TABLE_SIZE = oldMinimumTableSize;
+        DataIndexAdvisor.MEMORY_BUDGET_BYTES = oldMemoryBudgetBytes;
+        DataIndexAdvisor.RETIRE_AFTER_IDLE_EVALUATIONS = oldRetireAfterIdleEvaluations;
+        super.tearDown();
+    }
+
+    private static QueryTable makeTable() {
+        return TstUtils.getTable(false, 1000, new Random(0), new ColumnInfo[] {
+                new ColumnInfo<>(new SetGenerator<>("a", "b", "c", "d"), "Sym"),
+                new ColumnInfo<>(new IntGenerator(0, 100), "intCol")});
+    }
+
+    private static void deliverDecisions(final DataIndexAdvisor advisor) {
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        updateGraph.runWithinUnitTestCycle(advisor::deliverDecisionsForUnitTests);
+    }
+
+    @Test
+    public void testRecommendOnly() {
+        DataIndexAdvisor.AUTO_BUILD = false;
+        final QueryTable source = makeTable();
+        final DataIndexAdvisor advisor = DataIndexAdvisor.getInstance();
+        final Table decisions = advisor.getQueryTable();
+
+        source.where("Sym in `a`");
+        source.where("Sym in `b`");
+        advisor.evaluate();
+        assertFalse(DataIndexer.hasDataIndex(source, "Sym"));
+
+        // A recommendation is only published once
+        source.where("Sym in `c`");
+        advisor.evaluate();
+        deliverDecisions(advisor);
+        TstUtils.assertTableEquals(
+                newTable(stringCol("KeyColumns", "Sym"), stringCol("Operations", "where"),
+                        stringCol("Decision", "Recommend"), longCol("ScannedRows", 2000),
+                        longCol("TotalIndexedBytes", 0)),
+                decisions.view("KeyColumns", "Operations", "Decision", "ScannedRows", "TotalIndexedBytes"));
+    }
+
+    @Test
+    public void testBuild() {
+        DataIndexAdvisor.AUTO_BUILD = true;
+        final QueryTable source = makeTable();
+        final QueryTable right = TstUtils.testTable(TstUtils.col("Sym", "a", "c"));
+        final DataIndexAdvisor advisor = DataIndexAdvisor.getInstance();
+
+        // Below the threshold, nothing is built
+        source.whereIn(right, "Sym");
+        advisor.evaluate();
+        assertFalse(DataIndexer.hasDataIndex(source, "Sym"));
+
+        source.whereIn(right, "Sym");
+        source.whereIn(right, "Sym");
+        advisor.evaluate();
+        assertTrue(DataIndexer.hasDataIndex(source, "Sym"));
+        assertFalse(DataIndexer.hasDataIndex(source, "intCol"));
+        assertFalse(DataIndexer.hasDataIndex(right, "Sym"));
+
+        final Table expected = source.where("Sym in `a`, `c`");
+        TstUtils.assertTableEquals(expected, source.whereIn(right, "Sym"));
+    }
+
+    @Test
+    public void testMemoryBudget() {
+        DataIndexAdvisor.AUTO_BUILD = true;
+        DataIndexAdvisor.MEMORY_BUDGET_BYTES = 0;
+        final QueryTable source = makeTable();
+
+        final DataIndexAdvisor advisor = DataIndexAdvisor.getInstance();
+        final Table decisions = advisor.getQueryTable();
+
+        source.where("intCol > 50");
+        source.where("Sym in `a`");
+        source.where("Sym in `b`");
+        advisor.evaluate();
+        assertFalse(DataIndexer.hasDataIndex(source, "Sym"));
+        assertFalse(DataIndexer.hasDataIndex(source, "intCol"));
+
+        deliverDecisions(advisor);
+        TstUtils.assertTableEquals(
+                newTable(stringCol("KeyColumns", "Sym"), stringCol("Decision", "OverBudget"),
+                        longCol("TotalIndexedBytes", 0)),
+                decisions.view("KeyColumns", "Decision", "TotalIndexedBytes"));
+    }
+
+    @Test
+    public void testMemoryBudgetAcrossCandidates() {
+        DataIndexAdvisor.AUTO_BUILD = true;
+        // Each index is estimated at 16000 bytes, so either fits the budget alone, but not both
+        DataIndexAdvisor.MEMORY_BUDGET_BYTES = 20000;
+        final QueryTable first = makeTable();
+        final QueryTable second = makeTable();
+        final DataIndexAdvisor advisor = DataIndexAdvisor.getInstance();
+        final Table decisions = advisor.getQueryTable();
+
+        first.where("Sym in `a`");
+        first.where("Sym in `b`");
+        second.where("Sym in `a`");
+        second.where("Sym in `b`");
+        advisor.evaluate();
+        assertTrue(DataIndexer.hasDataIndex(first, "Sym") ^ DataIndexer.hasDataIndex(second, "Sym"));
+
+        deliverDecisions(advisor);
+        assertEquals(1, decisions.where("Decision == `Build`").size());
+        assertEquals(1, decisions.where("Decision == `OverBudget`").size());
+    }
+
+    @Test
+    public void testRetire() {
+        DataIndexAdvisor.AUTO_BUILD = true;
+        final QueryTable source = makeTable();
+        final DataIndexAdvisor advisor = DataIndexAdvisor.getInstance();
+        final Table decisions = advisor.getQueryTable();
+
+        source.where("Sym in `a`");
+        source.where("Sym in `b`");
+        advisor.evaluate();
+        assertTrue(DataIndexer.hasDataIndex(source, "Sym"));
+
+        // Using the index resets its idle evaluations
+        source.where("Sym in `c`");
+        advisor.evaluate();
+        advisor.evaluate();
+        deliverDecisions(advisor);
+        assertEquals(1, decisions.size());
+
+        // It is retired after RETIRE_AFTER_IDLE_EVALUATIONS evaluations without a use
+        advisor.evaluate();
+        deliverDecisions(advisor);
+        TstUtils.assertTableEquals(
+                newTable(stringCol("KeyColumns", "Sym", "Sym"), stringCol("Decision", "Build", "Retire"),
+                        longCol("EstimatedBytes", 16000, 16000), longCol("TotalIndexedBytes", 16000, 0)),
+                decisions.view("KeyColumns", "Decision", "EstimatedBytes", "TotalIndexedBytes"));
+    }
+}
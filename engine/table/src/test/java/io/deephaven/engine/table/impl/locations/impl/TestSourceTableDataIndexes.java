@@ -4,6 +4,9 @@
 package io.deephaven.engine.table.impl.locations.impl;
 
 import io.deephaven.base.FileUtils;
+import io.deephaven.base.stats.Stats;
+import io.deephaven.base.stats.ThreadSafeCounter;
+import io.deephaven.base.stats.Value;
 import io.deephaven.base.verify.Assert;
 import io.deephaven.engine.table.ColumnDefinition;
 import io.deephaven.engine.table.Table;
@@ -17,6 +20,7 @@ import io.deephaven.parquet.table.layout.DeephavenNestedPartitionLayout;
 import io.deephaven.parquet.table.ParquetInstructions;
 import io.deephaven.engine.testutil.junit4.EngineCleanup;
 import junit.framework.TestCase;
+import org.jetbrains.annotations.NotNull;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -175,6 +179,82 @@ public class TestSourceTableDataIndexes {
         TstUtils.assertTableEquals(expected.groupBy("Sym").ungroup(), actual.groupBy("Sym").ungroup());
     }
 
+    @Test
+    public void testMatchWithinFewLocations() {
+        final Table raw = TableTools.emptyTable(26 * 20 * 100).update("Part=String.format(`%04d`, (long)(ii/2600))",
+                "Sym=(char)('A' + ii % 26)", "Other=ii");
+        final Table actual = writeAndReadPartitioned(raw, "TestTable");
+        TestCase.assertTrue(DataIndexer.hasDataIndex(actual, "Sym"));
+
+        // The partition filter leaves rows from only two locations, so the Sym filters are answered from an index
+        // merged from just those locations
+        TstUtils.assertTableEquals(
+                raw.where("Part in `0003`, `0004`", "Sym in 'C', 'X'"),
+                actual.where("Part in `0003`, `0004`", "Sym in 'C', 'X'"));
+        TstUtils.assertTableEquals(
+                raw.where("Part in `0003`, `0004`", "Sym not in 'C', 'X'"),
+                actual.where("Part in `0003`, `0004`", "Sym not in 'C', 'X'"));
+
+        // And the full index is still correct afterward
+        TstUtils.assertTableEquals(raw.where("Sym in 'C'"), actual.where("Sym in 'C'"));
+    }
+
+    @Test
+    public void testRestrictedIndexIsReused() {
+        final Table raw = TableTools.emptyTable(26 * 20 * 100).update("Part=String.format(`%04d`, (long)(ii/2600))",
+                "Sym=(char)('A' + ii % 26)", "Other=ii");
+        final Table actual = writeAndReadPartitioned(raw, "TestTable");
+        final Value indexBuilds = Stats.makeItem("MergedDataIndex", "buildTableMillis", ThreadSafeCounter.FACTORY)
+                .getValue();
+
+        // The first filter over these locations merges their indexes
+        final long buildsBefore = indexBuilds.getN();
+        TstUtils.assertTableEquals(
+                raw.where("Part in `0003`, `0004`", "Sym in 'C', 'X'"),
+                actual.where("Part in `0003`, `0004`", "Sym in 'C', 'X'"));
+        final long buildsAfterFirst = indexBuilds.getN();
+        TestCase.assertTrue(buildsAfterFirst > buildsBefore);
+
+        // Later filters over the same locations reuse that restricted index
+        TstUtils.assertTableEquals(
+                raw.where("Part in `0003`, `0004`", "Sym in 'D'"),
+                actual.where("Part in `0003`, `0004`", "Sym in 'D'"));
+        TstUtils.assertTableEquals(
+                raw.where("Part in `0003`, `0004`", "Sym not in 'C', 'X'"),
+                actual.where("Part in `0003`, `0004`", "Sym not in 'C', 'X'"));
+        TestCase.assertEquals(buildsAfterFirst, indexBuilds.getN());
+
+        // Filters over other locations need an index of their own
+        TstUtils.assertTableEquals(
+                raw.where("Part in `0010`", "Sym in 'C'"),
+                actual.where("Part in `0010`", "Sym in 'C'"));
+        TestCase.assertTrue(indexBuilds.getN() > buildsAfterFirst);
+    }
+
+    private Table writeAndReadPartitioned(@NotNull final Table raw, @NotNull final String tableName) {
+        final Table[] partitions = raw.partitionBy("Part").constituents();
+        for (final Table t : partitions) {
+            DataIndexer.getOrCreateDataIndex(t, "Sym");
+        }
+
+        final TableDefinition partitionedDataDefinition = TableDefinition.of(
+                ColumnDefinition.ofString("Part").withPartitioning(),
+                ColumnDefinition.ofChar("Sym"),
+                ColumnDefinition.ofLong("Other"));
+        ParquetTools.writeTables(partitions,
+                IntStream.range(0, partitions.length)
+                        .mapToObj(pcv -> new File(dataDirectory,
+                                "IP" + File.separator + String.format("%04d", pcv) + File.separator + tableName
+                                        + File.separator + PARQUET_FILE_NAME))
+                        .map(File::getPath).toArray(String[]::new),
+                ParquetInstructions.EMPTY.withTableDefinition(partitionedDataDefinition));
+
+        return ParquetTools.readTable(
+                DeephavenNestedPartitionLayout.forParquet(dataDirectory, tableName, "Part", ipn -> ipn.equals("IP"),
+                        ParquetInstructions.EMPTY),
+                ParquetInstructions.EMPTY.withTableDefinition(partitionedDataDefinition)).coalesce();
+    }
+
     @Test
     public void testDroppedIndexColumn() {
         final Table raw = TableTools.emptyTable(26 * 10 * 1000).update("Part=String.format(`%04d`, (long)(ii/1000))",
@@ -0,0 +1,127 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.perf;
+
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import org.HdrHistogram.Histogram;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TestUpdateLatencyTracker {
+
+    private static final String SINK = "TestUpdateLatencyTracker";
+    private static final long INGEST_AGE_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Rule
+    public final EngineCleanup framework = new EngineCleanup();
+
+    private ControlledUpdateGraph updateGraph;
+
+    @Before
+    public void setUp() {
+        updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        UpdateLatencyTracker.setSampleIntervalForUnitTests(1);
+    }
+
+    @After
+    public void tearDown() {
+        UpdateLatencyTracker.setSampleIntervalForUnitTests(UpdateLatencyTracker.SAMPLE_INTERVAL);
+        UpdateLatencyTracker.removeSink(SINK);
+    }
+
+    @Test
+    public void testTraceFromIngestToOutput() {
+        final long ingestNanos = System.nanoTime() - INGEST_AGE_NANOS;
+        final UpdateLatencyTracker.Trace[] trace = new UpdateLatencyTracker.Trace[1];
+        updateGraph.runWithinUnitTestCycle(() -> {
+            // The earliest ingestion in the cycle wins
+            UpdateLatencyTracker.recordIngest(updateGraph, ingestNanos + 1000);
+            UpdateLatencyTracker.recordIngest(updateGraph, ingestNanos);
+            trace[0] = UpdateLatencyTracker.traceAtSink(updateGraph);
+        });
+        assertNotNull(trace[0]);
+        assertNull(UpdateLatencyTracker.getHistogramForUnitTests(SINK, "EndToEnd"));
+
+        UpdateLatencyTracker.recordOutput(SINK, trace[0], System.nanoTime());
+        final Histogram endToEnd = UpdateLatencyTracker.getHistogramForUnitTests(SINK, "EndToEnd");
+        assertNotNull(endToEnd);
+        assertEquals(1, endToEnd.getTotalCount());
+        assertTrue(endToEnd.getMaxValue() >= INGEST_AGE_NANOS);
+        final Histogram cycleWait = UpdateLatencyTracker.getHistogramForUnitTests(SINK, "CycleWait");
+        assertNotNull(cycleWait);
+        assertTrue(cycleWait.getMaxValue() >= INGEST_AGE_NANOS);
+    }
+
+    @Test
+    public void testUntracedCycles() {
+        // Nothing was ingested in this cycle
+        updateGraph.runWithinUnitTestCycle(() -> assertNull(UpdateLatencyTracker.traceAtSink(updateGraph)));
+
+        // The stamp belongs to the cycle that recorded it, not to later cycles
+        updateGraph.runWithinUnitTestCycle(() -> UpdateLatencyTracker.recordIngest(updateGraph, System.nanoTime()));
+        updateGraph.runWithinUnitTestCycle(() -> assertNull(UpdateLatencyTracker.traceAtSink(updateGraph)));
+
+        // Tracing is disabled with a sample interval of zero
+        UpdateLatencyTracker.setSampleIntervalForUnitTests(0);
+        updateGraph.runWithinUnitTestCycle(() -> {
+            UpdateLatencyTracker.recordIngest(updateGraph, System.nanoTime());
+            assertNull(UpdateLatencyTracker.traceAtSink(updateGraph));
+        });
+
+        // An untraced output records nothing
+        UpdateLatencyTracker.recordOutput(SINK, null, System.nanoTime());
+        assertNull(UpdateLatencyTracker.getHistogramForUnitTests(SINK, "EndToEnd"));
+    }
+
+    @Test
+    public void testCoalescedTracesKeepEarliest() {
+        final UpdateLatencyTracker.Trace[] traces = new UpdateLatencyTracker.Trace[2];
+        final long firstIngestNanos = System.nanoTime() - INGEST_AGE_NANOS;
+        updateGraph.runWithinUnitTestCycle(() -> {
+            UpdateLatencyTracker.recordIngest(updateGraph, firstIngestNanos);
+            traces[0] = UpdateLatencyTracker.traceAtSink(updateGraph);
+        });
+        updateGraph.runWithinUnitTestCycle(() -> {
+            UpdateLatencyTracker.recordIngest(updateGraph, System.nanoTime());
+            traces[1] = UpdateLatencyTracker.traceAtSink(updateGraph);
+        });
+
+        assertSame(traces[0], UpdateLatencyTracker.earliest(traces[0], traces[1]));
+        assertSame(traces[0], UpdateLatencyTracker.earliest(traces[1], traces[0]));
+        assertSame(traces[1], UpdateLatencyTracker.earliest(null, traces[1]));
+        assertNull(UpdateLatencyTracker.earliest(null, null));
+
+        UpdateLatencyTracker.recordOutput(SINK, UpdateLatencyTracker.earliest(traces[0], traces[1]), System.nanoTime());
+        final Histogram endToEnd = UpdateLatencyTracker.getHistogramForUnitTests(SINK, "EndToEnd");
+        assertNotNull(endToEnd);
+        assertEquals(1, endToEnd.getTotalCount());
+        assertTrue(endToEnd.getMaxValue() >= INGEST_AGE_NANOS);
+    }
+
+    @Test
+    public void testRemoveSink() {
+        final UpdateLatencyTracker.Trace[] trace = new UpdateLatencyTracker.Trace[1];
+        updateGraph.runWithinUnitTestCycle(() -> {
+            UpdateLatencyTracker.recordIngest(updateGraph, System.nanoTime());
+            trace[0] = UpdateLatencyTracker.traceAtSink(updateGraph);
+        });
+        UpdateLatencyTracker.recordOutput(SINK, trace[0], System.nanoTime());
+        assertNotNull(UpdateLatencyTracker.getHistogramForUnitTests(SINK, "EndToEnd"));
+
+        UpdateLatencyTracker.removeSink(SINK);
+        assertNull(UpdateLatencyTracker.getHistogramForUnitTests(SINK, "EndToEnd"));
+    }
+}
@@ -0,0 +1,75 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.perf;
+
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TestUpdatePerformanceTracker {
+
+    @Rule
+    public final EngineCleanup framework = new EngineCleanup();
+
+    @Test
+    public void testCriticalPathPropagatesToAncestors() {
+        final UpdatePerformanceTracker tracker =
+                new UpdatePerformanceTracker(ExecutionContext.getContext().getUpdateGraph(), true);
+        final PerformanceEntry parent = tracker.getEntry("parent");
+        final PerformanceEntry child = tracker.getEntry("child");
+        tracker.logAncestors("TEST", child, () -> new long[] {parent.getId()});
+
+        assertEquals(0, parent.getCriticalPathNanos());
+        child.onUpdateStart();
+        final long endNanos = System.nanoTime() + 1_000_000;
+        while (System.nanoTime() < endNanos) {
+            Thread.onSpinWait();
+        }
+        child.onUpdateEnd();
+
+        assertTrue(child.getCriticalPathNanos() > 0);
+        assertEquals(child.getCriticalPathNanos(), parent.getCriticalPathNanos());
+    }
+
+    @Test
+    public void testReleasedEntriesArePruned() throws InterruptedException {
+        final UpdatePerformanceTracker tracker =
+                new UpdatePerformanceTracker(ExecutionContext.getContext().getUpdateGraph(), true);
+        final PerformanceEntry retained = tracker.getEntry("retained");
+        final WeakReference<PerformanceEntry> released = new WeakReference<>(tracker.getEntry("released"));
+        assertEquals(2, tracker.ancestorCandidateCountForUnitTests());
+
+        for (int attempt = 0; attempt < 100 && tracker.ancestorCandidateCountForUnitTests() > 1; ++attempt) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(released.get());
+        assertEquals(1, tracker.ancestorCandidateCountForUnitTests());
+        Reference.reachabilityFence(retained);
+    }
+
+    @Test
+    public void testCriticalPathNotTrackedByDefault() {
+        final UpdatePerformanceTracker tracker =
+                new UpdatePerformanceTracker(ExecutionContext.getContext().getUpdateGraph());
+        final PerformanceEntry parent = tracker.getEntry("parent");
+        final PerformanceEntry child = tracker.getEntry("child");
+        tracker.logAncestors("TEST", child, () -> new long[] {parent.getId()});
+        assertEquals(0, tracker.ancestorCandidateCountForUnitTests());
+
+        child.onUpdateStart();
+        child.onUpdateEnd();
+        assertEquals(1, child.getInvocationCount());
+        assertEquals(0, child.getCriticalPathNanos());
+        assertEquals(0, parent.getCriticalPathNanos());
+    }
+}
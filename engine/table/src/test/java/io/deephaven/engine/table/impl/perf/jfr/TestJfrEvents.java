@@ -0,0 +1,74 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.perf.jfr;
+
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import io.deephaven.engine.testutil.TstUtils;
+import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import junit.framework.TestCase;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static io.deephaven.engine.util.TableTools.intCol;
+
+public class TestJfrEvents {
+
+    @Rule
+    public final EngineCleanup framework = new EngineCleanup();
+
+    @Rule
+    public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testListenerAndSnapshotEvents() throws IOException {
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        final Path dump = tempFolder.getRoot().toPath().resolve("events.jfr");
+
+        final List<RecordedEvent> events;
+        try (final Recording recording = new Recording()) {
+            recording.enable(ListenerExecutionEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(SnapshotAttemptEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+
+            final QueryTable source = TstUtils.testRefreshingTable(intCol("X", 1, 2, 3));
+            final Table filtered = source.where("X % 2 == 0");
+            updateGraph.runWithinUnitTestCycle(() -> {
+                final RowSet added = RowSetFactory.fromKeys(3, 4);
+                TstUtils.addToTable(source, added, intCol("X", 4, 5));
+                source.notifyListeners(added, RowSetFactory.empty(), RowSetFactory.empty());
+            });
+            TestCase.assertEquals(2, filtered.size());
+
+            recording.stop();
+            recording.dump(dump);
+            events = RecordingFile.readAllEvents(dump);
+        }
+
+        final RecordedEvent listenerEvent = events.stream()
+                .filter(e -> e.getEventType().getName().equals("io.deephaven.ListenerExecution"))
+                .filter(e -> e.getString("description").contains("where"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No where() listener event in " + events));
+        TestCase.assertEquals(2, listenerEvent.getLong("added"));
+        TestCase.assertFalse(listenerEvent.getBoolean("failed"));
+
+        TestCase.assertTrue(events.stream()
+                .filter(e -> e.getEventType().getName().equals("io.deephaven.SnapshotAttempt"))
+                .anyMatch(e -> e.getBoolean("consistent") && e.getBoolean("successful")));
+    }
+}
@@ -0,0 +1,68 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.replay;
+
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import io.deephaven.engine.util.TableTools;
+import io.deephaven.time.DateTimeUtils;
+import junit.framework.TestCase;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.time.Instant;
+
+import static io.deephaven.engine.util.TableTools.instantCol;
+import static io.deephaven.engine.util.TableTools.intCol;
+
+public class TestThroughputReplayer {
+
+    @Rule
+    public final EngineCleanup framework = new EngineCleanup();
+
+    @Test
+    public void testRowsPerCycle() {
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        final Instant start = DateTimeUtils.epochNanosToInstant(1_000);
+        final Instant end = DateTimeUtils.epochNanosToInstant(1_000_000);
+
+        final Table trades = TableTools.newTable(
+                instantCol("Timestamp", at(1_000), at(1_100), at(1_300), at(1_300), at(1_600)),
+                intCol("X", 0, 1, 2, 3, 4));
+        final Table quotes = TableTools.newTable(
+                instantCol("Timestamp", at(1_050), at(1_200), at(1_300), at(1_500), at(1_700)),
+                intCol("X", 0, 1, 2, 3, 4));
+
+        final ThroughputReplayer replayer = new ThroughputReplayer(start, end, 2);
+        final ReplayTable replayedTrades = (ReplayTable) replayer.replay(trades, "Timestamp");
+        final ReplayTable replayedQuotes = (ReplayTable) replayer.replay(quotes, "Timestamp");
+        replayer.start();
+
+        // Only the row at the start time is released on construction
+        TestCase.assertEquals(1, replayedTrades.size());
+        TestCase.assertEquals(0, replayedQuotes.size());
+
+        // The clock advances at the end of each cycle, and every row at 1_300 is released together
+        final long[][] expectedSizes = {{1, 0}, {2, 1}, {4, 3}, {5, 4}, {5, 5}};
+        for (final long[] expected : expectedSizes) {
+            updateGraph.runWithinUnitTestCycle(() -> {
+                replayer.run();
+                replayedTrades.run();
+                replayedQuotes.run();
+            });
+            TestCase.assertEquals(expected[0], replayedTrades.size());
+            TestCase.assertEquals(expected[1], replayedQuotes.size());
+        }
+        TestCase.assertEquals(end, replayer.clock().instantNanos());
+
+        updateGraph.runWithinUnitTestCycle(replayer::run);
+        TestCase.assertTrue(replayer.isDone());
+    }
+
+    private static Instant at(final long epochNanos) {
+        return DateTimeUtils.epochNanosToInstant(epochNanos);
+    }
+}
@@ -0,0 +1,54 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.sources;
+
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetFactory;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestPrefetchable {
+
+    private static class RecordingPrefetchable implements Prefetchable {
+        private final List<RowSet> announced = new ArrayList<>();
+
+        @Override
+        public void prefetch(@NotNull final RowSequence rowSequence) {
+            try (final RowSet rowSet = rowSequence.asRowSet()) {
+                announced.add(rowSet.copy());
+            }
+        }
+    }
+
+    @Test
+    public void testPrefetchNext() {
+        final RecordingPrefetchable source = new RecordingPrefetchable();
+        try (final RowSet rowSet = RowSetFactory.fromRange(100, 199)) {
+            Prefetchable.prefetchNext(rowSet, 40, 20, source, "not prefetchable");
+            Prefetchable.prefetchNext(rowSet, 90, 20, source);
+            Prefetchable.prefetchNext(rowSet, 100, 20, source);
+
+            assertEquals(2, source.announced.size());
+            assertEquals(RowSetFactory.fromRange(140, 159), source.announced.get(0));
+            assertEquals(RowSetFactory.fromRange(190, 199), source.announced.get(1));
+        } finally {
+            source.announced.forEach(RowSet::close);
+        }
+    }
+
+    @Test
+    public void testAnyPrefetchable() {
+        assertTrue(Prefetchable.anyPrefetchable("not prefetchable", new RecordingPrefetchable()));
+        assertFalse(Prefetchable.anyPrefetchable("not prefetchable", null));
+        assertFalse(Prefetchable.anyPrefetchable());
+    }
+}
@@ -0,0 +1,256 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.updateby;
+
+import io.deephaven.api.updateby.UpdateByOperation;
+import io.deephaven.api.updateby.spec.RollingCountDistinctSpec;
+import io.deephaven.api.updateby.spec.WindowScale;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import io.deephaven.engine.testutil.EvalNugget;
+import io.deephaven.engine.testutil.GenerateTableUpdates;
+import io.deephaven.engine.testutil.TstUtils;
+import io.deephaven.engine.testutil.generator.CharGenerator;
+import io.deephaven.engine.testutil.generator.SortedInstantGenerator;
+import io.deephaven.engine.testutil.generator.TestDataGenerator;
+import io.deephaven.engine.util.TableTools;
+import io.deephaven.test.types.OutOfBandTest;
+import io.deephaven.time.DateTimeUtils;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static io.deephaven.engine.testutil.GenerateTableUpdates.generateAppends;
+import static io.deephaven.engine.testutil.TstUtils.assertTableEquals;
+import static io.deephaven.engine.util.TableTools.intCol;
+import static io.deephaven.engine.util.TableTools.stringCol;
+import static io.deephaven.util.QueryConstants.NULL_INT;
+
+@Category(OutOfBandTest.class)
+public class TestRollingCountDistinct extends BaseUpdateByTest {
+    /**
+     * These are verified against the primitive countDistinct functions.
+     */
+    final String[] primitiveColumns = new String[] {
+            "charCol",
+            "byteCol",
+            "shortCol",
+            "intCol",
+            "longCol",
+            "floatCol",
+            "doubleCol",
+    };
+
+    /**
+     * These are verified against countDistinctObj.
+     */
+    final String[] objectColumns = new String[] {
+            "boolCol",
+            "bigIntCol",
+            "bigDecimalCol",
+    };
+
+    final String[] columns = new String[] {
+            "boolCol",
+            "charCol",
+            "byteCol",
+            "shortCol",
+            "intCol",
+            "longCol",
+            "floatCol",
+            "doubleCol",
+            "bigIntCol",
+            "bigDecimalCol",
+    };
+
+    final int STATIC_TABLE_SIZE = 10_000;
+    final int DYNAMIC_TABLE_SIZE = 1_000;
+    final int DYNAMIC_UPDATE_SIZE = 100;
+    final int DYNAMIC_UPDATE_STEPS = 20;
+
+    private String[] getFormulas(final boolean countNulls) {
+        return Stream.concat(
+                Arrays.stream(primitiveColumns).map(c -> c + "=countDistinct(" + c + ", " + countNulls + ")"),
+                Arrays.stream(objectColumns).map(c -> c + "=countDistinctObj(" + c + ", " + countNulls + ")"))
+                .toArray(String[]::new);
+    }
+
+    @Test
+    public void testSimple() {
+        final Table t = TableTools.newTable(
+                stringCol("Sym", "A", "B", "A", null, "C", "C", "C", null),
+                intCol("Val", 1, 2, 1, NULL_INT, 3, 3, 3, NULL_INT));
+
+        final Table actual = t.updateBy(UpdateByOperation.RollingCountDistinct(3, "SymCount=Sym", "ValCount=Val"));
+        final Table expected = t.update(
+                "SymCount=new long[] {1, 2, 2, 2, 2, 1, 1, 1}[i]",
+                "ValCount=new long[] {1, 2, 2, 2, 2, 1, 1, 1}[i]");
+        assertTableEquals(expected, actual);
+
+        final Table actualNulls = t.updateBy(RollingCountDistinctSpec.of(true, WindowScale.ofTicks(3))
+                .clause("SymCount=Sym", "ValCount=Val"));
+        final Table expectedNulls = t.update(
+                "SymCount=new long[] {1, 2, 2, 3, 3, 2, 1, 2}[i]",
+                "ValCount=new long[] {1, 2, 2, 3, 3, 2, 1, 2}[i]");
+        assertTableEquals(expectedNulls, actualNulls);
+    }
+
+    // region Static Tests
+
+    @Test
+    public void testStaticZeroKeyRev() {
+        doTestStatic(false, 100, 0);
+    }
+
+    @Test
+    public void testStaticZeroKeyFwdExclusive() {
+        doTestStatic(false, -50, 100);
+    }
+
+    @Test
+    public void testStaticBucketedFwdRev() {
+        doTestStatic(true, 100, 100);
+    }
+
+    @Test
+    public void testStaticZeroKeyTimedRev() {
+        doTestStaticTimed(false, Duration.ofMinutes(10), Duration.ZERO);
+    }
+
+    @Test
+    public void testStaticBucketedTimedRevExclusive() {
+        doTestStaticTimed(true, Duration.ofMinutes(10), Duration.ofMinutes(-5));
+    }
+
+    private void doTestStatic(final boolean bucketed, final int prevTicks, final int postTicks) {
+        final QueryTable t = createTestTable(STATIC_TABLE_SIZE, bucketed, false, false, 0x31313131,
+                new String[] {"charCol"},
+                new TestDataGenerator[] {new CharGenerator('A', 'z', 0.1)}).t;
+
+        for (final boolean countNulls : new boolean[] {false, true}) {
+            final UpdateByOperation op = RollingCountDistinctSpec
+                    .of(countNulls, WindowScale.ofTicks(prevTicks), WindowScale.ofTicks(postTicks))
+                    .clause(columns);
+            final UpdateByOperation group = UpdateByOperation.RollingGroup(prevTicks, postTicks, columns);
+
+            final Table actual = bucketed ? t.updateBy(op, "Sym") : t.updateBy(op);
+            final Table expected = (bucketed ? t.updateBy(group, "Sym") : t.updateBy(group))
+                    .update(getFormulas(countNulls));
+            assertTableEquals(expected, actual);
+        }
+    }
+
+    private void doTestStaticTimed(final boolean bucketed, final Duration prevTime, final Duration postTime) {
+        final QueryTable t = createTestTable(STATIC_TABLE_SIZE, bucketed, false, false, 0xFFFABBBC,
+                new String[] {"ts", "charCol"}, new TestDataGenerator[] {new SortedInstantGenerator(
+                        DateTimeUtils.parseInstant("2022-03-09T09:00:00.000 NY"),
+                        DateTimeUtils.parseInstant("2022-03-09T16:30:00.000 NY")),
+                        new CharGenerator('A', 'z', 0.1)}).t;
+
+        for (final boolean countNulls : new boolean[] {false, true}) {
+            final UpdateByOperation op = RollingCountDistinctSpec
+                    .of(countNulls, WindowScale.ofTime("ts", prevTime), WindowScale.ofTime("ts", postTime))
+                    .clause(columns);
+            final UpdateByOperation group = UpdateByOperation.RollingGroup("ts", prevTime, postTime, columns);
+
+            final Table actual = bucketed ? t.updateBy(op, "Sym") : t.updateBy(op);
+            final Table expected = (bucketed ? t.updateBy(group, "Sym") : t.updateBy(group))
+                    .update(getFormulas(countNulls));
+            assertTableEquals(expected, actual);
+        }
+    }
+
+    // endregion
+
+    // region Ticking Tests
+
+    @Test
+    public void testZeroKeyAppendOnlyRev() {
+        final CreateResult result = createTestTable(DYNAMIC_TABLE_SIZE, false, false, true, 0x31313131,
+                new String[] {"charCol"},
+                new TestDataGenerator[] {new CharGenerator('A', 'z', 0.1)});
+        final QueryTable t = result.t;
+        t.setAttribute(Table.APPEND_ONLY_TABLE_ATTRIBUTE, Boolean.TRUE);
+
+        final EvalNugget[] nuggets = new EvalNugget[] {
+                EvalNugget.from(() -> t.updateBy(UpdateByOperation.RollingCountDistinct(100, columns)))
+        };
+
+        final Random billy = new Random(0xB177B177);
+        for (int ii = 0; ii < DYNAMIC_UPDATE_STEPS; ii++) {
+            ExecutionContext.getContext().getUpdateGraph().<ControlledUpdateGraph>cast().runWithinUnitTestCycle(
+                    () -> generateAppends(DYNAMIC_UPDATE_SIZE, billy, t, result.infos));
+            TstUtils.validate("Table", nuggets);
+        }
+    }
+
+    @Test
+    public void testZeroKeyGeneralTickingFwdRev() {
+        doTestTicking(false, 50, 50);
+    }
+
+    @Test
+    public void testBucketedGeneralTickingRevExclusive() {
+        doTestTicking(true, 100, -50);
+    }
+
+    @Test
+    public void testBucketedGeneralTickingTimedRev() {
+        doTestTickingTimed(true, Duration.ofMinutes(10), Duration.ZERO);
+    }
+
+    private void doTestTicking(final boolean bucketed, final long prevTicks, final long fwdTicks) {
+        final CreateResult result = createTestTable(DYNAMIC_TABLE_SIZE, bucketed, false, true, 0x31313131,
+                new String[] {"charCol"},
+                new TestDataGenerator[] {new CharGenerator('A', 'z', 0.1)});
+        final QueryTable t = result.t;
+
+        final UpdateByOperation countNullsOp = RollingCountDistinctSpec
+                .of(true, WindowScale.ofTicks(prevTicks), WindowScale.ofTicks(fwdTicks))
+                .clause(columns);
+        final EvalNugget[] nuggets = new EvalNugget[] {
+                EvalNugget.from(() -> bucketed ? t.updateBy(
+                        UpdateByOperation.RollingCountDistinct(prevTicks, fwdTicks, columns), "Sym")
+                        : t.updateBy(UpdateByOperation.RollingCountDistinct(prevTicks, fwdTicks, columns))),
+                EvalNugget.from(() -> bucketed ? t.updateBy(countNullsOp, "Sym") : t.updateBy(countNullsOp))
+        };
+
+        final Random billy = new Random(0xB177B177);
+        for (int ii = 0; ii < DYNAMIC_UPDATE_STEPS; ii++) {
+            ExecutionContext.getContext().getUpdateGraph().<ControlledUpdateGraph>cast().runWithinUnitTestCycle(
+                    () -> GenerateTableUpdates.generateTableUpdates(DYNAMIC_UPDATE_SIZE, billy, t, result.infos));
+            TstUtils.validate("Table - step " + ii, nuggets);
+        }
+    }
+
+    private void doTestTickingTimed(final boolean bucketed, final Duration prevTime, final Duration postTime) {
+        final CreateResult result = createTestTable(DYNAMIC_TABLE_SIZE, bucketed, false, true, 0x31313131,
+                new String[] {"ts", "charCol"}, new TestDataGenerator[] {new SortedInstantGenerator(
+                        DateTimeUtils.parseInstant("2022-03-09T09:00:00.000 NY"),
+                        DateTimeUtils.parseInstant("2022-03-09T16:30:00.000 NY")),
+                        new CharGenerator('A', 'z', 0.1)});
+        final QueryTable t = result.t;
+
+        final EvalNugget[] nuggets = new EvalNugget[] {
+                EvalNugget.from(() -> bucketed ? t.updateBy(
+                        UpdateByOperation.RollingCountDistinct("ts", prevTime, postTime, columns), "Sym")
+                        : t.updateBy(UpdateByOperation.RollingCountDistinct("ts", prevTime, postTime, columns)))
+        };
+
+        final Random billy = new Random(0xB177B177);
+        for (int ii = 0; ii < DYNAMIC_UPDATE_STEPS; ii++) {
+            ExecutionContext.getContext().getUpdateGraph().<ControlledUpdateGraph>cast().runWithinUnitTestCycle(
+                    () -> GenerateTableUpdates.generateTableUpdates(DYNAMIC_UPDATE_SIZE, billy, t, result.infos));
+            TstUtils.validate("Table - step " + ii, nuggets);
+        }
+    }
+
+    // endregion
+}
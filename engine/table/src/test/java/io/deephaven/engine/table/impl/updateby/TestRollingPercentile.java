@@ -0,0 +1,365 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.updateby;
+
+import io.deephaven.api.ColumnName;
+import io.deephaven.api.updateby.UpdateByControl;
+import io.deephaven.api.updateby.UpdateByOperation;
+import io.deephaven.api.updateby.spec.RollingPercentileSpec;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import io.deephaven.engine.testutil.EvalNugget;
+import io.deephaven.engine.testutil.GenerateTableUpdates;
+import io.deephaven.engine.testutil.TstUtils;
+import io.deephaven.engine.testutil.generator.CharGenerator;
+import io.deephaven.engine.testutil.generator.SortedInstantGenerator;
+import io.deephaven.engine.testutil.generator.TestDataGenerator;
+import io.deephaven.engine.util.TableDiff;
+import io.deephaven.engine.util.TableTools;
+import io.deephaven.test.types.OutOfBandTest;
+import io.deephaven.time.DateTimeUtils;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import static io.deephaven.engine.testutil.GenerateTableUpdates.generateAppends;
+import static io.deephaven.engine.testutil.TstUtils.assertTableEquals;
+import static io.deephaven.engine.testutil.testcase.RefreshingTableTestCase.simulateShiftAwareStep;
+import static io.deephaven.engine.util.TableTools.col;
+import static io.deephaven.engine.util.TableTools.intCol;
+import static io.deephaven.util.QueryConstants.NULL_INT;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+@Category(OutOfBandTest.class)
+public class TestRollingPercentile extends BaseUpdateByTest {
+    /**
+     * These are used in both the static and ticking tests and leverage the Numeric class percentile functions for
+     * verification.
+     */
+    final String[] primitiveColumns = new String[] {
+            "charCol",
+            "byteCol",
+            "shortCol",
+            "intCol",
+            "longCol",
+            "floatCol",
+            "doubleCol",
+    };
+
+    final double[] percentiles = new double[] {0.0, 0.25, 0.5, 0.9, 1.0};
+
+    final int STATIC_TABLE_SIZE = 10_000;
+    final int DYNAMIC_TABLE_SIZE = 1_000;
+    final int DYNAMIC_UPDATE_SIZE = 100;
+    final int DYNAMIC_UPDATE_STEPS = 20;
+
+    private String[] getFormulas(double percentile, String[] columns) {
+        return Arrays.stream(columns).map(c -> c + "=percentile(" + percentile + ", " + c + ")")
+                .toArray(String[]::new);
+    }
+
+    // For verification, we will upcast some columns and use already-defined Numeric class functions.
+    private String[] getUpcastingFormulas(String[] columns) {
+        return Arrays.stream(columns)
+                .map(c -> c.equals("charCol")
+                        ? String.format("%s=(short)%s", c, c)
+                        : null)
+                .filter(Objects::nonNull)
+                .toArray(String[]::new);
+    }
+
+    private String[] getDowncastingFormulas(String[] columns) {
+        return Arrays.stream(columns)
+                .map(c -> c.equals("charCol")
+                        ? String.format("%s=(char)%s", c, c)
+                        : null)
+                .filter(Objects::nonNull)
+                .toArray(String[]::new);
+    }
+
+    @Test
+    public void testSimpleMedian() {
+        final int[] values = new int[] {5, 1, NULL_INT, 4, 2, 2, 3, NULL_INT, NULL_INT, NULL_INT};
+        final Table t = TableTools.newTable(intCol("Val", values));
+
+        // for an even number of values, the upper of the two middle values is used
+        final Table actual = t.updateBy(UpdateByOperation.RollingMedian(4, "Med=Val"));
+        final Table expected = TableTools.newTable(intCol("Val", values),
+                intCol("Med", 5, 5, 5, 4, 2, 2, 3, 2, 3, 3));
+        assertTableEquals(expected, actual);
+    }
+
+    @Test
+    public void testInvalidPercentile() {
+        assertThrows(IllegalArgumentException.class, () -> RollingPercentileSpec.ofTicks(1.5, 10));
+        assertThrows(IllegalArgumentException.class, () -> RollingPercentileSpec.ofTicks(-0.1, 10));
+        assertThrows(IllegalArgumentException.class, () -> RollingPercentileSpec.ofTicks(Double.NaN, 10));
+    }
+
+    @Test
+    public void testBigValuesNotApplicable() {
+        final RollingPercentileSpec spec = RollingPercentileSpec.ofTicks(0.5, 4);
+        assertTrue(spec.applicableTo(int.class));
+        assertTrue(spec.applicableTo(Instant.class));
+        assertFalse(spec.applicableTo(BigInteger.class));
+        assertFalse(spec.applicableTo(BigDecimal.class));
+
+        // Without explicit columns, only the applicable columns are computed
+        final Table t = TableTools.newTable(intCol("Val", 5, 1, 4),
+                col("Big", BigDecimal.ONE, BigDecimal.TEN, BigDecimal.ZERO));
+        final Table actual = t.updateBy(UpdateByOperation.RollingMedian(4));
+        final Table expected = TableTools.newTable(intCol("Val", 5, 5, 4),
+                col("Big", BigDecimal.ONE, BigDecimal.TEN, BigDecimal.ZERO));
+        assertTableEquals(expected, actual);
+    }
+
+    // region Static Tests
+
+    @Test
+    public void testStaticZeroKeyRev() {
+        doTestStatic(false, 100, 0);
+    }
+
+    @Test
+    public void testStaticZeroKeyRevExclusive() {
+        doTestStatic(false, 100, -50);
+    }
+
+    @Test
+    public void testStaticZeroKeyFwd() {
+        doTestStatic(false, 0, 100);
+    }
+
+    @Test
+    public void testStaticZeroKeyFwdRevWindow() {
+        doTestStatic(false, 100, 100);
+    }
+
+    @Test
+    public void testStaticBucketedRev() {
+        doTestStatic(true, 100, 0);
+    }
+
+    @Test
+    public void testStaticBucketedFwdRevWindow() {
+        doTestStatic(true, 100, 100);
+    }
+
+    @Test
+    public void testStaticZeroKeyTimedRev() {
+        doTestStaticTimed(false, Duration.ofMinutes(10), Duration.ZERO);
+    }
+
+    @Test
+    public void testStaticZeroKeyTimedFwdRev() {
+        doTestStaticTimed(false, Duration.ofMinutes(10), Duration.ofMinutes(10));
+    }
+
+    @Test
+    public void testStaticBucketedTimedRevExclusive() {
+        doTestStaticTimed(true, Duration.ofMinutes(10), Duration.ofMinutes(-5));
+    }
+
+    @Test
+    public void testStaticBucketedTimedFwdRev() {
+        doTestStaticTimed(true, Duration.ofMinutes(5), Duration.ofMinutes(5));
+    }
+
+    private void doTestStatic(final boolean bucketed, final int prevTicks, final int postTicks) {
+        final QueryTable t = createTestTable(STATIC_TABLE_SIZE, bucketed, false, false, 0x31313131,
+                new String[] {"charCol"},
+                new TestDataGenerator[] {new CharGenerator('A', 'z', 0.1)}).t;
+
+        for (final double percentile : percentiles) {
+            final UpdateByOperation op = UpdateByOperation.RollingPercentile(percentile, prevTicks, postTicks,
+                    primitiveColumns);
+            final UpdateByOperation group = UpdateByOperation.RollingGroup(prevTicks, postTicks, primitiveColumns);
+
+            final Table actual = bucketed ? t.updateBy(op, "Sym") : t.updateBy(op);
+            final Table upcast = t.update(getUpcastingFormulas(primitiveColumns));
+            final Table expected = (bucketed ? upcast.updateBy(group, "Sym") : upcast.updateBy(group))
+                    .update(getFormulas(percentile, primitiveColumns))
+                    .update(getDowncastingFormulas(primitiveColumns));
+            TstUtils.assertTableEquals(expected, actual, TableDiff.DiffItems.DoublesExact);
+        }
+    }
+
+    private void doTestStaticTimed(final boolean bucketed, final Duration prevTime, final Duration postTime) {
+        final QueryTable t = createTestTable(STATIC_TABLE_SIZE, bucketed, false, false, 0xFFFABBBC,
+                new String[] {"ts", "charCol"}, new TestDataGenerator[] {new SortedInstantGenerator(
+                        DateTimeUtils.parseInstant("2022-03-09T09:00:00.000 NY"),
+                        DateTimeUtils.parseInstant("2022-03-09T16:30:00.000 NY")),
+                        new CharGenerator('A', 'z', 0.1)}).t;
+
+        for (final double percentile : percentiles) {
+            final UpdateByOperation op = UpdateByOperation.RollingPercentile(percentile, "ts", prevTime, postTime,
+                    primitiveColumns);
+            final UpdateByOperation group = UpdateByOperation.RollingGroup("ts", prevTime, postTime,
+                    primitiveColumns);
+
+            final Table actual = bucketed ? t.updateBy(op, "Sym") : t.updateBy(op);
+            final Table upcast = t.update(getUpcastingFormulas(primitiveColumns));
+            final Table expected = (bucketed ? upcast.updateBy(group, "Sym") : upcast.updateBy(group))
+                    .update(getFormulas(percentile, primitiveColumns))
+                    .update(getDowncastingFormulas(primitiveColumns));
+            TstUtils.assertTableEquals(expected, actual, TableDiff.DiffItems.DoublesExact);
+        }
+    }
+
+    // endregion
+
+    // region Append Only Tests
+
+    @Test
+    public void testZeroKeyAppendOnlyRev() {
+        doTestAppendOnly(false, 100, 0);
+    }
+
+    @Test
+    public void testBucketedAppendOnlyFwdRev() {
+        doTestAppendOnly(true, 50, 50);
+    }
+
+    private void doTestAppendOnly(final boolean bucketed, final int prevTicks, final int postTicks) {
+        final CreateResult result = createTestTable(DYNAMIC_TABLE_SIZE, bucketed, false, true, 0x31313131,
+                new String[] {"charCol"},
+                new TestDataGenerator[] {new CharGenerator('A', 'z', 0.1)});
+        final QueryTable t = result.t;
+        t.setAttribute(Table.APPEND_ONLY_TABLE_ATTRIBUTE, Boolean.TRUE);
+
+        final EvalNugget[] nuggets = new EvalNugget[] {
+                EvalNugget.from(() -> bucketed ? t.updateBy(
+                        UpdateByOperation.RollingMedian(prevTicks, postTicks, primitiveColumns), "Sym")
+                        : t.updateBy(UpdateByOperation.RollingMedian(prevTicks, postTicks, primitiveColumns))),
+                EvalNugget.from(() -> bucketed ? t.updateBy(
+                        UpdateByOperation.RollingPercentile(0.9, prevTicks, postTicks, primitiveColumns), "Sym")
+                        : t.updateBy(UpdateByOperation.RollingPercentile(0.9, prevTicks, postTicks, primitiveColumns)))
+        };
+
+        final Random billy = new Random(0xB177B177);
+        for (int ii = 0; ii < DYNAMIC_UPDATE_STEPS; ii++) {
+            ExecutionContext.getContext().getUpdateGraph().<ControlledUpdateGraph>cast().runWithinUnitTestCycle(
+                    () -> generateAppends(DYNAMIC_UPDATE_SIZE, billy, t, result.infos));
+            TstUtils.validate("Table", nuggets);
+        }
+    }
+
+    // endregion
+
+    // region General Ticking Tests
+
+    @Test
+    public void testZeroKeyGeneralTickingRev() {
+        doTestTicking(false, 100, 0);
+    }
+
+    @Test
+    public void testZeroKeyGeneralTickingFwdExclusive() {
+        doTestTicking(false, -50, 100);
+    }
+
+    @Test
+    public void testBucketedGeneralTickingRevExclusive() {
+        doTestTicking(true, 100, -50);
+    }
+
+    @Test
+    public void testBucketedGeneralTickingFwdRev() {
+        doTestTicking(true, 50, 50);
+    }
+
+    @Test
+    public void testZeroKeyGeneralTickingTimedRev() {
+        doTestTickingTimed(false, Duration.ofMinutes(10), Duration.ZERO);
+    }
+
+    @Test
+    public void testBucketedGeneralTickingTimedFwdRev() {
+        doTestTickingTimed(true, Duration.ofMinutes(5), Duration.ofMinutes(5));
+    }
+
+    private void doTestTicking(final boolean bucketed, final long prevTicks, final long fwdTicks) {
+        final CreateResult result = createTestTable(DYNAMIC_TABLE_SIZE, bucketed, false, true, 0x31313131,
+                new String[] {"charCol"},
+                new TestDataGenerator[] {new CharGenerator('A', 'z', 0.1)});
+        final QueryTable t = result.t;
+
+        final EvalNugget[] nuggets = new EvalNugget[] {
+                EvalNugget.from(() -> bucketed ? t.updateBy(
+                        UpdateByOperation.RollingMedian(prevTicks, fwdTicks, primitiveColumns), "Sym")
+                        : t.updateBy(UpdateByOperation.RollingMedian(prevTicks, fwdTicks, primitiveColumns))),
+                EvalNugget.from(() -> bucketed ? t.updateBy(
+                        UpdateByOperation.RollingPercentile(0.25, prevTicks, fwdTicks, primitiveColumns), "Sym")
+                        : t.updateBy(UpdateByOperation.RollingPercentile(0.25, prevTicks, fwdTicks, primitiveColumns)))
+        };
+
+        final Random billy = new Random(0xB177B177);
+        for (int ii = 0; ii < DYNAMIC_UPDATE_STEPS; ii++) {
+            ExecutionContext.getContext().getUpdateGraph().<ControlledUpdateGraph>cast().runWithinUnitTestCycle(
+                    () -> GenerateTableUpdates.generateTableUpdates(DYNAMIC_UPDATE_SIZE, billy, t, result.infos));
+            TstUtils.validate("Table - step " + ii, nuggets);
+        }
+    }
+
+    private void doTestTickingTimed(final boolean bucketed, final Duration prevTime, final Duration postTime) {
+        final CreateResult result = createTestTable(DYNAMIC_TABLE_SIZE, bucketed, false, true, 0x31313131,
+                new String[] {"ts", "charCol"}, new TestDataGenerator[] {new SortedInstantGenerator(
+                        DateTimeUtils.parseInstant("2022-03-09T09:00:00.000 NY"),
+                        DateTimeUtils.parseInstant("2022-03-09T16:30:00.000 NY")),
+                        new CharGenerator('A', 'z', 0.1)});
+        final QueryTable t = result.t;
+
+        final EvalNugget[] nuggets = new EvalNugget[] {
+                EvalNugget.from(() -> bucketed ? t.updateBy(
+                        UpdateByOperation.RollingMedian("ts", prevTime, postTime, primitiveColumns), "Sym")
+                        : t.updateBy(UpdateByOperation.RollingMedian("ts", prevTime, postTime, primitiveColumns))),
+                EvalNugget.from(() -> bucketed ? t.updateBy(
+                        UpdateByOperation.RollingPercentile(0.25, "ts", prevTime, postTime, primitiveColumns), "Sym")
+                        : t.updateBy(
+                                UpdateByOperation.RollingPercentile(0.25, "ts", prevTime, postTime, primitiveColumns)))
+        };
+
+        final Random billy = new Random(0xB177B177);
+        for (int ii = 0; ii < DYNAMIC_UPDATE_STEPS; ii++) {
+            ExecutionContext.getContext().getUpdateGraph().<ControlledUpdateGraph>cast().runWithinUnitTestCycle(
+                    () -> GenerateTableUpdates.generateTableUpdates(DYNAMIC_UPDATE_SIZE, billy, t, result.infos));
+            TstUtils.validate("Table - step " + ii, nuggets);
+        }
+    }
+
+    @Test
+    public void testBucketedGeneralTickingRevRedirected() {
+        final CreateResult result = createTestTable(DYNAMIC_TABLE_SIZE, true, false, true, 0x31313131,
+                new String[] {"charCol"},
+                new TestDataGenerator[] {new CharGenerator('A', 'z', 0.1)});
+        final QueryTable t = result.t;
+
+        final UpdateByControl control = UpdateByControl.builder().useRedirection(true).build();
+
+        final EvalNugget[] nuggets = new EvalNugget[] {
+                EvalNugget.from(() -> t.updateBy(control,
+                        List.of(UpdateByOperation.RollingMedian(100, 0, primitiveColumns)),
+                        ColumnName.from("Sym")))
+        };
+
+        final Random billy = new Random(0xB177B177);
+        for (int ii = 0; ii < DYNAMIC_UPDATE_STEPS; ii++) {
+            simulateShiftAwareStep(DYNAMIC_UPDATE_SIZE, billy, t, result.infos, nuggets);
+        }
+    }
+
+    // endregion
+}
@@ -21,12 +21,14 @@ import io.deephaven.engine.testutil.TstUtils;
 import io.deephaven.engine.testutil.generator.CharGenerator;
 import io.deephaven.engine.testutil.generator.TestDataGenerator;
 import io.deephaven.engine.testutil.generator.SortedInstantGenerator;
+import io.deephaven.engine.updategraph.OperationInitializer;
 import io.deephaven.engine.updategraph.TerminalNotification;
 import io.deephaven.engine.util.TableDiff;
 import io.deephaven.engine.util.TableTools;
 import io.deephaven.test.types.OutOfBandTest;
 import io.deephaven.time.DateTimeUtils;
 import io.deephaven.util.ExceptionDetails;
+import io.deephaven.util.SafeCloseable;
 import junit.framework.TestCase;
 import org.jetbrains.annotations.NotNull;
 import org.junit.After;
@@ -37,6 +39,10 @@ import org.junit.experimental.categories.Category;
 
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.deephaven.api.updateby.UpdateByOperation.*;
 import static io.deephaven.engine.testutil.GenerateTableUpdates.generateAppends;
@@ -394,4 +400,76 @@ public class TestUpdateByGeneral extends BaseUpdateByTest implements UpdateError
                         "rollingGroupX",
                         "rollingMax"});
     }
+
+    @Test
+    public void testParallelBucketPreparationMatchesSerial() {
+        final Table source = TableTools.emptyTable(50_000).update(
+                "Sym = `S` + (ii % 997)",
+                "X = ii % 13 == 0 ? NULL_INT : (int) (ii * 31 % 101)");
+        final List<UpdateByOperation> ops = List.of(
+                RollingSum(20, 5, "SumX=X"),
+                RollingAvg(7, "AvgX=X"),
+                RollingMin(50, 10, "MinX=X"),
+                CumSum("CumX=X"));
+
+        final Table serial;
+        try (final SafeCloseable ignored = ExecutionContext.getContext()
+                .withOperationInitializer(OperationInitializer.NON_PARALLELIZABLE).open()) {
+            serial = source.updateBy(ops, "Sym");
+        }
+
+        final Table parallel;
+        try (final ForcedParallelInitializer initializer = new ForcedParallelInitializer(4);
+                final SafeCloseable ignored = ExecutionContext.getContext()
+                        .withOperationInitializer(initializer).open()) {
+            parallel = source.updateBy(ops, "Sym");
+            Assert.assertTrue("parallel path was not used", initializer.submitted.get() > 0);
+        }
+
+        assertTableEquals(serial, parallel);
+    }
+
+    /**
+     * An {@link OperationInitializer} that allows parallel initialization from any thread outside its own pool,
+     * regardless of the number of available processors.
+     */
+    private static final class ForcedParallelInitializer implements OperationInitializer, SafeCloseable {
+        private final ThreadLocal<Boolean> isWorkerThread = ThreadLocal.withInitial(() -> false);
+        private final AtomicInteger submitted = new AtomicInteger();
+        private final int threads;
+        private final ExecutorService executor;
+
+        private ForcedParallelInitializer(final int threads) {
+            this.threads = threads;
+            executor = Executors.newFixedThreadPool(threads, runnable -> {
+                final Thread thread = new Thread(() -> {
+                    isWorkerThread.set(true);
+                    runnable.run();
+                }, "ForcedParallelInitializer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        @Override
+        public boolean canParallelize() {
+            return !isWorkerThread.get();
+        }
+
+        @Override
+        public Future<?> submit(final Runnable runnable) {
+            submitted.incrementAndGet();
+            return executor.submit(runnable);
+        }
+
+        @Override
+        public int parallelismFactor() {
+            return threads;
+        }
+
+        @Override
+        public void close() {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,223 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.util;
+
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import io.deephaven.engine.testutil.TstUtils;
+import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import io.deephaven.tablelogger.Row;
+import io.deephaven.tablelogger.RowSetter;
+import io.deephaven.time.DateTimeUtils;
+import io.deephaven.util.mutable.MutableLong;
+import junit.framework.TestCase;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static io.deephaven.engine.util.TableTools.*;
+
+public class TestConcurrentTableWriter {
+
+    @Rule
+    public final EngineCleanup framework = new EngineCleanup();
+
+    @Test
+    public void testTypesAndTransactions() {
+        final TableDefinition definition = TableDefinition.from(
+                List.of("BC", "CC", "SC", "IC", "LC", "FC", "DC", "StrC", "BLC", "DTC"),
+                List.of(byte.class, char.class, short.class, int.class, long.class, float.class, double.class,
+                        String.class, Boolean.class, Instant.class));
+        final ConcurrentTableWriter writer = new ConcurrentTableWriter(definition);
+        final Table result = writer.getTable();
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+
+        final Row row = writer.getRowWriter();
+        setAll(row, 1, "One", true, DateTimeUtils.parseInstant("2020-09-16T07:55:00 NY"));
+        row.writeRow();
+        updateGraph.runWithinUnitTestCycle(writer::run);
+
+        final Table expected1 = newTable(byteCol("BC", (byte) 1), charCol("CC", 'B'), shortCol("SC", (short) 1),
+                intCol("IC", 1), longCol("LC", 1), floatCol("FC", 1.5f), doubleCol("DC", 1.25),
+                stringCol("StrC", "One"), col("BLC", true),
+                col("DTC", DateTimeUtils.parseInstant("2020-09-16T07:55:00 NY")));
+        TstUtils.assertTableEquals(expected1, result);
+
+        // An abandoned transaction is discarded when the next one starts
+        setAll(row, 2, "Two", false, DateTimeUtils.parseInstant("2020-09-16T08:55:00 NY"));
+        row.setFlags(Row.Flags.StartTransaction);
+        row.writeRow();
+        setAll(row, 3, "Three", false, DateTimeUtils.parseInstant("2020-09-16T09:55:00 NY"));
+        row.setFlags(Row.Flags.StartTransaction);
+        row.writeRow();
+        updateGraph.runWithinUnitTestCycle(writer::run);
+        TstUtils.assertTableEquals(expected1, result);
+
+        setAll(row, 4, null, null, null);
+        row.setFlags(Row.Flags.EndTransaction);
+        row.writeRow();
+        updateGraph.runWithinUnitTestCycle(writer::run);
+
+        final Table expected2 = newTable(byteCol("BC", (byte) 1, (byte) 3, (byte) 4),
+                charCol("CC", 'B', 'D', 'E'),
+                shortCol("SC", (short) 1, (short) 3, (short) 4),
+                intCol("IC", 1, 3, 4),
+                longCol("LC", 1, 3, 4),
+                floatCol("FC", 1.5f, 3.5f, 4.5f),
+                doubleCol("DC", 1.25, 3.25, 4.25),
+                stringCol("StrC", "One", "Three", null),
+                col("BLC", true, false, null),
+                col("DTC", DateTimeUtils.parseInstant("2020-09-16T07:55:00 NY"),
+                        DateTimeUtils.parseInstant("2020-09-16T09:55:00 NY"), null));
+        TstUtils.assertTableEquals(expected2, result);
+        writer.close();
+    }
+
+    @Test
+    public void testTransactionLargerThanBlock() {
+        final ConcurrentTableWriter writer = new ConcurrentTableWriter(
+                TableDefinition.from(List.of("I"), List.of(int.class)), ConcurrentTableWriter.Ordering.PRODUCER, 4);
+        final Table result = writer.getTable();
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+
+        final RowSetter<Integer> setter = writer.getSetter("I", int.class);
+        writer.setFlags(Row.Flags.SingleRow);
+        setter.setInt(0);
+        writer.writeRow();
+
+        for (int ii = 1; ii <= 10; ++ii) {
+            writer.setFlags(ii == 1 ? Row.Flags.StartTransaction
+                    : ii == 10 ? Row.Flags.EndTransaction : Row.Flags.None);
+            setter.setInt(ii);
+            writer.writeRow();
+            if (ii == 5) {
+                updateGraph.runWithinUnitTestCycle(writer::run);
+                TstUtils.assertTableEquals(newTable(intCol("I", 0)), result);
+            }
+        }
+        updateGraph.runWithinUnitTestCycle(writer::run);
+        TstUtils.assertTableEquals(newTable(intCol("I", 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10)), result);
+        writer.close();
+    }
+
+    @Test
+    public void testConcurrentProducers() throws InterruptedException {
+        for (final ConcurrentTableWriter.Ordering ordering : ConcurrentTableWriter.Ordering.values()) {
+            testConcurrentProducers(ordering);
+        }
+    }
+
+    private void testConcurrentProducers(final ConcurrentTableWriter.Ordering ordering) throws InterruptedException {
+        final int numProducers = 8;
+        final int rowsPerProducer = 20_000;
+        final ConcurrentTableWriter writer = new ConcurrentTableWriter(
+                TableDefinition.from(List.of("Producer", "Sequence", "Global"),
+                        List.of(int.class, long.class, long.class)),
+                ordering, 64);
+        final Table result = writer.getTable();
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+
+        final CountDownLatch done = new CountDownLatch(numProducers);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        // When ordering by commit sequence, producers number their rows globally, holding a lock from the start of
+        // each transaction until it commits, so that the commit order matches the global numbering
+        final boolean checkGlobalOrder = ordering == ConcurrentTableWriter.Ordering.COMMIT_SEQUENCE;
+        final Lock commitLock = new ReentrantLock();
+        final MutableLong nextGlobal = new MutableLong();
+        final List<Thread> threads = new ArrayList<>();
+        for (int pi = 0; pi < numProducers; ++pi) {
+            final int producer = pi;
+            final Thread thread = new Thread(() -> {
+                try {
+                    final Row row = writer.getRowWriter();
+                    final RowSetter<Integer> producerSetter = row.getSetter("Producer", int.class);
+                    final RowSetter<Long> sequenceSetter = row.getSetter("Sequence", long.class);
+                    final RowSetter<Long> globalSetter = row.getSetter("Global", long.class);
+                    for (int ri = 0; ri < rowsPerProducer; ++ri) {
+                        // Alternate single rows with small transactions
+                        final boolean startsCommit = ri % 4 == 0 || ri % 4 == 3;
+                        final boolean endsCommit = ri % 4 == 2 || ri % 4 == 3;
+                        row.setFlags(ri % 4 == 0 ? Row.Flags.StartTransaction
+                                : ri % 4 == 2 ? Row.Flags.EndTransaction
+                                        : ri % 4 == 1 ? Row.Flags.None : Row.Flags.SingleRow);
+                        if (checkGlobalOrder && startsCommit) {
+                            commitLock.lock();
+                        }
+                        try {
+                            producerSetter.setInt(producer);
+                            sequenceSetter.setLong(ri);
+                            globalSetter.setLong(checkGlobalOrder ? nextGlobal.getAndIncrement() : 0);
+                            row.writeRow();
+                        } finally {
+                            if (checkGlobalOrder && endsCommit) {
+                                commitLock.unlock();
+                            }
+                        }
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                } finally {
+                    done.countDown();
+                }
+            }, "TestConcurrentTableWriter-" + producer);
+            thread.start();
+            threads.add(thread);
+        }
+
+        while (done.getCount() > 0) {
+            updateGraph.runWithinUnitTestCycle(writer::run);
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        updateGraph.runWithinUnitTestCycle(writer::run);
+        TestCase.assertNull(failure.get());
+
+        TestCase.assertEquals((long) numProducers * rowsPerProducer, result.size());
+        final ColumnSource<Integer> producers = result.getColumnSource("Producer", int.class);
+        final ColumnSource<Long> sequences = result.getColumnSource("Sequence", long.class);
+        final ColumnSource<Long> globals = result.getColumnSource("Global", long.class);
+        final long[] lastSequence = new long[numProducers];
+        Arrays.fill(lastSequence, -1);
+        final MutableLong lastGlobal = new MutableLong(-1);
+        result.getRowSet().forAllRowKeys(rowKey -> {
+            final int producer = producers.getInt(rowKey);
+            final long sequence = sequences.getLong(rowKey);
+            TestCase.assertEquals(lastSequence[producer] + 1, sequence);
+            lastSequence[producer] = sequence;
+            if (checkGlobalOrder) {
+                final long global = globals.getLong(rowKey);
+                TestCase.assertTrue(ordering + ": " + global + " follows " + lastGlobal.get(),
+                        global > lastGlobal.get());
+                lastGlobal.set(global);
+            }
+        });
+        writer.close();
+    }
+
+    private static void setAll(final Row row, final int value, final String string, final Boolean bool,
+            final Instant instant) {
+        row.getSetter("BC").setByte((byte) value);
+        row.getSetter("CC").setChar((char) ('A' + value));
+        row.getSetter("SC").setShort((short) value);
+        row.getSetter("IC").setInt(value);
+        row.getSetter("LC").setLong(value);
+        row.getSetter("FC").setFloat(value + 0.5f);
+        row.getSetter("DC").setDouble(value + 0.25);
+        row.getSetter("StrC", String.class).set(string);
+        row.getSetter("BLC", Boolean.class).set(bool);
+        row.getSetter("DTC", Instant.class).set(instant);
+    }
+}
@@ -0,0 +1,119 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.util;
+
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetBuilderSequential;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.sources.ArrayBackedColumnSource;
+import io.deephaven.engine.table.impl.sources.BooleanArraySource;
+import io.deephaven.engine.table.impl.sources.LongArraySource;
+import io.deephaven.engine.table.impl.sources.LongSparseArraySource;
+import io.deephaven.engine.table.impl.sources.immutable.ImmutableIntArraySource;
+import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import io.deephaven.engine.util.TableTools;
+import junit.framework.TestCase;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+public class TestMemoryAccounting {
+
+    @Rule
+    public final EngineCleanup framework = new EngineCleanup();
+
+    @Test
+    public void testColumnSources() {
+        final LongArraySource longs = new LongArraySource();
+        TestCase.assertEquals(0, longs.estimateRetainedBytes());
+        longs.ensureCapacity(5000);
+        final long longBlockBytes = (long) ArrayBackedColumnSource.BLOCK_SIZE * Long.BYTES;
+        assertBetween(3 * longBlockBytes, 3 * longBlockBytes + 1024, longs.estimateRetainedBytes());
+
+        final BooleanArraySource booleans = new BooleanArraySource();
+        booleans.ensureCapacity(10);
+        assertBetween(ArrayBackedColumnSource.BLOCK_SIZE, ArrayBackedColumnSource.BLOCK_SIZE + 1024,
+                booleans.estimateRetainedBytes());
+
+        final ImmutableIntArraySource ints = new ImmutableIntArraySource();
+        ints.ensureCapacity(1000);
+        TestCase.assertEquals(1000L * Integer.BYTES, ints.estimateRetainedBytes());
+
+        final LongSparseArraySource sparse = new LongSparseArraySource();
+        TestCase.assertEquals(0, sparse.estimateRetainedBytes());
+        sparse.set(0, 1L);
+        sparse.set(1L << 40, 2L);
+        TestCase.assertTrue(sparse.estimateRetainedBytes() > 0);
+        TestCase.assertEquals(sparse.estimateSize(), sparse.estimateRetainedBytes());
+    }
+
+    @Test
+    public void testRowSets() {
+        try (final RowSet flat = RowSetFactory.flat(1_000_000)) {
+            TestCase.assertTrue(flat.estimateRetainedBytes() < 1024);
+        }
+        final RowSetBuilderSequential builder = RowSetFactory.builderSequential();
+        for (long key = 0; key < 1_000_000; key += 3) {
+            builder.appendKey(key);
+        }
+        try (final RowSet sparse = builder.build()) {
+            // A bitmap or array per 64K-key span, so at least a bit per key in range
+            TestCase.assertTrue(sparse.estimateRetainedBytes() >= 1_000_000 / 8);
+        }
+    }
+
+    @Test
+    public void testTables() {
+        final Table source = TableTools.emptyTable(10_000).update("X = i", "Y = (long) i * 2");
+        final Set<Object> alreadyCounted = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Map<String, Long> sourceBytes = MemoryAccounting.estimateRetainedBytesByColumn(source, alreadyCounted);
+        TestCase.assertTrue(sourceBytes.containsKey(MemoryAccounting.ROW_SET_KEY));
+        // Results may be held in flat arrays or in blocks; allow for one partially-filled block
+        final long slack = ArrayBackedColumnSource.BLOCK_SIZE * Long.BYTES + 1024;
+        assertBetween(10_000L * Integer.BYTES, 10_000L * Integer.BYTES + slack, sourceBytes.get("X"));
+        assertBetween(10_000L * Long.BYTES, 10_000L * Long.BYTES + slack, sourceBytes.get("Y"));
+        TestCase.assertEquals(sourceBytes.values().stream().mapToLong(Long::longValue).sum(),
+                MemoryAccounting.estimateRetainedBytes(source));
+
+        // The filtered table shares its parent's column sources, which are attributed to the parent
+        final Table filtered = source.where("X % 3 == 0");
+        final Map<String, Long> filteredBytes =
+                MemoryAccounting.estimateRetainedBytesByColumn(filtered, alreadyCounted);
+        TestCase.assertEquals(0L, (long) filteredBytes.get("X"));
+        TestCase.assertEquals(0L, (long) filteredBytes.get("Y"));
+        TestCase.assertTrue(filteredBytes.get(MemoryAccounting.ROW_SET_KEY) > 0);
+    }
+
+    @Test
+    public void testAggregationState() {
+        // A static aggregation's key columns are its hash table's key storage, and nothing else is retained
+        final Table staticResult = TableTools.emptyTable(10_000).update("K = i % 1000", "V = (long) i").sumBy("K");
+        TestCase.assertFalse(MemoryAccounting.estimateRetainedBytesByColumn(staticResult,
+                Collections.newSetFromMap(new IdentityHashMap<>())).containsKey(MemoryAccounting.OPERATION_STATE_KEY));
+
+        // A refreshing aggregation copies its key columns, and is charged for the hash table it keeps
+        final QueryTable source = (QueryTable) TableTools.emptyTable(10_000)
+                .update("K = i % 1000", "V = (long) i").select();
+        source.setRefreshing(true);
+        final Table result = source.sumBy("K");
+        final Map<String, Long> resultBytes = MemoryAccounting.estimateRetainedBytesByColumn(result,
+                Collections.newSetFromMap(new IdentityHashMap<>()));
+        TestCase.assertTrue(resultBytes.containsKey(MemoryAccounting.OPERATION_STATE_KEY));
+        // At least the hash table's int keys, one per group
+        TestCase.assertTrue(resultBytes.get(MemoryAccounting.OPERATION_STATE_KEY) >= 1000L * Integer.BYTES);
+        TestCase.assertEquals(resultBytes.values().stream().mapToLong(Long::longValue).sum(),
+                MemoryAccounting.estimateRetainedBytes(result));
+    }
+
+    private static void assertBetween(final long lower, final long upper, final long actual) {
+        TestCase.assertTrue(actual + " < " + lower, actual >= lower);
+        TestCase.assertTrue(actual + " > " + upper, actual <= upper);
+    }
+}
@@ -131,6 +131,55 @@ public class TestEventDrivenUpdateGraph {
         }
     }
 
+    @Test
+    public void testBusySpin() throws InterruptedException {
+        final EventDrivenUpdateGraph eventDrivenUpdateGraph =
+                EventDrivenUpdateGraph.newBuilder("TestEDUG").busySpin(true).build();
+
+        final ExecutionContext context = makeContext(eventDrivenUpdateGraph);
+        try (final SafeCloseable ignored = context.open()) {
+            final SourceThatRefreshes sourceThatRefreshes = new SourceThatRefreshes(eventDrivenUpdateGraph);
+            final Table updated =
+                    eventDrivenUpdateGraph.sharedLock().computeLocked(() -> sourceThatRefreshes.update("X=i"));
+
+            // requests return immediately, and the refresh thread runs a cycle for each one that it observes
+            final int steps = 100;
+            for (int step = 1; step <= steps; ++step) {
+                eventDrivenUpdateGraph.requestRefresh();
+                awaitSize(eventDrivenUpdateGraph, updated, step);
+                TestCase.assertEquals(step, updated.size());
+            }
+
+            // requesting a refresh from the update thread is permitted, and is coalesced into a later cycle
+            final CountDownLatch refreshed = new CountDownLatch(1);
+            eventDrivenUpdateGraph.addNotification(new TerminalNotification() {
+                @Override
+                public void run() {
+                    eventDrivenUpdateGraph.requestRefresh();
+                    refreshed.countDown();
+                }
+            });
+            eventDrivenUpdateGraph.requestRefresh();
+            TestCase.assertTrue(refreshed.await(10, TimeUnit.SECONDS));
+            // one cycle for our request, and one more for the request made by the terminal notification
+            awaitSize(eventDrivenUpdateGraph, updated, steps + 2);
+            TestCase.assertEquals(steps + 2, updated.size());
+        } finally {
+            eventDrivenUpdateGraph.stop();
+        }
+    }
+
+    private static void awaitSize(
+            final UpdateGraph updateGraph,
+            final Table table,
+            final long expectedSize) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 10_000;
+        while (updateGraph.sharedLock().computeLocked(table::size) < expectedSize) {
+            TestCase.assertTrue("Timed out waiting for size " + expectedSize, System.currentTimeMillis() < deadline);
+            Thread.sleep(1);
+        }
+    }
+
     @Test
     public void testSimpleModify() {
         final EventDrivenUpdateGraph eventDrivenUpdateGraph = new EventDrivenUpdateGraph.Builder("TestEDUG").build();
@@ -0,0 +1,244 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.updategraph.impl;
+
+import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import io.deephaven.engine.updategraph.AbstractNotification;
+import io.deephaven.engine.updategraph.OperationInitializer;
+import io.deephaven.util.thread.ThreadInitializationFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongPredicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the concurrent notification processor of {@link PeriodicUpdateGraph}.
+ */
+public class TestPeriodicUpdateGraph {
+
+    private static final int UPDATE_THREADS = 4;
+
+    @Rule
+    public final EngineCleanup base = new EngineCleanup();
+
+    private PeriodicUpdateGraph updateGraph;
+
+    @Before
+    public void setUp() {
+        updateGraph = new PeriodicUpdateGraph("TestPUG", true, 1000, 25, UPDATE_THREADS,
+                ThreadInitializationFactory.NO_OP, OperationInitializer.NON_PARALLELIZABLE);
+        updateGraph.enableUnitTestMode();
+        updateGraph.resetForUnitTests(false);
+        assertEquals(UPDATE_THREADS, updateGraph.parallelismFactor());
+    }
+
+    @After
+    public void tearDown() {
+        updateGraph.stop();
+    }
+
+    /**
+     * A notification that records its completion, and may only run once {@code canExecute} allows it.
+     */
+    private class RecordingNotification extends AbstractNotification {
+        private final String name;
+        private final List<String> runOrder;
+        private final LongPredicate canExecute;
+        private volatile long completedStep = -1;
+        private final AtomicInteger runCount = new AtomicInteger();
+
+        private RecordingNotification(
+                final String name,
+                final List<String> runOrder,
+                final LongPredicate canExecute) {
+            super(false);
+            this.name = name;
+            this.runOrder = runOrder;
+            this.canExecute = canExecute;
+        }
+
+        @Override
+        public boolean canExecute(final long step) {
+            return canExecute.test(step);
+        }
+
+        @Override
+        public void run() {
+            runCount.incrementAndGet();
+            doRun();
+            runOrder.add(name);
+            completedStep = updateGraph.clock().currentStep();
+        }
+
+        void doRun() {}
+
+        boolean completedOn(final long step) {
+            return completedStep == step;
+        }
+    }
+
+    @Test
+    public void testIdleThreadsStealQueuedWork() throws InterruptedException {
+        final int notificationCount = UPDATE_THREADS * 4;
+        final List<String> runOrder = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch othersComplete = new CountDownLatch(notificationCount - 1);
+        final CountDownLatch blockerDone = new CountDownLatch(1);
+        final AtomicInteger blockerWaitSucceeded = new AtomicInteger();
+
+        final List<RecordingNotification> others = new ArrayList<>();
+        final RecordingNotification blocker = new RecordingNotification("blocker", runOrder, step -> true) {
+            @Override
+            void doRun() {
+                // Everything queued behind us on our own deque must be stolen by the other update threads
+                try {
+                    if (othersComplete.await(10, TimeUnit.SECONDS)) {
+                        blockerWaitSucceeded.incrementAndGet();
+                    }
+                } catch (InterruptedException ignored) {
+                }
+                blockerDone.countDown();
+            }
+        };
+        for (int ni = 1; ni < notificationCount; ++ni) {
+            others.add(new RecordingNotification("other" + ni, runOrder, step -> true) {
+                @Override
+                void doRun() {
+                    othersComplete.countDown();
+                }
+            });
+        }
+
+        updateGraph.runWithinUnitTestCycle(() -> {
+            updateGraph.addNotification(blocker);
+            others.forEach(updateGraph::addNotification);
+        });
+
+        assertTrue(blockerDone.await(0, TimeUnit.SECONDS));
+        assertEquals("blocker waited for its queued peers", 1, blockerWaitSucceeded.get());
+        assertEquals(notificationCount, runOrder.size());
+        assertEquals(1, blocker.runCount.get());
+        for (final RecordingNotification other : others) {
+            assertEquals(1, other.runCount.get());
+        }
+    }
+
+    @Test
+    public void testNotificationsRunOnlyOnceSatisfied() {
+        for (int cycle = 0; cycle < 100; ++cycle) {
+            final List<String> runOrder = Collections.synchronizedList(new ArrayList<>());
+            final RecordingNotification[] parentHolder = new RecordingNotification[1];
+            final RecordingNotification[] childHolder = new RecordingNotification[1];
+
+            // Enqueued by the parent while it runs; satisfied as soon as the parent completes
+            final RecordingNotification deferred = new RecordingNotification("deferred", runOrder,
+                    step -> parentHolder[0].completedOn(step));
+            // Enqueued by the parent while it runs; must wait for both the parent and the child
+            final RecordingNotification grandchild = new RecordingNotification("grandchild", runOrder,
+                    step -> parentHolder[0].completedOn(step) && childHolder[0].completedOn(step));
+            final RecordingNotification parent = new RecordingNotification("parent", runOrder, step -> true) {
+                @Override
+                void doRun() {
+                    updateGraph.addNotification(grandchild);
+                    updateGraph.addNotification(deferred);
+                }
+            };
+            final RecordingNotification child = new RecordingNotification("child", runOrder,
+                    step -> parent.completedOn(step));
+            parentHolder[0] = parent;
+            childHolder[0] = child;
+
+            updateGraph.runWithinUnitTestCycle(() -> {
+                // The child is enqueued first, but cannot be submitted until its parent completes
+                updateGraph.addNotification(child);
+                updateGraph.addNotification(parent);
+            });
+
+            assertEquals(4, runOrder.size());
+            assertEquals("parent", runOrder.get(0));
+            assertTrue(runOrder.indexOf("grandchild") > runOrder.indexOf("child"));
+            for (final RecordingNotification notification : List.of(parent, child, deferred, grandchild)) {
+                assertEquals(1, notification.runCount.get());
+            }
+        }
+    }
+
+    @Test
+    public void testStopTerminatesUpdateThreads() throws InterruptedException {
+        final Set<Thread> updateThreads = ConcurrentHashMap.newKeySet();
+        final int notificationCount = UPDATE_THREADS * 8;
+        updateGraph.runWithinUnitTestCycle(() -> {
+            for (int ni = 0; ni < notificationCount; ++ni) {
+                updateGraph.addNotification(new RecordingNotification("n" + ni,
+                        Collections.synchronizedList(new ArrayList<>()), step -> true) {
+                    @Override
+                    void doRun() {
+                        updateThreads.add(Thread.currentThread());
+                    }
+                });
+            }
+        });
+        assertFalse(updateThreads.isEmpty());
+
+        // All update threads are now idle; stopping must wake and join them
+        updateGraph.stop();
+        for (final Thread updateThread : updateThreads) {
+            updateThread.join(TimeUnit.SECONDS.toMillis(10));
+            assertFalse(updateThread.getName() + " is still alive", updateThread.isAlive());
+        }
+    }
+
+    @Test
+    public void testCriticalPathOrdering() {
+        final String prioritizeProperty = "UpdateGraph.prioritizeCriticalPath";
+        final Configuration configuration = Configuration.getInstance();
+        final String previous = configuration.getStringWithDefault(prioritizeProperty, "false");
+        final PeriodicUpdateGraph serialGraph;
+        configuration.setProperty(prioritizeProperty, "true");
+        try {
+            // A single update thread runs notifications in the order they are submitted
+            serialGraph = new PeriodicUpdateGraph("TestPUGCriticalPath", true, 1000, 25, 1,
+                    ThreadInitializationFactory.NO_OP, OperationInitializer.NON_PARALLELIZABLE);
+        } finally {
+            configuration.setProperty(prioritizeProperty, previous);
+        }
+        try {
+            serialGraph.enableUnitTestMode();
+            serialGraph.resetForUnitTests(false);
+
+            final List<String> runOrder = Collections.synchronizedList(new ArrayList<>());
+            final long[] estimates = {0, 30, 10, 30, 20};
+            serialGraph.runWithinUnitTestCycle(() -> {
+                for (int ni = 0; ni < estimates.length; ++ni) {
+                    final long estimate = estimates[ni];
+                    serialGraph.addNotification(new RecordingNotification("n" + ni, runOrder, step -> true) {
+                        @Override
+                        public long getCriticalPathEstimateNanos() {
+                            return estimate;
+                        }
+                    });
+                }
+            });
+
+            // Longest critical path first, FIFO among ties
+            assertEquals(List.of("n1", "n3", "n4", "n2", "n0"), runOrder);
+        } finally {
+            serialGraph.stop();
+        }
+    }
+}
@@ -0,0 +1,295 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.stream;
+
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.WritableDoubleChunk;
+import io.deephaven.chunk.WritableIntChunk;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.WritableObjectChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.engine.table.impl.BlinkTableTools;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import io.deephaven.engine.testutil.TstUtils;
+import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import io.deephaven.engine.util.TableTools;
+import junit.framework.TestCase;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.deephaven.engine.util.TableTools.col;
+import static io.deephaven.engine.util.TableTools.doubleCol;
+import static io.deephaven.engine.util.TableTools.intCol;
+import static io.deephaven.engine.util.TableTools.longCol;
+
+public class TestStreamJournal {
+
+    private static final TableDefinition DEFINITION = TableDefinition.from(
+            List.of("S", "I", "L", "D"),
+            List.of(String.class, int.class, long.class, double.class));
+
+    @Rule
+    public final EngineCleanup framework = new EngineCleanup();
+
+    @Rule
+    public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testReplayAfterRestart() throws IOException {
+        final Path directory = tempFolder.newFolder("journal").toPath();
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+
+        final StreamJournal journal = StreamJournal.open(directory, DEFINITION, 256, false);
+        final CapturingStreamPublisher publisher = new CapturingStreamPublisher();
+        final StreamToBlinkTableAdapter adapter = new StreamToBlinkTableAdapter(
+                DEFINITION, journal.journaled(publisher), updateGraph, "journal-1");
+        final Table appendOnly = BlinkTableTools.blinkToAppendOnly(adapter.table());
+
+        publisher.consumer.accept(makeChunks(0, 3));
+        updateGraph.runWithinUnitTestCycle(adapter::run);
+        publisher.consumer.accept(makeChunks(3, 4));
+        publisher.consumer.accept(makeChunks(7, 2));
+        updateGraph.runWithinUnitTestCycle(adapter::run);
+        TstUtils.assertTableEquals(expected(0, 9), appendOnly);
+        adapter.close();
+        TestCase.assertTrue(listSegments(directory).size() > 1);
+
+        // Simulate a restart: a new adapter over the same journal rebuilds the append-only history on its first cycle
+        final CapturingStreamPublisher restartedPublisher = new CapturingStreamPublisher();
+        final StreamToBlinkTableAdapter restartedAdapter = new StreamToBlinkTableAdapter(
+                DEFINITION, StreamJournal.open(directory, DEFINITION, 256, false).journaled(restartedPublisher),
+                updateGraph, "journal-2");
+        final Table restartedAppendOnly = BlinkTableTools.blinkToAppendOnly(restartedAdapter.table());
+        updateGraph.runWithinUnitTestCycle(restartedAdapter::run);
+        TstUtils.assertTableEquals(expected(0, 9), restartedAppendOnly);
+
+        restartedPublisher.consumer.accept(makeChunks(9, 1));
+        updateGraph.runWithinUnitTestCycle(restartedAdapter::run);
+        TstUtils.assertTableEquals(expected(0, 10), restartedAppendOnly);
+        restartedAdapter.close();
+    }
+
+    @Test
+    public void testTornTailIsTruncated() throws IOException {
+        final Path directory = tempFolder.newFolder("journal").toPath();
+
+        final StreamJournal journal = StreamJournal.open(directory, DEFINITION);
+        final CapturingStreamPublisher publisher = new CapturingStreamPublisher();
+        journal.journaled(publisher).register(new DiscardingStreamConsumer());
+        publisher.consumer.accept(makeChunks(0, 5));
+        journal.close();
+
+        final List<Path> segments = listSegments(directory);
+        TestCase.assertEquals(1, segments.size());
+        final Path segment = segments.get(0);
+        final long validLength = Files.size(segment);
+        // A partially written record, as if the process died mid-append
+        Files.write(segment, new byte[] {0x44, 0x43, 0x45, 0x52, 0x01, 0x02, 0x03}, StandardOpenOption.APPEND);
+
+        final StreamJournal recovered = StreamJournal.open(directory, DEFINITION);
+        TestCase.assertEquals(validLength, Files.size(segment));
+        TestCase.assertEquals(5, recovered.replay(new DiscardingStreamConsumer()));
+        recovered.close();
+    }
+
+    @Test
+    public void testDefinitionMismatch() throws IOException {
+        final Path directory = tempFolder.newFolder("journal").toPath();
+
+        final StreamJournal journal = StreamJournal.open(directory, DEFINITION);
+        final CapturingStreamPublisher publisher = new CapturingStreamPublisher();
+        journal.journaled(publisher).register(new DiscardingStreamConsumer());
+        publisher.consumer.accept(makeChunks(0, 1));
+        journal.close();
+
+        final TableDefinition otherDefinition = TableDefinition.from(List.of("I"), List.of(int.class));
+        try {
+            StreamJournal.open(directory, otherDefinition);
+            TestCase.fail("Expected mismatched journal to be rejected");
+        } catch (IllegalStateException expected) {
+        }
+
+        final TableDefinition unsupported = TableDefinition.from(List.of("O"), List.of(Object.class));
+        try {
+            StreamJournal.open(tempFolder.newFolder("unsupported").toPath(), unsupported);
+            TestCase.fail("Expected unsupported column type to be rejected");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    public void testAcknowledgedSegmentsAreDeleted() throws IOException {
+        final Path directory = tempFolder.newFolder("journal").toPath();
+
+        final StreamJournal journal = StreamJournal.open(directory, DEFINITION, 256, false);
+        final CapturingStreamPublisher publisher = new CapturingStreamPublisher();
+        journal.journaled(publisher).register(new DiscardingStreamConsumer());
+        for (int firstRow = 0; firstRow < 30; firstRow += 3) {
+            publisher.consumer.accept(makeChunks(firstRow, 3));
+        }
+        TestCase.assertEquals(30, journal.getPosition());
+        TestCase.assertEquals(0, journal.getFirstRetainedPosition());
+        final int segmentCount = listSegments(directory).size();
+        TestCase.assertTrue(segmentCount > 2);
+
+        // Only segments whose rows are all acknowledged are deleted
+        journal.acknowledge(15);
+        final long firstRetained = journal.getFirstRetainedPosition();
+        TestCase.assertTrue(firstRetained > 0 && firstRetained <= 15);
+        TestCase.assertTrue(listSegments(directory).size() < segmentCount);
+        TestCase.assertEquals(30 - firstRetained, journal.replay(new DiscardingStreamConsumer()));
+
+        // Acknowledging everything leaves a single empty segment, which preserves the position across restarts
+        journal.acknowledge(30);
+        TestCase.assertEquals(30, journal.getFirstRetainedPosition());
+        TestCase.assertEquals(1, listSegments(directory).size());
+        TestCase.assertEquals(0, journal.replay(new DiscardingStreamConsumer()));
+        journal.close();
+
+        final StreamJournal reopened = StreamJournal.open(directory, DEFINITION, 256, false);
+        TestCase.assertEquals(30, reopened.getPosition());
+        final CapturingStreamPublisher reopenedPublisher = new CapturingStreamPublisher();
+        reopened.journaled(reopenedPublisher).register(new DiscardingStreamConsumer());
+        reopenedPublisher.consumer.accept(makeChunks(30, 2));
+        TestCase.assertEquals(32, reopened.getPosition());
+        TestCase.assertEquals(2, reopened.replay(new DiscardingStreamConsumer()));
+
+        try {
+            reopened.acknowledge(33);
+            TestCase.fail("Expected acknowledgement beyond the journal to be rejected");
+        } catch (IllegalArgumentException expected) {
+        }
+        reopened.close();
+    }
+
+    @Test
+    public void testRetentionLimits() throws IOException {
+        final Path directory = tempFolder.newFolder("journal").toPath();
+
+        final StreamJournal journal =
+                StreamJournal.open(directory, DEFINITION, 256, false, 1024, StreamJournal.NO_RETENTION_LIMIT);
+        final CapturingStreamPublisher publisher = new CapturingStreamPublisher();
+        journal.journaled(publisher).register(new DiscardingStreamConsumer());
+        for (int firstRow = 0; firstRow < 120; firstRow += 3) {
+            publisher.consumer.accept(makeChunks(firstRow, 3));
+        }
+        TestCase.assertEquals(120, journal.getPosition());
+        TestCase.assertTrue(journal.getFirstRetainedPosition() > 0);
+        // The limit is enforced when segments roll, so the newest segment may take us over it
+        TestCase.assertTrue(directorySize(directory) <= 1024 + 256);
+        TestCase.assertEquals(120 - journal.getFirstRetainedPosition(),
+                journal.replay(new DiscardingStreamConsumer()));
+        journal.close();
+
+        // Age out all but the newest segment
+        final List<Path> segments = listSegments(directory);
+        TestCase.assertTrue(segments.size() > 1);
+        final FileTime stale = FileTime.fromMillis(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(2));
+        for (final Path segment : segments) {
+            Files.setLastModifiedTime(segment, stale);
+        }
+        final StreamJournal aged = StreamJournal.open(directory, DEFINITION, 256, false,
+                StreamJournal.NO_RETENTION_LIMIT, TimeUnit.HOURS.toMillis(1));
+        TestCase.assertEquals(List.of(segments.get(segments.size() - 1)), listSegments(directory));
+        TestCase.assertEquals(120, aged.getPosition());
+        aged.close();
+    }
+
+    private static WritableChunk<Values>[] makeChunks(final int firstRow, final int size) {
+        final WritableObjectChunk<String, Values> strings = WritableObjectChunk.makeWritableChunk(size);
+        final WritableIntChunk<Values> ints = WritableIntChunk.makeWritableChunk(size);
+        final WritableLongChunk<Values> longs = WritableLongChunk.makeWritableChunk(size);
+        final WritableDoubleChunk<Values> doubles = WritableDoubleChunk.makeWritableChunk(size);
+        for (int ii = 0; ii < size; ++ii) {
+            final int row = firstRow + ii;
+            strings.set(ii, row % 3 == 0 ? null : "S" + row);
+            ints.set(ii, row);
+            longs.set(ii, row * 1_000_000_000_000L);
+            doubles.set(ii, row / 7.0);
+        }
+        // noinspection unchecked
+        return new WritableChunk[] {strings, ints, longs, doubles};
+    }
+
+    private static Table expected(final int firstRow, final int size) {
+        final String[] strings = new String[size];
+        final int[] ints = new int[size];
+        final long[] longs = new long[size];
+        final double[] doubles = new double[size];
+        for (int ii = 0; ii < size; ++ii) {
+            final int row = firstRow + ii;
+            strings[ii] = row % 3 == 0 ? null : "S" + row;
+            ints[ii] = row;
+            longs[ii] = row * 1_000_000_000_000L;
+            doubles[ii] = row / 7.0;
+        }
+        return TableTools.newTable(col("S", strings), intCol("I", ints), longCol("L", longs),
+                doubleCol("D", doubles));
+    }
+
+    private static List<Path> listSegments(@NotNull final Path directory) throws IOException {
+        try (final Stream<Path> files = Files.list(directory)) {
+            return files.sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static long directorySize(@NotNull final Path directory) throws IOException {
+        long size = 0;
+        for (final Path file : listSegments(directory)) {
+            size += Files.size(file);
+        }
+        return size;
+    }
+
+    private static class CapturingStreamPublisher implements StreamPublisher {
+
+        private StreamConsumer consumer;
+
+        @Override
+        public void register(@NotNull final StreamConsumer consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void shutdown() {}
+    }
+
+    private static class DiscardingStreamConsumer implements StreamConsumer {
+
+        @SafeVarargs
+        @Override
+        public final void accept(@NotNull final WritableChunk<Values>... data) {
+            accept(List.<WritableChunk<Values>[]>of(data));
+        }
+
+        @Override
+        public void accept(@NotNull final Collection<WritableChunk<Values>[]> data) {
+            data.stream().flatMap(Stream::of).forEach(WritableChunk::close);
+        }
+
+        @Override
+        public void acceptFailure(@NotNull final Throwable cause) {
+            throw new AssertionError(cause);
+        }
+    }
+}
@@ -46,6 +46,17 @@ public interface NotificationQueue {
          * @return true if this notification can be executed, false if it has unmet dependencies
          */
         boolean canExecute(long step);
+
+        /**
+         * Estimate the time remaining on the longest path through the update graph that begins with this notification.
+         * Update graphs may use this to run satisfied notifications on long dependency chains ahead of unrelated work,
+         * in order to reduce cycle duration.
+         *
+         * @return The estimated critical path duration in nanoseconds, or 0 if unknown
+         */
+        default long getCriticalPathEstimateNanos() {
+            return 0;
+        }
     }
 
     /**
@@ -0,0 +1,42 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.extensions.barrage;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event spanning the serialization of one Barrage message view to its output streams.
+ */
+@Name("io.deephaven.BarrageMessageWrite")
+@Label("Barrage Message Write")
+@Category({"Deephaven", "Barrage"})
+@Description("Serialization of a Barrage subscription or snapshot message")
+@StackTrace(false)
+final class BarrageMessageWriteEvent extends jdk.jfr.Event {
+
+    @Label("Description")
+    @Description("The table or subscription whose message was written")
+    String description;
+
+    @Label("Kind")
+    @Description("Whether the message is a subscription update or a snapshot")
+    String kind;
+
+    @Label("Rows")
+    @Description("The number of added rows written")
+    long rows;
+
+    @Label("Modified Rows")
+    @Description("The number of modified rows written")
+    long modifiedRows;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+}
@@ -358,6 +358,8 @@ public class BarrageMessageWriterImpl implements BarrageMessageWriter {
 
         @Override
         public void forEachStream(final Consumer<DefensiveDrainable> visitor) throws IOException {
+            final BarrageMessageWriteEvent writeEvent = new BarrageMessageWriteEvent();
+            writeEvent.begin();
             final long startTm = System.nanoTime();
             final ByteBuffer metadata = getSubscriptionMetadata();
             final MutableLong bytesWritten = new MutableLong(0L);
@@ -374,6 +376,7 @@ public class BarrageMessageWriterImpl implements BarrageMessageWriter {
                 bytesWritten.add(is.available());
                 visitor.accept(is);
                 writeConsumer.onWrite(bytesWritten.get(), System.nanoTime() - startTm);
+                commitWriteEvent(writeEvent, "Subscription", 0, 0, bytesWritten.get());
                 return;
             }
 
@@ -394,6 +397,7 @@ public class BarrageMessageWriterImpl implements BarrageMessageWriter {
                 }
             }
             writeConsumer.onWrite(bytesWritten.get(), System.nanoTime() - startTm);
+            commitWriteEvent(writeEvent, "Subscription", numClientIncludedRows, numClientModRows, bytesWritten.get());
         }
 
         private int batchSize() {
@@ -580,6 +584,8 @@ public class BarrageMessageWriterImpl implements BarrageMessageWriter {
 
         @Override
         public void forEachStream(final Consumer<DefensiveDrainable> visitor) throws IOException {
+            final BarrageMessageWriteEvent writeEvent = new BarrageMessageWriteEvent();
+            writeEvent.begin();
             final long startTm = System.nanoTime();
             final ByteBuffer metadata = getSnapshotMetadata();
             final MutableLong bytesWritten = new MutableLong(0L);
@@ -602,6 +608,7 @@ public class BarrageMessageWriterImpl implements BarrageMessageWriter {
             }
 
             writeConsumer.onWrite(bytesWritten.get(), System.nanoTime() - startTm);
+            commitWriteEvent(writeEvent, "Snapshot", numClientAddRows, 0, bytesWritten.get());
         }
 
         private int batchSize() {
@@ -696,6 +703,23 @@ public class BarrageMessageWriterImpl implements BarrageMessageWriter {
         }
     }
 
+    private void commitWriteEvent(
+            @NotNull final BarrageMessageWriteEvent writeEvent,
+            @NotNull final String kind,
+            final long rows,
+            final long modifiedRows,
+            final long bytes) {
+        writeEvent.end();
+        if (writeEvent.shouldCommit()) {
+            writeEvent.description = writeConsumer.getDescription();
+            writeEvent.kind = kind;
+            writeEvent.rows = rows;
+            writeEvent.modifiedRows = modifiedRows;
+            writeEvent.bytes = bytes;
+            writeEvent.commit();
+        }
+    }
+
     @FunctionalInterface
     private interface ColumnVisitor {
         int visit(final RecordBatchMessageView view, final long startRange, final int targetBatchSize,
@@ -106,6 +106,36 @@ public class BarragePerformanceLog {
 
     public interface WriteMetricsConsumer {
         void onWrite(long bytes, long cpuNanos);
+
+        /**
+         * @return A description of the table or subscription whose messages are written, or {@code null} if unknown
+         */
+        default String getDescription() {
+            return null;
+        }
+
+        /**
+         * Describe the messages whose metrics are recorded by {@code consumer}.
+         *
+         * @param description The description of the table or subscription whose messages are written
+         * @param consumer The consumer to record metrics with
+         * @return A consumer that records metrics with {@code consumer} and reports {@code description}
+         */
+        static WriteMetricsConsumer describedAs(
+                @NotNull final String description,
+                @NotNull final WriteMetricsConsumer consumer) {
+            return new WriteMetricsConsumer() {
+                @Override
+                public void onWrite(final long bytes, final long cpuNanos) {
+                    consumer.onWrite(bytes, cpuNanos);
+                }
+
+                @Override
+                public String getDescription() {
+                    return description;
+                }
+            };
+        }
     }
 
     public static class SnapshotMetricsHelper implements WriteMetricsConsumer {
@@ -126,5 +156,10 @@ public class BarragePerformanceLog {
                     .getSnapshotLogger()
                     .log(this, writeNanos, bytesWritten);
         }
+
+        @Override
+        public String getDescription() {
+            return tableKey == null ? tableId : tableKey;
+        }
     }
 }
@@ -21,6 +21,7 @@ import io.deephaven.engine.table.TableUpdate;
 import io.deephaven.engine.table.impl.BlinkTableTools;
 import io.deephaven.engine.table.impl.InstrumentedTableUpdateListenerAdapter;
 import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.perf.UpdateLatencyTracker;
 import io.deephaven.engine.table.impl.sources.ReinterpretUtils;
 import io.deephaven.engine.updategraph.UpdateGraph;
 import io.deephaven.kafka.KafkaPublishOptions;
@@ -360,6 +361,7 @@ public class PublishToKafka<K, V> extends LivenessArtifact {
         private final ModifiedColumnSet keysModified;
         private final ModifiedColumnSet valuesModified;
         private final boolean isBlink;
+        private final String latencySinkName;
 
         private final PublicationGuard guard = new PublicationGuard();
 
@@ -370,6 +372,7 @@ public class PublishToKafka<K, V> extends LivenessArtifact {
             this.keysModified = keysModified;
             this.valuesModified = valuesModified;
             this.isBlink = BlinkTableTools.isBlink(table);
+            this.latencySinkName = "PublishToKafka(" + defaultTopic + ")";
         }
 
         @Override
@@ -377,6 +380,13 @@ public class PublishToKafka<K, V> extends LivenessArtifact {
             Assert.assertion(!keysModified.containsAny(upstream.modifiedColumnSet()),
                     "!keysModified.containsAny(upstream.modifiedColumnSet())", "Key columns should never be modified");
 
+            final UpdateLatencyTracker.Trace latencyTrace = UpdateLatencyTracker.traceAtSink(table.getUpdateGraph());
+            final long outputStartNanos = latencyTrace == null ? QueryConstants.NULL_LONG : System.nanoTime();
+            publishUpdate(upstream);
+            UpdateLatencyTracker.recordOutput(latencySinkName, latencyTrace, outputStartNanos);
+        }
+
+        private void publishUpdate(@NotNull final TableUpdate upstream) {
             try (final SafeCloseable ignored = guard) {
                 if (isBlink) {
                     Assert.assertion(upstream.modified().isEmpty(), "upstream.modified.empty()");
@@ -397,6 +407,13 @@ public class PublishToKafka<K, V> extends LivenessArtifact {
                 }
             }
         }
+
+        @OverridingMethodsMustInvokeSuper
+        @Override
+        protected void destroy() {
+            super.destroy();
+            UpdateLatencyTracker.removeSink(latencySinkName);
+        }
     }
 
     @OverridingMethodsMustInvokeSuper
@@ -0,0 +1,70 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.base;
+
+import org.apache.parquet.bytes.BytesInput;
+import org.apache.parquet.column.Encoding;
+import org.apache.parquet.column.values.ValuesWriter;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * The base class for bulk writers that delegate the actual value encoding to a parquet {@link ValuesWriter}, used for
+ * the non-PLAIN encodings (e.g. {@link Encoding#DELTA_BINARY_PACKED}, {@link Encoding#BYTE_STREAM_SPLIT}).
+ *
+ * @param <BUFFER_TYPE>
+ */
+abstract class AbstractEncodedBulkValuesWriter<BUFFER_TYPE> extends AbstractBulkValuesWriter<BUFFER_TYPE> {
+
+    final ValuesWriter encoder;
+    IntBuffer nullOffsets;
+
+    AbstractEncodedBulkValuesWriter(@NotNull final ValuesWriter encoder) {
+        this.encoder = encoder;
+        nullOffsets = IntBuffer.allocate(4);
+    }
+
+    @Override
+    public long getBufferedSize() {
+        return encoder.getBufferedSize();
+    }
+
+    @Override
+    public BytesInput getBytes() {
+        return encoder.getBytes();
+    }
+
+    @Override
+    public void reset() {
+        encoder.reset();
+    }
+
+    @Override
+    public ByteBuffer getByteBufferView() throws IOException {
+        return encoder.getBytes().toByteBuffer();
+    }
+
+    @Override
+    public void close() {
+        encoder.close();
+    }
+
+    @Override
+    public long getAllocatedSize() {
+        return encoder.getAllocatedSize();
+    }
+
+    @Override
+    public Encoding getEncoding() {
+        return encoder.getEncoding();
+    }
+
+    @Override
+    public String memUsageString(String prefix) {
+        return String.format("%s %s, %,d bytes", prefix, getClass().getSimpleName(), encoder.getAllocatedSize());
+    }
+}
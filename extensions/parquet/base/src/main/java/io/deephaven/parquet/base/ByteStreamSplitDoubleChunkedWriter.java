@@ -0,0 +1,85 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.base;
+
+import io.deephaven.util.QueryConstants;
+import org.apache.parquet.bytes.ByteBufferAllocator;
+import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.column.values.bytestreamsplit.ByteStreamSplitValuesWriter;
+import org.apache.parquet.column.values.rle.RunLengthBitPackingHybridEncoder;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+
+/**
+ * A writer for encoding doubles in the BYTE_STREAM_SPLIT format. The bytes of each value are scattered into separate
+ * streams, which makes slowly varying floating point data (e.g. prices) far more compressible.
+ */
+final class ByteStreamSplitDoubleChunkedWriter extends AbstractEncodedBulkValuesWriter<DoubleBuffer> {
+    private static final int INITIAL_CAPACITY = 64;
+
+    ByteStreamSplitDoubleChunkedWriter(final int targetPageSize, @NotNull final ByteBufferAllocator allocator) {
+        super(new ByteStreamSplitValuesWriter.DoubleByteStreamSplitValuesWriter(INITIAL_CAPACITY, targetPageSize,
+                allocator));
+    }
+
+    @Override
+    public final void writeDouble(double v) {
+        encoder.writeDouble(v);
+    }
+
+    @Override
+    public void writeBulk(@NotNull final DoubleBuffer bulkValues,
+            final int rowCount,
+            @NotNull final Statistics<?> statistics) {
+        for (int i = 0; i < rowCount; i++) {
+            final double v = bulkValues.get();
+            writeDouble(v);
+            statistics.updateStats(v);
+        }
+    }
+
+    @NotNull
+    @Override
+    public WriteResult writeBulkFilterNulls(@NotNull final DoubleBuffer bulkValues,
+            @NotNull final RunLengthBitPackingHybridEncoder dlEncoder,
+            final int rowCount,
+            @NotNull final Statistics<?> statistics) throws IOException {
+        while (bulkValues.hasRemaining()) {
+            final double v = bulkValues.get();
+            if (v != QueryConstants.NULL_DOUBLE) {
+                writeDouble(v);
+                statistics.updateStats(v);
+                dlEncoder.writeInt(DL_ITEM_PRESENT);
+            } else {
+                statistics.incrementNumNulls();
+                dlEncoder.writeInt(DL_ITEM_NULL);
+            }
+        }
+        return new WriteResult(rowCount);
+    }
+
+    @NotNull
+    @Override
+    public WriteResult writeBulkVectorFilterNulls(@NotNull final DoubleBuffer bulkValues,
+            final int rowCount,
+            @NotNull final Statistics<?> statistics) {
+        int i = 0;
+        nullOffsets.clear();
+        while (bulkValues.hasRemaining()) {
+            final double v = bulkValues.get();
+            if (v != QueryConstants.NULL_DOUBLE) {
+                writeDouble(v);
+                statistics.updateStats(v);
+            } else {
+                nullOffsets = Helpers.ensureCapacity(nullOffsets);
+                nullOffsets.put(i);
+                statistics.incrementNumNulls();
+            }
+            i++;
+        }
+        return new WriteResult(rowCount, nullOffsets);
+    }
+}
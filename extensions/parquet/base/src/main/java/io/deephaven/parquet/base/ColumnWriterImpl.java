@@ -46,6 +46,11 @@ final class ColumnWriterImpl implements ColumnWriter {
     private final ColumnDescriptor column;
     private final RowGroupWriterImpl owner;
     private final CompressorAdapter compressorAdapter;
+    /**
+     * The encoding to use for non-dictionary data pages. Dictionary pages and dictionary-encoded data pages are not
+     * affected by this.
+     */
+    private final Encoding dataEncoding;
     private boolean hasDictionary;
     private int pageCount = 0;
     private Statistics<?> statistics;
@@ -75,11 +80,13 @@ final class ColumnWriterImpl implements ColumnWriter {
             final CountingOutputStream countingOutput,
             final ColumnDescriptor column,
             final CompressorAdapter compressorAdapter,
+            final Encoding dataEncoding,
             final int targetPageSize,
             final ByteBufferAllocator allocator) {
         this.countingOutput = Objects.requireNonNull(countingOutput);
         this.column = Objects.requireNonNull(column);
         this.compressorAdapter = Objects.requireNonNull(compressorAdapter);
+        this.dataEncoding = validateDataEncoding(column.getPrimitiveType(), Objects.requireNonNull(dataEncoding));
         this.targetPageSize = targetPageSize;
         this.allocator = Objects.requireNonNull(allocator);
         dlEncoder = column.getMaxDefinitionLevel() == 0 ? null
@@ -116,7 +123,7 @@ final class ColumnWriterImpl implements ColumnWriter {
                 bulkWriter = new RleIntChunkedWriter(targetPageSize, allocator,
                         (byte) (32 - Integer.numberOfLeadingZeros(dictionaryPage.num_values)));
             } else {
-                bulkWriter = getWriter(column.getPrimitiveType());
+                bulkWriter = getWriter(column.getPrimitiveType(), dataEncoding);
             }
         } else {
             bulkWriter.reset();
@@ -132,7 +139,7 @@ final class ColumnWriterImpl implements ColumnWriter {
         encodingStatsBuilder.addDictEncoding(org.apache.parquet.column.Encoding.PLAIN);
 
         // noinspection rawtypes
-        final BulkWriter dictionaryWriter = getWriter(column.getPrimitiveType());
+        final BulkWriter dictionaryWriter = getWriter(column.getPrimitiveType(), Encoding.PLAIN);
 
         // noinspection unchecked
         dictionaryWriter.writeBulk(dictionaryValues, valuesCount, NullStatistics.INSTANCE);
@@ -169,32 +176,85 @@ final class ColumnWriterImpl implements ColumnWriter {
         encodings.add(Encoding.PLAIN);
     }
 
-    private BulkWriter getWriter(final PrimitiveType primitiveType) {
+    /**
+     * Check that the requested data page encoding can be used for values of the given primitive type.
+     *
+     * @return the validated encoding
+     */
+    private static Encoding validateDataEncoding(
+            @NotNull final PrimitiveType primitiveType,
+            @NotNull final Encoding dataEncoding) {
+        final PrimitiveType.PrimitiveTypeName typeName = primitiveType.getPrimitiveTypeName();
+        final boolean supported;
+        switch (dataEncoding) {
+            case PLAIN:
+                supported = true;
+                break;
+            case DELTA_BINARY_PACKED:
+                supported = typeName == PrimitiveType.PrimitiveTypeName.INT32
+                        || typeName == PrimitiveType.PrimitiveTypeName.INT64;
+                break;
+            case BYTE_STREAM_SPLIT:
+                supported = typeName == PrimitiveType.PrimitiveTypeName.FLOAT
+                        || typeName == PrimitiveType.PrimitiveTypeName.DOUBLE;
+                break;
+            case DELTA_LENGTH_BYTE_ARRAY:
+            case DELTA_BYTE_ARRAY:
+                supported = typeName == PrimitiveType.PrimitiveTypeName.BINARY;
+                break;
+            default:
+                supported = false;
+        }
+        if (!supported) {
+            throw new IllegalArgumentException(
+                    "Encoding " + dataEncoding + " is not supported for writing " + typeName + " values");
+        }
+        return dataEncoding;
+    }
+
+    private BulkWriter getWriter(final PrimitiveType primitiveType, final Encoding encoding) {
         switch (primitiveType.getPrimitiveTypeName()) {
             case INT96:
             case FIXED_LEN_BYTE_ARRAY:
                 throw new UnsupportedOperationException("No support for writing FIXED_LENGTH or INT96 types");
             case INT32:
+                final boolean deltaInt = encoding == Encoding.DELTA_BINARY_PACKED;
                 final LogicalTypeAnnotation annotation = primitiveType.getLogicalTypeAnnotation();
                 if (annotation != null) {
                     // Appropriately set the null value for different type of integers
+                    final int nullValue;
                     if (LogicalTypeAnnotation.intType(8, true).equals(annotation)) {
-                        return new PlainIntChunkedWriter(targetPageSize, allocator, QueryConstants.NULL_BYTE);
+                        nullValue = QueryConstants.NULL_BYTE;
                     } else if (LogicalTypeAnnotation.intType(16, true).equals(annotation)) {
-                        return new PlainIntChunkedWriter(targetPageSize, allocator, QueryConstants.NULL_SHORT);
+                        nullValue = QueryConstants.NULL_SHORT;
                     } else if (LogicalTypeAnnotation.intType(16, false).equals(annotation)) {
-                        return new PlainIntChunkedWriter(targetPageSize, allocator, QueryConstants.NULL_CHAR);
+                        nullValue = QueryConstants.NULL_CHAR;
+                    } else {
+                        nullValue = QueryConstants.NULL_INT;
                     }
+                    return deltaInt
+                            ? new DeltaIntChunkedWriter(targetPageSize, allocator, nullValue)
+                            : new PlainIntChunkedWriter(targetPageSize, allocator, nullValue);
                 }
-                return new PlainIntChunkedWriter(targetPageSize, allocator);
+                return deltaInt
+                        ? new DeltaIntChunkedWriter(targetPageSize, allocator)
+                        : new PlainIntChunkedWriter(targetPageSize, allocator);
             case INT64:
-                return new PlainLongChunkedWriter(targetPageSize, allocator);
+                return encoding == Encoding.DELTA_BINARY_PACKED
+                        ? new DeltaLongChunkedWriter(targetPageSize, allocator)
+                        : new PlainLongChunkedWriter(targetPageSize, allocator);
             case FLOAT:
-                return new PlainFloatChunkedWriter(targetPageSize, allocator);
+                return encoding == Encoding.BYTE_STREAM_SPLIT
+                        ? new ByteStreamSplitFloatChunkedWriter(targetPageSize, allocator)
+                        : new PlainFloatChunkedWriter(targetPageSize, allocator);
             case DOUBLE:
-                return new PlainDoubleChunkedWriter(targetPageSize, allocator);
+                return encoding == Encoding.BYTE_STREAM_SPLIT
+                        ? new ByteStreamSplitDoubleChunkedWriter(targetPageSize, allocator)
+                        : new PlainDoubleChunkedWriter(targetPageSize, allocator);
             case BINARY:
-                return new PlainBinaryChunkedWriter(targetPageSize, allocator);
+                return encoding == Encoding.DELTA_LENGTH_BYTE_ARRAY || encoding == Encoding.DELTA_BYTE_ARRAY
+                        ? new DeltaBinaryChunkedWriter(targetPageSize, allocator, encoding)
+                        : new PlainBinaryChunkedWriter(targetPageSize, allocator);
             case BOOLEAN:
                 return new PlainBooleanChunkedWriter();
             default:
@@ -407,7 +467,7 @@ final class ColumnWriterImpl implements ColumnWriter {
                 final BytesInput rlBytesInput = rlEncoder.toBytes();
                 bytes = BytesInput.concat(BytesInput.fromInt((int) rlBytesInput.size()), rlBytesInput, bytes);
             }
-            writePage(bytes, (int) valueCount, rowCount, hasDictionary ? Encoding.RLE_DICTIONARY : Encoding.PLAIN);
+            writePage(bytes, (int) valueCount, rowCount, hasDictionary ? Encoding.RLE_DICTIONARY : dataEncoding);
         } catch (IOException e) {
             throw new ParquetEncodingException("could not write page for " + column.getPath()[0], e);
         }
@@ -0,0 +1,101 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.base;
+
+import org.apache.parquet.bytes.ByteBufferAllocator;
+import org.apache.parquet.column.Encoding;
+import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.column.values.ValuesWriter;
+import org.apache.parquet.column.values.deltalengthbytearray.DeltaLengthByteArrayValuesWriter;
+import org.apache.parquet.column.values.deltastrings.DeltaByteArrayWriter;
+import org.apache.parquet.column.values.rle.RunLengthBitPackingHybridEncoder;
+import org.apache.parquet.io.api.Binary;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * A writer for encoding binary values in either the DELTA_LENGTH_BYTE_ARRAY or the DELTA_BYTE_ARRAY (incremental, or
+ * front-compressed) format.
+ */
+final class DeltaBinaryChunkedWriter extends AbstractEncodedBulkValuesWriter<Binary[]> {
+    private static final int INITIAL_CAPACITY = 64;
+
+    DeltaBinaryChunkedWriter(
+            final int targetPageSize,
+            @NotNull final ByteBufferAllocator allocator,
+            @NotNull final Encoding encoding) {
+        super(makeEncoder(targetPageSize, allocator, encoding));
+    }
+
+    private static ValuesWriter makeEncoder(
+            final int targetPageSize,
+            @NotNull final ByteBufferAllocator allocator,
+            @NotNull final Encoding encoding) {
+        switch (encoding) {
+            case DELTA_LENGTH_BYTE_ARRAY:
+                return new DeltaLengthByteArrayValuesWriter(INITIAL_CAPACITY, targetPageSize, allocator);
+            case DELTA_BYTE_ARRAY:
+                return new DeltaByteArrayWriter(INITIAL_CAPACITY, targetPageSize, allocator);
+            default:
+                throw new IllegalArgumentException("Unsupported encoding for binary values: " + encoding);
+        }
+    }
+
+    @Override
+    public final void writeBytes(Binary v) {
+        encoder.writeBytes(v);
+    }
+
+    @Override
+    public void writeBulk(@NotNull final Binary[] bulkValues,
+            final int rowCount,
+            @NotNull final Statistics<?> statistics) {
+        for (int i = 0; i < rowCount; i++) {
+            final Binary v = bulkValues[i];
+            writeBytes(v);
+            statistics.updateStats(v);
+        }
+    }
+
+    @NotNull
+    @Override
+    public WriteResult writeBulkFilterNulls(@NotNull final Binary[] bulkValues,
+            @NotNull final RunLengthBitPackingHybridEncoder dlEncoder,
+            final int rowCount,
+            @NotNull final Statistics<?> statistics) throws IOException {
+        for (int i = 0; i < rowCount; i++) {
+            if (bulkValues[i] != null) {
+                final Binary v = bulkValues[i];
+                writeBytes(v);
+                statistics.updateStats(v);
+                dlEncoder.writeInt(DL_ITEM_PRESENT);
+            } else {
+                statistics.incrementNumNulls();
+                dlEncoder.writeInt(DL_ITEM_NULL);
+            }
+        }
+        return new WriteResult(rowCount);
+    }
+
+    @NotNull
+    @Override
+    public WriteResult writeBulkVectorFilterNulls(@NotNull final Binary[] bulkValues,
+            final int nonNullLeafCount,
+            @NotNull final Statistics<?> statistics) {
+        nullOffsets.clear();
+        for (int i = 0; i < nonNullLeafCount; i++) {
+            if (bulkValues[i] != null) {
+                final Binary v = bulkValues[i];
+                writeBytes(v);
+                statistics.updateStats(v);
+            } else {
+                nullOffsets = Helpers.ensureCapacity(nullOffsets);
+                nullOffsets.put(i);
+                statistics.incrementNumNulls();
+            }
+        }
+        return new WriteResult(nonNullLeafCount, nullOffsets);
+    }
+}
@@ -0,0 +1,84 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.base;
+
+import io.deephaven.util.QueryConstants;
+import org.apache.parquet.bytes.ByteBufferAllocator;
+import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.column.values.delta.DeltaBinaryPackingValuesWriterForLong;
+import org.apache.parquet.column.values.rle.RunLengthBitPackingHybridEncoder;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.LongBuffer;
+
+/**
+ * A writer for encoding longs in the DELTA_BINARY_PACKED format. This is well suited to monotonic or slowly varying
+ * values like timestamps and sequence numbers, where the deltas need far fewer bits than the values themselves.
+ */
+final class DeltaLongChunkedWriter extends AbstractEncodedBulkValuesWriter<LongBuffer> {
+    private static final int INITIAL_SLAB_SIZE = 64;
+
+    DeltaLongChunkedWriter(final int targetPageSize, @NotNull final ByteBufferAllocator allocator) {
+        super(new DeltaBinaryPackingValuesWriterForLong(INITIAL_SLAB_SIZE, targetPageSize, allocator));
+    }
+
+    @Override
+    public final void writeLong(long v) {
+        encoder.writeLong(v);
+    }
+
+    @Override
+    public void writeBulk(@NotNull final LongBuffer bulkValues,
+            final int rowCount,
+            @NotNull final Statistics<?> statistics) {
+        for (int i = 0; i < rowCount; i++) {
+            final long v = bulkValues.get();
+            writeLong(v);
+            statistics.updateStats(v);
+        }
+    }
+
+    @NotNull
+    @Override
+    public WriteResult writeBulkFilterNulls(@NotNull final LongBuffer bulkValues,
+            @NotNull final RunLengthBitPackingHybridEncoder dlEncoder,
+            final int rowCount,
+            @NotNull final Statistics<?> statistics) throws IOException {
+        while (bulkValues.hasRemaining()) {
+            final long v = bulkValues.get();
+            if (v != QueryConstants.NULL_LONG) {
+                writeLong(v);
+                statistics.updateStats(v);
+                dlEncoder.writeInt(DL_ITEM_PRESENT);
+            } else {
+                statistics.incrementNumNulls();
+                dlEncoder.writeInt(DL_ITEM_NULL);
+            }
+        }
+        return new WriteResult(rowCount);
+    }
+
+    @NotNull
+    @Override
+    public WriteResult writeBulkVectorFilterNulls(@NotNull final LongBuffer bulkValues,
+            final int rowCount,
+            @NotNull final Statistics<?> statistics) {
+        int i = 0;
+        nullOffsets.clear();
+        while (bulkValues.hasRemaining()) {
+            final long v = bulkValues.get();
+            if (v != QueryConstants.NULL_LONG) {
+                writeLong(v);
+                statistics.updateStats(v);
+            } else {
+                nullOffsets = Helpers.ensureCapacity(nullOffsets);
+                nullOffsets.put(i);
+                statistics.incrementNumNulls();
+            }
+            i++;
+        }
+        return new WriteResult(rowCount, nullOffsets);
+    }
+}
@@ -3,10 +3,28 @@
 //
 package io.deephaven.parquet.base;
 
+import org.apache.parquet.column.Encoding;
 import org.apache.parquet.hadoop.metadata.BlockMetaData;
 
 public interface RowGroupWriter {
-    ColumnWriter addColumn(String columnName);
+    /**
+     * Add a column to this row group, writing non-dictionary data pages with {@link Encoding#PLAIN PLAIN} encoding.
+     */
+    default ColumnWriter addColumn(String columnName) {
+        return addColumn(columnName, Encoding.PLAIN);
+    }
+
+    /**
+     * Add a column to this row group.
+     *
+     * @param columnName the parquet column name
+     * @param dataEncoding the encoding for non-dictionary data pages; one of {@link Encoding#PLAIN PLAIN},
+     *        {@link Encoding#DELTA_BINARY_PACKED DELTA_BINARY_PACKED} (INT32 and INT64),
+     *        {@link Encoding#BYTE_STREAM_SPLIT BYTE_STREAM_SPLIT} (FLOAT and DOUBLE),
+     *        {@link Encoding#DELTA_LENGTH_BYTE_ARRAY DELTA_LENGTH_BYTE_ARRAY} or
+     *        {@link Encoding#DELTA_BYTE_ARRAY DELTA_BYTE_ARRAY} (BINARY)
+     */
+    ColumnWriter addColumn(String columnName, Encoding dataEncoding);
 
     BlockMetaData getBlock();
 }
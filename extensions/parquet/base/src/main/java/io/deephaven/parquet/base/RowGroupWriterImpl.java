@@ -7,6 +7,7 @@ import com.google.common.io.CountingOutputStream;
 import io.deephaven.parquet.compress.CompressorAdapter;
 import io.deephaven.parquet.impl.ParquetSchemaUtil;
 import org.apache.parquet.bytes.ByteBufferAllocator;
+import org.apache.parquet.column.Encoding;
 import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.internal.column.columnindex.OffsetIndex;
@@ -68,7 +69,7 @@ final class RowGroupWriterImpl implements RowGroupWriter {
     }
 
     @Override
-    public ColumnWriter addColumn(String columnName) {
+    public ColumnWriter addColumn(String columnName, Encoding dataEncoding) {
         if (activeWriter != null) {
             throw new IllegalStateException(
                     "There is already an active column writer for " + activeWriter.getColumn().getPath()[0]
@@ -78,6 +79,7 @@ final class RowGroupWriterImpl implements RowGroupWriter {
                 countingOutput,
                 ParquetSchemaUtil.columnDescriptor(schema, getPrimitivePath(columnName)).orElseThrow(),
                 compressorAdapter,
+                dataEncoding,
                 targetPageSize,
                 allocator);
         return activeWriter;
@@ -94,6 +94,42 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
         METADATA_PARTITIONED
     }
 
+    /**
+     * The encodings that may be requested for the data pages of a column when writing. Dictionary encoding is
+     * controlled separately, see {@link Builder#useDictionary(String, boolean)}.
+     */
+    public enum ColumnEncoding {
+        /**
+         * Values are stored back to back; supported for all column types.
+         */
+        PLAIN,
+
+        /**
+         * Values are stored as bit-packed deltas between consecutive values; supported for columns written as INT32 or
+         * INT64 (e.g. {@code int}, {@code long} and {@link java.time.Instant} columns). Well suited to timestamps and
+         * sequence numbers.
+         */
+        DELTA_BINARY_PACKED,
+
+        /**
+         * The bytes of each value are split into separate streams, which compress much better than interleaved bytes;
+         * supported for {@code float} and {@code double} columns.
+         */
+        BYTE_STREAM_SPLIT,
+
+        /**
+         * All value lengths are stored delta encoded, followed by the concatenated values; supported for columns
+         * written as BINARY (e.g. {@link String} columns).
+         */
+        DELTA_LENGTH_BYTE_ARRAY,
+
+        /**
+         * Each value is stored as the length of the prefix it shares with the previous value plus the remaining
+         * suffix; supported for columns written as BINARY. Well suited to sorted strings.
+         */
+        DELTA_BYTE_ARRAY
+    }
+
     private static final boolean DEFAULT_GENERATE_METADATA_FILES = false;
 
     static final String UUID_TOKEN = "{uuid}";
@@ -124,6 +160,12 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
      */
     public abstract boolean useDictionary(String columnName);
 
+    /**
+     * @return The encoding the writer should use for the data pages of this column, if one was requested. An explicit
+     *         encoding takes precedence over dictionary encoding.
+     */
+    public abstract Optional<ColumnEncoding> getColumnEncoding(String columnName);
+
     /**
      * The field ID for the given {@code columnName}.
      *
@@ -257,6 +299,11 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             return false;
         }
 
+        @Override
+        public Optional<ColumnEncoding> getColumnEncoding(final String columnName) {
+            return Optional.empty();
+        }
+
         @Override
         public OptionalInt getFieldId(String columnName) {
             return OptionalInt.empty();
@@ -388,6 +435,7 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
         private String codecName;
         private String codecArgs;
         private boolean useDictionary;
+        private ColumnEncoding columnEncoding;
         private Integer fieldId;
 
         public ColumnInstructions(final String columnName) {
@@ -440,6 +488,14 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             this.useDictionary = useDictionary;
         }
 
+        public Optional<ColumnEncoding> columnEncoding() {
+            return Optional.ofNullable(columnEncoding);
+        }
+
+        public void setColumnEncoding(final ColumnEncoding columnEncoding) {
+            this.columnEncoding = columnEncoding;
+        }
+
         public OptionalInt fieldId() {
             return fieldId == null ? OptionalInt.empty() : OptionalInt.of(fieldId);
         }
@@ -579,6 +635,11 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             return getOrDefault(columnName, false, ColumnInstructions::useDictionary);
         }
 
+        @Override
+        public Optional<ColumnEncoding> getColumnEncoding(final String columnName) {
+            return getOrDefault(columnName, Optional.empty(), ColumnInstructions::columnEncoding);
+        }
+
         @Override
         public OptionalInt getFieldId(String columnName) {
             return getOrDefault(columnName, OptionalInt.empty(), ColumnInstructions::fieldId);
@@ -830,6 +891,20 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             return this;
         }
 
+        /**
+         * Set the encoding the writer should use for the data pages of this column. This takes precedence over
+         * {@link #useDictionary(String, boolean) dictionary encoding}. Writing fails if the encoding is not supported
+         * for the column's type, see {@link ColumnEncoding}.
+         *
+         * @param columnName The column name
+         * @param columnEncoding The encoding to use
+         */
+        public Builder setColumnEncoding(final String columnName, final ColumnEncoding columnEncoding) {
+            final ColumnInstructions ci = getOrCreateColumnInstructions(columnName);
+            ci.setColumnEncoding(Objects.requireNonNull(columnEncoding));
+            return this;
+        }
+
         /**
          * This is currently only used for writing, allowing the setting of {@code field_id} in the proper Parquet
          * {@code SchemaElement}.
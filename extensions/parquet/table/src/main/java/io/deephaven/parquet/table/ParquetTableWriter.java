@@ -31,6 +31,7 @@ import io.deephaven.util.channel.CompletableOutputStream;
 import io.deephaven.vector.Vector;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.parquet.bytes.HeapByteBufferAllocator;
+import org.apache.parquet.column.Encoding;
 import org.apache.parquet.column.statistics.Statistics;
 import org.apache.parquet.schema.MessageType;
 import org.apache.parquet.schema.PrimitiveType;
@@ -403,10 +404,18 @@ public class ParquetTableWriter {
             @NotNull final Map<String, Map<ParquetCacheTags, Object>> computedCache,
             @NotNull final String columnName,
             @NotNull final ColumnSource<DATA_TYPE> columnSource) throws IllegalAccessException, IOException {
+        final Optional<ParquetInstructions.ColumnEncoding> columnEncoding =
+                writeInstructions.getColumnEncoding(columnName);
+        final Encoding dataEncoding = columnEncoding
+                .map(ce -> Encoding.valueOf(ce.name()))
+                .orElse(Encoding.PLAIN);
         try (final ColumnWriter columnWriter = rowGroupWriter.addColumn(
-                writeInstructions.getParquetColumnNameFromColumnNameOrDefault(columnName))) {
+                writeInstructions.getParquetColumnNameFromColumnNameOrDefault(columnName), dataEncoding)) {
             boolean usedDictionary = false;
-            if (String.class.equals(columnSource.getType()) || String.class.equals(columnSource.getComponentType())) {
+            // An explicitly requested encoding takes precedence over dictionary encoding
+            if (columnEncoding.isEmpty()
+                    && (String.class.equals(columnSource.getType())
+                            || String.class.equals(columnSource.getComponentType()))) {
                 usedDictionary =
                         tryEncodeDictionary(tableRowSet, writeInstructions, columnWriter, columnName, columnSource);
             }
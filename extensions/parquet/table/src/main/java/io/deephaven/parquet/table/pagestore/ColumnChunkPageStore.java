@@ -4,7 +4,10 @@
 package io.deephaven.parquet.table.pagestore;
 
 import io.deephaven.base.verify.Require;
+import io.deephaven.configuration.Configuration;
 import io.deephaven.engine.page.PagingContextHolder;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.engine.table.ColumnDefinition;
 import io.deephaven.engine.table.Context;
 import io.deephaven.engine.table.SharedContext;
@@ -12,6 +15,9 @@ import io.deephaven.util.channel.SeekableChannelContext;
 import io.deephaven.util.channel.SeekableChannelsProvider;
 import io.deephaven.parquet.table.pagestore.topage.ToPage;
 import io.deephaven.engine.table.Releasable;
+import io.deephaven.engine.table.impl.sources.Prefetchable;
+import io.deephaven.internal.log.LoggerFactory;
+import io.deephaven.io.logger.Logger;
 import io.deephaven.chunk.attributes.Any;
 import io.deephaven.engine.table.impl.chunkattributes.DictionaryKeys;
 import io.deephaven.chunk.Chunk;
@@ -23,18 +29,76 @@ import io.deephaven.parquet.base.ColumnChunkReader;
 import io.deephaven.parquet.base.ColumnPageReader;
 import io.deephaven.util.SafeCloseable;
 import io.deephaven.util.channel.SeekableChannelContext.ContextHolder;
+import io.deephaven.util.thread.NamingThreadFactory;
 import io.deephaven.vector.Vector;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.VisibleForTesting;
 
 import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public abstract class ColumnChunkPageStore<ATTR extends Any>
-        implements PageStore<ATTR, ATTR, ChunkPage<ATTR>>, Page<ATTR>, SafeCloseable, Releasable {
+        implements PageStore<ATTR, ATTR, ChunkPage<ATTR>>, Page<ATTR>, SafeCloseable, Releasable, Prefetchable {
+
+    private static final Logger log = LoggerFactory.getLogger(ColumnChunkPageStore.class);
+
+    /**
+     * How many threads should fetch and decode the pages announced via {@link #prefetch(RowSequence)}? All page stores
+     * share the same thread pool.
+     *
+     * <p>
+     * Configured using the {@code ColumnChunkPageStore.prefetchThreads} property. Defaults to 4; 0 disables
+     * prefetching.
+     * </p>
+     */
+    private static final int PREFETCH_THREADS = Configuration.getInstance()
+            .getIntegerForClassWithDefault(ColumnChunkPageStore.class, "prefetchThreads", 4);
+
+    /**
+     * How many pages may a single {@link #prefetch(RowSequence)} call load? This keeps a large announcement from
+     * evicting pages that are still in use from the page cache.
+     *
+     * <p>
+     * Configured using the {@code ColumnChunkPageStore.maxPrefetchPages} property. Defaults to 16.
+     * </p>
+     */
+    private static final int MAX_PREFETCH_PAGES = Configuration.getInstance()
+            .getIntegerForClassWithDefault(ColumnChunkPageStore.class, "maxPrefetchPages", 16);
+
+    /**
+     * How many {@link #prefetch(RowSequence)} announcements may wait for a prefetch thread? Announcements made while
+     * the queue is full are dropped; prefetching is only a hint, and the reader will load the pages itself.
+     *
+     * <p>
+     * Configured using the {@code ColumnChunkPageStore.prefetchQueueSize} property. Defaults to 64.
+     * </p>
+     */
+    private static final int PREFETCH_QUEUE_SIZE = Configuration.getInstance()
+            .getIntegerForClassWithDefault(ColumnChunkPageStore.class, "prefetchQueueSize", 64);
+
+    private static final ThreadPoolExecutor prefetchExecutor = PREFETCH_THREADS <= 0 ? null
+            : new ThreadPoolExecutor(PREFETCH_THREADS, PREFETCH_THREADS, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(Math.max(1, PREFETCH_QUEUE_SIZE)),
+                    new NamingThreadFactory(ColumnChunkPageStore.class, "prefetchThread", true));
+
+    /**
+     * The number of accepted {@link #prefetch(RowSequence)} announcements that have not yet completed.
+     */
+    private static final AtomicInteger prefetchesInFlight = new AtomicInteger();
+
+    /**
+     * The number of pages read and decoded by all page stores, or {@code null} if not counting. Only unit tests count.
+     */
+    private static volatile AtomicLong pagesLoadedForUnitTests;
 
     final PageCache<ATTR> pageCache;
     final ColumnChunkReader columnChunkReader;
@@ -138,9 +202,28 @@ public abstract class ColumnChunkPageStore<ATTR extends Any>
     ChunkPage<ATTR> toPage(final long offset, @NotNull final ColumnPageReader columnPageReader,
             @NotNull final SeekableChannelContext channelContext)
             throws IOException {
+        final AtomicLong pagesLoaded = pagesLoadedForUnitTests;
+        if (pagesLoaded != null) {
+            pagesLoaded.incrementAndGet();
+        }
         return toPage.toPage(offset, columnPageReader, channelContext, mask);
     }
 
+    @VisibleForTesting
+    static void countPagesLoadedForUnitTests(final boolean count) {
+        pagesLoadedForUnitTests = count ? new AtomicLong() : null;
+    }
+
+    @VisibleForTesting
+    static long pagesLoaded() {
+        return pagesLoadedForUnitTests.get();
+    }
+
+    @VisibleForTesting
+    static int prefetchesInFlight() {
+        return prefetchesInFlight.get();
+    }
+
     @Override
     public long mask() {
         return mask;
@@ -171,6 +254,52 @@ public abstract class ColumnChunkPageStore<ATTR extends Any>
         return columnChunkReader.usesDictionaryOnEveryPage();
     }
 
+    /**
+     * Fetch and decode the pages containing {@code rowSequence} on the prefetch thread pool. Loaded pages are retained
+     * by the page cache, so the subsequent read finds them without blocking on I/O. Errors are ignored here, and will
+     * be reported by that read. Announcements are dropped if the prefetch queue is full.
+     */
+    @Override
+    public void prefetch(@NotNull final RowSequence rowSequence) {
+        if (prefetchExecutor == null || rowSequence.isEmpty()
+                || prefetchExecutor.getQueue().remainingCapacity() == 0) {
+            return;
+        }
+        final RowSet rowsToPrefetch;
+        try (final RowSet rowSet = rowSequence.asRowSet()) {
+            rowsToPrefetch = rowSet.copy();
+        }
+        prefetchesInFlight.incrementAndGet();
+        try {
+            prefetchExecutor.execute(() -> prefetchPages(rowsToPrefetch));
+        } catch (final RejectedExecutionException e) {
+            // The queue filled since we checked; drop this announcement
+            prefetchesInFlight.decrementAndGet();
+            rowsToPrefetch.close();
+        }
+    }
+
+    private void prefetchPages(@NotNull final RowSet rowsToPrefetch) {
+        try (final RowSet ignored = rowsToPrefetch;
+                final FillContext fillContext = makeFillContext(1, null);
+                final RowSet.SearchIterator rowKeys = rowsToPrefetch.searchIterator()) {
+            long rowKey = rowKeys.nextLong();
+            for (int pagesRemaining = MAX_PREFETCH_PAGES; pagesRemaining > 0; --pagesRemaining) {
+                final long lastPageRowKey = getPageContaining(fillContext, rowKey).maxRow(rowKey);
+                if (lastPageRowKey == Long.MAX_VALUE || !rowKeys.advance(lastPageRowKey + 1)) {
+                    break;
+                }
+                rowKey = rowKeys.currentValue();
+            }
+        } catch (final RuntimeException e) {
+            log.debug().append("Failed to prefetch pages for column ").append(columnChunkReader.columnName())
+                    .append(", uri ").append(String.valueOf(columnChunkReader.getURI())).append(": ").append(e)
+                    .endl();
+        } finally {
+            prefetchesInFlight.decrementAndGet();
+        }
+    }
+
     @Override
     public void close() {}
 
@@ -72,6 +72,11 @@ public abstract class ParquetColumnRegionBase<ATTR extends Any>
         return columnChunkPageStore.getPageContaining(null, elementIndex);
     }
 
+    @Override
+    public final void prefetch(@NotNull final RowSequence rowSequence) {
+        columnChunkPageStore.prefetch(rowSequence);
+    }
+
     @Override
     @OverridingMethodsMustInvokeSuper
     public void releaseCachedResources() {
@@ -0,0 +1,248 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.table.tiered;
+
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSequenceFactory;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.SharedContext;
+import io.deephaven.engine.table.impl.AbstractColumnSource;
+import io.deephaven.util.annotations.TestUseOnly;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+import static io.deephaven.util.QueryConstants.*;
+
+/**
+ * A column source over {@link TieredStorage}, dispatching each row key to the hot or cold segment that holds it.
+ * <p>
+ * Rows are never modified once appended, and a segment's hot and cold representations hold identical data, so previous
+ * values are always the same as current values.
+ */
+final class TieredColumnSource<T> extends AbstractColumnSource<T> {
+
+    private final TieredStorage storage;
+    private final int columnIndex;
+
+    TieredColumnSource(
+            @NotNull final TieredStorage storage,
+            final int columnIndex,
+            @NotNull final Class<T> type,
+            @Nullable final Class<?> componentType) {
+        super(type, componentType);
+        this.storage = storage;
+        this.columnIndex = columnIndex;
+    }
+
+    private ColumnSource<?> source(final long rowKey) {
+        return storage.segment(rowKey).source(columnIndex);
+    }
+
+    @Override
+    public T get(final long rowKey) {
+        if (rowKey == RowSequence.NULL_ROW_KEY) {
+            return null;
+        }
+        // noinspection unchecked
+        return (T) source(rowKey).get(storage.offset(rowKey));
+    }
+
+    @Override
+    public Boolean getBoolean(final long rowKey) {
+        return rowKey == RowSequence.NULL_ROW_KEY ? NULL_BOOLEAN : source(rowKey).getBoolean(storage.offset(rowKey));
+    }
+
+    @Override
+    public byte getByte(final long rowKey) {
+        return rowKey == RowSequence.NULL_ROW_KEY ? NULL_BYTE : source(rowKey).getByte(storage.offset(rowKey));
+    }
+
+    @Override
+    public char getChar(final long rowKey) {
+        return rowKey == RowSequence.NULL_ROW_KEY ? NULL_CHAR : source(rowKey).getChar(storage.offset(rowKey));
+    }
+
+    @Override
+    public double getDouble(final long rowKey) {
+        return rowKey == RowSequence.NULL_ROW_KEY ? NULL_DOUBLE : source(rowKey).getDouble(storage.offset(rowKey));
+    }
+
+    @Override
+    public float getFloat(final long rowKey) {
+        return rowKey == RowSequence.NULL_ROW_KEY ? NULL_FLOAT : source(rowKey).getFloat(storage.offset(rowKey));
+    }
+
+    @Override
+    public int getInt(final long rowKey) {
+        return rowKey == RowSequence.NULL_ROW_KEY ? NULL_INT : source(rowKey).getInt(storage.offset(rowKey));
+    }
+
+    @Override
+    public long getLong(final long rowKey) {
+        return rowKey == RowSequence.NULL_ROW_KEY ? NULL_LONG : source(rowKey).getLong(storage.offset(rowKey));
+    }
+
+    @Override
+    public short getShort(final long rowKey) {
+        return rowKey == RowSequence.NULL_ROW_KEY ? NULL_SHORT : source(rowKey).getShort(storage.offset(rowKey));
+    }
+
+    @Override
+    public T getPrev(final long rowKey) {
+        return get(rowKey);
+    }
+
+    @Override
+    public Boolean getPrevBoolean(final long rowKey) {
+        return getBoolean(rowKey);
+    }
+
+    @Override
+    public byte getPrevByte(final long rowKey) {
+        return getByte(rowKey);
+    }
+
+    @Override
+    public char getPrevChar(final long rowKey) {
+        return getChar(rowKey);
+    }
+
+    @Override
+    public double getPrevDouble(final long rowKey) {
+        return getDouble(rowKey);
+    }
+
+    @Override
+    public float getPrevFloat(final long rowKey) {
+        return getFloat(rowKey);
+    }
+
+    @Override
+    public int getPrevInt(final long rowKey) {
+        return getInt(rowKey);
+    }
+
+    @Override
+    public long getPrevLong(final long rowKey) {
+        return getLong(rowKey);
+    }
+
+    @Override
+    public short getPrevShort(final long rowKey) {
+        return getShort(rowKey);
+    }
+
+    /**
+     * A fill context holding one fill context for each segment filled so far, so that repeated fills reuse them. A
+     * segment's context is replaced when the segment's source changes, i.e. when it is spilled from hot to cold.
+     */
+    private static final class TieredFillContext implements FillContext {
+
+        private final int chunkCapacity;
+
+        private ColumnSource<?>[] segmentSources = new ColumnSource<?>[0];
+        private FillContext[] segmentContexts = new FillContext[0];
+
+        private TieredFillContext(final int chunkCapacity) {
+            this.chunkCapacity = chunkCapacity;
+        }
+
+        private FillContext forSegment(final int segmentIndex, @NotNull final ColumnSource<?> source) {
+            if (segmentIndex >= segmentContexts.length) {
+                final int newLength = Math.max(segmentIndex + 1, segmentContexts.length * 2);
+                segmentSources = Arrays.copyOf(segmentSources, newLength);
+                segmentContexts = Arrays.copyOf(segmentContexts, newLength);
+            }
+            if (segmentSources[segmentIndex] != source) {
+                if (segmentContexts[segmentIndex] != null) {
+                    segmentContexts[segmentIndex].close();
+                }
+                segmentContexts[segmentIndex] = source.makeFillContext(chunkCapacity);
+                segmentSources[segmentIndex] = source;
+            }
+            return segmentContexts[segmentIndex];
+        }
+
+        @Override
+        public void close() {
+            for (final FillContext segmentContext : segmentContexts) {
+                if (segmentContext != null) {
+                    segmentContext.close();
+                }
+            }
+            Arrays.fill(segmentSources, null);
+            Arrays.fill(segmentContexts, null);
+        }
+    }
+
+    @Override
+    public FillContext makeFillContext(final int chunkCapacity, @Nullable final SharedContext sharedContext) {
+        return new TieredFillContext(chunkCapacity);
+    }
+
+    @Override
+    public void fillChunk(
+            @NotNull final FillContext context,
+            @NotNull final WritableChunk<? super Values> destination,
+            @NotNull final RowSequence rowSequence) {
+        fillBySegment((TieredFillContext) context, destination, rowSequence);
+    }
+
+    @Override
+    public void fillPrevChunk(
+            @NotNull final FillContext context,
+            @NotNull final WritableChunk<? super Values> destination,
+            @NotNull final RowSequence rowSequence) {
+        fillBySegment((TieredFillContext) context, destination, rowSequence);
+    }
+
+    /**
+     * Fill {@code destination} one segment at a time, delegating to each segment's source with row keys shifted into
+     * that segment's flat key space.
+     */
+    private void fillBySegment(
+            @NotNull final TieredFillContext context,
+            @NotNull final WritableChunk<? super Values> destination,
+            @NotNull final RowSequence rowSequence) {
+        final TieredStorage.Segment[] segments = storage.segments();
+        int destinationOffset = 0;
+        try (final RowSequence.Iterator rsIt = rowSequence.getRowSequenceIterator()) {
+            while (rsIt.hasMore()) {
+                final int segmentIndex = storage.segmentIndex(rsIt.peekNextKey());
+                final long segmentFirstRowKey = storage.segmentFirstRowKey(segmentIndex);
+                final RowSequence slice =
+                        rsIt.getNextRowSequenceThrough(segmentFirstRowKey + storage.segmentRows() - 1);
+                final int sliceSize = slice.intSize();
+                final ColumnSource<?> source = segments[segmentIndex].source(columnIndex);
+                try (final RowSequence segmentRowSequence = shift(slice, segmentFirstRowKey)) {
+                    source.fillChunk(context.forSegment(segmentIndex, source),
+                            destination.slice(destinationOffset, sliceSize), segmentRowSequence);
+                }
+                destinationOffset += sliceSize;
+            }
+        }
+        destination.setSize(destinationOffset);
+    }
+
+    private static RowSequence shift(@NotNull final RowSequence rowSequence, final long segmentFirstRowKey) {
+        if (rowSequence.isContiguous()) {
+            return RowSequenceFactory.forRange(
+                    rowSequence.firstRowKey() - segmentFirstRowKey,
+                    rowSequence.lastRowKey() - segmentFirstRowKey);
+        }
+        try (final RowSet rows = rowSequence.asRowSet()) {
+            return rows.shift(-segmentFirstRowKey);
+        }
+    }
+
+    @TestUseOnly
+    TieredStorage storage() {
+        return storage;
+    }
+}
@@ -0,0 +1,318 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.table.tiered;
+
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSequenceFactory;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.table.ColumnDefinition;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.engine.table.WritableColumnSource;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.sources.ArrayBackedColumnSource;
+import io.deephaven.engine.table.impl.util.ChunkUtils;
+import io.deephaven.internal.log.LoggerFactory;
+import io.deephaven.io.logger.Logger;
+import io.deephaven.parquet.table.ParquetInstructions;
+import io.deephaven.parquet.table.ParquetTools;
+import io.deephaven.util.SafeCloseable;
+import io.deephaven.util.annotations.TestUseOnly;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * Row storage for a tiered table. Rows are held in fixed-size segments addressed by {@code rowKey / segmentRows}; the
+ * newest segments are "hot" and held in memory, while full segments beyond the in-memory limit are written to Parquet
+ * in the background and then replaced by "cold" segments whose column sources read the written file lazily.
+ * <p>
+ * Segments are published via a copy-on-write array, so readers never block and always observe either the hot or the
+ * cold representation of a segment, which hold identical data.
+ */
+final class TieredStorage {
+
+    private static final Logger log = LoggerFactory.getLogger(TieredStorage.class);
+
+    /**
+     * A contiguous range of {@code segmentRows} row keys (fewer for the newest segment), with flat column sources
+     * addressed by offset within the segment.
+     */
+    static final class Segment {
+
+        private final ColumnSource<?>[] sources;
+        /** The in-memory sources for a hot segment, or {@code null} for a cold segment. */
+        private final WritableColumnSource<?>[] hotSources;
+        /** The Parquet-backed table for a cold segment, retained for the lifetime of its sources. */
+        @SuppressWarnings({"FieldCanBeLocal", "unused"})
+        private final Table coldTable;
+
+        // Accessed only by the thread appending rows, or after a happens-before edge via the spill executor
+        private int size;
+        // Guarded by the owning TieredStorage
+        private boolean spillScheduled;
+        private boolean spillFailed;
+
+        private Segment(@NotNull final WritableColumnSource<?>[] hotSources) {
+            this.sources = hotSources;
+            this.hotSources = hotSources;
+            this.coldTable = null;
+        }
+
+        private Segment(@NotNull final Table coldTable, @NotNull final ColumnSource<?>[] sources, final int size) {
+            this.sources = sources;
+            this.hotSources = null;
+            this.coldTable = coldTable;
+            this.size = size;
+        }
+
+        ColumnSource<?> source(final int columnIndex) {
+            return sources[columnIndex];
+        }
+
+        boolean isHot() {
+            return hotSources != null;
+        }
+    }
+
+    private final TableDefinition definition;
+    private final Path directory;
+    private final int segmentRows;
+    private final long maxInMemoryRows;
+    private final ParquetInstructions writeInstructions;
+    private final ParquetInstructions readInstructions;
+    private final ExecutionContext executionContext;
+    private final ExecutorService spillExecutor;
+
+    private volatile Segment[] segments = new Segment[0];
+
+    // Guarded by this
+    private long inMemoryRows;
+    private long spillingRows;
+    private boolean closed;
+
+    TieredStorage(
+            @NotNull final TableDefinition definition,
+            @NotNull final Path directory,
+            final int segmentRows,
+            final long maxInMemoryRows,
+            @NotNull final ParquetInstructions writeInstructions) {
+        this.definition = definition;
+        this.directory = directory;
+        this.segmentRows = segmentRows;
+        this.maxInMemoryRows = maxInMemoryRows;
+        this.writeInstructions = writeInstructions.withTableDefinition(definition);
+        this.readInstructions = ParquetInstructions.EMPTY.withTableDefinition(definition);
+        this.executionContext = ExecutionContext.getContext();
+        spillExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "TieredTable-spill-" + directory.getFileName());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    TableDefinition getDefinition() {
+        return definition;
+    }
+
+    int segmentRows() {
+        return segmentRows;
+    }
+
+    Segment[] segments() {
+        return segments;
+    }
+
+    int segmentIndex(final long rowKey) {
+        return (int) (rowKey / segmentRows);
+    }
+
+    long segmentFirstRowKey(final int segmentIndex) {
+        return (long) segmentIndex * segmentRows;
+    }
+
+    Segment segment(final long rowKey) {
+        return segments[segmentIndex(rowKey)];
+    }
+
+    long offset(final long rowKey) {
+        return rowKey % segmentRows;
+    }
+
+    /**
+     * Append rows to the newest segments, scheduling spills of older segments as needed. Must not be called
+     * concurrently with itself.
+     *
+     * @param sources The sources to copy from, in definition order
+     * @param rowSequence The row keys to copy from {@code sources}
+     * @param usePrev Whether to copy previous values
+     */
+    void append(
+            @NotNull final ColumnSource<?>[] sources,
+            @NotNull final RowSequence rowSequence,
+            final boolean usePrev) {
+        try (final RowSequence.Iterator rsIt = rowSequence.getRowSequenceIterator()) {
+            while (rsIt.hasMore()) {
+                final Segment tail = hotTail();
+                final RowSequence slice = rsIt.getNextRowSequenceWithLength(segmentRows - tail.size);
+                final int sliceSize = slice.intSize();
+                try (final RowSequence destination =
+                        RowSequenceFactory.forRange(tail.size, tail.size + sliceSize - 1)) {
+                    ChunkUtils.copyData(sources, slice, tail.hotSources, destination, usePrev);
+                }
+                tail.size += sliceSize;
+                synchronized (this) {
+                    inMemoryRows += sliceSize;
+                }
+            }
+        }
+        maybeSpill();
+    }
+
+    private Segment hotTail() {
+        final Segment[] current = segments;
+        if (current.length > 0 && current[current.length - 1].size < segmentRows) {
+            return current[current.length - 1];
+        }
+        final List<ColumnDefinition<?>> columns = definition.getColumns();
+        final WritableColumnSource<?>[] hotSources = new WritableColumnSource[columns.size()];
+        for (int ci = 0; ci < hotSources.length; ++ci) {
+            final ColumnDefinition<?> column = columns.get(ci);
+            hotSources[ci] = ArrayBackedColumnSource.getMemoryColumnSource(
+                    0, column.getDataType(), column.getComponentType());
+        }
+        final Segment tail = new Segment(hotSources);
+        synchronized (this) {
+            final Segment[] grown = new Segment[current.length + 1];
+            System.arraycopy(segments, 0, grown, 0, current.length);
+            grown[current.length] = tail;
+            segments = grown;
+        }
+        return tail;
+    }
+
+    private synchronized void maybeSpill() {
+        if (closed) {
+            return;
+        }
+        final Segment[] current = segments;
+        for (int si = 0; si < current.length && inMemoryRows - spillingRows > maxInMemoryRows; ++si) {
+            final Segment segment = current[si];
+            if (!segment.isHot() || segment.spillScheduled || segment.spillFailed || segment.size < segmentRows) {
+                continue;
+            }
+            segment.spillScheduled = true;
+            spillingRows += segment.size;
+            final int segmentIndex = si;
+            spillExecutor.execute(() -> spill(segmentIndex, segment));
+        }
+    }
+
+    private void spill(final int segmentIndex, @NotNull final Segment hot) {
+        final Path file = directory.resolve(String.format("segment-%010d.parquet", segmentIndex));
+        Segment cold = null;
+        try (final SafeCloseable ignored = executionContext.open()) {
+            ParquetTools.writeTable(asTable(hot), file.toString(), writeInstructions);
+            cold = readSegment(file, hot.size);
+        } catch (Exception e) {
+            log.error().append("Failed to spill tiered table segment ").append(segmentIndex)
+                    .append(" to ").append(file.toString()).append(", retaining it in memory: ").append(e).endl();
+            deleteQuietly(file);
+        }
+        synchronized (this) {
+            spillingRows -= hot.size;
+            if (cold == null) {
+                hot.spillFailed = true;
+                return;
+            }
+            if (closed) {
+                return;
+            }
+            final Segment[] replaced = segments.clone();
+            replaced[segmentIndex] = cold;
+            segments = replaced;
+            inMemoryRows -= hot.size;
+        }
+    }
+
+    private Table asTable(@NotNull final Segment hot) {
+        final List<ColumnDefinition<?>> columns = definition.getColumns();
+        final Map<String, ColumnSource<?>> columnSources = new LinkedHashMap<>(columns.size());
+        for (int ci = 0; ci < columns.size(); ++ci) {
+            columnSources.put(columns.get(ci).getName(), hot.hotSources[ci]);
+        }
+        return new QueryTable(definition, RowSetFactory.flat(hot.size).toTracking(), columnSources);
+    }
+
+    private Segment readSegment(@NotNull final Path file, final int size) {
+        final Table coldTable = ParquetTools.readTable(file.toString(), readInstructions);
+        final RowSet coldRowSet = coldTable.getRowSet();
+        if (coldRowSet.size() != size || (size > 0 && coldRowSet.lastRowKey() != size - 1)) {
+            throw new IllegalStateException("Expected " + size + " flat rows in " + file + ", found "
+                    + coldRowSet.size() + " rows with last row key " + coldRowSet.lastRowKey());
+        }
+        final List<ColumnDefinition<?>> columns = definition.getColumns();
+        final ColumnSource<?>[] sources = new ColumnSource[columns.size()];
+        for (int ci = 0; ci < sources.length; ++ci) {
+            sources[ci] = coldTable.getColumnSource(columns.get(ci).getName());
+        }
+        return new Segment(coldTable, sources, size);
+    }
+
+    /**
+     * Stop spilling and delete any spilled files once in-flight spills have finished. Readers must no longer be using
+     * this storage.
+     */
+    void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        spillExecutor.execute(this::deleteDirectory);
+        spillExecutor.shutdown();
+    }
+
+    private void deleteDirectory() {
+        try (final Stream<Path> files = Files.list(directory)) {
+            files.forEach(TieredStorage::deleteQuietly);
+        } catch (IOException e) {
+            log.warn().append("Failed to list tiered table directory ").append(directory.toString()).append(": ")
+                    .append(e).endl();
+        }
+        deleteQuietly(directory);
+    }
+
+    private static void deleteQuietly(@NotNull final Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn().append("Failed to delete ").append(path.toString()).append(": ").append(e).endl();
+        }
+    }
+
+    @TestUseOnly
+    synchronized long inMemoryRows() {
+        return inMemoryRows;
+    }
+
+    @TestUseOnly
+    void awaitSpills() throws InterruptedException, ExecutionException {
+        spillExecutor.submit(() -> {
+        }).get();
+    }
+}
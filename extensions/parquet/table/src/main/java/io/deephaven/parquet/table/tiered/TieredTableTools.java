@@ -0,0 +1,229 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.table.tiered;
+
+import io.deephaven.base.verify.Require;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.TrackingWritableRowSet;
+import io.deephaven.engine.table.ColumnDefinition;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.engine.table.TableUpdate;
+import io.deephaven.engine.table.impl.BaseTable;
+import io.deephaven.engine.table.impl.BlinkTableTools;
+import io.deephaven.engine.table.impl.OperationSnapshotControl;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.perf.QueryPerformanceRecorder;
+import io.deephaven.engine.table.impl.remote.ConstructSnapshot.SnapshotFunction;
+import io.deephaven.parquet.table.ParquetInstructions;
+import io.deephaven.util.SafeCloseable;
+
+import javax.annotation.OverridingMethodsMustInvokeSuper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Tools for constructing "tiered" tables, which retain every row added to a parent table while holding only the newest
+ * rows in memory. Older rows are written to Parquet in the background and then read back lazily, so a tiered table can
+ * hold far more rows than fit on the heap.
+ */
+public class TieredTableTools {
+
+    /**
+     * The default number of rows in each segment, the unit in which rows are spilled to Parquet.
+     */
+    public static final int DEFAULT_SEGMENT_ROWS = 1 << 20;
+
+    /**
+     * Equivalent to
+     * {@code of(parent, spillDirectory, maxInMemoryRows, DEFAULT_SEGMENT_ROWS, ParquetInstructions.EMPTY)}.
+     *
+     * @param parent the parent
+     * @param spillDirectory the directory under which spilled segments are written
+     * @param maxInMemoryRows the number of rows to hold in memory before spilling older segments
+     * @return the tiered table
+     * @see #of(Table, Path, long, int, ParquetInstructions)
+     */
+    public static Table of(Table parent, Path spillDirectory, long maxInMemoryRows) {
+        return of(parent, spillDirectory, maxInMemoryRows, DEFAULT_SEGMENT_ROWS, ParquetInstructions.EMPTY);
+    }
+
+    /**
+     * Constructs a "tiered" table, whereby all rows added to {@code parent} are retained and re-indexed by the
+     * resulting flat, append-only table. Rows are determined solely by the {@link TableUpdate#added()} updates,
+     * {@link TableUpdate#removed()} are ignored; and {@link TableUpdate#modified()} / {@link TableUpdate#shifted()} are
+     * not expected. In particular, this is a useful construction with {@link BlinkTableTools#isBlink(Table) blink
+     * tables} which do not retain their own data for more than an update cycle.
+     * <p>
+     * Rows are stored in segments of {@code segmentRows} rows. Once more than {@code maxInMemoryRows} rows are held in
+     * memory, the oldest full segments are written to Parquet files in a new directory under {@code spillDirectory} on
+     * a background thread, and then replaced by column sources that read those files on demand. Spilling never changes
+     * the row keys or values of the result, and produces no updates. If a segment cannot be written, it is logged and
+     * retained in memory. Spilled files are deleted when the result is destroyed.
+     *
+     * @param parent the parent
+     * @param spillDirectory the directory under which spilled segments are written
+     * @param maxInMemoryRows the number of rows to hold in memory before spilling older segments; the newest,
+     *        partially-filled segment is always held in memory
+     * @param segmentRows the number of rows in each segment
+     * @param writeInstructions instructions for writing spilled segments, e.g. the compression codec
+     * @return the tiered table
+     */
+    public static Table of(
+            Table parent,
+            Path spillDirectory,
+            long maxInMemoryRows,
+            int segmentRows,
+            ParquetInstructions writeInstructions) {
+        Require.geqZero(maxInMemoryRows, "maxInMemoryRows");
+        Require.gtZero(segmentRows, "segmentRows");
+        Objects.requireNonNull(writeInstructions);
+        return QueryPerformanceRecorder.withNugget("TieredTableTools.of", () -> {
+            final BaseTable<?> baseTable = (BaseTable<?>) parent.coalesce();
+            final OperationSnapshotControl snapshotControl =
+                    baseTable.createSnapshotControlIfRefreshing(OperationSnapshotControl::new);
+            return new TieredTableSnapshotFunction(baseTable, spillDirectory, maxInMemoryRows, segmentRows,
+                    writeInstructions, snapshotControl).constructResults();
+        });
+    }
+
+    private static class TieredTableSnapshotFunction implements SnapshotFunction {
+        private final Table parent;
+        private final Path spillDirectory;
+        private final long maxInMemoryRows;
+        private final int segmentRows;
+        private final ParquetInstructions writeInstructions;
+        private final OperationSnapshotControl snapshotControl;
+
+        private TieredStorage storage;
+        private QueryTable results;
+
+        private TieredTableSnapshotFunction(
+                Table parent,
+                Path spillDirectory,
+                long maxInMemoryRows,
+                int segmentRows,
+                ParquetInstructions writeInstructions,
+                OperationSnapshotControl snapshotControl) {
+            this.parent = Objects.requireNonNull(parent);
+            this.spillDirectory = Objects.requireNonNull(spillDirectory);
+            this.maxInMemoryRows = maxInMemoryRows;
+            this.segmentRows = segmentRows;
+            this.writeInstructions = writeInstructions;
+            this.snapshotControl = snapshotControl;
+        }
+
+        public Table constructResults() {
+            try (final SafeCloseable ignored =
+                    ExecutionContext.getContext().withUpdateGraph(parent.getUpdateGraph()).open()) {
+                BaseTable.initializeWithSnapshot(
+                        TieredTableSnapshotFunction.class.getSimpleName(), snapshotControl, this);
+            }
+            return Objects.requireNonNull(results);
+        }
+
+        @Override
+        public boolean call(boolean usePrev, long beforeClockValue) {
+            if (storage != null) {
+                // A previous snapshot attempt was inconsistent; discard whatever it stored
+                storage.close();
+            }
+            final TableDefinition definition = parent.getDefinition();
+            final TieredStorage storage = this.storage = new TieredStorage(
+                    definition, createDirectory(), segmentRows, maxInMemoryRows, writeInstructions);
+            final List<ColumnDefinition<?>> columns = definition.getColumns();
+            final ColumnSource<?>[] sources = new ColumnSource[columns.size()];
+            final Map<String, ColumnSource<?>> resultSources = new LinkedHashMap<>(columns.size());
+            for (int ci = 0; ci < sources.length; ++ci) {
+                final ColumnDefinition<?> column = columns.get(ci);
+                sources[ci] = parent.getColumnSource(column.getName());
+                resultSources.put(column.getName(), new TieredColumnSource<>(
+                        storage, ci, column.getDataType(), column.getComponentType()));
+            }
+
+            final long initialSize;
+            try (final RowSet prevToClose = usePrev ? parent.getRowSet().copyPrev() : null) {
+                final RowSet initialRows = usePrev ? prevToClose : parent.getRowSet();
+                storage.append(sources, initialRows, usePrev);
+                initialSize = initialRows.size();
+            }
+
+            final TrackingWritableRowSet resultRows = RowSetFactory.flat(initialSize).toTracking();
+            results = new QueryTable(definition, resultRows, resultSources) {
+                {
+                    setFlat();
+                    setAttribute(Table.ADD_ONLY_TABLE_ATTRIBUTE, true);
+                    setAttribute(Table.APPEND_ONLY_TABLE_ATTRIBUTE, true);
+                }
+
+                @OverridingMethodsMustInvokeSuper
+                @Override
+                public void destroy() {
+                    super.destroy();
+                    storage.close();
+                }
+            };
+            if (snapshotControl != null) {
+                results.setRefreshing(true);
+                snapshotControl.setListenerAndResult(
+                        new AddsToTieredListener(parent, results, sources, storage), results);
+            }
+            return true;
+        }
+
+        private Path createDirectory() {
+            try {
+                Files.createDirectories(spillDirectory);
+                return Files.createTempDirectory(spillDirectory, "tiered-");
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to create spill directory under " + spillDirectory, e);
+            }
+        }
+    }
+
+    private static final class AddsToTieredListener extends BaseTable.ListenerImpl {
+
+        private final ColumnSource<?>[] sources;
+        private final TieredStorage storage;
+
+        private AddsToTieredListener(
+                Table parent,
+                BaseTable<?> dependent,
+                ColumnSource<?>[] sources,
+                TieredStorage storage) {
+            super("AddsToTieredListener", parent, dependent);
+            this.sources = sources;
+            this.storage = storage;
+        }
+
+        @Override
+        public void onUpdate(TableUpdate upstream) {
+            if (upstream.modified().isNonempty() || upstream.shifted().nonempty()) {
+                throw new IllegalStateException("Not expecting modifies or shifts");
+            }
+            // Ignoring any removes
+            final RowSet added = upstream.added();
+            if (added.isEmpty()) {
+                return;
+            }
+            storage.append(sources, added, false);
+
+            final BaseTable<?> dependent = getDependent();
+            final TrackingWritableRowSet resultRows = dependent.getRowSet().writableCast();
+            final long firstAdded = resultRows.size();
+            final RowSet resultAdded = RowSetFactory.fromRange(firstAdded, firstAdded + added.size() - 1);
+            resultRows.insertRange(firstAdded, resultAdded.lastRowKey());
+            dependent.notifyListeners(resultAdded, RowSetFactory.empty(), RowSetFactory.empty());
+        }
+    }
+}
@@ -76,6 +76,7 @@ import org.apache.commons.lang3.mutable.MutableDouble;
 import org.apache.commons.lang3.mutable.MutableFloat;
 import org.apache.commons.lang3.mutable.MutableObject;
 import org.apache.parquet.column.Encoding;
+import org.apache.parquet.column.EncodingStats;
 import org.apache.parquet.column.statistics.Statistics;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.hadoop.metadata.ParquetMetadata;
@@ -3869,6 +3870,66 @@ public final class ParquetTableReadWriteTest {
         assertEquals(columnMetadata.getEncodingStats().getNumDataPagesEncodedAs(Encoding.PLAIN), 2);
     }
 
+    @Test
+    public void columnEncodingsTest() {
+        final int pageSize = ParquetInstructions.MIN_TARGET_PAGE_SIZE;
+        final ParquetInstructions writeInstructions = new ParquetInstructions.Builder()
+                .setTargetPageSize(pageSize) // Force a small page size to cause splitting across pages
+                .setColumnEncoding("Timestamp", ParquetInstructions.ColumnEncoding.DELTA_BINARY_PACKED)
+                .setColumnEncoding("Seq", ParquetInstructions.ColumnEncoding.DELTA_BINARY_PACKED)
+                .setColumnEncoding("IntCol", ParquetInstructions.ColumnEncoding.DELTA_BINARY_PACKED)
+                .setColumnEncoding("ShortCol", ParquetInstructions.ColumnEncoding.DELTA_BINARY_PACKED)
+                .setColumnEncoding("Price", ParquetInstructions.ColumnEncoding.BYTE_STREAM_SPLIT)
+                .setColumnEncoding("FloatCol", ParquetInstructions.ColumnEncoding.BYTE_STREAM_SPLIT)
+                .setColumnEncoding("Sym", ParquetInstructions.ColumnEncoding.DELTA_BYTE_ARRAY)
+                .setColumnEncoding("Str", ParquetInstructions.ColumnEncoding.DELTA_LENGTH_BYTE_ARRAY)
+                .build();
+        final Table table = TableTools.emptyTable(10_000).update(
+                "Timestamp = ii % 17 == 0 ? null : epochNanosToInstant(1700000000000000000L + ii * 137)",
+                "Seq = ii",
+                "IntCol = ii % 13 == 0 ? NULL_INT : (int) (ii * 3)",
+                "ShortCol = ii % 11 == 0 ? NULL_SHORT : (short) (ii % 1000)",
+                "Price = ii % 7 == 0 ? NULL_DOUBLE : 100.0 + (ii % 100) * 0.01",
+                "FloatCol = ii % 5 == 0 ? NULL_FLOAT : (float) (ii * 0.5)",
+                "Sym = ii % 19 == 0 ? null : `SYM_` + (ii / 10)",
+                "Str = ii % 23 == 0 ? null : Long.toString(ii * 31)");
+
+        final File dest = new File(rootFile + File.separator + "columnEncodingsTest.parquet");
+        writeTable(table, dest.getPath(), writeInstructions);
+        checkSingleTable(table, dest);
+
+        final ParquetMetadata metadata =
+                new ParquetTableLocationKey(dest.toURI(), 0, null, ParquetInstructions.EMPTY).getMetadata();
+        final Map<String, Encoding> expectedEncodings = Map.of(
+                "Timestamp", Encoding.DELTA_BINARY_PACKED,
+                "Seq", Encoding.DELTA_BINARY_PACKED,
+                "IntCol", Encoding.DELTA_BINARY_PACKED,
+                "ShortCol", Encoding.DELTA_BINARY_PACKED,
+                "Price", Encoding.BYTE_STREAM_SPLIT,
+                "FloatCol", Encoding.BYTE_STREAM_SPLIT,
+                "Sym", Encoding.DELTA_BYTE_ARRAY,
+                "Str", Encoding.DELTA_LENGTH_BYTE_ARRAY);
+        for (final ColumnChunkMetaData columnMetadata : metadata.getBlocks().get(0).getColumns()) {
+            final Encoding expected = expectedEncodings.get(columnMetadata.getPath().toDotString());
+            assertNotNull(expected);
+            final EncodingStats encodingStats = columnMetadata.getEncodingStats();
+            assertTrue(encodingStats.getNumDataPagesEncodedAs(expected) > 1);
+            assertEquals(0, encodingStats.getNumDataPagesEncodedAs(Encoding.PLAIN));
+            assertFalse(encodingStats.hasDictionaryPages());
+        }
+
+        // Encodings which don't apply to the column type should be rejected
+        final ParquetInstructions badInstructions = new ParquetInstructions.Builder()
+                .setColumnEncoding("Price", ParquetInstructions.ColumnEncoding.DELTA_BINARY_PACKED)
+                .build();
+        final File badDest = new File(rootFile + File.separator + "columnEncodingsTestBad.parquet");
+        try {
+            writeTable(table, badDest.getPath(), badInstructions);
+            fail("Expected exception");
+        } catch (final RuntimeException expected) {
+        }
+    }
+
     private static void verifyMakeHandleException(final Runnable throwingRunnable) {
         try {
             throwingRunnable.run();
@@ -0,0 +1,97 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.table.pagestore;
+
+import io.deephaven.base.FileUtils;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.table.ChunkSource;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.sources.Prefetchable;
+import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import io.deephaven.engine.util.TableTools;
+import io.deephaven.engine.util.file.TrackedFileHandleFactory;
+import io.deephaven.parquet.table.ParquetInstructions;
+import io.deephaven.parquet.table.ParquetTools;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link ColumnChunkPageStore#prefetch(io.deephaven.engine.rowset.RowSequence) prefetching} of Parquet
+ * pages.
+ */
+public class TestColumnChunkPageStorePrefetch {
+
+    @Rule
+    public final EngineCleanup framework = new EngineCleanup();
+
+    private File dataDirectory;
+
+    @Before
+    public final void setUp() throws IOException {
+        dataDirectory = Files.createTempDirectory(TestColumnChunkPageStorePrefetch.class.getName()).toFile();
+        ColumnChunkPageStore.countPagesLoadedForUnitTests(true);
+    }
+
+    @After
+    public final void tearDown() {
+        ColumnChunkPageStore.countPagesLoadedForUnitTests(false);
+        if (dataDirectory.exists()) {
+            TrackedFileHandleFactory.getInstance().closeAll();
+            FileUtils.deleteRecursively(dataDirectory);
+        }
+    }
+
+    /**
+     * Verify that the pages covering announced rows are loaded by the prefetch threads, and that a subsequent read of
+     * those rows is served from the page cache without loading any pages itself.
+     */
+    @Test
+    public void testAnnouncedPagesAreServedFromCache() throws InterruptedException {
+        final Table source = TableTools.emptyTable(100_000).update("L = ii");
+        final File toWrite = new File(dataDirectory, "table.parquet");
+        // Small pages, so that the announced rows span several of them
+        ParquetTools.writeTable(source, toWrite.getPath(), ParquetInstructions.builder()
+                .setTargetPageSize(ParquetInstructions.MIN_TARGET_PAGE_SIZE)
+                .build());
+
+        final Table readBack = ParquetTools.readTable(toWrite.getPath());
+        final ColumnSource<Long> longSource = readBack.getColumnSource("L", long.class);
+        assertTrue(longSource instanceof Prefetchable);
+
+        final int firstRow = 10_000;
+        final int numRows = 2_000;
+        try (final RowSet rows = RowSetFactory.fromRange(firstRow, firstRow + numRows - 1);
+                final ChunkSource.FillContext fillContext = longSource.makeFillContext(numRows);
+                final WritableLongChunk<Values> destination = WritableLongChunk.makeWritableChunk(numRows)) {
+            final long pagesLoadedBefore = ColumnChunkPageStore.pagesLoaded();
+            ((Prefetchable) longSource).prefetch(rows);
+            for (int attempt = 0; attempt < 1000 && ColumnChunkPageStore.prefetchesInFlight() > 0; ++attempt) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, ColumnChunkPageStore.prefetchesInFlight());
+            final long pagesPrefetched = ColumnChunkPageStore.pagesLoaded() - pagesLoadedBefore;
+            assertTrue("prefetched " + pagesPrefetched + " pages", pagesPrefetched > 1);
+
+            longSource.fillChunk(fillContext, destination, rows);
+            assertEquals(pagesLoadedBefore + pagesPrefetched, ColumnChunkPageStore.pagesLoaded());
+            assertEquals(numRows, destination.size());
+            for (int ii = 0; ii < numRows; ++ii) {
+                assertEquals(firstRow + ii, destination.get(ii));
+            }
+        }
+    }
+}
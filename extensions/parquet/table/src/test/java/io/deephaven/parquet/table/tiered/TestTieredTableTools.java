@@ -0,0 +1,127 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.table.tiered;
+
+import io.deephaven.chunk.WritableIntChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.table.ChunkSource;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import io.deephaven.engine.testutil.TstUtils;
+import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import io.deephaven.parquet.table.ParquetInstructions;
+import junit.framework.TestCase;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+
+import static io.deephaven.engine.util.TableTools.doubleCol;
+import static io.deephaven.engine.util.TableTools.intCol;
+import static io.deephaven.engine.util.TableTools.stringCol;
+
+public class TestTieredTableTools {
+
+    @Rule
+    public final EngineCleanup framework = new EngineCleanup();
+
+    @Rule
+    public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testSpillPreservesContent() throws IOException, InterruptedException, ExecutionException {
+        final Path spillDirectory = tempFolder.newFolder("spill").toPath();
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+
+        final QueryTable source = TstUtils.testRefreshingTable(
+                RowSetFactory.flat(5).toTracking(), intCol("I", rows(0, 5)), stringCol("S", strings(0, 5)),
+                doubleCol("D", doubles(0, 5)));
+        source.setAttribute(Table.APPEND_ONLY_TABLE_ATTRIBUTE, true);
+        final Table tiered = TieredTableTools.of(source, spillDirectory, 10, 8, ParquetInstructions.EMPTY);
+        final TieredStorage storage = ((TieredColumnSource<?>) tiered.getColumnSource("I")).storage();
+        TstUtils.assertTableEquals(source, tiered);
+
+        for (int firstRow = 5; firstRow < 100; firstRow += 19) {
+            final int first = firstRow;
+            updateGraph.runWithinUnitTestCycle(() -> {
+                final RowSet added = RowSetFactory.fromRange(first, first + 18);
+                TstUtils.addToTable(source, added, intCol("I", rows(first, 19)),
+                        stringCol("S", strings(first, 19)), doubleCol("D", doubles(first, 19)));
+                source.notifyListeners(added, RowSetFactory.empty(), RowSetFactory.empty());
+            });
+            TstUtils.assertTableEquals(source, tiered);
+        }
+
+        storage.awaitSpills();
+        // The 100 rows are held in 13 segments of 8; everything but the newest segment and at most 10 rows was spilled
+        TestCase.assertTrue(storage.inMemoryRows() <= 8 + 10);
+        TestCase.assertFalse(storage.segments()[0].isHot());
+        TestCase.assertTrue(storage.segments()[storage.segments().length - 1].isHot());
+        TstUtils.assertTableEquals(source, tiered);
+        TstUtils.assertTableEquals(source.where("I % 3 == 0"), tiered.where("I % 3 == 0"));
+    }
+
+    @Test
+    public void testFillContextSurvivesSpill() throws IOException, InterruptedException, ExecutionException {
+        final Path spillDirectory = tempFolder.newFolder("spill").toPath();
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+
+        final QueryTable source = TstUtils.testRefreshingTable(
+                RowSetFactory.flat(5).toTracking(), intCol("I", rows(0, 5)));
+        source.setAttribute(Table.APPEND_ONLY_TABLE_ATTRIBUTE, true);
+        final Table tiered = TieredTableTools.of(source, spillDirectory, 10, 8, ParquetInstructions.EMPTY);
+        final TieredColumnSource<?> column = (TieredColumnSource<?>) tiered.getColumnSource("I");
+        updateGraph.runWithinUnitTestCycle(() -> {
+            final RowSet added = RowSetFactory.fromRange(5, 39);
+            TstUtils.addToTable(source, added, intCol("I", rows(5, 35)));
+            source.notifyListeners(added, RowSetFactory.empty(), RowSetFactory.empty());
+        });
+
+        final int size = tiered.intSize();
+        try (final ChunkSource.FillContext context = column.makeFillContext(size);
+                final WritableIntChunk<Values> destination = WritableIntChunk.makeWritableChunk(size)) {
+            // Fill before the spills complete, and again once the older segments have been replaced by cold ones
+            column.fillChunk(context, destination, tiered.getRowSet());
+            TestCase.assertEquals(size, destination.size());
+            column.storage().awaitSpills();
+            TestCase.assertFalse(column.storage().segments()[0].isHot());
+            column.fillChunk(context, destination, tiered.getRowSet());
+            TestCase.assertEquals(size, destination.size());
+            for (int ii = 0; ii < size; ++ii) {
+                TestCase.assertEquals(ii, destination.get(ii));
+            }
+        }
+    }
+
+    private static int[] rows(final int first, final int count) {
+        final int[] result = new int[count];
+        for (int ii = 0; ii < count; ++ii) {
+            result[ii] = first + ii;
+        }
+        return result;
+    }
+
+    private static String[] strings(final int first, final int count) {
+        final String[] result = new String[count];
+        for (int ii = 0; ii < count; ++ii) {
+            result[ii] = (first + ii) % 4 == 0 ? null : "S" + (first + ii);
+        }
+        return result;
+    }
+
+    private static double[] doubles(final int first, final int count) {
+        final double[] result = new double[count];
+        for (int ii = 0; ii < count; ++ii) {
+            result[ii] = (first + ii) / 3.0;
+        }
+        return result;
+    }
+}
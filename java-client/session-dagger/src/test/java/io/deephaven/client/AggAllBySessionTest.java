@@ -7,6 +7,7 @@ import io.deephaven.api.ColumnName;
 import io.deephaven.api.SortColumn;
 import io.deephaven.api.agg.spec.AggSpec;
 import io.deephaven.api.agg.spec.AggSpecAbsSum;
+import io.deephaven.api.agg.spec.AggSpecApproximateCountDistinct;
 import io.deephaven.api.agg.spec.AggSpecApproximatePercentile;
 import io.deephaven.api.agg.spec.AggSpecAvg;
 import io.deephaven.api.agg.spec.AggSpecCountDistinct;
@@ -15,6 +16,7 @@ import io.deephaven.api.agg.spec.AggSpecFirst;
 import io.deephaven.api.agg.spec.AggSpecFormula;
 import io.deephaven.api.agg.spec.AggSpecFreeze;
 import io.deephaven.api.agg.spec.AggSpecGroup;
+import io.deephaven.api.agg.spec.AggSpecKllPercentile;
 import io.deephaven.api.agg.spec.AggSpecLast;
 import io.deephaven.api.agg.spec.AggSpecMax;
 import io.deephaven.api.agg.spec.AggSpecMedian;
@@ -120,6 +122,12 @@ public class AggAllBySessionTest extends TableSpecTestBase {
             out.add(AggSpecAbsSum.of());
         }
 
+        @Override
+        public void visit(AggSpecApproximateCountDistinct approxCountDistinct) {
+            out.add(AggSpecApproximateCountDistinct.of());
+            out.add(AggSpecApproximateCountDistinct.of(10));
+        }
+
         @Override
         public void visit(AggSpecApproximatePercentile approxPct) {
             out.add(AggSpecApproximatePercentile.of(0.25));
@@ -165,6 +173,12 @@ public class AggAllBySessionTest extends TableSpecTestBase {
             out.add(AggSpecGroup.of());
         }
 
+        @Override
+        public void visit(AggSpecKllPercentile kllPct) {
+            out.add(AggSpecKllPercentile.of(0.25));
+            out.add(AggSpecKllPercentile.of(0.25, 50));
+        }
+
         @Override
         public void visit(AggSpecLast last) {
             out.add(AggSpecLast.of());
@@ -9,6 +9,7 @@ import io.deephaven.api.object.UnionObject;
 import io.deephaven.api.object.UnionObject.Visitor;
 import io.deephaven.proto.backplane.grpc.AggSpec;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecAbsSum;
+import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecApproximateCountDistinct;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecApproximatePercentile;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecAvg;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecCountDistinct;
@@ -17,6 +18,7 @@ import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecFirst;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecFormula;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecFreeze;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecGroup;
+import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecKllPercentile;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecLast;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecMax;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecMedian;
@@ -60,6 +62,13 @@ class AggSpecBuilder implements io.deephaven.api.agg.spec.AggSpec.Visitor {
         out = spec(Builder::setAbsSum, AggSpecAbsSum.newBuilder());
     }
 
+    @Override
+    public void visit(io.deephaven.api.agg.spec.AggSpecApproximateCountDistinct approxCountDistinct) {
+        final AggSpecApproximateCountDistinct.Builder builder = AggSpecApproximateCountDistinct.newBuilder();
+        approxCountDistinct.precision().ifPresent(builder::setPrecision);
+        out = spec(Builder::setApproximateCountDistinct, builder);
+    }
+
     @Override
     public void visit(io.deephaven.api.agg.spec.AggSpecApproximatePercentile approxPct) {
         final AggSpecApproximatePercentile.Builder builder = AggSpecApproximatePercentile.newBuilder()
@@ -107,6 +116,14 @@ class AggSpecBuilder implements io.deephaven.api.agg.spec.AggSpec.Visitor {
         out = spec(Builder::setGroup, AggSpecGroup.newBuilder());
     }
 
+    @Override
+    public void visit(io.deephaven.api.agg.spec.AggSpecKllPercentile kllPct) {
+        final AggSpecKllPercentile.Builder builder = AggSpecKllPercentile.newBuilder()
+                .setPercentile(kllPct.percentile());
+        kllPct.k().ifPresent(builder::setK);
+        out = spec(Builder::setKllPercentile, builder);
+    }
+
     @Override
     public void visit(io.deephaven.api.agg.spec.AggSpecLast last) {
         out = spec(Builder::setLast, AggSpecLast.newBuilder());
@@ -15,6 +15,7 @@ import io.deephaven.proto.backplane.grpc.Ticket;
 import io.deephaven.proto.util.ExportTicketHelper;
 import io.deephaven.qst.table.ParentsVisitor;
 import io.deephaven.qst.table.TableSpec;
+import io.deephaven.qst.table.TableSpecOptimizer;
 import io.grpc.stub.StreamObserver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,25 +43,34 @@ final class ExportStates implements ExportService {
     private final Map<TableSpec, State> exports;
     private final ExportTicketCreator exportTicketCreator;
     private final Lock lock;
+    private final boolean optimize;
 
     ExportStates(SessionImpl session, SessionServiceStub sessionStub, TableServiceStub tableStub,
-            ExportTicketCreator exportTicketCreator) {
+            ExportTicketCreator exportTicketCreator, boolean optimize) {
         this.session = Objects.requireNonNull(session);
         this.sessionStub = Objects.requireNonNull(sessionStub);
         this.tableStub = Objects.requireNonNull(tableStub);
         this.exportTicketCreator = Objects.requireNonNull(exportTicketCreator);
         this.exports = new HashMap<>();
         this.lock = new ReentrantLock();
+        this.optimize = optimize;
     }
 
     @VisibleForTesting
-    ExportStates(SessionServiceStub sessionStub, TableServiceStub tableStub, ExportTicketCreator exportTicketCreator) {
+    ExportStates(SessionServiceStub sessionStub, TableServiceStub tableStub, ExportTicketCreator exportTicketCreator,
+            boolean optimize) {
         this.session = null;
         this.sessionStub = Objects.requireNonNull(sessionStub);
         this.tableStub = Objects.requireNonNull(tableStub);
         this.exportTicketCreator = Objects.requireNonNull(exportTicketCreator);
         this.exports = new HashMap<>();
         this.lock = new ReentrantLock();
+        this.optimize = optimize;
+    }
+
+    @VisibleForTesting
+    ExportStates(SessionServiceStub sessionStub, TableServiceStub tableStub, ExportTicketCreator exportTicketCreator) {
+        this(sessionStub, tableStub, exportTicketCreator, false);
     }
 
     /**
@@ -126,12 +136,7 @@ final class ExportStates implements ExportService {
         }
         final Runnable send;
         if (!newSpecs.isEmpty()) {
-            final List<TableSpec> postOrder = postOrderNewDependencies(oldExports, newSpecs);
-            if (postOrder.isEmpty()) {
-                throw new IllegalStateException();
-            }
-            final BatchTableRequest request =
-                    BatchTableRequestBuilder.buildNoChecks(this::lookupTicket, postOrder);
+            final BatchTableRequest request = batchRequest(oldExports, newSpecs);
             if (request.getOpsCount() == 0) {
                 throw new IllegalStateException();
             }
@@ -193,6 +198,63 @@ final class ExportStates implements ExportService {
     }
 
 
+    private BatchTableRequest batchRequest(Set<TableSpec> oldExports, Set<TableSpec> newSpecs) {
+        if (optimize) {
+            final Optional<BatchTableRequest> optimized = optimizedBatchRequest(oldExports, newSpecs);
+            if (optimized.isPresent()) {
+                return optimized.get();
+            }
+        }
+        final List<TableSpec> postOrder = postOrderNewDependencies(oldExports, newSpecs);
+        if (postOrder.isEmpty()) {
+            throw new IllegalStateException();
+        }
+        return BatchTableRequestBuilder.buildNoChecks(this::lookupTicket, postOrder);
+    }
+
+    /**
+     * Builds a batch that exports the {@link TableSpecOptimizer optimized} equivalents of {@code newSpecs} under the
+     * export ids of {@code newSpecs}. The existing exports are never rewritten. Returns empty when the optimized graph
+     * can't be expressed against the current exports, for example when it would need a table that is only reachable
+     * through an existing export, in which case the caller falls back to the graph as specified.
+     */
+    private Optional<BatchTableRequest> optimizedBatchRequest(Set<TableSpec> oldExports, Set<TableSpec> newSpecs) {
+        final Set<TableSpec> reachableOld = ParentsVisitor.reachable(oldExports);
+        final Map<TableSpec, TableSpec> optimized = TableSpecOptimizer.optimize(newSpecs, reachableOld::contains);
+        final Map<TableSpec, Integer> exportIds = new HashMap<>(optimized.size());
+        for (Map.Entry<TableSpec, TableSpec> e : optimized.entrySet()) {
+            if (exportIds.putIfAbsent(e.getValue(), exports.get(e.getKey()).exportId()) != null) {
+                // Two of the new exports were optimized into the same table
+                return Optional.empty();
+            }
+        }
+        final List<TableSpec> postOrder = new ArrayList<>();
+        for (TableSpec table : ParentsVisitor.postOrderList(optimized.values())) {
+            if (!reachableOld.contains(table)) {
+                postOrder.add(table);
+            }
+        }
+        final Set<TableSpec> created = new HashSet<>(postOrder);
+        if (!created.containsAll(exportIds.keySet())) {
+            return Optional.empty();
+        }
+        for (TableSpec table : postOrder) {
+            if (!exportIds.containsKey(table) && exports.containsKey(table)) {
+                // This would be created under the export id of a different table
+                return Optional.empty();
+            }
+            final boolean unreferenceableParent = ParentsVisitor.getParents(table)
+                    .anyMatch(parent -> !created.contains(parent) && !oldExports.contains(parent));
+            if (unreferenceableParent) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(BatchTableRequestBuilder.buildNoChecks(table -> {
+            final Integer exportId = exportIds.get(table);
+            return exportId != null ? OptionalInt.of(exportId) : lookupTicket(table);
+        }, postOrder));
+    }
+
     private void remove(State state) {
         lock.lock();
         try {
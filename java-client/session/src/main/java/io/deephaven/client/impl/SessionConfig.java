@@ -55,6 +55,22 @@ public abstract class SessionConfig {
         return SessionConfigHelper.mixinStacktrace();
     }
 
+    /**
+     * Whether batches of table operations are rewritten into cheaper, equivalent batches before they are sent to the
+     * server. By default, is {@code false}. The default can be overridden via the system property
+     * {@value SessionImplConfig#DEEPHAVEN_SESSION_BATCH_OPTIMIZE}.
+     *
+     * <p>
+     * The rewrite happens in this client, which is the only place the graph of table specs exists; the server executes
+     * batches as it receives them. Batches sent by the Python, JavaScript and Go clients are not affected.
+     *
+     * @see io.deephaven.qst.table.TableSpecOptimizer
+     */
+    @Default
+    public boolean optimizeBatch() {
+        return SessionConfigHelper.optimizeBatch();
+    }
+
     /**
      * The session execute timeout. By default, is {@code PT1m}. The default can be overridden via the system property
      * {@value SessionImplConfig#DEEPHAVEN_SESSION_EXECUTE_TIMEOUT}.
@@ -82,6 +98,8 @@ public abstract class SessionConfig {
 
         Builder mixinStacktrace(boolean mixinStacktrace);
 
+        Builder optimizeBatch(boolean optimizeBatch);
+
         Builder executeTimeout(Duration executeTimeout);
 
         Builder closeTimeout(Duration closeTimeout);
@@ -17,6 +17,10 @@ final class SessionConfigHelper {
         return Boolean.getBoolean(SessionImplConfig.DEEPHAVEN_SESSION_BATCH_STACKTRACES);
     }
 
+    static boolean optimizeBatch() {
+        return Boolean.getBoolean(SessionImplConfig.DEEPHAVEN_SESSION_BATCH_OPTIMIZE);
+    }
+
     static Duration executeTimeout() {
         return Duration.parse(System.getProperty(SessionImplConfig.DEEPHAVEN_SESSION_EXECUTE_TIMEOUT, "PT1m"));
     }
@@ -140,7 +140,8 @@ public final class SessionImpl extends SessionBase {
     }
 
     private ExportStates newExportStates() {
-        return new ExportStates(this, bearerChannel.session(), bearerChannel.table(), exportTicketCreator);
+        return new ExportStates(this, bearerChannel.session(), bearerChannel.table(), exportTicketCreator,
+                config.optimizeBatch());
     }
 
     @Override
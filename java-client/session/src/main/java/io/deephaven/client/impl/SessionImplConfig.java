@@ -22,6 +22,7 @@ public abstract class SessionImplConfig {
 
     public static final String DEEPHAVEN_SESSION_BATCH = "deephaven.session.batch";
     public static final String DEEPHAVEN_SESSION_BATCH_STACKTRACES = "deephaven.session.batch.stacktraces";
+    public static final String DEEPHAVEN_SESSION_BATCH_OPTIMIZE = "deephaven.session.batch.optimize";
     public static final String DEEPHAVEN_SESSION_EXECUTE_TIMEOUT = "deephaven.session.executeTimeout";
     public static final String DEEPHAVEN_SESSION_CLOSE_TIMEOUT = "deephaven.session.closeTimeout";
 
@@ -60,6 +61,7 @@ public abstract class SessionImplConfig {
                 .channel(new DeephavenChannelImpl(managedChannel))
                 .delegateToBatch(sessionConfig.delegateToBatch())
                 .mixinStacktrace(sessionConfig.mixinStacktrace())
+                .optimizeBatch(sessionConfig.optimizeBatch())
                 .executeTimeout(sessionConfig.executeTimeout())
                 .closeTimeout(sessionConfig.closeTimeout());
         sessionConfig.authenticationTypeAndValue().ifPresent(builder::authenticationTypeAndValue);
@@ -99,6 +101,23 @@ public abstract class SessionImplConfig {
         return SessionConfigHelper.mixinStacktrace();
     }
 
+    /**
+     * Whether batches of table operations are rewritten into cheaper, equivalent batches before they are sent to the
+     * server. By default, is {@code false}. The default can be overridden via the system property
+     * {@value DEEPHAVEN_SESSION_BATCH_OPTIMIZE}.
+     *
+     * <p>
+     * The rewrite happens in this client, which is the only place the graph of table specs exists; the server executes
+     * batches as it receives them. Batches sent by the Python, JavaScript and Go clients are not affected.
+     *
+     * @return true if batches will be optimized, false otherwise
+     * @see io.deephaven.qst.table.TableSpecOptimizer
+     */
+    @Default
+    public boolean optimizeBatch() {
+        return SessionConfigHelper.optimizeBatch();
+    }
+
     /**
      * The session execute timeout. By default, is {@code PT1m}. The default can be overridden via the system property
      * {@value DEEPHAVEN_SESSION_EXECUTE_TIMEOUT}.
@@ -144,6 +163,8 @@ public abstract class SessionImplConfig {
 
         Builder mixinStacktrace(boolean mixinStacktrace);
 
+        Builder optimizeBatch(boolean optimizeBatch);
+
         Builder executeTimeout(Duration executeTimeout);
 
         Builder closeTimeout(Duration closeTimeout);
@@ -325,6 +325,30 @@ class UpdateByBuilder {
                     .build();
         }
 
+        @Override
+        public UpdateByColumn.UpdateBySpec visit(RollingCountDistinctSpec rs) {
+            final UpdateByRollingCountDistinct.Builder builder =
+                    UpdateByRollingCountDistinct.newBuilder()
+                            .setReverseWindowScale(adapt(rs.revWindowScale()))
+                            .setForwardWindowScale(adapt(rs.fwdWindowScale()))
+                            .setCountNulls(rs.countNulls());
+            return UpdateByColumn.UpdateBySpec.newBuilder()
+                    .setRollingCountDistinct(builder.build())
+                    .build();
+        }
+
+        @Override
+        public UpdateByColumn.UpdateBySpec visit(RollingPercentileSpec rs) {
+            final UpdateByRollingPercentile.Builder builder =
+                    UpdateByRollingPercentile.newBuilder()
+                            .setReverseWindowScale(adapt(rs.revWindowScale()))
+                            .setForwardWindowScale(adapt(rs.fwdWindowScale()))
+                            .setPercentile(rs.percentile());
+            return UpdateByColumn.UpdateBySpec.newBuilder()
+                    .setRollingPercentile(builder.build())
+                    .build();
+        }
+
         @Override
         public UpdateByColumn.UpdateBySpec visit(RollingWAvgSpec rs) {
             final UpdateByRollingWAvg.Builder builder =
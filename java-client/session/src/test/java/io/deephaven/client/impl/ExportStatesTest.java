@@ -77,6 +77,8 @@ public class ExportStatesTest {
         }
     };
 
+    DeephavenChannel deephavenChannel;
+
     ExportStates states;
 
     @Before
@@ -90,7 +92,7 @@ public class ExportStatesTest {
         ManagedChannel channel = grpcCleanup
                 .register(InProcessChannelBuilder.forName(serverName).directExecutor().build());
 
-        DeephavenChannel deephavenChannel = new DeephavenChannelImpl(channel);
+        deephavenChannel = new DeephavenChannelImpl(channel);
 
         states = new ExportStates(deephavenChannel.session(), deephavenChannel.table(), new ExportTicketCreator());
     }
@@ -103,12 +105,29 @@ public class ExportStatesTest {
     }
 
     List<Export> export(TableSpec... tables) {
-        try (final ExportServiceRequest request = states.exportRequest(ExportsRequest.logging(tables))) {
+        return export(states, tables);
+    }
+
+    static List<Export> export(ExportStates exportStates, TableSpec... tables) {
+        try (final ExportServiceRequest request = exportStates.exportRequest(ExportsRequest.logging(tables))) {
             request.send();
             return request.exports();
         }
     }
 
+    ExportStates newStates(boolean optimize) {
+        return new ExportStates(deephavenChannel.session(), deephavenChannel.table(), new ExportTicketCreator(),
+                optimize);
+    }
+
+    /**
+     * Exports {@code tables} from a fresh, non-optimizing instance, and returns the batch it sent.
+     */
+    BatchTableRequest unoptimizedBatch(TableSpec... tables) {
+        export(newStates(false), tables);
+        return batches.get(batches.size() - 1);
+    }
+
     @Test
     public void basicExportProperties() {
         final EmptyTable empty42 = TableSpec.empty(42L);
@@ -240,6 +259,55 @@ public class ExportStatesTest {
         }
     }
 
+    @Test
+    public void optimizedBatchUsesExportIds() {
+        final ExportStates optimizing = newStates(true);
+        final TableSpec x = TableSpec.empty(42L).update("A = i", "B = i % 3");
+        final TableSpec spec = x.sort("A").where("B == 2");
+        try (final Export export = export(optimizing, spec).get(0)) {
+            assertThat(export.table()).isEqualTo(spec);
+            verifyBatches(1);
+            // The where is pushed below the sort, which now produces the export
+            final BatchTableRequest batch = batches.get(0);
+            assertThat(batch.getOpsList()).hasSize(4);
+            assertThat(batch.getOps(3).hasSort()).isTrue();
+            assertThat(batch.getOps(3).getSort().getResultId())
+                    .isEqualTo(ExportTicketHelper.wrapExportIdInTicket(export.exportId().id()));
+            assertThat(batch.getOps(3).getSort().getSourceId().getBatchOffset()).isEqualTo(2);
+            assertThat(batch).isNotEqualTo(unoptimizedBatch(spec));
+        }
+    }
+
+    @Test
+    public void optimizedBatchFallsBackWhenExportsCoincide() {
+        final ExportStates optimizing = newStates(true);
+        final TableSpec x = TableSpec.empty(42L).update("A = i", "B = i % 3");
+        final TableSpec merged = x.where("B == 2", "A > 1");
+        final TableSpec separate = x.where("A > 1").where("B == 2");
+        final List<Export> exports = export(optimizing, separate, merged);
+        try (final Export e1 = exports.get(0); final Export e2 = exports.get(1)) {
+            // Both would be optimized into the same table, which can't be exported under two ids
+            assertThat(e1.exportId()).isNotEqualTo(e2.exportId());
+            verifyBatches(1);
+            assertThat(batches.get(0)).isEqualTo(unoptimizedBatch(separate, merged));
+        }
+    }
+
+    @Test
+    public void optimizedBatchDoesNotLookThroughOldExports() {
+        final ExportStates optimizing = newStates(true);
+        final TableSpec x = TableSpec.empty(42L).update("A = i", "B = i % 3");
+        final TableSpec sorted = x.sort("A");
+        try (final Export e1 = export(optimizing, sorted).get(0);
+                final Export e2 = export(optimizing, sorted.where("B == 2")).get(0)) {
+            // x is only reachable through e1, so the where can't be pushed below the sort
+            verifyBatches(2);
+            assertThat(batches.get(1).getOpsList()).hasSize(1);
+            assertThat(batches.get(1).getOps(0)).satisfies(op -> hasSourceId(op, e1.exportId().id()));
+            assertThat(e2.table()).isEqualTo(sorted.where("B == 2"));
+        }
+    }
+
     private void verifyBatches(int size) {
         assertThat(batches).hasSize(size);
     }
@@ -54,6 +54,40 @@ def server_state_log() -> Table:
         raise DHError(e, "failed to obtain the server state log table.") from e
 
 
+def update_latency_log() -> Table:
+    """ Returns a table with sampled end-to-end latency histograms, from ingestion until output by each sink, broken
+    down by cycle wait, listener, sink wait and serialization time. Sampling is disabled unless the
+    'UpdateLatencyTracker.sampleInterval' property is set.
+
+    Returns:
+        a Table
+
+    Raises:
+        DHError
+    """
+    try:
+        return Table(j_table=_JTableLoggers.updateLatencyLog())
+    except Exception as e:
+        raise DHError(e, "failed to obtain the update latency log table.") from e
+
+
+def data_index_advisor_log() -> Table:
+    """ Returns a table with the decisions made by the data index advisor, which tracks the key columns used by
+    filters, where-in and joins and recommends (or, when 'DataIndexAdvisor.autoBuild' is set, builds and retires)
+    data indexes within a memory budget. The advisor is disabled unless the 'DataIndexAdvisor.enabled' property is set.
+
+    Returns:
+        a Table
+
+    Raises:
+        DHError
+    """
+    try:
+        return Table(j_table=_JTableLoggers.dataIndexAdvisorLog())
+    except Exception as e:
+        raise DHError(e, "failed to obtain the data index advisor log table.") from e
+
+
 def process_metrics_log() -> Table:
     """ Returns a table with metrics collected for the current Deephaven engine process.
 
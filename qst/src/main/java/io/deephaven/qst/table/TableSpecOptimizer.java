@@ -0,0 +1,861 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.qst.table;
+
+import io.deephaven.api.ColumnName;
+import io.deephaven.api.JoinAddition;
+import io.deephaven.api.NaturalJoinType;
+import io.deephaven.api.RawString;
+import io.deephaven.api.Selectable;
+import io.deephaven.api.expression.Expression;
+import io.deephaven.api.expression.Function;
+import io.deephaven.api.expression.Method;
+import io.deephaven.api.filter.Filter;
+import io.deephaven.api.filter.FilterAnd;
+import io.deephaven.api.filter.FilterBarrier;
+import io.deephaven.api.filter.FilterComparison;
+import io.deephaven.api.filter.FilterIn;
+import io.deephaven.api.filter.FilterIsNull;
+import io.deephaven.api.filter.FilterNot;
+import io.deephaven.api.filter.FilterOr;
+import io.deephaven.api.filter.FilterPattern;
+import io.deephaven.api.filter.FilterRespectsBarrier;
+import io.deephaven.api.filter.FilterSerial;
+import io.deephaven.api.literal.Literal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Rewrites a graph of {@link TableSpec table specs} into an equivalent graph that is cheaper to execute. The following
+ * rewrites are applied until none of them make progress:
+ *
+ * <ul>
+ * <li>Adjacent {@link WhereTable wheres} are merged into a single where.</li>
+ * <li>Where conjuncts are pushed below {@link SortTable sorts}, below {@link ViewTable views} and
+ * {@link SelectTable selects} that pass the referenced columns through unchanged, below {@link UpdateTable updates},
+ * {@link UpdateViewTable update views} and {@link LazyUpdateTable lazy updates} that do not define the referenced
+ * columns, and into the left input of {@link NaturalJoinTable natural joins}, {@link JoinTable joins} and
+ * {@link AsOfJoinTable as-of joins} when the referenced columns are not join additions.</li>
+ * <li>Columns of a view, select or update that are never referenced by an enclosing view or select are pruned.</li>
+ * <li>Where conjuncts that can never fail, such as a column compared against literals, are moved ahead of the other
+ * conjuncts, cheapest and most selective kinds first. Since every later conjunct then sees a subset of the rows it
+ * would otherwise have seen, the reordering cannot introduce new errors.</li>
+ * </ul>
+ *
+ * <p>
+ * Tables that are exported, that have more than one dependent, or that are {@link #optimize(Collection, Predicate)
+ * fixed} are never looked through; their results remain available exactly as specified. Filters and formulas whose
+ * results depend on row positions ({@code i}, {@code ii}, {@code k}), on column arrays, or on serial or barrier
+ * semantics are never moved.
+ */
+public final class TableSpecOptimizer {
+
+    /**
+     * The upper bound on the number of rewrites applied to a single table, as a guard against rules that do not
+     * converge.
+     */
+    private static final int MAX_REWRITES = 64;
+
+    /**
+     * Optimize the graph rooted at {@code tables}.
+     *
+     * @param tables the tables whose results are required
+     * @param fixed tables that must not be rewritten, typically because they have already been executed
+     * @return a map from each of {@code tables} to its optimized equivalent
+     */
+    public static Map<TableSpec, TableSpec> optimize(
+            Collection<? extends TableSpec> tables,
+            Predicate<TableSpec> fixed) {
+        final TableSpecOptimizer optimizer = new TableSpecOptimizer(tables, fixed);
+        final Map<TableSpec, TableSpec> out = new LinkedHashMap<>(tables.size());
+        for (final TableSpec table : tables) {
+            out.put(table, optimizer.optimized.get(table));
+        }
+        return out;
+    }
+
+    private final Map<TableSpec, TableSpec> optimized = new HashMap<>();
+    private final Set<TableSpec> pinned = new HashSet<>();
+
+    private TableSpecOptimizer(Collection<? extends TableSpec> tables, Predicate<TableSpec> fixed) {
+        final List<TableSpec> postOrder = ParentsVisitor.postOrderList(new ArrayList<>(tables));
+        final Map<TableSpec, Integer> dependents = new HashMap<>();
+        for (final TableSpec table : postOrder) {
+            if (fixed.test(table)) {
+                continue;
+            }
+            ParentsVisitor.getParents(table).distinct().forEach(p -> dependents.merge(p, 1, Integer::sum));
+        }
+        final Set<TableSpec> roots = new HashSet<>(tables);
+        final Rebuild rebuild = new Rebuild();
+        for (final TableSpec table : postOrder) {
+            if (fixed.test(table)) {
+                optimized.put(table, table);
+                pinned.add(table);
+                continue;
+            }
+            final TableSpec result = simplify(table.walk(rebuild));
+            optimized.put(table, result);
+            if (roots.contains(table) || dependents.getOrDefault(table, 0) > 1) {
+                pinned.add(result);
+            }
+        }
+    }
+
+    private TableSpec simplify(TableSpec table) {
+        if (pinned.contains(table)) {
+            // already optimized, or must be kept as-is
+            return table;
+        }
+        final Rules rules = new Rules();
+        for (int ii = 0; ii < MAX_REWRITES; ++ii) {
+            final TableSpec rewritten = table.walk(rules);
+            if (rewritten == null) {
+                return table;
+            }
+            table = rewritten;
+        }
+        return table;
+    }
+
+    private boolean canLookThrough(TableSpec table) {
+        return !pinned.contains(table);
+    }
+
+    // region Rules
+
+    private final class Rules extends TableVisitorGeneric<TableSpec> {
+
+        @Override
+        public TableSpec accept(TableSpec t) {
+            return null;
+        }
+
+        @Override
+        public TableSpec visit(WhereTable whereTable) {
+            final List<Filter> conjuncts = new ArrayList<>(Filter.extractAnds(whereTable.filter()));
+            final List<Set<String>> references = new ArrayList<>(conjuncts.size());
+            for (final Filter conjunct : conjuncts) {
+                final Set<String> columns = ColumnReferences.of(conjunct);
+                if (columns == null) {
+                    return null;
+                }
+                references.add(columns);
+            }
+            final TableSpec parent = whereTable.parent();
+            if (canLookThrough(parent)) {
+                final TableSpec pushed = parent.walk(new PushWhere(conjuncts, references));
+                if (pushed != null) {
+                    return pushed;
+                }
+            }
+            return reorder(whereTable, conjuncts);
+        }
+
+        @Override
+        public TableSpec visit(ViewTable viewTable) {
+            return prune(viewTable, viewTable.columns());
+        }
+
+        @Override
+        public TableSpec visit(SelectTable selectTable) {
+            if (selectTable.columns().isEmpty()) {
+                return null;
+            }
+            return prune(selectTable, selectTable.columns());
+        }
+
+        private TableSpec reorder(WhereTable whereTable, List<Filter> conjuncts) {
+            final List<Filter> sorted = conjuncts.stream()
+                    .sorted(Comparator.comparingInt(TableSpecOptimizer::rank))
+                    .collect(Collectors.toList());
+            if (sorted.equals(conjuncts)) {
+                return null;
+            }
+            return whereTable.parent().where(Filter.and(sorted));
+        }
+
+        private TableSpec prune(SelectableTable outer, List<Selectable> outerColumns) {
+            final TableSpec inner = outer.parent();
+            if (!canLookThrough(inner) || !(inner instanceof SelectableTable)) {
+                return null;
+            }
+            final SelectableTable innerSelectable = (SelectableTable) inner;
+            final List<Selectable> innerColumns = innerSelectable.columns();
+            if (inner instanceof SelectTable && innerColumns.isEmpty()) {
+                return null;
+            }
+            final Set<String> needed = new HashSet<>();
+            for (final Selectable column : outerColumns) {
+                final Set<String> columns = ColumnReferences.of(column.expression());
+                if (columns == null) {
+                    return null;
+                }
+                needed.addAll(columns);
+            }
+            final boolean[] keep = new boolean[innerColumns.size()];
+            int kept = 0;
+            for (int ii = innerColumns.size() - 1; ii >= 0; --ii) {
+                final Selectable column = innerColumns.get(ii);
+                final Set<String> columns = ColumnReferences.of(column.expression());
+                if (columns == null) {
+                    return null;
+                }
+                if (needed.remove(column.newColumn().name())) {
+                    keep[ii] = true;
+                    ++kept;
+                    needed.addAll(columns);
+                }
+            }
+            if (kept == innerColumns.size()) {
+                return null;
+            }
+            final List<Selectable> prunedColumns = new ArrayList<>(kept);
+            for (int ii = 0; ii < innerColumns.size(); ++ii) {
+                if (keep[ii]) {
+                    prunedColumns.add(innerColumns.get(ii));
+                }
+            }
+            final TableSpec prunedInner;
+            if (inner instanceof ViewTable || inner instanceof SelectTable) {
+                if (prunedColumns.isEmpty()) {
+                    return null;
+                }
+                prunedInner = inner instanceof ViewTable
+                        ? innerSelectable.parent().view(prunedColumns)
+                        : innerSelectable.parent().select(prunedColumns);
+            } else if (prunedColumns.isEmpty()) {
+                prunedInner = innerSelectable.parent();
+            } else {
+                prunedInner = withColumns(innerSelectable, innerSelectable.parent(), prunedColumns);
+            }
+            return withColumns(outer, simplify(prunedInner), outerColumns);
+        }
+    }
+
+    /**
+     * Pushes the conjuncts of a where below its parent, returning {@code null} when none of them can be moved.
+     */
+    private final class PushWhere extends TableVisitorGeneric<TableSpec> {
+
+        private final List<Filter> conjuncts;
+        private final List<Set<String>> references;
+
+        PushWhere(List<Filter> conjuncts, List<Set<String>> references) {
+            this.conjuncts = Objects.requireNonNull(conjuncts);
+            this.references = Objects.requireNonNull(references);
+        }
+
+        @Override
+        public TableSpec accept(TableSpec t) {
+            return null;
+        }
+
+        @Override
+        public TableSpec visit(WhereTable whereTable) {
+            final List<Filter> inner = new ArrayList<>(Filter.extractAnds(whereTable.filter()));
+            for (final Filter conjunct : inner) {
+                if (ColumnReferences.of(conjunct) == null) {
+                    return null;
+                }
+            }
+            inner.addAll(conjuncts);
+            return whereTable.parent().where(Filter.and(inner));
+        }
+
+        @Override
+        public TableSpec visit(SortTable sortTable) {
+            return simplify(sortTable.parent().where(Filter.and(conjuncts))).sort(sortTable.columns());
+        }
+
+        @Override
+        public TableSpec visit(ViewTable viewTable) {
+            return passThrough(viewTable);
+        }
+
+        @Override
+        public TableSpec visit(SelectTable selectTable) {
+            if (selectTable.columns().isEmpty()) {
+                return push(selectTable, selectTable.parent(), c -> true,
+                        p -> p.select());
+            }
+            return passThrough(selectTable);
+        }
+
+        @Override
+        public TableSpec visit(UpdateTable updateTable) {
+            return notDefined(updateTable);
+        }
+
+        @Override
+        public TableSpec visit(UpdateViewTable updateViewTable) {
+            return notDefined(updateViewTable);
+        }
+
+        @Override
+        public TableSpec visit(LazyUpdateTable lazyUpdateTable) {
+            return notDefined(lazyUpdateTable);
+        }
+
+        @Override
+        public TableSpec visit(NaturalJoinTable naturalJoinTable) {
+            // A left row filtered out early would otherwise have failed for lack of a match
+            if (naturalJoinTable.joinType() == NaturalJoinType.EXACTLY_ONE_MATCH) {
+                return null;
+            }
+            return leftOnly(naturalJoinTable, left -> left.naturalJoin(naturalJoinTable.right(),
+                    naturalJoinTable.matches(), naturalJoinTable.additions(), naturalJoinTable.joinType()));
+        }
+
+        @Override
+        public TableSpec visit(JoinTable joinTable) {
+            return leftOnly(joinTable, left -> joinTable.reserveBits().isPresent()
+                    ? left.join(joinTable.right(), joinTable.matches(), joinTable.additions(),
+                            joinTable.reserveBits().getAsInt())
+                    : left.join(joinTable.right(), joinTable.matches(), joinTable.additions()));
+        }
+
+        @Override
+        public TableSpec visit(AsOfJoinTable aj) {
+            return leftOnly(aj, left -> left.asOfJoin(aj.right(), aj.matches(), aj.joinMatch(), aj.additions()));
+        }
+
+        private TableSpec passThrough(SelectableTable table) {
+            if (hasUnknownReferences(table.columns())) {
+                return null;
+            }
+            final Set<String> identities = table.columns().stream()
+                    .filter(TableSpecOptimizer::isIdentity)
+                    .map(s -> s.newColumn().name())
+                    .collect(Collectors.toSet());
+            return push(table, table.parent(), identities::containsAll,
+                    p -> withColumns(table, p, table.columns()));
+        }
+
+        private TableSpec notDefined(SelectableTable table) {
+            if (hasUnknownReferences(table.columns())) {
+                return null;
+            }
+            final Set<String> defined = table.columns().stream()
+                    .map(s -> s.newColumn().name())
+                    .collect(Collectors.toSet());
+            return push(table, table.parent(), c -> c.stream().noneMatch(defined::contains),
+                    p -> withColumns(table, p, table.columns()));
+        }
+
+        private TableSpec leftOnly(Join join, java.util.function.Function<TableSpec, TableSpec> rebuild) {
+            // With no additions every right column is added, so we can't tell which side a column comes from
+            if (join.additions().isEmpty()) {
+                return null;
+            }
+            final Set<String> added = join.additions().stream()
+                    .map(JoinAddition::newColumn)
+                    .map(ColumnName::name)
+                    .collect(Collectors.toSet());
+            return push(join, join.left(), c -> c.stream().noneMatch(added::contains), rebuild);
+        }
+
+        private TableSpec push(
+                TableSpec table,
+                TableSpec input,
+                Predicate<Set<String>> pushable,
+                java.util.function.Function<TableSpec, TableSpec> rebuild) {
+            final List<Filter> below = new ArrayList<>();
+            final List<Filter> above = new ArrayList<>();
+            for (int ii = 0; ii < conjuncts.size(); ++ii) {
+                (pushable.test(references.get(ii)) ? below : above).add(conjuncts.get(ii));
+            }
+            if (below.isEmpty()) {
+                return null;
+            }
+            final TableSpec rebuilt = rebuild.apply(simplify(input.where(Filter.and(below))));
+            return above.isEmpty() ? rebuilt : rebuilt.where(Filter.and(above));
+        }
+    }
+
+    // endregion Rules
+
+    private static TableSpec withColumns(SelectableTable table, TableSpec parent, List<Selectable> columns) {
+        if (table instanceof ViewTable) {
+            return parent.view(columns);
+        }
+        if (table instanceof SelectTable) {
+            return parent.select(columns);
+        }
+        if (table instanceof UpdateViewTable) {
+            return parent.updateView(columns);
+        }
+        if (table instanceof UpdateTable) {
+            return parent.update(columns);
+        }
+        if (table instanceof LazyUpdateTable) {
+            return parent.lazyUpdate(columns);
+        }
+        throw new IllegalStateException("Unexpected selectable table " + table.getClass());
+    }
+
+    private static boolean isIdentity(Selectable selectable) {
+        final Expression expression = selectable.expression();
+        if (expression instanceof RawString) {
+            return ((RawString) expression).value().trim().equals(selectable.newColumn().name());
+        }
+        return expression.equals(selectable.newColumn());
+    }
+
+    private static boolean hasUnknownReferences(List<Selectable> columns) {
+        for (final Selectable column : columns) {
+            if (ColumnReferences.of(column.expression()) == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // region Ranking
+
+    private static final String IDENTIFIER = "[A-Za-z_$][\\w$]*";
+
+    private static final String LITERAL =
+            "(?:\"(?:[^\"\\\\]|\\\\.)*\"|'(?:[^'\\\\]|\\\\.)*'|`[^`]*`|[-+]?\\d[\\w.]*|true|false|null)";
+
+    private static final Pattern RAW_MATCH = Pattern.compile("^\\s*" + IDENTIFIER
+            + "\\s*(?:==?|\\s(?:not\\s+)?(?:icase\\s+)?in\\s)\\s*" + LITERAL + "(?:\\s*,\\s*" + LITERAL + ")*\\s*$");
+
+    private static final Pattern RAW_COMPARISON = Pattern.compile("^\\s*" + IDENTIFIER
+            + "\\s*(?:<=?|>=?|!=)\\s*" + LITERAL + "\\s*$");
+
+    /**
+     * Ranks a conjunct for evaluation order. Only conjuncts that can never fail are given a rank below
+     * {@link Integer#MAX_VALUE}; lower ranks are cheaper and typically more selective.
+     */
+    private static int rank(Filter filter) {
+        if (filter instanceof FilterIsNull) {
+            return ((FilterIsNull) filter).expression() instanceof ColumnName ? 0 : Integer.MAX_VALUE;
+        }
+        if (filter instanceof FilterIn) {
+            final FilterIn in = (FilterIn) filter;
+            return in.expression() instanceof ColumnName && in.values().stream().allMatch(Literal.class::isInstance)
+                    ? 0
+                    : Integer.MAX_VALUE;
+        }
+        if (filter instanceof FilterComparison) {
+            final FilterComparison comparison = (FilterComparison) filter;
+            final boolean columnVsLiteral = (comparison.lhs() instanceof ColumnName
+                    && comparison.rhs() instanceof Literal)
+                    || (comparison.lhs() instanceof Literal && comparison.rhs() instanceof ColumnName);
+            if (!columnVsLiteral) {
+                return Integer.MAX_VALUE;
+            }
+            return comparison.operator() == FilterComparison.Operator.EQUALS ? 0 : 1;
+        }
+        if (filter instanceof FilterNot && ((FilterNot<?>) filter).filter() instanceof FilterIsNull) {
+            return rank(((FilterNot<?>) filter).filter()) == 0 ? 1 : Integer.MAX_VALUE;
+        }
+        if (filter instanceof FilterPattern) {
+            return ((FilterPattern) filter).expression() instanceof ColumnName ? 2 : Integer.MAX_VALUE;
+        }
+        if (filter instanceof RawString) {
+            final String value = ((RawString) filter).value();
+            if (RAW_MATCH.matcher(value).matches()) {
+                return 0;
+            }
+            if (RAW_COMPARISON.matcher(value).matches()) {
+                return 1;
+            }
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    // endregion Ranking
+
+    // region Rebuild
+
+    /**
+     * Rebuilds a table on top of the optimized versions of its parents.
+     */
+    private final class Rebuild implements TableSpec.Visitor<TableSpec> {
+
+        private TableSpec get(TableSpec parent) {
+            return Objects.requireNonNull(optimized.get(parent));
+        }
+
+        @Override
+        public TableSpec visit(EmptyTable emptyTable) {
+            return emptyTable;
+        }
+
+        @Override
+        public TableSpec visit(NewTable newTable) {
+            return newTable;
+        }
+
+        @Override
+        public TableSpec visit(TimeTable timeTable) {
+            return timeTable;
+        }
+
+        @Override
+        public TableSpec visit(TicketTable ticketTable) {
+            return ticketTable;
+        }
+
+        @Override
+        public TableSpec visit(InputTable inputTable) {
+            return inputTable;
+        }
+
+        @Override
+        public TableSpec visit(MergeTable mergeTable) {
+            return MergeTable.of(mergeTable.tables().stream().map(this::get).collect(Collectors.toList()));
+        }
+
+        @Override
+        public TableSpec visit(MultiJoinTable multiJoinTable) {
+            return MultiJoinTable.of(multiJoinTable.inputs().stream()
+                    .map(input -> MultiJoinInput.<TableSpec>builder()
+                            .table(get(input.table()))
+                            .addAllMatches(input.matches())
+                            .addAllAdditions(input.additions())
+                            .build())
+                    .collect(Collectors.toList()));
+        }
+
+        @Override
+        public TableSpec visit(HeadTable headTable) {
+            return get(headTable.parent()).head(headTable.size());
+        }
+
+        @Override
+        public TableSpec visit(TailTable tailTable) {
+            return get(tailTable.parent()).tail(tailTable.size());
+        }
+
+        @Override
+        public TableSpec visit(SliceTable sliceTable) {
+            return get(sliceTable.parent()).slice(sliceTable.firstPositionInclusive(),
+                    sliceTable.lastPositionExclusive());
+        }
+
+        @Override
+        public TableSpec visit(ReverseTable reverseTable) {
+            return get(reverseTable.parent()).reverse();
+        }
+
+        @Override
+        public TableSpec visit(SortTable sortTable) {
+            return get(sortTable.parent()).sort(sortTable.columns());
+        }
+
+        @Override
+        public TableSpec visit(SnapshotTable snapshotTable) {
+            return get(snapshotTable.base()).snapshot();
+        }
+
+        @Override
+        public TableSpec visit(SnapshotWhenTable snapshotWhenTable) {
+            return get(snapshotWhenTable.base()).snapshotWhen(get(snapshotWhenTable.trigger()),
+                    snapshotWhenTable.options());
+        }
+
+        @Override
+        public TableSpec visit(WhereTable whereTable) {
+            return get(whereTable.parent()).where(whereTable.filter());
+        }
+
+        @Override
+        public TableSpec visit(WhereInTable whereInTable) {
+            final TableSpec left = get(whereInTable.left());
+            final TableSpec right = get(whereInTable.right());
+            return whereInTable.inverted()
+                    ? left.whereNotIn(right, whereInTable.matches())
+                    : left.whereIn(right, whereInTable.matches());
+        }
+
+        @Override
+        public TableSpec visit(ViewTable viewTable) {
+            return get(viewTable.parent()).view(viewTable.columns());
+        }
+
+        @Override
+        public TableSpec visit(SelectTable selectTable) {
+            return get(selectTable.parent()).select(selectTable.columns());
+        }
+
+        @Override
+        public TableSpec visit(UpdateViewTable updateViewTable) {
+            return get(updateViewTable.parent()).updateView(updateViewTable.columns());
+        }
+
+        @Override
+        public TableSpec visit(UpdateTable updateTable) {
+            return get(updateTable.parent()).update(updateTable.columns());
+        }
+
+        @Override
+        public TableSpec visit(LazyUpdateTable lazyUpdateTable) {
+            return get(lazyUpdateTable.parent()).lazyUpdate(lazyUpdateTable.columns());
+        }
+
+        @Override
+        public TableSpec visit(NaturalJoinTable naturalJoinTable) {
+            return get(naturalJoinTable.left()).naturalJoin(get(naturalJoinTable.right()),
+                    naturalJoinTable.matches(), naturalJoinTable.additions(), naturalJoinTable.joinType());
+        }
+
+        @Override
+        public TableSpec visit(ExactJoinTable exactJoinTable) {
+            return get(exactJoinTable.left()).exactJoin(get(exactJoinTable.right()),
+                    exactJoinTable.matches(), exactJoinTable.additions());
+        }
+
+        @Override
+        public TableSpec visit(JoinTable joinTable) {
+            final TableSpec left = get(joinTable.left());
+            final TableSpec right = get(joinTable.right());
+            return joinTable.reserveBits().isPresent()
+                    ? left.join(right, joinTable.matches(), joinTable.additions(), joinTable.reserveBits().getAsInt())
+                    : left.join(right, joinTable.matches(), joinTable.additions());
+        }
+
+        @Override
+        public TableSpec visit(AsOfJoinTable aj) {
+            return get(aj.left()).asOfJoin(get(aj.right()), aj.matches(), aj.joinMatch(), aj.additions());
+        }
+
+        @Override
+        public TableSpec visit(RangeJoinTable rangeJoinTable) {
+            return get(rangeJoinTable.left()).rangeJoin(get(rangeJoinTable.right()),
+                    rangeJoinTable.exactMatches(), rangeJoinTable.rangeMatch(), rangeJoinTable.aggregations());
+        }
+
+        @Override
+        public TableSpec visit(AggregateAllTable aggregateAllTable) {
+            return get(aggregateAllTable.parent()).aggAllBy(aggregateAllTable.spec(),
+                    aggregateAllTable.groupByColumns().toArray(new ColumnName[0]));
+        }
+
+        @Override
+        public TableSpec visit(AggregateTable aggregateTable) {
+            final TableSpec parent = get(aggregateTable.parent());
+            if (aggregateTable.groupByColumns().isEmpty()) {
+                return parent.aggBy(aggregateTable.aggregations(), aggregateTable.preserveEmpty());
+            }
+            return parent.aggBy(
+                    aggregateTable.aggregations(),
+                    aggregateTable.preserveEmpty(),
+                    aggregateTable.initialGroups().map(this::get).orElse(null),
+                    aggregateTable.groupByColumns());
+        }
+
+        @Override
+        public TableSpec visit(SelectDistinctTable selectDistinctTable) {
+            return get(selectDistinctTable.parent()).selectDistinct(selectDistinctTable.columns());
+        }
+
+        @Override
+        public TableSpec visit(UpdateByTable updateByTable) {
+            final TableSpec parent = get(updateByTable.parent());
+            if (updateByTable.control().isPresent()) {
+                return parent.updateBy(updateByTable.control().get(), updateByTable.operations(),
+                        updateByTable.groupByColumns());
+            }
+            return parent.updateBy(updateByTable.operations(), updateByTable.groupByColumns());
+        }
+
+        @Override
+        public TableSpec visit(UngroupTable ungroupTable) {
+            return get(ungroupTable.parent()).ungroup(ungroupTable.nullFill(), ungroupTable.ungroupColumns());
+        }
+
+        @Override
+        public TableSpec visit(DropColumnsTable dropColumnsTable) {
+            return get(dropColumnsTable.parent())
+                    .dropColumns(dropColumnsTable.dropColumns().toArray(new ColumnName[0]));
+        }
+    }
+
+    // endregion Rebuild
+
+    // region ColumnReferences
+
+    /**
+     * Collects the column names referenced by a filter or expression. Names inside {@link RawString raw strings} are
+     * found with a conservative tokenization that may over-report, but never under-reports, the referenced columns.
+     */
+    static final class ColumnReferences implements Filter.Visitor<Boolean>, Expression.Visitor<Boolean> {
+
+        private static final Pattern QUOTED = Pattern.compile("\"(?:[^\"\\\\]|\\\\.)*\"|'(?:[^'\\\\]|\\\\.)*'|`[^`]*`");
+
+        private static final Pattern NAME = Pattern.compile("(?<![\\w$.])(" + IDENTIFIER + ")(\\s*\\()?");
+
+        private static final Set<String> KEYWORDS = new HashSet<>(Arrays.asList(
+                "abstract", "assert", "boolean", "break", "byte", "case", "catch", "char", "class", "const",
+                "continue", "default", "do", "double", "else", "enum", "extends", "final", "finally", "float",
+                "for", "goto", "if", "implements", "import", "instanceof", "int", "interface", "long", "native",
+                "new", "package", "private", "protected", "public", "return", "short", "static", "strictfp",
+                "super", "switch", "synchronized", "this", "throw", "throws", "transient", "try", "void",
+                "volatile", "while", "true", "false", "null",
+                // query language
+                "in", "not", "icase", "includes", "any", "all"));
+
+        private static final Set<String> ROW_VARIABLES = new HashSet<>(Arrays.asList("i", "ii", "k"));
+
+        /**
+         * @return the referenced column names, or {@code null} if they can't be determined or the filter depends on
+         *         more than the values of its own row
+         */
+        static Set<String> of(Filter filter) {
+            final ColumnReferences references = new ColumnReferences();
+            return filter.walk((Filter.Visitor<Boolean>) references) ? references.columns : null;
+        }
+
+        /**
+         * @return the referenced column names, or {@code null} if they can't be determined or the expression depends
+         *         on more than the values of its own row
+         */
+        static Set<String> of(Expression expression) {
+            final ColumnReferences references = new ColumnReferences();
+            return expression.walk((Expression.Visitor<Boolean>) references) ? references.columns : null;
+        }
+
+        private final Set<String> columns = new HashSet<>();
+
+        private boolean all(Collection<? extends Expression> expressions) {
+            for (final Expression expression : expressions) {
+                if (!expression.walk((Expression.Visitor<Boolean>) this)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean allFilters(Collection<? extends Filter> filters) {
+            for (final Filter filter : filters) {
+                if (!filter.walk((Filter.Visitor<Boolean>) this)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Boolean visit(Literal literal) {
+            return true;
+        }
+
+        @Override
+        public Boolean visit(ColumnName columnName) {
+            columns.add(columnName.name());
+            return true;
+        }
+
+        @Override
+        public Boolean visit(Filter filter) {
+            return filter.walk((Filter.Visitor<Boolean>) this);
+        }
+
+        @Override
+        public Boolean visit(FilterIsNull isNull) {
+            return isNull.expression().walk((Expression.Visitor<Boolean>) this);
+        }
+
+        @Override
+        public Boolean visit(FilterComparison comparison) {
+            return comparison.lhs().walk((Expression.Visitor<Boolean>) this)
+                    && comparison.rhs().walk((Expression.Visitor<Boolean>) this);
+        }
+
+        @Override
+        public Boolean visit(FilterIn in) {
+            return in.expression().walk((Expression.Visitor<Boolean>) this) && all(in.values());
+        }
+
+        @Override
+        public Boolean visit(FilterNot<?> not) {
+            return not.filter().walk((Filter.Visitor<Boolean>) this);
+        }
+
+        @Override
+        public Boolean visit(FilterOr ors) {
+            return allFilters(ors.filters());
+        }
+
+        @Override
+        public Boolean visit(FilterAnd ands) {
+            return allFilters(ands.filters());
+        }
+
+        @Override
+        public Boolean visit(FilterPattern pattern) {
+            return pattern.expression().walk((Expression.Visitor<Boolean>) this);
+        }
+
+        @Override
+        public Boolean visit(FilterSerial serial) {
+            return false;
+        }
+
+        @Override
+        public Boolean visit(FilterBarrier barrier) {
+            return false;
+        }
+
+        @Override
+        public Boolean visit(FilterRespectsBarrier respectsBarrier) {
+            return false;
+        }
+
+        @Override
+        public Boolean visit(Function function) {
+            return all(function.arguments());
+        }
+
+        @Override
+        public Boolean visit(Method method) {
+            return method.object().walk((Expression.Visitor<Boolean>) this) && all(method.arguments());
+        }
+
+        @Override
+        public Boolean visit(boolean literal) {
+            return true;
+        }
+
+        @Override
+        public Boolean visit(RawString rawString) {
+            final String unquoted = QUOTED.matcher(rawString.value()).replaceAll(" ");
+            final Matcher matcher = NAME.matcher(unquoted);
+            while (matcher.find()) {
+                if (matcher.group(2) != null) {
+                    // a function or method call
+                    continue;
+                }
+                final String name = matcher.group(1);
+                if (KEYWORDS.contains(name)) {
+                    continue;
+                }
+                if (ROW_VARIABLES.contains(name) || name.endsWith("_")) {
+                    return false;
+                }
+                columns.add(name);
+            }
+            return true;
+        }
+    }
+
+    // endregion ColumnReferences
+}
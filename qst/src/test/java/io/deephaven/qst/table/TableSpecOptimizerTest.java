@@ -0,0 +1,131 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.qst.table;
+
+import io.deephaven.api.filter.Filter;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TableSpecOptimizerTest {
+
+    private static final TableSpec SOURCE = TableSpec.ticket("source");
+
+    private static final TableSpec RIGHT = TableSpec.ticket("right");
+
+    private static TableSpec optimize(TableSpec table) {
+        return TableSpecOptimizer.optimize(Collections.singletonList(table), t -> false).get(table);
+    }
+
+    @Test
+    void mergesAdjacentWheres() {
+        final TableSpec spec = SOURCE.where("A > 1").where("B == 2");
+        assertThat(optimize(spec)).isEqualTo(SOURCE.where("B == 2", "A > 1"));
+    }
+
+    @Test
+    void movesSafeConjunctsFirst() {
+        final TableSpec spec = SOURCE.where("A.startsWith(`x`)", "B > 5", "C in `a`, `b`");
+        assertThat(optimize(spec)).isEqualTo(SOURCE.where("C in `a`, `b`", "B > 5", "A.startsWith(`x`)"));
+    }
+
+    @Test
+    void keepsRowPositionFiltersInPlace() {
+        final TableSpec spec = SOURCE.where("ii % 2 == 0").where("B == 2");
+        assertThat(optimize(spec)).isEqualTo(spec);
+    }
+
+    @Test
+    void pushesBelowUpdate() {
+        final TableSpec spec = SOURCE.update("C=A+B").where("A == 1", "C > 2");
+        assertThat(optimize(spec)).isEqualTo(SOURCE.where("A == 1").update("C=A+B").where("C > 2"));
+    }
+
+    @Test
+    void doesNotPushBelowPositionalUpdate() {
+        final TableSpec spec = SOURCE.update("C=ii").where("A == 1");
+        assertThat(optimize(spec)).isEqualTo(spec);
+    }
+
+    @Test
+    void pushesBelowViewPassThrough() {
+        final TableSpec spec = SOURCE.view("A", "D=B*2").where("A == 1", "D > 2");
+        assertThat(optimize(spec)).isEqualTo(SOURCE.where("A == 1").view("A", "D=B*2").where("D > 2"));
+    }
+
+    @Test
+    void pushesBelowSort() {
+        final TableSpec spec = SOURCE.sort("A").where("B == 2");
+        assertThat(optimize(spec)).isEqualTo(SOURCE.where("B == 2").sort("A"));
+    }
+
+    @Test
+    void pushesIntoNaturalJoinLeft() {
+        final TableSpec spec = SOURCE.naturalJoin(RIGHT, "K", "R").where("A == 1", "R == 2");
+        assertThat(optimize(spec)).isEqualTo(SOURCE.where("A == 1").naturalJoin(RIGHT, "K", "R").where("R == 2"));
+    }
+
+    @Test
+    void doesNotPushIntoJoinWithoutAdditions() {
+        final TableSpec spec = SOURCE.naturalJoin(RIGHT, "K").where("A == 1");
+        assertThat(optimize(spec)).isEqualTo(spec);
+    }
+
+    @Test
+    void prunesUnreferencedColumns() {
+        final TableSpec spec = SOURCE.update("C=A+1", "D=C*2", "E=B").view("D");
+        assertThat(optimize(spec)).isEqualTo(SOURCE.update("C=A+1", "D=C*2").view("D"));
+    }
+
+    @Test
+    void prunesEmptiedUpdate() {
+        final TableSpec spec = SOURCE.update("E=B").view("A");
+        assertThat(optimize(spec)).isEqualTo(SOURCE.view("A"));
+    }
+
+    @Test
+    void doesNotLookThroughSharedTables() {
+        final TableSpec shared = SOURCE.update("C=A+B");
+        final TableSpec first = shared.where("A == 1");
+        final TableSpec second = shared.view("C");
+        final Map<TableSpec, TableSpec> out =
+                TableSpecOptimizer.optimize(Arrays.asList(first, second), t -> false);
+        assertThat(out.get(first)).isEqualTo(first);
+        assertThat(out.get(second)).isEqualTo(second);
+    }
+
+    @Test
+    void doesNotLookThroughExports() {
+        final TableSpec exported = SOURCE.update("C=A+B");
+        final TableSpec spec = exported.where("A == 1");
+        final Map<TableSpec, TableSpec> out =
+                TableSpecOptimizer.optimize(Arrays.asList(exported, spec), t -> false);
+        assertThat(out.get(exported)).isEqualTo(exported);
+        assertThat(out.get(spec)).isEqualTo(spec);
+    }
+
+    @Test
+    void doesNotRewriteFixedTables() {
+        final TableSpec fixed = SOURCE.sort("A").where("B == 2");
+        final TableSpec spec = fixed.head(10);
+        assertThat(TableSpecOptimizer.optimize(Collections.singletonList(spec), fixed::equals).get(spec))
+                .isEqualTo(spec);
+    }
+
+    @Test
+    void keepsSerialFiltersInPlace() {
+        final TableSpec spec = SOURCE.update("C=A+B").where(Filter.serial(Filter.from("A == 1").iterator().next()));
+        assertThat(optimize(spec)).isEqualTo(spec);
+    }
+
+    @Test
+    void rewritesBelowUnchangedTables() {
+        final TableSpec spec = SOURCE.sort("A").where("B == 2").head(10);
+        assertThat(optimize(spec)).isEqualTo(SOURCE.where("B == 2").sort("A").head(10));
+    }
+}
@@ -148,6 +148,27 @@ public class ReplicateUpdateBy {
             }
         }
 
+        files = ReplicatePrimitiveCode.charToAllButBoolean(TASK,
+                "engine/table/src/main/java/io/deephaven/engine/table/impl/updateby/rollingcountdistinct/CharRollingCountDistinctOperator.java",
+                exemptions);
+        for (final String f : files) {
+            if (f.contains("Int")) {
+                fixupInteger(f);
+            }
+        }
+
+        files = ReplicatePrimitiveCode.charToAllButBoolean(TASK,
+                "engine/table/src/main/java/io/deephaven/engine/table/impl/updateby/rollingpercentile/CharRollingPercentileOperator.java",
+                exemptions);
+        for (final String f : files) {
+            if (f.contains("Int")) {
+                fixupInteger(f);
+            }
+            if (f.contains("Long")) {
+                augmentLongWithReinterps(f);
+            }
+        }
+
         files = ReplicatePrimitiveCode.charToIntegers(TASK,
                 "engine/table/src/main/java/io/deephaven/engine/table/impl/updateby/rollingsum/CharRollingSumOperator.java",
                 exemptions);
@@ -19,6 +19,7 @@ import io.deephaven.engine.liveness.LivenessReferent;
 import io.deephaven.engine.rowset.*;
 import io.deephaven.engine.table.*;
 import io.deephaven.engine.table.impl.*;
+import io.deephaven.engine.table.impl.perf.UpdateLatencyTracker;
 import io.deephaven.engine.table.impl.remote.ConstructSnapshot;
 import io.deephaven.engine.table.impl.select.VectorChunkAdapter;
 import io.deephaven.engine.table.impl.sources.ArrayBackedColumnSource;
@@ -189,6 +190,7 @@ public class BarrageMessageProducer extends LivenessArtifact
     }
 
     private final String logPrefix;
+    private final String latencySinkName;
     private final Scheduler scheduler;
     private final SessionService.ErrorTransformer errorTransformer;
     private final BarrageMessageWriter.Factory streamGeneratorFactory;
@@ -205,6 +207,7 @@ public class BarrageMessageProducer extends LivenessArtifact
     private long lastBlinkTableUpdateSize = 0;
 
     private final Stats stats;
+    private final BarragePerformanceLog.WriteMetricsConsumer writeMetricsConsumer;
 
     /** the possibly reinterpretted, or vector-adapted source column */
     private final ChunkSource.WithPrev<Values>[] chunkSources;
@@ -251,11 +254,13 @@ public class BarrageMessageProducer extends LivenessArtifact
         private final RowSet recordedMods;
         private final BitSet subscribedColumns;
         private final BitSet modifiedColumns;
+        private final UpdateLatencyTracker.Trace latencyTrace;
 
         private Delta(final long step, final long deltaColumnOffset,
                 final TableUpdate update,
                 final WritableRowSet recordedAdds, final RowSet recordedMods,
-                final BitSet subscribedColumns, final BitSet modifiedColumns) {
+                final BitSet subscribedColumns, final BitSet modifiedColumns,
+                final UpdateLatencyTracker.Trace latencyTrace) {
             this.step = step;
             this.deltaColumnOffset = deltaColumnOffset;
             this.update = TableUpdateImpl.copy(update);
@@ -263,6 +268,7 @@ public class BarrageMessageProducer extends LivenessArtifact
             this.recordedMods = recordedMods;
             this.subscribedColumns = subscribedColumns;
             this.modifiedColumns = modifiedColumns;
+            this.latencyTrace = latencyTrace;
         }
 
         @Override
@@ -315,12 +321,16 @@ public class BarrageMessageProducer extends LivenessArtifact
         this.isBlinkTable = parent.isBlink();
 
         final String tableKey = BarragePerformanceLog.getKeyFor(parent);
+        this.latencySinkName =
+                "BarrageMessageProducer(" + (tableKey == null ? parent.getDescription() : tableKey) + ")";
         if (scheduler.inTestMode() || tableKey == null) {
             // When testing do not schedule statistics, as the scheduler will never empty its work queue.
             stats = null;
         } else {
             stats = new Stats(tableKey);
         }
+        writeMetricsConsumer = BarragePerformanceLog.WriteMetricsConsumer.describedAs(
+                latencySinkName, this::recordWriteMetrics);
 
         this.propagationRowSet = RowSetFactory.empty();
         this.updateIntervalMs = updateIntervalMs;
@@ -1004,7 +1014,8 @@ public class BarrageMessageProducer extends LivenessArtifact
 
         pendingDeltas
                 .add(new Delta(parent.getUpdateGraph().clock().currentStep(), deltaColumnOffset,
-                        upstream, addsToRecord, modsToRecord, (BitSet) activeColumns.clone(), modifiedColumns));
+                        upstream, addsToRecord, modsToRecord, (BitSet) activeColumns.clone(), modifiedColumns,
+                        UpdateLatencyTracker.traceAtSink(parent.getUpdateGraph())));
     }
 
     private void schedulePropagation() {
@@ -1248,6 +1259,8 @@ public class BarrageMessageProducer extends LivenessArtifact
         RowSet postSnapRowSetPrev = null;
         BarrageMessage snapshot = null;
         BarrageMessage postSnapshot = null;
+        UpdateLatencyTracker.Trace preSnapshotTrace = null;
+        UpdateLatencyTracker.Trace postSnapshotTrace = null;
 
         BitSet snapshotColumns;
 
@@ -1493,7 +1506,13 @@ public class BarrageMessageProducer extends LivenessArtifact
             }
 
             nextFreeDeltaKey = 0;
-            for (final Delta delta : pendingDeltas) {
+            for (int ii = 0; ii < pendingDeltas.size(); ++ii) {
+                final Delta delta = pendingDeltas.get(ii);
+                if (ii < deltaSplitIdx) {
+                    preSnapshotTrace = UpdateLatencyTracker.earliest(preSnapshotTrace, delta.latencyTrace);
+                } else {
+                    postSnapshotTrace = UpdateLatencyTracker.earliest(postSnapshotTrace, delta.latencyTrace);
+                }
                 delta.close();
             }
             blinkTableUpdateSize = 0;
@@ -1505,6 +1524,7 @@ public class BarrageMessageProducer extends LivenessArtifact
             final long startTm = System.nanoTime();
             propagateToSubscribers(preSnapshot, preSnapRowSetPrev, preSnapRowSet);
             recordMetric(stats -> stats.propagate, System.nanoTime() - startTm);
+            UpdateLatencyTracker.recordOutput(latencySinkName, preSnapshotTrace, startTm);
             preSnapRowSetPrev.close();
             preSnapRowSet.close();
         }
@@ -1520,7 +1540,7 @@ public class BarrageMessageProducer extends LivenessArtifact
 
         if (snapshot != null) {
             try (final BarrageMessageWriter snapshotGenerator =
-                    streamGeneratorFactory.newMessageWriter(snapshot, chunkWriters, this::recordWriteMetrics)) {
+                    streamGeneratorFactory.newMessageWriter(snapshot, chunkWriters, writeMetricsConsumer)) {
                 if (log.isDebugEnabled()) {
                     log.debug().append(logPrefix).append("Sending snapshot to ").append(activeSubscriptions.size())
                             .append(" subscriber(s).").endl();
@@ -1541,6 +1561,7 @@ public class BarrageMessageProducer extends LivenessArtifact
             final long startTm = System.nanoTime();
             propagateToSubscribers(postSnapshot, postSnapRowSetPrev, propagationRowSet);
             recordMetric(stats -> stats.propagate, System.nanoTime() - startTm);
+            UpdateLatencyTracker.recordOutput(latencySinkName, postSnapshotTrace, startTm);
             postSnapRowSetPrev.close();
         }
 
@@ -1582,7 +1603,7 @@ public class BarrageMessageProducer extends LivenessArtifact
             final RowSet propRowSetForMessage) {
         // message is released via transfer to stream generator (as it must live until all views are closed)
         try (final BarrageMessageWriter bmw = streamGeneratorFactory.newMessageWriter(
-                message, chunkWriters, this::recordWriteMetrics)) {
+                message, chunkWriters, writeMetricsConsumer)) {
             for (final Subscription subscription : activeSubscriptions) {
                 if (subscription.pendingInitialSnapshot || subscription.pendingDelete) {
                     continue;
@@ -1748,7 +1769,8 @@ public class BarrageMessageProducer extends LivenessArtifact
                     recordedBuilder.build(),
                     RowSetFactory.empty(),
                     hasDelta ? origDelta.subscribedColumns : new BitSet(),
-                    new BitSet());
+                    new BitSet(),
+                    null);
 
             // store our update size to remove on the next update
             lastBlinkTableUpdateSize = size;
@@ -2340,6 +2362,7 @@ public class BarrageMessageProducer extends LivenessArtifact
         if (stats != null) {
             stats.stop();
         }
+        UpdateLatencyTracker.removeSink(latencySinkName);
     }
 
     private void recordWriteMetrics(final long bytes, final long cpuNanos) {
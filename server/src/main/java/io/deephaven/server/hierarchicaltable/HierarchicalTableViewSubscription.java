@@ -7,17 +7,21 @@ import com.google.rpc.Code;
 import io.deephaven.base.verify.Assert;
 import io.deephaven.base.verify.Require;
 import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.WritableBooleanChunk;
 import io.deephaven.chunk.WritableChunk;
 import io.deephaven.chunk.attributes.Values;
+import io.deephaven.chunk.util.hashing.ChunkEquals;
 import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.liveness.LivenessArtifact;
 import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetBuilderSequential;
 import io.deephaven.engine.rowset.RowSetFactory;
 import io.deephaven.engine.rowset.RowSetShiftData;
 import io.deephaven.engine.rowset.WritableRowSet;
 import io.deephaven.engine.table.ColumnDefinition;
 import io.deephaven.engine.table.TableUpdate;
 import io.deephaven.engine.table.TableUpdateListener;
+import io.deephaven.engine.table.hierarchical.HierarchicalTable;
 import io.deephaven.engine.table.impl.InstrumentedTableUpdateListener;
 import io.deephaven.engine.table.impl.sources.ReinterpretUtils;
 import io.deephaven.engine.table.impl.util.BarrageMessage;
@@ -31,6 +35,7 @@ import io.deephaven.proto.util.Exceptions;
 import io.deephaven.server.session.SessionService;
 import io.deephaven.server.util.Scheduler;
 import io.deephaven.util.SafeCloseable;
+import io.deephaven.util.mutable.MutableInt;
 import io.grpc.stub.StreamObserver;
 import org.HdrHistogram.Histogram;
 import org.jetbrains.annotations.NotNull;
@@ -43,14 +48,19 @@ import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
-import java.util.function.LongConsumer;
 
 import static io.deephaven.chunk.util.pools.ChunkPoolConstants.LARGEST_POOLED_CHUNK_CAPACITY;
+import static io.deephaven.util.QueryConstants.NULL_LONG;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 /**
  * Tool that manages an active subscription to a {@link HierarchicalTableView}.
+ * <p>
+ * A full viewport snapshot is sent when the subscription begins and whenever its columns or rows change. When only the
+ * upstream data has changed, the new viewport snapshot is compared with the data last sent, and only the rows that
+ * scrolled into or out of the expanded viewport and the cells that changed are sent. Subscriptions whose views expand
+ * identically share their snapshots through {@link SharedExpansionSnapshots}.
  */
 public class HierarchicalTableViewSubscription extends LivenessArtifact {
 
@@ -78,12 +88,18 @@ public class HierarchicalTableViewSubscription extends LivenessArtifact {
     private final ExecutionContext executionContext;
 
     private final Stats stats;
+    private final BarragePerformanceLog.WriteMetricsConsumer writeMetricsConsumer;
 
     private final TableUpdateListener keyTableListener;
     private final TableUpdateListener sourceTableListener;
 
     private final Runnable propagationJob;
 
+    /**
+     * The subscriptions sharing our view's expansion state, or {@code null} if it cannot be shared.
+     */
+    private final SharedExpansionSnapshots.Group sharedSnapshots;
+
     private final Object schedulingLock = new Object();
     // region Guarded by scheduling lock
     private boolean snapshotPending;
@@ -100,6 +116,12 @@ public class HierarchicalTableViewSubscription extends LivenessArtifact {
     private BitSet columns;
     private RowSet rows;
     private final WritableRowSet prevKeyspaceViewportRows = RowSetFactory.empty();
+    /**
+     * The data last sent for {@link #columns} and {@link #rows}, one chunk per included column, or {@code null} if the
+     * next message must be a full snapshot.
+     */
+    private WritableChunk<Values>[] prevData;
+    private long prevExpandedSize;
     // endregion Guarded by snapshot lock
 
     private enum State {
@@ -133,6 +155,11 @@ public class HierarchicalTableViewSubscription extends LivenessArtifact {
         } else {
             stats = new Stats(statsKey);
         }
+        writeMetricsConsumer = BarragePerformanceLog.WriteMetricsConsumer.describedAs(
+                "HierarchicalTableViewSubscription(" + (statsKey == null
+                        ? view.getHierarchicalTable().getDescription()
+                        : statsKey) + ")",
+                this::recordWriteMetrics);
 
         if (view.getKeyTable().isRefreshing()) {
             view.getKeyTable().addUpdateListener(keyTableListener = new ChangeListener());
@@ -151,6 +178,7 @@ public class HierarchicalTableViewSubscription extends LivenessArtifact {
         }
 
         propagationJob = this::process;
+        sharedSnapshots = SharedExpansionSnapshots.acquire(view);
 
         columns = new BitSet();
         columns.set(0, view.getHierarchicalTable().getAvailableColumnDefinitions().size());
@@ -173,6 +201,15 @@ public class HierarchicalTableViewSubscription extends LivenessArtifact {
         if (stats != null) {
             stats.stop();
         }
+        if (sharedSnapshots != null) {
+            sharedSnapshots.release();
+        }
+        synchronized (snapshotLock) {
+            if (prevData != null) {
+                SafeCloseable.closeAll(prevData);
+                prevData = null;
+            }
+        }
     }
 
     public void completed() {
@@ -246,6 +283,7 @@ public class HierarchicalTableViewSubscription extends LivenessArtifact {
         }
         synchronized (snapshotLock) {
             final boolean sendError;
+            boolean viewportChanged = false;
             synchronized (schedulingLock) {
                 if (!snapshotPending) {
                     return;
@@ -267,20 +305,20 @@ public class HierarchicalTableViewSubscription extends LivenessArtifact {
                         pendingRows = null;
                     }
                 } else {
-                    boolean sendSnapshot = upstreamDataChanged;
-                    upstreamDataChanged = false;
                     if (pendingColumns != null) {
                         columns = pendingColumns;
                         pendingColumns = null;
-                        sendSnapshot = true;
+                        viewportChanged = true;
                     }
                     if (pendingRows != null) {
                         try (final SafeCloseable ignored = rows) {
                             rows = pendingRows;
                         }
                         pendingRows = null;
-                        sendSnapshot = true;
+                        viewportChanged = true;
                     }
+                    final boolean sendSnapshot = upstreamDataChanged || viewportChanged;
+                    upstreamDataChanged = false;
                     if (!sendSnapshot) {
                         return;
                     }
@@ -291,9 +329,12 @@ public class HierarchicalTableViewSubscription extends LivenessArtifact {
                 GrpcUtil.safelyError(listener, errorTransformer.transform(upstreamFailure));
                 return;
             }
+            if (viewportChanged && prevData != null) {
+                SafeCloseable.closeAll(prevData);
+                prevData = null;
+            }
             try (final SafeCloseable ignored = executionContext == null ? null : executionContext.open()) {
-                buildAndSendSnapshot(streamGeneratorFactory, listener, subscriptionOptions, view,
-                        this::recordSnapshotNanos, this::recordWriteMetrics, columns, rows, prevKeyspaceViewportRows);
+                buildAndSend();
             } catch (Exception e) {
                 GrpcUtil.safelyError(listener, errorTransformer.transform(e));
                 state = State.Done;
@@ -301,16 +342,13 @@ public class HierarchicalTableViewSubscription extends LivenessArtifact {
         }
     }
 
-    private static void buildAndSendSnapshot(
-            @NotNull final BarrageMessageWriter.Factory messageWriterFactory,
-            @NotNull final StreamObserver<BarrageMessageWriter.MessageView> listener,
-            @NotNull final BarrageSubscriptionOptions subscriptionOptions,
-            @NotNull final HierarchicalTableView view,
-            @NotNull final LongConsumer snapshotNanosConsumer,
-            @NotNull final BarragePerformanceLog.WriteMetricsConsumer writeMetricsConsumer,
-            @NotNull final BitSet columns,
-            @NotNull final RowSet rows,
-            @NotNull final WritableRowSet prevKeyspaceViewportRows) {
+    /**
+     * Snapshot our viewport and send it to the client, as a full snapshot if {@link #prevData} is {@code null}, or
+     * otherwise as the changes since the data last sent.
+     */
+    private void buildAndSend() {
+        Assert.assertion(Thread.holdsLock(snapshotLock), "Thread.holdsLock(snapshotLock)");
+
         // 1. Grab some schema and snapshot information
         final List<ColumnDefinition<?>> columnDefinitions =
                 view.getHierarchicalTable().getAvailableColumnDefinitions();
@@ -325,68 +363,224 @@ public class HierarchicalTableViewSubscription extends LivenessArtifact {
                         .makeWritableChunk(numRows))
                 .toArray(WritableChunk[]::new);
 
-        // 3. Take the snapshot
+        // 3. Take the snapshot, or copy an identical one taken for another subscription
         final long snapshotStartNanos = System.nanoTime();
-        final long expandedSize = view.getHierarchicalTable().snapshot(
-                view.getSnapshotState(), view.getKeyTable(), view.getKeyTableActionColumn(),
-                columns, rows, destinations);
-        snapshotNanosConsumer.accept(System.nanoTime() - snapshotStartNanos);
-
-        // 4. Make and populate a BarrageMessage
-        final BarrageMessage barrageMessage = new BarrageMessage();
-        // We don't populate firstSeq or lastSeq debugging information; they are not relevant to this use case.
+        final long expandedSize = snapshot(destinations);
+        recordSnapshotNanos(System.nanoTime() - snapshotStartNanos);
 
-        barrageMessage.isSnapshot = true;
-        barrageMessage.rowsAdded = RowSetFactory.flat(expandedSize);
+        final RowSet keyspaceViewport;
         if (rows.isEmpty() || expandedSize <= rows.firstRowKey()) {
-            barrageMessage.rowsIncluded = RowSetFactory.empty();
+            keyspaceViewport = RowSetFactory.empty();
         } else {
-            barrageMessage.rowsIncluded = RowSetFactory.fromRange(
+            keyspaceViewport = RowSetFactory.fromRange(
                     rows.firstRowKey(), Math.min(expandedSize - 1, rows.lastRowKey()));
         }
-        barrageMessage.rowsRemoved = RowSetFactory.empty();
-        barrageMessage.shifted = RowSetShiftData.EMPTY;
-        barrageMessage.tableSize = expandedSize;
 
-        barrageMessage.addColumnData = new BarrageMessage.AddColumnData[numAvailableColumns];
+        // 4. Make and populate a BarrageMessage
+        final BarrageMessage barrageMessage;
+        final WritableChunk<Values>[] sentData = SharedExpansionSnapshots.copyOf(destinations);
+        if (prevData == null) {
+            barrageMessage = makeSnapshotMessage(columnDefinitions, expandedSize, keyspaceViewport, destinations);
+        } else {
+            barrageMessage = makeDeltaMessage(columnDefinitions, expandedSize, destinations);
+            SafeCloseable.closeAll(destinations);
+            if (barrageMessage == null) {
+                // Nothing the client can see has changed
+                SafeCloseable.closeAll(sentData);
+                keyspaceViewport.close();
+                return;
+            }
+            SafeCloseable.closeAll(prevData);
+        }
+        prevData = sentData;
+        prevExpandedSize = expandedSize;
+
         // noinspection unchecked
         final ChunkWriter<Chunk<Values>>[] chunkWriters =
                 (ChunkWriter<Chunk<Values>>[]) new ChunkWriter[numAvailableColumns];
-        for (int ci = 0, di = 0; ci < numAvailableColumns; ++ci) {
-            final BarrageMessage.AddColumnData addColumnData = new BarrageMessage.AddColumnData();
+        for (int ci = 0; ci < numAvailableColumns; ++ci) {
             final ColumnDefinition<?> columnDefinition = columnDefinitions.get(ci);
-            addColumnData.type = columnDefinition.getDataType();
-            addColumnData.componentType = columnDefinition.getComponentType();
-            addColumnData.data = new ArrayList<>();
-            if (columns.get(ci)) {
-                final WritableChunk<Values> data = destinations[di++];
-                addColumnData.data.add(data);
-                addColumnData.chunkType = data.getChunkType();
-            } else {
-                addColumnData.chunkType =
-                        ReinterpretUtils.maybeConvertToPrimitiveChunkType(columnDefinition.getDataType());
-            }
-            barrageMessage.addColumnData[ci] = addColumnData;
-
             chunkWriters[ci] = DefaultChunkWriterFactory.INSTANCE.newWriter(BarrageTypeInfo.make(
                     ReinterpretUtils.maybeConvertToPrimitiveDataType(columnDefinition.getDataType()),
                     columnDefinition.getComponentType(),
                     BarrageUtil.flatbufFieldFor(columnDefinition, Map.of())));
         }
-        barrageMessage.modColumnData = BarrageMessage.ZERO_MOD_COLUMNS;
 
         // 5. Send the BarrageMessage
         try (final BarrageMessageWriter bmw =
-                messageWriterFactory.newMessageWriter(barrageMessage, chunkWriters, writeMetricsConsumer)) {
+                streamGeneratorFactory.newMessageWriter(barrageMessage, chunkWriters, writeMetricsConsumer);
+                final SafeCloseable ignored = keyspaceViewport) {
             // initialSnapshot flag is ignored for non-growing viewports
             final boolean initialSnapshot = false;
             final boolean isFullSubscription = false;
             GrpcUtil.safelyOnNext(listener, bmw.getSubView(
                     subscriptionOptions, initialSnapshot, isFullSubscription, rows, false,
-                    prevKeyspaceViewportRows, barrageMessage.rowsIncluded, columns));
+                    prevKeyspaceViewportRows, keyspaceViewport, columns));
+
+            prevKeyspaceViewportRows.resetTo(keyspaceViewport);
+        }
+    }
+
+    /**
+     * Fill {@code destinations} with our viewport's data.
+     *
+     * @param destinations The destination chunks, one per included column
+     * @return The total expanded size
+     */
+    private long snapshot(@NotNull final WritableChunk<Values>[] destinations) {
+        final HierarchicalTable<?> hierarchicalTable = view.getHierarchicalTable();
+        final long stepBefore = sharedSnapshots == null ? NULL_LONG
+                : SharedExpansionSnapshots.currentIdleStep(hierarchicalTable);
+        if (sharedSnapshots != null) {
+            final long sharedExpandedSize = sharedSnapshots.fill(stepBefore, columns, rows, destinations);
+            if (sharedExpandedSize != NULL_LONG) {
+                return sharedExpandedSize;
+            }
+        }
+        final long expandedSize = hierarchicalTable.snapshot(
+                view.getSnapshotState(), view.getKeyTable(), view.getKeyTableActionColumn(),
+                columns, rows, destinations);
+        if (sharedSnapshots != null
+                && stepBefore == SharedExpansionSnapshots.currentIdleStep(hierarchicalTable)) {
+            // The update graph stayed idle throughout, so the snapshot observed the state at stepBefore
+            sharedSnapshots.retain(stepBefore, columns, rows, expandedSize, destinations);
+        }
+        return expandedSize;
+    }
+
+    private BarrageMessage makeSnapshotMessage(
+            @NotNull final List<ColumnDefinition<?>> columnDefinitions,
+            final long expandedSize,
+            @NotNull final RowSet keyspaceViewport,
+            @NotNull final WritableChunk<Values>[] destinations) {
+        final BarrageMessage barrageMessage = new BarrageMessage();
+        // We don't populate firstSeq or lastSeq debugging information; they are not relevant to this use case.
+
+        barrageMessage.isSnapshot = true;
+        barrageMessage.rowsAdded = RowSetFactory.flat(expandedSize);
+        barrageMessage.rowsIncluded = keyspaceViewport.copy();
+        barrageMessage.rowsRemoved = RowSetFactory.empty();
+        barrageMessage.shifted = RowSetShiftData.EMPTY;
+        barrageMessage.tableSize = expandedSize;
+
+        barrageMessage.addColumnData = new BarrageMessage.AddColumnData[columnDefinitions.size()];
+        for (int ci = 0, di = 0; ci < columnDefinitions.size(); ++ci) {
+            barrageMessage.addColumnData[ci] = makeAddColumnData(
+                    columnDefinitions.get(ci), columns.get(ci) ? destinations[di++] : null);
+        }
+        barrageMessage.modColumnData = BarrageMessage.ZERO_MOD_COLUMNS;
+        return barrageMessage;
+    }
+
+    /**
+     * Make a message describing how our viewport's data changed from {@link #prevData} to {@code destinations}. Row
+     * positions are our keyspace, so rows that moved within the viewport are reported as modified cells rather than
+     * shifts. As with {@link #makeSnapshotMessage snapshots}, the keyspace is all positions of the expanded data, so
+     * positions between {@link #prevExpandedSize} and {@code expandedSize} are reported as added or removed, and only
+     * the added positions within the viewport are included.
+     *
+     * @return The message, or {@code null} if nothing changed
+     */
+    @Nullable
+    private BarrageMessage makeDeltaMessage(
+            @NotNull final List<ColumnDefinition<?>> columnDefinitions,
+            final long expandedSize,
+            @NotNull final WritableChunk<Values>[] destinations) {
+        final long firstPosition = rows.isEmpty() ? 0 : rows.firstRowKey();
+        final int newSize = destinations.length == 0 ? 0 : destinations[0].size();
+        final int prevSize = prevData.length == 0 ? 0 : prevData[0].size();
+        final int commonSize = Math.min(newSize, prevSize);
+
+        final RowSet[] rowsModified = new RowSet[columnDefinitions.size()];
+        boolean anyModified = false;
+        try (final WritableBooleanChunk<Values> notEqual = WritableBooleanChunk.makeWritableChunk(commonSize)) {
+            for (int ci = 0, di = 0; ci < columnDefinitions.size(); ++ci) {
+                if (!columns.get(ci)) {
+                    rowsModified[ci] = RowSetFactory.empty();
+                    continue;
+                }
+                final WritableChunk<Values> newData = destinations[di];
+                final WritableChunk<Values> oldData = prevData[di++];
+                ChunkEquals.makeEqual(newData.getChunkType()).notEqual(
+                        oldData.slice(0, commonSize), newData.slice(0, commonSize), notEqual);
+                final RowSetBuilderSequential builder = RowSetFactory.builderSequential();
+                for (int ii = 0; ii < commonSize; ++ii) {
+                    if (notEqual.get(ii)) {
+                        builder.appendKey(firstPosition + ii);
+                    }
+                }
+                rowsModified[ci] = builder.build();
+                anyModified |= rowsModified[ci].isNonempty();
+            }
+        }
+        if (!anyModified && newSize == prevSize && expandedSize == prevExpandedSize) {
+            return null;
+        }
+
+        final BarrageMessage barrageMessage = new BarrageMessage();
+        barrageMessage.isSnapshot = false;
+        barrageMessage.rowsAdded = expandedSize > prevExpandedSize
+                ? RowSetFactory.fromRange(prevExpandedSize, expandedSize - 1)
+                : RowSetFactory.empty();
+        // The viewport only grows or shrinks at the end of the expanded data, so these are a subset of rowsAdded
+        barrageMessage.rowsIncluded = newSize > prevSize
+                ? RowSetFactory.fromRange(firstPosition + prevSize, firstPosition + newSize - 1)
+                : RowSetFactory.empty();
+        barrageMessage.rowsRemoved = prevExpandedSize > expandedSize
+                ? RowSetFactory.fromRange(expandedSize, prevExpandedSize - 1)
+                : RowSetFactory.empty();
+        barrageMessage.shifted = RowSetShiftData.EMPTY;
+        barrageMessage.tableSize = expandedSize;
+
+        barrageMessage.addColumnData = new BarrageMessage.AddColumnData[columnDefinitions.size()];
+        barrageMessage.modColumnData = new BarrageMessage.ModColumnData[columnDefinitions.size()];
+        for (int ci = 0, di = 0; ci < columnDefinitions.size(); ++ci) {
+            final ColumnDefinition<?> columnDefinition = columnDefinitions.get(ci);
+            final WritableChunk<Values> newData = columns.get(ci) ? destinations[di++] : null;
+
+            WritableChunk<Values> addedData = null;
+            WritableChunk<Values> modifiedData = null;
+            if (newData != null) {
+                if (newSize > prevSize) {
+                    addedData = newData.getChunkType().makeWritableChunk(newSize - prevSize);
+                    addedData.copyFromChunk(newData, prevSize, 0, newSize - prevSize);
+                }
+                if (rowsModified[ci].isNonempty()) {
+                    modifiedData = newData.getChunkType().makeWritableChunk(rowsModified[ci].intSize());
+                    final WritableChunk<Values> finalModifiedData = modifiedData;
+                    final MutableInt destOffset = new MutableInt();
+                    rowsModified[ci].forAllRowKeys(position -> finalModifiedData.copyFromChunk(
+                            newData, (int) (position - firstPosition), destOffset.getAndIncrement(), 1));
+                }
+            }
+            barrageMessage.addColumnData[ci] = makeAddColumnData(columnDefinition, addedData);
+
+            final BarrageMessage.ModColumnData modColumnData = new BarrageMessage.ModColumnData();
+            modColumnData.rowsModified = rowsModified[ci];
+            modColumnData.type = columnDefinition.getDataType();
+            modColumnData.componentType = columnDefinition.getComponentType();
+            modColumnData.chunkType = ReinterpretUtils.maybeConvertToPrimitiveChunkType(columnDefinition.getDataType());
+            modColumnData.data = new ArrayList<>();
+            if (modifiedData != null) {
+                modColumnData.data.add(modifiedData);
+            }
+            barrageMessage.modColumnData[ci] = modColumnData;
+        }
+        return barrageMessage;
+    }
 
-            prevKeyspaceViewportRows.resetTo(barrageMessage.rowsIncluded);
+    private static BarrageMessage.AddColumnData makeAddColumnData(
+            @NotNull final ColumnDefinition<?> columnDefinition,
+            @Nullable final WritableChunk<Values> data) {
+        final BarrageMessage.AddColumnData addColumnData = new BarrageMessage.AddColumnData();
+        addColumnData.type = columnDefinition.getDataType();
+        addColumnData.componentType = columnDefinition.getComponentType();
+        addColumnData.chunkType = ReinterpretUtils.maybeConvertToPrimitiveChunkType(columnDefinition.getDataType());
+        addColumnData.data = new ArrayList<>();
+        if (data != null) {
+            addColumnData.data.add(data);
         }
+        return addColumnData;
     }
 
     public void setViewport(
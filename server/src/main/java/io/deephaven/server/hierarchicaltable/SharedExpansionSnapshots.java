@@ -0,0 +1,297 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.server.hierarchicaltable;
+
+import io.deephaven.api.ColumnName;
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.hierarchical.HierarchicalTable;
+import io.deephaven.engine.updategraph.LogicalClock;
+import io.deephaven.util.SafeCloseable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static io.deephaven.util.QueryConstants.NULL_LONG;
+
+/**
+ * Shares {@link HierarchicalTable#snapshot hierarchical table snapshots} among {@link HierarchicalTableViewSubscription
+ * subscriptions} whose views have identical expansion state.
+ * <p>
+ * Views of the same {@link HierarchicalTable} whose key tables are static and contain the same rows expand identically,
+ * so subscriptions to them {@link #acquire(HierarchicalTableView) join} the same {@link Group}. A group retains the
+ * most recent snapshot for each of a small number of viewports, along with the update graph step whose state it
+ * observed. Another member asking for the same viewport while the update graph is still idle at that step can copy the
+ * retained snapshot rather than expanding the hierarchy again.
+ */
+final class SharedExpansionSnapshots {
+
+    private static final int MAX_VIEWPORTS_PER_GROUP = 8;
+
+    private static final Map<GroupKey, Group> GROUPS = new HashMap<>();
+
+    private SharedExpansionSnapshots() {}
+
+    /**
+     * Join the group of subscriptions sharing {@code view}'s expansion state. Callers must {@link Group#release()
+     * release} the result when they no longer need it.
+     *
+     * @param view The view being subscribed to
+     * @return The group, or {@code null} if {@code view}'s expansion state may change and so cannot be shared
+     */
+    @Nullable
+    static Group acquire(@NotNull final HierarchicalTableView view) {
+        if (view.getKeyTable().isRefreshing()) {
+            return null;
+        }
+        final GroupKey key = new GroupKey(view.getHierarchicalTable(), view.getKeyTableActionColumn(),
+                extractKeyRows(view.getKeyTable()));
+        synchronized (GROUPS) {
+            final Group group = GROUPS.computeIfAbsent(key, Group::new);
+            ++group.referenceCount;
+            return group;
+        }
+    }
+
+    private static List<List<Object>> extractKeyRows(@NotNull final Table keyTable) {
+        final ColumnSource<?>[] sources = keyTable.getColumnSources().toArray(ColumnSource[]::new);
+        final List<List<Object>> keyRows = new ArrayList<>(keyTable.intSize("SharedExpansionSnapshots"));
+        keyTable.getRowSet().forAllRowKeys(rowKey -> {
+            final Object[] values = new Object[sources.length];
+            for (int ci = 0; ci < sources.length; ++ci) {
+                values[ci] = sources[ci].get(rowKey);
+            }
+            keyRows.add(Arrays.asList(values));
+        });
+        return keyRows;
+    }
+
+    /**
+     * Get the step whose state a snapshot taken now would observe, if it could not change during the snapshot.
+     *
+     * @param hierarchicalTable The hierarchical table
+     * @return The current step if the source's update graph is idle, zero if the source is static, or
+     *         {@link io.deephaven.util.QueryConstants#NULL_LONG} if an update is in progress
+     */
+    static long currentIdleStep(@NotNull final HierarchicalTable<?> hierarchicalTable) {
+        if (!hierarchicalTable.getSource().isRefreshing()) {
+            return 0;
+        }
+        final long clockValue = hierarchicalTable.getSource().getUpdateGraph().clock().currentValue();
+        return LogicalClock.getState(clockValue) == LogicalClock.State.Idle
+                ? LogicalClock.getStep(clockValue)
+                : NULL_LONG;
+    }
+
+    private static final class GroupKey {
+        private final HierarchicalTable<?> hierarchicalTable;
+        private final ColumnName keyTableActionColumn;
+        private final List<List<Object>> keyRows;
+        private final int hashCode;
+
+        private GroupKey(
+                @NotNull final HierarchicalTable<?> hierarchicalTable,
+                @Nullable final ColumnName keyTableActionColumn,
+                @NotNull final List<List<Object>> keyRows) {
+            this.hierarchicalTable = hierarchicalTable;
+            this.keyTableActionColumn = keyTableActionColumn;
+            this.keyRows = keyRows;
+            hashCode = 31 * (31 * System.identityHashCode(hierarchicalTable)
+                    + Objects.hashCode(keyTableActionColumn)) + keyRows.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof GroupKey)) {
+                return false;
+            }
+            final GroupKey otherKey = (GroupKey) other;
+            return hierarchicalTable == otherKey.hierarchicalTable
+                    && Objects.equals(keyTableActionColumn, otherKey.keyTableActionColumn)
+                    && keyRows.equals(otherKey.keyRows);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class ViewportKey {
+        private final BitSet columns;
+        private final long firstRowPosition;
+        private final long lastRowPosition;
+
+        private ViewportKey(@NotNull final BitSet columns, @NotNull final RowSet rows) {
+            this.columns = (BitSet) columns.clone();
+            firstRowPosition = rows.firstRowKey();
+            lastRowPosition = rows.lastRowKey();
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof ViewportKey)) {
+                return false;
+            }
+            final ViewportKey otherKey = (ViewportKey) other;
+            return firstRowPosition == otherKey.firstRowPosition
+                    && lastRowPosition == otherKey.lastRowPosition
+                    && columns.equals(otherKey.columns);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * columns.hashCode() + Long.hashCode(firstRowPosition)) + Long.hashCode(lastRowPosition);
+        }
+    }
+
+    private static final class RetainedSnapshot implements SafeCloseable {
+        private final long step;
+        private final long expandedSize;
+        private final WritableChunk<Values>[] data;
+
+        private RetainedSnapshot(
+                final long step,
+                final long expandedSize,
+                @NotNull final WritableChunk<Values>[] data) {
+            this.step = step;
+            this.expandedSize = expandedSize;
+            this.data = data;
+        }
+
+        @Override
+        public void close() {
+            SafeCloseable.closeAll(data);
+        }
+    }
+
+    /**
+     * The subscriptions sharing one expansion state, and the snapshots they have most recently taken.
+     */
+    static final class Group {
+        private final GroupKey key;
+        private final LinkedHashMap<ViewportKey, RetainedSnapshot> snapshots = new LinkedHashMap<>(16, 0.75f, true);
+        private int referenceCount;
+
+        private Group(@NotNull final GroupKey key) {
+            this.key = key;
+        }
+
+        /**
+         * Fill {@code destinations} from a retained snapshot of the requested viewport, if one was taken at
+         * {@code step}.
+         *
+         * @param step The {@link #currentIdleStep(HierarchicalTable) idle step}
+         * @param columns The included columns
+         * @param rows The included row positions
+         * @param destinations The destination chunks, one per included column
+         * @return The expanded size of the retained snapshot, or {@link io.deephaven.util.QueryConstants#NULL_LONG} if
+         *         none was usable
+         */
+        long fill(
+                final long step,
+                @NotNull final BitSet columns,
+                @NotNull final RowSet rows,
+                @NotNull final WritableChunk<Values>[] destinations) {
+            if (step == NULL_LONG || rows.isEmpty()) {
+                return NULL_LONG;
+            }
+            synchronized (this) {
+                final RetainedSnapshot retained = snapshots.get(new ViewportKey(columns, rows));
+                if (retained == null || retained.step != step) {
+                    return NULL_LONG;
+                }
+                for (int di = 0; di < destinations.length; ++di) {
+                    final int size = retained.data[di].size();
+                    destinations[di].setSize(size);
+                    destinations[di].copyFromChunk(retained.data[di], 0, 0, size);
+                }
+                return retained.expandedSize;
+            }
+        }
+
+        /**
+         * Retain a copy of a snapshot that observed the state at {@code step}, for other members to {@link #fill}
+         * from.
+         *
+         * @param step The {@link #currentIdleStep(HierarchicalTable) idle step} both before and after the snapshot
+         * @param columns The included columns
+         * @param rows The included row positions
+         * @param expandedSize The expanded size returned by the snapshot
+         * @param data The snapshot data, one chunk per included column
+         */
+        void retain(
+                final long step,
+                @NotNull final BitSet columns,
+                @NotNull final RowSet rows,
+                final long expandedSize,
+                @NotNull final WritableChunk<Values>[] data) {
+            if (step == NULL_LONG || rows.isEmpty()) {
+                return;
+            }
+            final ViewportKey viewportKey = new ViewportKey(columns, rows);
+            final RetainedSnapshot retained = new RetainedSnapshot(step, expandedSize, copyOf(data));
+            synchronized (this) {
+                try (final SafeCloseable ignored = snapshots.put(viewportKey, retained)) {
+                    final Iterator<RetainedSnapshot> eldest = snapshots.values().iterator();
+                    while (snapshots.size() > MAX_VIEWPORTS_PER_GROUP) {
+                        eldest.next().close();
+                        eldest.remove();
+                    }
+                }
+            }
+        }
+
+        /**
+         * Leave this group, releasing its retained snapshots if no members remain.
+         */
+        void release() {
+            synchronized (GROUPS) {
+                if (--referenceCount > 0) {
+                    return;
+                }
+                GROUPS.remove(key);
+            }
+            synchronized (this) {
+                snapshots.values().forEach(RetainedSnapshot::close);
+                snapshots.clear();
+            }
+        }
+    }
+
+    /**
+     * Make a pooled copy of each of {@code data}.
+     *
+     * @param data The chunks to copy
+     * @return The copies, owned by the caller
+     */
+    static WritableChunk<Values>[] copyOf(@NotNull final WritableChunk<Values>[] data) {
+        // noinspection unchecked
+        final WritableChunk<Values>[] copies = new WritableChunk[data.length];
+        for (int di = 0; di < data.length; ++di) {
+            final int size = data[di].size();
+            copies[di] = data[di].getChunkType().makeWritableChunk(size);
+            copies[di].copyFromChunk(data[di], 0, 0, size);
+        }
+        return copies;
+    }
+}
@@ -7,10 +7,13 @@ import io.deephaven.auth.AuthenticationRequestHandler;
 import io.deephaven.configuration.Configuration;
 import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.liveness.LivenessScopeStack;
+import io.deephaven.engine.table.impl.indexer.DataIndexAdvisor;
 import io.deephaven.engine.table.impl.perf.QueryPerformanceRecorderState;
+import io.deephaven.engine.table.impl.perf.UpdateLatencyTracker;
 import io.deephaven.engine.table.impl.util.AsyncErrorLogger;
 import io.deephaven.engine.table.impl.util.EngineMetrics;
 import io.deephaven.engine.table.impl.util.ServerStateTracker;
+import io.deephaven.engine.table.impl.util.TableMemoryTracker;
 import io.deephaven.engine.updategraph.UpdateGraph;
 import io.deephaven.engine.updategraph.impl.PeriodicUpdateGraph;
 import io.deephaven.engine.util.AbstractScriptSession;
@@ -203,6 +206,11 @@ public class DeephavenApiServer {
         QueryPerformanceRecorderState.installPoolAllocationRecorder();
         QueryPerformanceRecorderState.installUpdateGraphLockInstrumentation();
         ServerStateTracker.start();
+        TableMemoryTracker.start();
+        ProcessEnvironment.getGlobalShutdownManager().registerTask(ShutdownManager.OrderingCategory.FIRST,
+                TableMemoryTracker::stop);
+        UpdateLatencyTracker.start();
+        DataIndexAdvisor.start();
         AsyncErrorLogger.init();
 
         for (UriResolver resolver : uriResolvers.resolvers()) {
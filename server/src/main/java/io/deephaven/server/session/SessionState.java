@@ -13,10 +13,12 @@ import io.deephaven.base.verify.Assert;
 import io.deephaven.engine.liveness.LivenessArtifact;
 import io.deephaven.engine.liveness.LivenessReferent;
 import io.deephaven.engine.liveness.LivenessScopeStack;
+import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.impl.perf.QueryPerformanceNugget;
 import io.deephaven.engine.table.impl.perf.QueryPerformanceRecorder;
 import io.deephaven.engine.table.impl.perf.QueryState;
 import io.deephaven.engine.table.impl.util.EngineMetrics;
+import io.deephaven.engine.table.impl.util.TableMemoryTracker;
 import io.deephaven.engine.updategraph.DynamicNode;
 import io.deephaven.hash.KeyedIntObjectHash;
 import io.deephaven.hash.KeyedIntObjectHashMap;
@@ -1114,6 +1116,9 @@ public class SessionState {
                         if (result instanceof LivenessReferent && DynamicNode.notDynamicOrIsRefreshing(result)) {
                             manage((LivenessReferent) result);
                         }
+                        if (result instanceof Table && !isNonExport()) {
+                            TableMemoryTracker.track(session.getSessionId(), "export " + logIdentity, (Table) result);
+                        }
                         setState(ExportNotification.State.EXPORTED);
                     }
                 }
@@ -16,6 +16,7 @@ import io.deephaven.api.agg.spec.AggSpecWAvg;
 import io.deephaven.api.agg.spec.AggSpecWSum;
 import io.deephaven.api.object.UnionObject;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecAbsSum;
+import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecApproximateCountDistinct;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecApproximatePercentile;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecAvg;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecCountDistinct;
@@ -24,6 +25,7 @@ import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecFirst;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecFormula;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecFreeze;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecGroup;
+import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecKllPercentile;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecLast;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecMax;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecMedian;
@@ -135,6 +137,13 @@ class AggSpecAdapter {
         return Singleton.INSTANCE.adapters.adapt(spec);
     }
 
+    private static io.deephaven.api.agg.spec.AggSpecApproximateCountDistinct adapt(
+            AggSpecApproximateCountDistinct countDistinct) {
+        return countDistinct.hasPrecision()
+                ? AggSpec.approximateCountDistinct(countDistinct.getPrecision())
+                : AggSpec.approximateCountDistinct();
+    }
+
     private static io.deephaven.api.agg.spec.AggSpecApproximatePercentile adapt(
             AggSpecApproximatePercentile percentile) {
         return percentile.hasCompression()
@@ -154,6 +163,12 @@ class AggSpecAdapter {
         return AggSpec.formula(formula.getFormula(), formula.getParamToken());
     }
 
+    private static io.deephaven.api.agg.spec.AggSpecKllPercentile adapt(AggSpecKllPercentile percentile) {
+        return percentile.hasK()
+                ? AggSpec.kllPercentile(percentile.getPercentile(), percentile.getK())
+                : AggSpec.kllPercentile(percentile.getPercentile());
+    }
+
     private static io.deephaven.api.agg.spec.AggSpecMedian adapt(AggSpecMedian median) {
         return AggSpec.median(median.getAverageEvenlyDivided());
     }
@@ -290,6 +305,16 @@ class AggSpecAdapter {
                     AggSpec::absSum);
         }
 
+        @Override
+        public void visit(io.deephaven.api.agg.spec.AggSpecApproximateCountDistinct approxCountDistinct) {
+            add(
+                    TypeCase.APPROXIMATE_COUNT_DISTINCT,
+                    AggSpecApproximateCountDistinct.class,
+                    io.deephaven.api.agg.spec.AggSpecApproximateCountDistinct.class,
+                    GrpcErrorHelper::checkHasNoUnknownFieldsRecursive,
+                    AggSpecAdapter::adapt);
+        }
+
         @Override
         public void visit(io.deephaven.api.agg.spec.AggSpecApproximatePercentile approxPct) {
             add(
@@ -370,6 +395,16 @@ class AggSpecAdapter {
                     AggSpec::group);
         }
 
+        @Override
+        public void visit(io.deephaven.api.agg.spec.AggSpecKllPercentile kllPct) {
+            add(
+                    TypeCase.KLL_PERCENTILE,
+                    AggSpecKllPercentile.class,
+                    io.deephaven.api.agg.spec.AggSpecKllPercentile.class,
+                    GrpcErrorHelper::checkHasNoUnknownFieldsRecursive,
+                    AggSpecAdapter::adapt);
+        }
+
         @Override
         public void visit(io.deephaven.api.agg.spec.AggSpecLast last) {
             add(
@@ -179,6 +179,10 @@ public final class UpdateByGrpcImpl extends GrpcTableOperation<UpdateByRequest>
                 return adaptRollingFormula(spec.getRollingFormula());
             case ROLLING_COUNT_WHERE:
                 return adaptRollingCountWhere(spec.getRollingCountWhere());
+            case ROLLING_PERCENTILE:
+                return adaptRollingPercentile(spec.getRollingPercentile());
+            case ROLLING_COUNT_DISTINCT:
+                return adaptRollingCountDistinct(spec.getRollingCountDistinct());
 
             case TYPE_NOT_SET:
             default:
@@ -346,6 +350,20 @@ public final class UpdateByGrpcImpl extends GrpcTableOperation<UpdateByRequest>
                 countWhere.getFiltersList().toArray(String[]::new));
     }
 
+    private static RollingPercentileSpec adaptRollingPercentile(UpdateByRollingPercentile percentile) {
+        return RollingPercentileSpec.of(
+                percentile.getPercentile(),
+                adaptWindowScale(percentile.getReverseWindowScale()),
+                adaptWindowScale(percentile.getForwardWindowScale()));
+    }
+
+    private static RollingCountDistinctSpec adaptRollingCountDistinct(UpdateByRollingCountDistinct countDistinct) {
+        return RollingCountDistinctSpec.of(
+                countDistinct.getCountNulls(),
+                adaptWindowScale(countDistinct.getReverseWindowScale()),
+                adaptWindowScale(countDistinct.getForwardWindowScale()));
+    }
+
     private static MathContext adaptMathContext(io.deephaven.proto.backplane.grpc.MathContext bigValueContext) {
         return new MathContext(bigValueContext.getPrecision(), adaptRoundingMode(bigValueContext.getRoundingMode()));
     }
@@ -20,6 +20,7 @@ import io.deephaven.engine.table.impl.InstrumentedTableUpdateListener;
 import io.deephaven.engine.table.impl.QueryTable;
 import io.deephaven.engine.table.impl.TableUpdateImpl;
 import io.deephaven.engine.table.impl.TableUpdateValidator;
+import io.deephaven.engine.table.impl.perf.UpdateLatencyTracker;
 import io.deephaven.engine.table.impl.util.BarrageMessage;
 import io.deephaven.engine.testutil.ControlledUpdateGraph;
 import io.deephaven.engine.testutil.TstUtils;
@@ -40,6 +41,7 @@ import io.deephaven.server.util.TestControlledScheduler;
 import io.deephaven.test.types.OutOfBandTest;
 import io.deephaven.util.annotations.ReferentialIntegrity;
 import junit.framework.TestCase;
+import org.HdrHistogram.Histogram;
 import org.apache.arrow.flatbuf.Schema;
 import org.junit.experimental.categories.Category;
 
@@ -47,6 +49,7 @@ import javax.inject.Singleton;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 @Category(OutOfBandTest.class)
 public class BarrageBlinkTableTest extends RefreshingTableTestCase {
@@ -298,21 +301,31 @@ public class BarrageBlinkTableTest extends RefreshingTableTestCase {
     }
 
     private void releaseBlinkRows() {
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        updateGraph.runWithinUnitTestCycle(this::notifyBlinkRows);
+    }
+
+    private void releaseTracedBlinkRows(final long ingestNanos) {
         final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
         updateGraph.runWithinUnitTestCycle(() -> {
-            final TableUpdateImpl update = new TableUpdateImpl();
-            final long lastKey = blinkRowSet.lastRowKey();
-            update.removed = blinkRowSet.copy();
-            blinkRowSet.clear();
-            blinkRowSet.insertRange(lastKey + 1, lastKey + BATCH_SIZE);
-            update.added = blinkRowSet.copy();
-            update.modified = RowSetFactory.empty();
-            update.modifiedColumnSet = ModifiedColumnSet.EMPTY;
-            update.shifted = RowSetShiftData.EMPTY;
-            blinkTable.notifyListeners(update);
+            UpdateLatencyTracker.recordIngest(updateGraph, ingestNanos);
+            notifyBlinkRows();
         });
     }
 
+    private void notifyBlinkRows() {
+        final TableUpdateImpl update = new TableUpdateImpl();
+        final long lastKey = blinkRowSet.lastRowKey();
+        update.removed = blinkRowSet.copy();
+        blinkRowSet.clear();
+        blinkRowSet.insertRange(lastKey + 1, lastKey + BATCH_SIZE);
+        update.added = blinkRowSet.copy();
+        update.modified = RowSetFactory.empty();
+        update.modifiedColumnSet = ModifiedColumnSet.EMPTY;
+        update.shifted = RowSetShiftData.EMPTY;
+        blinkTable.notifyListeners(update);
+    }
+
     public void testBasicBlinkSingleUpdates() {
         final RemoteClient client = new RemoteClient();
         flushProducerTable(); // empty snapshot
@@ -349,6 +362,40 @@ public class BarrageBlinkTableTest extends RefreshingTableTestCase {
         }
     }
 
+    public void testLatencyTracedThroughSenderAggregation() {
+        final String sinkName = "BarrageMessageProducer(" + blinkTable.getDescription() + ")";
+        final long ingestAgeNanos = TimeUnit.MILLISECONDS.toNanos(500);
+        UpdateLatencyTracker.setSampleIntervalForUnitTests(1);
+        try {
+            final RemoteClient client = new RemoteClient();
+            flushProducerTable(); // empty snapshot
+            client.flushEventsToReplicatedTable();
+            final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+            updateGraph.runWithinUnitTestCycle(updateSourceCombiner::run);
+            client.validateBatches(0, 0);
+            UpdateLatencyTracker.removeSink(sinkName);
+
+            // The four cycles are coalesced into one message, whose latency is measured from the earliest ingestion
+            releaseTracedBlinkRows(System.nanoTime() - ingestAgeNanos);
+            for (int ii = 1; ii < 4; ++ii) {
+                releaseTracedBlinkRows(System.nanoTime());
+            }
+            flushProducerTable();
+            final Histogram endToEnd = UpdateLatencyTracker.getHistogramForUnitTests(sinkName, "EndToEnd");
+            TestCase.assertNotNull(endToEnd);
+            TestCase.assertEquals(1, endToEnd.getTotalCount());
+            TestCase.assertTrue(endToEnd.getMaxValue() >= ingestAgeNanos);
+
+            client.flushEventsToReplicatedTable();
+            updateSourceCombiner.assertRefreshRequested();
+            updateGraph.runWithinUnitTestCycle(updateSourceCombiner::run);
+            client.validateBatches(0, 4);
+        } finally {
+            UpdateLatencyTracker.setSampleIntervalForUnitTests(UpdateLatencyTracker.SAMPLE_INTERVAL);
+            UpdateLatencyTracker.removeSink(sinkName);
+        }
+    }
+
     public void testReceiverAggregates() {
         final RemoteClient client = new RemoteClient();
         flushProducerTable(); // empty snapshot
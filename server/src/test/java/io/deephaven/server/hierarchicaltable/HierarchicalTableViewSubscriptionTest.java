@@ -0,0 +1,365 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.server.hierarchicaltable;
+
+import com.google.flatbuffers.FlatBufferBuilder;
+import io.deephaven.api.ColumnName;
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.chunk.util.hashing.ChunkEquals;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.table.ColumnDefinition;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.hierarchical.HierarchicalTable;
+import io.deephaven.engine.table.hierarchical.TreeTable;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.sources.ReinterpretUtils;
+import io.deephaven.engine.table.impl.util.BarrageMessage;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import io.deephaven.extensions.barrage.BarrageMessageWriter;
+import io.deephaven.extensions.barrage.BarrageMessageWriterImpl;
+import io.deephaven.extensions.barrage.BarragePerformanceLog;
+import io.deephaven.extensions.barrage.BarrageSubscriptionOptions;
+import io.deephaven.extensions.barrage.chunk.ChunkWriter;
+import io.deephaven.server.session.SessionService;
+import io.deephaven.server.util.TestControlledScheduler;
+import io.deephaven.util.SafeCloseable;
+import io.grpc.stub.StreamObserver;
+import org.jetbrains.annotations.NotNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+import static io.deephaven.engine.testutil.TstUtils.addToTable;
+import static io.deephaven.engine.testutil.TstUtils.removeRows;
+import static io.deephaven.engine.testutil.TstUtils.testRefreshingTable;
+import static io.deephaven.engine.util.TableTools.byteCol;
+import static io.deephaven.engine.util.TableTools.intCol;
+import static io.deephaven.engine.util.TableTools.newTable;
+import static io.deephaven.util.QueryConstants.NULL_INT;
+import static io.deephaven.util.QueryConstants.NULL_LONG;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the snapshots and deltas sent by {@link HierarchicalTableViewSubscription}.
+ */
+public class HierarchicalTableViewSubscriptionTest {
+
+    private static final ColumnName ACTION = ColumnName.of("Action");
+
+    // Available column indices for our tree: the structural columns, then the source columns
+    private static final int ROW_EXPANDED = 1;
+    private static final int OTHER = 4;
+
+    @Rule
+    public final EngineCleanup framework = new EngineCleanup();
+
+    private ControlledUpdateGraph updateGraph;
+    private TestControlledScheduler scheduler;
+    private CapturingMessageWriterFactory messageWriterFactory;
+    private List<Throwable> errors;
+    private QueryTable source;
+    private TreeTable tree;
+
+    @Before
+    public void setUp() {
+        updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        scheduler = new TestControlledScheduler();
+        messageWriterFactory = new CapturingMessageWriterFactory();
+        errors = new ArrayList<>();
+        source = testRefreshingTable(
+                RowSetFactory.fromKeys(10, 11, 12).toTracking(),
+                intCol("CID", 0, 1, 2),
+                intCol("PID", NULL_INT, 0, 1),
+                intCol("Other", 50, 60, 70));
+        tree = source.tree("CID", "PID");
+    }
+
+    @After
+    public void tearDown() {
+        SafeCloseable.closeAll(messageWriterFactory.messages.stream());
+        assertThat(errors).isEmpty();
+    }
+
+    @Test
+    public void testDeltaReportsExpandedKeyspace() {
+        final HierarchicalTableViewSubscription subscription = subscribe(expandAllKeys(), 0, 1);
+        final SentMessage snapshot = onlyNewMessage(0);
+        assertThat(snapshot.isSnapshot).isTrue();
+        assertThat(snapshot.rowsAdded).isEqualTo(RowSetFactory.flat(3));
+        assertThat(snapshot.rowsIncluded).isEqualTo(RowSetFactory.flat(2));
+
+        // A new leaf beyond our viewport grows the keyspace, but sends no data
+        updateGraph.runWithinUnitTestCycle(() -> {
+            addToTable(source, i(13), intCol("CID", 3), intCol("PID", 2), intCol("Other", 80));
+            source.notifyListeners(i(13), i(), i());
+        });
+        scheduler.runUntilQueueEmpty();
+        final SentMessage grown = onlyNewMessage(1);
+        assertThat(grown.isSnapshot).isFalse();
+        assertThat(grown.tableSize).isEqualTo(4);
+        assertThat(grown.rowsAdded).isEqualTo(i(3));
+        assertThat(grown.rowsIncluded.isEmpty()).isTrue();
+        assertThat(grown.rowsRemoved.isEmpty()).isTrue();
+        assertThat(Stream.of(grown.rowsModified).allMatch(RowSet::isEmpty)).isTrue();
+
+        // A change within our viewport is sent as a modified cell
+        updateGraph.runWithinUnitTestCycle(() -> {
+            addToTable(source, i(11), intCol("CID", 1), intCol("PID", 0), intCol("Other", 65));
+            source.notifyListeners(i(), i(), i(11));
+        });
+        scheduler.runUntilQueueEmpty();
+        final SentMessage modified = onlyNewMessage(2);
+        assertThat(modified.rowsAdded.isEmpty()).isTrue();
+        assertThat(modified.rowsRemoved.isEmpty()).isTrue();
+        assertThat(modified.rowsModified[OTHER]).isEqualTo(i(1));
+        assertThat(modified.rowsModified[ROW_EXPANDED].isEmpty()).isTrue();
+
+        // Removing the leaf shrinks the keyspace again
+        updateGraph.runWithinUnitTestCycle(() -> {
+            removeRows(source, i(13));
+            source.notifyListeners(i(), i(13), i());
+        });
+        scheduler.runUntilQueueEmpty();
+        final SentMessage shrunk = onlyNewMessage(3);
+        assertThat(shrunk.tableSize).isEqualTo(3);
+        assertThat(shrunk.rowsAdded.isEmpty()).isTrue();
+        assertThat(shrunk.rowsRemoved).isEqualTo(i(3));
+
+        subscription.completed();
+    }
+
+    @Test
+    public void testInvisibleUpdateSendsNothing() {
+        final HierarchicalTableViewSubscription subscription = subscribe(expandAllKeys(), 0, 1);
+        onlyNewMessage(0);
+
+        // The only changed row is outside our viewport, and the expanded size is unchanged
+        updateGraph.runWithinUnitTestCycle(() -> {
+            addToTable(source, i(12), intCol("CID", 2), intCol("PID", 1), intCol("Other", 75));
+            source.notifyListeners(i(), i(), i(12));
+        });
+        scheduler.runUntilQueueEmpty();
+        assertThat(messageWriterFactory.messages).hasSize(1);
+
+        subscription.completed();
+    }
+
+    @Test
+    public void testExpandAndCollapse() {
+        final QueryTable keyTable = testRefreshingTable(RowSetFactory.empty().toTracking(), intCol("CID"));
+        final HierarchicalTableViewSubscription subscription = subscribe(
+                HierarchicalTableView.makeFromHierarchicalTable(tree, keyTable, null), 0, 9);
+        final SentMessage snapshot = onlyNewMessage(0);
+        assertThat(snapshot.tableSize).isEqualTo(1);
+
+        // Expanding the root's only child adds its child to the keyspace and the viewport
+        updateGraph.runWithinUnitTestCycle(() -> {
+            addToTable(keyTable, i(0), intCol("CID", 0));
+            keyTable.notifyListeners(i(0), i(), i());
+        });
+        scheduler.runUntilQueueEmpty();
+        final SentMessage expanded = onlyNewMessage(1);
+        assertThat(expanded.isSnapshot).isFalse();
+        assertThat(expanded.tableSize).isEqualTo(2);
+        assertThat(expanded.rowsAdded).isEqualTo(i(1));
+        assertThat(expanded.rowsIncluded).isEqualTo(i(1));
+        assertThat(expanded.rowsModified[ROW_EXPANDED]).isEqualTo(i(0));
+
+        // Collapsing it again removes the child
+        updateGraph.runWithinUnitTestCycle(() -> {
+            removeRows(keyTable, i(0));
+            keyTable.notifyListeners(i(), i(0), i());
+        });
+        scheduler.runUntilQueueEmpty();
+        final SentMessage collapsed = onlyNewMessage(2);
+        assertThat(collapsed.tableSize).isEqualTo(1);
+        assertThat(collapsed.rowsAdded.isEmpty()).isTrue();
+        assertThat(collapsed.rowsRemoved).isEqualTo(i(1));
+        assertThat(collapsed.rowsModified[ROW_EXPANDED]).isEqualTo(i(0));
+
+        subscription.completed();
+    }
+
+    @Test
+    public void testSharedSnapshotsReusedUntilUpdate() {
+        final HierarchicalTableView view = HierarchicalTableView.makeFromHierarchicalTable(
+                tree, expandAllKeys(), ACTION);
+        // Views with distinct, but equal, static key tables join the same group
+        final SharedExpansionSnapshots.Group group = SharedExpansionSnapshots.acquire(view);
+        assertThat(group).isNotNull();
+        assertThat(SharedExpansionSnapshots.acquire(
+                HierarchicalTableView.makeFromHierarchicalTable(tree, expandAllKeys(), ACTION))).isSameAs(group);
+        final SharedExpansionSnapshots.Group rootOnly =
+                SharedExpansionSnapshots.acquire(HierarchicalTableView.makeFromHierarchicalTable(tree));
+        assertThat(rootOnly).isNotNull().isNotSameAs(group);
+        rootOnly.release();
+        // Refreshing key tables may change, so cannot be shared
+        assertThat(SharedExpansionSnapshots.acquire(HierarchicalTableView.makeFromHierarchicalTable(
+                tree, testRefreshingTable(RowSetFactory.empty().toTracking(), intCol("CID")), null))).isNull();
+
+        final BitSet columns = new BitSet();
+        columns.set(0, tree.getAvailableColumnDefinitions().size());
+        try (final RowSet rows = RowSetFactory.flat(10);
+                final RowSet otherRows = RowSetFactory.flat(5)) {
+            final long step = SharedExpansionSnapshots.currentIdleStep(tree);
+            assertThat(step).isNotEqualTo(NULL_LONG);
+            final WritableChunk<Values>[] snapshot = makeDestinations(rows.intSize());
+            final long expandedSize = tree.snapshot(view.getSnapshotState(), view.getKeyTable(),
+                    view.getKeyTableActionColumn(), columns, rows, snapshot);
+            assertThat(expandedSize).isEqualTo(3);
+            group.retain(step, columns, rows, expandedSize, snapshot);
+
+            // The same viewport at the same step is copied from the retained snapshot
+            final WritableChunk<Values>[] copied = makeDestinations(rows.intSize());
+            assertThat(group.fill(step, columns, rows, copied)).isEqualTo(expandedSize);
+            for (int di = 0; di < snapshot.length; ++di) {
+                assertThat(ChunkEquals.makeEqual(snapshot[di].getChunkType()).equalReduce(snapshot[di], copied[di]))
+                        .isTrue();
+            }
+            SafeCloseable.closeAll(copied);
+
+            // Other viewports, and any later step, must take their own snapshots
+            final WritableChunk<Values>[] missed = makeDestinations(rows.intSize());
+            assertThat(group.fill(step, columns, otherRows, missed)).isEqualTo(NULL_LONG);
+            updateGraph.runWithinUnitTestCycle(() -> {
+            });
+            final long nextStep = SharedExpansionSnapshots.currentIdleStep(tree);
+            assertThat(nextStep).isGreaterThan(step);
+            assertThat(group.fill(nextStep, columns, rows, missed)).isEqualTo(NULL_LONG);
+            SafeCloseable.closeAll(missed);
+            SafeCloseable.closeAll(snapshot);
+        }
+
+        // Once all members have released it, the group and its snapshots are discarded
+        group.release();
+        group.release();
+        final SharedExpansionSnapshots.Group reacquired = SharedExpansionSnapshots.acquire(view);
+        assertThat(reacquired).isNotSameAs(group);
+        reacquired.release();
+    }
+
+    private HierarchicalTableViewSubscription subscribe(
+            @NotNull final Table keyTable,
+            final long firstRow,
+            final long lastRow) {
+        return subscribe(HierarchicalTableView.makeFromHierarchicalTable(tree, keyTable, ACTION), firstRow, lastRow);
+    }
+
+    private HierarchicalTableViewSubscription subscribe(
+            @NotNull final HierarchicalTableView view,
+            final long firstRow,
+            final long lastRow) {
+        final HierarchicalTableViewSubscription subscription = new HierarchicalTableViewSubscription(
+                scheduler, new SessionService.ObfuscatingErrorTransformer(), messageWriterFactory, view,
+                new ErrorCollectingObserver(), BarrageSubscriptionOptions.builder().build(), 0);
+        try (final RowSet rows = RowSetFactory.fromRange(firstRow, lastRow)) {
+            subscription.setViewport(null, rows, false);
+        }
+        scheduler.runUntilQueueEmpty();
+        return subscription;
+    }
+
+    private Table expandAllKeys() {
+        return newTable(
+                intCol(tree.getRowDepthColumn().name(), 0),
+                intCol("CID", NULL_INT),
+                byteCol(ACTION.name(), HierarchicalTable.KEY_TABLE_ACTION_EXPAND_ALL));
+    }
+
+    private WritableChunk<Values>[] makeDestinations(final int size) {
+        // noinspection unchecked
+        return tree.getAvailableColumnDefinitions().stream()
+                .map(ColumnDefinition::getDataType)
+                .map(type -> ReinterpretUtils.maybeConvertToPrimitiveChunkType(type).makeWritableChunk(size))
+                .toArray(WritableChunk[]::new);
+    }
+
+    /**
+     * Assert that exactly one message has been sent since the first {@code previouslySent}, and return it.
+     */
+    private SentMessage onlyNewMessage(final int previouslySent) {
+        assertThat(messageWriterFactory.messages).hasSize(previouslySent + 1);
+        return messageWriterFactory.messages.get(previouslySent);
+    }
+
+    private static RowSet i(final long... keys) {
+        return RowSetFactory.fromKeys(keys);
+    }
+
+    /**
+     * The parts of a {@link BarrageMessage} we check, copied before the message is written and released.
+     */
+    private static final class SentMessage implements SafeCloseable {
+        private final boolean isSnapshot;
+        private final long tableSize;
+        private final RowSet rowsAdded;
+        private final RowSet rowsIncluded;
+        private final RowSet rowsRemoved;
+        private final RowSet[] rowsModified;
+
+        private SentMessage(@NotNull final BarrageMessage message) {
+            isSnapshot = message.isSnapshot;
+            tableSize = message.tableSize;
+            rowsAdded = message.rowsAdded.copy();
+            rowsIncluded = message.rowsIncluded.copy();
+            rowsRemoved = message.rowsRemoved.copy();
+            rowsModified = Stream.of(message.modColumnData)
+                    .map(modColumnData -> modColumnData.rowsModified.copy())
+                    .toArray(RowSet[]::new);
+        }
+
+        @Override
+        public void close() {
+            SafeCloseable.closeAll(rowsAdded, rowsIncluded, rowsRemoved);
+            SafeCloseable.closeAll(rowsModified);
+        }
+    }
+
+    private static final class CapturingMessageWriterFactory implements BarrageMessageWriter.Factory {
+
+        private final BarrageMessageWriter.Factory delegate = new BarrageMessageWriterImpl.Factory();
+        private final List<SentMessage> messages = new ArrayList<>();
+
+        @Override
+        public BarrageMessageWriter newMessageWriter(
+                @NotNull final BarrageMessage message,
+                @NotNull final ChunkWriter<Chunk<Values>>[] chunkWriters,
+                @NotNull final BarragePerformanceLog.WriteMetricsConsumer metricsConsumer) {
+            messages.add(new SentMessage(message));
+            return delegate.newMessageWriter(message, chunkWriters, metricsConsumer);
+        }
+
+        @Override
+        public BarrageMessageWriter.MessageView getSchemaView(
+                @NotNull final ToIntFunction<FlatBufferBuilder> schemaPayloadWriter) {
+            return delegate.getSchemaView(schemaPayloadWriter);
+        }
+    }
+
+    private class ErrorCollectingObserver implements StreamObserver<BarrageMessageWriter.MessageView> {
+
+        @Override
+        public void onNext(final BarrageMessageWriter.MessageView value) {}
+
+        @Override
+        public void onError(final Throwable t) {
+            errors.add(t);
+        }
+
+        @Override
+        public void onCompleted() {}
+    }
+}
@@ -6,10 +6,12 @@ package io.deephaven.api.agg;
 import io.deephaven.api.ColumnName;
 import io.deephaven.api.Pair;
 import io.deephaven.api.agg.spec.AggSpec;
+import io.deephaven.api.agg.spec.AggSpecApproximateCountDistinct;
 import io.deephaven.api.agg.spec.AggSpecApproximatePercentile;
 import io.deephaven.api.agg.spec.AggSpecCountDistinct;
 import io.deephaven.api.agg.spec.AggSpecDistinct;
 import io.deephaven.api.agg.spec.AggSpecFormula;
+import io.deephaven.api.agg.spec.AggSpecKllPercentile;
 import io.deephaven.api.agg.spec.AggSpecMedian;
 import io.deephaven.api.agg.spec.AggSpecPercentile;
 import io.deephaven.api.agg.spec.AggSpecTDigest;
@@ -141,6 +143,34 @@ public interface Aggregation {
         return of(AggSpec.absSum(), pairs);
     }
 
+    /**
+     * Create an {@link io.deephaven.api.agg.spec.AggSpecApproximateCountDistinct approximate count distinct}
+     * aggregation for the supplied column name pairs with the default HyperLogLog
+     * {@link AggSpecApproximateCountDistinct#precision() precision}. This will not count {@code null} values from the
+     * input column(s).
+     *
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static Aggregation AggApproxCountDistinct(String... pairs) {
+        return of(AggSpec.approximateCountDistinct(), pairs);
+    }
+
+    /**
+     * Create an {@link io.deephaven.api.agg.spec.AggSpecApproximateCountDistinct approximate count distinct}
+     * aggregation for the supplied HyperLogLog precision and column name pairs. This will not count {@code null} values
+     * from the input column(s).
+     *
+     * @param precision HyperLogLog {@link AggSpecApproximateCountDistinct#precision() precision}; must be in range
+     *        [{@value AggSpecApproximateCountDistinct#MIN_PRECISION},
+     *        {@value AggSpecApproximateCountDistinct#MAX_PRECISION}]
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static Aggregation AggApproxCountDistinct(int precision, String... pairs) {
+        return of(AggSpec.approximateCountDistinct(precision), pairs);
+    }
+
     /**
      * Create an {@link io.deephaven.api.agg.spec.AggSpecApproximatePercentile approximate percentile} aggregation for
      * the supplied percentile and column name pairs with the default T-Digest
@@ -386,6 +416,31 @@ public interface Aggregation {
         return of(AggSpec.group(), pairs);
     }
 
+    /**
+     * Create a {@link io.deephaven.api.agg.spec.AggSpecKllPercentile KLL percentile} aggregation for the supplied
+     * percentile and column name pairs with the default KLL {@link AggSpecKllPercentile#k() k}.
+     *
+     * @param percentile The {@link AggSpecKllPercentile#percentile() percentile} to use for all component aggregations
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static Aggregation AggKllPct(double percentile, String... pairs) {
+        return of(AggSpec.kllPercentile(percentile), pairs);
+    }
+
+    /**
+     * Create a {@link io.deephaven.api.agg.spec.AggSpecKllPercentile KLL percentile} aggregation for the supplied
+     * percentile, KLL sketch size parameter, and column name pairs.
+     *
+     * @param percentile The {@link AggSpecKllPercentile#percentile() percentile} to use for all component aggregations
+     * @param k KLL {@link AggSpecKllPercentile#k() k}; must be at least {@value AggSpecKllPercentile#MIN_K}
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static Aggregation AggKllPct(double percentile, int k, String... pairs) {
+        return of(AggSpec.kllPercentile(percentile, k), pairs);
+    }
+
     /**
      * Create a {@link io.deephaven.api.agg.spec.AggSpecLast last} aggregation for the supplied column name pairs.
      *
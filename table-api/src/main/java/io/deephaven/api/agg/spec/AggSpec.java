@@ -26,6 +26,20 @@ public interface AggSpec {
         return AggSpecAbsSum.of();
     }
 
+    /**
+     * @return {@link AggSpecApproximateCountDistinct#of()}
+     */
+    static AggSpecApproximateCountDistinct approximateCountDistinct() {
+        return AggSpecApproximateCountDistinct.of();
+    }
+
+    /**
+     * @return {@link AggSpecApproximateCountDistinct#of(int)} for {@code precision}
+     */
+    static AggSpecApproximateCountDistinct approximateCountDistinct(int precision) {
+        return AggSpecApproximateCountDistinct.of(precision);
+    }
+
     /**
      * @return {@link AggSpecApproximatePercentile#of(double)} for {@code percentile}
      */
@@ -101,6 +115,20 @@ public interface AggSpec {
         return AggSpecGroup.of();
     }
 
+    /**
+     * @return {@link AggSpecKllPercentile#of(double)} for {@code percentile}
+     */
+    static AggSpecKllPercentile kllPercentile(double percentile) {
+        return AggSpecKllPercentile.of(percentile);
+    }
+
+    /**
+     * @return {@link AggSpecKllPercentile#of(double, int)} for {@code percentile} and {@code k}
+     */
+    static AggSpecKllPercentile kllPercentile(double percentile, int k) {
+        return AggSpecKllPercentile.of(percentile, k);
+    }
+
     /**
      * @return {@link AggSpecLast#of()}
      */
@@ -263,6 +291,7 @@ public interface AggSpec {
      */
     static void visitAll(Visitor visitor) {
         visitor.visit((AggSpecAbsSum) null);
+        visitor.visit((AggSpecApproximateCountDistinct) null);
         visitor.visit((AggSpecApproximatePercentile) null);
         visitor.visit((AggSpecAvg) null);
         visitor.visit((AggSpecCountDistinct) null);
@@ -271,6 +300,7 @@ public interface AggSpec {
         visitor.visit((AggSpecFormula) null);
         visitor.visit((AggSpecFreeze) null);
         visitor.visit((AggSpecGroup) null);
+        visitor.visit((AggSpecKllPercentile) null);
         visitor.visit((AggSpecLast) null);
         visitor.visit((AggSpecMax) null);
         visitor.visit((AggSpecMedian) null);
@@ -335,6 +365,8 @@ public interface AggSpec {
     interface Visitor {
         void visit(AggSpecAbsSum absSum);
 
+        void visit(AggSpecApproximateCountDistinct approxCountDistinct);
+
         void visit(AggSpecApproximatePercentile approxPct);
 
         void visit(AggSpecAvg avg);
@@ -351,6 +383,8 @@ public interface AggSpec {
 
         void visit(AggSpecGroup group);
 
+        void visit(AggSpecKllPercentile kllPct);
+
         void visit(AggSpecLast last);
 
         void visit(AggSpecMax max);
@@ -0,0 +1,88 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.api.agg.spec;
+
+import io.deephaven.annotations.BuildableStyle;
+import org.immutables.value.Value.Check;
+import org.immutables.value.Value.Immutable;
+
+import java.util.OptionalInt;
+
+/**
+ * Specifies an aggregation that outputs the count of distinct values for each group, approximated using a HyperLogLog
+ * sketch with the specified {@link #precision()}.
+ *
+ * <p>
+ * The relative standard error of the estimate is approximately {@code 1.04 / sqrt(2^precision)}, while the memory used
+ * per group is {@code 2^precision} bytes regardless of the number of distinct values. {@code null} values (and
+ * {@code NaN} for floating point types) are not counted.
+ *
+ * <p>
+ * Sketches are merged when re-aggregating rollup levels.
+ *
+ * <p>
+ * May only be used on static, add-only, or blink tables.
+ */
+@Immutable
+@BuildableStyle
+public abstract class AggSpecApproximateCountDistinct extends AggSpecBase {
+
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 18;
+
+    /**
+     * Create a new AggSpecApproximateCountDistinct with {@code precision} chosen by the server.
+     *
+     * @return the agg spec
+     */
+    public static AggSpecApproximateCountDistinct of() {
+        return ImmutableAggSpecApproximateCountDistinct.builder().build();
+    }
+
+    /**
+     * Create a new AggSpecApproximateCountDistinct.
+     *
+     * @param precision the precision
+     * @return the agg spec
+     */
+    public static AggSpecApproximateCountDistinct of(int precision) {
+        return ImmutableAggSpecApproximateCountDistinct.builder()
+                .precision(precision)
+                .build();
+    }
+
+    @Override
+    public final String description() {
+        if (precision().isPresent()) {
+            return String.format("approximate count distinct with precision %d", precision().getAsInt());
+        }
+        return "approximate count distinct with default precision";
+    }
+
+    /**
+     * HyperLogLog precision, the base-2 logarithm of the number of registers in each sketch. Must be in range
+     * [{@value MIN_PRECISION}, {@value MAX_PRECISION}].
+     *
+     * <p>
+     * When not specified, the engine will choose a precision value.
+     *
+     * @return The HyperLogLog precision if specified
+     */
+    public abstract OptionalInt precision();
+
+    @Override
+    public final <V extends Visitor> V walk(V visitor) {
+        visitor.visit(this);
+        return visitor;
+    }
+
+    @Check
+    final void checkPrecision() {
+        if (precision().isPresent()
+                && (precision().getAsInt() < MIN_PRECISION || precision().getAsInt() > MAX_PRECISION)) {
+            throw new IllegalArgumentException(String.format("Precision must be in range [%d, %d]",
+                    MIN_PRECISION, MAX_PRECISION));
+        }
+    }
+}
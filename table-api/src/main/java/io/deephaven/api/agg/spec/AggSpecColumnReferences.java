@@ -28,6 +28,11 @@ public class AggSpecColumnReferences implements AggSpec.Visitor {
         out = Collections.emptySet();
     }
 
+    @Override
+    public void visit(AggSpecApproximateCountDistinct approxCountDistinct) {
+        out = Collections.emptySet();
+    }
+
     @Override
     public void visit(AggSpecApproximatePercentile approxPct) {
         out = Collections.emptySet();
@@ -68,6 +73,11 @@ public class AggSpecColumnReferences implements AggSpec.Visitor {
         out = Collections.emptySet();
     }
 
+    @Override
+    public void visit(AggSpecKllPercentile kllPct) {
+        out = Collections.emptySet();
+    }
+
     @Override
     public void visit(AggSpecLast last) {
         out = Collections.emptySet();
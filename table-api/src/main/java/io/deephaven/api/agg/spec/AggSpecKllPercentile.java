@@ -0,0 +1,104 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.api.agg.spec;
+
+import io.deephaven.annotations.BuildableStyle;
+import org.immutables.value.Value.Check;
+import org.immutables.value.Value.Immutable;
+
+import java.util.OptionalInt;
+
+/**
+ * Specifies an aggregation that outputs a percentile approximated using a KLL quantile sketch with the specified
+ * {@link #k()}.
+ *
+ * <p>
+ * Unlike {@link AggSpecApproximatePercentile}, the rank error of a KLL sketch is bounded independently of the input
+ * distribution; the normalized rank error is roughly {@code 1.65 / k^0.95}. Sketches are merged when re-aggregating
+ * rollup levels.
+ *
+ * <p>
+ * May only be used on static, add-only, or blink tables.
+ *
+ * <p>
+ * Only supported for numeric types.
+ */
+@Immutable
+@BuildableStyle
+public abstract class AggSpecKllPercentile extends AggSpecBase {
+
+    public static final int MIN_K = 8;
+
+    /**
+     * Create a new AggSpecKllPercentile with {@code k} chosen by the server.
+     *
+     * @param percentile the percentile
+     * @return the agg spec
+     */
+    public static AggSpecKllPercentile of(double percentile) {
+        return ImmutableAggSpecKllPercentile.builder()
+                .percentile(percentile)
+                .build();
+    }
+
+    /**
+     * Create a new AggSpecKllPercentile.
+     *
+     * @param percentile the percentile
+     * @param k the sketch size parameter
+     * @return the agg spec
+     */
+    public static AggSpecKllPercentile of(double percentile, int k) {
+        return ImmutableAggSpecKllPercentile.builder()
+                .percentile(percentile)
+                .k(k)
+                .build();
+    }
+
+    @Override
+    public final String description() {
+        if (k().isPresent()) {
+            return String.format("%.2f KLL percentile with k %d", percentile(), k().getAsInt());
+        }
+        return String.format("%.2f KLL percentile with default k", percentile());
+    }
+
+    /**
+     * Percentile. Must be in range [0.0, 1.0].
+     *
+     * @return The percentile
+     */
+    public abstract double percentile();
+
+    /**
+     * KLL sketch size parameter, controlling the trade-off between accuracy and memory. Must be greater than or equal
+     * to {@value MIN_K}.
+     *
+     * <p>
+     * When not specified, the engine will choose a value.
+     *
+     * @return The KLL sketch size parameter if specified
+     */
+    public abstract OptionalInt k();
+
+    @Override
+    public final <V extends Visitor> V walk(V visitor) {
+        visitor.visit(this);
+        return visitor;
+    }
+
+    @Check
+    final void checkPercentile() {
+        if (percentile() < 0.0 || percentile() > 1.0) {
+            throw new IllegalArgumentException("Percentile must be in range [0.0, 1.0]");
+        }
+    }
+
+    @Check
+    final void checkK() {
+        if (k().isPresent() && k().getAsInt() < MIN_K) {
+            throw new IllegalArgumentException("K must be greater than or equal to " + MIN_K);
+        }
+    }
+}
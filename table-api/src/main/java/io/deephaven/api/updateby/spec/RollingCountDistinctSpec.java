@@ -0,0 +1,87 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.api.updateby.spec;
+
+import io.deephaven.annotations.BuildableStyle;
+import org.immutables.value.Value;
+import org.immutables.value.Value.Immutable;
+
+import java.time.Duration;
+
+/**
+ * An {@link UpdateBySpec} for performing a windowed rolling count of the distinct values in the specified columns.
+ */
+@Immutable
+@BuildableStyle
+public abstract class RollingCountDistinctSpec extends RollingOpSpec {
+
+    public static final boolean COUNT_NULLS_DEFAULT = false;
+
+    public static RollingCountDistinctSpec ofTicks(long revTicks) {
+        return of(WindowScale.ofTicks(revTicks));
+    }
+
+    public static RollingCountDistinctSpec ofTicks(long revTicks, long fwdTicks) {
+        return of(WindowScale.ofTicks(revTicks), WindowScale.ofTicks(fwdTicks));
+    }
+
+    public static RollingCountDistinctSpec ofTime(final String timestampCol, Duration revDuration) {
+        return of(WindowScale.ofTime(timestampCol, revDuration));
+    }
+
+    public static RollingCountDistinctSpec ofTime(final String timestampCol, Duration revDuration,
+            Duration fwdDuration) {
+        return of(WindowScale.ofTime(timestampCol, revDuration),
+                WindowScale.ofTime(timestampCol, fwdDuration));
+    }
+
+    public static RollingCountDistinctSpec ofTime(final String timestampCol, long revDuration) {
+        return of(WindowScale.ofTime(timestampCol, revDuration));
+    }
+
+    public static RollingCountDistinctSpec ofTime(final String timestampCol, long revDuration, long fwdDuration) {
+        return of(WindowScale.ofTime(timestampCol, revDuration),
+                WindowScale.ofTime(timestampCol, fwdDuration));
+    }
+
+    public static RollingCountDistinctSpec of(WindowScale revWindowScale) {
+        return of(COUNT_NULLS_DEFAULT, revWindowScale);
+    }
+
+    public static RollingCountDistinctSpec of(WindowScale revWindowScale, WindowScale fwdWindowScale) {
+        return of(COUNT_NULLS_DEFAULT, revWindowScale, fwdWindowScale);
+    }
+
+    public static RollingCountDistinctSpec of(boolean countNulls, WindowScale revWindowScale) {
+        return ImmutableRollingCountDistinctSpec.builder().countNulls(countNulls).revWindowScale(revWindowScale)
+                .build();
+    }
+
+    public static RollingCountDistinctSpec of(boolean countNulls, WindowScale revWindowScale,
+            WindowScale fwdWindowScale) {
+        return ImmutableRollingCountDistinctSpec.builder().countNulls(countNulls)
+                .revWindowScale(revWindowScale).fwdWindowScale(fwdWindowScale).build();
+    }
+
+    /**
+     * Whether {@code null} input values should be included when counting the distinct values in the window. Defaults
+     * to {@value COUNT_NULLS_DEFAULT}.
+     *
+     * @return Whether to count nulls
+     */
+    @Value.Default
+    public boolean countNulls() {
+        return COUNT_NULLS_DEFAULT;
+    }
+
+    @Override
+    public final boolean applicableTo(Class<?> inputType) {
+        return inputType.isPrimitive() || Comparable.class.isAssignableFrom(inputType);
+    }
+
+    @Override
+    public final <T> T walk(Visitor<T> visitor) {
+        return visitor.visit(this);
+    }
+}
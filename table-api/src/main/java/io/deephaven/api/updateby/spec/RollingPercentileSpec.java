@@ -0,0 +1,91 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.api.updateby.spec;
+
+import io.deephaven.annotations.BuildableStyle;
+import org.immutables.value.Value;
+import org.immutables.value.Value.Immutable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * A {@link UpdateBySpec} for performing a windowed rolling percentile across the specified columns. The result is the
+ * value from the window at the requested percentile (no averaging is performed), so the output type matches the input
+ * type. A percentile of {@code 0.5} produces the rolling median.
+ */
+@Immutable
+@BuildableStyle
+public abstract class RollingPercentileSpec extends RollingOpSpec {
+
+    public static RollingPercentileSpec ofTicks(double percentile, long revTicks) {
+        return of(percentile, WindowScale.ofTicks(revTicks));
+    }
+
+    public static RollingPercentileSpec ofTicks(double percentile, long revTicks, long fwdTicks) {
+        return of(percentile, WindowScale.ofTicks(revTicks), WindowScale.ofTicks(fwdTicks));
+    }
+
+    public static RollingPercentileSpec ofTime(double percentile, final String timestampCol, Duration revDuration) {
+        return of(percentile, WindowScale.ofTime(timestampCol, revDuration));
+    }
+
+    public static RollingPercentileSpec ofTime(double percentile, final String timestampCol, Duration revDuration,
+            Duration fwdDuration) {
+        return of(percentile, WindowScale.ofTime(timestampCol, revDuration),
+                WindowScale.ofTime(timestampCol, fwdDuration));
+    }
+
+    public static RollingPercentileSpec ofTime(double percentile, final String timestampCol, long revDuration) {
+        return of(percentile, WindowScale.ofTime(timestampCol, revDuration));
+    }
+
+    public static RollingPercentileSpec ofTime(double percentile, final String timestampCol, long revDuration,
+            long fwdDuration) {
+        return of(percentile, WindowScale.ofTime(timestampCol, revDuration),
+                WindowScale.ofTime(timestampCol, fwdDuration));
+    }
+
+    public static RollingPercentileSpec of(double percentile, WindowScale revWindowScale) {
+        return ImmutableRollingPercentileSpec.builder().percentile(percentile).revWindowScale(revWindowScale).build();
+    }
+
+    public static RollingPercentileSpec of(double percentile, WindowScale revWindowScale,
+            WindowScale fwdWindowScale) {
+        return ImmutableRollingPercentileSpec.builder().percentile(percentile)
+                .revWindowScale(revWindowScale).fwdWindowScale(fwdWindowScale).build();
+    }
+
+    /**
+     * The percentile to compute, in the range [0, 1].
+     *
+     * @return the percentile
+     */
+    public abstract double percentile();
+
+    @Override
+    public final boolean applicableTo(Class<?> inputType) {
+        return
+        // is primitive or boxed numeric, other than BigInteger and BigDecimal?
+        (applicableToNumeric(inputType) && inputType != BigInteger.class && inputType != BigDecimal.class)
+                // is char?
+                || inputType == char.class || inputType == Character.class
+                // is time?
+                || inputType == Instant.class;
+    }
+
+    @Override
+    public final <T> T walk(Visitor<T> visitor) {
+        return visitor.visit(this);
+    }
+
+    @Value.Check
+    final void checkPercentile() {
+        if (!(percentile() >= 0.0 && percentile() <= 1.0)) {
+            throw new IllegalArgumentException("Percentile must be in the range [0, 1]");
+        }
+    }
+}
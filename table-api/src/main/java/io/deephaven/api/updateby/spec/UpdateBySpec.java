@@ -104,10 +104,14 @@ public interface UpdateBySpec {
 
         T visit(RollingCountSpec spec);
 
+        T visit(RollingCountDistinctSpec spec);
+
         T visit(RollingCountWhereSpec spec);
 
         T visit(RollingStdSpec spec);
 
+        T visit(RollingPercentileSpec spec);
+
         T visit(RollingWAvgSpec spec);
 
         T visit(RollingFormulaSpec spec);
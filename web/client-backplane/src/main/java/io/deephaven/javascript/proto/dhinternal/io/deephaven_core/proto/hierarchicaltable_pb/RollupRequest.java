@@ -27,6 +27,20 @@ public class RollupRequest {
             public interface ColumnsFieldType {
                 @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
                 public interface SpecFieldType {
+                    @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+                    public interface ApproximateCountDistinctFieldType {
+                        @JsOverlay
+                        static RollupRequest.ToObjectReturnType.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.ApproximateCountDistinctFieldType create() {
+                            return Js.uncheckedCast(JsPropertyMap.of());
+                        }
+
+                        @JsProperty
+                        double getPrecision();
+
+                        @JsProperty
+                        void setPrecision(double precision);
+                    }
+
                     @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
                     public interface ApproximatePercentileFieldType {
                         @JsOverlay
@@ -95,6 +109,26 @@ public class RollupRequest {
                         void setParamToken(String paramToken);
                     }
 
+                    @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+                    public interface KllPercentileFieldType {
+                        @JsOverlay
+                        static RollupRequest.ToObjectReturnType.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.KllPercentileFieldType create() {
+                            return Js.uncheckedCast(JsPropertyMap.of());
+                        }
+
+                        @JsProperty
+                        double getK();
+
+                        @JsProperty
+                        double getPercentile();
+
+                        @JsProperty
+                        void setK(double k);
+
+                        @JsProperty
+                        void setPercentile(double percentile);
+                    }
+
                     @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
                     public interface MedianFieldType {
                         @JsOverlay
@@ -291,6 +325,9 @@ public class RollupRequest {
                     @JsProperty
                     Object getAbsSum();
 
+                    @JsProperty
+                    RollupRequest.ToObjectReturnType.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.ApproximateCountDistinctFieldType getApproximateCountDistinct();
+
                     @JsProperty
                     RollupRequest.ToObjectReturnType.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.ApproximatePercentileFieldType getApproximatePercentile();
 
@@ -315,6 +352,9 @@ public class RollupRequest {
                     @JsProperty
                     Object getGroup();
 
+                    @JsProperty
+                    RollupRequest.ToObjectReturnType.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.KllPercentileFieldType getKllPercentile();
+
                     @JsProperty
                     Object getLast();
 
@@ -360,6 +400,10 @@ public class RollupRequest {
                     @JsProperty
                     void setAbsSum(Object absSum);
 
+                    @JsProperty
+                    void setApproximateCountDistinct(
+                            RollupRequest.ToObjectReturnType.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.ApproximateCountDistinctFieldType approximateCountDistinct);
+
                     @JsProperty
                     void setApproximatePercentile(
                             RollupRequest.ToObjectReturnType.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.ApproximatePercentileFieldType approximatePercentile);
@@ -388,6 +432,10 @@ public class RollupRequest {
                     @JsProperty
                     void setGroup(Object group);
 
+                    @JsProperty
+                    void setKllPercentile(
+                            RollupRequest.ToObjectReturnType.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.KllPercentileFieldType kllPercentile);
+
                     @JsProperty
                     void setLast(Object last);
 
@@ -666,6 +714,20 @@ public class RollupRequest {
             public interface ColumnsFieldType {
                 @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
                 public interface SpecFieldType {
+                    @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+                    public interface ApproximateCountDistinctFieldType {
+                        @JsOverlay
+                        static RollupRequest.ToObjectReturnType0.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.ApproximateCountDistinctFieldType create() {
+                            return Js.uncheckedCast(JsPropertyMap.of());
+                        }
+
+                        @JsProperty
+                        double getPrecision();
+
+                        @JsProperty
+                        void setPrecision(double precision);
+                    }
+
                     @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
                     public interface ApproximatePercentileFieldType {
                         @JsOverlay
@@ -734,6 +796,26 @@ public class RollupRequest {
                         void setParamToken(String paramToken);
                     }
 
+                    @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+                    public interface KllPercentileFieldType {
+                        @JsOverlay
+                        static RollupRequest.ToObjectReturnType0.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.KllPercentileFieldType create() {
+                            return Js.uncheckedCast(JsPropertyMap.of());
+                        }
+
+                        @JsProperty
+                        double getK();
+
+                        @JsProperty
+                        double getPercentile();
+
+                        @JsProperty
+                        void setK(double k);
+
+                        @JsProperty
+                        void setPercentile(double percentile);
+                    }
+
                     @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
                     public interface MedianFieldType {
                         @JsOverlay
@@ -930,6 +1012,9 @@ public class RollupRequest {
                     @JsProperty
                     Object getAbsSum();
 
+                    @JsProperty
+                    RollupRequest.ToObjectReturnType0.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.ApproximateCountDistinctFieldType getApproximateCountDistinct();
+
                     @JsProperty
                     RollupRequest.ToObjectReturnType0.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.ApproximatePercentileFieldType getApproximatePercentile();
 
@@ -954,6 +1039,9 @@ public class RollupRequest {
                     @JsProperty
                     Object getGroup();
 
+                    @JsProperty
+                    RollupRequest.ToObjectReturnType0.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.KllPercentileFieldType getKllPercentile();
+
                     @JsProperty
                     Object getLast();
 
@@ -999,6 +1087,10 @@ public class RollupRequest {
                     @JsProperty
                     void setAbsSum(Object absSum);
 
+                    @JsProperty
+                    void setApproximateCountDistinct(
+                            RollupRequest.ToObjectReturnType0.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.ApproximateCountDistinctFieldType approximateCountDistinct);
+
                     @JsProperty
                     void setApproximatePercentile(
                             RollupRequest.ToObjectReturnType0.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.ApproximatePercentileFieldType approximatePercentile);
@@ -1027,6 +1119,10 @@ public class RollupRequest {
                     @JsProperty
                     void setGroup(Object group);
 
+                    @JsProperty
+                    void setKllPercentile(
+                            RollupRequest.ToObjectReturnType0.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.KllPercentileFieldType kllPercentile);
+
                     @JsProperty
                     void setLast(Object last);
 
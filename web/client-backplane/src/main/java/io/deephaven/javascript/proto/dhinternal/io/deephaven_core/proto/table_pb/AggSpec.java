@@ -6,6 +6,7 @@ package io.deephaven.javascript.proto.dhinternal.io.deephaven_core.proto.table_p
 import elemental2.core.JsArray;
 import elemental2.core.Uint8Array;
 import io.deephaven.javascript.proto.dhinternal.io.deephaven_core.proto.table_pb.aggspec.AggSpecAbsSum;
+import io.deephaven.javascript.proto.dhinternal.io.deephaven_core.proto.table_pb.aggspec.AggSpecApproximateCountDistinct;
 import io.deephaven.javascript.proto.dhinternal.io.deephaven_core.proto.table_pb.aggspec.AggSpecApproximatePercentile;
 import io.deephaven.javascript.proto.dhinternal.io.deephaven_core.proto.table_pb.aggspec.AggSpecAvg;
 import io.deephaven.javascript.proto.dhinternal.io.deephaven_core.proto.table_pb.aggspec.AggSpecCountDistinct;
@@ -14,6 +15,7 @@ import io.deephaven.javascript.proto.dhinternal.io.deephaven_core.proto.table_pb
 import io.deephaven.javascript.proto.dhinternal.io.deephaven_core.proto.table_pb.aggspec.AggSpecFormula;
 import io.deephaven.javascript.proto.dhinternal.io.deephaven_core.proto.table_pb.aggspec.AggSpecFreeze;
 import io.deephaven.javascript.proto.dhinternal.io.deephaven_core.proto.table_pb.aggspec.AggSpecGroup;
+import io.deephaven.javascript.proto.dhinternal.io.deephaven_core.proto.table_pb.aggspec.AggSpecKllPercentile;
 import io.deephaven.javascript.proto.dhinternal.io.deephaven_core.proto.table_pb.aggspec.AggSpecLast;
 import io.deephaven.javascript.proto.dhinternal.io.deephaven_core.proto.table_pb.aggspec.AggSpecMax;
 import io.deephaven.javascript.proto.dhinternal.io.deephaven_core.proto.table_pb.aggspec.AggSpecMedian;
@@ -40,6 +42,20 @@ import jsinterop.base.JsPropertyMap;
 public class AggSpec {
     @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
     public interface ToObjectReturnType {
+        @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+        public interface ApproximateCountDistinctFieldType {
+            @JsOverlay
+            static AggSpec.ToObjectReturnType.ApproximateCountDistinctFieldType create() {
+                return Js.uncheckedCast(JsPropertyMap.of());
+            }
+
+            @JsProperty
+            double getPrecision();
+
+            @JsProperty
+            void setPrecision(double precision);
+        }
+
         @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
         public interface ApproximatePercentileFieldType {
             @JsOverlay
@@ -108,6 +124,26 @@ public class AggSpec {
             void setParamToken(String paramToken);
         }
 
+        @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+        public interface KllPercentileFieldType {
+            @JsOverlay
+            static AggSpec.ToObjectReturnType.KllPercentileFieldType create() {
+                return Js.uncheckedCast(JsPropertyMap.of());
+            }
+
+            @JsProperty
+            double getK();
+
+            @JsProperty
+            double getPercentile();
+
+            @JsProperty
+            void setK(double k);
+
+            @JsProperty
+            void setPercentile(double percentile);
+        }
+
         @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
         public interface MedianFieldType {
             @JsOverlay
@@ -304,6 +340,9 @@ public class AggSpec {
         @JsProperty
         Object getAbsSum();
 
+        @JsProperty
+        AggSpec.ToObjectReturnType.ApproximateCountDistinctFieldType getApproximateCountDistinct();
+
         @JsProperty
         AggSpec.ToObjectReturnType.ApproximatePercentileFieldType getApproximatePercentile();
 
@@ -328,6 +367,9 @@ public class AggSpec {
         @JsProperty
         Object getGroup();
 
+        @JsProperty
+        AggSpec.ToObjectReturnType.KllPercentileFieldType getKllPercentile();
+
         @JsProperty
         Object getLast();
 
@@ -373,6 +415,10 @@ public class AggSpec {
         @JsProperty
         void setAbsSum(Object absSum);
 
+        @JsProperty
+        void setApproximateCountDistinct(
+                AggSpec.ToObjectReturnType.ApproximateCountDistinctFieldType approximateCountDistinct);
+
         @JsProperty
         void setApproximatePercentile(
                 AggSpec.ToObjectReturnType.ApproximatePercentileFieldType approximatePercentile);
@@ -398,6 +444,9 @@ public class AggSpec {
         @JsProperty
         void setGroup(Object group);
 
+        @JsProperty
+        void setKllPercentile(AggSpec.ToObjectReturnType.KllPercentileFieldType kllPercentile);
+
         @JsProperty
         void setLast(Object last);
 
@@ -443,6 +492,20 @@ public class AggSpec {
 
     @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
     public interface ToObjectReturnType0 {
+        @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+        public interface ApproximateCountDistinctFieldType {
+            @JsOverlay
+            static AggSpec.ToObjectReturnType0.ApproximateCountDistinctFieldType create() {
+                return Js.uncheckedCast(JsPropertyMap.of());
+            }
+
+            @JsProperty
+            double getPrecision();
+
+            @JsProperty
+            void setPrecision(double precision);
+        }
+
         @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
         public interface ApproximatePercentileFieldType {
             @JsOverlay
@@ -511,6 +574,26 @@ public class AggSpec {
             void setParamToken(String paramToken);
         }
 
+        @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+        public interface KllPercentileFieldType {
+            @JsOverlay
+            static AggSpec.ToObjectReturnType0.KllPercentileFieldType create() {
+                return Js.uncheckedCast(JsPropertyMap.of());
+            }
+
+            @JsProperty
+            double getK();
+
+            @JsProperty
+            double getPercentile();
+
+            @JsProperty
+            void setK(double k);
+
+            @JsProperty
+            void setPercentile(double percentile);
+        }
+
         @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
         public interface MedianFieldType {
             @JsOverlay
@@ -707,6 +790,9 @@ public class AggSpec {
         @JsProperty
         Object getAbsSum();
 
+        @JsProperty
+        AggSpec.ToObjectReturnType0.ApproximateCountDistinctFieldType getApproximateCountDistinct();
+
         @JsProperty
         AggSpec.ToObjectReturnType0.ApproximatePercentileFieldType getApproximatePercentile();
 
@@ -731,6 +817,9 @@ public class AggSpec {
         @JsProperty
         Object getGroup();
 
+        @JsProperty
+        AggSpec.ToObjectReturnType0.KllPercentileFieldType getKllPercentile();
+
         @JsProperty
         Object getLast();
 
@@ -776,6 +865,10 @@ public class AggSpec {
         @JsProperty
         void setAbsSum(Object absSum);
 
+        @JsProperty
+        void setApproximateCountDistinct(
+                AggSpec.ToObjectReturnType0.ApproximateCountDistinctFieldType approximateCountDistinct);
+
         @JsProperty
         void setApproximatePercentile(
                 AggSpec.ToObjectReturnType0.ApproximatePercentileFieldType approximatePercentile);
@@ -801,6 +894,9 @@ public class AggSpec {
         @JsProperty
         void setGroup(Object group);
 
+        @JsProperty
+        void setKllPercentile(AggSpec.ToObjectReturnType0.KllPercentileFieldType kllPercentile);
+
         @JsProperty
         void setLast(Object last);
 
@@ -854,6 +950,8 @@ public class AggSpec {
 
     public native void clearAbsSum();
 
+    public native void clearApproximateCountDistinct();
+
     public native void clearApproximatePercentile();
 
     public native void clearAvg();
@@ -870,6 +968,8 @@ public class AggSpec {
 
     public native void clearGroup();
 
+    public native void clearKllPercentile();
+
     public native void clearLast();
 
     public native void clearMax();
@@ -900,6 +1000,8 @@ public class AggSpec {
 
     public native AggSpecAbsSum getAbsSum();
 
+    public native AggSpecApproximateCountDistinct getApproximateCountDistinct();
+
     public native AggSpecApproximatePercentile getApproximatePercentile();
 
     public native AggSpecAvg getAvg();
@@ -916,6 +1018,8 @@ public class AggSpec {
 
     public native AggSpecGroup getGroup();
 
+    public native AggSpecKllPercentile getKllPercentile();
+
     public native AggSpecLast getLast();
 
     public native AggSpecMax getMax();
@@ -948,6 +1052,8 @@ public class AggSpec {
 
     public native boolean hasAbsSum();
 
+    public native boolean hasApproximateCountDistinct();
+
     public native boolean hasApproximatePercentile();
 
     public native boolean hasAvg();
@@ -964,6 +1070,8 @@ public class AggSpec {
 
     public native boolean hasGroup();
 
+    public native boolean hasKllPercentile();
+
     public native boolean hasLast();
 
     public native boolean hasMax();
@@ -998,6 +1106,10 @@ public class AggSpec {
 
     public native void setAbsSum(AggSpecAbsSum value);
 
+    public native void setApproximateCountDistinct();
+
+    public native void setApproximateCountDistinct(AggSpecApproximateCountDistinct value);
+
     public native void setApproximatePercentile();
 
     public native void setApproximatePercentile(AggSpecApproximatePercentile value);
@@ -1030,6 +1142,10 @@ public class AggSpec {
 
     public native void setGroup(AggSpecGroup value);
 
+    public native void setKllPercentile();
+
+    public native void setKllPercentile(AggSpecKllPercentile value);
+
     public native void setLast();
 
     public native void setLast(AggSpecLast value);
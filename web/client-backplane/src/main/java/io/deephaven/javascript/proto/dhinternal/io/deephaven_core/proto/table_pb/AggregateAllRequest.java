@@ -100,6 +100,20 @@ public class AggregateAllRequest {
 
         @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
         public interface SpecFieldType {
+            @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+            public interface ApproximateCountDistinctFieldType {
+                @JsOverlay
+                static AggregateAllRequest.ToObjectReturnType.SpecFieldType.ApproximateCountDistinctFieldType create() {
+                    return Js.uncheckedCast(JsPropertyMap.of());
+                }
+
+                @JsProperty
+                double getPrecision();
+
+                @JsProperty
+                void setPrecision(double precision);
+            }
+
             @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
             public interface ApproximatePercentileFieldType {
                 @JsOverlay
@@ -168,6 +182,26 @@ public class AggregateAllRequest {
                 void setParamToken(String paramToken);
             }
 
+            @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+            public interface KllPercentileFieldType {
+                @JsOverlay
+                static AggregateAllRequest.ToObjectReturnType.SpecFieldType.KllPercentileFieldType create() {
+                    return Js.uncheckedCast(JsPropertyMap.of());
+                }
+
+                @JsProperty
+                double getK();
+
+                @JsProperty
+                double getPercentile();
+
+                @JsProperty
+                void setK(double k);
+
+                @JsProperty
+                void setPercentile(double percentile);
+            }
+
             @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
             public interface MedianFieldType {
                 @JsOverlay
@@ -364,6 +398,9 @@ public class AggregateAllRequest {
             @JsProperty
             Object getAbsSum();
 
+            @JsProperty
+            AggregateAllRequest.ToObjectReturnType.SpecFieldType.ApproximateCountDistinctFieldType getApproximateCountDistinct();
+
             @JsProperty
             AggregateAllRequest.ToObjectReturnType.SpecFieldType.ApproximatePercentileFieldType getApproximatePercentile();
 
@@ -388,6 +425,9 @@ public class AggregateAllRequest {
             @JsProperty
             Object getGroup();
 
+            @JsProperty
+            AggregateAllRequest.ToObjectReturnType.SpecFieldType.KllPercentileFieldType getKllPercentile();
+
             @JsProperty
             Object getLast();
 
@@ -433,6 +473,10 @@ public class AggregateAllRequest {
             @JsProperty
             void setAbsSum(Object absSum);
 
+            @JsProperty
+            void setApproximateCountDistinct(
+                    AggregateAllRequest.ToObjectReturnType.SpecFieldType.ApproximateCountDistinctFieldType approximateCountDistinct);
+
             @JsProperty
             void setApproximatePercentile(
                     AggregateAllRequest.ToObjectReturnType.SpecFieldType.ApproximatePercentileFieldType approximatePercentile);
@@ -461,6 +505,10 @@ public class AggregateAllRequest {
             @JsProperty
             void setGroup(Object group);
 
+            @JsProperty
+            void setKllPercentile(
+                    AggregateAllRequest.ToObjectReturnType.SpecFieldType.KllPercentileFieldType kllPercentile);
+
             @JsProperty
             void setLast(Object last);
 
@@ -625,6 +673,20 @@ public class AggregateAllRequest {
 
         @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
         public interface SpecFieldType {
+            @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+            public interface ApproximateCountDistinctFieldType {
+                @JsOverlay
+                static AggregateAllRequest.ToObjectReturnType0.SpecFieldType.ApproximateCountDistinctFieldType create() {
+                    return Js.uncheckedCast(JsPropertyMap.of());
+                }
+
+                @JsProperty
+                double getPrecision();
+
+                @JsProperty
+                void setPrecision(double precision);
+            }
+
             @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
             public interface ApproximatePercentileFieldType {
                 @JsOverlay
@@ -693,6 +755,26 @@ public class AggregateAllRequest {
                 void setParamToken(String paramToken);
             }
 
+            @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+            public interface KllPercentileFieldType {
+                @JsOverlay
+                static AggregateAllRequest.ToObjectReturnType0.SpecFieldType.KllPercentileFieldType create() {
+                    return Js.uncheckedCast(JsPropertyMap.of());
+                }
+
+                @JsProperty
+                double getK();
+
+                @JsProperty
+                double getPercentile();
+
+                @JsProperty
+                void setK(double k);
+
+                @JsProperty
+                void setPercentile(double percentile);
+            }
+
             @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
             public interface MedianFieldType {
                 @JsOverlay
@@ -889,6 +971,9 @@ public class AggregateAllRequest {
             @JsProperty
             Object getAbsSum();
 
+            @JsProperty
+            AggregateAllRequest.ToObjectReturnType0.SpecFieldType.ApproximateCountDistinctFieldType getApproximateCountDistinct();
+
             @JsProperty
             AggregateAllRequest.ToObjectReturnType0.SpecFieldType.ApproximatePercentileFieldType getApproximatePercentile();
 
@@ -913,6 +998,9 @@ public class AggregateAllRequest {
             @JsProperty
             Object getGroup();
 
+            @JsProperty
+            AggregateAllRequest.ToObjectReturnType0.SpecFieldType.KllPercentileFieldType getKllPercentile();
+
             @JsProperty
             Object getLast();
 
@@ -958,6 +1046,10 @@ public class AggregateAllRequest {
             @JsProperty
             void setAbsSum(Object absSum);
 
+            @JsProperty
+            void setApproximateCountDistinct(
+                    AggregateAllRequest.ToObjectReturnType0.SpecFieldType.ApproximateCountDistinctFieldType approximateCountDistinct);
+
             @JsProperty
             void setApproximatePercentile(
                     AggregateAllRequest.ToObjectReturnType0.SpecFieldType.ApproximatePercentileFieldType approximatePercentile);
@@ -986,6 +1078,10 @@ public class AggregateAllRequest {
             @JsProperty
             void setGroup(Object group);
 
+            @JsProperty
+            void setKllPercentile(
+                    AggregateAllRequest.ToObjectReturnType0.SpecFieldType.KllPercentileFieldType kllPercentile);
+
             @JsProperty
             void setLast(Object last);
 
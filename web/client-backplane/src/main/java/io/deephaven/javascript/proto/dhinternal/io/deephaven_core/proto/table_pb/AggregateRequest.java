@@ -26,6 +26,20 @@ public class AggregateRequest {
             public interface ColumnsFieldType {
                 @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
                 public interface SpecFieldType {
+                    @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+                    public interface ApproximateCountDistinctFieldType {
+                        @JsOverlay
+                        static AggregateRequest.ToObjectReturnType.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.ApproximateCountDistinctFieldType create() {
+                            return Js.uncheckedCast(JsPropertyMap.of());
+                        }
+
+                        @JsProperty
+                        double getPrecision();
+
+                        @JsProperty
+                        void setPrecision(double precision);
+                    }
+
                     @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
                     public interface ApproximatePercentileFieldType {
                         @JsOverlay
@@ -94,6 +108,26 @@ public class AggregateRequest {
                         void setParamToken(String paramToken);
                     }
 
+                    @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+                    public interface KllPercentileFieldType {
+                        @JsOverlay
+                        static AggregateRequest.ToObjectReturnType.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.KllPercentileFieldType create() {
+                            return Js.uncheckedCast(JsPropertyMap.of());
+                        }
+
+                        @JsProperty
+                        double getK();
+
+                        @JsProperty
+                        double getPercentile();
+
+                        @JsProperty
+                        void setK(double k);
+
+                        @JsProperty
+                        void setPercentile(double percentile);
+                    }
+
                     @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
                     public interface MedianFieldType {
                         @JsOverlay
@@ -290,6 +324,9 @@ public class AggregateRequest {
                     @JsProperty
                     Object getAbsSum();
 
+                    @JsProperty
+                    AggregateRequest.ToObjectReturnType.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.ApproximateCountDistinctFieldType getApproximateCountDistinct();
+
                     @JsProperty
                     AggregateRequest.ToObjectReturnType.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.ApproximatePercentileFieldType getApproximatePercentile();
 
@@ -314,6 +351,9 @@ public class AggregateRequest {
                     @JsProperty
                     Object getGroup();
 
+                    @JsProperty
+                    AggregateRequest.ToObjectReturnType.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.KllPercentileFieldType getKllPercentile();
+
                     @JsProperty
                     Object getLast();
 
@@ -359,6 +399,10 @@ public class AggregateRequest {
                     @JsProperty
                     void setAbsSum(Object absSum);
 
+                    @JsProperty
+                    void setApproximateCountDistinct(
+                            AggregateRequest.ToObjectReturnType.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.ApproximateCountDistinctFieldType approximateCountDistinct);
+
                     @JsProperty
                     void setApproximatePercentile(
                             AggregateRequest.ToObjectReturnType.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.ApproximatePercentileFieldType approximatePercentile);
@@ -387,6 +431,10 @@ public class AggregateRequest {
                     @JsProperty
                     void setGroup(Object group);
 
+                    @JsProperty
+                    void setKllPercentile(
+                            AggregateRequest.ToObjectReturnType.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.KllPercentileFieldType kllPercentile);
+
                     @JsProperty
                     void setLast(Object last);
 
@@ -690,6 +738,20 @@ public class AggregateRequest {
             public interface ColumnsFieldType {
                 @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
                 public interface SpecFieldType {
+                    @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+                    public interface ApproximateCountDistinctFieldType {
+                        @JsOverlay
+                        static AggregateRequest.ToObjectReturnType0.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.ApproximateCountDistinctFieldType create() {
+                            return Js.uncheckedCast(JsPropertyMap.of());
+                        }
+
+                        @JsProperty
+                        double getPrecision();
+
+                        @JsProperty
+                        void setPrecision(double precision);
+                    }
+
                     @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
                     public interface ApproximatePercentileFieldType {
                         @JsOverlay
@@ -758,6 +820,26 @@ public class AggregateRequest {
                         void setParamToken(String paramToken);
                     }
 
+                    @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+                    public interface KllPercentileFieldType {
+                        @JsOverlay
+                        static AggregateRequest.ToObjectReturnType0.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.KllPercentileFieldType create() {
+                            return Js.uncheckedCast(JsPropertyMap.of());
+                        }
+
+                        @JsProperty
+                        double getK();
+
+                        @JsProperty
+                        double getPercentile();
+
+                        @JsProperty
+                        void setK(double k);
+
+                        @JsProperty
+                        void setPercentile(double percentile);
+                    }
+
                     @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
                     public interface MedianFieldType {
                         @JsOverlay
@@ -954,6 +1036,9 @@ public class AggregateRequest {
                     @JsProperty
                     Object getAbsSum();
 
+                    @JsProperty
+                    AggregateRequest.ToObjectReturnType0.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.ApproximateCountDistinctFieldType getApproximateCountDistinct();
+
                     @JsProperty
                     AggregateRequest.ToObjectReturnType0.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.ApproximatePercentileFieldType getApproximatePercentile();
 
@@ -978,6 +1063,9 @@ public class AggregateRequest {
                     @JsProperty
                     Object getGroup();
 
+                    @JsProperty
+                    AggregateRequest.ToObjectReturnType0.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.KllPercentileFieldType getKllPercentile();
+
                     @JsProperty
                     Object getLast();
 
@@ -1023,6 +1111,10 @@ public class AggregateRequest {
                     @JsProperty
                     void setAbsSum(Object absSum);
 
+                    @JsProperty
+                    void setApproximateCountDistinct(
+                            AggregateRequest.ToObjectReturnType0.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.ApproximateCountDistinctFieldType approximateCountDistinct);
+
                     @JsProperty
                     void setApproximatePercentile(
                             AggregateRequest.ToObjectReturnType0.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.ApproximatePercentileFieldType approximatePercentile);
@@ -1051,6 +1143,10 @@ public class AggregateRequest {
                     @JsProperty
                     void setGroup(Object group);
 
+                    @JsProperty
+                    void setKllPercentile(
+                            AggregateRequest.ToObjectReturnType0.AggregationsListFieldType.ColumnsFieldType.SpecFieldType.KllPercentileFieldType kllPercentile);
+
                     @JsProperty
                     void setLast(Object last);
 
@@ -27,6 +27,20 @@ public class Aggregation {
         public interface ColumnsFieldType {
             @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
             public interface SpecFieldType {
+                @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+                public interface ApproximateCountDistinctFieldType {
+                    @JsOverlay
+                    static Aggregation.ToObjectReturnType.ColumnsFieldType.SpecFieldType.ApproximateCountDistinctFieldType create() {
+                        return Js.uncheckedCast(JsPropertyMap.of());
+                    }
+
+                    @JsProperty
+                    double getPrecision();
+
+                    @JsProperty
+                    void setPrecision(double precision);
+                }
+
                 @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
                 public interface ApproximatePercentileFieldType {
                     @JsOverlay
@@ -95,6 +109,26 @@ public class Aggregation {
                     void setParamToken(String paramToken);
                 }
 
+                @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+                public interface KllPercentileFieldType {
+                    @JsOverlay
+                    static Aggregation.ToObjectReturnType.ColumnsFieldType.SpecFieldType.KllPercentileFieldType create() {
+                        return Js.uncheckedCast(JsPropertyMap.of());
+                    }
+
+                    @JsProperty
+                    double getK();
+
+                    @JsProperty
+                    double getPercentile();
+
+                    @JsProperty
+                    void setK(double k);
+
+                    @JsProperty
+                    void setPercentile(double percentile);
+                }
+
                 @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
                 public interface MedianFieldType {
                     @JsOverlay
@@ -291,6 +325,9 @@ public class Aggregation {
                 @JsProperty
                 Object getAbsSum();
 
+                @JsProperty
+                Aggregation.ToObjectReturnType.ColumnsFieldType.SpecFieldType.ApproximateCountDistinctFieldType getApproximateCountDistinct();
+
                 @JsProperty
                 Aggregation.ToObjectReturnType.ColumnsFieldType.SpecFieldType.ApproximatePercentileFieldType getApproximatePercentile();
 
@@ -315,6 +352,9 @@ public class Aggregation {
                 @JsProperty
                 Object getGroup();
 
+                @JsProperty
+                Aggregation.ToObjectReturnType.ColumnsFieldType.SpecFieldType.KllPercentileFieldType getKllPercentile();
+
                 @JsProperty
                 Object getLast();
 
@@ -360,6 +400,10 @@ public class Aggregation {
                 @JsProperty
                 void setAbsSum(Object absSum);
 
+                @JsProperty
+                void setApproximateCountDistinct(
+                        Aggregation.ToObjectReturnType.ColumnsFieldType.SpecFieldType.ApproximateCountDistinctFieldType approximateCountDistinct);
+
                 @JsProperty
                 void setApproximatePercentile(
                         Aggregation.ToObjectReturnType.ColumnsFieldType.SpecFieldType.ApproximatePercentileFieldType approximatePercentile);
@@ -388,6 +432,10 @@ public class Aggregation {
                 @JsProperty
                 void setGroup(Object group);
 
+                @JsProperty
+                void setKllPercentile(
+                        Aggregation.ToObjectReturnType.ColumnsFieldType.SpecFieldType.KllPercentileFieldType kllPercentile);
+
                 @JsProperty
                 void setLast(Object last);
 
@@ -550,6 +598,20 @@ public class Aggregation {
         public interface ColumnsFieldType {
             @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
             public interface SpecFieldType {
+                @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+                public interface ApproximateCountDistinctFieldType {
+                    @JsOverlay
+                    static Aggregation.ToObjectReturnType0.ColumnsFieldType.SpecFieldType.ApproximateCountDistinctFieldType create() {
+                        return Js.uncheckedCast(JsPropertyMap.of());
+                    }
+
+                    @JsProperty
+                    double getPrecision();
+
+                    @JsProperty
+                    void setPrecision(double precision);
+                }
+
                 @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
                 public interface ApproximatePercentileFieldType {
                     @JsOverlay
@@ -618,6 +680,26 @@ public class Aggregation {
                     void setParamToken(String paramToken);
                 }
 
+                @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+                public interface KllPercentileFieldType {
+                    @JsOverlay
+                    static Aggregation.ToObjectReturnType0.ColumnsFieldType.SpecFieldType.KllPercentileFieldType create() {
+                        return Js.uncheckedCast(JsPropertyMap.of());
+                    }
+
+                    @JsProperty
+                    double getK();
+
+                    @JsProperty
+                    double getPercentile();
+
+                    @JsProperty
+                    void setK(double k);
+
+                    @JsProperty
+                    void setPercentile(double percentile);
+                }
+
                 @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
                 public interface MedianFieldType {
                     @JsOverlay
@@ -814,6 +896,9 @@ public class Aggregation {
                 @JsProperty
                 Object getAbsSum();
 
+                @JsProperty
+                Aggregation.ToObjectReturnType0.ColumnsFieldType.SpecFieldType.ApproximateCountDistinctFieldType getApproximateCountDistinct();
+
                 @JsProperty
                 Aggregation.ToObjectReturnType0.ColumnsFieldType.SpecFieldType.ApproximatePercentileFieldType getApproximatePercentile();
 
@@ -838,6 +923,9 @@ public class Aggregation {
                 @JsProperty
                 Object getGroup();
 
+                @JsProperty
+                Aggregation.ToObjectReturnType0.ColumnsFieldType.SpecFieldType.KllPercentileFieldType getKllPercentile();
+
                 @JsProperty
                 Object getLast();
 
@@ -883,6 +971,10 @@ public class Aggregation {
                 @JsProperty
                 void setAbsSum(Object absSum);
 
+                @JsProperty
+                void setApproximateCountDistinct(
+                        Aggregation.ToObjectReturnType0.ColumnsFieldType.SpecFieldType.ApproximateCountDistinctFieldType approximateCountDistinct);
+
                 @JsProperty
                 void setApproximatePercentile(
                         Aggregation.ToObjectReturnType0.ColumnsFieldType.SpecFieldType.ApproximatePercentileFieldType approximatePercentile);
@@ -911,6 +1003,10 @@ public class Aggregation {
                 @JsProperty
                 void setGroup(Object group);
 
+                @JsProperty
+                void setKllPercentile(
+                        Aggregation.ToObjectReturnType0.ColumnsFieldType.SpecFieldType.KllPercentileFieldType kllPercentile);
+
                 @JsProperty
                 void setLast(Object last);
 
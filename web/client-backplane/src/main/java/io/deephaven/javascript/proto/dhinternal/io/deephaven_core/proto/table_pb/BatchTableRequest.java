@@ -26,6 +26,20 @@ public class BatchTableRequest {
             public interface AggregateAllFieldType {
                 @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
                 public interface SpecFieldType {
+                    @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+                    public interface ApproximateCountDistinctFieldType {
+                        @JsOverlay
+                        static BatchTableRequest.ToObjectReturnType.OpsListFieldType.AggregateAllFieldType.SpecFieldType.ApproximateCountDistinctFieldType create() {
+                            return Js.uncheckedCast(JsPropertyMap.of());
+                        }
+
+                        @JsProperty
+                        double getPrecision();
+
+                        @JsProperty
+                        void setPrecision(double precision);
+                    }
+
                     @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
                     public interface ApproximatePercentileFieldType {
                         @JsOverlay
@@ -94,6 +108,26 @@ public class BatchTableRequest {
                         void setParamToken(String paramToken);
                     }
 
+                    @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+                    public interface KllPercentileFieldType {
+                        @JsOverlay
+                        static BatchTableRequest.ToObjectReturnType.OpsListFieldType.AggregateAllFieldType.SpecFieldType.KllPercentileFieldType create() {
+                            return Js.uncheckedCast(JsPropertyMap.of());
+                        }
+
+                        @JsProperty
+                        double getK();
+
+                        @JsProperty
+                        double getPercentile();
+
+                        @JsProperty
+                        void setK(double k);
+
+                        @JsProperty
+                        void setPercentile(double percentile);
+                    }
+
                     @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
                     public interface MedianFieldType {
                         @JsOverlay
@@ -290,6 +324,9 @@ public class BatchTableRequest {
                     @JsProperty
                     Object getAbsSum();
 
+                    @JsProperty
+                    BatchTableRequest.ToObjectReturnType.OpsListFieldType.AggregateAllFieldType.SpecFieldType.ApproximateCountDistinctFieldType getApproximateCountDistinct();
+
                     @JsProperty
                     BatchTableRequest.ToObjectReturnType.OpsListFieldType.AggregateAllFieldType.SpecFieldType.ApproximatePercentileFieldType getApproximatePercentile();
 
@@ -314,6 +351,9 @@ public class BatchTableRequest {
                     @JsProperty
                     Object getGroup();
 
+                    @JsProperty
+                    BatchTableRequest.ToObjectReturnType.OpsListFieldType.AggregateAllFieldType.SpecFieldType.KllPercentileFieldType getKllPercentile();
+
                     @JsProperty
                     Object getLast();
 
@@ -359,6 +399,10 @@ public class BatchTableRequest {
                     @JsProperty
                     void setAbsSum(Object absSum);
 
+                    @JsProperty
+                    void setApproximateCountDistinct(
+                            BatchTableRequest.ToObjectReturnType.OpsListFieldType.AggregateAllFieldType.SpecFieldType.ApproximateCountDistinctFieldType approximateCountDistinct);
+
                     @JsProperty
                     void setApproximatePercentile(
                             BatchTableRequest.ToObjectReturnType.OpsListFieldType.AggregateAllFieldType.SpecFieldType.ApproximatePercentileFieldType approximatePercentile);
@@ -387,6 +431,10 @@ public class BatchTableRequest {
                     @JsProperty
                     void setGroup(Object group);
 
+                    @JsProperty
+                    void setKllPercentile(
+                            BatchTableRequest.ToObjectReturnType.OpsListFieldType.AggregateAllFieldType.SpecFieldType.KllPercentileFieldType kllPercentile);
+
                     @JsProperty
                     void setLast(Object last);
 
@@ -2840,6 +2888,20 @@ public class BatchTableRequest {
             public interface AggregateAllFieldType {
                 @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
                 public interface SpecFieldType {
+                    @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+                    public interface ApproximateCountDistinctFieldType {
+                        @JsOverlay
+                        static BatchTableRequest.ToObjectReturnType0.OpsListFieldType.AggregateAllFieldType.SpecFieldType.ApproximateCountDistinctFieldType create() {
+                            return Js.uncheckedCast(JsPropertyMap.of());
+                        }
+
+                        @JsProperty
+                        double getPrecision();
+
+                        @JsProperty
+                        void setPrecision(double precision);
+                    }
+
                     @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
                     public interface ApproximatePercentileFieldType {
                         @JsOverlay
@@ -2908,6 +2970,26 @@ public class BatchTableRequest {
                         void setParamToken(String paramToken);
                     }
 
+                    @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+                    public interface KllPercentileFieldType {
+                        @JsOverlay
+                        static BatchTableRequest.ToObjectReturnType0.OpsListFieldType.AggregateAllFieldType.SpecFieldType.KllPercentileFieldType create() {
+                            return Js.uncheckedCast(JsPropertyMap.of());
+                        }
+
+                        @JsProperty
+                        double getK();
+
+                        @JsProperty
+                        double getPercentile();
+
+                        @JsProperty
+                        void setK(double k);
+
+                        @JsProperty
+                        void setPercentile(double percentile);
+                    }
+
                     @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
                     public interface MedianFieldType {
                         @JsOverlay
@@ -3104,6 +3186,9 @@ public class BatchTableRequest {
                     @JsProperty
                     Object getAbsSum();
 
+                    @JsProperty
+                    BatchTableRequest.ToObjectReturnType0.OpsListFieldType.AggregateAllFieldType.SpecFieldType.ApproximateCountDistinctFieldType getApproximateCountDistinct();
+
                     @JsProperty
                     BatchTableRequest.ToObjectReturnType0.OpsListFieldType.AggregateAllFieldType.SpecFieldType.ApproximatePercentileFieldType getApproximatePercentile();
 
@@ -3128,6 +3213,9 @@ public class BatchTableRequest {
                     @JsProperty
                     Object getGroup();
 
+                    @JsProperty
+                    BatchTableRequest.ToObjectReturnType0.OpsListFieldType.AggregateAllFieldType.SpecFieldType.KllPercentileFieldType getKllPercentile();
+
                     @JsProperty
                     Object getLast();
 
@@ -3173,6 +3261,10 @@ public class BatchTableRequest {
                     @JsProperty
                     void setAbsSum(Object absSum);
 
+                    @JsProperty
+                    void setApproximateCountDistinct(
+                            BatchTableRequest.ToObjectReturnType0.OpsListFieldType.AggregateAllFieldType.SpecFieldType.ApproximateCountDistinctFieldType approximateCountDistinct);
+
                     @JsProperty
                     void setApproximatePercentile(
                             BatchTableRequest.ToObjectReturnType0.OpsListFieldType.AggregateAllFieldType.SpecFieldType.ApproximatePercentileFieldType approximatePercentile);
@@ -3201,6 +3293,10 @@ public class BatchTableRequest {
                     @JsProperty
                     void setGroup(Object group);
 
+                    @JsProperty
+                    void setKllPercentile(
+                            BatchTableRequest.ToObjectReturnType0.OpsListFieldType.AggregateAllFieldType.SpecFieldType.KllPercentileFieldType kllPercentile);
+
                     @JsProperty
                     void setLast(Object last);
 
@@ -22,6 +22,20 @@ public class AggregationColumns {
     public interface ToObjectReturnType {
         @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
         public interface SpecFieldType {
+            @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+            public interface ApproximateCountDistinctFieldType {
+                @JsOverlay
+                static AggregationColumns.ToObjectReturnType.SpecFieldType.ApproximateCountDistinctFieldType create() {
+                    return Js.uncheckedCast(JsPropertyMap.of());
+                }
+
+                @JsProperty
+                double getPrecision();
+
+                @JsProperty
+                void setPrecision(double precision);
+            }
+
             @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
             public interface ApproximatePercentileFieldType {
                 @JsOverlay
@@ -90,6 +104,26 @@ public class AggregationColumns {
                 void setParamToken(String paramToken);
             }
 
+            @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+            public interface KllPercentileFieldType {
+                @JsOverlay
+                static AggregationColumns.ToObjectReturnType.SpecFieldType.KllPercentileFieldType create() {
+                    return Js.uncheckedCast(JsPropertyMap.of());
+                }
+
+                @JsProperty
+                double getK();
+
+                @JsProperty
+                double getPercentile();
+
+                @JsProperty
+                void setK(double k);
+
+                @JsProperty
+                void setPercentile(double percentile);
+            }
+
             @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
             public interface MedianFieldType {
                 @JsOverlay
@@ -286,6 +320,9 @@ public class AggregationColumns {
             @JsProperty
             Object getAbsSum();
 
+            @JsProperty
+            AggregationColumns.ToObjectReturnType.SpecFieldType.ApproximateCountDistinctFieldType getApproximateCountDistinct();
+
             @JsProperty
             AggregationColumns.ToObjectReturnType.SpecFieldType.ApproximatePercentileFieldType getApproximatePercentile();
 
@@ -310,6 +347,9 @@ public class AggregationColumns {
             @JsProperty
             Object getGroup();
 
+            @JsProperty
+            AggregationColumns.ToObjectReturnType.SpecFieldType.KllPercentileFieldType getKllPercentile();
+
             @JsProperty
             Object getLast();
 
@@ -355,6 +395,10 @@ public class AggregationColumns {
             @JsProperty
             void setAbsSum(Object absSum);
 
+            @JsProperty
+            void setApproximateCountDistinct(
+                    AggregationColumns.ToObjectReturnType.SpecFieldType.ApproximateCountDistinctFieldType approximateCountDistinct);
+
             @JsProperty
             void setApproximatePercentile(
                     AggregationColumns.ToObjectReturnType.SpecFieldType.ApproximatePercentileFieldType approximatePercentile);
@@ -382,6 +426,10 @@ public class AggregationColumns {
             @JsProperty
             void setGroup(Object group);
 
+            @JsProperty
+            void setKllPercentile(
+                    AggregationColumns.ToObjectReturnType.SpecFieldType.KllPercentileFieldType kllPercentile);
+
             @JsProperty
             void setLast(Object last);
 
@@ -455,6 +503,20 @@ public class AggregationColumns {
     public interface ToObjectReturnType0 {
         @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
         public interface SpecFieldType {
+            @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+            public interface ApproximateCountDistinctFieldType {
+                @JsOverlay
+                static AggregationColumns.ToObjectReturnType0.SpecFieldType.ApproximateCountDistinctFieldType create() {
+                    return Js.uncheckedCast(JsPropertyMap.of());
+                }
+
+                @JsProperty
+                double getPrecision();
+
+                @JsProperty
+                void setPrecision(double precision);
+            }
+
             @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
             public interface ApproximatePercentileFieldType {
                 @JsOverlay
@@ -523,6 +585,26 @@ public class AggregationColumns {
                 void setParamToken(String paramToken);
             }
 
+            @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+            public interface KllPercentileFieldType {
+                @JsOverlay
+                static AggregationColumns.ToObjectReturnType0.SpecFieldType.KllPercentileFieldType create() {
+                    return Js.uncheckedCast(JsPropertyMap.of());
+                }
+
+                @JsProperty
+                double getK();
+
+                @JsProperty
+                double getPercentile();
+
+                @JsProperty
+                void setK(double k);
+
+                @JsProperty
+                void setPercentile(double percentile);
+            }
+
             @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
             public interface MedianFieldType {
                 @JsOverlay
@@ -719,6 +801,9 @@ public class AggregationColumns {
             @JsProperty
             Object getAbsSum();
 
+            @JsProperty
+            AggregationColumns.ToObjectReturnType0.SpecFieldType.ApproximateCountDistinctFieldType getApproximateCountDistinct();
+
             @JsProperty
             AggregationColumns.ToObjectReturnType0.SpecFieldType.ApproximatePercentileFieldType getApproximatePercentile();
 
@@ -743,6 +828,9 @@ public class AggregationColumns {
             @JsProperty
             Object getGroup();
 
+            @JsProperty
+            AggregationColumns.ToObjectReturnType0.SpecFieldType.KllPercentileFieldType getKllPercentile();
+
             @JsProperty
             Object getLast();
 
@@ -788,6 +876,10 @@ public class AggregationColumns {
             @JsProperty
             void setAbsSum(Object absSum);
 
+            @JsProperty
+            void setApproximateCountDistinct(
+                    AggregationColumns.ToObjectReturnType0.SpecFieldType.ApproximateCountDistinctFieldType approximateCountDistinct);
+
             @JsProperty
             void setApproximatePercentile(
                     AggregationColumns.ToObjectReturnType0.SpecFieldType.ApproximatePercentileFieldType approximatePercentile);
@@ -816,6 +908,10 @@ public class AggregationColumns {
             @JsProperty
             void setGroup(Object group);
 
+            @JsProperty
+            void setKllPercentile(
+                    AggregationColumns.ToObjectReturnType0.SpecFieldType.KllPercentileFieldType kllPercentile);
+
             @JsProperty
             void setLast(Object last);
 
@@ -0,0 +1,72 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.javascript.proto.dhinternal.io.deephaven_core.proto.table_pb.aggspec;
+
+import elemental2.core.Uint8Array;
+import jsinterop.annotations.JsOverlay;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsProperty;
+import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+@JsType(
+        isNative = true,
+        name = "dhinternal.io.deephaven_core.proto.table_pb.AggSpec.AggSpecApproximateCountDistinct",
+        namespace = JsPackage.GLOBAL)
+public class AggSpecApproximateCountDistinct {
+    @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+    public interface ToObjectReturnType {
+        @JsOverlay
+        static AggSpecApproximateCountDistinct.ToObjectReturnType create() {
+            return Js.uncheckedCast(JsPropertyMap.of());
+        }
+
+        @JsProperty
+        double getPrecision();
+
+        @JsProperty
+        void setPrecision(double precision);
+    }
+
+    @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+    public interface ToObjectReturnType0 {
+        @JsOverlay
+        static AggSpecApproximateCountDistinct.ToObjectReturnType0 create() {
+            return Js.uncheckedCast(JsPropertyMap.of());
+        }
+
+        @JsProperty
+        double getPrecision();
+
+        @JsProperty
+        void setPrecision(double precision);
+    }
+
+    public static native AggSpecApproximateCountDistinct deserializeBinary(Uint8Array bytes);
+
+    public static native AggSpecApproximateCountDistinct deserializeBinaryFromReader(
+            AggSpecApproximateCountDistinct message, Object reader);
+
+    public static native void serializeBinaryToWriter(
+            AggSpecApproximateCountDistinct message, Object writer);
+
+    public static native AggSpecApproximateCountDistinct.ToObjectReturnType toObject(
+            boolean includeInstance, AggSpecApproximateCountDistinct msg);
+
+    public native void clearPrecision();
+
+    public native int getPrecision();
+
+    public native boolean hasPrecision();
+
+    public native Uint8Array serializeBinary();
+
+    public native void setPrecision(int value);
+
+    public native AggSpecApproximateCountDistinct.ToObjectReturnType0 toObject();
+
+    public native AggSpecApproximateCountDistinct.ToObjectReturnType0 toObject(
+            boolean includeInstance);
+}
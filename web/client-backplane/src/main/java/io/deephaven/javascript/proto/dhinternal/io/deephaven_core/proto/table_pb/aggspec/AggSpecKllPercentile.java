@@ -0,0 +1,86 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.javascript.proto.dhinternal.io.deephaven_core.proto.table_pb.aggspec;
+
+import elemental2.core.Uint8Array;
+import jsinterop.annotations.JsOverlay;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsProperty;
+import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+@JsType(
+        isNative = true,
+        name = "dhinternal.io.deephaven_core.proto.table_pb.AggSpec.AggSpecKllPercentile",
+        namespace = JsPackage.GLOBAL)
+public class AggSpecKllPercentile {
+    @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+    public interface ToObjectReturnType {
+        @JsOverlay
+        static AggSpecKllPercentile.ToObjectReturnType create() {
+            return Js.uncheckedCast(JsPropertyMap.of());
+        }
+
+        @JsProperty
+        double getK();
+
+        @JsProperty
+        double getPercentile();
+
+        @JsProperty
+        void setK(double k);
+
+        @JsProperty
+        void setPercentile(double percentile);
+    }
+
+    @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+    public interface ToObjectReturnType0 {
+        @JsOverlay
+        static AggSpecKllPercentile.ToObjectReturnType0 create() {
+            return Js.uncheckedCast(JsPropertyMap.of());
+        }
+
+        @JsProperty
+        double getK();
+
+        @JsProperty
+        double getPercentile();
+
+        @JsProperty
+        void setK(double k);
+
+        @JsProperty
+        void setPercentile(double percentile);
+    }
+
+    public static native AggSpecKllPercentile deserializeBinary(Uint8Array bytes);
+
+    public static native AggSpecKllPercentile deserializeBinaryFromReader(
+            AggSpecKllPercentile message, Object reader);
+
+    public static native void serializeBinaryToWriter(AggSpecKllPercentile message, Object writer);
+
+    public static native AggSpecKllPercentile.ToObjectReturnType toObject(
+            boolean includeInstance, AggSpecKllPercentile msg);
+
+    public native void clearK();
+
+    public native int getK();
+
+    public native double getPercentile();
+
+    public native boolean hasK();
+
+    public native Uint8Array serializeBinary();
+
+    public native void setK(int value);
+
+    public native void setPercentile(double value);
+
+    public native AggSpecKllPercentile.ToObjectReturnType0 toObject();
+
+    public native AggSpecKllPercentile.ToObjectReturnType0 toObject(boolean includeInstance);
+}
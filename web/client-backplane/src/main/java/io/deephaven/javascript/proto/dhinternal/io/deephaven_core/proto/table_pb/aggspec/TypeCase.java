@@ -12,6 +12,7 @@ import jsinterop.annotations.JsType;
         namespace = JsPackage.GLOBAL)
 public class TypeCase {
     public static int ABS_SUM,
+            APPROXIMATE_COUNT_DISTINCT,
             APPROXIMATE_PERCENTILE,
             AVG,
             COUNT_DISTINCT,
@@ -20,6 +21,7 @@ public class TypeCase {
             FORMULA,
             FREEZE,
             GROUP,
+            KLL_PERCENTILE,
             LAST,
             MAX,
             MEDIAN,
@@ -51,6 +51,20 @@ public class Operation {
         public interface AggregateAllFieldType {
             @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
             public interface SpecFieldType {
+                @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+                public interface ApproximateCountDistinctFieldType {
+                    @JsOverlay
+                    static Operation.ToObjectReturnType.AggregateAllFieldType.SpecFieldType.ApproximateCountDistinctFieldType create() {
+                        return Js.uncheckedCast(JsPropertyMap.of());
+                    }
+
+                    @JsProperty
+                    double getPrecision();
+
+                    @JsProperty
+                    void setPrecision(double precision);
+                }
+
                 @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
                 public interface ApproximatePercentileFieldType {
                     @JsOverlay
@@ -119,6 +133,26 @@ public class Operation {
                     void setParamToken(String paramToken);
                 }
 
+                @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+                public interface KllPercentileFieldType {
+                    @JsOverlay
+                    static Operation.ToObjectReturnType.AggregateAllFieldType.SpecFieldType.KllPercentileFieldType create() {
+                        return Js.uncheckedCast(JsPropertyMap.of());
+                    }
+
+                    @JsProperty
+                    double getK();
+
+                    @JsProperty
+                    double getPercentile();
+
+                    @JsProperty
+                    void setK(double k);
+
+                    @JsProperty
+                    void setPercentile(double percentile);
+                }
+
                 @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
                 public interface MedianFieldType {
                     @JsOverlay
@@ -315,6 +349,9 @@ public class Operation {
                 @JsProperty
                 Object getAbsSum();
 
+                @JsProperty
+                Operation.ToObjectReturnType.AggregateAllFieldType.SpecFieldType.ApproximateCountDistinctFieldType getApproximateCountDistinct();
+
                 @JsProperty
                 Operation.ToObjectReturnType.AggregateAllFieldType.SpecFieldType.ApproximatePercentileFieldType getApproximatePercentile();
 
@@ -339,6 +376,9 @@ public class Operation {
                 @JsProperty
                 Object getGroup();
 
+                @JsProperty
+                Operation.ToObjectReturnType.AggregateAllFieldType.SpecFieldType.KllPercentileFieldType getKllPercentile();
+
                 @JsProperty
                 Object getLast();
 
@@ -384,6 +424,10 @@ public class Operation {
                 @JsProperty
                 void setAbsSum(Object absSum);
 
+                @JsProperty
+                void setApproximateCountDistinct(
+                        Operation.ToObjectReturnType.AggregateAllFieldType.SpecFieldType.ApproximateCountDistinctFieldType approximateCountDistinct);
+
                 @JsProperty
                 void setApproximatePercentile(
                         Operation.ToObjectReturnType.AggregateAllFieldType.SpecFieldType.ApproximatePercentileFieldType approximatePercentile);
@@ -412,6 +456,10 @@ public class Operation {
                 @JsProperty
                 void setGroup(Object group);
 
+                @JsProperty
+                void setKllPercentile(
+                        Operation.ToObjectReturnType.AggregateAllFieldType.SpecFieldType.KllPercentileFieldType kllPercentile);
+
                 @JsProperty
                 void setLast(Object last);
 
@@ -2821,6 +2869,20 @@ public class Operation {
         public interface AggregateAllFieldType {
             @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
             public interface SpecFieldType {
+                @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+                public interface ApproximateCountDistinctFieldType {
+                    @JsOverlay
+                    static Operation.ToObjectReturnType0.AggregateAllFieldType.SpecFieldType.ApproximateCountDistinctFieldType create() {
+                        return Js.uncheckedCast(JsPropertyMap.of());
+                    }
+
+                    @JsProperty
+                    double getPrecision();
+
+                    @JsProperty
+                    void setPrecision(double precision);
+                }
+
                 @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
                 public interface ApproximatePercentileFieldType {
                     @JsOverlay
@@ -2889,6 +2951,26 @@ public class Operation {
                     void setParamToken(String paramToken);
                 }
 
+                @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
+                public interface KllPercentileFieldType {
+                    @JsOverlay
+                    static Operation.ToObjectReturnType0.AggregateAllFieldType.SpecFieldType.KllPercentileFieldType create() {
+                        return Js.uncheckedCast(JsPropertyMap.of());
+                    }
+
+                    @JsProperty
+                    double getK();
+
+                    @JsProperty
+                    double getPercentile();
+
+                    @JsProperty
+                    void setK(double k);
+
+                    @JsProperty
+                    void setPercentile(double percentile);
+                }
+
                 @JsType(isNative = true, name = "?", namespace = JsPackage.GLOBAL)
                 public interface MedianFieldType {
                     @JsOverlay
@@ -3085,6 +3167,9 @@ public class Operation {
                 @JsProperty
                 Object getAbsSum();
 
+                @JsProperty
+                Operation.ToObjectReturnType0.AggregateAllFieldType.SpecFieldType.ApproximateCountDistinctFieldType getApproximateCountDistinct();
+
                 @JsProperty
                 Operation.ToObjectReturnType0.AggregateAllFieldType.SpecFieldType.ApproximatePercentileFieldType getApproximatePercentile();
 
@@ -3109,6 +3194,9 @@ public class Operation {
                 @JsProperty
                 Object getGroup();
 
+                @JsProperty
+                Operation.ToObjectReturnType0.AggregateAllFieldType.SpecFieldType.KllPercentileFieldType getKllPercentile();
+
                 @JsProperty
                 Object getLast();
 
@@ -3154,6 +3242,10 @@ public class Operation {
                 @JsProperty
                 void setAbsSum(Object absSum);
 
+                @JsProperty
+                void setApproximateCountDistinct(
+                        Operation.ToObjectReturnType0.AggregateAllFieldType.SpecFieldType.ApproximateCountDistinctFieldType approximateCountDistinct);
+
                 @JsProperty
                 void setApproximatePercentile(
                         Operation.ToObjectReturnType0.AggregateAllFieldType.SpecFieldType.ApproximatePercentileFieldType approximatePercentile);
@@ -3182,6 +3274,10 @@ public class Operation {
                 @JsProperty
                 void setGroup(Object group);
 
+                @JsProperty
+                void setKllPercentile(
+                        Operation.ToObjectReturnType0.AggregateAllFieldType.SpecFieldType.KllPercentileFieldType kllPercentile);
+
                 @JsProperty
                 void setLast(Object last);
 